@@ -0,0 +1,240 @@
+package tech.flowcatalyst.concurrency;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive (AIMD) concurrency limit per target endpoint.
+ *
+ * <p>Each endpoint ({@code scheme://host:port}) has its own limit on in-flight requests:</p>
+ * <ul>
+ *   <li><b>Additive increase</b> - a fast, successful response sent while the endpoint was using at
+ *       least half its limit grows the limit by {@code 1/limit}, i.e. by at most one per window</li>
+ *   <li><b>Multiplicative decrease</b> - a timeout, connection error, 5xx or 429, or a response slower
+ *       than {@code latencyTolerance} times the endpoint's baseline latency multiplies the limit by
+ *       {@code backoffRatio} (increases under 50ms are ignored as jitter). Only requests sent after
+ *       the previous decrease can decrease it again, so one burst of slow responses shrinks the limit
+ *       once, not once per response</li>
+ * </ul>
+ * <p>The baseline is the endpoint's lowest recent latency: it drops to any faster sample and
+ * drifts slowly towards slower ones, so a permanently slower endpoint is re-baselined over time.</p>
+ *
+ * <p>Requests beyond the limit are rejected immediately ({@link #tryAcquire} returns null) so that
+ * callers can requeue them instead of tying up a worker on an endpoint that is already saturated.</p>
+ *
+ * <p>Shared by the platform's webhook dispatcher and the message router's HTTP mediator.</p>
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    /**
+     * Limiter settings.
+     *
+     * @param initialLimit     limit of an endpoint seen for the first time
+     * @param minLimit         lowest limit; a failing endpoint always keeps this many requests in flight
+     * @param maxLimit         highest limit
+     * @param backoffRatio     factor applied to the limit on a drop (0 < ratio < 1)
+     * @param latencyTolerance a response slower than baseline * tolerance counts as a drop
+     */
+    public record Settings(int initialLimit, int minLimit, int maxLimit, double backoffRatio, double latencyTolerance) {
+
+        public Settings {
+            if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+                throw new IllegalArgumentException("Require 1 <= minLimit <= initialLimit <= maxLimit");
+            }
+            if (backoffRatio <= 0 || backoffRatio >= 1) {
+                throw new IllegalArgumentException("backoffRatio must be between 0 and 1");
+            }
+            if (latencyTolerance <= 1) {
+                throw new IllegalArgumentException("latencyTolerance must be greater than 1");
+            }
+        }
+    }
+
+    /**
+     * Snapshot of one endpoint's limit.
+     */
+    public record EndpointStats(
+        String endpoint,
+        int limit,
+        int inFlight,
+        long baselineLatencyMs,
+        long lastLatencyMs,
+        long rejectedRequests,
+        long droppedRequests
+    ) {}
+
+    /**
+     * Weight of a slower sample when the baseline drifts up.
+     */
+    private static final double BASELINE_DRIFT = 0.01;
+
+    /**
+     * Latency increases smaller than this never count as a drop, so jitter on fast endpoints is ignored.
+     */
+    private static final long MIN_LATENCY_INCREASE_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Settings settings;
+    private final ConcurrentMap<String, EndpointLimit> endpoints = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter(Settings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Try to start a request to an endpoint.
+     *
+     * @param endpoint endpoint key, see {@link #endpointOf}
+     * @return a permit that must be completed exactly once, or null if the endpoint is at its limit
+     */
+    public Permit tryAcquire(String endpoint) {
+        EndpointLimit limit = endpoints.computeIfAbsent(endpoint, EndpointLimit::new);
+        int current;
+        do {
+            current = limit.inFlight.get();
+            if (current >= (int) limit.limit) {
+                limit.rejected.increment();
+                return null;
+            }
+        } while (!limit.inFlight.compareAndSet(current, current + 1));
+        return new Permit(limit, current + 1, System.nanoTime());
+    }
+
+    /**
+     * Current limit of an endpoint, or the initial limit if it has not been seen.
+     */
+    public int getLimit(String endpoint) {
+        EndpointLimit limit = endpoints.get(endpoint);
+        return limit != null ? (int) limit.limit : settings.initialLimit();
+    }
+
+    /**
+     * Limits of all endpoints seen so far, ordered by endpoint.
+     */
+    public List<EndpointStats> getStats() {
+        return endpoints.values().stream()
+            .map(EndpointLimit::toStats)
+            .sorted(Comparator.comparing(EndpointStats::endpoint))
+            .toList();
+    }
+
+    /**
+     * Endpoint key of a target URL: its scheme and authority, e.g. {@code https://api.example.com:8443}.
+     * Falls back to the whole target if it has no scheme.
+     */
+    public static String endpointOf(String target) {
+        int schemeEnd = target.indexOf("://");
+        if (schemeEnd < 0) {
+            return target;
+        }
+        int authorityStart = schemeEnd + 3;
+        int end = target.length();
+        for (int i = authorityStart; i < target.length(); i++) {
+            char c = target.charAt(i);
+            if (c == '/' || c == '?' || c == '#') {
+                end = i;
+                break;
+            }
+        }
+        return target.substring(0, end);
+    }
+
+    /**
+     * An admitted request. Complete it with {@link #success()}, {@link #dropped()} or {@link #ignore()}.
+     */
+    public final class Permit {
+        private final EndpointLimit limit;
+        private final int inFlightAtStart;
+        private final long startNanos;
+
+        private Permit(EndpointLimit limit, int inFlightAtStart, long startNanos) {
+            this.limit = limit;
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * The endpoint answered; its latency decides whether the limit grows or shrinks.
+         */
+        public void success() {
+            complete(false);
+        }
+
+        /**
+         * The endpoint timed out, failed or is overloaded; the limit shrinks.
+         */
+        public void dropped() {
+            complete(true);
+        }
+
+        /**
+         * The request says nothing about the endpoint's health; the limit is unchanged.
+         */
+        public void ignore() {
+            limit.inFlight.decrementAndGet();
+        }
+
+        private void complete(boolean dropped) {
+            limit.inFlight.decrementAndGet();
+            limit.onSample(startNanos, System.nanoTime() - startNanos, inFlightAtStart, dropped);
+        }
+    }
+
+    private final class EndpointLimit {
+        final String endpoint;
+        final AtomicInteger inFlight = new AtomicInteger();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        volatile double limit = settings.initialLimit();
+        volatile long baselineNanos;
+        volatile long lastLatencyNanos;
+        // Requests started at or after this time may decrease the limit
+        long decreaseAfterNanos;
+
+        EndpointLimit(String endpoint) {
+            this.endpoint = endpoint;
+            this.decreaseAfterNanos = System.nanoTime();
+        }
+
+        synchronized void onSample(long startNanos, long latencyNanos, int inFlightAtStart, boolean drop) {
+            lastLatencyNanos = latencyNanos;
+            if (!drop) {
+                long baseline = baselineNanos;
+                if (baseline == 0 || latencyNanos < baseline) {
+                    baselineNanos = latencyNanos;
+                } else {
+                    baselineNanos = baseline + (long) ((latencyNanos - baseline) * BASELINE_DRIFT);
+                }
+                drop = baseline > 0
+                    && latencyNanos > baseline * settings.latencyTolerance()
+                    && latencyNanos - baseline > MIN_LATENCY_INCREASE_NANOS;
+            }
+
+            if (drop) {
+                dropped.increment();
+                if (startNanos - decreaseAfterNanos >= 0) {
+                    limit = Math.max(settings.minLimit(), limit * settings.backoffRatio());
+                    decreaseAfterNanos = System.nanoTime();
+                }
+            } else if (inFlightAtStart * 2 >= (int) limit) {
+                limit = Math.min(settings.maxLimit(), limit + 1.0 / limit);
+            }
+        }
+
+        EndpointStats toStats() {
+            return new EndpointStats(
+                endpoint,
+                (int) limit,
+                inFlight.get(),
+                TimeUnit.NANOSECONDS.toMillis(baselineNanos),
+                TimeUnit.NANOSECONDS.toMillis(lastLatencyNanos),
+                rejected.sum(),
+                dropped.sum()
+            );
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package tech.flowcatalyst.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final String ENDPOINT = "http://localhost:8081";
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+        new AdaptiveConcurrencyLimiter.Settings(4, 1, 8, 0.5, 2.0));
+
+    private List<AdaptiveConcurrencyLimiter.Permit> acquire(int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(ENDPOINT);
+            assertNotNull(permit, "permit " + i + " should be admitted");
+            permits.add(permit);
+        }
+        return permits;
+    }
+
+    private AdaptiveConcurrencyLimiter.EndpointStats stats() {
+        return limiter.getStats().getFirst();
+    }
+
+    @Test
+    void tryAcquire_rejectsRequestsBeyondLimit() {
+        acquire(4);
+
+        assertNull(limiter.tryAcquire(ENDPOINT));
+        assertEquals(4, stats().inFlight());
+        assertEquals(1, stats().rejectedRequests());
+    }
+
+    @Test
+    void tryAcquire_limitsEachEndpointSeparately() {
+        acquire(4);
+
+        assertNotNull(limiter.tryAcquire("https://api.example.com"));
+        assertEquals(2, limiter.getStats().size());
+    }
+
+    @Test
+    void dropped_decreasesLimitMultiplicatively() {
+        acquire(1).getFirst().dropped();
+        assertEquals(2, limiter.getLimit(ENDPOINT));
+
+        acquire(1).getFirst().dropped();
+        assertEquals(1, limiter.getLimit(ENDPOINT));
+
+        acquire(1).getFirst().dropped();
+        assertEquals(1, limiter.getLimit(ENDPOINT), "limit should not drop below minLimit");
+        assertEquals(3, stats().droppedRequests());
+    }
+
+    @Test
+    void dropped_burstOfFailuresDecreasesLimitOnce() {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = acquire(4);
+
+        permits.forEach(AdaptiveConcurrencyLimiter.Permit::dropped);
+
+        assertEquals(2, limiter.getLimit(ENDPOINT));
+        assertEquals(4, stats().droppedRequests());
+        assertEquals(0, stats().inFlight());
+    }
+
+    @Test
+    void success_increasesLimitAdditivelyWhileEndpointIsBusy() {
+        // Each window of successes at (or above) half the limit grows it by a fraction of one
+        for (int window = 0; window < 4; window++) {
+            acquire(limiter.getLimit(ENDPOINT)).forEach(AdaptiveConcurrencyLimiter.Permit::success);
+        }
+        int grown = limiter.getLimit(ENDPOINT);
+        assertTrue(grown > 4 && grown < 8, "limit should grow gradually, was " + grown);
+
+        for (int window = 0; window < 50; window++) {
+            acquire(limiter.getLimit(ENDPOINT)).forEach(AdaptiveConcurrencyLimiter.Permit::success);
+        }
+        assertEquals(8, limiter.getLimit(ENDPOINT), "limit should not grow above maxLimit");
+    }
+
+    @Test
+    void success_doesNotIncreaseLimitWhileEndpointIsMostlyIdle() {
+        for (int i = 0; i < 100; i++) {
+            acquire(1).getFirst().success();
+        }
+
+        assertEquals(4, limiter.getLimit(ENDPOINT));
+    }
+
+    @Test
+    void success_slowResponseCountsAsDrop() throws InterruptedException {
+        acquire(1).getFirst().success();
+
+        AdaptiveConcurrencyLimiter.Permit slow = acquire(1).getFirst();
+        Thread.sleep(150);
+        slow.success();
+
+        assertEquals(2, limiter.getLimit(ENDPOINT));
+        assertEquals(1, stats().droppedRequests());
+    }
+
+    @Test
+    void ignore_releasesPermitWithoutChangingLimit() {
+        acquire(4).forEach(AdaptiveConcurrencyLimiter.Permit::ignore);
+
+        assertEquals(4, limiter.getLimit(ENDPOINT));
+        assertEquals(0, stats().inFlight());
+        assertEquals(0, stats().droppedRequests());
+    }
+
+    @Test
+    void endpointOf_keepsSchemeAndAuthorityOnly() {
+        assertEquals("https://api.example.com:8443",
+            AdaptiveConcurrencyLimiter.endpointOf("https://api.example.com:8443/hooks/orders?x=1"));
+        assertEquals("http://localhost:8081", AdaptiveConcurrencyLimiter.endpointOf("http://localhost:8081"));
+        assertEquals("http://localhost:8081", AdaptiveConcurrencyLimiter.endpointOf("http://localhost:8081?a=b"));
+        assertEquals("not-a-url", AdaptiveConcurrencyLimiter.endpointOf("not-a-url"));
+    }
+
+    @Test
+    void settings_rejectInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter.Settings(0, 1, 8, 0.5, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter.Settings(4, 1, 8, 1.0, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter.Settings(4, 1, 8, 0.5, 1.0));
+    }
+}
@@ -4,6 +4,7 @@ import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import tech.flowcatalyst.queue.QueueType;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -79,4 +80,49 @@ public interface DispatchSchedulerConfig {
      */
     @WithDefault("60s")
     String staleQueuedPollInterval();
+
+    /**
+     * Dispatch of jobs with a scheduled time through an in-memory timing wheel.
+     */
+    Scheduled scheduled();
+
+    interface Scheduled {
+        /**
+         * Whether scheduled jobs are dispatched by the timing wheel. When false, the pending
+         * job poller picks them up once they are due.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Interval between scans of scheduled_for. Must be shorter than the horizon.
+         * Uses Quarkus duration format (e.g., "30s", "1m").
+         */
+        @WithDefault("30s")
+        String scanInterval();
+
+        /**
+         * How far ahead each scan loads jobs into the wheel.
+         */
+        @WithDefault("90s")
+        Duration horizon();
+
+        /**
+         * Timer precision: jobs are published at most this long after they are due.
+         */
+        @WithDefault("100ms")
+        Duration tick();
+
+        /**
+         * Buckets per wheel level. The lowest level spans tick * wheel-size.
+         */
+        @WithDefault("512")
+        int wheelSize();
+
+        /**
+         * Maximum number of jobs loaded per scan.
+         */
+        @WithDefault("5000")
+        int scanBatchSize();
+    }
 }
@@ -1,5 +1,6 @@
 package tech.flowcatalyst.dispatchscheduler;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -80,30 +81,7 @@ public class JobDispatcher {
         }
 
         try {
-            // Generate HMAC auth token for this dispatch job
-            String authToken = dispatchAuthService.generateAuthToken(job.id);
-
-            // Create MessagePointer for the dispatch job
-            MessagePointer pointer = new MessagePointer(
-                job.id,
-                job.dispatchPoolId != null ? job.dispatchPoolId : config.defaultDispatchPoolCode(),
-                authToken,
-                MediationType.HTTP,
-                config.processingEndpoint(),
-                job.messageGroup,
-                null  // batchId populated by message router
-            );
-
-            String messageBody = objectMapper.writeValueAsString(pointer);
-
-            QueueMessage message = new QueueMessage(
-                job.id,
-                job.messageGroup,
-                job.id,  // Use job ID as deduplication ID
-                messageBody
-            );
-
-            QueuePublishResult result = queuePublisher.publish(message);
+            QueuePublishResult result = queuePublisher.publish(toQueueMessage(job));
 
             if (result.allPublished()) {
                 // Update status to QUEUED
@@ -129,6 +107,31 @@ public class JobDispatcher {
         }
     }
 
+    private QueueMessage toQueueMessage(DispatchJob job) throws JsonProcessingException {
+        // Generate HMAC auth token for this dispatch job
+        String authToken = dispatchAuthService.generateAuthToken(job.id);
+
+        // Create MessagePointer for the dispatch job
+        MessagePointer pointer = new MessagePointer(
+            job.id,
+            job.dispatchPoolId != null ? job.dispatchPoolId : config.defaultDispatchPoolCode(),
+            authToken,
+            MediationType.HTTP,
+            config.processingEndpoint(),
+            job.messageGroup,
+            null  // batchId populated by message router
+        );
+
+        String messageBody = objectMapper.writeValueAsString(pointer);
+
+        return new QueueMessage(
+            job.id,
+            job.messageGroup,
+            job.id,  // Use job ID as deduplication ID
+            messageBody
+        );
+    }
+
     /**
      * Check if the queue publisher is healthy.
      */
@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 /**
  * Coordinates dispatch across message groups.
@@ -17,13 +18,20 @@ import java.util.concurrent.Semaphore;
  * per group is dispatched to the external queue at a time.
  *
  * Uses a semaphore to limit concurrent group dispatches.
+ *
+ * A job is held from submission until its dispatch attempt finishes. Submitting a job
+ * that is still held does nothing, so overlapping polls or scans do not queue it twice.
  */
 @ApplicationScoped
 public class MessageGroupDispatcher {
 
     private static final Logger LOG = Logger.getLogger(MessageGroupDispatcher.class);
 
+    private static final Consumer<DispatchJob> NO_CALLBACK = job -> { };
+
     private final Map<String, MessageGroupQueue> groupQueues = new ConcurrentHashMap<>();
+    /** Submitted jobs not yet dispatched, by ID, with the callback to run once they are. */
+    private final Map<String, Consumer<DispatchJob>> heldJobs = new ConcurrentHashMap<>();
     private Semaphore concurrencySemaphore;
 
     @Inject
@@ -35,7 +43,10 @@ public class MessageGroupDispatcher {
     /**
      * Initialize the dispatcher with configured concurrency limits.
      */
-    public void initialize() {
+    public synchronized void initialize() {
+        if (concurrencySemaphore != null) {
+            return;
+        }
         this.concurrencySemaphore = new Semaphore(config.maxConcurrentGroups());
         LOG.infof("MessageGroupDispatcher initialized with max concurrent groups: %d",
             config.maxConcurrentGroups());
@@ -49,16 +60,39 @@ public class MessageGroupDispatcher {
      * @param jobs List of jobs for this group
      */
     public void submitJobs(String messageGroup, List<DispatchJob> jobs) {
-        if (jobs.isEmpty()) {
+        submitJobs(messageGroup, jobs, NO_CALLBACK);
+    }
+
+    /**
+     * Submit jobs for a message group, with a callback run after each job's dispatch attempt.
+     * Jobs still held from an earlier submission are skipped and keep their original callback.
+     *
+     * @param messageGroup The message group identifier
+     * @param jobs List of jobs for this group
+     * @param onDispatched Called once per submitted job when its dispatch attempt has finished,
+     *                     whether or not it succeeded
+     */
+    public void submitJobs(String messageGroup, List<DispatchJob> jobs, Consumer<DispatchJob> onDispatched) {
+        List<DispatchJob> added = jobs.stream()
+            .filter(job -> heldJobs.putIfAbsent(job.id, onDispatched) == null)
+            .toList();
+        if (added.isEmpty()) {
             return;
         }
 
         MessageGroupQueue queue = groupQueues.computeIfAbsent(
             messageGroup,
-            k -> new MessageGroupQueue(k, this::dispatchJob)
+            k -> new MessageGroupQueue(k, job -> dispatchJob(k, job))
         );
 
-        queue.addJobs(jobs);
+        queue.addJobs(added);
+    }
+
+    /**
+     * Whether a job has been submitted and its dispatch attempt has not finished yet.
+     */
+    public boolean isHeld(String jobId) {
+        return heldJobs.containsKey(jobId);
     }
 
     /**
@@ -80,7 +114,7 @@ public class MessageGroupDispatcher {
      * Internal dispatch function called by MessageGroupQueue.
      * Uses semaphore to limit concurrent dispatches.
      */
-    private void dispatchJob(DispatchJob job) {
+    private void dispatchJob(String messageGroup, DispatchJob job) {
         try {
             // Acquire semaphore permit (blocks if max concurrent reached)
             concurrencySemaphore.acquire();
@@ -89,14 +123,14 @@ public class MessageGroupDispatcher {
 
                 if (success) {
                     LOG.debugf("Successfully dispatched job [%s] for group [%s]",
-                        job.id, job.messageGroup);
+                        job.id, messageGroup);
                 } else {
                     LOG.warnf("Failed to dispatch job [%s] for group [%s]",
-                        job.id, job.messageGroup);
+                        job.id, messageGroup);
                 }
 
-                // Trigger next dispatch in this group
-                MessageGroupQueue queue = groupQueues.get(job.messageGroup);
+                // Trigger next dispatch in this group (keyed "default" for jobs without a group)
+                MessageGroupQueue queue = groupQueues.get(messageGroup);
                 if (queue != null) {
                     queue.onCurrentJobDispatched();
                 }
@@ -108,6 +142,11 @@ public class MessageGroupDispatcher {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             LOG.warnf("Dispatch interrupted for job [%s]", job.id);
+        } finally {
+            Consumer<DispatchJob> onDispatched = heldJobs.remove(job.id);
+            if (onDispatched != null) {
+                onDispatched.accept(job);
+            }
         }
     }
 
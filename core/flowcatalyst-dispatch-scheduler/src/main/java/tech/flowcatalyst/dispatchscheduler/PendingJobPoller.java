@@ -9,6 +9,7 @@ import org.jboss.logging.Logger;
 import tech.flowcatalyst.dispatch.DispatchMode;
 import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
 import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
+import tech.flowcatalyst.standby.ShardOwnershipService;
 import tech.flowcatalyst.standby.StandbyService;
 
 import java.util.*;
@@ -18,7 +19,12 @@ import java.util.stream.Collectors;
  * Polls for PENDING dispatch jobs and submits them to the MessageGroupDispatcher.
  *
  * This service runs on a configurable schedule and only executes on the
- * primary instance (using StandbyService for leader election).
+ * primary instance (using StandbyService for leader election). With sharded
+ * ownership enabled, every instance polls, but only for the message groups
+ * in the shards it owns.
+ *
+ * When scheduled dispatch is enabled, jobs with a scheduled time are left to the
+ * {@link ScheduledJobDispatcher}.
  */
 @ApplicationScoped
 public class PendingJobPoller {
@@ -29,6 +35,9 @@ public class PendingJobPoller {
     @Inject
     StandbyService standbyService;
 
+    @Inject
+    ShardOwnershipService shardOwnership;
+
     @Inject
     DispatchSchedulerConfig config;
 
@@ -62,8 +71,13 @@ public class PendingJobPoller {
             return;
         }
 
-        // Only run on primary instance
-        if (!standbyService.isPrimary()) {
+        // Sharded ownership: poll owned shards only; otherwise only run on primary instance
+        if (shardOwnership.isActive()) {
+            if (shardOwnership.ownedShards().isEmpty()) {
+                LOG.trace("No shards owned, skipping poll");
+                return;
+            }
+        } else if (!standbyService.isPrimary()) {
             LOG.trace("Not primary instance, skipping poll");
             return;
         }
@@ -79,8 +93,19 @@ public class PendingJobPoller {
      * Main polling logic.
      */
     private void doPoll() {
-        // 1. Query PENDING jobs (batch size from config)
-        List<DispatchJob> pendingJobs = dispatchJobRepository.findPendingJobs(config.batchSize());
+        // 1. Query PENDING jobs (batch size from config); scheduled jobs are left to the ScheduledJobDispatcher
+        List<DispatchJob> pendingJobs;
+        if (config.scheduled().enabled()) {
+            pendingJobs = shardOwnership.isActive()
+                ? dispatchJobRepository.findUnscheduledPendingJobs(config.batchSize(),
+                    shardOwnership.getShardCount(), shardOwnership.ownedShards())
+                : dispatchJobRepository.findUnscheduledPendingJobs(config.batchSize());
+        } else {
+            pendingJobs = shardOwnership.isActive()
+                ? dispatchJobRepository.findPendingJobs(config.batchSize(),
+                    shardOwnership.getShardCount(), shardOwnership.ownedShards())
+                : dispatchJobRepository.findPendingJobs(config.batchSize());
+        }
 
         if (pendingJobs.isEmpty()) {
             LOG.trace("No pending jobs found");
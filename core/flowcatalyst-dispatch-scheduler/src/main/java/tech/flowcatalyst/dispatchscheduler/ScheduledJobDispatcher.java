@@ -0,0 +1,287 @@
+package tech.flowcatalyst.dispatchscheduler;
+
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
+import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
+import tech.flowcatalyst.standby.ShardOwnershipService;
+import tech.flowcatalyst.standby.StandbyService;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Publishes PENDING dispatch jobs that have a scheduled time when they become due.
+ *
+ * Every scan interval, jobs scheduled up to the horizon ahead are loaded from scheduled_for
+ * into a {@link TimingWheel}. A ticker thread advances the wheel every tick and hands the jobs
+ * that became due to a single publisher thread, which submits them to the
+ * {@link MessageGroupDispatcher} like the {@link PendingJobPoller} does. Publishing one batch
+ * at a time keeps batches in due order, and the group queues keep one job per message group
+ * on the external queue, in order.
+ *
+ * The database stays the source of truth. After a restart or a standby takeover the first
+ * scan rebuilds the wheel, and overdue jobs are published straight away. A job is loaded only
+ * once it is within the horizon, so delays are not bound by broker limits such as SQS's
+ * 15 minutes. Like {@link PendingJobPoller}, it runs only on the primary instance, or for the
+ * owned shards when sharded ownership is enabled.
+ */
+@ApplicationScoped
+public class ScheduledJobDispatcher {
+
+    private static final Logger LOG = Logger.getLogger(ScheduledJobDispatcher.class);
+    private static final String DEFAULT_MESSAGE_GROUP = "default";
+
+    @Inject
+    StandbyService standbyService;
+
+    @Inject
+    ShardOwnershipService shardOwnership;
+
+    @Inject
+    DispatchSchedulerConfig config;
+
+    @Inject
+    DispatchJobRepository dispatchJobRepository;
+
+    @Inject
+    MessageGroupDispatcher groupDispatcher;
+
+    @Inject
+    BlockOnErrorChecker blockOnErrorChecker;
+
+    /** Replaced in tests. */
+    Clock clock = Clock.systemUTC();
+
+    /** Guarded by this. */
+    private TimingWheel<DispatchJob> wheel;
+    private ScheduledExecutorService ticker;
+    /** Single thread, so batches are submitted in the order they became due. */
+    ExecutorService publisher;
+
+    /**
+     * Jobs handed to the publisher: Long.MAX_VALUE until their dispatch attempt has finished,
+     * then the time it finished. A scan that started before then may have read the job while
+     * it was still PENDING.
+     */
+    private final Map<String, Long> recentlyPublished = new ConcurrentHashMap<>();
+
+    void onStart(@Observes StartupEvent ev) {
+        if (!config.enabled() || !config.scheduled().enabled()) {
+            return;
+        }
+
+        startWheel();
+        long tickMillis = config.scheduled().tick().toMillis();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduled-dispatch-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        LOG.infof("Scheduled dispatch started with tick: %dms, horizon: %s, scan interval: %s",
+            tickMillis, config.scheduled().horizon(), config.scheduled().scanInterval());
+    }
+
+    /**
+     * Create the wheel and the publisher. The ticker is started separately so tests can tick by hand.
+     */
+    void startWheel() {
+        groupDispatcher.initialize();
+        synchronized (this) {
+            wheel = new TimingWheel<>(config.scheduled().tick().toMillis(), config.scheduled().wheelSize(),
+                clock.millis());
+        }
+        publisher = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("scheduled-dispatch-publisher").factory());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+        if (publisher != null) {
+            publisher.shutdownNow();
+        }
+    }
+
+    /**
+     * Load jobs due within the horizon into the wheel.
+     */
+    @Scheduled(every = "${dispatch-scheduler.scheduled.scan-interval:30s}", identity = "dispatch-scheduler-scheduled-scan")
+    void scanScheduledJobs() {
+        if (!isRunning()) {
+            return;
+        }
+
+        if (!isActive()) {
+            // Lost the primary role or our shards: another instance now owns these jobs
+            synchronized (this) {
+                if (wheel.size() > 0) {
+                    LOG.infof("Not dispatching scheduled jobs on this instance, dropping %d from the wheel", wheel.size());
+                    wheel.clear();
+                }
+            }
+            return;
+        }
+
+        try {
+            doScan();
+        } catch (Exception e) {
+            LOG.errorf(e, "Error scanning for scheduled jobs");
+        }
+    }
+
+    private boolean isRunning() {
+        synchronized (this) {
+            return wheel != null;
+        }
+    }
+
+    private boolean isActive() {
+        if (shardOwnership.isActive()) {
+            return !shardOwnership.ownedShards().isEmpty();
+        }
+        return standbyService.isPrimary();
+    }
+
+    private void doScan() {
+        long scanStarted = clock.millis();
+        recentlyPublished.values().removeIf(finished -> finished < scanStarted);
+
+        Instant until = Instant.ofEpochMilli(scanStarted).plus(config.scheduled().horizon());
+        int limit = config.scheduled().scanBatchSize();
+        List<DispatchJob> jobs = shardOwnership.isActive()
+            ? dispatchJobRepository.findScheduledJobs(until, limit,
+                shardOwnership.getShardCount(), shardOwnership.ownedShards())
+            : dispatchJobRepository.findScheduledJobs(until, limit);
+
+        // Jobs come earliest first; a full batch is only complete up to its last job
+        long completeUntil = jobs.size() < limit
+            ? until.toEpochMilli()
+            : jobs.get(jobs.size() - 1).scheduledFor.toEpochMilli();
+        Set<String> found = jobs.stream().map(job -> job.id).collect(Collectors.toSet());
+
+        List<DispatchJob> overdue = new ArrayList<>();
+        int cancelled = 0;
+        synchronized (this) {
+            // Entries the scan should have returned but did not were completed, cancelled or rescheduled
+            for (String id : wheel.ids()) {
+                if (!found.contains(id) && wheel.deadlineOf(id) < completeUntil && wheel.cancel(id)) {
+                    cancelled++;
+                }
+            }
+            for (DispatchJob job : jobs) {
+                // Still being published, or published after the scan read it
+                if (recentlyPublished.getOrDefault(job.id, Long.MIN_VALUE) >= scanStarted) {
+                    continue;
+                }
+                long deadline = job.scheduledFor.toEpochMilli();
+                Long scheduled = wheel.deadlineOf(job.id);
+                if (scheduled != null && scheduled == deadline) {
+                    continue;
+                }
+                if (!wheel.schedule(job.id, deadline, job)) {
+                    overdue.add(job);
+                    recentlyPublished.put(job.id, Long.MAX_VALUE);
+                }
+            }
+        }
+
+        LOG.debugf("Scanned %d scheduled jobs up to %s: %d overdue, %d removed from the wheel",
+            jobs.size(), until, overdue.size(), cancelled);
+
+        if (!overdue.isEmpty()) {
+            publisher.execute(() -> publish(overdue));
+        }
+    }
+
+    /**
+     * Advance the wheel and publish the jobs that became due. Runs every tick on the ticker thread.
+     */
+    void tick() {
+        try {
+            List<DispatchJob> due;
+            synchronized (this) {
+                due = wheel.advance(clock.millis());
+                due.forEach(job -> recentlyPublished.put(job.id, Long.MAX_VALUE));
+            }
+            if (!due.isEmpty()) {
+                // Keep the ticker on time while the batch is published
+                publisher.execute(() -> publish(due));
+            }
+        } catch (Exception e) {
+            // An exception would cancel the fixed-rate task
+            LOG.errorf(e, "Error advancing scheduled dispatch wheel");
+        }
+    }
+
+    /**
+     * Submit due jobs to their message group queues. Jobs in blocked message groups, expired jobs
+     * and jobs that fail to publish stay PENDING and are picked up again by the next scan.
+     * Runs on the publisher thread, one batch at a time.
+     */
+    private void publish(List<DispatchJob> jobs) {
+        try {
+            Map<String, List<DispatchJob>> jobsByGroup = jobs.stream()
+                .collect(Collectors.groupingBy(this::groupOf, LinkedHashMap::new, Collectors.toList()));
+            Set<String> blockedGroups = blockOnErrorChecker.getBlockedGroups(jobsByGroup.keySet());
+            Instant now = clock.instant();
+
+            int submitted = 0;
+            for (Map.Entry<String, List<DispatchJob>> entry : jobsByGroup.entrySet()) {
+                List<DispatchJob> dispatchable = new ArrayList<>();
+                for (DispatchJob job : entry.getValue()) {
+                    if (blockedGroups.contains(entry.getKey()) || (job.expiresAt != null && !job.expiresAt.isAfter(now))) {
+                        markFinished(job);
+                    } else {
+                        dispatchable.add(job);
+                    }
+                }
+                if (!dispatchable.isEmpty()) {
+                    groupDispatcher.submitJobs(entry.getKey(), dispatchable, this::markFinished);
+                    submitted += dispatchable.size();
+                }
+            }
+
+            if (submitted < jobs.size()) {
+                LOG.debugf("Holding back %d due jobs in blocked message groups or expired", jobs.size() - submitted);
+            }
+            LOG.debugf("Submitted %d of %d due scheduled jobs", submitted, jobs.size());
+
+        } catch (Exception e) {
+            LOG.errorf(e, "Error publishing %d due scheduled jobs", jobs.size());
+            jobs.stream().filter(job -> !groupDispatcher.isHeld(job.id)).forEach(this::markFinished);
+        }
+    }
+
+    /**
+     * Record that a job's publish attempt is over; the next scan that starts later sees its real status.
+     */
+    private void markFinished(DispatchJob job) {
+        recentlyPublished.put(job.id, clock.millis());
+    }
+
+    private String groupOf(DispatchJob job) {
+        return job.messageGroup != null ? job.messageGroup : DEFAULT_MESSAGE_GROUP;
+    }
+
+    /**
+     * Number of jobs waiting in the wheel.
+     */
+    public synchronized int getScheduledCount() {
+        return wheel != null ? wheel.size() : 0;
+    }
+}
@@ -7,6 +7,7 @@ import org.jboss.logging.Logger;
 import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
 import tech.flowcatalyst.dispatchjob.model.DispatchStatus;
 import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
+import tech.flowcatalyst.standby.ShardOwnershipService;
 import tech.flowcatalyst.standby.StandbyService;
 
 import java.time.Instant;
@@ -35,6 +36,9 @@ public class StaleQueuedJobPoller {
     @Inject
     StandbyService standbyService;
 
+    @Inject
+    ShardOwnershipService shardOwnership;
+
     @Inject
     DispatchSchedulerConfig config;
 
@@ -51,8 +55,13 @@ public class StaleQueuedJobPoller {
             return;
         }
 
-        // Only run on primary instance
-        if (!standbyService.isPrimary()) {
+        // Sharded ownership: poll owned shards only; otherwise only run on primary instance
+        if (shardOwnership.isActive()) {
+            if (shardOwnership.ownedShards().isEmpty()) {
+                LOG.trace("No shards owned, skipping stale QUEUED poll");
+                return;
+            }
+        } else if (!standbyService.isPrimary()) {
             LOG.trace("Not primary instance, skipping stale QUEUED poll");
             return;
         }
@@ -72,7 +81,10 @@ public class StaleQueuedJobPoller {
         Instant threshold = Instant.now().minusSeconds(thresholdMinutes * 60L);
 
         // Find QUEUED jobs older than threshold
-        List<DispatchJob> staleJobs = dispatchJobRepository.findStaleQueued(threshold, MAX_BATCH_SIZE);
+        List<DispatchJob> staleJobs = shardOwnership.isActive()
+            ? dispatchJobRepository.findStaleQueued(threshold, MAX_BATCH_SIZE,
+                shardOwnership.getShardCount(), shardOwnership.ownedShards())
+            : dispatchJobRepository.findStaleQueued(threshold, MAX_BATCH_SIZE);
 
         if (staleJobs.isEmpty()) {
             LOG.trace("No stale QUEUED jobs found");
@@ -0,0 +1,223 @@
+package tech.flowcatalyst.dispatchscheduler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel holding values keyed by id until their deadline.
+ *
+ * <p>The lowest level has {@code wheelSize} buckets of {@code tickMillis} each. Each level above
+ * has buckets as wide as the whole level below, and is created only when a deadline needs it.
+ * Scheduling and cancelling are O(1); advancing costs O(levels) per tick plus the entries that
+ * move down a level or expire.</p>
+ *
+ * <p>A value is returned by {@link #advance} at the first tick boundary at or after its deadline:
+ * never early and at most one tick late. Not thread-safe; callers synchronize.</p>
+ *
+ * @param <T> Type of the scheduled values
+ */
+public final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Level> levels = new ArrayList<>();
+    private final Map<String, Entry<T>> entries = new HashMap<>();
+
+    /** Last tick boundary processed; deadlines before it are due. */
+    private long time;
+
+    /**
+     * @param tickMillis  Width of a lowest-level bucket, i.e. the timer precision
+     * @param wheelSize   Buckets per level
+     * @param startMillis Current time
+     */
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.time = startMillis - Math.floorMod(startMillis, tickMillis);
+        levels.add(new Level(tickMillis));
+    }
+
+    /**
+     * Schedule {@code value} under {@code id}, replacing any entry already scheduled under that id.
+     *
+     * @return false if the deadline has already passed; nothing is scheduled and the caller should
+     *         handle the value now
+     */
+    public boolean schedule(String id, long deadlineMillis, T value) {
+        cancel(id);
+        Entry<T> entry = new Entry<>(id, deadlineMillis, value);
+        if (!place(entry)) {
+            return false;
+        }
+        entries.put(id, entry);
+        return true;
+    }
+
+    /**
+     * Deadline of the entry scheduled under {@code id}, or null if none.
+     */
+    public Long deadlineOf(String id) {
+        Entry<T> entry = entries.get(id);
+        return entry != null ? entry.deadline : null;
+    }
+
+    /**
+     * Cancel the entry scheduled under {@code id}.
+     *
+     * @return true if an entry was cancelled
+     */
+    public boolean cancel(String id) {
+        Entry<T> entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    /**
+     * Ids of all scheduled entries.
+     */
+    public List<String> ids() {
+        return new ArrayList<>(entries.keySet());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void clear() {
+        entries.values().forEach(entry -> entry.cancelled = true);
+        entries.clear();
+        for (Level level : levels) {
+            for (ArrayDeque<Entry<T>> bucket : level.buckets) {
+                bucket.clear();
+            }
+        }
+    }
+
+    /**
+     * Move the clock to {@code nowMillis} and remove the entries that became due.
+     *
+     * @return Values of the due entries, in deadline order of their buckets
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> due = new ArrayList<>();
+        if (entries.isEmpty()) {
+            // Nothing to expire: jump straight to the current boundary
+            time = Math.max(time, nowMillis - Math.floorMod(nowMillis, tickMillis));
+            return due;
+        }
+        while (time + tickMillis <= nowMillis) {
+            time += tickMillis;
+            // The lowest-level bucket that just ended holds deadlines in [time - tick, time). It is
+            // emptied first: its slot now belongs to the last tick of the level's span, where
+            // cascading entries may land
+            for (Entry<T> entry : levels.get(0).take(time - tickMillis)) {
+                if (!entry.cancelled) {
+                    expire(entry, due);
+                }
+            }
+            // Higher levels top-down, so entries cascade into lower buckets before those are processed
+            for (int i = levels.size() - 1; i > 0; i--) {
+                Level level = levels.get(i);
+                if (time % level.tick == 0) {
+                    for (Entry<T> entry : level.take(time)) {
+                        if (!entry.cancelled && !place(entry)) {
+                            expire(entry, due);
+                        }
+                    }
+                }
+            }
+        }
+        return due;
+    }
+
+    private void expire(Entry<T> entry, List<T> due) {
+        entries.remove(entry.id);
+        due.add(entry.value);
+    }
+
+    /**
+     * Put the entry in the lowest level whose span covers its deadline.
+     *
+     * @return false if the deadline is before the current boundary
+     */
+    private boolean place(Entry<T> entry) {
+        if (entry.deadline < time) {
+            return false;
+        }
+        for (int i = 0; ; i++) {
+            Level level = i < levels.size() ? levels.get(i) : addLevel();
+            // A level spans wheelSize buckets starting at the bucket containing the current time
+            long start = time - Math.floorMod(time, level.tick);
+            // The top level takes anything beyond its span once another level would overflow
+            if (entry.deadline - start < level.tick * wheelSize || level.tick > Long.MAX_VALUE / wheelSize / wheelSize) {
+                level.bucket(entry.deadline).add(entry);
+                return true;
+            }
+        }
+    }
+
+    private Level addLevel() {
+        Level top = levels.get(levels.size() - 1);
+        Level level = new Level(top.tick * wheelSize);
+        levels.add(level);
+        return level;
+    }
+
+    private final class Level {
+        final long tick;
+        final ArrayDeque<Entry<T>>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        Level(long tick) {
+            this.tick = tick;
+            this.buckets = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayDeque<>();
+            }
+        }
+
+        ArrayDeque<Entry<T>> bucket(long timeMillis) {
+            return buckets[index(timeMillis)];
+        }
+
+        /**
+         * Empty the bucket containing {@code timeMillis} and return its entries. Entries placed
+         * while they are processed go into a fresh bucket.
+         */
+        ArrayDeque<Entry<T>> take(long timeMillis) {
+            int index = index(timeMillis);
+            ArrayDeque<Entry<T>> bucket = buckets[index];
+            if (!bucket.isEmpty()) {
+                buckets[index] = new ArrayDeque<>();
+            }
+            return bucket;
+        }
+
+        private int index(long timeMillis) {
+            return (int) Math.floorMod(Math.floorDiv(timeMillis, tick), (long) wheelSize);
+        }
+    }
+
+    private static final class Entry<T> {
+        final String id;
+        final long deadline;
+        final T value;
+        boolean cancelled;
+
+        Entry(String id, long deadline, T value) {
+            this.id = id;
+            this.deadline = deadline;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package tech.flowcatalyst.dispatchscheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
+import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
+import tech.flowcatalyst.standby.ShardOwnershipService;
+import tech.flowcatalyst.standby.StandbyService;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ScheduledJobDispatcher.
+ * Covers reconciling the wheel with each scan, skipping jobs still being published, and submitting
+ * due jobs to the message group queues in order. The clock is driven by hand and ticks are run
+ * directly, without the ticker thread.
+ */
+class ScheduledJobDispatcherTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    private final ManualClock clock = new ManualClock(START);
+    private final DispatchJobRepository repository = mock(DispatchJobRepository.class);
+    private final MessageGroupDispatcher groupDispatcher = mock(MessageGroupDispatcher.class);
+    private final BlockOnErrorChecker blockOnErrorChecker = mock(BlockOnErrorChecker.class);
+    private ScheduledJobDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = dispatcher(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    private ScheduledJobDispatcher dispatcher(int scanBatchSize) {
+        DispatchSchedulerConfig config = mock(DispatchSchedulerConfig.class);
+        DispatchSchedulerConfig.Scheduled scheduled = mock(DispatchSchedulerConfig.Scheduled.class);
+        when(config.scheduled()).thenReturn(scheduled);
+        when(scheduled.tick()).thenReturn(Duration.ofMillis(100));
+        when(scheduled.wheelSize()).thenReturn(8);
+        when(scheduled.horizon()).thenReturn(Duration.ofSeconds(90));
+        when(scheduled.scanBatchSize()).thenReturn(scanBatchSize);
+
+        ShardOwnershipService shardOwnership = mock(ShardOwnershipService.class);
+        StandbyService standbyService = mock(StandbyService.class);
+        when(standbyService.isPrimary()).thenReturn(true);
+        when(blockOnErrorChecker.getBlockedGroups(any())).thenReturn(Set.of());
+
+        ScheduledJobDispatcher dispatcher = new ScheduledJobDispatcher();
+        dispatcher.config = config;
+        dispatcher.shardOwnership = shardOwnership;
+        dispatcher.standbyService = standbyService;
+        dispatcher.dispatchJobRepository = repository;
+        dispatcher.groupDispatcher = groupDispatcher;
+        dispatcher.blockOnErrorChecker = blockOnErrorChecker;
+        dispatcher.clock = clock;
+        dispatcher.startWheel();
+        return dispatcher;
+    }
+
+    private static DispatchJob job(String id, long dueInMillis) {
+        DispatchJob job = new DispatchJob();
+        job.id = id;
+        job.messageGroup = "group-1";
+        job.scheduledFor = Instant.ofEpochMilli(START + dueInMillis);
+        return job;
+    }
+
+    private void scanReturns(DispatchJob... jobs) {
+        when(repository.findScheduledJobs(any(Instant.class), anyInt())).thenReturn(List.of(jobs));
+        dispatcher.scanScheduledJobs();
+    }
+
+    private void tickAt(long millis) {
+        clock.set(START + millis);
+        dispatcher.tick();
+        awaitPublisher();
+    }
+
+    /**
+     * Wait until the publisher has run everything handed to it so far.
+     */
+    private void awaitPublisher() {
+        try {
+            dispatcher.publisher.submit(() -> { }).get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Consumer<DispatchJob> submittedCallback(String jobId) {
+        ArgumentCaptor<Consumer<DispatchJob>> callback = ArgumentCaptor.forClass(Consumer.class);
+        verify(groupDispatcher).submitJobs(eq("group-1"),
+            argThat(jobs -> jobs.size() == 1 && jobs.get(0).id.equals(jobId)), callback.capture());
+        return callback.getValue();
+    }
+
+    @Test
+    @DisplayName("a scan should drop wheel entries it no longer returns and move rescheduled ones")
+    void scan_shouldReconcileWheel() {
+        scanReturns(job("a", 1000), job("b", 2000), job("c", 3000));
+        assertEquals(3, dispatcher.getScheduledCount());
+
+        // b was completed or cancelled, c was rescheduled
+        scanReturns(job("a", 1000), job("c", 5000));
+        assertEquals(2, dispatcher.getScheduledCount());
+
+        tickAt(1100);
+        submittedCallback("a");
+        tickAt(3100);
+        tickAt(5100);
+        submittedCallback("c");
+        verify(groupDispatcher, never()).submitJobs(any(), argThat(jobs -> jobs.get(0).id.equals("b")), any());
+        assertEquals(0, dispatcher.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("a full scan should keep wheel entries due after the last job it returned")
+    void scan_shouldKeepEntriesBeyondFullBatch() {
+        dispatcher.stop();
+        dispatcher = dispatcher(2);
+
+        scanReturns(job("a", 1000), job("b", 2000));
+        // A new job sorts before b, so the full batch ends before b's deadline
+        scanReturns(job("a", 1000), job("c", 1500));
+
+        assertEquals(3, dispatcher.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("a scan should not republish a job still being published or finished after the scan read it")
+    void scan_shouldSkipJobsBeingPublished() {
+        DispatchJob job = job("a", 1000);
+        scanReturns(job);
+        tickAt(1100);
+        Consumer<DispatchJob> onDispatched = submittedCallback("a");
+
+        // Still PENDING in the database while its dispatch is in progress
+        clock.advance(10);
+        scanReturns(job);
+        assertEquals(0, dispatcher.getScheduledCount());
+
+        // The dispatch finishes while the scan is reading the job as PENDING
+        when(repository.findScheduledJobs(any(Instant.class), anyInt())).thenAnswer(invocation -> {
+            clock.advance(5);
+            onDispatched.accept(job);
+            return List.of(job);
+        });
+        clock.advance(10);
+        dispatcher.scanScheduledJobs();
+        assertEquals(0, dispatcher.getScheduledCount());
+        verify(groupDispatcher, times(1)).submitJobs(any(), any(), any());
+
+        // A later scan that still finds it PENDING publishes it again: its dispatch failed
+        clock.advance(10);
+        scanReturns(job);
+        awaitPublisher();
+        verify(groupDispatcher, times(2)).submitJobs(eq("group-1"), any(), any());
+    }
+
+    @Test
+    @DisplayName("publishes should reach the group queues in due order even when one is slow")
+    void tick_shouldSerialisePublishes() {
+        scanReturns(job("a", 1000), job("b", 2000));
+        AtomicBoolean first = new AtomicBoolean(true);
+        when(blockOnErrorChecker.getBlockedGroups(any())).thenAnswer(invocation -> {
+            if (first.getAndSet(false)) {
+                Thread.sleep(200);
+            }
+            return Set.of();
+        });
+
+        clock.set(START + 1100);
+        dispatcher.tick();
+        clock.set(START + 2100);
+        dispatcher.tick();
+        awaitPublisher();
+
+        InOrder inOrder = inOrder(groupDispatcher);
+        inOrder.verify(groupDispatcher).submitJobs(eq("group-1"),
+            argThat(jobs -> jobs.get(0).id.equals("a")), any());
+        inOrder.verify(groupDispatcher).submitJobs(eq("group-1"),
+            argThat(jobs -> jobs.get(0).id.equals("b")), any());
+    }
+
+    @Test
+    @DisplayName("jobs in blocked groups should stay PENDING and be picked up by the next scan")
+    void publish_shouldHoldBackBlockedGroups() {
+        DispatchJob job = job("a", 1000);
+        scanReturns(job);
+        when(blockOnErrorChecker.getBlockedGroups(any())).thenReturn(Set.of("group-1"));
+        tickAt(1100);
+        verify(groupDispatcher, never()).submitJobs(any(), any(), any());
+
+        when(blockOnErrorChecker.getBlockedGroups(any())).thenReturn(Set.of());
+        clock.advance(10);
+        scanReturns(job);
+        awaitPublisher();
+
+        submittedCallback("a");
+    }
+
+    /**
+     * Clock moved by the test.
+     */
+    private static final class ManualClock extends Clock {
+        private volatile long millis;
+
+        ManualClock(long millis) {
+            this.millis = millis;
+        }
+
+        void set(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long delta) {
+            this.millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package tech.flowcatalyst.dispatchscheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimingWheel.
+ * Covers firing at the right tick, cascading from higher levels, cancellation and rescheduling.
+ */
+class TimingWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("schedule should reject a deadline that has already passed")
+    void schedule_shouldRejectPastDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, START);
+
+        assertFalse(wheel.schedule("a", START - 1, "a"));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("advance should fire an entry at the first tick at or after its deadline")
+    void advance_shouldFireAtFirstTickAfterDeadline() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.schedule("a", START + 250, "a");
+
+        assertEquals(List.of(), wheel.advance(START + 250));
+        assertEquals(List.of("a"), wheel.advance(START + 300));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("advance should cascade entries from higher levels without firing early")
+    void advance_shouldCascadeFromHigherLevels() {
+        for (long start : new long[] { START, START + 12_345 }) {
+            // Level 0 spans 800ms, level 1 6.4s, level 2 51.2s
+            TimingWheel<Long> wheel = new TimingWheel<>(100, 8, start);
+            Random random = new Random(42);
+            for (int i = 0; i < 2_000; i++) {
+                long deadline = start + random.nextInt(200_000);
+                assertTrue(wheel.schedule("job-" + i, deadline, deadline));
+            }
+
+            int fired = 0;
+            for (long now = start; now <= start + 200_200; now += 37) {
+                for (long deadline : wheel.advance(now)) {
+                    assertTrue(deadline <= now, "fired early");
+                    assertTrue(now - deadline < 100 + 37, "fired more than a tick late");
+                    fired++;
+                }
+            }
+            assertEquals(2_000, fired);
+            assertEquals(0, wheel.size());
+        }
+    }
+
+    @Test
+    @DisplayName("advance should fire everything due after a long pause")
+    void advance_shouldCatchUpAfterPause() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.schedule("a", START + 5_000, "a");
+        wheel.schedule("b", START + 60_000, "b");
+        wheel.schedule("c", START + 600_000, "c");
+
+        assertEquals(List.of("a", "b"), wheel.advance(START + 120_000));
+        assertEquals(List.of("c"), wheel.advance(START + 600_000 + 100));
+    }
+
+    @Test
+    @DisplayName("cancel should stop an entry from firing")
+    void cancel_shouldStopEntry() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.schedule("a", START + 5_000, "a");
+        wheel.schedule("b", START + 5_000, "b");
+
+        assertTrue(wheel.cancel("a"));
+        assertFalse(wheel.cancel("a"));
+        assertEquals(List.of("b"), wheel.advance(START + 10_000));
+    }
+
+    @Test
+    @DisplayName("schedule should replace an entry with the same id")
+    void schedule_shouldReplaceSameId() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.schedule("a", START + 5_000, "first");
+        wheel.schedule("a", START + 9_000, "second");
+
+        assertEquals(1, wheel.size());
+        assertEquals(START + 9_000, wheel.deadlineOf("a"));
+        assertEquals(List.of(), wheel.advance(START + 8_000));
+        assertEquals(List.of("second"), wheel.advance(START + 9_100));
+    }
+
+    @Test
+    @DisplayName("advance should jump an empty wheel forward so later entries fire on time")
+    void advance_shouldJumpEmptyWheel() {
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.advance(START + 3_600_000);
+
+        assertTrue(wheel.schedule("a", START + 3_600_050, "a"));
+        assertEquals(List.of("a"), wheel.advance(START + 3_600_100));
+    }
+}
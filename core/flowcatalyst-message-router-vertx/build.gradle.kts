@@ -168,3 +168,43 @@ jib {
         user = "1000:1000"
     }
 }
+
+// JMH benchmarks live in their own source set: this module shares the
+// tech.flowcatalyst.messagerouter packages with flowcatalyst-message-router,
+// so it cannot sit alongside it on the microbenchmarks classpath.
+val jmhVersion: String by project
+
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets["main"].output
+    runtimeClasspath += sourceSets["main"].output
+}
+
+configurations["jmhImplementation"].extendsFrom(configurations.implementation.get())
+configurations["jmhRuntimeOnly"].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:${jmhVersion}")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:${jmhVersion}")
+}
+
+// Run the benchmarks (or a subset with -Pjmh.includes=<regex>), as in flowcatalyst-microbenchmarks
+tasks.register<JavaExec>("jmh") {
+    description = "Runs JMH microbenchmarks"
+    group = "verification"
+
+    val resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    outputs.file(resultsFile)
+    outputs.upToDateWhen { false }
+
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    doFirst {
+        resultsFile.get().asFile.parentFile.mkdirs()
+    }
+    args = listOf(
+        (project.findProperty("jmh.includes") as String?) ?: ".*",
+        "-prof", "gc",
+        "-rf", "json",
+        "-rff", resultsFile.get().asFile.absolutePath
+    )
+}
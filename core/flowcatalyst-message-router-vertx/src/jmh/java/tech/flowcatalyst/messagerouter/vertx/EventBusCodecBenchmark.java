@@ -0,0 +1,100 @@
+package tech.flowcatalyst.messagerouter.vertx;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.messagerouter.model.MediationType;
+import tech.flowcatalyst.messagerouter.vertx.codec.BinaryCodecs;
+import tech.flowcatalyst.messagerouter.vertx.codec.JacksonMessageCodec;
+import tech.flowcatalyst.messagerouter.vertx.message.RouterMessages.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clustered event bus wire path: encode into a fresh {@link Buffer} and decode it again, as the
+ * sending and receiving nodes do, for the messages on the per-message hot path and a 10-message
+ * batch. {@code format} selects {@link JacksonMessageCodec} or the {@link BinaryCodecs}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventBusCodecBenchmark {
+
+    @Param({"json", "binary"})
+    String format;
+
+    private MessageCodec<PoolMessage, PoolMessage> poolMessageCodec;
+    private MessageCodec<MediationRequest, MediationRequest> mediationRequestCodec;
+    private MessageCodec<AckRequest, AckRequest> ackRequestCodec;
+    private MessageCodec<BatchRequest, BatchRequest> batchRequestCodec;
+
+    private PoolMessage poolMessage;
+    private MediationRequest mediationRequest;
+    private AckRequest ackRequest;
+    private BatchRequest batchRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (format.equals("json")) {
+            ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+            poolMessageCodec = new JacksonMessageCodec<>(objectMapper, PoolMessage.class);
+            mediationRequestCodec = new JacksonMessageCodec<>(objectMapper, MediationRequest.class);
+            ackRequestCodec = new JacksonMessageCodec<>(objectMapper, AckRequest.class);
+            batchRequestCodec = new JacksonMessageCodec<>(objectMapper, BatchRequest.class);
+        } else {
+            poolMessageCodec = BinaryCodecs.POOL_MESSAGE;
+            mediationRequestCodec = BinaryCodecs.MEDIATION_REQUEST;
+            ackRequestCodec = BinaryCodecs.ACK_REQUEST;
+            batchRequestCodec = BinaryCodecs.BATCH_REQUEST;
+        }
+
+        // SQS-sized identifiers and an auth token like the ones the router forwards
+        String sqsMessageId = "d8e4f6a0-1234-5678-9abc-def012345678";
+        String authToken = "eyJhbGciOiJIUzI1NiJ9." + "x".repeat(120) + ".signature";
+        poolMessage = new PoolMessage("01K9XYM11VFTAPJEPJBR8070FY", sqsMessageId, "orders-CONCURRENCY-10",
+                authToken, MediationType.HTTP, "https://hooks.example.com/orders/created", "order-12345", "batch-7");
+        mediationRequest = new MediationRequest(poolMessage.id(), sqsMessageId, authToken, MediationType.HTTP,
+                poolMessage.mediationTarget(), poolMessage.messageGroupId());
+        ackRequest = new AckRequest(sqsMessageId);
+
+        List<QueuedMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            messages.add(new QueuedMessage("01K9XYM11VFTAPJEPJBR8070F" + i, sqsMessageId, "orders-CONCURRENCY-10",
+                    authToken, MediationType.HTTP, poolMessage.mediationTarget(), "order-" + i,
+                    "https://sqs.eu-west-1.amazonaws.com/123456789012/orders.fifo", "AQEB" + "r".repeat(150) + i));
+        }
+        batchRequest = new BatchRequest(messages, "orders.fifo");
+    }
+
+    private static <T> T roundTrip(MessageCodec<T, T> codec, T message) {
+        Buffer buffer = Buffer.buffer();
+        codec.encodeToWire(buffer, message);
+        return codec.decodeFromWire(0, buffer);
+    }
+
+    @Benchmark
+    public PoolMessage poolMessage() {
+        return roundTrip(poolMessageCodec, poolMessage);
+    }
+
+    @Benchmark
+    public MediationRequest mediationRequest() {
+        return roundTrip(mediationRequestCodec, mediationRequest);
+    }
+
+    @Benchmark
+    public AckRequest ackRequest() {
+        return roundTrip(ackRequestCodec, ackRequest);
+    }
+
+    @Benchmark
+    public BatchRequest batchRequest() {
+        return roundTrip(batchRequestCodec, batchRequest);
+    }
+}
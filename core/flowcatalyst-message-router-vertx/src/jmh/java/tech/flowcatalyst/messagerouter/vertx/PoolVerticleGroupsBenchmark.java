@@ -0,0 +1,184 @@
+package tech.flowcatalyst.messagerouter.vertx;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.ThreadingModel;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.messagerouter.metrics.PoolMetricsService;
+import tech.flowcatalyst.messagerouter.model.MediationType;
+import tech.flowcatalyst.messagerouter.model.PoolStats;
+import tech.flowcatalyst.messagerouter.vertx.channel.MediatorChannels;
+import tech.flowcatalyst.messagerouter.vertx.channel.PoolChannels;
+import tech.flowcatalyst.messagerouter.vertx.channel.RouterChannels;
+import tech.flowcatalyst.messagerouter.vertx.codec.CodecRegistry;
+import tech.flowcatalyst.messagerouter.vertx.message.RouterMessages.*;
+import tech.flowcatalyst.messagerouter.vertx.verticle.PoolVerticle;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One message to each of {@code groups} distinct message groups, from submit through mediation to ack,
+ * with a mediator that replies immediately.
+ * <p>
+ * {@code groupActors} uses {@link PoolVerticle}, which keeps a mailbox per group and an idle wheel.
+ * {@code verticlePerGroup} reproduces the previous model: a virtual-thread verticle per group with its
+ * own event-bus consumer and 60s idle timer, deployed on the first message and sent that message over
+ * the event bus. Each invocation starts from a fresh pool, so every group is new.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PoolVerticleGroupsBenchmark {
+
+    private static final String POOL_CODE = "BENCH";
+    private static final int CONCURRENCY = 200;
+
+    @Param({"100000"})
+    int groups;
+
+    private Vertx vertx;
+    private PoolMessage[] messages;
+    private volatile CountDownLatch acked;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        vertx = Vertx.vertx();
+        CodecRegistry.registerAll(vertx, new ObjectMapper().findAndRegisterModules());
+
+        MediatorChannels.address(POOL_CODE).mediate(vertx).consumer(msg -> msg.reply(MediationResult.success()));
+        RouterChannels.ack(vertx).consumer(msg -> {
+            msg.reply(new OkReply());
+            acked.countDown();
+        });
+        RouterChannels.nack(vertx).consumer(msg -> msg.reply(new OkReply()));
+
+        messages = new PoolMessage[groups];
+        for (int i = 0; i < groups; i++) {
+            messages[i] = new PoolMessage("msg-" + i, "sqs-msg-" + i, POOL_CODE, "token",
+                MediationType.HTTP, "http://localhost/hook", "group-" + i, "batch-1");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        await(vertx.close().toCompletionStage().toCompletableFuture());
+    }
+
+    @Setup(Level.Invocation)
+    public void startInvocation() {
+        acked = new CountDownLatch(groups);
+    }
+
+    @TearDown(Level.Invocation)
+    public void endInvocation() throws Exception {
+        // Undeploys the pool and, for the previous model, every group verticle
+        for (String id : vertx.deploymentIDs()) {
+            await(vertx.undeploy(id).toCompletionStage().toCompletableFuture());
+        }
+    }
+
+    @Benchmark
+    public void groupActors() throws Exception {
+        JsonObject config = new JsonObject().put("code", POOL_CODE).put("concurrency", CONCURRENCY);
+        await(vertx.deployVerticle(new PoolVerticle(new NoOpPoolMetrics()),
+                new DeploymentOptions().setThreadingModel(ThreadingModel.VIRTUAL_THREAD).setConfig(config))
+            .toCompletionStage().toCompletableFuture());
+
+        for (PoolMessage message : messages) {
+            PoolChannels.address(POOL_CODE).messagesFireAndForget(vertx).send(message);
+        }
+        acked.await(5, TimeUnit.MINUTES);
+    }
+
+    @Benchmark
+    public void verticlePerGroup() throws Exception {
+        // Same concurrency cap as the pool, applied to in-flight group deployments and messages
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        for (PoolMessage message : messages) {
+            inFlight.acquire();
+            vertx.deployVerticle(new GroupVerticle(message.messageGroupId()),
+                    new DeploymentOptions().setThreadingModel(ThreadingModel.VIRTUAL_THREAD))
+                .compose(id -> vertx.eventBus().request(GroupVerticle.address(message.messageGroupId()), message))
+                .onComplete(ar -> inFlight.release());
+        }
+        acked.await(5, TimeUnit.MINUTES);
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        return future.get(5, TimeUnit.MINUTES);
+    }
+
+    /**
+     * The per-group verticle of the previous model, without logging.
+     */
+    static class GroupVerticle extends AbstractVerticle {
+
+        private static final long IDLE_TIMEOUT_MS = 5 * 60 * 1000;
+
+        private final String groupId;
+        private long lastActivityTime;
+
+        GroupVerticle(String groupId) {
+            this.groupId = groupId;
+        }
+
+        static String address(String groupId) {
+            return "pool." + POOL_CODE + ".group." + groupId;
+        }
+
+        @Override
+        public void start() {
+            lastActivityTime = System.currentTimeMillis();
+            vertx.eventBus().<PoolMessage>consumer(address(groupId), this::handleMessage);
+            vertx.setPeriodic(60_000, id -> checkIdle());
+        }
+
+        private void checkIdle() {
+            if (System.currentTimeMillis() - lastActivityTime >= IDLE_TIMEOUT_MS) {
+                vertx.undeploy(deploymentID());
+            }
+        }
+
+        private void handleMessage(Message<PoolMessage> msg) {
+            lastActivityTime = System.currentTimeMillis();
+            PoolMessage message = msg.body();
+            // Future.await parks the verticle's virtual thread; a blocking get() would hold the
+            // context and the reply could only arrive after the request timeout
+            MediationResult result = Future.await(MediatorChannels.address(POOL_CODE).mediate(vertx).request(
+                new MediationRequest(message.id(), message.sqsMessageId(), message.authToken(),
+                    message.mediationType(), message.mediationTarget(), message.messageGroupId())));
+            if (result.outcome() == MediationResult.Outcome.SUCCESS) {
+                Future.await(RouterChannels.ack(vertx).request(new AckRequest(message.sqsMessageId())));
+            }
+            msg.reply(new OkReply());
+        }
+    }
+
+    static class NoOpPoolMetrics implements PoolMetricsService {
+        @Override public void recordMessageSubmitted(String poolCode) {}
+        @Override public void recordProcessingStarted(String poolCode) {}
+        @Override public void recordProcessingFinished(String poolCode) {}
+        @Override public void recordProcessingSuccess(String poolCode, long durationMs) {}
+        @Override public void recordProcessingFailure(String poolCode, long durationMs, String errorType) {}
+        @Override public void recordRateLimitExceeded(String poolCode) {}
+        @Override public void recordProcessingTransient(String poolCode, long durationMs) {}
+        @Override public void initializePoolCapacity(String poolCode, int maxConcurrency, int maxQueueCapacity) {}
+        @Override public void updatePoolGauges(String poolCode, int activeWorkers, int availablePermits, int queueSize, int messageGroupCount) {}
+        @Override public PoolStats getPoolStats(String poolCode) { return null; }
+        @Override public Map<String, PoolStats> getAllPoolStats() { return Map.of(); }
+        @Override public Long getLastActivityTimestamp(String poolCode) { return null; }
+        @Override public void removePoolMetrics(String poolCode) {}
+    }
+}
@@ -59,6 +59,10 @@ public class QueueManager implements MessageCallback {
     @ConfigProperty(name = "message-router.enabled", defaultValue = "true")
     boolean messageRouterEnabled;
 
+    // Event bus wire format; only used when the event bus is clustered (all nodes must match)
+    @ConfigProperty(name = "message-router.event-bus-codec", defaultValue = "BINARY")
+    CodecRegistry.Format eventBusCodec;
+
     @Inject
     Vertx vertx;
 
@@ -170,8 +174,8 @@ public class QueueManager implements MessageCallback {
     private void deployVerticles() {
         LOG.info("Deploying Vert.x verticles...");
 
-        // Register Jackson codecs for typed event bus messages
-        CodecRegistry.registerAll(vertx, objectMapper);
+        // Register codecs for typed event bus messages
+        CodecRegistry.registerAll(vertx, objectMapper, eventBusCodec);
 
         try {
             // Deploy QueueManagerVerticle
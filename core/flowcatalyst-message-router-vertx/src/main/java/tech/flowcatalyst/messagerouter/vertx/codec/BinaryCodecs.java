@@ -0,0 +1,259 @@
+package tech.flowcatalyst.messagerouter.vertx.codec;
+
+import io.netty.buffer.ByteBuf;
+import tech.flowcatalyst.messagerouter.model.InFlightMessage;
+import tech.flowcatalyst.messagerouter.model.MediationType;
+import tech.flowcatalyst.messagerouter.vertx.message.RouterMessages.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static tech.flowcatalyst.messagerouter.vertx.codec.BinaryMessageCodec.*;
+
+/**
+ * Binary codecs for every {@code RouterMessages} type.
+ * <p>
+ * Type IDs are part of the wire format: never reuse or renumber them. When a record
+ * gains a component, append it to the writer, bump that codec's version and read
+ * the new field only when the incoming version includes it.
+ */
+public final class BinaryCodecs {
+
+    private BinaryCodecs() {}
+
+    private static final MediationType[] MEDIATION_TYPES = MediationType.values();
+    private static final MediationResult.Outcome[] OUTCOMES = MediationResult.Outcome.values();
+
+    // ==================== Router Messages ====================
+
+    public static final BinaryMessageCodec<BatchRequest> BATCH_REQUEST = new BinaryMessageCodec<>(
+            BatchRequest.class, 1, 1,
+            (out, m) -> {
+                writeList(out, m.messages(), BinaryCodecs::writeQueuedMessage);
+                writeString(out, m.queueIdentifier());
+            },
+            (in, version) -> new BatchRequest(
+                    readList(in, BinaryCodecs::readQueuedMessage),
+                    readString(in)));
+
+    public static final BinaryMessageCodec<QueuedMessage> QUEUED_MESSAGE = new BinaryMessageCodec<>(
+            QueuedMessage.class, 2, 1,
+            BinaryCodecs::writeQueuedMessage,
+            (in, version) -> readQueuedMessage(in));
+
+    public static final BinaryMessageCodec<AckRequest> ACK_REQUEST = new BinaryMessageCodec<>(
+            AckRequest.class, 3, 1,
+            (out, m) -> writeString(out, m.sqsMessageId()),
+            (in, version) -> new AckRequest(readString(in)));
+
+    public static final BinaryMessageCodec<NackRequest> NACK_REQUEST = new BinaryMessageCodec<>(
+            NackRequest.class, 4, 1,
+            (out, m) -> {
+                writeString(out, m.sqsMessageId());
+                writeVarInt(out, m.delaySeconds());
+            },
+            (in, version) -> new NackRequest(readString(in), readVarInt(in)));
+
+    public static final BinaryMessageCodec<InFlightQuery> IN_FLIGHT_QUERY = new BinaryMessageCodec<>(
+            InFlightQuery.class, 5, 1,
+            (out, m) -> {
+                out.writeInt(m.limit());
+                writeString(out, m.filter());
+            },
+            (in, version) -> new InFlightQuery(in.readInt(), readString(in)));
+
+    public static final BinaryMessageCodec<InFlightQueryResult> IN_FLIGHT_QUERY_RESULT = new BinaryMessageCodec<>(
+            InFlightQueryResult.class, 6, 1,
+            (out, m) -> writeList(out, m.messages(), BinaryCodecs::writeInFlightMessage),
+            (in, version) -> new InFlightQueryResult(readList(in, BinaryCodecs::readInFlightMessage)));
+
+    public static final BinaryMessageCodec<PoolStatsResult> POOL_STATS_RESULT = new BinaryMessageCodec<>(
+            PoolStatsResult.class, 7, 1,
+            (out, m) -> {
+                Set<String> codes = m.activePoolCodes();
+                writeVarInt(out, codes == null ? 0 : codes.size() + 1);
+                if (codes != null) {
+                    codes.forEach(code -> writeString(out, code));
+                }
+            },
+            (in, version) -> {
+                int size = readVarInt(in) - 1;
+                if (size < 0) {
+                    return new PoolStatsResult(null);
+                }
+                Set<String> codes = new HashSet<>(size * 2);
+                for (int i = 0; i < size; i++) {
+                    codes.add(readString(in));
+                }
+                return new PoolStatsResult(codes);
+            });
+
+    // ==================== Pool Messages ====================
+
+    public static final BinaryMessageCodec<PoolMessage> POOL_MESSAGE = new BinaryMessageCodec<>(
+            PoolMessage.class, 8, 1,
+            (out, m) -> {
+                writeString(out, m.id());
+                writeString(out, m.sqsMessageId());
+                writeString(out, m.poolCode());
+                writeString(out, m.authToken());
+                writeEnum(out, m.mediationType());
+                writeString(out, m.mediationTarget());
+                writeString(out, m.messageGroupId());
+                writeString(out, m.batchId());
+            },
+            (in, version) -> new PoolMessage(
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readEnum(in, MEDIATION_TYPES),
+                    readString(in),
+                    readString(in),
+                    readString(in)));
+
+    public static final BinaryMessageCodec<PoolConfigUpdate> POOL_CONFIG_UPDATE = new BinaryMessageCodec<>(
+            PoolConfigUpdate.class, 9, 1,
+            (out, m) -> {
+                out.writeInt(m.concurrency());
+                writeNullableInt(out, m.rateLimitPerMinute());
+            },
+            (in, version) -> new PoolConfigUpdate(in.readInt(), readNullableInt(in)));
+
+    public static final BinaryMessageCodec<Accepted> ACCEPTED = new BinaryMessageCodec<>(
+            Accepted.class, 10, 1,
+            (out, m) -> {},
+            (in, version) -> new Accepted());
+
+    public static final BinaryMessageCodec<Rejected> REJECTED = new BinaryMessageCodec<>(
+            Rejected.class, 11, 1,
+            (out, m) -> writeString(out, m.reason()),
+            (in, version) -> new Rejected(readString(in)));
+
+    public static final BinaryMessageCodec<ConfigUpdated> CONFIG_UPDATED = new BinaryMessageCodec<>(
+            ConfigUpdated.class, 12, 1,
+            (out, m) -> {},
+            (in, version) -> new ConfigUpdated());
+
+    public static final BinaryMessageCodec<ConfigFailed> CONFIG_FAILED = new BinaryMessageCodec<>(
+            ConfigFailed.class, 13, 1,
+            (out, m) -> writeString(out, m.reason()),
+            (in, version) -> new ConfigFailed(readString(in)));
+
+    // ==================== Mediator Messages ====================
+
+    public static final BinaryMessageCodec<MediationRequest> MEDIATION_REQUEST = new BinaryMessageCodec<>(
+            MediationRequest.class, 14, 1,
+            (out, m) -> {
+                writeString(out, m.id());
+                writeString(out, m.sqsMessageId());
+                writeString(out, m.authToken());
+                writeEnum(out, m.mediationType());
+                writeString(out, m.mediationTarget());
+                writeString(out, m.messageGroupId());
+            },
+            (in, version) -> new MediationRequest(
+                    readString(in),
+                    readString(in),
+                    readString(in),
+                    readEnum(in, MEDIATION_TYPES),
+                    readString(in),
+                    readString(in)));
+
+    public static final BinaryMessageCodec<MediationResult> MEDIATION_RESULT = new BinaryMessageCodec<>(
+            MediationResult.class, 15, 1,
+            (out, m) -> {
+                writeEnum(out, m.outcome());
+                writeVarInt(out, m.delaySeconds());
+                writeString(out, m.errorMessage());
+            },
+            (in, version) -> new MediationResult(readEnum(in, OUTCOMES), readVarInt(in), readString(in)));
+
+    // ==================== Generic Replies ====================
+
+    public static final BinaryMessageCodec<OkReply> OK_REPLY = new BinaryMessageCodec<>(
+            OkReply.class, 16, 1,
+            (out, m) -> {},
+            (in, version) -> new OkReply());
+
+    /**
+     * All codecs, in type ID order.
+     */
+    public static List<BinaryMessageCodec<?>> all() {
+        return List.of(
+                BATCH_REQUEST, QUEUED_MESSAGE, ACK_REQUEST, NACK_REQUEST, IN_FLIGHT_QUERY,
+                IN_FLIGHT_QUERY_RESULT, POOL_STATS_RESULT, POOL_MESSAGE, POOL_CONFIG_UPDATE,
+                ACCEPTED, REJECTED, CONFIG_UPDATED, CONFIG_FAILED, MEDIATION_REQUEST,
+                MEDIATION_RESULT, OK_REPLY);
+    }
+
+    // ==================== Nested types ====================
+
+    private static void writeQueuedMessage(ByteBuf out, QueuedMessage m) {
+        writeString(out, m.id());
+        writeString(out, m.sqsMessageId());
+        writeString(out, m.poolCode());
+        writeString(out, m.authToken());
+        writeEnum(out, m.mediationType());
+        writeString(out, m.mediationTarget());
+        writeString(out, m.messageGroupId());
+        writeString(out, m.queueUrl());
+        writeString(out, m.receiptHandle());
+    }
+
+    private static QueuedMessage readQueuedMessage(ByteBuf in) {
+        return new QueuedMessage(
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in),
+                readEnum(in, MEDIATION_TYPES),
+                readString(in),
+                readString(in),
+                readString(in),
+                readString(in));
+    }
+
+    private static void writeInFlightMessage(ByteBuf out, InFlightMessage m) {
+        writeString(out, m.messageId());
+        writeString(out, m.brokerMessageId());
+        writeString(out, m.queueId());
+        writeInstant(out, m.addedToInPipelineAt());
+        out.writeLong(m.elapsedTimeMs());
+        writeString(out, m.poolCode());
+    }
+
+    private static InFlightMessage readInFlightMessage(ByteBuf in) {
+        return new InFlightMessage(
+                readString(in),
+                readString(in),
+                readString(in),
+                readInstant(in),
+                in.readLong(),
+                readString(in));
+    }
+
+    private static <E> void writeList(ByteBuf out, List<E> list, BinaryMessageCodec.Writer<E> element) {
+        writeVarInt(out, list == null ? 0 : list.size() + 1);
+        if (list != null) {
+            for (E e : list) {
+                element.write(out, e);
+            }
+        }
+    }
+
+    private static <E> List<E> readList(ByteBuf in, Function<ByteBuf, E> element) {
+        int size = readVarInt(in) - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<E> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(element.apply(in));
+        }
+        return list;
+    }
+}
@@ -0,0 +1,202 @@
+package tech.flowcatalyst.messagerouter.vertx.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.buffer.impl.BufferImpl;
+import io.vertx.core.eventbus.MessageCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Compact binary message codec for the Vert.x event bus.
+ * <p>
+ * Fields are written straight into the Netty buffer behind the Vert.x {@link Buffer},
+ * without an intermediate byte array or JSON tree. Every message starts with a two-byte
+ * header:
+ * <pre>
+ * [typeId: byte][version: byte][fields...]
+ * </pre>
+ * The type ID guards against a message being decoded with the wrong codec. The version
+ * supports rolling upgrades: fields are only ever appended, so a reader decodes the fields
+ * of the version it was sent and ignores any trailing fields written by a newer version.
+ * Bump the version whenever a codec gains a field, and only read that field when
+ * {@code version} is high enough.
+ * <p>
+ * Strings and lengths are varint-prefixed; {@code null} is encoded as length 0.
+ * Enums are encoded by ordinal, so constants must only be appended.
+ *
+ * @param <T> The message type this codec handles
+ */
+public final class BinaryMessageCodec<T> implements MessageCodec<T, T> {
+
+    /**
+     * Writes the fields of a message.
+     */
+    @FunctionalInterface
+    public interface Writer<T> {
+        void write(ByteBuf out, T message);
+    }
+
+    /**
+     * Reads the fields of a message written with the given codec version.
+     */
+    @FunctionalInterface
+    public interface Reader<T> {
+        T read(ByteBuf in, int version);
+    }
+
+    private final Class<T> type;
+    private final byte typeId;
+    private final byte version;
+    private final Writer<T> writer;
+    private final Reader<T> reader;
+    private final String codecName;
+
+    public BinaryMessageCodec(Class<T> type, int typeId, int version, Writer<T> writer, Reader<T> reader) {
+        this.type = type;
+        this.typeId = (byte) typeId;
+        this.version = (byte) version;
+        this.writer = writer;
+        this.reader = reader;
+        this.codecName = "binary:" + type.getName();
+    }
+
+    @Override
+    public void encodeToWire(Buffer buffer, T message) {
+        ByteBuf out = byteBuf(buffer);
+        out.writeByte(typeId);
+        out.writeByte(version);
+        writer.write(out, message);
+    }
+
+    @Override
+    public T decodeFromWire(int pos, Buffer buffer) {
+        ByteBuf in = byteBuf(buffer);
+        in = in.slice(pos, in.writerIndex() - pos);
+        byte wireTypeId = in.readByte();
+        if (wireTypeId != typeId) {
+            throw new IllegalStateException("Expected " + type.getSimpleName() + " (type " + typeId
+                    + ") but message has type " + wireTypeId);
+        }
+        int wireVersion = in.readUnsignedByte();
+        return reader.read(in, wireVersion);
+    }
+
+    @Override
+    public T transform(T message) {
+        // Local delivery - records are immutable
+        return message;
+    }
+
+    @Override
+    public String name() {
+        return codecName;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1; // Custom codec
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public int typeId() {
+        return typeId;
+    }
+
+    public int version() {
+        return version;
+    }
+
+    private static ByteBuf byteBuf(Buffer buffer) {
+        if (buffer instanceof BufferImpl impl) {
+            return impl.byteBuf();
+        }
+        throw new IllegalArgumentException("Unsupported buffer type: " + buffer.getClass().getName());
+    }
+
+    // ==================== Field encoding ====================
+
+    public static void writeVarInt(ByteBuf out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    public static int readVarInt(ByteBuf in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint");
+    }
+
+    public static void writeString(ByteBuf out, String value) {
+        if (value == null) {
+            out.writeByte(0);
+            return;
+        }
+        int length = ByteBufUtil.utf8Bytes(value);
+        writeVarInt(out, length + 1);
+        ByteBufUtil.reserveAndWriteUtf8(out, value, length);
+    }
+
+    public static String readString(ByteBuf in) {
+        int length = readVarInt(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        String value = in.toString(in.readerIndex(), length, StandardCharsets.UTF_8);
+        in.skipBytes(length);
+        return value;
+    }
+
+    public static void writeNullableInt(ByteBuf out, Integer value) {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    public static Integer readNullableInt(ByteBuf in) {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    public static void writeEnum(ByteBuf out, Enum<?> value) {
+        writeVarInt(out, value == null ? 0 : value.ordinal() + 1);
+    }
+
+    public static <E extends Enum<E>> E readEnum(ByteBuf in, E[] values) {
+        int ordinal = readVarInt(in) - 1;
+        if (ordinal < 0) {
+            return null;
+        }
+        if (ordinal >= values.length) {
+            throw new IllegalStateException("Unknown " + values.getClass().getComponentType().getSimpleName()
+                    + " ordinal " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    public static void writeInstant(ByteBuf out, Instant value) {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getEpochSecond());
+            writeVarInt(out, value.getNano());
+        }
+    }
+
+    public static Instant readInstant(ByteBuf in) {
+        return in.readBoolean() ? Instant.ofEpochSecond(in.readLong(), readVarInt(in)) : null;
+    }
+}
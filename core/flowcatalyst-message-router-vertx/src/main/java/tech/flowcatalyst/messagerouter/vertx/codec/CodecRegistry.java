@@ -3,28 +3,58 @@ package tech.flowcatalyst.messagerouter.vertx.codec;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
 import org.jboss.logging.Logger;
 import tech.flowcatalyst.messagerouter.vertx.message.RouterMessages.*;
 
 /**
- * Registers Jackson codecs for all message types used on the event bus.
+ * Registers codecs for all message types used on the event bus.
  * <p>
  * Call {@link #registerAll(Vertx, ObjectMapper)} once at startup before
  * deploying any verticles that use typed messages.
+ * <p>
+ * Local delivery passes records through untouched with either format; the format
+ * only matters for clustered deployments, where every node must use the same one.
  */
 public final class CodecRegistry {
 
     private static final Logger LOG = Logger.getLogger(CodecRegistry.class);
 
+    /**
+     * Wire format for event bus messages.
+     */
+    public enum Format {
+        /** Compact binary codecs ({@link BinaryCodecs}) */
+        BINARY,
+        /** Jackson JSON codecs */
+        JSON
+    }
+
     private CodecRegistry() {}
 
     /**
-     * Register all message codecs on the event bus.
+     * Register all message codecs on the event bus using the binary format.
      * Must be called before any verticles are deployed.
      */
     public static void registerAll(Vertx vertx, ObjectMapper objectMapper) {
+        registerAll(vertx, objectMapper, Format.BINARY);
+    }
+
+    /**
+     * Register all message codecs on the event bus.
+     * Must be called before any verticles are deployed.
+     */
+    public static void registerAll(Vertx vertx, ObjectMapper objectMapper, Format format) {
         EventBus eventBus = vertx.eventBus();
 
+        if (format == Format.BINARY) {
+            for (BinaryMessageCodec<?> codec : BinaryCodecs.all()) {
+                register(eventBus, codec);
+            }
+            LOG.info("Registered binary codecs for event bus messages");
+            return;
+        }
+
         // Router messages
         register(eventBus, objectMapper, BatchRequest.class);
         register(eventBus, objectMapper, QueuedMessage.class);
@@ -55,8 +85,16 @@ public final class CodecRegistry {
     }
 
     private static <T> void register(EventBus eventBus, ObjectMapper objectMapper, Class<T> clazz) {
+        register(eventBus, clazz, new JacksonMessageCodec<>(objectMapper, clazz));
+    }
+
+    private static <T> void register(EventBus eventBus, BinaryMessageCodec<T> codec) {
+        register(eventBus, codec.type(), codec);
+    }
+
+    private static <T> void register(EventBus eventBus, Class<T> clazz, MessageCodec<T, ?> codec) {
         try {
-            eventBus.registerDefaultCodec(clazz, new JacksonMessageCodec<>(objectMapper, clazz));
+            eventBus.registerDefaultCodec(clazz, codec);
         } catch (IllegalStateException e) {
             // Already registered (can happen in tests)
             LOG.debugf("Codec already registered for %s", clazz.getName());
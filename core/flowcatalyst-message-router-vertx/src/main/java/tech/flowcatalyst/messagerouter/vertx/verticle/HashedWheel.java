@@ -0,0 +1,88 @@
+package tech.flowcatalyst.messagerouter.vertx.verticle;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel for large numbers of coarse timeouts.
+ * <p>
+ * Keys are hashed into a ring of buckets by deadline tick. Scheduling is O(1) and
+ * each tick only looks at one bucket, so one periodic timer can drive any number of
+ * timeouts. Deadlines further out than one revolution stay in their bucket until
+ * the wheel comes round to their tick.
+ * <p>
+ * Entries are never cancelled: owners re-check their state when a key expires and
+ * reschedule if needed. Not thread-safe - owned by a single verticle.
+ *
+ * @param <K> key type
+ */
+public final class HashedWheel<K> {
+
+    private record Entry<K>(K key, long deadlineTick) {}
+
+    private final long tickMs;
+    private final long startMs;
+    private final List<List<Entry<K>>> buckets;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMs    resolution of the wheel
+     * @param wheelSize number of buckets
+     * @param nowMs     current time
+     */
+    public HashedWheel(long tickMs, int wheelSize, long nowMs) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize must be positive");
+        }
+        this.tickMs = tickMs;
+        this.startMs = nowMs;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Schedule a key to expire at or shortly after a deadline (rounded up to the next tick).
+     */
+    public void schedule(K key, long deadlineMs) {
+        long deadlineTick = Math.max(Math.ceilDiv(deadlineMs - startMs, tickMs), currentTick + 1);
+        buckets.get((int) (deadlineTick % buckets.size())).add(new Entry<>(key, deadlineTick));
+        size++;
+    }
+
+    /**
+     * Advance the wheel to the current time, passing every key whose deadline has passed
+     * to {@code expired}. Keys scheduled from inside the callback are not expired in the
+     * same call.
+     */
+    public void advance(long nowMs, Consumer<K> expired) {
+        long nowTick = Math.floorDiv(nowMs - startMs, tickMs);
+        // Beyond one revolution every bucket is visited once anyway
+        long lastTick = Math.min(nowTick, currentTick + buckets.size());
+        List<K> due = new ArrayList<>();
+        for (long tick = currentTick + 1; tick <= lastTick; tick++) {
+            Iterator<Entry<K>> it = buckets.get((int) (tick % buckets.size())).iterator();
+            while (it.hasNext()) {
+                Entry<K> entry = it.next();
+                if (entry.deadlineTick() <= nowTick) {
+                    it.remove();
+                    size--;
+                    due.add(entry.key());
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, nowTick);
+        due.forEach(expired);
+    }
+
+    /**
+     * Number of scheduled keys.
+     */
+    public int size() {
+        return size;
+    }
+}
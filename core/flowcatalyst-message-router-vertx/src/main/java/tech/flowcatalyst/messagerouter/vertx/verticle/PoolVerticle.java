@@ -3,56 +3,98 @@ package tech.flowcatalyst.messagerouter.vertx.verticle;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.vertx.core.AbstractVerticle;
-import io.vertx.core.DeploymentOptions;
-import io.vertx.core.ThreadingModel;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import org.jboss.logging.Logger;
 import tech.flowcatalyst.messagerouter.metrics.PoolMetricsService;
+import tech.flowcatalyst.messagerouter.vertx.channel.MediatorChannels;
 import tech.flowcatalyst.messagerouter.vertx.channel.PoolChannels;
+import tech.flowcatalyst.messagerouter.vertx.channel.RouterChannels;
 import tech.flowcatalyst.messagerouter.vertx.message.RouterMessages.*;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * Pool verticle that manages message groups via dynamic worker verticle deployment.
+ * Pool verticle that schedules message groups as lightweight actors.
  * <p>
  * Pure actor model - no Semaphores, no synchronized blocks, no BlockingQueues.
- * Concurrency is controlled by the number of deployed GroupWorkerVerticles.
+ * Each message group is a plain mailbox owned by this verticle; there is no
+ * verticle deployment, event-bus consumer or timer per group. Concurrency is
+ * controlled by the number of worker slots: a group with messages waits in the
+ * ready queue until a slot is free, then one message is processed on a virtual
+ * thread. When it completes the group goes to the back of the ready queue if it
+ * has more messages, so groups share slots fairly and stay FIFO internally.
  * <p>
  * Owns:
  * <ul>
- *   <li>Worker deployment tracking (groupId → deploymentId)</li>
- *   <li>Pending queue for messages when at concurrency limit</li>
+ *   <li>Group mailboxes (groupId → pending messages)</li>
+ *   <li>Ready queue of groups waiting for a worker slot</li>
  *   <li>Failed batch tracking for FIFO ordering</li>
+ *   <li>Idle group eviction via one shared {@link HashedWheel}</li>
  *   <li>Rate limiter (optional)</li>
  * </ul>
  * <p>
- * Threading: Event Loop (non-blocking). Workers run on Virtual Threads.
+ * Threading: all state is touched only on this verticle's context. Mediation runs
+ * on virtual threads, which hand their result back with {@code runOnContext}.
  */
 public class PoolVerticle extends AbstractVerticle {
 
     private static final Logger LOG = Logger.getLogger(PoolVerticle.class);
 
+    private static final String DEFAULT_GROUP = "__DEFAULT__";
+    private static final long IDLE_TIMEOUT_MS = 5 * 60 * 1000; // 5 minutes
+    private static final long WHEEL_TICK_MS = 1_000;
+    private static final int WHEEL_SIZE = 512;
+    private static final long RATE_LIMIT_RETRY_MS = 1_000;
+
+    /**
+     * Mailbox and scheduling state of one message group.
+     */
+    private static final class Group {
+        final String groupId;
+        final ArrayDeque<PoolMessage> mailbox = new ArrayDeque<>(4);
+        boolean running;
+        boolean ready;
+        boolean inWheel;
+        long idleSince;
+
+        Group(String groupId) {
+            this.groupId = groupId;
+        }
+
+        boolean isIdle() {
+            return !running && mailbox.isEmpty();
+        }
+    }
+
     // === OWNED STATE (plain collections - single threaded verticle) ===
     private String poolCode;
     private int maxConcurrency;
+    private long idleTimeoutMs;
+
+    private final Map<String, Group> groups = new HashMap<>();
 
-    // groupId → deploymentId of worker verticle
-    private final Map<String, String> workerDeployments = new HashMap<>();
+    // Groups with messages waiting for a worker slot, in arrival order
+    private final ArrayDeque<Group> readyGroups = new ArrayDeque<>();
 
-    // Messages waiting for a worker slot (when at max concurrency)
-    private final Queue<PoolMessage> pendingMessages = new LinkedList<>();
+    // Idle groups, evicted once idle for idleTimeoutMs
+    private HashedWheel<Group> idleWheel;
 
-    // Groups waiting for a worker slot
-    private final Set<String> pendingGroups = new HashSet<>();
+    private int runningWorkers;
+    private int pendingMessages;
 
     // Failed batch+group tracking for FIFO ordering
     private final Set<String> failedBatchGroups = new HashSet<>();
 
     // Rate limiter (optional)
     private RateLimiter rateLimiter;
+    private boolean rateLimitRetryScheduled;
+
+    private ExecutorService workers;
+    private boolean stopped;
 
     private final PoolMetricsService poolMetrics;
 
@@ -65,6 +107,7 @@ public class PoolVerticle extends AbstractVerticle {
         JsonObject config = config();
         this.poolCode = config.getString("code");
         this.maxConcurrency = config.getInteger("concurrency", 10);
+        this.idleTimeoutMs = config.getLong("groupIdleTimeoutMs", IDLE_TIMEOUT_MS);
 
         Integer rateLimitPerMinute = config.getInteger("rateLimitPerMinute");
         if (rateLimitPerMinute != null && rateLimitPerMinute > 0) {
@@ -74,16 +117,18 @@ public class PoolVerticle extends AbstractVerticle {
         LOG.infof("PoolVerticle [%s] starting with concurrency=%d, rateLimit=%s",
                 poolCode, maxConcurrency, rateLimitPerMinute);
 
+        this.workers = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("pool-" + poolCode + "-worker-", 0).factory());
+        long wheelTickMs = Math.max(Math.min(WHEEL_TICK_MS, idleTimeoutMs), 1);
+        this.idleWheel = new HashedWheel<>(wheelTickMs, WHEEL_SIZE, System.currentTimeMillis());
+
         // Listen for messages and config updates
         PoolChannels.Address poolAddress = PoolChannels.address(poolCode);
         poolAddress.messages(vertx).consumer(this::handleMessage);
         poolAddress.config(vertx).consumer(this::handleConfigUpdate);
 
-        // Listen for worker lifecycle events
-        vertx.eventBus().<GroupWorkerVerticle.WorkerIdle>consumer(
-                "pool." + poolCode + ".workerIdle", this::handleWorkerIdle);
-        vertx.eventBus().<GroupWorkerVerticle.BatchGroupFailed>consumer(
-                "pool." + poolCode + ".batchGroupFailed", this::handleBatchGroupFailed);
+        // One shared timer drives idle eviction for all groups
+        vertx.setPeriodic(wheelTickMs, id -> evictIdleGroups());
 
         // Periodic cleanup of failed batch groups (every 5 minutes)
         vertx.setPeriodic(300_000, id -> failedBatchGroups.clear());
@@ -96,219 +141,238 @@ public class PoolVerticle extends AbstractVerticle {
 
     @Override
     public void stop() {
-        LOG.infof("PoolVerticle [%s] stopping, undeploying %d workers", poolCode, workerDeployments.size());
-
-        // Undeploy all workers
-        for (String deploymentId : workerDeployments.values()) {
-            vertx.undeploy(deploymentId);
-        }
-        workerDeployments.clear();
+        LOG.infof("PoolVerticle [%s] stopping with %d running workers and %d pending messages",
+                poolCode, runningWorkers, pendingMessages);
+        stopped = true;
+        // In-flight mediations finish; pending messages return to the queue after visibility timeout
+        workers.shutdown();
+        groups.clear();
+        readyGroups.clear();
     }
 
     // === MESSAGE HANDLING ===
 
     private void handleMessage(Message<PoolMessage> msg) {
         PoolMessage message = msg.body();
-        String groupId = message.messageGroupId() != null ? message.messageGroupId() : "__DEFAULT__";
-        String batchId = message.batchId();
+        String groupId = groupIdOf(message);
 
         // Check batch+group FIFO failure
-        String batchGroupKey = batchId + "|" + groupId;
-        if (failedBatchGroups.contains(batchGroupKey)) {
-            LOG.debugf("Batch+group [%s] previously failed, NACKing message [%s]", batchGroupKey, message.sqsMessageId());
-            msg.fail(1, "Batch+group failed");
-            return;
-        }
-
-        // Check rate limit
-        if (rateLimiter != null && !rateLimiter.acquirePermission()) {
-            LOG.debugf("Rate limit exceeded for pool [%s], queueing message [%s]", poolCode, message.sqsMessageId());
-            pendingMessages.offer(message);
-            poolMetrics.recordRateLimitExceeded(poolCode);
-            msg.reply(new OkReply()); // Acknowledge receipt, will process later
+        if (isFailedBatchGroup(message, groupId)) {
+            LOG.debugf("Batch+group [%s|%s] previously failed, NACKing message [%s]",
+                    message.batchId(), groupId, message.sqsMessageId());
+            nackFailedBatchGroup(message);
+            msg.reply(new OkReply());
             return;
         }
 
-        // Check if worker exists for this group
-        if (workerDeployments.containsKey(groupId)) {
-            // Worker exists - route message to it
-            routeToWorker(groupId, message, msg);
-            return;
-        }
-
-        // Need to deploy new worker - check concurrency limit
-        if (workerDeployments.size() >= maxConcurrency) {
-            // At capacity - queue message and group
-            LOG.debugf("Pool [%s] at max concurrency (%d), queueing message for group [%s]",
-                    poolCode, maxConcurrency, groupId);
-            pendingMessages.offer(message);
-            pendingGroups.add(groupId);
-            msg.reply(new OkReply()); // Acknowledge receipt, will process when slot available
-            return;
-        }
-
-        // Deploy new worker for this group
-        deployWorker(groupId, message, msg);
-    }
+        Group group = groups.computeIfAbsent(groupId, Group::new);
+        group.mailbox.offer(message);
+        pendingMessages++;
+        poolMetrics.recordMessageSubmitted(poolCode);
+        markReady(group);
+        msg.reply(new OkReply());
 
-    private void deployWorker(String groupId, PoolMessage firstMessage, Message<PoolMessage> originalMsg) {
-        LOG.debugf("Deploying worker for pool [%s] group [%s]", poolCode, groupId);
-
-        JsonObject workerConfig = new JsonObject()
-                .put("poolCode", poolCode)
-                .put("groupId", groupId);
-
-        DeploymentOptions options = new DeploymentOptions()
-                .setThreadingModel(ThreadingModel.VIRTUAL_THREAD)
-                .setConfig(workerConfig);
-
-        vertx.deployVerticle(new GroupWorkerVerticle(), options)
-                .onSuccess(deploymentId -> {
-                    workerDeployments.put(groupId, deploymentId);
-                    LOG.infof("Worker deployed for pool [%s] group [%s], deployment: %s",
-                            poolCode, groupId, deploymentId);
-
-                    // Route the first message
-                    routeToWorker(groupId, firstMessage, originalMsg);
-
-                    // Worker deployed - concurrency count updated via updateMetrics()
-                })
-                .onFailure(err -> {
-                    LOG.errorf("Failed to deploy worker for pool [%s] group [%s]: %s",
-                            poolCode, groupId, err.getMessage());
-                    originalMsg.fail(2, "Worker deployment failed");
-                });
+        dispatchReadyGroups();
     }
 
-    private void routeToWorker(String groupId, PoolMessage message, Message<PoolMessage> originalMsg) {
-        String address = "pool." + poolCode + ".group." + groupId;
-
-        vertx.eventBus().<OkReply>request(address, message)
-                .onSuccess(reply -> {
-                    poolMetrics.recordMessageSubmitted(poolCode);
-                    originalMsg.reply(new OkReply());
-                })
-                .onFailure(err -> {
-                    LOG.warnf("Failed to route message to worker [%s]: %s", groupId, err.getMessage());
-                    originalMsg.fail(3, "Routing failed");
-                });
+    private void markReady(Group group) {
+        if (!group.running && !group.ready && !group.mailbox.isEmpty()) {
+            group.ready = true;
+            readyGroups.offer(group);
+        }
     }
 
-    // === WORKER LIFECYCLE ===
+    /**
+     * Hand ready groups to free worker slots.
+     */
+    private void dispatchReadyGroups() {
+        while (!stopped && runningWorkers < maxConcurrency && !readyGroups.isEmpty()) {
+            Group group = readyGroups.peek();
+            PoolMessage message = nextProcessableMessage(group);
+            if (message == null) {
+                readyGroups.poll();
+                group.ready = false;
+                onGroupIdle(group);
+                continue;
+            }
 
-    private void handleWorkerIdle(Message<GroupWorkerVerticle.WorkerIdle> msg) {
-        GroupWorkerVerticle.WorkerIdle idle = msg.body();
-        String groupId = idle.groupId();
-        String deploymentId = idle.deploymentId();
+            if (rateLimiter != null && !rateLimiter.acquirePermission()) {
+                LOG.debugf("Rate limit exceeded for pool [%s], deferring message [%s]", poolCode, message.sqsMessageId());
+                poolMetrics.recordRateLimitExceeded(poolCode);
+                scheduleRateLimitRetry();
+                return;
+            }
 
-        LOG.debugf("Worker idle notification for pool [%s] group [%s]", poolCode, groupId);
+            readyGroups.poll();
+            group.ready = false;
+            group.mailbox.poll();
+            pendingMessages--;
+            group.running = true;
+            runningWorkers++;
+            workers.execute(() -> process(group, message));
+        }
+    }
 
-        // Verify this is still the active deployment for this group
-        String currentDeploymentId = workerDeployments.get(groupId);
-        if (currentDeploymentId == null || !currentDeploymentId.equals(deploymentId)) {
-            LOG.debugf("Ignoring stale idle notification for group [%s]", groupId);
-            return;
+    /**
+     * Next message of a group that should be mediated; messages of failed batch+groups
+     * are NACKed and skipped.
+     */
+    private PoolMessage nextProcessableMessage(Group group) {
+        PoolMessage message;
+        while ((message = group.mailbox.peek()) != null && isFailedBatchGroup(message, group.groupId)) {
+            group.mailbox.poll();
+            pendingMessages--;
+            LOG.debugf("Batch+group [%s|%s] previously failed, NACKing queued message [%s]",
+                    message.batchId(), group.groupId, message.sqsMessageId());
+            nackFailedBatchGroup(message);
         }
+        return message;
+    }
 
-        // Undeploy the worker
-        vertx.undeploy(deploymentId)
-                .onSuccess(v -> {
-                    workerDeployments.remove(groupId);
-                    LOG.infof("Worker undeployed for pool [%s] group [%s]", poolCode, groupId);
-                    // Worker undeployed - concurrency count updated via updateMetrics()
-
-                    // Check if there are pending messages/groups waiting for a slot
-                    processPendingQueue();
-                })
-                .onFailure(err -> {
-                    LOG.warnf("Failed to undeploy worker for group [%s]: %s", groupId, err.getMessage());
-                    // Remove from tracking anyway
-                    workerDeployments.remove(groupId);
-                    processPendingQueue();
-                });
+    private void scheduleRateLimitRetry() {
+        if (!rateLimitRetryScheduled) {
+            rateLimitRetryScheduled = true;
+            vertx.setTimer(RATE_LIMIT_RETRY_MS, id -> {
+                rateLimitRetryScheduled = false;
+                dispatchReadyGroups();
+            });
+        }
     }
 
-    private void handleBatchGroupFailed(Message<GroupWorkerVerticle.BatchGroupFailed> msg) {
-        GroupWorkerVerticle.BatchGroupFailed failed = msg.body();
-        String batchGroupKey = failed.batchId() + "|" + failed.groupId();
-        failedBatchGroups.add(batchGroupKey);
-        LOG.debugf("Marked batch+group [%s] as failed for FIFO ordering", batchGroupKey);
+    /**
+     * Called on this verticle's context when a worker finishes a message.
+     */
+    private void onProcessed(Group group, PoolMessage message, boolean failed) {
+        runningWorkers--;
+        group.running = false;
+
+        if (failed && message.batchId() != null) {
+            String batchGroupKey = message.batchId() + "|" + group.groupId;
+            failedBatchGroups.add(batchGroupKey);
+            LOG.debugf("Marked batch+group [%s] as failed for FIFO ordering", batchGroupKey);
+        }
+
+        if (group.mailbox.isEmpty()) {
+            onGroupIdle(group);
+        } else {
+            markReady(group);
+        }
+        dispatchReadyGroups();
     }
 
-    private void processPendingQueue() {
-        // Process pending groups first (they need new workers)
-        while (!pendingGroups.isEmpty() && workerDeployments.size() < maxConcurrency) {
-            String groupId = pendingGroups.iterator().next();
-            pendingGroups.remove(groupId);
-
-            // Find first message for this group
-            PoolMessage message = findAndRemoveMessageForGroup(groupId);
-            if (message != null) {
-                // Deploy worker and route message
-                deployWorkerForPending(groupId, message);
+    // === WORKER ===
+
+    /**
+     * Mediate one message and ACK/NACK it. Runs on a virtual thread.
+     */
+    private void process(Group group, PoolMessage message) {
+        long startTime = System.currentTimeMillis();
+        boolean failed = false;
+        poolMetrics.recordProcessingStarted(poolCode);
+
+        try {
+            MediationRequest request = new MediationRequest(
+                    message.id(),
+                    message.sqsMessageId(),
+                    message.authToken(),
+                    message.mediationType(),
+                    message.mediationTarget(),
+                    message.messageGroupId()
+            );
+
+            // Blocking request-reply to mediator (fine on virtual thread)
+            MediationResult result = MediatorChannels.address(poolCode)
+                    .mediate(vertx)
+                    .requestBlocking(request);
+
+            long durationMs = System.currentTimeMillis() - startTime;
+            switch (result.outcome()) {
+                case SUCCESS -> {
+                    LOG.debugf("Message [%s] processed successfully in %dms", message.sqsMessageId(), durationMs);
+                    poolMetrics.recordProcessingSuccess(poolCode, durationMs);
+                    sendAck(message.sqsMessageId());
+                }
+                case NACK -> {
+                    LOG.debugf("Message [%s] NACKed with delay %ds", message.sqsMessageId(), result.delaySeconds());
+                    poolMetrics.recordProcessingFailure(poolCode, durationMs, "NACK");
+                    sendNack(message.sqsMessageId(), result.delaySeconds());
+                    failed = true;
+                }
+                case ERROR_CONFIG -> {
+                    // Configuration error - ACK to remove from queue (won't succeed on retry)
+                    LOG.warnf("Message [%s] has config error, ACKing to remove", message.sqsMessageId());
+                    poolMetrics.recordProcessingFailure(poolCode, durationMs, "ERROR_CONFIG");
+                    sendAck(message.sqsMessageId());
+                }
             }
+        } catch (Exception e) {
+            long durationMs = System.currentTimeMillis() - startTime;
+            LOG.warnf("Mediation failed for message [%s]: %s", message.sqsMessageId(), e.getMessage());
+            poolMetrics.recordProcessingFailure(poolCode, durationMs, e.getClass().getSimpleName());
+            sendNack(message.sqsMessageId(), 30);
+            failed = true;
+        } finally {
+            poolMetrics.recordProcessingFinished(poolCode);
         }
 
-        // Process any remaining pending messages (for existing groups)
-        while (!pendingMessages.isEmpty()) {
-            PoolMessage message = pendingMessages.peek();
-            String groupId = message.messageGroupId() != null ? message.messageGroupId() : "__DEFAULT__";
-
-            if (workerDeployments.containsKey(groupId)) {
-                // Worker exists - route directly
-                pendingMessages.poll();
-                routeToWorkerDirect(groupId, message);
-            } else if (workerDeployments.size() < maxConcurrency) {
-                // Can deploy new worker
-                pendingMessages.poll();
-                deployWorkerForPending(groupId, message);
-            } else {
-                // Still at capacity, stop processing
-                break;
-            }
+        boolean groupFailed = failed;
+        context.runOnContext(v -> onProcessed(group, message, groupFailed));
+    }
+
+    private void sendAck(String sqsMessageId) {
+        try {
+            RouterChannels.ack(vertx).requestBlocking(new AckRequest(sqsMessageId));
+        } catch (Exception e) {
+            LOG.errorf("Failed to send ACK for [%s]: %s", sqsMessageId, e.getMessage());
         }
     }
 
-    private PoolMessage findAndRemoveMessageForGroup(String groupId) {
-        Iterator<PoolMessage> it = pendingMessages.iterator();
-        while (it.hasNext()) {
-            PoolMessage msg = it.next();
-            String msgGroupId = msg.messageGroupId() != null ? msg.messageGroupId() : "__DEFAULT__";
-            if (msgGroupId.equals(groupId)) {
-                it.remove();
-                return msg;
-            }
+    private void sendNack(String sqsMessageId, int delaySeconds) {
+        try {
+            RouterChannels.nack(vertx).requestBlocking(new NackRequest(sqsMessageId, delaySeconds));
+        } catch (Exception e) {
+            LOG.errorf("Failed to send NACK for [%s]: %s", sqsMessageId, e.getMessage());
         }
-        return null;
     }
 
-    private void deployWorkerForPending(String groupId, PoolMessage message) {
-        JsonObject workerConfig = new JsonObject()
-                .put("poolCode", poolCode)
-                .put("groupId", groupId);
-
-        DeploymentOptions options = new DeploymentOptions()
-                .setThreadingModel(ThreadingModel.VIRTUAL_THREAD)
-                .setConfig(workerConfig);
-
-        vertx.deployVerticle(new GroupWorkerVerticle(), options)
-                .onSuccess(deploymentId -> {
-                    workerDeployments.put(groupId, deploymentId);
-                    routeToWorkerDirect(groupId, message);
-                    // Worker deployed - concurrency count updated via updateMetrics()
-                })
-                .onFailure(err -> {
-                    LOG.errorf("Failed to deploy worker for pending group [%s]: %s", groupId, err.getMessage());
-                    // Message is lost - could re-queue or NACK
-                });
+    /**
+     * NACK a message skipped because an earlier message of its batch+group failed.
+     * Async - called on the verticle context.
+     */
+    private void nackFailedBatchGroup(PoolMessage message) {
+        RouterChannels.nack(vertx).request(new NackRequest(message.sqsMessageId(), 0))
+                .onFailure(err -> LOG.errorf("Failed to send NACK for [%s]: %s",
+                        message.sqsMessageId(), err.getMessage()));
     }
 
-    private void routeToWorkerDirect(String groupId, PoolMessage message) {
-        String address = "pool." + poolCode + ".group." + groupId;
-        vertx.eventBus().request(address, message)
-                .onSuccess(reply -> poolMetrics.recordMessageSubmitted(poolCode))
-                .onFailure(err -> LOG.warnf("Failed to route pending message to worker [%s]: %s",
-                        groupId, err.getMessage()));
+    // === IDLE EVICTION ===
+
+    private void onGroupIdle(Group group) {
+        group.idleSince = System.currentTimeMillis();
+        if (!group.inWheel) {
+            group.inWheel = true;
+            idleWheel.schedule(group, group.idleSince + idleTimeoutMs);
+        }
+    }
+
+    private void evictIdleGroups() {
+        long now = System.currentTimeMillis();
+        idleWheel.advance(now, group -> {
+            group.inWheel = false;
+            if (!group.isIdle() || groups.get(group.groupId) != group) {
+                // Busy again - rescheduled when it next goes idle
+                return;
+            }
+            long deadline = group.idleSince + idleTimeoutMs;
+            if (deadline <= now) {
+                groups.remove(group.groupId);
+                LOG.debugf("Evicted idle group [%s] from pool [%s]", group.groupId, poolCode);
+            } else {
+                // Was active and went idle again since it was scheduled
+                group.inWheel = true;
+                idleWheel.schedule(group, deadline);
+            }
+        });
     }
 
     // === CONFIG UPDATE ===
@@ -331,23 +395,27 @@ public class PoolVerticle extends AbstractVerticle {
         LOG.infof("Pool [%s] config updated: concurrency=%d, rateLimit=%s",
                 poolCode, maxConcurrency, newRateLimit);
 
-        // Process pending queue in case concurrency increased
-        processPendingQueue();
+        // Dispatch waiting groups in case concurrency increased
+        dispatchReadyGroups();
     }
 
     // === METRICS ===
 
     private void updateMetrics() {
-        int activeWorkers = workerDeployments.size();
-        int availableSlots = maxConcurrency - activeWorkers;
-        int pendingCount = pendingMessages.size();
-        int pendingGroupCount = pendingGroups.size();
-
-        poolMetrics.updatePoolGauges(poolCode, activeWorkers, availableSlots, pendingCount, pendingGroupCount);
+        int availableSlots = Math.max(maxConcurrency - runningWorkers, 0);
+        poolMetrics.updatePoolGauges(poolCode, runningWorkers, availableSlots, pendingMessages, readyGroups.size());
     }
 
     // === HELPERS ===
 
+    private static String groupIdOf(PoolMessage message) {
+        return message.messageGroupId() != null ? message.messageGroupId() : DEFAULT_GROUP;
+    }
+
+    private boolean isFailedBatchGroup(PoolMessage message, String groupId) {
+        return message.batchId() != null && failedBatchGroups.contains(message.batchId() + "|" + groupId);
+    }
+
     private RateLimiter createRateLimiter(int limitPerMinute) {
         RateLimiterConfig config = RateLimiterConfig.custom()
                 .limitRefreshPeriod(Duration.ofMinutes(1))
@@ -365,14 +433,18 @@ public class PoolVerticle extends AbstractVerticle {
     }
 
     public int getActiveWorkers() {
-        return workerDeployments.size();
+        return runningWorkers;
     }
 
     public int getPendingCount() {
-        return pendingMessages.size();
+        return pendingMessages;
     }
 
     public int getAvailableSlots() {
-        return maxConcurrency - workerDeployments.size();
+        return maxConcurrency - runningWorkers;
+    }
+
+    public int getGroupCount() {
+        return groups.size();
     }
 }
@@ -0,0 +1,176 @@
+package tech.flowcatalyst.messagerouter.vertx;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.messagerouter.model.InFlightMessage;
+import tech.flowcatalyst.messagerouter.model.MediationType;
+import tech.flowcatalyst.messagerouter.vertx.codec.BinaryCodecs;
+import tech.flowcatalyst.messagerouter.vertx.codec.BinaryMessageCodec;
+import tech.flowcatalyst.messagerouter.vertx.message.RouterMessages;
+import tech.flowcatalyst.messagerouter.vertx.message.RouterMessages.*;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the binary event bus codecs - encode/decode round trips for every
+ * message type, null handling, and the versioned type header.
+ */
+class BinaryMessageCodecTest {
+
+    private static <T> T roundTrip(BinaryMessageCodec<T> codec, T message) {
+        // Leading bytes stand in for the event bus envelope written before the body
+        Buffer buffer = Buffer.buffer().appendString("envelope");
+        codec.encodeToWire(buffer, message);
+        return codec.decodeFromWire("envelope".length(), buffer);
+    }
+
+    private static <T> void assertRoundTrip(BinaryMessageCodec<T> codec, T message) {
+        assertEquals(message, roundTrip(codec, message));
+    }
+
+    // ==================== Coverage ====================
+
+    @Test
+    void shouldHaveCodecForEveryMessageRecord() {
+        Set<Class<?>> records = Arrays.stream(RouterMessages.class.getDeclaredClasses())
+                .filter(Class::isRecord)
+                .collect(Collectors.toSet());
+        Set<Class<?>> covered = BinaryCodecs.all().stream()
+                .map(BinaryMessageCodec::type)
+                .collect(Collectors.toSet());
+
+        assertEquals(records, covered);
+    }
+
+    @Test
+    void shouldUseUniqueTypeIds() {
+        List<Integer> typeIds = BinaryCodecs.all().stream().map(BinaryMessageCodec::typeId).toList();
+
+        assertEquals(typeIds.size(), Set.copyOf(typeIds).size());
+    }
+
+    // ==================== Router Messages ====================
+
+    @Test
+    void shouldRoundTripBatchRequest() {
+        QueuedMessage full = new QueuedMessage("msg-1", "sqs-1", "POOL-A", "token", MediationType.HTTP,
+                "https://example.com/hook", "group-1", "https://sqs/queue", "receipt-1");
+        QueuedMessage sparse = new QueuedMessage("msg-2", "sqs-2", "POOL-A", null, MediationType.HTTP,
+                "https://example.com/hook", null, null, null);
+
+        assertRoundTrip(BinaryCodecs.BATCH_REQUEST, new BatchRequest(List.of(full, sparse), "queue-1"));
+        assertRoundTrip(BinaryCodecs.BATCH_REQUEST, new BatchRequest(List.of(), null));
+        assertRoundTrip(BinaryCodecs.BATCH_REQUEST, new BatchRequest(null, "queue-1"));
+        assertRoundTrip(BinaryCodecs.QUEUED_MESSAGE, full);
+        assertRoundTrip(BinaryCodecs.QUEUED_MESSAGE, sparse);
+    }
+
+    @Test
+    void shouldRoundTripAckAndNack() {
+        assertRoundTrip(BinaryCodecs.ACK_REQUEST, new AckRequest("sqs-1"));
+        assertRoundTrip(BinaryCodecs.ACK_REQUEST, new AckRequest(null));
+        assertRoundTrip(BinaryCodecs.NACK_REQUEST, new NackRequest("sqs-1", 30));
+        assertRoundTrip(BinaryCodecs.NACK_REQUEST, new NackRequest("sqs-1", 0));
+        assertRoundTrip(BinaryCodecs.NACK_REQUEST, new NackRequest("sqs-1", -1));
+        assertRoundTrip(BinaryCodecs.NACK_REQUEST, new NackRequest("sqs-1", Integer.MAX_VALUE));
+    }
+
+    @Test
+    void shouldRoundTripInFlightQueries() {
+        assertRoundTrip(BinaryCodecs.IN_FLIGHT_QUERY, new InFlightQuery(100, "POOL-A"));
+        assertRoundTrip(BinaryCodecs.IN_FLIGHT_QUERY, new InFlightQuery(-1, null));
+
+        InFlightMessage message = new InFlightMessage("msg-1", "sqs-1", "queue-1",
+                Instant.parse("2026-01-02T03:04:05.123456789Z"), 5_000, "POOL-A");
+        InFlightMessage sparse = new InFlightMessage(null, null, null, null, 0, null);
+        assertRoundTrip(BinaryCodecs.IN_FLIGHT_QUERY_RESULT, new InFlightQueryResult(List.of(message, sparse)));
+        assertRoundTrip(BinaryCodecs.IN_FLIGHT_QUERY_RESULT, new InFlightQueryResult(null));
+    }
+
+    @Test
+    void shouldRoundTripPoolStatsResult() {
+        assertRoundTrip(BinaryCodecs.POOL_STATS_RESULT, new PoolStatsResult(Set.of("POOL-A", "POOL-B")));
+        assertRoundTrip(BinaryCodecs.POOL_STATS_RESULT, new PoolStatsResult(Set.of()));
+        assertRoundTrip(BinaryCodecs.POOL_STATS_RESULT, new PoolStatsResult(null));
+    }
+
+    // ==================== Pool Messages ====================
+
+    @Test
+    void shouldRoundTripPoolMessage() {
+        assertRoundTrip(BinaryCodecs.POOL_MESSAGE, new PoolMessage("msg-1", "sqs-1", "POOL-A", "token",
+                MediationType.HTTP, "https://example.com/hook", "group-1", "batch-1"));
+        assertRoundTrip(BinaryCodecs.POOL_MESSAGE, new PoolMessage("msg-1", "sqs-1", "POOL-A", null,
+                null, "https://example.com/hook", null, null));
+    }
+
+    @Test
+    void shouldRoundTripPoolConfigAndResults() {
+        assertRoundTrip(BinaryCodecs.POOL_CONFIG_UPDATE, new PoolConfigUpdate(10, 600));
+        assertRoundTrip(BinaryCodecs.POOL_CONFIG_UPDATE, new PoolConfigUpdate(10, null));
+        assertRoundTrip(BinaryCodecs.ACCEPTED, new Accepted());
+        assertRoundTrip(BinaryCodecs.REJECTED, new Rejected("Pool at capacity"));
+        assertRoundTrip(BinaryCodecs.CONFIG_UPDATED, new ConfigUpdated());
+        assertRoundTrip(BinaryCodecs.CONFIG_FAILED, new ConfigFailed("Invalid concurrency"));
+        assertRoundTrip(BinaryCodecs.CONFIG_FAILED, new ConfigFailed(null));
+    }
+
+    // ==================== Mediator Messages ====================
+
+    @Test
+    void shouldRoundTripMediation() {
+        assertRoundTrip(BinaryCodecs.MEDIATION_REQUEST, new MediationRequest("msg-1", "sqs-1", "token",
+                MediationType.HTTP, "https://example.com/hook", "group-1"));
+        assertRoundTrip(BinaryCodecs.MEDIATION_REQUEST, new MediationRequest("msg-1", "sqs-1", null,
+                MediationType.HTTP, "https://example.com/hook", null));
+        assertRoundTrip(BinaryCodecs.MEDIATION_RESULT, MediationResult.success());
+        assertRoundTrip(BinaryCodecs.MEDIATION_RESULT, MediationResult.nack(30, "HTTP 503"));
+        assertRoundTrip(BinaryCodecs.MEDIATION_RESULT, MediationResult.configError("HTTP 404"));
+        assertRoundTrip(BinaryCodecs.OK_REPLY, new OkReply());
+    }
+
+    @Test
+    void shouldRoundTripNonAsciiStrings() {
+        String reason = "Zürich → 東京 🚀";
+
+        assertRoundTrip(BinaryCodecs.REJECTED, new Rejected(reason));
+        assertRoundTrip(BinaryCodecs.REJECTED, new Rejected("x".repeat(70_000)));
+    }
+
+    // ==================== Header ====================
+
+    @Test
+    void shouldRejectMessageEncodedForAnotherType() {
+        Buffer buffer = Buffer.buffer();
+        BinaryCodecs.ACK_REQUEST.encodeToWire(buffer, new AckRequest("sqs-1"));
+
+        assertThrows(IllegalStateException.class, () -> BinaryCodecs.REJECTED.decodeFromWire(0, buffer));
+    }
+
+    @Test
+    void shouldIgnoreFieldsAppendedByNewerVersion() {
+        Buffer buffer = Buffer.buffer();
+        BinaryCodecs.NACK_REQUEST.encodeToWire(buffer, new NackRequest("sqs-1", 30));
+        // A newer writer with an extra trailing field
+        buffer.setByte(1, (byte) (BinaryCodecs.NACK_REQUEST.version() + 1));
+        buffer.appendLong(42L);
+
+        assertEquals(new NackRequest("sqs-1", 30), BinaryCodecs.NACK_REQUEST.decodeFromWire(0, buffer));
+    }
+
+    @Test
+    void shouldWriteHeaderBeforeFields() {
+        Buffer buffer = Buffer.buffer();
+        BinaryCodecs.OK_REPLY.encodeToWire(buffer, new OkReply());
+
+        assertEquals(2, buffer.length());
+        assertEquals(BinaryCodecs.OK_REPLY.typeId(), buffer.getByte(0));
+        assertEquals(BinaryCodecs.OK_REPLY.version(), buffer.getByte(1));
+    }
+}
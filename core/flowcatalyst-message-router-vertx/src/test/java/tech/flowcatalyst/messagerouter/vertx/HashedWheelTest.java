@@ -0,0 +1,84 @@
+package tech.flowcatalyst.messagerouter.vertx;
+
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.messagerouter.vertx.verticle.HashedWheel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HashedWheel - deadline rounding, multi-revolution deadlines and
+ * rescheduling from the expiry callback.
+ */
+class HashedWheelTest {
+
+    @Test
+    void shouldExpireKeysOnceTheirDeadlinePasses() {
+        HashedWheel<String> wheel = new HashedWheel<>(100, 8, 0);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 500);
+
+        wheel.advance(299, expired::add);
+        assertTrue(expired.isEmpty(), "Deadlines are rounded up to the next tick");
+
+        wheel.advance(300, expired::add);
+        assertEquals(List.of("a"), expired);
+        assertEquals(1, wheel.size());
+
+        wheel.advance(500, expired::add);
+        assertEquals(List.of("a", "b"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldKeepDeadlinesBeyondOneRevolution() {
+        HashedWheel<String> wheel = new HashedWheel<>(100, 4, 0);
+        List<String> expired = new ArrayList<>();
+
+        // Tick 10 shares a bucket with tick 2
+        wheel.schedule("far", 1_000);
+
+        wheel.advance(200, expired::add);
+        wheel.advance(600, expired::add);
+        assertTrue(expired.isEmpty(), "Key should survive passes over its bucket before its deadline");
+
+        wheel.advance(1_000, expired::add);
+        assertEquals(List.of("far"), expired);
+    }
+
+    @Test
+    void shouldExpireEverythingAfterALongPause() {
+        HashedWheel<Integer> wheel = new HashedWheel<>(10, 16, 0);
+        List<Integer> expired = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            wheel.schedule(i, i * 7L);
+        }
+
+        wheel.advance(10_000, expired::add);
+        assertEquals(100, expired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldNotExpireKeysRescheduledFromTheCallback() {
+        HashedWheel<String> wheel = new HashedWheel<>(100, 8, 0);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("a", 100);
+        wheel.advance(100, key -> {
+            expired.add(key);
+            wheel.schedule(key, 0);
+        });
+
+        assertEquals(List.of("a"), expired);
+        assertEquals(1, wheel.size());
+
+        wheel.advance(200, expired::add);
+        assertEquals(List.of("a", "a"), expired);
+    }
+}
@@ -109,14 +109,20 @@ class PoolVerticleTest {
             config.put("rateLimitPerMinute", rateLimitPerMinute);
         }
 
+        deployPoolAndWait(config);
+    }
+
+    private PoolVerticle deployPoolAndWait(JsonObject config) throws Exception {
         DeploymentOptions options = new DeploymentOptions()
                 .setThreadingModel(ThreadingModel.VIRTUAL_THREAD)
                 .setConfig(config);
 
-        poolDeploymentId = vertx.deployVerticle(new PoolVerticle(mockPoolMetrics), options)
+        PoolVerticle pool = new PoolVerticle(mockPoolMetrics);
+        poolDeploymentId = vertx.deployVerticle(pool, options)
                 .toCompletionStage()
                 .toCompletableFuture()
                 .get(10, TimeUnit.SECONDS);
+        return pool;
     }
 
     private void setupMediatorSuccess() {
@@ -377,6 +383,27 @@ class PoolVerticleTest {
         testContext.completeNow();
     }
 
+    @Test
+    void shouldEvictIdleGroups(VertxTestContext testContext) throws Exception {
+        setupMediatorSuccess();
+        PoolVerticle pool = deployPoolAndWait(new JsonObject()
+                .put("code", POOL_CODE)
+                .put("concurrency", 50)
+                .put("groupIdleTimeoutMs", 200));
+
+        // One message per group - groups are created on demand and evicted once idle
+        for (int i = 1; i <= 1000; i++) {
+            sendMessage("msg-idle-" + i, "group-" + i, null);
+        }
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() ->
+            assertEquals(1000, ackedMessages.size(), "All messages should be ACKed"));
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() ->
+            assertEquals(0, pool.getGroupCount(), "Idle groups should be evicted"));
+
+        testContext.completeNow();
+    }
+
     // ==================== Pool Configuration Tests ====================
 
     @Test
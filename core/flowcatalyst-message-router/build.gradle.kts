@@ -28,6 +28,7 @@ dependencies {
     // Shared modules
     implementation(project(":core:flowcatalyst-standby"))
     implementation(project(":core:flowcatalyst-queue-client"))
+    implementation(project(":core:flowcatalyst-concurrency"))
 
     // REST API
     implementation("io.quarkus:quarkus-rest")
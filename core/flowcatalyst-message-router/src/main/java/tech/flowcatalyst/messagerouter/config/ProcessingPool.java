@@ -2,11 +2,29 @@ package tech.flowcatalyst.messagerouter.config;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+/**
+ * Processing pool configuration.
+ *
+ * @param code pool code
+ * @param concurrency concurrent workers; the guaranteed minimum when pools share capacity
+ * @param rateLimitPerMinute optional pool-level rate limit
+ * @param weight optional share of spare capacity relative to other pools (shared capacity only, default 1)
+ * @param priority optional priority when borrowing spare capacity, higher first (shared capacity only, default 0)
+ */
 public record ProcessingPool(
     String code,
     Integer concurrency,
-    Integer rateLimitPerMinute
+    Integer rateLimitPerMinute,
+    Integer weight,
+    Integer priority
 ) {
+    /**
+     * Constructor without sharing settings (default weight and priority)
+     */
+    public ProcessingPool(String code, Integer concurrency, Integer rateLimitPerMinute) {
+        this(code, concurrency, rateLimitPerMinute, null, null);
+    }
+
     /**
      * Get effective concurrency - uses provided value or calculates from rate limit.
      *
@@ -25,4 +43,18 @@ public record ProcessingPool(
         }
         return 1; // Fallback default
     }
+
+    /**
+     * Get effective weight - the provided value if positive, else 1.
+     */
+    public int effectiveWeight() {
+        return weight != null && weight > 0 ? weight : 1;
+    }
+
+    /**
+     * Get effective priority - the provided value, else 0.
+     */
+    public int effectivePriority() {
+        return priority != null ? priority : 0;
+    }
 }
@@ -1,18 +1,21 @@
 package tech.flowcatalyst.messagerouter.consumer;
 
 import com.fasterxml.jackson.core.JsonParseException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.jboss.logging.Logger;
 import org.jboss.logging.MDC;
 import tech.flowcatalyst.messagerouter.callback.MessageCallback;
 import tech.flowcatalyst.messagerouter.manager.QueueManager;
 import tech.flowcatalyst.messagerouter.metrics.QueueMetricsService;
 import tech.flowcatalyst.messagerouter.model.MessagePointer;
+import tech.flowcatalyst.messagerouter.model.MessagePointerCodec;
 import tech.flowcatalyst.messagerouter.warning.WarningService;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -27,19 +30,29 @@ public abstract class AbstractQueueConsumer implements QueueConsumer {
     protected final QueueManager queueManager;
     protected final QueueMetricsService queueMetrics;
     protected final WarningService warningService;
-    protected final ObjectMapper objectMapper;
+    protected final MessagePointerCodec messagePointerCodec = MessagePointerCodec.getInstance();
     protected final ExecutorService executorService;
     protected final AtomicBoolean running = new AtomicBoolean(false);
     protected final AtomicLong lastPollTime = new AtomicLong(0);
     protected final int connections;
+    protected final AdaptivePollerController pollerController;
+
+    // Pools this queue has routed to - used to report downstream capacity to the poller controller
+    private final Set<String> observedPoolCodes = ConcurrentHashMap.newKeySet();
 
     protected AbstractQueueConsumer(QueueManager queueManager, QueueMetricsService queueMetrics, WarningService warningService, int connections) {
+        this(queueManager, queueMetrics, warningService, AdaptivePollerController.fixed(null, connections));
+    }
+
+    protected AbstractQueueConsumer(QueueManager queueManager, QueueMetricsService queueMetrics, WarningService warningService,
+                                    AdaptivePollerController pollerController) {
         this.queueManager = queueManager;
         this.queueMetrics = queueMetrics;
         this.warningService = warningService;
-        this.connections = connections;
-        this.objectMapper = new ObjectMapper();
+        this.pollerController = pollerController;
+        this.connections = pollerController.maxLoops();
         this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        pollerController.setCapacitySource(this::availableDownstreamCapacity);
     }
 
     @Override
@@ -82,11 +95,11 @@ public abstract class AbstractQueueConsumer implements QueueConsumer {
      */
     protected void processMessageBatch(List<RawMessage> rawMessages) {
         String queueId = getQueueIdentifier();
-        int instanceId = System.identityHashCode(this);
+        // Per-message lifecycle is recorded by MessageLifecycleRecorder - only log details at DEBUG
+        boolean debug = LOG.isDebugEnabled();
 
-        if (!rawMessages.isEmpty()) {
-            LOG.warnf("==> QueueConsumer: Received %d message(s) from queue [%s] (instanceId=%d) <==",
-                rawMessages.size(), queueId, instanceId);
+        if (debug && !rawMessages.isEmpty()) {
+            LOG.debugf("Received %d message(s) from queue [%s]", rawMessages.size(), queueId);
         }
 
         var batchMessages = new ArrayList<QueueManager.BatchMessage>();
@@ -97,27 +110,27 @@ public abstract class AbstractQueueConsumer implements QueueConsumer {
         // Parse all messages and build batch
         for (RawMessage raw : rawMessages) {
             try {
-                // Parse message body to MessagePointer first (to get message ID and messageGroupId)
-                MessagePointer parsedMessage = objectMapper.readValue(raw.body(), MessagePointer.class);
+                // Parse message body to MessagePointer first (to get message ID and messageGroupId).
+                // The broker message ID is set while decoding, so this is the record that gets routed.
+                MessagePointer parsedMessage = raw.bodyBytes() != null
+                    ? messagePointerCodec.decode(raw.bodyBytes(), raw.sqsMessageId())
+                    : messagePointerCodec.decode(raw.body(), raw.sqsMessageId());
                 String messageId = parsedMessage.id();
                 String messageGroupId = parsedMessage.messageGroupId();  // Extract from MessagePointer body
+                if (parsedMessage.poolCode() != null) {
+                    observedPoolCodes.add(parsedMessage.poolCode());
+                }
 
-                LOG.warnf("==> QueueConsumer: *** MESSAGE ID: %s *** from queue [%s] - poolCode: %s, target: %s, messageGroupId: %s",
-                    messageId, queueId, parsedMessage.poolCode(), parsedMessage.mediationTarget(),
-                    messageGroupId != null ? messageGroupId : "NULL (will default to __DEFAULT__)");
+                if (debug) {
+                    LOG.debugf("Message [%s] from queue [%s] - poolCode: %s, target: %s, messageGroupId: %s",
+                        messageId, queueId, parsedMessage.poolCode(), parsedMessage.mediationTarget(),
+                        messageGroupId != null ? messageGroupId : "NULL (will default to __DEFAULT__)");
+                }
 
                 // Dedupe: If same message ID appears twice in batch, ACK the duplicate immediately
                 if (!seenMessageIds.add(messageId)) {
                     LOG.warnf("Duplicate message ID [%s] in same batch - ACKing duplicate to remove from queue", messageId);
-                    raw.callback().ack(new MessagePointer(
-                        messageId,
-                        parsedMessage.poolCode(),
-                        null,
-                        parsedMessage.mediationType(),
-                        parsedMessage.mediationTarget(),
-                        messageGroupId,
-                        null
-                    ));
+                    raw.callback().ack(parsedMessage);
                     continue;
                 }
 
@@ -134,20 +147,8 @@ public abstract class AbstractQueueConsumer implements QueueConsumer {
 
                 // Use the already-parsed MessagePointer directly (it already has messageGroupId and highPriority from JSON body)
                 // batchId is null here - it will be populated by QueueManager during routing
-                MessagePointer messagePointer = new MessagePointer(
-                    parsedMessage.id(),
-                    parsedMessage.poolCode(),
-                    parsedMessage.authToken(),
-                    parsedMessage.mediationType(),
-                    parsedMessage.mediationTarget(),
-                    messageGroupId,  // Use messageGroupId from MessagePointer JSON body
-                    parsedMessage.highPriority(),  // Use highPriority from MessagePointer JSON body (defaults to false)
-                    null  // batchId populated by QueueManager.routeMessageBatch()
-                );
-
-                // Add to batch
                 batchMessages.add(new QueueManager.BatchMessage(
-                    messagePointer,
+                    parsedMessage,
                     raw.callback(),
                     queueId,
                     raw.sqsMessageId()  // Pass SQS MessageId for pipeline tracking
@@ -155,15 +156,15 @@ public abstract class AbstractQueueConsumer implements QueueConsumer {
 
             } catch (JsonParseException e) {
                 // Malformed message - poison pill that will never parse correctly
+                String body = raw.bodyText();
                 LOG.warnf(e, "Malformed message from queue [%s], acknowledging to remove from queue: %s",
-                    queueId, raw.body().substring(0, Math.min(100, raw.body().length())));
+                    queueId, body.substring(0, Math.min(100, body.length())));
 
-                warningService.addWarning(
+                warningService.addWarningf(
                     "MALFORMED_MESSAGE",
                     "WARN",
-                    String.format("Malformed message from queue [%s]: %s",
-                        queueId, e.getMessage()),
-                    "AbstractQueueConsumer"
+                    "AbstractQueueConsumer",
+                    "Malformed message from queue [%s]: %s", queueId, e.getMessage()
                 );
 
                 queueMetrics.recordMessageProcessed(queueId, false);
@@ -182,7 +183,7 @@ public abstract class AbstractQueueConsumer implements QueueConsumer {
             } catch (Exception e) {
                 LOG.errorf(e, "Error parsing message from queue [%s]", queueId);
                 queueMetrics.recordMessageProcessed(queueId, false);
-                onMessageError(raw.body(), e);
+                onMessageError(raw.bodyText(), e);
             }
         }
 
@@ -195,13 +196,30 @@ public abstract class AbstractQueueConsumer implements QueueConsumer {
     /**
      * Record for raw message with metadata.
      * Public to allow access from subclasses in different packages.
+     * Brokers that deliver bytes (NATS) set bodyBytes instead of body so the body is decoded without a String copy.
      */
     public record RawMessage(
         String body,
         String messageGroupId,
         MessageCallback callback,
-        String sqsMessageId  // AWS SQS internal message ID for deduplication
-    ) {}
+        String sqsMessageId,  // AWS SQS internal message ID for deduplication
+        byte[] bodyBytes  // UTF-8 body when the broker delivers bytes (body is null)
+    ) {
+        public RawMessage(String body, String messageGroupId, MessageCallback callback, String sqsMessageId) {
+            this(body, messageGroupId, callback, sqsMessageId, null);
+        }
+
+        public static RawMessage ofBytes(byte[] body, String messageGroupId, MessageCallback callback, String sqsMessageId) {
+            return new RawMessage(null, messageGroupId, callback, sqsMessageId, body);
+        }
+
+        /**
+         * Body as text, for logging and error handling only
+         */
+        public String bodyText() {
+            return body != null ? body : new String(bodyBytes, StandardCharsets.UTF_8);
+        }
+    }
 
     /**
      * Queue-specific implementation to consume messages
@@ -225,6 +243,34 @@ public abstract class AbstractQueueConsumer implements QueueConsumer {
         // Default: do nothing, let queue visibility timeout handle it
     }
 
+    /**
+     * Total free buffer capacity of the pools this queue routes to (Integer.MAX_VALUE until a message has been seen).
+     */
+    protected int availableDownstreamCapacity() {
+        if (observedPoolCodes.isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+        return queueManager.getAvailableCapacity(observedPoolCodes);
+    }
+
+    /**
+     * Sleep between polls, as directed by the poller controller.
+     *
+     * @return false if the thread was interrupted (interrupt flag is restored)
+     */
+    protected boolean pauseBetweenPolls(long delayMs) {
+        if (delayMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(delayMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     /**
      * Updates the heartbeat timestamp to indicate the consumer is actively polling.
      * Subclasses should call this at the start of each poll iteration.
@@ -271,7 +271,9 @@ public class ActiveMqQueueConsumer extends AbstractQueueConsumer {
             customDelayMs = delaySeconds * 1000;
             try {
                 jmsMessage.setLongProperty("AMQ_SCHEDULED_DELAY", customDelayMs);
-                LOG.infof("Set custom delay to %ds for message [%s]", delaySeconds, message.id());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debugf("Set custom delay to %ds for message [%s]", delaySeconds, message.id());
+                }
             } catch (Exception e) {
                 LOG.warnf(e, "Failed to set AMQ_SCHEDULED_DELAY for message [%s]", message.id());
             }
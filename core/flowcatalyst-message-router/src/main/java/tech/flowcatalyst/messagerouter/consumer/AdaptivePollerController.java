@@ -0,0 +1,385 @@
+package tech.flowcatalyst.messagerouter.consumer;
+
+import org.jboss.logging.Logger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Feedback controller for a consumer's receive loops.
+ *
+ * <p>A consumer starts {@link #maxLoops()} polling loops. Each loop must take a poll slot
+ * before calling the broker, and the controller decides how many slots are available
+ * ({@link #getTargetLoops()}), how many messages to ask for, and how long to wait after
+ * each receive.
+ *
+ * <h2>Inputs</h2>
+ * <ul>
+ *   <li><b>Queue depth</b> - reported by the consumer's {@code pollQueueMetrics()} loop, which
+ *       polls at {@link #queueDepthPollIntervalMs(long)} while adaptive; a depth older than
+ *       {@link #QUEUE_DEPTH_MAX_AGE_MS} is ignored</li>
+ *   <li><b>Downstream free capacity</b> - the total {@code ProcessPool.getQueueCapacity() - getQueueSize()}
+ *       of the pools this queue feeds (supplied by the consumer)</li>
+ *   <li><b>Receive feedback</b> - batch fill ratio and an EWMA of the empty-receive ratio</li>
+ * </ul>
+ *
+ * <h2>Behaviour (adaptive mode)</h2>
+ * <ul>
+ *   <li><b>Burst:</b> mostly-full batches or a backlog deeper than the active loops can drain
+ *       in one round doubles the target loop count (up to max)</li>
+ *   <li><b>Idle:</b> a high empty-receive ratio removes one loop per evaluation (down to min),
+ *       so an idle queue makes as few paid receive calls as possible</li>
+ *   <li><b>Pool full:</b> no slot is granted while none of the downstream pools has free capacity,
+ *       and receive sizes are capped to their free capacity, so messages are not received only
+ *       to be nacked by {@code QueueManager}. One full pool does not stop receiving for the others;
+ *       its own messages are still nacked by {@code QueueManager}</li>
+ *   <li><b>Delays:</b> the fixed partial-batch and empty-receive sleeps are scaled by batch fill
+ *       and empty-receive ratio, and skipped entirely while a backlog exists</li>
+ * </ul>
+ *
+ * <p>In fixed mode (adaptive polling disabled) every loop always polls, receive sizes are not
+ * capped and the consumer's original fixed delays are returned unchanged.
+ *
+ * <p>All methods are thread-safe and lock-free; they are called concurrently by every
+ * polling loop of the owning consumer.
+ */
+public class AdaptivePollerController {
+
+    private static final Logger LOG = Logger.getLogger(AdaptivePollerController.class);
+
+    // How long a loop without a poll slot waits before asking again
+    private static final long IDLE_CHECK_INTERVAL_MS = 200;
+
+    // Minimum time between target re-evaluations triggered by receive feedback
+    private static final long RECALCULATE_INTERVAL_NANOS = 1_000_000_000L;
+
+    // How often the consumer refreshes the queue depth while polling adaptively
+    static final long QUEUE_DEPTH_POLL_INTERVAL_MS = 5_000;
+
+    // A depth older than this (e.g. after failed refreshes) no longer drives scaling or delays
+    static final long QUEUE_DEPTH_MAX_AGE_MS = 3 * QUEUE_DEPTH_POLL_INTERVAL_MS;
+
+    // Weight of the latest receive in the empty-receive EWMA
+    private static final double EMPTY_RATIO_ALPHA = 0.2;
+
+    // Window thresholds for scaling decisions
+    private static final double SCALE_UP_FILL_RATIO = 0.9;
+    private static final double SCALE_DOWN_EMPTY_RATIO = 0.5;
+
+    /**
+     * Adaptive polling settings shared by all consumers created by the factory.
+     *
+     * @param enabled whether adaptive polling is enabled (fixed loops and delays otherwise)
+     * @param minConnections minimum number of concurrent receive loops
+     * @param maxConnections maximum number of concurrent receive loops
+     */
+    public record Config(boolean enabled, int minConnections, int maxConnections) {
+        public static Config disabled() {
+            return new Config(false, 1, 1);
+        }
+    }
+
+    // Replaced in tests
+    LongSupplier nanoClock = System::nanoTime;
+
+    private final String queueIdentifier;
+    private final boolean adaptive;
+    private final int minLoops;
+    private final int maxLoops;
+    private final long partialBatchDelayMs;
+    private final long emptyReceiveDelayMs;
+
+    private final AtomicInteger targetLoops;
+    private final AtomicInteger activePolls = new AtomicInteger(0);
+    private final AtomicLong emptyRatioBits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+    private final AtomicLong lastRecalculateNanos = new AtomicLong(System.nanoTime());
+    private volatile long lastQueueDepth = -1;
+    private volatile long lastQueueDepthNanos;
+    private volatile IntSupplier capacitySource = () -> Integer.MAX_VALUE;
+
+    // Receive feedback for the current evaluation window
+    private final LongAdder windowReceives = new LongAdder();
+    private final LongAdder windowEmptyReceives = new LongAdder();
+    private final LongAdder windowMessages = new LongAdder();
+    private final LongAdder windowRequested = new LongAdder();
+
+    private AdaptivePollerController(String queueIdentifier, boolean adaptive, int minLoops, int maxLoops,
+                                     int initialLoops, long partialBatchDelayMs, long emptyReceiveDelayMs) {
+        this.queueIdentifier = queueIdentifier;
+        this.adaptive = adaptive;
+        this.minLoops = minLoops;
+        this.maxLoops = maxLoops;
+        this.partialBatchDelayMs = partialBatchDelayMs;
+        this.emptyReceiveDelayMs = emptyReceiveDelayMs;
+        this.targetLoops = new AtomicInteger(initialLoops);
+    }
+
+    /**
+     * Create a controller for a consumer.
+     *
+     * @param queueIdentifier the queue this controller polls (for logging)
+     * @param connections configured connections for the queue; the initial loop count,
+     *                    and the fixed loop count when adaptive polling is disabled
+     * @param config adaptive polling settings
+     * @param partialBatchDelayMs the consumer's base delay after a partial batch
+     * @param emptyReceiveDelayMs the consumer's base delay after an empty receive
+     * @return a new controller
+     */
+    public static AdaptivePollerController create(String queueIdentifier, int connections, Config config,
+                                                  long partialBatchDelayMs, long emptyReceiveDelayMs) {
+        int configured = Math.max(1, connections);
+        if (config == null || !config.enabled()) {
+            return new AdaptivePollerController(queueIdentifier, false, configured, configured, configured,
+                partialBatchDelayMs, emptyReceiveDelayMs);
+        }
+        int min = Math.max(1, config.minConnections());
+        int max = Math.max(Math.max(min, config.maxConnections()), configured);
+        int initial = Math.min(Math.max(configured, min), max);
+        return new AdaptivePollerController(queueIdentifier, true, min, max, initial,
+            partialBatchDelayMs, emptyReceiveDelayMs);
+    }
+
+    /**
+     * Create a fixed controller: {@code connections} loops that always poll, with no delays.
+     * Used by consumers that manage their own pacing.
+     */
+    public static AdaptivePollerController fixed(String queueIdentifier, int connections) {
+        return create(queueIdentifier, connections, Config.disabled(), 0, 0);
+    }
+
+    /**
+     * Set the source of downstream free capacity (messages the target pools can still buffer).
+     */
+    public void setCapacitySource(IntSupplier capacitySource) {
+        this.capacitySource = capacitySource;
+    }
+
+    /**
+     * How long the consumer's metrics loop should wait between queue depth reads.
+     *
+     * <p>Adaptive polling reacts to the depth, so it is read at the controller's cadence rather
+     * than the metrics interval (minutes by default); fixed mode keeps the metrics interval.
+     *
+     * @param metricsPollIntervalMs the consumer's configured metrics interval
+     * @return the interval in milliseconds
+     */
+    public long queueDepthPollIntervalMs(long metricsPollIntervalMs) {
+        return adaptive ? Math.min(metricsPollIntervalMs, QUEUE_DEPTH_POLL_INTERVAL_MS) : metricsPollIntervalMs;
+    }
+
+    /**
+     * Number of polling loops the consumer should start.
+     */
+    public int maxLoops() {
+        return maxLoops;
+    }
+
+    /**
+     * How long a loop that did not get a poll slot should wait before trying again.
+     */
+    public long idleCheckIntervalMs() {
+        return IDLE_CHECK_INTERVAL_MS;
+    }
+
+    /**
+     * Try to take a poll slot. Must be paired with {@link #releasePollSlot()} when it returns true.
+     *
+     * @return true if this loop may call the broker now
+     */
+    public boolean tryAcquirePollSlot() {
+        if (!adaptive) {
+            activePolls.incrementAndGet();
+            return true;
+        }
+
+        // Don't receive messages the pools can't take - they would only be nacked
+        if (availableCapacity() <= 0) {
+            return false;
+        }
+
+        while (true) {
+            int active = activePolls.get();
+            if (active >= targetLoops.get()) {
+                return false;
+            }
+            if (activePolls.compareAndSet(active, active + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a poll slot taken by {@link #tryAcquirePollSlot()}.
+     */
+    public void releasePollSlot() {
+        activePolls.decrementAndGet();
+    }
+
+    /**
+     * Number of messages to request in the next receive.
+     *
+     * @param maxMessagesPerPoll the consumer's configured maximum
+     * @return the batch size to request (between 1 and maxMessagesPerPoll)
+     */
+    public int receiveBatchSize(int maxMessagesPerPoll) {
+        if (!adaptive) {
+            return maxMessagesPerPoll;
+        }
+        int capacity = availableCapacity();
+        if (capacity == Integer.MAX_VALUE) {
+            return maxMessagesPerPoll;
+        }
+        // Split the free capacity between the loops currently receiving
+        int share = capacity / Math.max(1, activePolls.get());
+        return Math.max(1, Math.min(maxMessagesPerPoll, share));
+    }
+
+    /**
+     * Record the outcome of a receive and get the delay before this loop polls again.
+     *
+     * @param received number of messages returned by the broker
+     * @param requested number of messages requested
+     * @return delay in milliseconds (0 to poll again immediately)
+     */
+    public long recordReceive(int received, int requested) {
+        if (!adaptive) {
+            if (received == 0) {
+                return emptyReceiveDelayMs;
+            }
+            return received < requested ? partialBatchDelayMs : 0;
+        }
+
+        windowReceives.increment();
+        windowMessages.add(received);
+        windowRequested.add(requested);
+        if (received == 0) {
+            windowEmptyReceives.increment();
+        }
+        double emptyRatio = updateEmptyRatio(received == 0 ? 1.0 : 0.0);
+
+        maybeRecalculate();
+
+        if (received >= requested || hasBacklog()) {
+            return 0;
+        }
+        if (received == 0) {
+            // From 0 (queue is rarely empty) up to 2x the base delay (queue is always empty)
+            return Math.round(emptyReceiveDelayMs * 2 * emptyRatio);
+        }
+        // Nearly-full batches barely wait; sparse batches wait up to the base delay
+        double fill = (double) received / requested;
+        return Math.round(partialBatchDelayMs * (1.0 - fill) * (1.0 + emptyRatio));
+    }
+
+    /**
+     * Record the latest observed queue depth (pending messages) and re-evaluate the target.
+     */
+    public void recordQueueDepth(long queueDepth) {
+        this.lastQueueDepthNanos = nanoClock.getAsLong();
+        this.lastQueueDepth = queueDepth;
+        if (adaptive) {
+            lastRecalculateNanos.set(nanoClock.getAsLong());
+            recalculate();
+        }
+    }
+
+    public int getTargetLoops() {
+        return targetLoops.get();
+    }
+
+    public int getActivePolls() {
+        return activePolls.get();
+    }
+
+    public double getEmptyReceiveRatio() {
+        return Double.longBitsToDouble(emptyRatioBits.get());
+    }
+
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    private int availableCapacity() {
+        try {
+            return capacitySource.getAsInt();
+        } catch (Exception e) {
+            // Capacity is advisory - never stop polling because the lookup failed
+            LOG.debugf(e, "Failed to read downstream capacity for queue [%s]", queueIdentifier);
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * The last reported queue depth, or -1 if none was reported within {@link #QUEUE_DEPTH_MAX_AGE_MS}.
+     */
+    private long currentQueueDepth() {
+        long depth = lastQueueDepth;
+        if (depth < 0 || nanoClock.getAsLong() - lastQueueDepthNanos > QUEUE_DEPTH_MAX_AGE_MS * 1_000_000L) {
+            return -1;
+        }
+        return depth;
+    }
+
+    private boolean hasBacklog() {
+        long depth = currentQueueDepth();
+        return depth > 0 && depth > (long) targetLoops.get() * Math.max(1, windowRequestedAverage());
+    }
+
+    private int windowRequestedAverage() {
+        long receives = windowReceives.sum();
+        return receives == 0 ? 1 : (int) Math.max(1, windowRequested.sum() / receives);
+    }
+
+    private double updateEmptyRatio(double sample) {
+        long updated = emptyRatioBits.updateAndGet(bits -> {
+            double current = Double.longBitsToDouble(bits);
+            return Double.doubleToRawLongBits(current + EMPTY_RATIO_ALPHA * (sample - current));
+        });
+        return Double.longBitsToDouble(updated);
+    }
+
+    private void maybeRecalculate() {
+        long now = nanoClock.getAsLong();
+        long last = lastRecalculateNanos.get();
+        if (now - last >= RECALCULATE_INTERVAL_NANOS && lastRecalculateNanos.compareAndSet(last, now)) {
+            recalculate();
+        }
+    }
+
+    private void recalculate() {
+        long receives = windowReceives.sumThenReset();
+        long empties = windowEmptyReceives.sumThenReset();
+        long messages = windowMessages.sumThenReset();
+        long requested = windowRequested.sumThenReset();
+
+        int current = targetLoops.get();
+        int desired = current;
+
+        double fillRatio = requested > 0 ? (double) messages / requested : 0.0;
+        double windowEmptyRatio = receives > 0 ? (double) empties / receives : getEmptyReceiveRatio();
+        int batchSize = receives > 0 ? (int) Math.max(1, requested / receives) : 1;
+        long depth = currentQueueDepth();
+
+        if ((receives > 0 && fillRatio >= SCALE_UP_FILL_RATIO) || (depth > (long) current * batchSize && depth > 0)) {
+            // Burst - scale up multiplicatively so a backlog is picked up quickly
+            desired = Math.min(maxLoops, current * 2);
+        } else if (windowEmptyRatio >= SCALE_DOWN_EMPTY_RATIO || depth == 0) {
+            // Idle - scale down one loop at a time to avoid flapping
+            desired = Math.max(minLoops, current - 1);
+        }
+
+        // Never run more loops than the downstream pools can absorb a batch for
+        int capacity = availableCapacity();
+        if (capacity != Integer.MAX_VALUE) {
+            desired = Math.min(desired, Math.max(minLoops, capacity / batchSize));
+        }
+
+        if (desired != current && targetLoops.compareAndSet(current, desired)) {
+            LOG.debugf("Adaptive polling for queue [%s]: receive loops %d -> %d (depth=%d, fill=%.2f, emptyRatio=%.2f, freeCapacity=%d)",
+                queueIdentifier, current, desired, depth, fillRatio, windowEmptyRatio, capacity);
+        }
+    }
+}
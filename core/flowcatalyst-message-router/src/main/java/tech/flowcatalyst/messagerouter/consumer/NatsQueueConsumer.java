@@ -10,7 +10,6 @@ import tech.flowcatalyst.messagerouter.metrics.QueueMetricsService;
 import tech.flowcatalyst.messagerouter.model.MessagePointer;
 import tech.flowcatalyst.messagerouter.warning.WarningService;
 
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
@@ -46,6 +45,10 @@ public class NatsQueueConsumer extends AbstractQueueConsumer {
     private static final int FAST_FAIL_DELAY_SECONDS = 10;
     private static final int ERROR_PROCESS_DELAY_SECONDS = 120;
 
+    // Base poll delays (scaled by the poller controller when adaptive polling is enabled)
+    private static final long PARTIAL_BATCH_DELAY_MS = 50;
+    private static final long EMPTY_RECEIVE_DELAY_MS = 1000;
+
     private final Connection natsConnection;
     private final JetStream jetStream;
     private final String streamName;
@@ -74,7 +77,25 @@ public class NatsQueueConsumer extends AbstractQueueConsumer {
             int maxMessagesPerPoll,
             int pollTimeoutSeconds,
             int metricsPollIntervalSeconds) {
-        super(queueManager, queueMetrics, warningService, connections);
+        this(natsConnection, streamName, consumerName, subject, connections, queueManager, queueMetrics, warningService,
+            maxMessagesPerPoll, pollTimeoutSeconds, metricsPollIntervalSeconds, AdaptivePollerController.Config.disabled());
+    }
+
+    public NatsQueueConsumer(
+            Connection natsConnection,
+            String streamName,
+            String consumerName,
+            String subject,
+            int connections,
+            QueueManager queueManager,
+            QueueMetricsService queueMetrics,
+            WarningService warningService,
+            int maxMessagesPerPoll,
+            int pollTimeoutSeconds,
+            int metricsPollIntervalSeconds,
+            AdaptivePollerController.Config adaptivePolling) {
+        super(queueManager, queueMetrics, warningService, AdaptivePollerController.create(
+            streamName + "/" + consumerName, connections, adaptivePolling, PARTIAL_BATCH_DELAY_MS, EMPTY_RECEIVE_DELAY_MS));
         this.natsConnection = natsConnection;
         this.streamName = streamName;
         this.consumerName = consumerName;
@@ -117,15 +138,27 @@ public class NatsQueueConsumer extends AbstractQueueConsumer {
                 // Update heartbeat to indicate consumer is alive and polling
                 updateHeartbeat();
 
+                // Wait while this loop is not needed (idle stream) or the pools have no free capacity
+                if (!pollerController.tryAcquirePollSlot()) {
+                    if (!pauseBetweenPolls(pollerController.idleCheckIntervalMs())) {
+                        break;
+                    }
+                    continue;
+                }
+
                 // Fetch batch of messages (like SQS long polling)
-                List<Message> messages = subscription.fetch(maxMessagesPerPoll, pollTimeout);
+                List<Message> messages;
+                int batchSize = pollerController.receiveBatchSize(maxMessagesPerPoll);
+                try {
+                    messages = subscription.fetch(batchSize, pollTimeout);
+                } finally {
+                    pollerController.releasePollSlot();
+                }
+                long delayMs = pollerController.recordReceive(messages == null ? 0 : messages.size(), batchSize);
 
                 if (messages == null || messages.isEmpty()) {
                     // Empty batch - apply backoff delay
-                    try {
-                        Thread.sleep(1000);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
+                    if (!pauseBetweenPolls(delayMs)) {
                         break;
                     }
                     continue;
@@ -145,8 +178,8 @@ public class NatsQueueConsumer extends AbstractQueueConsumer {
                             LOG.warnf(e, "Failed to ack previously processed NATS message [%s]", sequenceId);
                         }
                     } else {
-                        messagesToProcess.add(new RawMessage(
-                            new String(msg.getData(), StandardCharsets.UTF_8),
+                        messagesToProcess.add(RawMessage.ofBytes(
+                            msg.getData(),  // decoded directly from bytes
                             null,  // messageGroupId will be extracted from MessagePointer body
                             new NatsMessageCallback(msg, sequenceId),
                             sequenceId  // Use sequence as unique ID for pipeline tracking
@@ -159,14 +192,9 @@ public class NatsQueueConsumer extends AbstractQueueConsumer {
                     processMessageBatch(messagesToProcess);
                 }
 
-                // Adaptive delay based on batch size (same as SQS)
-                if (messages.size() < maxMessagesPerPoll) {
-                    try {
-                        Thread.sleep(50); // 50ms delay for partial batch
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
+                // Adaptive delay based on batch fill (same as SQS)
+                if (!pauseBetweenPolls(delayMs)) {
+                    break;
                 }
 
             } catch (Exception e) {
@@ -209,9 +237,10 @@ public class NatsQueueConsumer extends AbstractQueueConsumer {
                         pendingMessages,
                         inFlightMessages
                     );
+                    pollerController.recordQueueDepth(pendingMessages);
                 }
 
-                Thread.sleep(metricsPollIntervalMs);
+                Thread.sleep(pollerController.queueDepthPollIntervalMs(metricsPollIntervalMs));
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
@@ -282,7 +311,9 @@ public class NatsQueueConsumer extends AbstractQueueConsumer {
         public void ack(MessagePointer message) {
             try {
                 natsMessage.ack();
-                LOG.infof("NATS: ACKed message [%s] (seq: %s)", message.id(), sequenceId);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debugf("NATS: ACKed message [%s] (seq: %s)", message.id(), sequenceId);
+                }
             } catch (Exception e) {
                 // Message may have been redelivered due to ack timeout
                 // Track sequence for deletion when it reappears
@@ -297,7 +328,9 @@ public class NatsQueueConsumer extends AbstractQueueConsumer {
             // Default nack uses the ERROR_PROCESS delay (120s) to match SQS visibility timeout
             try {
                 natsMessage.nakWithDelay(Duration.ofSeconds(ERROR_PROCESS_DELAY_SECONDS));
-                LOG.infof("NATS: NACKed message [%s] with %ds delay", message.id(), ERROR_PROCESS_DELAY_SECONDS);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debugf("NATS: NACKed message [%s] with %ds delay", message.id(), ERROR_PROCESS_DELAY_SECONDS);
+                }
             } catch (Exception e) {
                 LOG.warnf(e, "NATS: Failed to nack message [%s]", message.id());
             }
@@ -332,7 +365,9 @@ public class NatsQueueConsumer extends AbstractQueueConsumer {
                 // Clamp to valid range (NATS supports long delays)
                 int effectiveDelay = Math.max(1, Math.min(delaySeconds, 43200));
                 natsMessage.nakWithDelay(Duration.ofSeconds(effectiveDelay));
-                LOG.infof("NATS: Custom delay (%ds) for message [%s]", effectiveDelay, message.id());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debugf("NATS: Custom delay (%ds) for message [%s]", effectiveDelay, message.id());
+                }
             } catch (Exception e) {
                 LOG.warnf(e, "NATS: Failed to set custom delay for message [%s]", message.id());
             }
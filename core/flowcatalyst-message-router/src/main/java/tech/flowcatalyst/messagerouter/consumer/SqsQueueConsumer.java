@@ -18,6 +18,11 @@ public class SqsQueueConsumer extends AbstractQueueConsumer {
 
     private static final Logger LOG = Logger.getLogger(SqsQueueConsumer.class);
 
+    // Base delay after a partial batch to allow messages to accumulate (cost control)
+    private static final long PARTIAL_BATCH_DELAY_MS = 100;
+    // No base delay after an empty receive - the long poll has already waited
+    private static final long EMPTY_RECEIVE_DELAY_MS = 0;
+
     private final SqsClient sqsClient;
     private final String queueUrl;
     private final int maxMessagesPerPoll;
@@ -40,15 +45,31 @@ public class SqsQueueConsumer extends AbstractQueueConsumer {
             int maxMessagesPerPoll,
             int waitTimeSeconds,
             int metricsPollIntervalSeconds) {
-        super(queueManager, queueMetrics, warningService, connections);
+        this(sqsClient, queueUrl, connections, queueManager, queueMetrics, warningService,
+            maxMessagesPerPoll, waitTimeSeconds, metricsPollIntervalSeconds, AdaptivePollerController.Config.disabled());
+    }
+
+    public SqsQueueConsumer(
+            SqsClient sqsClient,
+            String queueUrl,
+            int connections,
+            QueueManager queueManager,
+            tech.flowcatalyst.messagerouter.metrics.QueueMetricsService queueMetrics,
+            WarningService warningService,
+            int maxMessagesPerPoll,
+            int waitTimeSeconds,
+            int metricsPollIntervalSeconds,
+            AdaptivePollerController.Config adaptivePolling) {
+        super(queueManager, queueMetrics, warningService, AdaptivePollerController.create(
+            queueUrl, connections, adaptivePolling, PARTIAL_BATCH_DELAY_MS, EMPTY_RECEIVE_DELAY_MS));
         this.sqsClient = sqsClient;
         this.queueUrl = queueUrl;
         this.maxMessagesPerPoll = maxMessagesPerPoll;
         this.waitTimeSeconds = waitTimeSeconds;
         this.metricsPollIntervalMs = metricsPollIntervalSeconds * 1000;
 
-        LOG.infof("SQS consumer created: queue=%s, maxMessages=%d, waitTime=%ds",
-            queueUrl, maxMessagesPerPoll, waitTimeSeconds);
+        LOG.infof("SQS consumer created: queue=%s, maxMessages=%d, waitTime=%ds, adaptivePolling=%s",
+            queueUrl, maxMessagesPerPoll, waitTimeSeconds, pollerController.isAdaptive());
     }
 
     @Override
@@ -79,21 +100,37 @@ public class SqsQueueConsumer extends AbstractQueueConsumer {
                 // Update heartbeat to indicate consumer is alive and polling
                 updateHeartbeat();
 
-                // Configure per-request timeout (25s = 20s long poll + 5s buffer)
-                AwsRequestOverrideConfiguration overrideConfig = AwsRequestOverrideConfiguration.builder()
-                    .apiCallTimeout(Duration.ofSeconds(25))
-                    .build();
-
-                ReceiveMessageRequest receiveRequest = ReceiveMessageRequest.builder()
-                    .queueUrl(queueUrl)
-                    .maxNumberOfMessages(maxMessagesPerPoll)
-                    .waitTimeSeconds(waitTimeSeconds)
-                    .overrideConfiguration(overrideConfig)
-                    .build();
+                // Wait while this loop is not needed (idle queue) or the pools have no free capacity
+                if (!pollerController.tryAcquirePollSlot()) {
+                    if (!pauseBetweenPolls(pollerController.idleCheckIntervalMs())) {
+                        break;
+                    }
+                    lastLoopEndTime = System.currentTimeMillis();
+                    continue;
+                }
 
-                // This will block for up to 25 seconds (enforced by SDK timeout)
-                ReceiveMessageResponse response = sqsClient.receiveMessage(receiveRequest);
-                List<Message> messages = response.messages();
+                List<Message> messages;
+                int batchSize = pollerController.receiveBatchSize(maxMessagesPerPoll);
+                try {
+                    // Configure per-request timeout (25s = 20s long poll + 5s buffer)
+                    AwsRequestOverrideConfiguration overrideConfig = AwsRequestOverrideConfiguration.builder()
+                        .apiCallTimeout(Duration.ofSeconds(25))
+                        .build();
+
+                    ReceiveMessageRequest receiveRequest = ReceiveMessageRequest.builder()
+                        .queueUrl(queueUrl)
+                        .maxNumberOfMessages(batchSize)
+                        .waitTimeSeconds(waitTimeSeconds)
+                        .overrideConfiguration(overrideConfig)
+                        .build();
+
+                    // This will block for up to 25 seconds (enforced by SDK timeout)
+                    ReceiveMessageResponse response = sqsClient.receiveMessage(receiveRequest);
+                    messages = response.messages();
+                } finally {
+                    pollerController.releasePollSlot();
+                }
+                long delayMs = pollerController.recordReceive(messages.size(), batchSize);
 
                 // Check for messages that need to be deleted (previously processed but delete failed)
                 // and convert remaining to RawMessage objects for batch processing
@@ -126,20 +163,15 @@ public class SqsQueueConsumer extends AbstractQueueConsumer {
                 // Process remaining messages
                 processMessageBatch(messagesToProcess);
 
-                // No delay for empty queue - SQS long-poll already waited up to 20 seconds
-                // Small delay for partial batches to allow message accumulation
-                if (!messages.isEmpty() && messages.size() < maxMessagesPerPoll) {
-                    try {
-                        Thread.sleep(100); //delay for partial batch for cost control
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        if (!running.get()) {
-                            LOG.debugf("Consumer thread interrupted during partial-batch sleep (shutdown) for queue [%s]", queueUrl);
-                        } else {
-                            LOG.warnf("Consumer thread unexpectedly interrupted during partial-batch sleep for queue [%s]", queueUrl);
-                        }
-                        break;
+                // Delay is driven by the poller controller: none for full batches or a backlog,
+                // a short wait for partial batches to allow message accumulation (cost control)
+                if (!pauseBetweenPolls(delayMs)) {
+                    if (!running.get()) {
+                        LOG.debugf("Consumer thread interrupted during partial-batch sleep (shutdown) for queue [%s]", queueUrl);
+                    } else {
+                        LOG.warnf("Consumer thread unexpectedly interrupted during partial-batch sleep for queue [%s]", queueUrl);
                     }
+                    break;
                 }
 
                 // After processing messages, check if we should stop polling
@@ -204,9 +236,10 @@ public class SqsQueueConsumer extends AbstractQueueConsumer {
                     );
 
                     queueMetrics.recordQueueMetrics(queueUrl, pendingMessages, messagesNotVisible);
+                    pollerController.recordQueueDepth(pendingMessages);
                 }
 
-                Thread.sleep(metricsPollIntervalMs);
+                Thread.sleep(pollerController.queueDepthPollIntervalMs(metricsPollIntervalMs));
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 break;
@@ -253,14 +286,15 @@ public class SqsQueueConsumer extends AbstractQueueConsumer {
         @Override
         public void ack(MessagePointer message) {
             try {
-                LOG.infof("SQS: ACKing message [%s] - calling SQS DeleteMessage API", message.id());
                 DeleteMessageRequest deleteRequest = DeleteMessageRequest.builder()
                     .queueUrl(queueUrl)
                     .receiptHandle(receiptHandle)
                     .build();
 
                 sqsClient.deleteMessage(deleteRequest);
-                LOG.infof("SQS: Successfully deleted message [%s] from queue", message.id());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debugf("SQS: Deleted message [%s] from queue", message.id());
+                }
             } catch (ReceiptHandleIsInvalidException e) {
                 // Receipt handle expired - track SQS message ID for deletion when message reappears
                 pendingDeleteSqsMessageIds.add(sqsMessageId);
@@ -290,7 +324,9 @@ public class SqsQueueConsumer extends AbstractQueueConsumer {
                     .build();
 
                 sqsClient.changeMessageVisibility(request);
-                LOG.infof("SQS: NACKing message [%s] - will become visible again in 30 seconds", message.id());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debugf("SQS: NACKing message [%s] - will become visible again in 30 seconds", message.id());
+                }
             } catch (ReceiptHandleIsInvalidException e) {
                 LOG.debugf("Receipt handle invalid for message [%s], cannot set visibility for NACK", message.id());
             } catch (Exception e) {
@@ -361,7 +397,9 @@ public class SqsQueueConsumer extends AbstractQueueConsumer {
                     .build();
 
                 sqsClient.changeMessageVisibility(request);
-                LOG.infof("Set custom visibility delay to %ds for message [%s]", effectiveDelay, message.id());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debugf("Set custom visibility delay to %ds for message [%s]", effectiveDelay, message.id());
+                }
             } catch (ReceiptHandleIsInvalidException e) {
                 LOG.debugf("Receipt handle invalid for message [%s], cannot set visibility delay", message.id());
             } catch (SqsException e) {
@@ -0,0 +1,30 @@
+package tech.flowcatalyst.messagerouter.diagnostics;
+
+/**
+ * A message lifecycle event read from a pool's diagnostics ring buffer.
+ *
+ * @param sequence position in the pool's ring buffer (monotonic per pool)
+ * @param timestampMs when the event was recorded (epoch millis)
+ * @param poolCode pool the message was routed to
+ * @param messageId application message ID
+ * @param stage lifecycle stage
+ * @param detail stage detail: source queue (RECEIVED), batch ID (ROUTED), mediation result (MEDIATED)
+ * @param durationMs mediation duration for MEDIATED events, 0 otherwise
+ */
+public record LifecycleEvent(
+    long sequence,
+    long timestampMs,
+    String poolCode,
+    String messageId,
+    Stage stage,
+    String detail,
+    long durationMs
+) {
+    public enum Stage {
+        RECEIVED,
+        ROUTED,
+        MEDIATED,
+        ACKED,
+        NACKED
+    }
+}
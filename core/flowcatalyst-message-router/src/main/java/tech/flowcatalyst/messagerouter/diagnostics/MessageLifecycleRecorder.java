@@ -0,0 +1,263 @@
+package tech.flowcatalyst.messagerouter.diagnostics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sampled, allocation-free diagnostics for the message hot path.
+ *
+ * <p>Replaces per-message INFO/WARN logging. Every lifecycle event (received, routed, mediated,
+ * acked, nacked) is written to a fixed-size lock-free ring buffer per pool; the most recent events
+ * can be read through {@code MonitoringResource}. Recording only stores references to strings that
+ * already exist (message ID, pool code, result name), so the hot path does not allocate or format.
+ *
+ * <p>Full per-message log lines are only produced for <b>traced</b> messages:
+ * <ul>
+ *   <li><b>Sampled</b> - a deterministic fraction of message IDs
+ *       ({@code message-router.diagnostics.trace-sample-rate}), so every stage of a sampled message is traced</li>
+ *   <li><b>Flagged</b> - message IDs flagged at runtime through {@code MonitoringResource}</li>
+ * </ul>
+ *
+ * <p>Pool codes arrive with the messages, so the number of rings is capped
+ * ({@code message-router.diagnostics.max-pools}); events of pools beyond the cap share the
+ * {@value #UNKNOWN_POOL} ring.
+ */
+@ApplicationScoped
+public class MessageLifecycleRecorder {
+
+    private static final Logger LOG = Logger.getLogger(MessageLifecycleRecorder.class);
+
+    private static final String UNKNOWN_POOL = "UNKNOWN";
+    private static final int SAMPLE_RESOLUTION = 1 << 16;
+    private static final int MAX_FLAGGED_MESSAGES = 1000;
+    private static final int DEFAULT_MAX_POOLS = 256;
+
+    private final boolean enabled;
+    private final int eventsPerPool;
+    private final int maxPools;
+    private final double traceSampleRate;
+    private final int sampleThreshold;
+
+    private final ConcurrentHashMap<String, RingBuffer> buffers = new ConcurrentHashMap<>();
+    private final Set<String> flaggedMessageIds = ConcurrentHashMap.newKeySet();
+
+    @Inject
+    public MessageLifecycleRecorder(
+            @ConfigProperty(name = "message-router.diagnostics.enabled", defaultValue = "true") boolean enabled,
+            @ConfigProperty(name = "message-router.diagnostics.events-per-pool", defaultValue = "1024") int eventsPerPool,
+            @ConfigProperty(name = "message-router.diagnostics.trace-sample-rate", defaultValue = "0.0") double traceSampleRate,
+            @ConfigProperty(name = "message-router.diagnostics.max-pools", defaultValue = "256") int maxPools) {
+        this.enabled = enabled;
+        this.eventsPerPool = Math.max(16, eventsPerPool);
+        this.maxPools = Math.max(1, maxPools);
+        this.traceSampleRate = Math.max(0.0, Math.min(1.0, traceSampleRate));
+        this.sampleThreshold = (int) Math.round(this.traceSampleRate * SAMPLE_RESOLUTION);
+    }
+
+    public MessageLifecycleRecorder(boolean enabled, int eventsPerPool, double traceSampleRate) {
+        this(enabled, eventsPerPool, traceSampleRate, DEFAULT_MAX_POOLS);
+    }
+
+    /**
+     * Recorder that records nothing and traces nothing (for components created outside CDI, e.g. tests)
+     */
+    public static MessageLifecycleRecorder disabled() {
+        return new MessageLifecycleRecorder(false, 16, 0.0);
+    }
+
+    /**
+     * Record a lifecycle event for a message.
+     */
+    public void record(String poolCode, String messageId, LifecycleEvent.Stage stage, String detail) {
+        record(poolCode, messageId, stage, detail, 0);
+    }
+
+    /**
+     * Record a lifecycle event for a message, with a duration (MEDIATED).
+     */
+    public void record(String poolCode, String messageId, LifecycleEvent.Stage stage, String detail, long durationMs) {
+        if (!enabled) {
+            return;
+        }
+        String pool = poolCode != null ? poolCode : UNKNOWN_POOL;
+        RingBuffer buffer = buffers.get(pool);
+        if (buffer == null) {
+            if (buffers.size() >= maxPools) {
+                pool = UNKNOWN_POOL;
+            }
+            buffer = buffers.computeIfAbsent(pool, code -> new RingBuffer(eventsPerPool));
+        }
+        buffer.write(messageId, stage, detail, durationMs);
+
+        if (isTraced(messageId)) {
+            LOG.infof("[trace] message [%s] %s in pool [%s]%s%s", messageId, stage, pool,
+                detail != null ? " - " + detail : "",
+                durationMs > 0 ? " (" + durationMs + "ms)" : "");
+        }
+    }
+
+    /**
+     * Whether full per-message logging is wanted for this message (sampled or flagged).
+     */
+    public boolean isTraced(String messageId) {
+        if (messageId == null) {
+            return false;
+        }
+        if (sampleThreshold > 0) {
+            int hash = messageId.hashCode();
+            hash ^= (hash >>> 16);
+            if ((hash & (SAMPLE_RESOLUTION - 1)) < sampleThreshold) {
+                return true;
+            }
+        }
+        return !flaggedMessageIds.isEmpty() && flaggedMessageIds.contains(messageId);
+    }
+
+    /**
+     * Flag a message ID for tracing.
+     *
+     * @return false if the flagged set is full
+     */
+    public boolean flagMessage(String messageId) {
+        if (flaggedMessageIds.size() >= MAX_FLAGGED_MESSAGES && !flaggedMessageIds.contains(messageId)) {
+            return false;
+        }
+        flaggedMessageIds.add(messageId);
+        return true;
+    }
+
+    public boolean unflagMessage(String messageId) {
+        return flaggedMessageIds.remove(messageId);
+    }
+
+    public Set<String> getFlaggedMessageIds() {
+        return Set.copyOf(flaggedMessageIds);
+    }
+
+    public double getTraceSampleRate() {
+        return traceSampleRate;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Set<String> getPoolCodes() {
+        return Set.copyOf(buffers.keySet());
+    }
+
+    /**
+     * Most recent events for a pool, newest first.
+     */
+    public List<LifecycleEvent> getRecentEvents(String poolCode, int limit) {
+        RingBuffer buffer = buffers.get(poolCode);
+        if (buffer == null) {
+            return List.of();
+        }
+        return buffer.read(poolCode, limit);
+    }
+
+    /**
+     * Most recent events across all pools, newest first.
+     */
+    public List<LifecycleEvent> getRecentEvents(int limit) {
+        List<LifecycleEvent> events = new ArrayList<>();
+        buffers.forEach((poolCode, buffer) -> events.addAll(buffer.read(poolCode, limit)));
+        events.sort(Comparator.comparingLong(LifecycleEvent::timestampMs).reversed());
+        return events.size() > limit ? List.copyOf(events.subList(0, limit)) : events;
+    }
+
+    /**
+     * Most recent events for one message across all pools, oldest first.
+     */
+    public List<LifecycleEvent> getMessageEvents(String messageId) {
+        List<LifecycleEvent> events = new ArrayList<>();
+        buffers.forEach((poolCode, buffer) -> {
+            for (LifecycleEvent event : buffer.read(poolCode, eventsPerPool)) {
+                if (messageId.equals(event.messageId())) {
+                    events.add(event);
+                }
+            }
+        });
+        events.sort(Comparator.comparingLong(LifecycleEvent::sequence));
+        return events;
+    }
+
+    /**
+     * Fixed-size multi-producer ring buffer of preallocated slots.
+     * Writers claim a sequence with one atomic increment and publish it per slot after writing,
+     * so readers can detect (and skip) slots that are mid-write or have been overwritten.
+     */
+    static final class RingBuffer {
+
+        private final Slot[] slots;
+        private final int mask;
+        private final AtomicLong cursor = new AtomicLong(0);
+
+        RingBuffer(int capacity) {
+            int size = Integer.highestOneBit(capacity - 1) << 1;
+            this.slots = new Slot[size];
+            this.mask = size - 1;
+            for (int i = 0; i < size; i++) {
+                slots[i] = new Slot();
+            }
+        }
+
+        void write(String messageId, LifecycleEvent.Stage stage, String detail, long durationMs) {
+            long sequence = cursor.getAndIncrement();
+            Slot slot = slots[(int) (sequence & mask)];
+            slot.published = -1;
+            // Keep the field stores below from being reordered before the claim marker, or a reader
+            // could see the old sequence with half-written fields
+            VarHandle.storeStoreFence();
+            slot.timestampMs = System.currentTimeMillis();
+            slot.messageId = messageId;
+            slot.stage = stage;
+            slot.detail = detail;
+            slot.durationMs = durationMs;
+            slot.published = sequence;
+        }
+
+        List<LifecycleEvent> read(String poolCode, int limit) {
+            long end = cursor.get();
+            long start = Math.max(0, end - Math.min(limit, slots.length));
+            List<LifecycleEvent> events = new ArrayList<>((int) (end - start));
+            for (long sequence = end - 1; sequence >= start; sequence--) {
+                Slot slot = slots[(int) (sequence & mask)];
+                if (slot.published != sequence) {
+                    continue;
+                }
+                long timestampMs = slot.timestampMs;
+                String messageId = slot.messageId;
+                LifecycleEvent.Stage stage = slot.stage;
+                String detail = slot.detail;
+                long durationMs = slot.durationMs;
+                VarHandle.loadLoadFence();
+                if (slot.published != sequence) {
+                    continue;  // Overwritten while reading
+                }
+                events.add(new LifecycleEvent(sequence, timestampMs, poolCode, messageId, stage, detail, durationMs));
+            }
+            return events;
+        }
+    }
+
+    private static final class Slot {
+        volatile long published = -1;
+        long timestampMs;
+        String messageId;
+        LifecycleEvent.Stage stage;
+        String detail;
+        long durationMs;
+    }
+}
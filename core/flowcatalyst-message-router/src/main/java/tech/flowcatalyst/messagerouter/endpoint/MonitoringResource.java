@@ -11,12 +11,16 @@ import org.eclipse.microprofile.openapi.annotations.media.Schema;
 import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import tech.flowcatalyst.messagerouter.diagnostics.LifecycleEvent;
+import tech.flowcatalyst.messagerouter.diagnostics.MessageLifecycleRecorder;
 import tech.flowcatalyst.messagerouter.health.HealthStatusService;
 import tech.flowcatalyst.messagerouter.metrics.CircuitBreakerMetricsService;
 import tech.flowcatalyst.messagerouter.metrics.PoolMetricsService;
 import tech.flowcatalyst.messagerouter.metrics.QueueMetricsService;
 import tech.flowcatalyst.messagerouter.metrics.QueueStats;
+import tech.flowcatalyst.messagerouter.mediator.HttpMediator;
 import tech.flowcatalyst.messagerouter.model.CircuitBreakerStats;
+import tech.flowcatalyst.messagerouter.model.EndpointLimitStats;
 import tech.flowcatalyst.messagerouter.model.HealthStatus;
 import tech.flowcatalyst.messagerouter.model.PoolStats;
 import tech.flowcatalyst.messagerouter.model.Warning;
@@ -49,6 +53,12 @@ public class MonitoringResource {
     @Inject
     tech.flowcatalyst.messagerouter.manager.QueueManager queueManager;
 
+    @Inject
+    MessageLifecycleRecorder lifecycleRecorder;
+
+    @Inject
+    HttpMediator httpMediator;
+
     @jakarta.inject.Inject
     jakarta.enterprise.inject.Instance<tech.flowcatalyst.standby.StandbyService> standbyServiceInstance;
 
@@ -242,6 +252,48 @@ public class MonitoringResource {
         return Response.ok("{\"status\":\"success\"}").build();
     }
 
+    @GET
+    @Path("/endpoint-limits")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Get endpoint concurrency limits",
+        description = "Returns the adaptive concurrency limit, in-flight requests and latency of each target endpoint")
+    @APIResponse(
+        responseCode = "200",
+        description = "Endpoint concurrency limits",
+        content = @Content(
+            mediaType = MediaType.APPLICATION_JSON,
+            schema = @Schema(implementation = EndpointLimitStats.class),
+            examples = @ExampleObject(
+                name = "Endpoint Limits Example",
+                value = """
+                [
+                  {
+                    "endpoint": "http://localhost:8081",
+                    "limit": 64,
+                    "inFlight": 31,
+                    "baselineLatencyMs": 12,
+                    "lastLatencyMs": 15,
+                    "rejectedRequests": 0,
+                    "droppedRequests": 2
+                  },
+                  {
+                    "endpoint": "https://api.example.com",
+                    "limit": 3,
+                    "inFlight": 3,
+                    "baselineLatencyMs": 180,
+                    "lastLatencyMs": 9500,
+                    "rejectedRequests": 4200,
+                    "droppedRequests": 61
+                  }
+                ]
+                """
+            )
+        )
+    )
+    public List<EndpointLimitStats> getEndpointLimits() {
+        return httpMediator.getEndpointLimits();
+    }
+
     @GET
     @Path("/circuit-breakers")
     @Produces(MediaType.APPLICATION_JSON)
@@ -437,6 +489,61 @@ public class MonitoringResource {
         return Response.ok(result).build();
     }
 
+    @GET
+    @Path("/diagnostics/events")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Get recent message lifecycle events",
+        description = "Returns the most recent received/routed/mediated/acked/nacked events (newest first), from the per-pool diagnostics ring buffers")
+    public List<LifecycleEvent> getLifecycleEvents(
+            @QueryParam("poolCode") @Parameter(description = "Pool code (optional, all pools if omitted)") String poolCode,
+            @QueryParam("messageId") @Parameter(description = "Message ID (optional, returns that message's events oldest first)") String messageId,
+            @QueryParam("limit") @DefaultValue("100") @Parameter(description = "Maximum number of events to return") int limit) {
+        if (messageId != null && !messageId.isBlank()) {
+            return lifecycleRecorder.getMessageEvents(messageId);
+        }
+        if (poolCode != null && !poolCode.isBlank()) {
+            return lifecycleRecorder.getRecentEvents(poolCode, limit);
+        }
+        return lifecycleRecorder.getRecentEvents(limit);
+    }
+
+    @GET
+    @Path("/diagnostics/trace")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Get message tracing configuration", description = "Returns the trace sample rate and the message IDs flagged for tracing")
+    public Map<String, Object> getTraceConfig() {
+        return Map.of(
+            "enabled", lifecycleRecorder.isEnabled(),
+            "sampleRate", lifecycleRecorder.getTraceSampleRate(),
+            "flaggedMessageIds", lifecycleRecorder.getFlaggedMessageIds(),
+            "pools", lifecycleRecorder.getPoolCodes()
+        );
+    }
+
+    @POST
+    @Path("/diagnostics/trace/{messageId}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Flag a message for tracing", description = "Logs every lifecycle stage and mediation detail for this message ID")
+    public Response flagMessageForTracing(
+            @PathParam("messageId") @Parameter(description = "Message ID") String messageId) {
+        if (lifecycleRecorder.flagMessage(messageId)) {
+            return Response.ok("{\"status\":\"success\"}").build();
+        }
+        return Response.status(409).entity("{\"status\":\"error\",\"message\":\"Too many flagged messages\"}").build();
+    }
+
+    @DELETE
+    @Path("/diagnostics/trace/{messageId}")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Stop tracing a message", description = "Removes the trace flag for this message ID")
+    public Response unflagMessageForTracing(
+            @PathParam("messageId") @Parameter(description = "Message ID") String messageId) {
+        if (lifecycleRecorder.unflagMessage(messageId)) {
+            return Response.ok("{\"status\":\"success\"}").build();
+        }
+        return Response.status(404).entity("{\"status\":\"error\",\"message\":\"Message not flagged\"}").build();
+    }
+
     @GET
     @Path("/dashboard")
     @Produces(MediaType.TEXT_HTML)
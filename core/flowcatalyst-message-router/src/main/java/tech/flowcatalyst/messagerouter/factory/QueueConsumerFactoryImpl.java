@@ -11,6 +11,7 @@ import tech.flowcatalyst.messagerouter.config.QueueConfig;
 import tech.flowcatalyst.messagerouter.config.QueueType;
 import io.agroal.api.AgroalDataSource;
 import tech.flowcatalyst.messagerouter.consumer.ActiveMqQueueConsumer;
+import tech.flowcatalyst.messagerouter.consumer.AdaptivePollerController;
 import tech.flowcatalyst.messagerouter.consumer.NatsQueueConsumer;
 import tech.flowcatalyst.messagerouter.consumer.QueueConsumer;
 import tech.flowcatalyst.messagerouter.consumer.SqsQueueConsumer;
@@ -58,6 +59,16 @@ public class QueueConsumerFactoryImpl implements QueueConsumerFactory {
     @ConfigProperty(name = "message-router.nats.poll-timeout-seconds", defaultValue = "20")
     int natsPollTimeoutSeconds;
 
+    // Adaptive polling (SQS and NATS consumers)
+    @ConfigProperty(name = "message-router.adaptive-polling.enabled", defaultValue = "true")
+    boolean adaptivePollingEnabled;
+
+    @ConfigProperty(name = "message-router.adaptive-polling.min-connections", defaultValue = "1")
+    int adaptivePollingMinConnections;
+
+    @ConfigProperty(name = "message-router.adaptive-polling.max-connections", defaultValue = "10")
+    int adaptivePollingMaxConnections;
+
     @Inject
     QueueManager queueManager;
 
@@ -97,7 +108,8 @@ public class QueueConsumerFactoryImpl implements QueueConsumerFactory {
                     warningService,
                     sqsMaxMessagesPerPoll,
                     sqsWaitTimeSeconds,
-                    metricsPollIntervalSeconds
+                    metricsPollIntervalSeconds,
+                    adaptivePollingConfig()
                 );
             }
             case ACTIVEMQ -> {
@@ -128,7 +140,8 @@ public class QueueConsumerFactoryImpl implements QueueConsumerFactory {
                     warningService,
                     natsMaxMessagesPerPoll,
                     natsPollTimeoutSeconds,
-                    metricsPollIntervalSeconds
+                    metricsPollIntervalSeconds,
+                    adaptivePollingConfig()
                 );
             }
             case EMBEDDED -> {
@@ -147,4 +160,12 @@ public class QueueConsumerFactoryImpl implements QueueConsumerFactory {
             }
         };
     }
+
+    private AdaptivePollerController.Config adaptivePollingConfig() {
+        return new AdaptivePollerController.Config(
+            adaptivePollingEnabled,
+            adaptivePollingMinConnections,
+            adaptivePollingMaxConnections
+        );
+    }
 }
@@ -4,16 +4,18 @@ import tech.flowcatalyst.messagerouter.callback.MessageCallback;
 import tech.flowcatalyst.messagerouter.model.MessagePointer;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 /**
  * Tracks messages currently in-flight through the processing pipeline.
  *
- * <p>This class consolidates 5 previously separate maps into a single cohesive unit,
+ * <p>This class consolidates the previously separate pipeline, callback and app-ID maps
+ * (including QueueManager's legacy {@code inPipelineMap}) into a single cohesive unit,
  * ensuring consistency when tracking/removing messages and preventing map synchronization bugs.
  *
  * <h2>Tracked State Per Message</h2>
@@ -27,8 +29,24 @@ import java.util.stream.Stream;
  * </ul>
  *
  * <h2>Thread Safety</h2>
- * <p>All operations are thread-safe. The class uses a read-write lock for compound
- * operations that need consistency across multiple internal maps.
+ * <p>All operations are thread-safe and lock-free at the tracker level. There is no global
+ * lock: every mutation is a per-key atomic operation on a {@link ConcurrentHashMap} bin, so
+ * consumers routing unrelated messages never serialise on each other.
+ *
+ * <ul>
+ *   <li>{@link #track} runs inside {@code appMessageIdIndex.compute(appMessageId, ...)}, which
+ *       makes the "is this app ID or broker ID already in flight?" check and the insert a single
+ *       atomic step per application message ID. The pipeline-key insert uses {@code putIfAbsent}
+ *       so physical redeliveries are also detected atomically.</li>
+ *   <li>{@link #remove} removes the primary entry first, then removes the index entry only if it
+ *       still points at the removed pipeline key ({@code remove(key, value)}), so a concurrent
+ *       re-track of the same app ID is never clobbered.</li>
+ *   <li>{@link #updateCallback} is a {@code computeIfPresent} on the primary map.</li>
+ * </ul>
+ *
+ * <p>An index entry whose pipeline key is no longer tracked is treated as stale by every
+ * reader, so the short window between the two steps of {@link #remove} is never observable
+ * as a phantom in-flight message.
  *
  * @see TrackedMessage
  * @see TrackResult
@@ -41,9 +59,6 @@ public class InFlightMessageTracker {
     // Secondary index: appMessageId -> pipelineKey (for requeue detection)
     private final ConcurrentHashMap<String, String> appMessageIdIndex = new ConcurrentHashMap<>();
 
-    // Lock for compound operations that need consistency across both maps
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-
     /**
      * Record containing all tracked state for a message.
      *
@@ -63,7 +78,11 @@ public class InFlightMessageTracker {
         MessagePointer message,
         MessageCallback callback,
         Instant trackedAt
-    ) {}
+    ) {
+        TrackedMessage withCallback(MessageCallback newCallback) {
+            return new TrackedMessage(pipelineKey, messageId, brokerMessageId, queueId, message, newCallback, trackedAt);
+        }
+    }
 
     /**
      * Result of attempting to track a message.
@@ -104,25 +123,24 @@ public class InFlightMessageTracker {
         String appMessageId = message.id();
         String brokerMessageId = message.sqsMessageId();
 
-        lock.writeLock().lock();
-        try {
+        TrackResult[] result = new TrackResult[1];
+
+        // The compute on the app ID bin is the linearisation point for this app message ID:
+        // two consumers tracking the same app ID (requeue race) can never both succeed.
+        appMessageIdIndex.compute(appMessageId, (id, existingPipelineKey) -> {
             // Check 1: Same broker message ID (physical redelivery due to visibility timeout)
             if (trackedMessages.containsKey(pipelineKey)) {
-                return new TrackResult.Duplicate(pipelineKey, false);
+                result[0] = new TrackResult.Duplicate(pipelineKey, false);
+                return existingPipelineKey;
             }
 
             // Check 2: Same app message ID but different broker ID (requeued by external process)
-            String existingPipelineKey = appMessageIdIndex.get(appMessageId);
-            if (existingPipelineKey != null) {
-                // Verify it's still tracked (not a stale index entry)
-                if (trackedMessages.containsKey(existingPipelineKey)) {
-                    return new TrackResult.Duplicate(existingPipelineKey, true);
-                }
-                // Stale index entry - clean it up
-                appMessageIdIndex.remove(appMessageId);
+            // An index entry whose pipeline key is no longer tracked is stale and simply replaced.
+            if (existingPipelineKey != null && trackedMessages.containsKey(existingPipelineKey)) {
+                result[0] = new TrackResult.Duplicate(existingPipelineKey, true);
+                return existingPipelineKey;
             }
 
-            // Track the message
             TrackedMessage tracked = new TrackedMessage(
                 pipelineKey,
                 appMessageId,
@@ -133,14 +151,17 @@ public class InFlightMessageTracker {
                 Instant.now()
             );
 
-            trackedMessages.put(pipelineKey, tracked);
-            appMessageIdIndex.put(appMessageId, pipelineKey);
+            // putIfAbsent guards against a concurrent track of the same broker ID under a different app ID
+            if (trackedMessages.putIfAbsent(pipelineKey, tracked) != null) {
+                result[0] = new TrackResult.Duplicate(pipelineKey, false);
+                return existingPipelineKey;
+            }
 
-            return new TrackResult.Tracked(pipelineKey);
+            result[0] = new TrackResult.Tracked(pipelineKey);
+            return pipelineKey;
+        });
 
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return result[0];
     }
 
     /**
@@ -150,16 +171,12 @@ public class InFlightMessageTracker {
      * @return the tracked message if found, empty otherwise
      */
     public Optional<TrackedMessage> remove(String pipelineKey) {
-        lock.writeLock().lock();
-        try {
-            TrackedMessage removed = trackedMessages.remove(pipelineKey);
-            if (removed != null) {
-                appMessageIdIndex.remove(removed.messageId());
-            }
-            return Optional.ofNullable(removed);
-        } finally {
-            lock.writeLock().unlock();
+        TrackedMessage removed = trackedMessages.remove(pipelineKey);
+        if (removed != null) {
+            // Conditional remove - the app ID may already have been re-tracked under a new key
+            appMessageIdIndex.remove(removed.messageId(), pipelineKey);
         }
+        return Optional.ofNullable(removed);
     }
 
     /**
@@ -179,13 +196,8 @@ public class InFlightMessageTracker {
      * @return the callback if message is tracked, empty otherwise
      */
     public Optional<MessageCallback> getCallback(String pipelineKey) {
-        lock.readLock().lock();
-        try {
-            TrackedMessage tracked = trackedMessages.get(pipelineKey);
-            return tracked != null ? Optional.of(tracked.callback()) : Optional.empty();
-        } finally {
-            lock.readLock().unlock();
-        }
+        TrackedMessage tracked = trackedMessages.get(pipelineKey);
+        return tracked != null ? Optional.of(tracked.callback()) : Optional.empty();
     }
 
     /**
@@ -195,12 +207,7 @@ public class InFlightMessageTracker {
      * @return the tracked message if found, empty otherwise
      */
     public Optional<TrackedMessage> get(String pipelineKey) {
-        lock.readLock().lock();
-        try {
-            return Optional.ofNullable(trackedMessages.get(pipelineKey));
-        } finally {
-            lock.readLock().unlock();
-        }
+        return Optional.ofNullable(trackedMessages.get(pipelineKey));
     }
 
     /**
@@ -220,13 +227,23 @@ public class InFlightMessageTracker {
      * @return true if a message with this app ID is being tracked
      */
     public boolean isInFlight(String appMessageId) {
-        lock.readLock().lock();
-        try {
-            String pipelineKey = appMessageIdIndex.get(appMessageId);
-            return pipelineKey != null && trackedMessages.containsKey(pipelineKey);
-        } finally {
-            lock.readLock().unlock();
+        return getByMessageId(appMessageId).isPresent();
+    }
+
+    /**
+     * Get the tracked message for an application message ID, regardless of its pipeline key.
+     *
+     * @param appMessageId the application message ID
+     * @return the tracked message if a message with this app ID is in-flight, empty otherwise
+     */
+    public Optional<TrackedMessage> getByMessageId(String appMessageId) {
+        String pipelineKey = appMessageIdIndex.get(appMessageId);
+        if (pipelineKey == null) {
+            return Optional.empty();
         }
+        TrackedMessage tracked = trackedMessages.get(pipelineKey);
+        // Ignore stale index entries (pipeline key removed, index not yet cleaned up)
+        return tracked != null && tracked.messageId().equals(appMessageId) ? Optional.of(tracked) : Optional.empty();
     }
 
     /**
@@ -255,15 +272,13 @@ public class InFlightMessageTracker {
      * @return stream of all tracked messages that were cleared
      */
     public Stream<TrackedMessage> clear() {
-        lock.writeLock().lock();
-        try {
-            var messages = trackedMessages.values().stream().toList();
-            trackedMessages.clear();
-            appMessageIdIndex.clear();
-            return messages.stream();
-        } finally {
-            lock.writeLock().unlock();
+        // Remove entry by entry so each cleared message is returned exactly once,
+        // even if other threads are tracking or removing concurrently
+        List<TrackedMessage> messages = new ArrayList<>(trackedMessages.size());
+        for (String pipelineKey : trackedMessages.keySet()) {
+            remove(pipelineKey).ifPresent(messages::add);
         }
+        return messages.stream();
     }
 
     /**
@@ -275,13 +290,8 @@ public class InFlightMessageTracker {
      * @return stream of all tracked messages
      */
     public Stream<TrackedMessage> stream() {
-        lock.readLock().lock();
-        try {
-            // Return a copy to avoid ConcurrentModificationException
-            return trackedMessages.values().stream().toList().stream();
-        } finally {
-            lock.readLock().unlock();
-        }
+        // ConcurrentHashMap iteration is weakly consistent; copy so callers get a stable snapshot
+        return trackedMessages.values().stream().toList().stream();
     }
 
     /**
@@ -292,30 +302,8 @@ public class InFlightMessageTracker {
      * @return true if the message was found and updated
      */
     public boolean updateCallback(String pipelineKey, Function<MessageCallback, MessageCallback> callbackUpdater) {
-        lock.writeLock().lock();
-        try {
-            TrackedMessage existing = trackedMessages.get(pipelineKey);
-            if (existing == null) {
-                return false;
-            }
-
-            MessageCallback newCallback = callbackUpdater.apply(existing.callback());
-            TrackedMessage updated = new TrackedMessage(
-                existing.pipelineKey(),
-                existing.messageId(),
-                existing.brokerMessageId(),
-                existing.queueId(),
-                existing.message(),
-                newCallback,
-                existing.trackedAt()
-            );
-
-            trackedMessages.put(pipelineKey, updated);
-            return true;
-
-        } finally {
-            lock.writeLock().unlock();
-        }
+        return trackedMessages.computeIfPresent(pipelineKey,
+            (key, existing) -> existing.withCallback(callbackUpdater.apply(existing.callback()))) != null;
     }
 
     /**
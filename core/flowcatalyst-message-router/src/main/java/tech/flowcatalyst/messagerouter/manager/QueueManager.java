@@ -19,6 +19,8 @@ import tech.flowcatalyst.messagerouter.config.MessageRouterConfig;
 import tech.flowcatalyst.messagerouter.config.ProcessingPool;
 import tech.flowcatalyst.messagerouter.config.QueueConfig;
 import tech.flowcatalyst.messagerouter.consumer.QueueConsumer;
+import tech.flowcatalyst.messagerouter.diagnostics.LifecycleEvent;
+import tech.flowcatalyst.messagerouter.diagnostics.MessageLifecycleRecorder;
 import tech.flowcatalyst.messagerouter.factory.MediatorFactory;
 import tech.flowcatalyst.messagerouter.factory.QueueConsumerFactory;
 import tech.flowcatalyst.messagerouter.mediator.Mediator;
@@ -26,6 +28,8 @@ import tech.flowcatalyst.messagerouter.metrics.PoolMetricsService;
 import tech.flowcatalyst.messagerouter.model.MessagePointer;
 import tech.flowcatalyst.messagerouter.pool.ProcessPool;
 import tech.flowcatalyst.messagerouter.pool.ProcessPoolImpl;
+import tech.flowcatalyst.messagerouter.pool.SharedCapacity;
+import tech.flowcatalyst.messagerouter.pool.SharedCapacityConfig;
 import tech.flowcatalyst.messagerouter.warning.WarningService;
 
 import java.util.ArrayList;
@@ -36,6 +40,7 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
 @ApplicationScoped
@@ -81,6 +86,14 @@ public class QueueManager implements MessageCallback {
     @Inject
     MeterRegistry meterRegistry;
 
+    // Replaced by the CDI bean at runtime; the test constructor keeps diagnostics disabled
+    @Inject
+    MessageLifecycleRecorder lifecycleRecorder = MessageLifecycleRecorder.disabled();
+
+    // Null in the test constructor, which keeps pools isolated
+    @Inject
+    SharedCapacityConfig sharedCapacityConfig;
+
     // StandbyService is optional - injected if standby is enabled (from shared module)
     @jakarta.inject.Inject
     jakarta.enterprise.inject.Instance<tech.flowcatalyst.standby.StandbyService> standbyServiceInstance;
@@ -89,13 +102,9 @@ public class QueueManager implements MessageCallback {
         return standbyServiceInstance.isResolvable() ? standbyServiceInstance.get() : null;
     }
 
-    // Consolidated in-flight message tracking - replaces 5 separate maps
+    // Consolidated in-flight message tracking - single source of truth for the pipeline
     private final InFlightMessageTracker inFlightTracker = new InFlightMessageTracker();
 
-    // Legacy reference to inPipelineMap for ProcessPoolImpl compatibility
-    // TODO: Update ProcessPoolImpl to not require this map reference
-    private final ConcurrentHashMap<String, MessagePointer> inPipelineMap = new ConcurrentHashMap<>();
-
     private final ConcurrentHashMap<String, ProcessPool> processPools = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, QueueConsumer> queueConsumers = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, QueueConfig> queueConfigs = new ConcurrentHashMap<>();
@@ -104,6 +113,9 @@ public class QueueManager implements MessageCallback {
     private final ConcurrentHashMap<String, ProcessPool> drainingPools = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, QueueConsumer> drainingConsumers = new ConcurrentHashMap<>();
 
+    // Worker budget shared by all pools, created with the first pool when enabled
+    private final AtomicReference<SharedCapacity> sharedCapacity = new AtomicReference<>();
+
     private volatile boolean initialized = false;
     private volatile boolean shutdownInProgress = false;
 
@@ -293,9 +305,6 @@ public class QueueManager implements MessageCallback {
             }
         }
 
-        // Also clear the legacy inPipelineMap used by ProcessPoolImpl
-        inPipelineMap.clear();
-
         // Update gauges one final time
         updateMapSizeGauges();
 
@@ -649,6 +658,9 @@ public class QueueManager implements MessageCallback {
                             oldLimit != null ? oldLimit + "/min" : "none",
                             newLimit != null ? newLimit + "/min" : "none");
                     }
+
+                    // Weight and priority only matter with a shared budget; isolated pools ignore them
+                    existingPool.updateSharing(newPoolConfig.effectiveWeight(), newPoolConfig.effectivePriority());
                 }
             }
 
@@ -703,9 +715,11 @@ public class QueueManager implements MessageCallback {
                         poolConfig.rateLimitPerMinute(),
                         mediator,
                         this,
-                        inPipelineMap,
                         poolMetrics,
-                        warningService
+                        warningService,
+                        lifecycleRecorder,
+                        registerShare(poolConfig.code(), effectiveConcurrency,
+                            poolConfig.effectiveWeight(), poolConfig.effectivePriority())
                     );
 
                     pool.start();
@@ -940,7 +954,8 @@ public class QueueManager implements MessageCallback {
         for (BatchMessage batchMsg : messages) {
             String sqsMessageId = batchMsg.sqsMessageId();
             String appMessageId = batchMsg.message().id();
-            String pipelineKey = sqsMessageId != null ? sqsMessageId : appMessageId;
+            lifecycleRecorder.record(batchMsg.message().poolCode(), appMessageId,
+                LifecycleEvent.Stage.RECEIVED, batchMsg.queueIdentifier());
 
             // Check 1: Same broker message ID (physical redelivery from SQS due to visibility timeout)
             // This MUST be checked FIRST because the same broker ID means it's a visibility timeout redelivery,
@@ -959,8 +974,9 @@ public class QueueManager implements MessageCallback {
             // This happens when a separate process requeues messages that were stuck in QUEUED status for 20+ min
             // The external process creates a NEW SQS message with the same application message ID
             else if (inFlightTracker.isInFlight(appMessageId)) {
-                var existingTracked = inFlightTracker.get(pipelineKey);
-                String existingPipelineKey = existingTracked.map(t -> t.pipelineKey()).orElse(null);
+                String existingPipelineKey = inFlightTracker.getByMessageId(appMessageId)
+                    .map(InFlightMessageTracker.TrackedMessage::pipelineKey)
+                    .orElse(null);
 
                 // Only treat as requeued duplicate if the broker message IDs are DIFFERENT
                 // If they're the same, it would have been caught by the check above
@@ -1014,11 +1030,11 @@ public class QueueManager implements MessageCallback {
                 if (defaultPoolUsageCounter != null) {
                     defaultPoolUsageCounter.increment();
                 }
-                warningService.addWarning(
+                warningService.addWarningf(
                     "ROUTING",
                     "WARN",
-                    String.format("No pool found for code [%s], using default pool", poolCode),
-                    "QueueManager"
+                    "QueueManager",
+                    "No pool found for code [%s], using default pool", poolCode
                 );
                 pool = getOrCreateDefaultPool();
             }
@@ -1029,12 +1045,11 @@ public class QueueManager implements MessageCallback {
                 LOG.warnf("Pool [%s] buffer full - nacking all %d messages for this pool in batch",
                     poolCode, poolMessages.size());
                 toNackPoolFull.addAll(poolMessages);
-                warningService.addWarning(
+                warningService.addWarningf(
                     "QUEUE_FULL",
                     "WARN",
-                    String.format("Pool [%s] queue full, nacking %d messages from batch",
-                        poolCode, poolMessages.size()),
-                    "QueueManager"
+                    "QueueManager",
+                    "Pool [%s] queue full, nacking %d messages from batch", poolCode, poolMessages.size()
                 );
                 continue;
             }
@@ -1046,6 +1061,8 @@ public class QueueManager implements MessageCallback {
 
         // Nack all pool-full messages (deferred - will retry when capacity available)
         for (BatchMessage batchMsg : toNackPoolFull) {
+            lifecycleRecorder.record(batchMsg.message().poolCode(), batchMsg.message().id(),
+                LifecycleEvent.Stage.NACKED, "POOL_FULL");
             batchMsg.callback().nack(batchMsg.message());
             queueMetrics.recordMessageDeferred(getQueueIdentifier(batchMsg));
         }
@@ -1092,17 +1109,8 @@ public class QueueManager implements MessageCallback {
                     String queueIdentifier = getQueueIdentifier(batchMsg);
 
                     // Enrich message with batchId and sqsMessageId for tracking
-                    MessagePointer enrichedMessage = new MessagePointer(
-                        message.id(),
-                        message.poolCode(),
-                        message.authToken(),
-                        message.mediationType(),
-                        message.mediationTarget(),
-                        message.messageGroupId(),
-                        message.highPriority(),  // Preserve high priority flag
-                        batchId,  // Add batch ID
-                        sqsMessageId  // Add SQS message ID
-                    );
+                    // (consumers already decode with the broker ID set, so usually only batchId is added)
+                    MessagePointer enrichedMessage = message.withSqsMessageId(sqsMessageId).withBatchId(batchId);
 
                     // Track message in-flight
                     var trackResult = inFlightTracker.track(enrichedMessage, callback, queueIdentifier);
@@ -1118,9 +1126,6 @@ public class QueueManager implements MessageCallback {
 
                     String pipelineKey = ((InFlightMessageTracker.TrackResult.Tracked) trackResult).pipelineKey();
 
-                    // Also add to legacy inPipelineMap for ProcessPoolImpl compatibility
-                    inPipelineMap.put(pipelineKey, enrichedMessage);
-
                     // Try to submit to pool
                     boolean submitted = pool.submit(enrichedMessage);
                     if (!submitted) {
@@ -1129,7 +1134,6 @@ public class QueueManager implements MessageCallback {
 
                         // Remove from tracking since we're nacking
                         inFlightTracker.remove(pipelineKey);
-                        inPipelineMap.remove(pipelineKey);
 
                         // Nack this message (deferred - pool submission failed, will retry)
                         callback.nack(enrichedMessage);
@@ -1138,6 +1142,7 @@ public class QueueManager implements MessageCallback {
                         // Set flag to nack all remaining messages in this group
                         nackRemaining = true;
                     } else {
+                        lifecycleRecorder.record(poolCode, enrichedMessage.id(), LifecycleEvent.Stage.ROUTED, batchId);
                         LOG.debugf("Routed message [%s] to pool [%s]", enrichedMessage.id(), poolCode);
                         queueMetrics.recordMessageProcessed(queueIdentifier, true);
                     }
@@ -1160,7 +1165,7 @@ public class QueueManager implements MessageCallback {
      */
     @Deprecated
     public boolean routeMessage(MessagePointer message, MessageCallback callback, String queueIdentifier) {
-        String pipelineKey = message.sqsMessageId() != null ? message.sqsMessageId() : message.id();
+        String pipelineKey = InFlightMessageTracker.getPipelineKey(message);
         String appMessageId = message.id();
 
         // Check if message would be rejected BEFORE routing
@@ -1253,14 +1258,9 @@ public class QueueManager implements MessageCallback {
 
     @Override
     public void ack(MessagePointer message) {
-        // Use sqsMessageId as key if available, otherwise fall back to app message ID
-        String pipelineKey = message.sqsMessageId() != null ? message.sqsMessageId() : message.id();
-
-        // Remove from tracker (handles all internal map cleanup)
-        var removed = inFlightTracker.remove(pipelineKey);
-
-        // Also remove from legacy inPipelineMap for ProcessPoolImpl compatibility
-        inPipelineMap.remove(pipelineKey);
+        // Remove from tracker (uses sqsMessageId as key if available, otherwise app message ID)
+        var removed = inFlightTracker.remove(message);
+        lifecycleRecorder.record(message.poolCode(), message.id(), LifecycleEvent.Stage.ACKED, null);
 
         // Call the stored callback
         removed.ifPresent(tracked -> tracked.callback().ack(message));
@@ -1270,14 +1270,9 @@ public class QueueManager implements MessageCallback {
 
     @Override
     public void nack(MessagePointer message) {
-        // Use sqsMessageId as key if available, otherwise fall back to app message ID
-        String pipelineKey = message.sqsMessageId() != null ? message.sqsMessageId() : message.id();
-
-        // Remove from tracker (handles all internal map cleanup)
-        var removed = inFlightTracker.remove(pipelineKey);
-
-        // Also remove from legacy inPipelineMap for ProcessPoolImpl compatibility
-        inPipelineMap.remove(pipelineKey);
+        // Remove from tracker (uses sqsMessageId as key if available, otherwise app message ID)
+        var removed = inFlightTracker.remove(message);
+        lifecycleRecorder.record(message.poolCode(), message.id(), LifecycleEvent.Stage.NACKED, null);
 
         // Call the stored callback
         removed.ifPresent(tracked -> tracked.callback().nack(message));
@@ -1337,6 +1332,25 @@ public class QueueManager implements MessageCallback {
         return tech.flowcatalyst.messagerouter.model.MediationType.HTTP;
     }
 
+    /**
+     * Registers a pool with the shared worker budget, creating the budget on first use.
+     *
+     * @return the pool's share, or null if shared capacity is disabled and pools are isolated
+     */
+    private SharedCapacity.Share registerShare(String poolCode, int concurrency, int weight, int priority) {
+        if (sharedCapacityConfig == null || !sharedCapacityConfig.enabled()) {
+            return null;
+        }
+        // Not under syncLock: the default pool is registered from inside processPools.computeIfAbsent
+        SharedCapacity capacity = sharedCapacity.get();
+        if (capacity == null) {
+            sharedCapacity.compareAndSet(null, new SharedCapacity(sharedCapacityConfig.totalConcurrency()));
+            capacity = sharedCapacity.get();
+            LOG.infof("Pools share a worker budget of %d", capacity.getTotalPermits());
+        }
+        return capacity.register(poolCode, concurrency, weight, priority);
+    }
+
     /**
      * Gets or lazily creates the default pool for messages with unknown pool codes.
      * This pool acts as a fallback to prevent message loss when pool configuration is missing.
@@ -1360,9 +1374,10 @@ public class QueueManager implements MessageCallback {
                 null, // No rate limiting for default pool
                 mediator,
                 this,
-                inPipelineMap,
                 poolMetrics,
-                warningService
+                warningService,
+                lifecycleRecorder,
+                registerShare(DEFAULT_POOL_CODE, DEFAULT_POOL_CONCURRENCY, 1, 0)
             );
 
             pool.start();
@@ -1418,4 +1433,27 @@ public class QueueManager implements MessageCallback {
     public int getInFlightCount() {
         return inFlightTracker.size();
     }
+
+    /**
+     * Get the free buffer capacity available for the given pools.
+     * Used by consumers to avoid receiving messages that would be nacked as pool-full.
+     * Capacity is summed across the pools, so one full pool does not stop a consumer
+     * from receiving messages for the others.
+     *
+     * @param poolCodes the pools a consumer routes to
+     * @return the total free capacity of the known pools (0 only when all of them are full),
+     *         or Integer.MAX_VALUE if none are known
+     */
+    public int getAvailableCapacity(java.util.Collection<String> poolCodes) {
+        long available = 0;
+        boolean known = false;
+        for (String poolCode : poolCodes) {
+            ProcessPool pool = processPools.get(poolCode);
+            if (pool != null) {
+                known = true;
+                available += Math.max(0, pool.getQueueCapacity() - pool.getQueueSize());
+            }
+        }
+        return known ? (int) Math.min(Integer.MAX_VALUE, available) : Integer.MAX_VALUE;
+    }
 }
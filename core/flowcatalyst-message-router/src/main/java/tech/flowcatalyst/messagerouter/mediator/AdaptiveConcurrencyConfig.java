@@ -0,0 +1,64 @@
+package tech.flowcatalyst.messagerouter.mediator;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+import tech.flowcatalyst.concurrency.AdaptiveConcurrencyLimiter;
+
+/**
+ * Configuration for the per-endpoint adaptive concurrency limits of {@link HttpMediator}.
+ *
+ * @see AdaptiveConcurrencyLimiter
+ */
+@ConfigMapping(prefix = "mediator.http.adaptive-concurrency")
+public interface AdaptiveConcurrencyConfig {
+
+    /**
+     * Enable per-endpoint concurrency limits.
+     * If false, every request is sent and only the pool concurrency applies.
+     * Off by default because dispatch jobs all target the platform's processing endpoint, which
+     * limits each webhook destination itself; a limit here would be one limit for all of them.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Limit of an endpoint seen for the first time.
+     */
+    @WithDefault("20")
+    int initialLimit();
+
+    /**
+     * Lowest limit - a failing endpoint always keeps this many requests in flight.
+     */
+    @WithDefault("1")
+    int minLimit();
+
+    /**
+     * Highest limit.
+     */
+    @WithDefault("500")
+    int maxLimit();
+
+    /**
+     * Factor applied to the limit when an endpoint fails or slows down.
+     */
+    @WithDefault("0.75")
+    double backoffRatio();
+
+    /**
+     * A response slower than the endpoint's baseline latency times this factor counts as a slowdown.
+     */
+    @WithDefault("2.0")
+    double latencyTolerance();
+
+    /**
+     * Visibility delay of messages requeued because their endpoint is at its limit.
+     */
+    @WithDefault("5")
+    int shedDelaySeconds();
+
+    default AdaptiveConcurrencyLimiter.Settings settings() {
+        return new AdaptiveConcurrencyLimiter.Settings(
+            initialLimit(), minLimit(), maxLimit(), backoffRatio(), latencyTolerance());
+    }
+}
@@ -0,0 +1,46 @@
+package tech.flowcatalyst.messagerouter.mediator;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Configuration for sending messages to the same target in batch requests.
+ *
+ * @see MediationBatcher
+ */
+@ConfigMapping(prefix = "mediator.http.batch")
+public interface BatchMediationConfig {
+
+    /**
+     * Enable batch requests for the configured targets.
+     * If false, every message is sent in its own request.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Mediation target URL prefixes whose endpoints accept batch requests at {@code <target>/batch}.
+     * Messages for other targets are always sent on their own.
+     */
+    Optional<List<String>> targets();
+
+    /**
+     * Most messages sent in one batch request.
+     */
+    @WithDefault("50")
+    int maxSize();
+
+    /**
+     * How long the first message of a batch waits for more messages for the same target.
+     */
+    @WithDefault("5ms")
+    Duration linger();
+
+    default MediationBatcher.Settings settings() {
+        return new MediationBatcher.Settings(maxSize(), linger(), targets().orElse(List.of()));
+    }
+}
@@ -1,11 +1,18 @@
 package tech.flowcatalyst.messagerouter.mediator;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.smallrye.faulttolerance.api.CircuitBreakerName;
 import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
 import org.jboss.logging.Logger;
+import tech.flowcatalyst.concurrency.AdaptiveConcurrencyLimiter;
+import tech.flowcatalyst.messagerouter.diagnostics.MessageLifecycleRecorder;
+import tech.flowcatalyst.messagerouter.model.EndpointLimitStats;
 import tech.flowcatalyst.messagerouter.model.MediationOutcome;
 import tech.flowcatalyst.messagerouter.model.MediationResponse;
 import tech.flowcatalyst.messagerouter.model.MediationType;
@@ -17,6 +24,11 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -31,21 +43,66 @@ public class HttpMediator implements Mediator {
     private final ExecutorService executorService;
     private final long timeoutMillis;
     private final WarningService warningService;
+    private final MessageLifecycleRecorder lifecycleRecorder;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final int shedDelaySeconds;
+    private final MediationBatcher batcher;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    public HttpMediator(String httpVersion, long timeoutMillis, WarningService warningService) {
+        this(httpVersion, timeoutMillis, warningService, MessageLifecycleRecorder.disabled(), null, 0, null);
+    }
+
+    @Inject
     public HttpMediator(
             @org.eclipse.microprofile.config.inject.ConfigProperty(name = "mediator.http.version", defaultValue = "HTTP_2") String httpVersion,
             @org.eclipse.microprofile.config.inject.ConfigProperty(name = "mediator.http.timeout.ms", defaultValue = "900000") long timeoutMillis,
-            WarningService warningService) {
+            WarningService warningService,
+            MessageLifecycleRecorder lifecycleRecorder,
+            AdaptiveConcurrencyConfig adaptiveConcurrency,
+            BatchMediationConfig batchMediation) {
+        this(httpVersion, timeoutMillis, warningService, lifecycleRecorder,
+            adaptiveConcurrency.enabled() ? new AdaptiveConcurrencyLimiter(adaptiveConcurrency.settings()) : null,
+            adaptiveConcurrency.shedDelaySeconds(),
+            batchMediation.enabled() ? batchMediation.settings() : null);
+    }
+
+    /**
+     * @param concurrencyLimiter per-endpoint concurrency limits, or null to send every request
+     * @param shedDelaySeconds   visibility delay of messages rejected by the limiter
+     */
+    public HttpMediator(String httpVersion, long timeoutMillis, WarningService warningService,
+                        MessageLifecycleRecorder lifecycleRecorder,
+                        AdaptiveConcurrencyLimiter concurrencyLimiter, int shedDelaySeconds) {
+        this(httpVersion, timeoutMillis, warningService, lifecycleRecorder, concurrencyLimiter, shedDelaySeconds, null);
+    }
+
+    /**
+     * @param concurrencyLimiter per-endpoint concurrency limits, or null to send every request
+     * @param shedDelaySeconds   visibility delay of messages rejected by the limiter
+     * @param batchSettings      targets to send batch requests to, or null to send every message on its own
+     */
+    public HttpMediator(String httpVersion, long timeoutMillis, WarningService warningService,
+                        MessageLifecycleRecorder lifecycleRecorder,
+                        AdaptiveConcurrencyLimiter concurrencyLimiter, int shedDelaySeconds,
+                        MediationBatcher.Settings batchSettings) {
         this.executorService = Executors.newVirtualThreadPerTaskExecutor();
         this.timeoutMillis = timeoutMillis;
         this.warningService = warningService;
+        this.lifecycleRecorder = lifecycleRecorder;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.shedDelaySeconds = shedDelaySeconds;
+        this.batcher = batchSettings != null && !batchSettings.targets().isEmpty()
+            ? new MediationBatcher(batchSettings, this::sendBatch)
+            : null;
 
         HttpClient.Version version = "HTTP_1_1".equalsIgnoreCase(httpVersion)
             ? HttpClient.Version.HTTP_1_1
             : HttpClient.Version.HTTP_2;
 
-        LOG.infof("Initializing HttpMediator with HTTP version: %s, timeout: %dms", version, timeoutMillis);
+        LOG.infof("Initializing HttpMediator with HTTP version: %s, timeout: %dms, adaptive concurrency: %s, batching: %s",
+            version, timeoutMillis, concurrencyLimiter != null ? "enabled" : "disabled",
+            batcher != null ? batchSettings.targets() : "disabled");
 
         this.httpClient = HttpClient.newBuilder()
             .version(version)
@@ -85,7 +142,7 @@ public class HttpMediator implements Mediator {
         MediationError lastError = null;
 
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
-            MediationOutcome outcome = attemptProcess(message);
+            MediationOutcome outcome = limitedAttempt(message);
 
             // If successful or a permanent error (config error), return immediately
             if (outcome.result() == tech.flowcatalyst.messagerouter.model.MediationResult.SUCCESS ||
@@ -93,6 +150,11 @@ public class HttpMediator implements Mediator {
                 return outcome;
             }
 
+            // Endpoint at its concurrency limit - requeue rather than wait here
+            if (outcome.error() instanceof MediationError.ConcurrencyLimited) {
+                return outcome;
+            }
+
             // For retryable errors, check if we should retry
             lastError = outcome.error();
             boolean shouldRetry = lastError != null && lastError.isRetryable();
@@ -125,15 +187,96 @@ public class HttpMediator implements Mediator {
         return MediationOutcome.errorProcess(lastError);
     }
 
+    /**
+     * Run one attempt within the target endpoint's adaptive concurrency limit.
+     * At the limit the message is not sent but requeued with a delay, so it does not hold a
+     * pool slot while a slow endpoint works through the requests it already has.
+     */
+    private MediationOutcome limitedAttempt(MessagePointer message) {
+        if (concurrencyLimiter == null) {
+            return attemptProcess(message);
+        }
+
+        String endpoint = AdaptiveConcurrencyLimiter.endpointOf(message.mediationTarget());
+        AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire(endpoint);
+        if (permit == null) {
+            int limit = concurrencyLimiter.getLimit(endpoint);
+            LOG.debugf("Message [%s] not sent - endpoint [%s] at concurrency limit %d, requeueing in %ds",
+                message.id(), endpoint, limit, shedDelaySeconds);
+            return MediationOutcome.errorProcess(shedDelaySeconds,
+                new MediationError.ConcurrencyLimited(endpoint, limit));
+        }
+
+        MediationOutcome outcome = null;
+        try {
+            outcome = attemptProcess(message);
+            return outcome;
+        } finally {
+            if (outcome == null) {
+                permit.ignore();
+            } else if (isEndpointDegraded(outcome)) {
+                permit.dropped();
+            } else {
+                permit.success();
+            }
+        }
+    }
+
+    /**
+     * Whether an outcome shows the endpoint timing out, failing or pushing back.
+     * Responses the endpoint answered deliberately (2xx, 4xx config errors, ack=false) count as healthy.
+     */
+    private static boolean isEndpointDegraded(MediationOutcome outcome) {
+        if (outcome.result() == tech.flowcatalyst.messagerouter.model.MediationResult.ERROR_CONNECTION) {
+            return true;
+        }
+        return switch (outcome.error()) {
+            case MediationError.HttpError e -> e.statusCode() >= 500;
+            case MediationError.Timeout t -> true;
+            case MediationError.RateLimited r -> true;
+            case MediationError.NetworkError n -> true;
+            case null, default -> false;
+        };
+    }
+
+    /**
+     * Adaptive concurrency limits of the endpoints this mediator has sent to.
+     */
+    public List<EndpointLimitStats> getEndpointLimits() {
+        if (concurrencyLimiter == null) {
+            return List.of();
+        }
+        return concurrencyLimiter.getStats().stream()
+            .map(s -> new EndpointLimitStats(s.endpoint(), s.limit(), s.inFlight(), s.baselineLatencyMs(),
+                s.lastLatencyMs(), s.rejectedRequests(), s.droppedRequests()))
+            .toList();
+    }
+
+    /**
+     * Send the message in a batch when its target supports it, otherwise on its own.
+     * A batched message still holds its own limiter permit, so it counts toward the endpoint's limit.
+     */
     private MediationOutcome attemptProcess(MessagePointer message) {
+        if (batcher != null) {
+            MediationOutcome outcome = batcher.submit(message);
+            if (outcome != null) {
+                return outcome;
+            }
+        }
+        return sendSingle(message);
+    }
+
+    private MediationOutcome sendSingle(MessagePointer message) {
         try {
-            String payload = String.format("{\"messageId\":\"%s\"}", message.id());
-            LOG.infof("HttpMediator: Attempting to process message [%s] via HTTP POST to [%s]",
-                message.id(), message.mediationTarget());
-            LOG.infof("HttpMediator: Payload: %s", payload);
-            LOG.infof("HttpMediator: Authorization token (first 20 chars): %s...",
-                message.authToken() != null && message.authToken().length() > 20 ?
-                    message.authToken().substring(0, 20) : message.authToken());
+            String payload = "{\"messageId\":\"" + message.id() + "\"}";
+
+            // Per-request details only for traced (sampled/flagged) messages, or at DEBUG
+            Logger.Level detailLevel = lifecycleRecorder.isTraced(message.id()) ? Logger.Level.INFO : Logger.Level.DEBUG;
+            boolean logDetail = LOG.isEnabled(detailLevel);
+            if (logDetail) {
+                LOG.logf(detailLevel, "HttpMediator: Processing message [%s] via HTTP POST to [%s] (authToken present: %s)",
+                    message.id(), message.mediationTarget(), message.authToken() != null);
+            }
 
             // Build HTTP request with configurable timeout (Content-Length set automatically by HttpClient)
             HttpRequest request = HttpRequest.newBuilder()
@@ -145,16 +288,15 @@ public class HttpMediator implements Mediator {
                 .POST(HttpRequest.BodyPublishers.ofString(payload))
                 .build();
 
-            LOG.infof("HttpMediator: HTTP request built. Sending to [%s] with HTTP version [%s], timeout: %dms",
-                message.mediationTarget(), httpClient.version(), timeoutMillis);
-
             // Send request
             long sendStartTime = System.currentTimeMillis();
             HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
             long sendDuration = System.currentTimeMillis() - sendStartTime;
 
-            LOG.infof("HttpMediator: HTTP request completed in %dms. Status code: %d",
-                sendDuration, response.statusCode());
+            if (logDetail) {
+                LOG.logf(detailLevel, "HttpMediator: Message [%s] HTTP request completed in %dms. Status code: %d",
+                    message.id(), sendDuration, response.statusCode());
+            }
 
             // Evaluate response
             int statusCode = response.statusCode();
@@ -169,145 +311,171 @@ public class HttpMediator implements Mediator {
                 try {
                     // Log raw response body for debugging
                     String responseBody = response.body();
-                    LOG.infof("Message [%s] received 200 OK. Raw response body: %s", message.id(), responseBody);
+                    if (logDetail) {
+                        LOG.logf(detailLevel, "Message [%s] received 200 OK. Raw response body: %s", message.id(), responseBody);
+                    }
 
                     MediationResponse mediationResponse = objectMapper.readValue(responseBody, MediationResponse.class);
-
-                    LOG.infof("Message [%s] parsed MediationResponse - ack: %s, message: %s, delaySeconds: %s",
-                        message.id(), mediationResponse.ack(), mediationResponse.message(), mediationResponse.delaySeconds());
-
-                    if (mediationResponse.ack()) {
-                        LOG.infof("Message [%s] processed successfully with ack=true - will ACK", message.id());
-                        return MediationOutcome.success();
-                    } else {
-                        // ack=false means message is accepted but not ready to process yet (e.g., notBefore time not reached)
-                        // Use the delay from the response if provided
-                        Integer delaySeconds = mediationResponse.delaySeconds();
-                        if (delaySeconds != null && delaySeconds > 0) {
-                            LOG.warnf("Message [%s] received 200 OK but ack=false with delay=%ds - will NACK and retry after delay. Reason: %s",
-                                message.id(), delaySeconds, mediationResponse.message());
-                        } else {
-                            LOG.warnf("Message [%s] received 200 OK but ack=false - will NACK and retry. Reason: %s",
-                                message.id(), mediationResponse.message());
-                        }
-                        return MediationOutcome.errorProcess(delaySeconds);
-                    }
+                    return acknowledgement(message.id(), mediationResponse.ack(),
+                        mediationResponse.delaySeconds(), mediationResponse.message());
                 } catch (Exception e) {
                     // If response is not valid JSON or missing ack field, treat as success (backward compatibility)
                     LOG.warnf(e, "Message [%s] received 200 OK but response was not valid MediationResponse (parse error: %s). Response body: %s - treating as success and ACKing",
                         message.id(), e.getMessage(), response.body());
                     return MediationOutcome.success();
                 }
-            } else if (statusCode == 501) {
-                // 501 Not Implemented - endpoint doesn't support this operation, should ACK to prevent retry
-                LOG.errorf("Message [%s] failed with 501 Not Implemented - operation not supported at endpoint: %s",
-                    message.id(), message.mediationTarget());
-                warningService.addWarning(
-                    "CONFIGURATION",
-                    "CRITICAL",
-                    String.format("Endpoint configuration error for message %s: HTTP 501 Not Implemented - Target: %s",
-                        message.id(), message.mediationTarget()),
-                    "HttpMediator"
-                );
-                return MediationOutcome.errorConfig(
-                    new MediationError.HttpError(statusCode, response.body())
-                );
-            } else if (statusCode >= 500) {
-                // 5xx Server errors (except 501) - transient infrastructure issues
-                // Let SQS visibility timeout handle retries rather than quick retries
-                LOG.warnf("Message [%s] failed with server error: %d - will be retried via queue visibility timeout", message.id(), statusCode);
-                return MediationOutcome.errorProcess(
-                    new MediationError.HttpError(statusCode, response.body())
-                );
-            } else if (statusCode == 400) {
-                // 400 Bad Request - permanent configuration/data error, ACK to prevent retry
-                // Extract reason from response body if available
-                String reason = extractReasonFromResponse(response.body());
-                LOG.errorf("Message [%s] failed with 400 Bad Request - configuration error: %s",
-                    message.id(), reason);
-                warningService.addWarning(
-                    "CONFIGURATION",
-                    "ERROR",
-                    String.format("Bad request for message %s: HTTP 400 - %s - Target: %s",
-                        message.id(), reason, message.mediationTarget()),
-                    "HttpMediator"
-                );
-                return MediationOutcome.errorConfig(
-                    new MediationError.HttpError(statusCode, response.body())
-                );
-            } else if (statusCode == 404) {
-                // 404 Not Found - configuration error (endpoint doesn't exist at this URL)
-                LOG.errorf("Message [%s] failed with 404 Not Found - configuration error: endpoint not found", message.id());
-                warningService.addWarning(
-                    "CONFIGURATION",
-                    "ERROR",
-                    String.format("Endpoint not found for message %s: HTTP 404 - Target: %s",
-                        message.id(), message.mediationTarget()),
-                    "HttpMediator"
-                );
-                return MediationOutcome.errorConfig(
-                    new MediationError.HttpError(statusCode, response.body())
-                );
-            } else if (statusCode == 429) {
-                // 429 Too Many Requests - rate limiting from target endpoint, NACK for retry
-                // This is a transient error, not a configuration error
-                Integer retryAfterSeconds = extractRetryAfterHeader(response);
-                if (retryAfterSeconds != null) {
-                    LOG.warnf("Message [%s] received 429 Too Many Requests with Retry-After=%ds - will NACK and retry after delay",
-                        message.id(), retryAfterSeconds);
-                } else {
-                    // Default to 30 seconds if no Retry-After header
-                    retryAfterSeconds = 30;
-                    LOG.warnf("Message [%s] received 429 Too Many Requests (no Retry-After header) - will NACK and retry in %ds",
-                        message.id(), retryAfterSeconds);
-                }
-                return MediationOutcome.errorProcess(
-                    retryAfterSeconds,
-                    new MediationError.RateLimited(Duration.ofSeconds(retryAfterSeconds))
-                );
-            } else if (statusCode >= 401 && statusCode < 500) {
-                // All other 4xx errors indicate configuration problems:
-                // 401 Unauthorized, 403 Forbidden, 405 Method Not Allowed, etc.
-                // These are permanent errors, should ACK to prevent retry
-                // (Note: 404 is handled separately above as a configuration error)
-                String reason = extractReasonFromResponse(response.body());
-                LOG.errorf("Message [%s] failed with %d %s - configuration error: %s",
-                    message.id(), statusCode, getStatusDescription(statusCode), reason);
-                warningService.addWarning(
-                    "CONFIGURATION",
-                    "ERROR",
-                    String.format("Configuration error for message %s: HTTP %d %s - %s - Target: %s",
-                        message.id(), statusCode, getStatusDescription(statusCode), reason, message.mediationTarget()),
-                    "HttpMediator"
-                );
-                return MediationOutcome.errorConfig(
-                    new MediationError.HttpError(statusCode, response.body())
-                );
+            }
+            return statusOutcome(message.id(), message.mediationTarget(), response);
+
+        } catch (Exception e) {
+            return exceptionOutcome(message.id(), e);
+        }
+    }
+
+    /**
+     * Outcome of a message the target answered with ack/nack.
+     */
+    private static MediationOutcome acknowledgement(String messageId, boolean ack, Integer delaySeconds, String reason) {
+        if (ack) {
+            return MediationOutcome.success();
+        }
+        // ack=false means message is accepted but not ready to process yet (e.g., notBefore time not reached)
+        // Use the delay from the response if provided
+        if (delaySeconds != null && delaySeconds > 0) {
+            LOG.warnf("Message [%s] received 200 OK but ack=false with delay=%ds - will NACK and retry after delay. Reason: %s",
+                messageId, delaySeconds, reason);
+        } else {
+            LOG.warnf("Message [%s] received 200 OK but ack=false - will NACK and retry. Reason: %s",
+                messageId, reason);
+        }
+        return MediationOutcome.errorProcess(delaySeconds);
+    }
+
+    /**
+     * Outcome of a response other than 200 OK.
+     *
+     * @param subject the message ID, or a description of the batch
+     */
+    private MediationOutcome statusOutcome(String subject, String target, HttpResponse<String> response) {
+        int statusCode = response.statusCode();
+        if (statusCode == 501) {
+            // 501 Not Implemented - endpoint doesn't support this operation, should ACK to prevent retry
+            LOG.errorf("Message [%s] failed with 501 Not Implemented - operation not supported at endpoint: %s",
+                subject, target);
+            warningService.addWarningf(
+                "CONFIGURATION",
+                "CRITICAL",
+                "HttpMediator",
+                "Endpoint configuration error for message %s: HTTP 501 Not Implemented - Target: %s",
+                subject, target
+            );
+            return MediationOutcome.errorConfig(
+                new MediationError.HttpError(statusCode, response.body())
+            );
+        } else if (statusCode >= 500) {
+            // 5xx Server errors (except 501) - transient infrastructure issues
+            // Let SQS visibility timeout handle retries rather than quick retries
+            LOG.warnf("Message [%s] failed with server error: %d - will be retried via queue visibility timeout", subject, statusCode);
+            return MediationOutcome.errorProcess(
+                new MediationError.HttpError(statusCode, response.body())
+            );
+        } else if (statusCode == 400) {
+            // 400 Bad Request - permanent configuration/data error, ACK to prevent retry
+            // Extract reason from response body if available
+            String reason = extractReasonFromResponse(response.body());
+            LOG.errorf("Message [%s] failed with 400 Bad Request - configuration error: %s",
+                subject, reason);
+            warningService.addWarningf(
+                "CONFIGURATION",
+                "ERROR",
+                "HttpMediator",
+                "Bad request for message %s: HTTP 400 - %s - Target: %s",
+                subject, reason, target
+            );
+            return MediationOutcome.errorConfig(
+                new MediationError.HttpError(statusCode, response.body())
+            );
+        } else if (statusCode == 404) {
+            // 404 Not Found - configuration error (endpoint doesn't exist at this URL)
+            LOG.errorf("Message [%s] failed with 404 Not Found - configuration error: endpoint not found", subject);
+            warningService.addWarningf(
+                "CONFIGURATION",
+                "ERROR",
+                "HttpMediator",
+                "Endpoint not found for message %s: HTTP 404 - Target: %s",
+                subject, target
+            );
+            return MediationOutcome.errorConfig(
+                new MediationError.HttpError(statusCode, response.body())
+            );
+        } else if (statusCode == 429) {
+            // 429 Too Many Requests - rate limiting from target endpoint, NACK for retry
+            // This is a transient error, not a configuration error
+            Integer retryAfterSeconds = extractRetryAfterHeader(response);
+            if (retryAfterSeconds != null) {
+                LOG.warnf("Message [%s] received 429 Too Many Requests with Retry-After=%ds - will NACK and retry after delay",
+                    subject, retryAfterSeconds);
             } else {
-                LOG.warnf("Message [%s] received unexpected status: %d - will be retried via queue visibility timeout", message.id(), statusCode);
-                return MediationOutcome.errorProcess(
-                    new MediationError.HttpError(statusCode, response.body())
-                );
+                // Default to 30 seconds if no Retry-After header
+                retryAfterSeconds = 30;
+                LOG.warnf("Message [%s] received 429 Too Many Requests (no Retry-After header) - will NACK and retry in %ds",
+                    subject, retryAfterSeconds);
             }
+            return MediationOutcome.errorProcess(
+                retryAfterSeconds,
+                new MediationError.RateLimited(Duration.ofSeconds(retryAfterSeconds))
+            );
+        } else if (statusCode >= 401 && statusCode < 500) {
+            // All other 4xx errors indicate configuration problems:
+            // 401 Unauthorized, 403 Forbidden, 405 Method Not Allowed, etc.
+            // These are permanent errors, should ACK to prevent retry
+            // (Note: 404 is handled separately above as a configuration error)
+            String reason = extractReasonFromResponse(response.body());
+            LOG.errorf("Message [%s] failed with %d %s - configuration error: %s",
+                subject, statusCode, getStatusDescription(statusCode), reason);
+            warningService.addWarningf(
+                "CONFIGURATION",
+                "ERROR",
+                "HttpMediator",
+                "Configuration error for message %s: HTTP %d %s - %s - Target: %s",
+                subject, statusCode, getStatusDescription(statusCode), reason, target
+            );
+            return MediationOutcome.errorConfig(
+                new MediationError.HttpError(statusCode, response.body())
+            );
+        } else {
+            LOG.warnf("Message [%s] received unexpected status: %d - will be retried via queue visibility timeout", subject, statusCode);
+            return MediationOutcome.errorProcess(
+                new MediationError.HttpError(statusCode, response.body())
+            );
+        }
+    }
 
-        } catch (java.net.http.HttpConnectTimeoutException | java.net.ConnectException | java.nio.channels.UnresolvedAddressException e) {
-            LOG.errorf(e, "Connection error processing message: %s", message.id());
+    /**
+     * Outcome of a request that failed without a response.
+     *
+     * @param subject the message ID, or a description of the batch
+     */
+    private MediationOutcome exceptionOutcome(String subject, Exception e) {
+        if (e instanceof java.net.http.HttpConnectTimeoutException || e instanceof java.net.ConnectException
+                || e instanceof java.nio.channels.UnresolvedAddressException) {
+            LOG.errorf(e, "Connection error processing message: %s", subject);
             return MediationOutcome.errorConnection(
                 new MediationError.NetworkError(e)
             );
-        } catch (java.net.http.HttpTimeoutException e) {
-            LOG.errorf(e, "Timeout processing message: %s", message.id());
+        } else if (e instanceof java.net.http.HttpTimeoutException) {
+            LOG.errorf(e, "Timeout processing message: %s", subject);
             return MediationOutcome.errorProcess(
                 new MediationError.Timeout(Duration.ofMillis(timeoutMillis))
             );
-        } catch (java.io.IOException e) {
+        } else if (e instanceof java.io.IOException) {
             // Catch other IO errors (like UnresolvedAddressException wrapped in IOException)
-            LOG.errorf(e, "IO error processing message: %s", message.id());
+            LOG.errorf(e, "IO error processing message: %s", subject);
             return MediationOutcome.errorConnection(
                 new MediationError.NetworkError(e)
             );
-        } catch (Exception e) {
-            LOG.errorf(e, "Unexpected error processing message: %s", message.id());
+        } else {
+            LOG.errorf(e, "Unexpected error processing message: %s", subject);
             // Treat unexpected errors as transient - safer to retry than drop messages
             return MediationOutcome.errorProcess(
                 new MediationError.NetworkError(e)
@@ -315,6 +483,102 @@ public class HttpMediator implements Mediator {
         }
     }
 
+    /**
+     * Send messages for one target in a single request to its batch endpoint, the target URL
+     * with {@code /batch} appended. Each message carries the auth token it would otherwise send
+     * as Bearer token, and the target answers with an ack/nack result per message.
+     *
+     * <p>A response other than 200 applies to every message, as it would have to a single one,
+     * except 404, 405 and 501: the target has no batch endpoint and the messages are sent one by one.</p>
+     *
+     * @return outcome per message in order, or null if the messages must be sent on their own
+     */
+    private List<MediationOutcome> sendBatch(String target, List<MessagePointer> messages) {
+        String subject = "batch of " + messages.size() + " to " + target;
+        try {
+            ObjectNode payload = objectMapper.createObjectNode();
+            ArrayNode items = payload.putArray("messages");
+            for (MessagePointer message : messages) {
+                items.addObject()
+                    .put("messageId", message.id())
+                    .put("authToken", message.authToken());
+            }
+
+            HttpRequest request = HttpRequest.newBuilder()
+                .uri(batchUriOf(target))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .timeout(Duration.ofMillis(timeoutMillis))
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(payload)))
+                .build();
+
+            long sendStartTime = System.currentTimeMillis();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            int statusCode = response.statusCode();
+            LOG.debugf("HttpMediator: Batch of %d messages to [%s] completed in %dms. Status code: %d",
+                messages.size(), target, System.currentTimeMillis() - sendStartTime, statusCode);
+
+            if (statusCode == 404 || statusCode == 405 || statusCode == 501) {
+                batcher.markUnsupported(target);
+                return null;
+            }
+            if (statusCode != 200) {
+                if (statusCode >= 400) {
+                    LOG.debugf("HTTP Response Status: %d, Body: %s", statusCode, response.body());
+                }
+                return Collections.nCopies(messages.size(), statusOutcome(subject, target, response));
+            }
+            return batchResults(messages, response.body());
+
+        } catch (Exception e) {
+            return Collections.nCopies(messages.size(), exceptionOutcome(subject, e));
+        }
+    }
+
+    /**
+     * Match the results of a batch response to its messages. A message without a valid result is
+     * nacked: it may or may not have been processed, and redelivery is safer than loss.
+     */
+    private List<MediationOutcome> batchResults(List<MessagePointer> messages, String responseBody) {
+        Map<String, JsonNode> results = new HashMap<>();
+        try {
+            for (JsonNode result : objectMapper.readTree(responseBody).path("results")) {
+                results.put(result.path("messageId").asText(), result);
+            }
+        } catch (Exception e) {
+            LOG.warnf("Batch of %d messages received 200 OK but response was not a valid batch response (parse error: %s) - will NACK and retry",
+                messages.size(), e.getMessage());
+        }
+
+        List<MediationOutcome> outcomes = new ArrayList<>(messages.size());
+        for (MessagePointer message : messages) {
+            JsonNode result = results.get(message.id());
+            if (result == null || !result.path("ack").isBoolean()) {
+                LOG.warnf("Message [%s] has no result in batch response - will NACK and retry", message.id());
+                outcomes.add(MediationOutcome.errorProcess(
+                    new MediationError.HttpError(200, "No result for message in batch response")));
+                continue;
+            }
+            JsonNode delay = result.path("delaySeconds");
+            outcomes.add(acknowledgement(message.id(), result.path("ack").asBoolean(),
+                delay.isNumber() ? delay.asInt() : null, result.path("message").asText(null)));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Batch endpoint of a mediation target: its path with {@code /batch} appended.
+     */
+    static URI batchUriOf(String mediationTarget) {
+        URI uri = URI.create(mediationTarget);
+        String path = uri.getRawPath() != null ? uri.getRawPath() : "";
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        String query = uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "";
+        return URI.create(uri.getScheme() + "://" + uri.getRawAuthority() + path + "/batch" + query);
+    }
+
     @Override
     public MediationType getMediationType() {
         return MediationType.HTTP;
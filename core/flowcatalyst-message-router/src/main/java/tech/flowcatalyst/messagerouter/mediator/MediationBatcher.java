@@ -0,0 +1,231 @@
+package tech.flowcatalyst.messagerouter.mediator;
+
+import org.jboss.logging.Logger;
+import tech.flowcatalyst.messagerouter.model.MediationOutcome;
+import tech.flowcatalyst.messagerouter.model.MessagePointer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces messages for the same mediation target that are ready at the same time into one
+ * batch request.
+ *
+ * <p>The first message for a target opens a batch and its thread becomes the batch leader. Messages
+ * for the same target arriving within the linger window join the batch and their threads wait for
+ * its result. The leader sends the batch when it is full or the window has passed, then hands each
+ * waiting thread its own outcome. A window that closes with only the leader's message in it sends
+ * nothing: the caller sends that message on its own, so a quiet target pays the linger but never
+ * the batch overhead.</p>
+ *
+ * <p>Every message is still processed by its own pool worker, and a worker offers its next message
+ * only after the previous one has an outcome, so per message group FIFO ordering is unchanged.</p>
+ *
+ * <p>A target that answers the batch endpoint with 404, 405 or 501 is marked unsupported and its
+ * messages are sent one by one from then on.</p>
+ *
+ * <p>Uses a {@link ReentrantLock} rather than {@code synchronized} so waiting virtual threads are
+ * not pinned.</p>
+ */
+public final class MediationBatcher {
+
+    private static final Logger LOG = Logger.getLogger(MediationBatcher.class);
+
+    /**
+     * Sends a batch of at least two messages for one target.
+     */
+    @FunctionalInterface
+    public interface BatchSender {
+
+        /**
+         * @return an outcome per message, in the order of {@code messages}. A null outcome, or a null
+         *         list, means the message was not processed and must be sent on its own
+         */
+        List<MediationOutcome> send(String mediationTarget, List<MessagePointer> messages);
+    }
+
+    private final int maxBatchSize;
+    private final long lingerNanos;
+    private final List<String> targetPrefixes;
+    private final BatchSender sender;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    /** Batches still accepting messages, by mediation target. Guarded by lock. */
+    private final Map<String, Batch> open = new HashMap<>();
+    private final Set<String> unsupported = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param settings batch size, linger window and batching targets
+     * @param sender   sends a batch
+     */
+    public MediationBatcher(Settings settings, BatchSender sender) {
+        if (settings.maxBatchSize() < 2) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 2");
+        }
+        this.maxBatchSize = settings.maxBatchSize();
+        this.lingerNanos = settings.linger().toNanos();
+        this.targetPrefixes = List.copyOf(settings.targets());
+        this.sender = sender;
+    }
+
+    /**
+     * Whether messages for the target are batched.
+     */
+    public boolean accepts(String mediationTarget) {
+        if (mediationTarget == null || unsupported.contains(mediationTarget)) {
+            return false;
+        }
+        for (String prefix : targetPrefixes) {
+            if (mediationTarget.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stop batching for a target whose batch endpoint is missing.
+     */
+    public void markUnsupported(String mediationTarget) {
+        if (unsupported.add(mediationTarget)) {
+            LOG.warnf("Mediation target [%s] does not support batch requests, sending its messages one by one",
+                mediationTarget);
+        }
+    }
+
+    /**
+     * Add the message to a batch for its target and wait for its outcome.
+     *
+     * @return the message's outcome, or null if it was not processed and the caller should send it
+     *         on its own
+     */
+    public MediationOutcome submit(MessagePointer message) {
+        if (!accepts(message.mediationTarget())) {
+            return null;
+        }
+
+        String target = message.mediationTarget();
+        Batch batch;
+        CompletableFuture<MediationOutcome> outcome;
+        boolean leader;
+        lock.lock();
+        try {
+            batch = open.get(target);
+            leader = batch == null;
+            if (leader) {
+                batch = new Batch(lock.newCondition());
+                open.put(target, batch);
+            }
+            outcome = new CompletableFuture<>();
+            batch.messages.add(message);
+            batch.outcomes.add(outcome);
+            if (batch.messages.size() >= maxBatchSize) {
+                close(target, batch);
+            } else if (leader) {
+                lingerUntilClosed(target, batch);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (leader) {
+            send(target, batch);
+        }
+        return await(message, outcome);
+    }
+
+    /**
+     * Wait until the batch is full or the linger window has passed. Must hold lock.
+     */
+    private void lingerUntilClosed(String target, Batch batch) {
+        long remaining = lingerNanos;
+        boolean interrupted = false;
+        while (!batch.closed && remaining > 0) {
+            try {
+                remaining = batch.full.awaitNanos(remaining);
+            } catch (InterruptedException e) {
+                // Others may have joined: send the batch anyway
+                interrupted = true;
+                break;
+            }
+        }
+        close(target, batch);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stop the batch taking messages. Must hold lock.
+     */
+    private void close(String target, Batch batch) {
+        if (!batch.closed) {
+            batch.closed = true;
+            open.remove(target, batch);
+            batch.full.signal();
+        }
+    }
+
+    /**
+     * Send a closed batch and complete every message's outcome. Runs on the leader's thread.
+     */
+    private void send(String target, Batch batch) {
+        List<CompletableFuture<MediationOutcome>> outcomes = batch.outcomes;
+        try {
+            if (batch.messages.size() > 1) {
+                List<MediationOutcome> results = sender.send(target, batch.messages);
+                for (int i = 0; i < outcomes.size(); i++) {
+                    outcomes.get(i).complete(results != null && i < results.size() ? results.get(i) : null);
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.errorf(e, "Unexpected error sending batch of %d messages to [%s]", batch.messages.size(), target);
+        } finally {
+            // Anything not settled is sent on its own by its thread
+            outcomes.forEach(outcome -> outcome.complete(null));
+        }
+    }
+
+    private static MediationOutcome await(MessagePointer message, CompletableFuture<MediationOutcome> outcome) {
+        try {
+            return outcome.get();
+        } catch (InterruptedException e) {
+            // The batch is already on its way; the message is redelivered if it does not get acked
+            Thread.currentThread().interrupt();
+            LOG.warnf("Interrupted while waiting for batch result of message: %s", message.id());
+            return MediationOutcome.errorProcess(new MediationError.NetworkError(e));
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private static final class Batch {
+        final Condition full;
+        /** Appended under lock until closed; only the leader reads them after that. */
+        final List<MessagePointer> messages = new ArrayList<>();
+        final List<CompletableFuture<MediationOutcome>> outcomes = new ArrayList<>();
+        /** Guarded by lock. */
+        boolean closed;
+
+        Batch(Condition full) {
+            this.full = full;
+        }
+    }
+
+    /**
+     * @param maxBatchSize most messages sent in one request
+     * @param linger       how long the first message of a batch waits for others
+     * @param targets      mediation targets that support the batch endpoint, by prefix
+     */
+    public record Settings(int maxBatchSize, Duration linger, List<String> targets) {
+    }
+}
@@ -15,6 +15,7 @@ import java.time.Duration;
  *   <li>{@link HttpError} - HTTP error response (5xx retryable, 4xx not)</li>
  *   <li>{@link NetworkError} - Network-level failure (retryable)</li>
  *   <li>{@link RateLimited} - Rate limited by target (retryable after delay)</li>
+ *   <li>{@link ConcurrencyLimited} - Target at its adaptive concurrency limit, not sent (retryable after delay)</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -26,6 +27,7 @@ import java.time.Duration;
  *     case MediationError.HttpError h -> handleHttpError(h.statusCode(), h.body());
  *     case MediationError.NetworkError n -> handleNetworkError(n.cause());
  *     case MediationError.RateLimited r -> handleRateLimited(r.retryAfter());
+ *     case MediationError.ConcurrencyLimited l -> handleConcurrencyLimited(l.endpoint());
  * }
  * }</pre>
  */
@@ -34,7 +36,8 @@ public sealed interface MediationError permits
     MediationError.CircuitOpen,
     MediationError.HttpError,
     MediationError.NetworkError,
-    MediationError.RateLimited {
+    MediationError.RateLimited,
+    MediationError.ConcurrencyLimited {
 
     /**
      * Get a human-readable message describing the error.
@@ -141,4 +144,22 @@ public sealed interface MediationError permits
             return true;
         }
     }
+
+    /**
+     * The request was not sent because the target endpoint is at its adaptive concurrency limit.
+     *
+     * @param endpoint the target endpoint (scheme, host and port)
+     * @param limit    the endpoint's current concurrency limit
+     */
+    record ConcurrencyLimited(String endpoint, int limit) implements MediationError {
+        @Override
+        public String message() {
+            return "Endpoint " + endpoint + " at concurrency limit " + limit;
+        }
+
+        @Override
+        public boolean isRetryable() {
+            return true;
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package tech.flowcatalyst.messagerouter.model;
+
+import org.eclipse.microprofile.openapi.annotations.media.Schema;
+
+/**
+ * Adaptive concurrency limit of a mediation target endpoint
+ */
+@Schema(description = "Adaptive concurrency limit and latency of a target endpoint")
+public record EndpointLimitStats(
+    @Schema(description = "Target endpoint (scheme, host and port)", examples = {"https://api.example.com", "http://localhost:8081"})
+    String endpoint,
+
+    @Schema(description = "Current limit on concurrent requests", examples = {"20", "3", "150"})
+    int limit,
+
+    @Schema(description = "Requests currently in flight", examples = {"0", "3", "120"})
+    int inFlight,
+
+    @Schema(description = "Baseline (lowest recent) latency in milliseconds", examples = {"45", "250"})
+    long baselineLatencyMs,
+
+    @Schema(description = "Latency of the most recent request in milliseconds", examples = {"52", "15000"})
+    long lastLatencyMs,
+
+    @Schema(description = "Requests rejected at the limit and requeued", examples = {"0", "1200"})
+    long rejectedRequests,
+
+    @Schema(description = "Requests that failed, timed out or were too slow", examples = {"0", "35"})
+    long droppedRequests
+) {}
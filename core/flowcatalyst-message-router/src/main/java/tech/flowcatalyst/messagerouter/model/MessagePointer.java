@@ -62,4 +62,26 @@ public record MessagePointer(
                          String mediationTarget, String messageGroupId, boolean highPriority, String batchId) {
         this(id, poolCode, authToken, mediationType, mediationTarget, messageGroupId, highPriority, batchId, null);
     }
+
+    /**
+     * Returns this pointer with the given batch ID (this instance if unchanged)
+     */
+    public MessagePointer withBatchId(String batchId) {
+        if (java.util.Objects.equals(this.batchId, batchId)) {
+            return this;
+        }
+        return new MessagePointer(id, poolCode, authToken, mediationType, mediationTarget, messageGroupId,
+            highPriority, batchId, sqsMessageId);
+    }
+
+    /**
+     * Returns this pointer with the given broker message ID (this instance if unchanged)
+     */
+    public MessagePointer withSqsMessageId(String sqsMessageId) {
+        if (java.util.Objects.equals(this.sqsMessageId, sqsMessageId)) {
+            return this;
+        }
+        return new MessagePointer(id, poolCode, authToken, mediationType, mediationTarget, messageGroupId,
+            highPriority, batchId, sqsMessageId);
+    }
 }
@@ -0,0 +1,247 @@
+package tech.flowcatalyst.messagerouter.model;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Streaming decoder for queue message bodies into {@link MessagePointer}.
+ *
+ * <p>Replaces {@code ObjectMapper.readValue(body, MessagePointer.class)} on the consumer hot path:
+ * <ul>
+ *   <li>Parses straight from {@code byte[]}/{@link ByteBuffer} (NATS) or {@code String} (SQS, ActiveMQ)
+ *       with a Jackson streaming parser - no intermediate String or tree, no databind lookup</li>
+ *   <li>Field names are matched against Jackson's canonicalized (interned) names</li>
+ *   <li>{@code poolCode} and {@code mediationTarget} are interned from the parser's character buffer,
+ *       so the handful of distinct values seen in practice are not re-allocated per message</li>
+ *   <li>The broker message ID is set while decoding, so the record is built once; only
+ *       {@code batchId} is added later by {@link MessagePointer#withBatchId(String)}</li>
+ * </ul>
+ *
+ * <p>Errors are classified the same way as the databind path so consumers keep their behaviour:
+ * malformed JSON throws {@link com.fasterxml.jackson.core.JsonParseException} (poison pill),
+ * while well-formed JSON with the wrong shape throws a {@code JsonMappingException} subtype
+ * (missing {@code messageGroupId}, unknown properties, invalid {@code mediationType}).
+ *
+ * <p>Thread-safe; a single shared instance is used by all consumers.
+ */
+public final class MessagePointerCodec {
+
+    private static final MessagePointerCodec INSTANCE = new MessagePointerCodec();
+
+    private static final List<Object> KNOWN_PROPERTIES = List.of(
+        "id", "poolCode", "authToken", "mediationType", "mediationTarget", "messageGroupId", "highPriority");
+
+    private static final MediationType[] MEDIATION_TYPES = MediationType.values();
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final StringInterner poolCodes = new StringInterner(256);
+    private final StringInterner mediationTargets = new StringInterner(4096);
+
+    public static MessagePointerCodec getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Decode a UTF-8 JSON body.
+     *
+     * @param body the raw message body
+     * @param sqsMessageId broker message ID to set on the result (may be null)
+     */
+    public MessagePointer decode(byte[] body, String sqsMessageId) throws IOException {
+        return decode(body, 0, body.length, sqsMessageId);
+    }
+
+    /**
+     * Decode a UTF-8 JSON body from a slice of a byte array.
+     */
+    public MessagePointer decode(byte[] body, int offset, int length, String sqsMessageId) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body, offset, length)) {
+            return read(parser, sqsMessageId);
+        }
+    }
+
+    /**
+     * Decode a UTF-8 JSON body from a buffer. Array-backed buffers are parsed in place.
+     * The buffer's position is not changed.
+     */
+    public MessagePointer decode(ByteBuffer body, String sqsMessageId) throws IOException {
+        if (body.hasArray()) {
+            return decode(body.array(), body.arrayOffset() + body.position(), body.remaining(), sqsMessageId);
+        }
+        byte[] copy = new byte[body.remaining()];
+        body.duplicate().get(copy);
+        return decode(copy, sqsMessageId);
+    }
+
+    /**
+     * Decode a JSON body already held as a String (SQS, ActiveMQ and embedded queues).
+     */
+    public MessagePointer decode(String body, String sqsMessageId) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return read(parser, sqsMessageId);
+        }
+    }
+
+    private MessagePointer read(JsonParser parser, String sqsMessageId) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw MismatchedInputException.from(parser, MessagePointer.class,
+                "Expected JSON object for MessagePointer but found " + parser.currentToken());
+        }
+
+        String id = null;
+        String poolCode = null;
+        String authToken = null;
+        MediationType mediationType = null;
+        String mediationTarget = null;
+        String messageGroupId = null;
+        boolean messageGroupIdPresent = false;
+        boolean highPriority = false;
+
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            JsonToken token = parser.nextToken();
+            switch (fieldName) {
+                case "id" -> id = readString(parser, token);
+                case "poolCode" -> poolCode = readInterned(parser, token, poolCodes);
+                case "authToken" -> authToken = readString(parser, token);
+                case "mediationType" -> mediationType = readMediationType(parser, token);
+                case "mediationTarget" -> mediationTarget = readInterned(parser, token, mediationTargets);
+                case "messageGroupId" -> {
+                    messageGroupId = readString(parser, token);
+                    messageGroupIdPresent = true;
+                }
+                case "highPriority" -> highPriority = readBoolean(parser, token);
+                // Internal fields are never part of the queue contract - ignore them like @JsonIgnore does
+                case "batchId", "sqsMessageId" -> parser.skipChildren();
+                default -> throw UnrecognizedPropertyException.from(
+                    parser, MessagePointer.class, fieldName, KNOWN_PROPERTIES);
+            }
+        }
+
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw MismatchedInputException.from(parser, MessagePointer.class,
+                "Unexpected token in MessagePointer: " + parser.currentToken());
+        }
+        if (!messageGroupIdPresent) {
+            throw MismatchedInputException.from(parser, MessagePointer.class,
+                "Missing required creator property 'messageGroupId'");
+        }
+
+        return new MessagePointer(id, poolCode, authToken, mediationType, mediationTarget,
+            messageGroupId, highPriority, null, sqsMessageId);
+    }
+
+    private static String readString(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        throw MismatchedInputException.from(parser, String.class,
+            "Cannot deserialize String from " + token + " for field '" + parser.currentName() + "'");
+    }
+
+    private static String readInterned(JsonParser parser, JsonToken token, StringInterner interner) throws IOException {
+        if (token == JsonToken.VALUE_STRING) {
+            return interner.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        return readString(parser, token);
+    }
+
+    private static MediationType readMediationType(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            char[] chars = parser.getTextCharacters();
+            int offset = parser.getTextOffset();
+            int length = parser.getTextLength();
+            for (MediationType type : MEDIATION_TYPES) {
+                if (StringInterner.matches(type.name(), chars, offset, length)) {
+                    return type;
+                }
+            }
+            // Any other casing goes through the enum's own lenient lookup, as with ObjectMapper
+            try {
+                return MediationType.fromValue(parser.getText());
+            } catch (IllegalArgumentException e) {
+                // Fall through to the mapping exception below
+            }
+        }
+        throw InvalidFormatException.from(parser, "Invalid mediationType", parser.getText(), MediationType.class);
+    }
+
+    private static boolean readBoolean(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE, VALUE_NULL -> false;
+            case VALUE_NUMBER_INT -> parser.getIntValue() != 0;
+            case VALUE_STRING -> {
+                String text = parser.getText().trim();
+                if ("true".equals(text)) {
+                    yield true;
+                }
+                if ("false".equals(text) || text.isEmpty()) {
+                    yield false;
+                }
+                throw InvalidFormatException.from(parser, "Invalid highPriority", text, Boolean.TYPE);
+            }
+            default -> throw MismatchedInputException.from(parser, Boolean.TYPE,
+                "Cannot deserialize boolean from " + token + " for field 'highPriority'");
+        };
+    }
+
+    /**
+     * Bounded, lock-free string intern table keyed directly by the parser's character buffer.
+     * A hit returns the existing String without allocating; a miss allocates and replaces the slot.
+     * Races only cost an extra allocation - slots always hold a complete, immutable String.
+     */
+    static final class StringInterner {
+
+        private final String[] table;
+        private final int mask;
+
+        StringInterner(int capacity) {
+            int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+            this.table = new String[size];
+            this.mask = size - 1;
+        }
+
+        String intern(char[] chars, int offset, int length) {
+            int hash = 0;
+            for (int i = offset; i < offset + length; i++) {
+                hash = 31 * hash + chars[i];
+            }
+            int slot = (hash ^ (hash >>> 16)) & mask;
+
+            String existing = table[slot];
+            if (existing != null && matches(existing, chars, offset, length)) {
+                return existing;
+            }
+            String value = new String(chars, offset, length);
+            table[slot] = value;
+            return value;
+        }
+
+        static boolean matches(String value, char[] chars, int offset, int length) {
+            if (value.length() != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) != chars[offset + i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
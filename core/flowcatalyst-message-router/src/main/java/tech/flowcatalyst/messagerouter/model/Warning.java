@@ -24,7 +24,7 @@ public record Warning(
                        "Max pool limit reached (2000/2000) - cannot create pool [POOL-ABC]"})
     String message,
 
-    @Schema(description = "Timestamp when warning was created", examples = {"2025-10-16T10:52:20Z"})
+    @Schema(description = "Timestamp of the latest occurrence", examples = {"2025-10-16T10:52:20Z"})
     Instant timestamp,
 
     @Schema(description = "Source component that generated the warning",
@@ -32,5 +32,19 @@ public record Warning(
     String source,
 
     @Schema(description = "Whether the warning has been acknowledged", examples = {"false", "true"})
-    boolean acknowledged
-) {}
+    boolean acknowledged,
+
+    @Schema(description = "Number of occurrences aggregated into this warning", examples = {"1", "1000000"})
+    long count,
+
+    @Schema(description = "Timestamp of the first occurrence", examples = {"2025-10-16T10:47:03Z"})
+    Instant firstSeen
+) {
+    /**
+     * A single occurrence.
+     */
+    public Warning(String id, String category, String severity, String message, Instant timestamp,
+                   String source, boolean acknowledged) {
+        this(id, category, severity, message, timestamp, source, acknowledged, 1, timestamp);
+    }
+}
@@ -3,18 +3,21 @@ package tech.flowcatalyst.messagerouter.notification;
 import jakarta.enterprise.inject.Vetoed;
 import org.jboss.logging.Logger;
 import tech.flowcatalyst.messagerouter.model.Warning;
+import tech.flowcatalyst.messagerouter.warning.WarningAggregator;
 
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Collectors;
 
 /**
  * Batching wrapper for notification services.
  * Collects warnings over a configurable interval (default 5 minutes)
  * and sends a single summary notification to all registered delegates.
  * Only sends notifications for warnings at or above the configured minimum severity.
+ * <p>
+ * Pending warnings are held in a bounded {@link WarningAggregator}, so repeats are counted
+ * instead of queued, and each summary lists at most {@value #MAX_SUMMARY_ENTRIES} warnings.
  * This class is created by NotificationServiceProducer and must be @Vetoed to avoid CDI discovery.
  */
 @Vetoed
@@ -22,17 +25,21 @@ public class BatchingNotificationService implements NotificationService {
 
     private static final Logger LOG = Logger.getLogger(BatchingNotificationService.class);
 
+    private static final int MAX_PENDING_WARNINGS = 1000;
+    static final int MAX_SUMMARY_ENTRIES = 50;
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneOffset.UTC);
+
     private final List<NotificationService> delegates;
     private final String minSeverity;
-    private final Queue<Warning> warningBatch = new ConcurrentLinkedQueue<>();
-    private final Map<String, Integer> categoryCount = new ConcurrentHashMap<>();
+    private final WarningAggregator pending = new WarningAggregator(MAX_PENDING_WARNINGS);
     private Instant batchStartTime = Instant.now();
 
     private static final List<String> SEVERITY_ORDER = List.of("INFO", "WARNING", "ERROR", "CRITICAL");
 
     public BatchingNotificationService(List<NotificationService> delegates, String minSeverity) {
         this.delegates = delegates;
-        this.minSeverity = minSeverity;
+        this.minSeverity = normalizeSeverity(minSeverity);
         LOG.infof("BatchingNotificationService initialized with %d delegates, min severity: %s",
             delegates.size(), minSeverity);
     }
@@ -40,65 +47,78 @@ public class BatchingNotificationService implements NotificationService {
     @Override
     public void notifyWarning(Warning warning) {
         // Only batch warnings at or above minimum severity
-        if (meetsMinSeverity(warning.severity())) {
-            warningBatch.add(warning);
-            categoryCount.merge(warning.category(), 1, Integer::sum);
+        String severity = normalizeSeverity(warning.severity());
+        if (meetsMinSeverity(severity)) {
+            pending.record(warning.category(), severity, warning.source(), warning.message(),
+                null, warning.count());
         }
     }
 
     @Override
     public void notifyCriticalError(String message, String source) {
         // Critical errors always sent
-        Warning warning = createWarning("CRITICAL_ERROR", "CRITICAL", message, source);
-        warningBatch.add(warning);
-        categoryCount.merge("CRITICAL_ERROR", 1, Integer::sum);
+        pending.record("CRITICAL_ERROR", "CRITICAL", source, message, null, 1);
     }
 
     @Override
     public void notifySystemEvent(String eventType, String message) {
         // System events sent as INFO (may be filtered)
         if (meetsMinSeverity("INFO")) {
-            Warning warning = createWarning("SYSTEM_EVENT_" + eventType, "INFO", message, "System");
-            warningBatch.add(warning);
-            categoryCount.merge("SYSTEM_EVENT_" + eventType, 1, Integer::sum);
+            pending.record("SYSTEM_EVENT_" + eventType, "INFO", "System", message, null, 1);
         }
     }
 
     /**
      * Send batched notifications.
-     * Called by NotificationBatchScheduler.
      */
     public void sendBatch() {
-        if (warningBatch.isEmpty()) {
-            LOG.debug("No warnings to send in this batch period");
-            return;
-        }
+        sendBatch(List.of());
+    }
 
+    /**
+     * Send batched notifications, including already aggregated warnings from the warning service.
+     * Called by NotificationBatchScheduler.
+     */
+    public void sendBatch(List<Warning> aggregated) {
         try {
-            // Create summary
-            List<Warning> warnings = new ArrayList<>(warningBatch);
+            List<Warning> warnings = new ArrayList<>(pending.drainUnnotified());
+            for (Warning warning : aggregated) {
+                String severity = normalizeSeverity(warning.severity());
+                if (meetsMinSeverity(severity)) {
+                    warnings.add(severity.equals(warning.severity()) ? warning : new Warning(
+                        warning.id(), warning.category(), severity, warning.message(), warning.timestamp(),
+                        warning.source(), warning.acknowledged(), warning.count(), warning.firstSeen()));
+                }
+            }
+            if (warnings.isEmpty()) {
+                LOG.debug("No warnings to send in this batch period");
+                return;
+            }
+
             Instant batchEndTime = Instant.now();
+            long occurrences = warnings.stream().mapToLong(Warning::count).sum();
 
-            LOG.infof("Sending batched notification: %d warnings from %s to %s",
-                warnings.size(), batchStartTime, batchEndTime);
+            LOG.infof("Sending batched notification: %d warnings (%d occurrences) from %s to %s",
+                warnings.size(), occurrences, batchStartTime, batchEndTime);
 
-            // Group warnings by severity
-            Map<String, List<Warning>> warningsBySeverity = warnings.stream()
-                .collect(Collectors.groupingBy(Warning::severity));
+            String summary = buildSummary(warnings, occurrences, batchStartTime, batchEndTime);
+            Warning summaryWarning = createWarning(
+                "BATCH_SUMMARY",
+                getHighestSeverity(warnings),
+                summary,
+                "BatchingNotificationService"
+            );
 
             // Send summary to all delegates
             for (NotificationService delegate : delegates) {
                 try {
-                    sendSummaryToDelegate(delegate, warnings, warningsBySeverity, batchStartTime, batchEndTime);
+                    delegate.notifyWarning(summaryWarning);
                 } catch (Exception e) {
                     LOG.errorf(e, "Failed to send notification via delegate: %s", delegate.getClass().getSimpleName());
                 }
             }
 
-            // Clear batch
-            warningBatch.clear();
-            categoryCount.clear();
-            batchStartTime = Instant.now();
+            batchStartTime = batchEndTime;
 
         } catch (Exception e) {
             LOG.errorf(e, "Error sending batched notifications");
@@ -106,69 +126,65 @@ public class BatchingNotificationService implements NotificationService {
     }
 
     /**
-     * Send summary notification to a single delegate
+     * Build the summary message: warnings by severity (highest first), most frequent first,
+     * capped at {@value #MAX_SUMMARY_ENTRIES} entries.
      */
-    private void sendSummaryToDelegate(NotificationService delegate,
-                                       List<Warning> allWarnings,
-                                       Map<String, List<Warning>> warningsBySeverity,
-                                       Instant startTime,
-                                       Instant endTime) {
-
-        // Build summary message
+    static String buildSummary(List<Warning> warnings, long occurrences, Instant startTime, Instant endTime) {
         StringBuilder summary = new StringBuilder();
-        summary.append(String.format("FlowCatalyst Warning Summary (%s to %s)\n\n",
-            startTime, endTime));
-
-        // Add warnings by severity (in order: CRITICAL, ERROR, WARNING, INFO)
-        for (String severity : SEVERITY_ORDER) {
-            List<Warning> warningsForSeverity = warningsBySeverity.get(severity);
-            if (warningsForSeverity != null && !warningsForSeverity.isEmpty()) {
-                summary.append(String.format("%s Issues (%d):\n", severity, warningsForSeverity.size()));
-
-                // Group by category and show counts
-                Map<String, List<Warning>> byCategory = warningsForSeverity.stream()
-                    .collect(Collectors.groupingBy(Warning::category));
-
-                byCategory.forEach((category, categoryWarnings) -> {
-                    if (categoryWarnings.size() == 1) {
-                        Warning w = categoryWarnings.get(0);
-                        summary.append(String.format("  - %s: %s\n", category, w.message()));
-                    } else {
-                        summary.append(String.format("  - %s: %d occurrences\n",
-                            category, categoryWarnings.size()));
-                        // Show first warning as example
-                        summary.append(String.format("    Example: %s\n",
-                            categoryWarnings.get(0).message()));
-                    }
-                });
-                summary.append("\n");
+        summary.append(String.format("FlowCatalyst Warning Summary (%s to %s)\n\n", startTime, endTime));
+
+        int listed = 0;
+        for (int i = SEVERITY_ORDER.size() - 1; i >= 0 && listed < MAX_SUMMARY_ENTRIES; i--) {
+            String severity = SEVERITY_ORDER.get(i);
+            List<Warning> forSeverity = warnings.stream()
+                .filter(w -> severity.equals(w.severity()))
+                .sorted(Comparator.comparingLong(Warning::count).reversed())
+                .toList();
+            if (forSeverity.isEmpty()) {
+                continue;
             }
-        }
-
-        summary.append(String.format("Total Warnings: %d\n", allWarnings.size()));
 
-        // Create synthetic warning with summary
-        Warning summaryWarning = createWarning(
-            "BATCH_SUMMARY",
-            getHighestSeverity(warningsBySeverity.keySet()),
-            summary.toString(),
-            "BatchingNotificationService"
-        );
+            summary.append(String.format("%s Issues (%d):\n", severity, forSeverity.size()));
+            for (Warning w : forSeverity) {
+                if (listed == MAX_SUMMARY_ENTRIES) {
+                    break;
+                }
+                if (w.count() == 1) {
+                    summary.append(String.format("  - %s: %s\n", w.category(), w.message()));
+                } else {
+                    summary.append(String.format("  - %s: %d occurrences (%s to %s)\n",
+                        w.category(), w.count(), TIME.format(w.firstSeen()), TIME.format(w.timestamp())));
+                    summary.append(String.format("    Latest: %s\n", w.message()));
+                }
+                listed++;
+            }
+            summary.append("\n");
+        }
 
-        // Send to delegate
-        delegate.notifyWarning(summaryWarning);
+        if (listed < warnings.size()) {
+            summary.append(String.format("... and %d more warnings\n", warnings.size() - listed));
+        }
+        summary.append(String.format("Total Warnings: %d (%d occurrences)\n", warnings.size(), occurrences));
+        return summary.toString();
     }
 
     /**
-     * Get the highest severity from a set of severities
+     * Get the highest severity among warnings
      */
-    private String getHighestSeverity(Set<String> severities) {
+    private String getHighestSeverity(List<Warning> warnings) {
         return SEVERITY_ORDER.stream()
-            .filter(severities::contains)
+            .filter(severity -> warnings.stream().anyMatch(w -> severity.equals(w.severity())))
             .reduce((first, second) -> second) // Last one is highest
             .orElse("INFO");
     }
 
+    /**
+     * Map severity aliases to their {@code SEVERITY_ORDER} name: router components raise "WARN".
+     */
+    static String normalizeSeverity(String severity) {
+        return "WARN".equals(severity) ? "WARNING" : severity;
+    }
+
     /**
      * Check if severity meets minimum threshold
      */
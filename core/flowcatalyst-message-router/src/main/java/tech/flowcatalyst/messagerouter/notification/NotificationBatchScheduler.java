@@ -5,6 +5,7 @@ import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
+import tech.flowcatalyst.messagerouter.warning.WarningService;
 
 /**
  * Scheduler that triggers batched notification sending.
@@ -19,6 +20,9 @@ public class NotificationBatchScheduler {
     @Inject
     BatchingNotificationService batchingService;
 
+    @Inject
+    WarningService warningService;
+
     private volatile boolean shutdownInProgress = false;
 
     @jakarta.annotation.PreDestroy
@@ -38,7 +42,8 @@ public class NotificationBatchScheduler {
         }
 
         try {
-            batchingService.sendBatch();
+            // Warnings are aggregated by the warning service; send what is new since the last batch
+            batchingService.sendBatch(warningService.drainUnnotified());
         } catch (Exception e) {
             LOG.errorf(e, "Error triggering batch send");
         }
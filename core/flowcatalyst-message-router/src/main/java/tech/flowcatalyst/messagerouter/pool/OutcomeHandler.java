@@ -83,11 +83,11 @@ public class OutcomeHandler {
             LOG.errorf("CRITICAL: Mediator returned null outcome/result for message [%s], treating as transient error",
                 message.id());
             outcome = MediationOutcome.errorProcess((Integer) null);
-            warningService.addWarning(
+            warningService.addWarningf(
                 "MEDIATOR_NULL_RESULT",
                 "CRITICAL",
-                "Mediator returned null outcome for message " + message.id(),
-                "ProcessPool:" + poolCode
+                "ProcessPool:" + poolCode,
+                "Mediator returned null outcome for message %s", message.id()
             );
         }
 
@@ -134,7 +134,11 @@ public class OutcomeHandler {
         // Set visibility timeout based on delay from outcome
         setVisibilityTimeout(message, outcome);
 
-        if (outcome.hasCustomDelay()) {
+        if (outcome.error() instanceof MediationError.ConcurrencyLimited limited) {
+            // Expected under load and can happen for every message of a burst, so not a warning
+            LOG.debugf("Message [%s] not sent, endpoint [%s] at concurrency limit %d - NACKing for delayed retry",
+                message.id(), limited.endpoint(), limited.limit());
+        } else if (outcome.hasCustomDelay()) {
             LOG.warnf("Message [%s] encountered transient error with custom delay=%ds - NACKing for delayed retry",
                 message.id(), outcome.getEffectiveDelaySeconds());
         } else {
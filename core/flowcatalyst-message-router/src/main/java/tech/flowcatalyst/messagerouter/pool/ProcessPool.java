@@ -84,4 +84,14 @@ public interface ProcessPool {
      * @param newRateLimitPerMinute the new rate limit (null to disable rate limiting)
      */
     void updateRateLimit(Integer newRateLimitPerMinute);
+
+    /**
+     * Updates the weight and priority used when the pool shares a worker budget with other pools.
+     * Ignored by pools with their own isolated concurrency.
+     *
+     * @param weight share of spare capacity relative to other pools
+     * @param priority priority when borrowing spare capacity; higher is served first
+     */
+    default void updateSharing(int weight, int priority) {
+    }
 }
@@ -5,6 +5,8 @@ import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import org.jboss.logging.Logger;
 import org.jboss.logging.MDC;
 import tech.flowcatalyst.messagerouter.callback.MessageCallback;
+import tech.flowcatalyst.messagerouter.diagnostics.LifecycleEvent;
+import tech.flowcatalyst.messagerouter.diagnostics.MessageLifecycleRecorder;
 import tech.flowcatalyst.messagerouter.mediator.Mediator;
 import tech.flowcatalyst.messagerouter.metrics.PoolMetricsService;
 import tech.flowcatalyst.messagerouter.model.MediationOutcome;
@@ -72,6 +74,10 @@ import java.util.concurrent.locks.ReentrantLock;
  * Each message group's virtual thread must acquire a semaphore permit before processing.
  * This ensures total concurrent processing never exceeds the configured limit.
  *
+ * <p>When the router shares one worker budget across pools, the pool takes its permits from a
+ * {@link SharedCapacity.Share} instead: {@code concurrency} becomes the pool's guaranteed minimum
+ * and idle capacity of other pools can be borrowed on top of it.
+ *
  * <h2>Backpressure</h2>
  * When a group's buffer is full, messages are rejected and rely on queue visibility timeout
  * for redelivery. This allows SQS/ActiveMQ to act as overflow buffer when the system is overwhelmed.
@@ -89,6 +95,7 @@ public class ProcessPoolImpl implements ProcessPool {
     private volatile int concurrency;
     private final int queueCapacity;
     private final Semaphore semaphore;
+    private final SharedCapacity.Share share;  // Shared worker budget (null if the pool is isolated)
     private final ExecutorService executorService;
     private final ScheduledExecutorService gaugeUpdater;
     private ScheduledFuture<?> gaugeUpdateTask;
@@ -97,9 +104,9 @@ public class ProcessPoolImpl implements ProcessPool {
     private volatile Integer rateLimitPerMinute;  // Track rate limit value separately for updates
     private final Mediator mediator;
     private final MessageCallback messageCallback;
-    private final ConcurrentMap<String, MessagePointer> inPipelineMap;
     private final PoolMetricsService poolMetrics;
     private final WarningService warningService;
+    private final MessageLifecycleRecorder lifecycleRecorder;
 
     // Use ReentrantLock instead of synchronized to avoid pinning virtual threads
     private final ReentrantLock configLock = new ReentrantLock();
@@ -143,7 +150,6 @@ public class ProcessPoolImpl implements ProcessPool {
      * @param rateLimitPerMinute optional pool-level rate limit (null if not configured)
      * @param mediator mediator for processing messages
      * @param messageCallback callback for ack/nack operations
-     * @param inPipelineMap shared map for message deduplication
      * @param poolMetrics metrics service for recording pool statistics
      * @param warningService service for recording warnings
      */
@@ -154,13 +160,53 @@ public class ProcessPoolImpl implements ProcessPool {
             Integer rateLimitPerMinute,
             Mediator mediator,
             MessageCallback messageCallback,
-            ConcurrentMap<String, MessagePointer> inPipelineMap,
             PoolMetricsService poolMetrics,
             WarningService warningService) {
+        this(poolCode, concurrency, queueCapacity, rateLimitPerMinute, mediator, messageCallback,
+            poolMetrics, warningService, MessageLifecycleRecorder.disabled());
+    }
+
+    /**
+     * Creates a new process pool that records message lifecycle diagnostics.
+     *
+     * @param lifecycleRecorder recorder for sampled per-message diagnostics
+     */
+    public ProcessPoolImpl(
+            String poolCode,
+            int concurrency,
+            int queueCapacity,
+            Integer rateLimitPerMinute,
+            Mediator mediator,
+            MessageCallback messageCallback,
+            PoolMetricsService poolMetrics,
+            WarningService warningService,
+            MessageLifecycleRecorder lifecycleRecorder) {
+        this(poolCode, concurrency, queueCapacity, rateLimitPerMinute, mediator, messageCallback,
+            poolMetrics, warningService, lifecycleRecorder, null);
+    }
+
+    /**
+     * Creates a new process pool that takes its permits from a shared worker budget.
+     *
+     * @param share the pool's part of the shared budget, registered with {@code concurrency} as its
+     *              guarantee (null for an isolated pool)
+     */
+    public ProcessPoolImpl(
+            String poolCode,
+            int concurrency,
+            int queueCapacity,
+            Integer rateLimitPerMinute,
+            Mediator mediator,
+            MessageCallback messageCallback,
+            PoolMetricsService poolMetrics,
+            WarningService warningService,
+            MessageLifecycleRecorder lifecycleRecorder,
+            SharedCapacity.Share share) {
         this.poolCode = poolCode;
         this.concurrency = concurrency;
         this.queueCapacity = queueCapacity;
         this.semaphore = new Semaphore(concurrency);
+        this.share = share;
         this.executorService = Executors.newVirtualThreadPerTaskExecutor();
         this.gaugeUpdater = Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "gauge-updater-" + poolCode);
@@ -169,9 +215,9 @@ public class ProcessPoolImpl implements ProcessPool {
         });
         this.mediator = mediator;
         this.messageCallback = messageCallback;
-        this.inPipelineMap = inPipelineMap;
         this.poolMetrics = poolMetrics;
         this.warningService = warningService;
+        this.lifecycleRecorder = lifecycleRecorder;
 
         // Initialize pool capacity metrics
         poolMetrics.initializePoolCapacity(poolCode, concurrency, queueCapacity);
@@ -220,7 +266,7 @@ public class ProcessPoolImpl implements ProcessPool {
         // The cleanup scheduled task will call shutdown() when fully drained
 
         LOG.infof("Process pool [%s] set to draining mode (queued: %d, active: %d, groups: %d)",
-            poolCode, totalQueuedMessages.get(), concurrency - semaphore.availablePermits(), getActiveGroupCount());
+            poolCode, totalQueuedMessages.get(), getActiveWorkers(), getActiveGroupCount());
     }
 
     @Override
@@ -348,7 +394,7 @@ public class ProcessPoolImpl implements ProcessPool {
 
     @Override
     public boolean isFullyDrained() {
-        return totalQueuedMessages.get() == 0 && semaphore.availablePermits() == concurrency;
+        return totalQueuedMessages.get() == 0 && getActiveWorkers() == 0;
     }
 
     @Override
@@ -359,6 +405,10 @@ public class ProcessPoolImpl implements ProcessPool {
         }
         gaugeUpdater.shutdown();
 
+        if (share != null) {
+            share.close();
+        }
+
         // Then shutdown worker executor
         executorService.shutdown();
         try {
@@ -379,6 +429,9 @@ public class ProcessPoolImpl implements ProcessPool {
 
     @Override
     public int getActiveWorkers() {
+        if (share != null) {
+            return share.getInUse();
+        }
         return concurrency - semaphore.availablePermits();
     }
 
@@ -429,6 +482,14 @@ public class ProcessPoolImpl implements ProcessPool {
                 return true;
             }
 
+            if (share != null) {
+                // Shared budget: only the guarantee changes, running messages above it count as borrowed
+                share.update(newLimit, share.getWeight(), share.getPriority());
+                concurrency = newLimit;
+                LOG.infof("Pool [%s] guaranteed concurrency changed from %d to %d", poolCode, currentLimit, newLimit);
+                return true;
+            }
+
             if (newLimit > currentLimit) {
                 // Increasing concurrency: Release additional permits
                 int permitDifference = newLimit - currentLimit;
@@ -466,6 +527,19 @@ public class ProcessPoolImpl implements ProcessPool {
         }
     }
 
+    @Override
+    public void updateSharing(int weight, int priority) {
+        configLock.lock();
+        try {
+            if (share != null && (share.getWeight() != weight || share.getPriority() != priority)) {
+                share.update(concurrency, weight, priority);
+                LOG.infof("Pool [%s] shared capacity weight set to %d and priority to %d", poolCode, weight, priority);
+            }
+        } finally {
+            configLock.unlock();
+        }
+    }
+
     /**
      * Updates the rate limit for this pool in-place.
      *
@@ -613,20 +687,27 @@ public class ProcessPoolImpl implements ProcessPool {
 
                     // 5. Acquire semaphore permit for pool-level concurrency control
                     // This ensures we don't exceed the configured concurrency limit
-                    semaphore.acquire();
+                    // With a shared budget the permit may be borrowed from an idle pool
+                    if (share != null) {
+                        share.acquire(message.highPriority());
+                    } else {
+                        semaphore.acquire();
+                    }
                     semaphoreAcquired = true;
 
                     // 6. Update gauges to reflect semaphore acquisition
                     updateGauges();
 
                     // 7. Process message through mediator
-                    LOG.infof("Processing message [%s] in pool [%s] via mediator to [%s]",
-                        message.id(), poolCode, message.mediationTarget());
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debugf("Processing message [%s] in pool [%s] via mediator to [%s]",
+                            message.id(), poolCode, message.mediationTarget());
+                    }
                     long startTime = System.currentTimeMillis();
                     MediationOutcome outcome = mediator.process(message);
                     long durationMs = System.currentTimeMillis() - startTime;
-                    LOG.infof("Message [%s] processing completed with result [%s] in %dms",
-                        message.id(), outcome.result(), durationMs);
+                    lifecycleRecorder.record(poolCode, message.id(), LifecycleEvent.Stage.MEDIATED,
+                        outcome.result().name(), durationMs);
 
                     // 8. Handle mediation outcome (result + optional delay)
                     handleMediationOutcome(message, outcome, durationMs);
@@ -766,11 +847,11 @@ public class ProcessPoolImpl implements ProcessPool {
         if (outcome == null || outcome.result() == null) {
             LOG.errorf("CRITICAL: Mediator returned null outcome/result for message [%s], treating as transient error", message.id());
             outcome = MediationOutcome.errorProcess((Integer) null);
-            warningService.addWarning(
+            warningService.addWarningf(
                 "MEDIATOR_NULL_RESULT",
                 "CRITICAL",
-                "Mediator returned null outcome for message " + message.id(),
-                "ProcessPool:" + poolCode
+                "ProcessPool:" + poolCode,
+                "Mediator returned null outcome for message %s", message.id()
             );
         }
 
@@ -784,7 +865,9 @@ public class ProcessPoolImpl implements ProcessPool {
         String batchGroupKey = batchId != null ? batchId + "|" + messageGroupId : null;
 
         if (result == MediationResult.SUCCESS) {
-            LOG.infof("Message [%s] processed successfully - ACKing and removing from queue", message.id());
+            if (LOG.isDebugEnabled()) {
+                LOG.debugf("Message [%s] processed successfully - ACKing and removing from queue", message.id());
+            }
             poolMetrics.recordProcessingSuccess(poolCode, durationMs);
             messageCallback.ack(message);
 
@@ -894,13 +977,12 @@ public class ProcessPoolImpl implements ProcessPool {
      * Log exception context for diagnostics
      */
     private void logExceptionContext(MessagePointer message, Exception e) {
-        warningService.addWarning(
+        warningService.addWarningf(
             "PROCESSING",
             "WARN",
-            String.format("Unexpected error processing message %s: %s",
-                message != null ? message.id() : "unknown",
-                e.getMessage()),
-            "ProcessPool:" + poolCode
+            "ProcessPool:" + poolCode,
+            "Unexpected error processing message %s: %s",
+            message != null ? message.id() : "unknown", e.getMessage()
         );
     }
 
@@ -918,7 +1000,7 @@ public class ProcessPoolImpl implements ProcessPool {
     /**
      * Perform cleanup of all resources
      * This method is called in the finally block and must NEVER throw exceptions
-     * NOTE: inPipelineMap removal is handled by QueueManager.ack()/nack()
+     * NOTE: in-flight tracking removal is handled by QueueManager.ack()/nack()
      *
      * CRITICAL: Semaphore release MUST happen first and is wrapped in its own try-catch
      * to guarantee it executes even if other cleanup operations fail.
@@ -928,16 +1010,20 @@ public class ProcessPoolImpl implements ProcessPool {
         // This MUST happen even if everything else fails to prevent permit leaks
         if (semaphoreAcquired) {
             try {
-                semaphore.release();
+                if (share != null) {
+                    share.release();
+                } else {
+                    semaphore.release();
+                }
             } catch (Exception e) {
                 // This should never happen, but log if it does
                 LOG.errorf(e, "CRITICAL: Failed to release semaphore for message [%s] in pool [%s]. " +
                     "This will cause a permit leak!", messageId, poolCode);
-                warningService.addWarning(
+                warningService.addWarningf(
                     "SEMAPHORE_RELEASE_FAILED",
                     "CRITICAL",
-                    String.format("Failed to release semaphore for message [%s] in pool [%s]", messageId, poolCode),
-                    "ProcessPool:" + poolCode
+                    "ProcessPool:" + poolCode,
+                    "Failed to release semaphore for message [%s] in pool [%s]", messageId, poolCode
                 );
             }
         }
@@ -956,13 +1042,13 @@ public class ProcessPoolImpl implements ProcessPool {
     }
 
     private void updateGauges() {
-        int activeWorkers = concurrency - semaphore.availablePermits();
-        int availablePermits = semaphore.availablePermits();
+        int activeWorkers = getActiveWorkers();
+        int availablePermits = Math.max(concurrency - activeWorkers, 0);
         int queueSize = totalQueuedMessages.get();
         int messageGroupCount = getActiveGroupCount();
 
         // DEBUG: Log per-group queue sizes when we have queued messages
-        if (queueSize > 0 && messageGroupCount > 1) {
+        if (queueSize > 0 && messageGroupCount > 1 && LOG.isDebugEnabled()) {
             StringBuilder groupStats = new StringBuilder();
             groupStats.append(String.format("Pool [%s] distribution: ", poolCode));
             // Log high priority queue sizes
@@ -979,7 +1065,7 @@ public class ProcessPoolImpl implements ProcessPool {
                     groupStats.append(String.format("[%s: %d] ", groupId, size));
                 }
             });
-            LOG.warnf("*** POOL DISTRIBUTION *** %s | Total: %d, Groups: %d, Active: %d/%d",
+            LOG.debugf("*** POOL DISTRIBUTION *** %s | Total: %d, Groups: %d, Active: %d/%d",
                 groupStats.toString(), queueSize, messageGroupCount, activeWorkers, concurrency);
         }
 
@@ -0,0 +1,321 @@
+package tech.flowcatalyst.messagerouter.pool;
+
+import org.jboss.logging.Logger;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Router-wide worker budget shared by process pools, with guaranteed minimums and weighted fair
+ * sharing of the spare capacity.
+ *
+ * <p>Every pool registers a {@link Share} with a guaranteed concurrency, a weight and a priority.
+ * At most {@code totalPermits} messages are processed at once across all shares:</p>
+ * <ul>
+ *   <li><b>Guaranteed:</b> a share running fewer messages than its guarantee is served before any
+ *       share that is borrowing. When the budget is fully used by borrowers, the next permit released
+ *       anywhere goes to it, so borrowed capacity is returned within one mediation</li>
+ *   <li><b>Borrowing:</b> capacity left idle by other shares is lent out. Borrowers are served by
+ *       priority level first, then by start-time fair queuing: each borrowed permit advances the
+ *       share's virtual time by {@code 1/weight}, and the share with the lowest start tag is served
+ *       next, so saturated shares split spare capacity in proportion to their weights</li>
+ *   <li><b>Priority levels:</b> a waiter's level is {@code priority * 2}, plus one for high priority
+ *       messages. High priority messages overtake regular ones of the same pool, and pools with a
+ *       higher priority borrow before pools with a lower one</li>
+ * </ul>
+ *
+ * <p>If the guarantees add up to more than the budget they cannot all be met at once; a warning is
+ * logged and guaranteed waiters are still served first.</p>
+ *
+ * <p>Uses a {@link ReentrantLock} rather than {@code synchronized} so waiting virtual threads are
+ * not pinned.</p>
+ */
+public final class SharedCapacity {
+
+    private static final Logger LOG = Logger.getLogger(SharedCapacity.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final int totalPermits;
+
+    /** Shares with at least one waiter. Guarded by lock. */
+    private final Set<Share> waiting = new LinkedHashSet<>();
+    private int inUse;
+    private int guaranteedTotal;
+    /** Start tag of the last borrowed permit handed out. Guarded by lock. */
+    private double virtualTime;
+
+    public SharedCapacity(int totalPermits) {
+        if (totalPermits < 1) {
+            throw new IllegalArgumentException("totalPermits must be at least 1");
+        }
+        this.totalPermits = totalPermits;
+    }
+
+    /**
+     * Register a pool.
+     *
+     * @param poolCode   pool code, for logging
+     * @param guaranteed concurrency the pool can always reach
+     * @param weight     share of spare capacity relative to other pools (at least 1)
+     * @param priority   priority of the pool when borrowing; higher is served first
+     */
+    public Share register(String poolCode, int guaranteed, int weight, int priority) {
+        Share share = new Share(poolCode);
+        lock.lock();
+        try {
+            share.configure(guaranteed, weight, priority);
+        } finally {
+            lock.unlock();
+        }
+        return share;
+    }
+
+    public int getTotalPermits() {
+        return totalPermits;
+    }
+
+    /**
+     * Number of permits in use across all shares.
+     */
+    public int getInUse() {
+        lock.lock();
+        try {
+            return inUse;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of threads waiting for a permit across all shares.
+     */
+    int getWaitingCount() {
+        lock.lock();
+        try {
+            int count = 0;
+            for (Share share : waiting) {
+                count += share.high.size() + share.regular.size();
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Hand out free permits to waiters. Must hold lock.
+     */
+    private void dispatch() {
+        while (inUse < totalPermits && !waiting.isEmpty()) {
+            Share next = null;
+            for (Share share : waiting) {
+                if (share.inUse < share.guaranteed
+                        && (next == null || next.inUse >= next.guaranteed || share.headLevel() > next.headLevel())) {
+                    next = share;
+                }
+            }
+            if (next == null) {
+                // Nobody below its guarantee: highest level, then lowest start tag
+                for (Share share : waiting) {
+                    if (next == null || share.headLevel() > next.headLevel()
+                            || (share.headLevel() == next.headLevel() && share.startTag() < next.startTag())) {
+                        next = share;
+                    }
+                }
+                double start = next.startTag();
+                next.finishTag = start + 1.0 / next.weight;
+                virtualTime = start;
+            }
+            next.grant();
+        }
+    }
+
+    /**
+     * One pool's part of the shared budget.
+     */
+    public final class Share {
+
+        private final String poolCode;
+        /** Guarded by lock. */
+        private final ArrayDeque<Waiter> high = new ArrayDeque<>();
+        private final ArrayDeque<Waiter> regular = new ArrayDeque<>();
+        private int guaranteed;
+        private int weight;
+        private int priority;
+        private int inUse;
+        private double finishTag;
+        private boolean closed;
+
+        private Share(String poolCode) {
+            this.poolCode = poolCode;
+        }
+
+        /**
+         * Wait for a permit.
+         *
+         * @param highPriority whether the message is high priority
+         * @throws InterruptedException if interrupted while waiting; no permit is held
+         */
+        public void acquire(boolean highPriority) throws InterruptedException {
+            lock.lock();
+            try {
+                Waiter waiter = new Waiter(lock.newCondition());
+                (highPriority ? high : regular).addLast(waiter);
+                waiting.add(this);
+                dispatch();
+                try {
+                    while (!waiter.granted) {
+                        waiter.condition.await();
+                    }
+                } catch (InterruptedException e) {
+                    if (waiter.granted) {
+                        // Granted while being interrupted: hand the permit on
+                        releaseLocked();
+                    } else {
+                        high.remove(waiter);
+                        regular.remove(waiter);
+                        if (high.isEmpty() && regular.isEmpty()) {
+                            waiting.remove(this);
+                        }
+                    }
+                    throw e;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Return a permit taken by {@link #acquire}.
+         */
+        public void release() {
+            lock.lock();
+            try {
+                releaseLocked();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void releaseLocked() {
+            inUse--;
+            SharedCapacity.this.inUse--;
+            dispatch();
+        }
+
+        /**
+         * Change the guarantee, weight and priority. Messages already running above a lower
+         * guarantee count as borrowed until they finish.
+         */
+        public void update(int guaranteed, int weight, int priority) {
+            lock.lock();
+            try {
+                if (!closed) {
+                    configure(guaranteed, weight, priority);
+                    dispatch();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Remove the share from the budget. Permits still held are returned by {@link #release}.
+         */
+        public void close() {
+            lock.lock();
+            try {
+                if (!closed) {
+                    closed = true;
+                    guaranteedTotal -= guaranteed;
+                    guaranteed = 0;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public int getGuaranteed() {
+            lock.lock();
+            try {
+                return guaranteed;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public int getWeight() {
+            lock.lock();
+            try {
+                return weight;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public int getPriority() {
+            lock.lock();
+            try {
+                return priority;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Number of permits this share holds, guaranteed and borrowed.
+         */
+        public int getInUse() {
+            lock.lock();
+            try {
+                return inUse;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void configure(int guaranteed, int weight, int priority) {
+            guaranteedTotal += guaranteed - this.guaranteed;
+            this.guaranteed = guaranteed;
+            this.weight = Math.max(weight, 1);
+            this.priority = priority;
+            if (guaranteedTotal > totalPermits) {
+                LOG.warnf("Guaranteed concurrency of all pools (%d) exceeds the shared capacity (%d) after " +
+                    "configuring pool [%s]; guarantees cannot all be met at once",
+                    guaranteedTotal, totalPermits, poolCode);
+            }
+        }
+
+        private int headLevel() {
+            return priority * 2 + (high.isEmpty() ? 0 : 1);
+        }
+
+        private double startTag() {
+            // A share that was idle starts at the current virtual time instead of spending saved-up credit
+            return Math.max(virtualTime, finishTag);
+        }
+
+        private void grant() {
+            Waiter waiter = high.isEmpty() ? regular.pollFirst() : high.pollFirst();
+            if (high.isEmpty() && regular.isEmpty()) {
+                waiting.remove(this);
+            }
+            inUse++;
+            SharedCapacity.this.inUse++;
+            waiter.granted = true;
+            waiter.condition.signal();
+        }
+    }
+
+    private static final class Waiter {
+        final Condition condition;
+        boolean granted;
+
+        Waiter(Condition condition) {
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package tech.flowcatalyst.messagerouter.pool;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration for the worker budget shared by all process pools.
+ *
+ * @see SharedCapacity
+ */
+@ConfigMapping(prefix = "message-router.shared-capacity")
+public interface SharedCapacityConfig {
+
+    /**
+     * Share one worker budget across pools.
+     * If false, each pool is isolated and limited to its own concurrency.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Messages processed at once across all pools. Each pool's concurrency becomes its guaranteed
+     * minimum, so this should be at least the sum of the pools' concurrency.
+     */
+    @WithDefault("200")
+    int totalConcurrency();
+}
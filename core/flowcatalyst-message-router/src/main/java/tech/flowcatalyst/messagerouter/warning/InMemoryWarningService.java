@@ -7,81 +7,53 @@ import tech.flowcatalyst.messagerouter.model.Warning;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
 
+/**
+ * In-memory warning store backed by a {@link WarningAggregator}.
+ * Repeated warnings are counted rather than stored again, and at most
+ * {@value #MAX_WARNINGS} distinct warnings are kept.
+ */
 @ApplicationScoped
 public class InMemoryWarningService implements WarningService {
 
     private static final Logger LOG = Logger.getLogger(InMemoryWarningService.class);
     private static final int MAX_WARNINGS = 1000;
 
-    private final ConcurrentMap<String, Warning> warnings = new ConcurrentHashMap<>();
+    private final WarningAggregator warnings = new WarningAggregator(MAX_WARNINGS);
 
     @Override
     public void addWarning(String category, String severity, String message, String source) {
-        // Limit warning storage
-        if (warnings.size() >= MAX_WARNINGS) {
-            // Remove oldest warning
-            warnings.entrySet().stream()
-                .min((e1, e2) -> e1.getValue().timestamp().compareTo(e2.getValue().timestamp()))
-                .ifPresent(entry -> warnings.remove(entry.getKey()));
+        if (warnings.record(category, severity, source, message, null, 1)) {
+            LOG.infof("Warning added: [%s] %s - %s - %s", severity, category, source, message);
         }
+    }
 
-        String warningId = UUID.randomUUID().toString();
-        Warning warning = new Warning(
-            warningId,
-            category,
-            severity,
-            message,
-            Instant.now(),
-            source,
-            false
-        );
-
-        warnings.put(warningId, warning);
-        LOG.infof("Warning added: [%s] %s - %s - %s", severity, category, source, message);
+    @Override
+    public void addWarningf(String category, String severity, String source, String template, Object... params) {
+        if (warnings.record(category, severity, source, template, params, 1)) {
+            LOG.infof("Warning added: [%s] %s - %s - %s", severity, category, source,
+                String.format(template, params));
+        }
     }
 
     @Override
     public List<Warning> getAllWarnings() {
-        return warnings.values().stream()
-            .sorted((w1, w2) -> w2.timestamp().compareTo(w1.timestamp())) // Newest first
-            .collect(Collectors.toList());
+        return warnings.snapshot();
     }
 
     @Override
     public List<Warning> getWarningsBySeverity(String severity) {
-        return warnings.values().stream()
-            .filter(w -> w.severity().equalsIgnoreCase(severity))
-            .sorted((w1, w2) -> w2.timestamp().compareTo(w1.timestamp()))
-            .collect(Collectors.toList());
+        return warnings.select(w -> w.severity().equalsIgnoreCase(severity));
     }
 
     @Override
     public List<Warning> getUnacknowledgedWarnings() {
-        return warnings.values().stream()
-            .filter(w -> !w.acknowledged())
-            .sorted((w1, w2) -> w2.timestamp().compareTo(w1.timestamp()))
-            .collect(Collectors.toList());
+        return warnings.select(w -> !w.acknowledged());
     }
 
     @Override
     public boolean acknowledgeWarning(String warningId) {
-        Warning existing = warnings.get(warningId);
-        if (existing != null) {
-            Warning acknowledged = new Warning(
-                existing.id(),
-                existing.category(),
-                existing.severity(),
-                existing.message(),
-                existing.timestamp(),
-                existing.source(),
-                true
-            );
-            warnings.put(warningId, acknowledged);
+        if (warnings.acknowledge(warningId)) {
             LOG.infof("Warning acknowledged: %s", warningId);
             return true;
         }
@@ -90,20 +62,19 @@ public class InMemoryWarningService implements WarningService {
 
     @Override
     public void clearAllWarnings() {
-        int count = warnings.size();
-        warnings.clear();
+        int count = warnings.clear();
         LOG.infof("Cleared all warnings: %d warnings removed", count);
     }
 
     @Override
     public void clearOldWarnings(int hoursOld) {
         Instant threshold = Instant.now().minus(hoursOld, ChronoUnit.HOURS);
-        List<String> toRemove = warnings.values().stream()
-            .filter(w -> w.timestamp().isBefore(threshold))
-            .map(Warning::id)
-            .collect(Collectors.toList());
+        int removed = warnings.removeLastSeenBefore(threshold);
+        LOG.infof("Cleared %d warnings older than %d hours", removed, hoursOld);
+    }
 
-        toRemove.forEach(warnings::remove);
-        LOG.infof("Cleared %d warnings older than %d hours", toRemove.size(), hoursOld);
+    @Override
+    public List<Warning> drainUnnotified() {
+        return warnings.drainUnnotified();
     }
 }
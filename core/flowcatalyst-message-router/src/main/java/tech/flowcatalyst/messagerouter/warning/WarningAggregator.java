@@ -0,0 +1,231 @@
+package tech.flowcatalyst.messagerouter.warning;
+
+import tech.flowcatalyst.messagerouter.model.Warning;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, deduplicating store of warnings.
+ * <p>
+ * Occurrences are aggregated by (category, source, template): repeating a warning only
+ * increments its counter and updates its last-seen time and latest parameters, so an
+ * overload that raises the same warning a million times holds one entry with a count
+ * of 1,000,000. The message is formatted from the template and latest parameters when
+ * the warning is read, not when it is raised.
+ * <p>
+ * At most {@code maxEntries} distinct warnings are kept; adding a new one to a full store
+ * evicts the least recently seen. Recording an existing warning does not allocate or lock.
+ */
+public final class WarningAggregator {
+
+    private record Key(String category, String source, String template) {}
+
+    private static final class Entry {
+        final String id = UUID.randomUUID().toString();
+        final Key key;
+        final long firstSeen;
+        final LongAdder count = new LongAdder();
+        volatile String severity;
+        volatile Object[] params;
+        volatile long lastSeen;
+        volatile boolean acknowledged;
+        // Occurrences already handed out by drainUnnotified (guarded by the aggregator)
+        long notified;
+
+        Entry(Key key, long now) {
+            this.key = key;
+            this.firstSeen = now;
+            this.lastSeen = now;
+        }
+    }
+
+    private final int maxEntries;
+    private final Clock clock;
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder evicted = new LongAdder();
+
+    public WarningAggregator(int maxEntries) {
+        this(maxEntries, Clock.systemUTC());
+    }
+
+    WarningAggregator(int maxEntries, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Record occurrences of a warning.
+     *
+     * @param template    message template ({@link String#format} syntax); part of the key
+     * @param params      template parameters of this occurrence, or null for a plain message
+     * @param occurrences number of occurrences to add
+     * @return true if this is the first occurrence of the warning in the store
+     */
+    public boolean record(String category, String severity, String source, String template,
+                          Object[] params, long occurrences) {
+        long now = clock.millis();
+        Key key = new Key(category, source, template);
+        Entry entry = entries.get(key);
+        boolean created = false;
+        if (entry == null) {
+            if (entries.size() >= maxEntries) {
+                evictLeastRecentlySeen();
+            }
+            Entry fresh = new Entry(key, now);
+            entry = entries.putIfAbsent(key, fresh);
+            if (entry == null) {
+                entry = fresh;
+                created = true;
+            }
+        }
+        entry.count.add(occurrences);
+        entry.severity = severity;
+        entry.params = params;
+        entry.lastSeen = now;
+        if (entry.acknowledged) {
+            // A new occurrence re-opens an acknowledged warning
+            entry.acknowledged = false;
+        }
+        return created;
+    }
+
+    private synchronized void evictLeastRecentlySeen() {
+        while (entries.size() >= maxEntries) {
+            entries.values().stream()
+                .min(Comparator.comparingLong(e -> e.lastSeen))
+                .ifPresent(oldest -> {
+                    if (entries.remove(oldest.key, oldest)) {
+                        evicted.increment();
+                    }
+                });
+        }
+    }
+
+    /**
+     * All warnings, most recently seen first.
+     */
+    public List<Warning> snapshot() {
+        return select(e -> true);
+    }
+
+    /**
+     * Warnings matching a filter, most recently seen first.
+     */
+    public List<Warning> select(Predicate<Warning> filter) {
+        List<Warning> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            Warning warning = toWarning(entry, entry.count.sum());
+            if (filter.test(warning)) {
+                result.add(warning);
+            }
+        }
+        result.sort(Comparator.comparing(Warning::timestamp).reversed());
+        return result;
+    }
+
+    /**
+     * Warnings with occurrences since the previous call, most recently seen first.
+     * Each warning's count is the number of new occurrences.
+     */
+    public synchronized List<Warning> drainUnnotified() {
+        List<Warning> result = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            long total = entry.count.sum();
+            if (total > entry.notified) {
+                result.add(toWarning(entry, total - entry.notified));
+                entry.notified = total;
+            }
+        }
+        result.sort(Comparator.comparing(Warning::timestamp).reversed());
+        return result;
+    }
+
+    public boolean acknowledge(String id) {
+        for (Entry entry : entries.values()) {
+            if (entry.id.equals(id)) {
+                entry.acknowledged = true;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Remove warnings last seen before a point in time.
+     *
+     * @return number of warnings removed
+     */
+    public int removeLastSeenBefore(Instant threshold) {
+        long thresholdMillis = threshold.toEpochMilli();
+        int removed = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.lastSeen < thresholdMillis && entries.remove(entry.key, entry)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Remove all warnings.
+     *
+     * @return number of warnings removed
+     */
+    public int clear() {
+        int count = entries.size();
+        entries.clear();
+        return count;
+    }
+
+    /**
+     * Number of distinct warnings held.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Number of warnings evicted to stay within the cap.
+     */
+    public long evictedCount() {
+        return evicted.sum();
+    }
+
+    private static Warning toWarning(Entry entry, long count) {
+        return new Warning(
+            entry.id,
+            entry.key.category(),
+            entry.severity,
+            format(entry.key.template(), entry.params),
+            Instant.ofEpochMilli(entry.lastSeen),
+            entry.key.source(),
+            entry.acknowledged,
+            count,
+            Instant.ofEpochMilli(entry.firstSeen)
+        );
+    }
+
+    private static String format(String template, Object[] params) {
+        if (params == null || params.length == 0) {
+            return template;
+        }
+        try {
+            return String.format(template, params);
+        } catch (IllegalFormatException e) {
+            return template;
+        }
+    }
+}
@@ -10,10 +10,20 @@ import java.util.List;
 public interface WarningService {
 
     /**
-     * Add a new warning
+     * Add a new warning, or count another occurrence of an identical one
      */
     void addWarning(String category, String severity, String message, String source);
 
+    /**
+     * Add a warning built from a message template.
+     * Occurrences with the same category, source and template are aggregated into one
+     * warning regardless of their parameters; its message shows the latest parameters.
+     * Use this on paths that can raise the same warning at a high rate.
+     */
+    default void addWarningf(String category, String severity, String source, String template, Object... params) {
+        addWarning(category, severity, String.format(template, params), source);
+    }
+
     /**
      * Get all warnings
      */
@@ -43,4 +53,12 @@ public interface WarningService {
      * Clear warnings older than specified hours
      */
     void clearOldWarnings(int hoursOld);
+
+    /**
+     * Warnings with new occurrences since the previous call, for notification.
+     * Each warning's count is the number of new occurrences.
+     */
+    default List<Warning> drainUnnotified() {
+        return List.of();
+    }
 }
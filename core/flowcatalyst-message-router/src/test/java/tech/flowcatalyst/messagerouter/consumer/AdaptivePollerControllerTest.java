@@ -0,0 +1,185 @@
+package tech.flowcatalyst.messagerouter.consumer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptivePollerControllerTest {
+
+    private static final AdaptivePollerController.Config ADAPTIVE =
+        new AdaptivePollerController.Config(true, 1, 8);
+
+    @Test
+    void fixedMode_shouldKeepLegacyLoopsAndDelays() {
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 3, AdaptivePollerController.Config.disabled(), 100, 0);
+        controller.setCapacitySource(() -> 0);
+
+        assertFalse(controller.isAdaptive());
+        assertEquals(3, controller.maxLoops());
+        // Capacity is ignored in fixed mode
+        assertTrue(controller.tryAcquirePollSlot());
+        assertEquals(10, controller.receiveBatchSize(10));
+        controller.releasePollSlot();
+
+        assertEquals(0, controller.recordReceive(10, 10));
+        assertEquals(100, controller.recordReceive(4, 10));
+        assertEquals(0, controller.recordReceive(0, 10));
+    }
+
+    @Test
+    void adaptiveMode_maxLoopsNeverBelowConfiguredConnections() {
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 12, ADAPTIVE, 100, 0);
+
+        assertTrue(controller.isAdaptive());
+        assertEquals(12, controller.maxLoops());
+        assertEquals(12, controller.getTargetLoops());
+    }
+
+    @Test
+    void shouldGrantOnlyTargetNumberOfPollSlots() {
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 2, ADAPTIVE, 100, 0);
+
+        assertTrue(controller.tryAcquirePollSlot());
+        assertTrue(controller.tryAcquirePollSlot());
+        assertFalse(controller.tryAcquirePollSlot(), "Third loop should park while target is 2");
+
+        controller.releasePollSlot();
+        assertTrue(controller.tryAcquirePollSlot());
+    }
+
+    @Test
+    void shouldPausePollingWhenPoolsHaveNoCapacity() {
+        AtomicInteger capacity = new AtomicInteger(0);
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 2, ADAPTIVE, 100, 0);
+        controller.setCapacitySource(capacity::get);
+
+        assertFalse(controller.tryAcquirePollSlot());
+
+        capacity.set(5);
+        assertTrue(controller.tryAcquirePollSlot());
+    }
+
+    @Test
+    void shouldCapBatchSizeToFreeCapacityShare() {
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 2, ADAPTIVE, 100, 0);
+        controller.setCapacitySource(() -> 6);
+
+        assertTrue(controller.tryAcquirePollSlot());
+        assertTrue(controller.tryAcquirePollSlot());
+
+        // 6 free slots shared between 2 active loops
+        assertEquals(3, controller.receiveBatchSize(10));
+    }
+
+    @Test
+    void shouldScaleUpOnBacklog() {
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 2, ADAPTIVE, 100, 0);
+
+        controller.recordQueueDepth(10_000);
+        assertEquals(4, controller.getTargetLoops());
+
+        controller.recordQueueDepth(10_000);
+        controller.recordQueueDepth(10_000);
+        assertEquals(8, controller.getTargetLoops(), "Should not exceed max connections");
+    }
+
+    @Test
+    void shouldScaleDownWhenQueueIsEmpty() {
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 3, ADAPTIVE, 100, 0);
+
+        controller.recordQueueDepth(0);
+        assertEquals(2, controller.getTargetLoops());
+
+        controller.recordQueueDepth(0);
+        controller.recordQueueDepth(0);
+        assertEquals(1, controller.getTargetLoops(), "Should not go below min connections");
+    }
+
+    @Test
+    void shouldLimitTargetToDownstreamCapacity() {
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 2, ADAPTIVE, 100, 0);
+        controller.setCapacitySource(() -> 20);
+
+        for (int i = 0; i < 5; i++) {
+            controller.recordReceive(10, 10);
+        }
+        controller.recordQueueDepth(10_000);
+
+        // Backlog asks for 4 loops, but 20 free slots only fit two batches of 10
+        assertEquals(2, controller.getTargetLoops());
+    }
+
+    @Test
+    void shouldSkipDelaysForFullBatchesAndBacklog() {
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 2, ADAPTIVE, 100, 1000);
+
+        assertEquals(0, controller.recordReceive(10, 10));
+
+        controller.recordQueueDepth(10_000);
+        assertEquals(0, controller.recordReceive(3, 10));
+        assertEquals(0, controller.recordReceive(0, 10));
+    }
+
+    @Test
+    void shouldScaleDelaysByFillAndEmptyRatio() {
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 2, ADAPTIVE, 100, 1000);
+
+        long nearlyFull = controller.recordReceive(9, 10);
+        long sparse = controller.recordReceive(1, 10);
+        assertTrue(nearlyFull < sparse, "Sparse batches should wait longer than nearly-full ones");
+        assertTrue(sparse <= 200);
+
+        long firstEmpty = controller.recordReceive(0, 10);
+        long laterEmpty = firstEmpty;
+        for (int i = 0; i < 20; i++) {
+            laterEmpty = controller.recordReceive(0, 10);
+        }
+        assertTrue(laterEmpty > firstEmpty, "Repeated empty receives should back off further");
+        assertTrue(laterEmpty <= 2000);
+    }
+
+    @Test
+    void shouldIgnoreStaleQueueDepth() {
+        AtomicLong now = new AtomicLong(0);
+        AdaptivePollerController controller = AdaptivePollerController.create(
+            "queue", 2, ADAPTIVE, 100, 1000);
+        controller.nanoClock = now::get;
+
+        controller.recordQueueDepth(10_000);
+        assertEquals(0, controller.recordReceive(3, 10), "Fresh backlog should skip the delay");
+
+        // Depth refreshes stopped (e.g. the attributes call keeps failing)
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(AdaptivePollerController.QUEUE_DEPTH_MAX_AGE_MS + 1));
+        assertTrue(controller.recordReceive(3, 10) > 0, "Stale backlog should no longer skip the delay");
+
+        int target = controller.getTargetLoops();
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        controller.recordReceive(3, 10);
+        assertEquals(target, controller.getTargetLoops(), "Stale backlog should not scale up");
+    }
+
+    @Test
+    void shouldRefreshQueueDepthAtControllerCadenceWhenAdaptive() {
+        AdaptivePollerController adaptive = AdaptivePollerController.create("queue", 2, ADAPTIVE, 100, 0);
+        AdaptivePollerController fixed = AdaptivePollerController.create(
+            "queue", 2, AdaptivePollerController.Config.disabled(), 100, 0);
+
+        assertEquals(AdaptivePollerController.QUEUE_DEPTH_POLL_INTERVAL_MS, adaptive.queueDepthPollIntervalMs(300_000));
+        assertEquals(1_000, adaptive.queueDepthPollIntervalMs(1_000));
+        assertEquals(300_000, fixed.queueDepthPollIntervalMs(300_000));
+    }
+}
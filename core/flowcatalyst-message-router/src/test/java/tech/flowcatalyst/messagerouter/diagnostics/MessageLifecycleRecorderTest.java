@@ -0,0 +1,152 @@
+package tech.flowcatalyst.messagerouter.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessageLifecycleRecorderTest {
+
+    @Test
+    void shouldReturnRecentEventsNewestFirstPerPool() {
+        MessageLifecycleRecorder recorder = new MessageLifecycleRecorder(true, 16, 0.0);
+
+        recorder.record("POOL-A", "msg-1", LifecycleEvent.Stage.RECEIVED, "queue-1");
+        recorder.record("POOL-A", "msg-1", LifecycleEvent.Stage.ROUTED, "batch-1");
+        recorder.record("POOL-B", "msg-2", LifecycleEvent.Stage.RECEIVED, "queue-1");
+        recorder.record("POOL-A", "msg-1", LifecycleEvent.Stage.MEDIATED, "SUCCESS", 42);
+
+        List<LifecycleEvent> events = recorder.getRecentEvents("POOL-A", 10);
+
+        assertEquals(3, events.size());
+        assertEquals(LifecycleEvent.Stage.MEDIATED, events.get(0).stage());
+        assertEquals("SUCCESS", events.get(0).detail());
+        assertEquals(42, events.get(0).durationMs());
+        assertEquals(LifecycleEvent.Stage.RECEIVED, events.get(2).stage());
+        assertEquals(4, recorder.getRecentEvents(10).size());
+        assertEquals(List.of(), recorder.getRecentEvents("POOL-UNKNOWN", 10));
+    }
+
+    @Test
+    void shouldKeepOnlyTheMostRecentEventsWhenBufferWraps() {
+        MessageLifecycleRecorder recorder = new MessageLifecycleRecorder(true, 16, 0.0);
+
+        for (int i = 0; i < 100; i++) {
+            recorder.record("POOL-A", "msg-" + i, LifecycleEvent.Stage.RECEIVED, null);
+        }
+
+        List<LifecycleEvent> events = recorder.getRecentEvents("POOL-A", 1000);
+        assertEquals(16, events.size());
+        assertEquals("msg-99", events.get(0).messageId());
+        assertEquals("msg-84", events.get(15).messageId());
+    }
+
+    @Test
+    void shouldReturnOneMessageLifecycleInOrder() {
+        MessageLifecycleRecorder recorder = new MessageLifecycleRecorder(true, 64, 0.0);
+
+        recorder.record("POOL-A", "msg-1", LifecycleEvent.Stage.RECEIVED, "queue-1");
+        recorder.record("POOL-A", "msg-2", LifecycleEvent.Stage.RECEIVED, "queue-1");
+        recorder.record("POOL-A", "msg-1", LifecycleEvent.Stage.ROUTED, "batch-1");
+        recorder.record("POOL-A", "msg-1", LifecycleEvent.Stage.ACKED, null);
+
+        List<LifecycleEvent> events = recorder.getMessageEvents("msg-1");
+
+        assertEquals(List.of(LifecycleEvent.Stage.RECEIVED, LifecycleEvent.Stage.ROUTED, LifecycleEvent.Stage.ACKED),
+            events.stream().map(LifecycleEvent::stage).toList());
+    }
+
+    @Test
+    void shouldFoldPoolsBeyondTheCapIntoOneRing() {
+        MessageLifecycleRecorder recorder = new MessageLifecycleRecorder(true, 16, 0.0, 2);
+
+        recorder.record("POOL-A", "msg-1", LifecycleEvent.Stage.RECEIVED, null);
+        recorder.record("POOL-B", "msg-2", LifecycleEvent.Stage.RECEIVED, null);
+        for (int i = 0; i < 100; i++) {
+            recorder.record("POOL-" + i, "msg-" + i, LifecycleEvent.Stage.RECEIVED, null);
+        }
+        recorder.record("POOL-A", "msg-1", LifecycleEvent.Stage.ACKED, null);
+
+        assertEquals(3, recorder.getPoolCodes().size());
+        assertTrue(recorder.getPoolCodes().containsAll(List.of("POOL-A", "POOL-B", "UNKNOWN")));
+        assertEquals(2, recorder.getRecentEvents("POOL-A", 10).size());
+        assertEquals(16, recorder.getRecentEvents("UNKNOWN", 100).size());
+    }
+
+    @Test
+    void disabledRecorderShouldRecordNothing() {
+        MessageLifecycleRecorder recorder = MessageLifecycleRecorder.disabled();
+
+        recorder.record("POOL-A", "msg-1", LifecycleEvent.Stage.RECEIVED, null);
+
+        assertTrue(recorder.getRecentEvents(10).isEmpty());
+        assertFalse(recorder.isTraced("msg-1"));
+    }
+
+    @Test
+    void shouldTraceFlaggedMessagesOnly() {
+        MessageLifecycleRecorder recorder = new MessageLifecycleRecorder(true, 16, 0.0);
+
+        assertFalse(recorder.isTraced("msg-1"));
+        assertTrue(recorder.flagMessage("msg-1"));
+        assertTrue(recorder.isTraced("msg-1"));
+        assertFalse(recorder.isTraced("msg-2"));
+
+        assertTrue(recorder.unflagMessage("msg-1"));
+        assertFalse(recorder.isTraced("msg-1"));
+        assertFalse(recorder.unflagMessage("msg-1"));
+    }
+
+    @Test
+    void shouldSampleDeterministicFractionOfMessageIds() {
+        MessageLifecycleRecorder recorder = new MessageLifecycleRecorder(true, 16, 0.1);
+
+        long traced = IntStream.range(0, 100_000)
+            .filter(i -> recorder.isTraced("msg-" + i))
+            .count();
+
+        assertTrue(traced > 8_000 && traced < 12_000, "Expected ~10% sampled, got " + traced);
+        // Same ID is always sampled the same way, so every stage of a message is traced
+        for (int i = 0; i < 100; i++) {
+            assertEquals(recorder.isTraced("msg-" + i), recorder.isTraced("msg-" + i));
+        }
+        assertFalse(new MessageLifecycleRecorder(true, 16, 0.0).isTraced("msg-1"));
+        assertTrue(new MessageLifecycleRecorder(true, 16, 1.0).isTraced("msg-1"));
+    }
+
+    @Test
+    void concurrentWritersShouldNotCorruptEvents() throws Exception {
+        MessageLifecycleRecorder recorder = new MessageLifecycleRecorder(true, 256, 0.0);
+        int threads = 16;
+        int eventsPerThread = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        for (int t = 0; t < threads; t++) {
+            String messageId = "msg-" + t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < eventsPerThread; i++) {
+                    recorder.record("POOL-A", messageId, LifecycleEvent.Stage.MEDIATED, messageId, i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<LifecycleEvent> events = recorder.getRecentEvents("POOL-A", 256);
+        assertEquals(256, events.size());
+        for (LifecycleEvent event : events) {
+            // Each slot must hold one writer's complete event, not a mix of two
+            assertEquals(event.messageId(), event.detail());
+        }
+    }
+}
@@ -141,7 +141,6 @@ class BatchGroupFifoIntegrationTest {
             null,
             trackingMediator,
             ackingCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -262,7 +261,6 @@ class BatchGroupFifoIntegrationTest {
             null,
             trackingMediator,
             trackingCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -388,7 +386,6 @@ class BatchGroupFifoIntegrationTest {
             null,
             trackingMediator,
             ackingCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -124,7 +124,6 @@ class HealthCheckIntegrationTest {
             null, // rateLimitPerMinute
             mockMediator,
             mockCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -200,7 +199,6 @@ class HealthCheckIntegrationTest {
             null, // rateLimitPerMinute
             alternatingMediator,
             mockCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -281,7 +279,6 @@ class HealthCheckIntegrationTest {
             null, // rateLimitPerMinute
             mockMediator,
             mockCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
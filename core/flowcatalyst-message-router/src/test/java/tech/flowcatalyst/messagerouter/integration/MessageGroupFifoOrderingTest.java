@@ -473,7 +473,6 @@ class MessageGroupFifoOrderingTest {
             null, // No rate limiting
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -53,7 +53,6 @@ class RateLimiterIntegrationTest {
             rateLimitPerMinute, // Pool-level rate limit
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -161,7 +161,6 @@ class ResilienceIntegrationTest {
             null,
             timeoutTrackingMediator,
             trackingCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -270,7 +269,6 @@ class ResilienceIntegrationTest {
             null,
             errorTrackingMediator,
             trackingCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -399,7 +397,6 @@ class ResilienceIntegrationTest {
             null,
             errorTrackingMediator,
             trackingCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -526,7 +523,6 @@ class ResilienceIntegrationTest {
             100, // 100 requests per minute rate limit
             simpleMediator,
             trackingCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -627,7 +623,6 @@ class ResilienceIntegrationTest {
             null,
             slowMediator,
             trackingCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -759,7 +754,6 @@ class ResilienceIntegrationTest {
             null,
             trackingMediator,
             trackingCallback,
-            inPipelineMap,
             poolMetricsService,
             warningService
         );
@@ -345,4 +345,114 @@ class InFlightMessageTrackerTest {
         assertEquals(100, removedCount.get());
         assertEquals(0, tracker.size());
     }
+
+    @Test
+    void concurrentRequeue_sameAppIdDifferentBrokerIds_onlyOneTracked() throws InterruptedException {
+        int numThreads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(numThreads);
+        AtomicInteger trackedCount = new AtomicInteger(0);
+        AtomicInteger requeueCount = new AtomicInteger(0);
+
+        // Every thread races to track the same app ID under its own broker ID
+        for (int t = 0; t < numThreads; t++) {
+            final int threadId = t;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    var result = tracker.track(createMessage("app-id", "sqs-" + threadId), mockCallback, "test-queue");
+                    if (result instanceof InFlightMessageTracker.TrackResult.Tracked) {
+                        trackedCount.incrementAndGet();
+                    } else if (result instanceof InFlightMessageTracker.TrackResult.Duplicate dup && dup.isRequeue()) {
+                        requeueCount.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertTrue(doneLatch.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertEquals(1, trackedCount.get());
+        assertEquals(numThreads - 1, requeueCount.get());
+        assertEquals(1, tracker.size());
+        assertTrue(tracker.getByMessageId("app-id").isPresent());
+    }
+
+    @Test
+    void remove_doesNotClobberAppIdReTrackedUnderNewKey() {
+        tracker.track(createMessage("app-id", "sqs-1"), mockCallback, "test-queue");
+        tracker.remove("sqs-1");
+        tracker.track(createMessage("app-id", "sqs-2"), mockCallback, "test-queue");
+
+        // A late second remove of the old key must not drop the new index entry
+        tracker.remove("sqs-1");
+
+        assertTrue(tracker.isInFlight("app-id"));
+        assertEquals("sqs-2", tracker.getByMessageId("app-id").orElseThrow().pipelineKey());
+    }
+
+    /**
+     * Contention benchmark: 64 consumer threads each routing 10-message batches
+     * (track all 10, then ack/remove all 10), mirroring QueueManager.routeMessageBatch
+     * followed by pool completion. Verifies every message is tracked and removed exactly once
+     * and the tracker ends empty; throughput is measured by InFlightMessageTrackerBenchmark.
+     */
+    @Test
+    void contention_64ConsumersRouting10MessageBatches() throws InterruptedException {
+        int consumers = 64;
+        int batchesPerConsumer = 500;
+        int batchSize = 10;
+        ExecutorService executor = Executors.newFixedThreadPool(consumers);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(consumers);
+        AtomicInteger trackedCount = new AtomicInteger(0);
+        AtomicInteger removedCount = new AtomicInteger(0);
+
+        for (int c = 0; c < consumers; c++) {
+            final int consumerId = c;
+            executor.submit(() -> {
+                try {
+                    startLatch.await();
+                    List<String> keys = new ArrayList<>(batchSize);
+                    for (int b = 0; b < batchesPerConsumer; b++) {
+                        keys.clear();
+                        for (int i = 0; i < batchSize; i++) {
+                            String suffix = consumerId + "-" + b + "-" + i;
+                            var result = tracker.track(createMessage("msg-" + suffix, "sqs-" + suffix), mockCallback, "queue-" + consumerId);
+                            if (result instanceof InFlightMessageTracker.TrackResult.Tracked tracked) {
+                                trackedCount.incrementAndGet();
+                                keys.add(tracked.pipelineKey());
+                            }
+                        }
+                        for (String key : keys) {
+                            if (tracker.remove(key).isPresent()) {
+                                removedCount.incrementAndGet();
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        assertTrue(doneLatch.await(60, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        int expected = consumers * batchesPerConsumer * batchSize;
+
+        assertEquals(expected, trackedCount.get());
+        assertEquals(expected, removedCount.get());
+        assertEquals(0, tracker.size());
+    }
 }
@@ -35,7 +35,6 @@ class QueueManagerTest {
 
     private QueueManager queueManager;
     private ConcurrentHashMap<String, ProcessPool> processPools;
-    private ConcurrentHashMap<String, MessagePointer> inPipelineMap;
     private InFlightMessageTracker inFlightTracker;
 
     private Mediator mockMediator;
@@ -81,12 +80,10 @@ class QueueManagerTest {
 
         // Access internal fields (still need reflection for these, but only for verification)
         processPools = getPrivateField(queueManager, "processPools");
-        inPipelineMap = getPrivateField(queueManager, "inPipelineMap");
         inFlightTracker = getPrivateField(queueManager, "inFlightTracker");
 
         // Clear any existing state
         processPools.clear();
-        inPipelineMap.clear();
         inFlightTracker.clear();
     }
 
@@ -102,7 +99,6 @@ class QueueManagerTest {
         }
 
         processPools.clear();
-        inPipelineMap.clear();
         inFlightTracker.clear();
 
         // Reset mocks
@@ -126,7 +122,7 @@ class QueueManagerTest {
 
         // Then
         assertTrue(routed, "Message should be routed successfully");
-        assertTrue(inPipelineMap.containsKey(message.id()), "Message should be in pipeline map");
+        assertTrue(inFlightTracker.containsKey(message.id()), "Message should be in pipeline");
         assertTrue(inFlightTracker.isInFlight(message.id()), "Callback should be registered");
 
         // Wait for processing - use any() matcher since batchId gets added
@@ -161,7 +157,7 @@ class QueueManagerTest {
         // Then
         assertTrue(firstRoute, "First message should be routed");
         assertFalse(secondRoute, "Duplicate message should be rejected");
-        assertEquals(1, inPipelineMap.size(), "Only one message should be in pipeline");
+        assertEquals(1, inFlightTracker.size(), "Only one message should be in pipeline");
 
         // Release the blocked message processing
         processLatch.countDown();
@@ -208,15 +204,17 @@ class QueueManagerTest {
         assertTrue(routed3, "Third message should be routed");
         assertFalse(routed4, "Fourth message should be rejected - queue full");
 
-        assertFalse(inPipelineMap.containsKey(message4.id()), "Rejected message should not be in pipeline");
+        assertFalse(inFlightTracker.containsKey(message4.id()), "Rejected message should not be in pipeline");
         assertFalse(inFlightTracker.isInFlight(message4.id()), "Rejected message callback should not be registered");
 
         // Verify warning was added
-        verify(mockWarningService, atLeastOnce()).addWarning(
+        verify(mockWarningService, atLeastOnce()).addWarningf(
             eq("QUEUE_FULL"),
             eq("WARN"),
-            contains("SMALL-POOL"),
-            eq("QueueManager")
+            eq("QueueManager"),
+            contains("queue full"),
+            eq("SMALL-POOL"),
+            any()
         );
     }
 
@@ -325,13 +323,33 @@ class QueueManagerTest {
         // Then
         assertTrue(routed1, "Message 1 should be routed to POOL-1");
         assertTrue(routed2, "Message 2 should be routed to POOL-2");
-        assertEquals(2, inPipelineMap.size(), "Both messages should be in pipeline");
+        assertEquals(2, inFlightTracker.size(), "Both messages should be in pipeline");
 
         await().untilAsserted(() -> {
             verify(mockMediator, times(2)).process(any(MessagePointer.class));
         });
     }
 
+    @Test
+    void shouldSumFreeCapacityAcrossTargetPools() {
+        // Given - POOL-1 is full, POOL-2 has room, POOL-3 is not routed to by this consumer
+        registerPoolWithBuffer("POOL-1", 100, 100);
+        registerPoolWithBuffer("POOL-2", 100, 40);
+        registerPoolWithBuffer("POOL-3", 100, 0);
+
+        // Then - one full pool must not stop receiving for the others
+        assertEquals(60, queueManager.getAvailableCapacity(java.util.List.of("POOL-1", "POOL-2")));
+        assertEquals(0, queueManager.getAvailableCapacity(java.util.List.of("POOL-1")));
+        assertEquals(Integer.MAX_VALUE, queueManager.getAvailableCapacity(java.util.List.of("UNKNOWN")));
+    }
+
+    private void registerPoolWithBuffer(String poolCode, int queueCapacity, int queueSize) {
+        ProcessPool pool = mock(ProcessPool.class);
+        when(pool.getQueueCapacity()).thenReturn(queueCapacity);
+        when(pool.getQueueSize()).thenReturn(queueSize);
+        processPools.put(poolCode, pool);
+    }
+
     /**
      * Helper method to create and register a pool for testing
      */
@@ -343,7 +361,6 @@ class QueueManagerTest {
             null, // rateLimitPerMinute
             mockMediator,
             queueManager,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
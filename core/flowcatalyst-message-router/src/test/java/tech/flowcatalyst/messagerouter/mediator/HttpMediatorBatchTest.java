@@ -0,0 +1,164 @@
+package tech.flowcatalyst.messagerouter.mediator;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.messagerouter.diagnostics.MessageLifecycleRecorder;
+import tech.flowcatalyst.messagerouter.model.MediationOutcome;
+import tech.flowcatalyst.messagerouter.model.MediationResult;
+import tech.flowcatalyst.messagerouter.model.MediationType;
+import tech.flowcatalyst.messagerouter.model.MessagePointer;
+import tech.flowcatalyst.messagerouter.warning.WarningService;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for batch mediation in HttpMediator.
+ * Covers coalescing concurrent messages, per-message results, the single message fallback and
+ * targets without a batch endpoint.
+ */
+class HttpMediatorBatchTest {
+
+    private WireMockServer server;
+    private String target;
+
+    @BeforeEach
+    void setUp() {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        target = server.baseUrl() + "/api/dispatch/process";
+        server.stubFor(post(urlEqualTo("/api/dispatch/process"))
+            .willReturn(okJson("{\"ack\":true,\"message\":\"\"}")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    private HttpMediator mediator(int maxBatchSize, Duration linger, List<String> targets) {
+        return new HttpMediator("HTTP_1_1", 10_000, mock(WarningService.class), MessageLifecycleRecorder.disabled(),
+            null, 0, new MediationBatcher.Settings(maxBatchSize, linger, targets));
+    }
+
+    private MessagePointer message(String id) {
+        return new MessagePointer(id, "POOL-A", "token-" + id, MediationType.HTTP, target, "group-" + id, null);
+    }
+
+    private List<MediationOutcome> processConcurrently(HttpMediator mediator, String... ids) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<MediationOutcome>> futures = new ArrayList<>();
+            for (String id : ids) {
+                futures.add(executor.submit(() -> mediator.process(message(id))));
+            }
+            List<MediationOutcome> outcomes = new ArrayList<>();
+            for (Future<MediationOutcome> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        }
+    }
+
+    @Test
+    @DisplayName("concurrent messages for a batching target should be sent in one request with a result each")
+    void shouldSendConcurrentMessagesInOneRequest() throws Exception {
+        server.stubFor(post(urlEqualTo("/api/dispatch/process/batch"))
+            .willReturn(okJson("""
+                {"results":[
+                  {"messageId":"m1","ack":true,"message":""},
+                  {"messageId":"m2","ack":false,"message":"not yet","delaySeconds":7}
+                ]}""")));
+        HttpMediator mediator = mediator(3, Duration.ofSeconds(10), List.of(server.baseUrl()));
+
+        List<MediationOutcome> outcomes = processConcurrently(mediator, "m1", "m2", "m3");
+
+        assertEquals(MediationResult.SUCCESS, outcomes.get(0).result());
+        assertEquals(MediationResult.ERROR_PROCESS, outcomes.get(1).result());
+        assertEquals(7, outcomes.get(1).delaySeconds());
+        // No result for m3: nacked rather than assumed processed
+        assertEquals(MediationResult.ERROR_PROCESS, outcomes.get(2).result());
+
+        server.verify(1, postRequestedFor(urlEqualTo("/api/dispatch/process/batch"))
+            .withoutHeader("Authorization")
+            .withRequestBody(matchingJsonPath("$.messages[?(@.messageId == 'm2' && @.authToken == 'token-m2')]")));
+        server.verify(0, postRequestedFor(urlEqualTo("/api/dispatch/process")));
+    }
+
+    @Test
+    @DisplayName("a message alone in its linger window should be sent on its own")
+    void shouldSendLoneMessageOnItsOwn() {
+        HttpMediator mediator = mediator(10, Duration.ofMillis(20), List.of(server.baseUrl()));
+
+        MediationOutcome outcome = mediator.process(message("m1"));
+
+        assertEquals(MediationResult.SUCCESS, outcome.result());
+        server.verify(1, postRequestedFor(urlEqualTo("/api/dispatch/process"))
+            .withHeader("Authorization", equalTo("Bearer token-m1")));
+        server.verify(0, postRequestedFor(urlEqualTo("/api/dispatch/process/batch")));
+    }
+
+    @Test
+    @DisplayName("a target without a batch endpoint should get its messages one by one")
+    void shouldFallBackWhenBatchEndpointMissing() throws Exception {
+        server.stubFor(post(urlEqualTo("/api/dispatch/process/batch")).willReturn(notFound()));
+        HttpMediator mediator = mediator(2, Duration.ofSeconds(10), List.of(server.baseUrl()));
+
+        List<MediationOutcome> outcomes = processConcurrently(mediator, "m1", "m2");
+        assertEquals(MediationResult.SUCCESS, outcomes.get(0).result());
+        assertEquals(MediationResult.SUCCESS, outcomes.get(1).result());
+
+        // Marked unsupported: no further batch attempts
+        processConcurrently(mediator, "m3", "m4");
+        server.verify(1, postRequestedFor(urlEqualTo("/api/dispatch/process/batch")));
+        server.verify(4, postRequestedFor(urlEqualTo("/api/dispatch/process")));
+    }
+
+    @Test
+    @DisplayName("a server error for the batch should apply to every message in it")
+    void shouldApplyBatchErrorToEveryMessage() throws Exception {
+        server.stubFor(post(urlEqualTo("/api/dispatch/process/batch"))
+            .willReturn(aResponse().withStatus(429).withHeader("Retry-After", "12")));
+        HttpMediator mediator = mediator(2, Duration.ofSeconds(10), List.of(server.baseUrl()));
+
+        List<MediationOutcome> outcomes = processConcurrently(mediator, "m1", "m2");
+
+        for (MediationOutcome outcome : outcomes) {
+            assertEquals(MediationResult.ERROR_PROCESS, outcome.result());
+            assertEquals(12, outcome.delaySeconds());
+        }
+    }
+
+    @Test
+    @DisplayName("messages for targets not configured for batching should be sent on their own")
+    void shouldNotBatchOtherTargets() throws Exception {
+        HttpMediator mediator = mediator(2, Duration.ofSeconds(10), List.of("http://elsewhere.example"));
+
+        List<MediationOutcome> outcomes = processConcurrently(mediator, "m1", "m2");
+
+        assertEquals(MediationResult.SUCCESS, outcomes.get(0).result());
+        assertEquals(MediationResult.SUCCESS, outcomes.get(1).result());
+        server.verify(2, postRequestedFor(urlEqualTo("/api/dispatch/process")));
+    }
+
+    @Test
+    @DisplayName("batchUriOf should append /batch to the path and keep the query")
+    void batchUriOf_shouldAppendToPath() {
+        assertEquals(URI.create("http://host:8080/api/process/batch"),
+            HttpMediator.batchUriOf("http://host:8080/api/process/"));
+        assertEquals(URI.create("https://host/hook/batch?tenant=a"),
+            HttpMediator.batchUriOf("https://host/hook?tenant=a"));
+    }
+}
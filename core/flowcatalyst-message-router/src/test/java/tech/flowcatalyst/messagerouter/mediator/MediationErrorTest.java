@@ -185,6 +185,7 @@ class MediationErrorTest {
             case MediationError.HttpError h -> "http: " + h.statusCode();
             case MediationError.NetworkError n -> "network: " + n.cause();
             case MediationError.RateLimited r -> "rate: " + r.retryAfter();
+            case MediationError.ConcurrencyLimited l -> "limited: " + l.endpoint();
         };
 
         assertEquals("timeout: PT30S", result);
@@ -197,7 +198,8 @@ class MediationErrorTest {
             new MediationError.CircuitOpen("test"),
             new MediationError.HttpError(500, "error"),
             new MediationError.NetworkError(new RuntimeException("test")),
-            new MediationError.RateLimited(Duration.ofSeconds(30))
+            new MediationError.RateLimited(Duration.ofSeconds(30)),
+            new MediationError.ConcurrencyLimited("https://api.example.com", 5)
         };
 
         for (MediationError error : errors) {
@@ -0,0 +1,118 @@
+package tech.flowcatalyst.messagerouter.model;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MessagePointerCodecTest {
+
+    private final MessagePointerCodec codec = MessagePointerCodec.getInstance();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final String FULL = """
+        {"id":"msg-1","poolCode":"POOL-A","authToken":"token","mediationType":"HTTP",\
+        "mediationTarget":"http://localhost:8080/process","messageGroupId":"order-1","highPriority":true}""";
+
+    @Test
+    void shouldDecodeSameAsObjectMapper() throws Exception {
+        String[] bodies = {
+            FULL,
+            "{\"id\":\"msg-2\",\"poolCode\":\"POOL-A\",\"mediationType\":\"HTTP\",\"mediationTarget\":\"http://t\",\"messageGroupId\":null}",
+            "{\"messageGroupId\":\"g\",\"id\":\"msg-3\",\"highPriority\":false,\"authToken\":null}",
+            "{\"id\":\"msg-4\",\"poolCode\":\"P\",\"mediationType\":null,\"mediationTarget\":\"http://t\",\"messageGroupId\":\"g\",\"highPriority\":\"true\"}",
+            "{ \"id\" : \"msg-\\u0035\" , \"messageGroupId\" : \"g\\n1\" }"
+        };
+
+        for (String body : bodies) {
+            MessagePointer expected = objectMapper.readValue(body, MessagePointer.class);
+            assertEquals(expected, codec.decode(body, null), body);
+            assertEquals(expected, codec.decode(body.getBytes(StandardCharsets.UTF_8), null), body);
+        }
+    }
+
+    @Test
+    void shouldSetBrokerMessageIdAndLeaveBatchIdEmpty() throws Exception {
+        MessagePointer pointer = codec.decode(FULL.getBytes(StandardCharsets.UTF_8), "sqs-123");
+
+        assertEquals("sqs-123", pointer.sqsMessageId());
+        assertNull(pointer.batchId());
+        assertEquals("msg-1", pointer.id());
+        assertEquals(MediationType.HTTP, pointer.mediationType());
+        assertTrue(pointer.highPriority());
+    }
+
+    @Test
+    void shouldDecodeFromByteBufferSliceWithoutMovingPosition() throws Exception {
+        byte[] json = FULL.getBytes(StandardCharsets.UTF_8);
+        byte[] framed = new byte[json.length + 8];
+        System.arraycopy(json, 0, framed, 4, json.length);
+        ByteBuffer buffer = ByteBuffer.wrap(framed, 4, json.length).slice();
+
+        MessagePointer pointer = codec.decode(buffer, null);
+
+        assertEquals("msg-1", pointer.id());
+        assertEquals(0, buffer.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length).put(json).flip();
+        assertEquals(pointer, codec.decode(direct, null));
+    }
+
+    @Test
+    void shouldInternPoolCodeAndMediationTarget() throws Exception {
+        MessagePointer first = codec.decode(FULL.getBytes(StandardCharsets.UTF_8), null);
+        MessagePointer second = codec.decode(FULL.getBytes(StandardCharsets.UTF_8), null);
+
+        assertSame(first.poolCode(), second.poolCode());
+        assertSame(first.mediationTarget(), second.mediationTarget());
+    }
+
+    @Test
+    void shouldMatchMediationTypeIgnoringCase() throws Exception {
+        for (String type : new String[] {"http", "Http"}) {
+            String body = "{\"id\":\"msg-1\",\"mediationType\":\"" + type + "\",\"messageGroupId\":\"g\"}";
+
+            assertEquals(MediationType.HTTP, codec.decode(body, null).mediationType(), body);
+            assertEquals(objectMapper.readValue(body, MessagePointer.class), codec.decode(body, null), body);
+        }
+    }
+
+    @Test
+    void malformedJsonShouldThrowJsonParseException() {
+        assertThrows(JsonParseException.class, () -> codec.decode("{invalid json", null));
+        assertThrows(JsonParseException.class, () -> codec.decode("{\"id\":\"x\",".getBytes(StandardCharsets.UTF_8), null));
+    }
+
+    @Test
+    void wrongShapeShouldThrowMappingExceptionLikeObjectMapper() {
+        String[] bodies = {
+            "{\"id\":\"msg-1\"}",  // missing required messageGroupId
+            "{\"id\":\"msg-1\",\"messageGroupId\":\"g\",\"unexpected\":1}",
+            "{\"id\":\"msg-1\",\"messageGroupId\":\"g\",\"mediationType\":\"CARRIER_PIGEON\"}",
+            "[1,2,3]"
+        };
+
+        for (String body : bodies) {
+            assertThrows(JsonMappingException.class, () -> objectMapper.readValue(body, MessagePointer.class), body);
+            assertThrows(JsonMappingException.class, () -> codec.decode(body, null), body);
+        }
+    }
+
+    @Test
+    void withersShouldOnlyCopyWhenChanged() {
+        MessagePointer pointer = new MessagePointer("id", "POOL", null, MediationType.HTTP, "http://t", "g", false, null, "sqs-1");
+
+        assertSame(pointer, pointer.withSqsMessageId("sqs-1"));
+        assertSame(pointer, pointer.withBatchId(null));
+
+        MessagePointer batched = pointer.withBatchId("batch-1");
+        assertEquals("batch-1", batched.batchId());
+        assertEquals("sqs-1", batched.sqsMessageId());
+        assertEquals(pointer.id(), batched.id());
+    }
+}
@@ -0,0 +1,63 @@
+package tech.flowcatalyst.messagerouter.notification;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.flowcatalyst.messagerouter.model.Warning;
+import tech.flowcatalyst.messagerouter.warning.InMemoryWarningService;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for NotificationBatchScheduler with a BatchingNotificationService and the in-memory warning store.
+ */
+class NotificationBatchSchedulerTest {
+
+    private NotificationService delegate;
+    private InMemoryWarningService warningService;
+    private NotificationBatchScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(NotificationService.class);
+        warningService = new InMemoryWarningService();
+        scheduler = new NotificationBatchScheduler();
+        scheduler.batchingService = new BatchingNotificationService(List.of(delegate), "WARNING");
+        scheduler.warningService = warningService;
+    }
+
+    private Warning sentSummary() {
+        ArgumentCaptor<Warning> summary = ArgumentCaptor.forClass(Warning.class);
+        verify(delegate).notifyWarning(summary.capture());
+        return summary.getValue();
+    }
+
+    @Test
+    void triggerBatchSend_shouldNotifyWarnWarningsAtWarningMinimum() {
+        // Router components raise "WARN", the notification settings say "WARNING"
+        for (int i = 0; i < 3; i++) {
+            warningService.addWarningf("QUEUE_FULL", "WARN", "QueueManager",
+                "Pool [%s] queue full, nacking %d messages from batch", "POOL-A", 10);
+        }
+
+        scheduler.triggerBatchSend();
+
+        Warning summary = sentSummary();
+        assertEquals("BATCH_SUMMARY", summary.category());
+        assertEquals("WARNING", summary.severity());
+        assertTrue(summary.message().contains("WARNING Issues (1)"), summary.message());
+        assertTrue(summary.message().contains("QUEUE_FULL: 3 occurrences"), summary.message());
+    }
+
+    @Test
+    void triggerBatchSend_shouldStillFilterBelowMinimum() {
+        warningService.addWarning("SYSTEM", "INFO", "Router started", "Main");
+
+        scheduler.triggerBatchSend();
+
+        verify(delegate, never()).notifyWarning(any());
+    }
+}
@@ -77,7 +77,6 @@ class MultipleMessageGroupsConcurrencyTest {
             null,
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -157,11 +157,12 @@ class OutcomeHandlerTest {
         handler.handleOutcome(message, null, 100L);
 
         verify(mockCallback).nack(message);
-        verify(mockWarningService).addWarning(
+        verify(mockWarningService).addWarningf(
             eq("MEDIATOR_NULL_RESULT"),
             eq("CRITICAL"),
+            any(),
             contains("null outcome"),
-            any()
+            eq("msg-1")
         );
     }
 
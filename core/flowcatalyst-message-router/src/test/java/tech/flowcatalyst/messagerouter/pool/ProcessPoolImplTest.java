@@ -67,7 +67,6 @@ class ProcessPoolImplTest {
             null, // rateLimitPerMinute
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -144,7 +143,6 @@ class ProcessPoolImplTest {
             1, // 1 per minute rate limit
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -196,7 +194,6 @@ class ProcessPoolImplTest {
             null, // rateLimitPerMinute
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -254,7 +251,6 @@ class ProcessPoolImplTest {
             null, // rateLimitPerMinute
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -602,7 +598,6 @@ class ProcessPoolImplTest {
             null,
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -627,7 +622,6 @@ class ProcessPoolImplTest {
             null,
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -652,7 +646,6 @@ class ProcessPoolImplTest {
             null,
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -687,7 +680,6 @@ class ProcessPoolImplTest {
             null, // No rate limit initially
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -714,7 +706,6 @@ class ProcessPoolImplTest {
             5, // Rate limit 5 per minute
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -746,7 +737,6 @@ class ProcessPoolImplTest {
             null,
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -832,7 +822,6 @@ class ProcessPoolImplTest {
             null,
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -892,7 +881,6 @@ class ProcessPoolImplTest {
             null,
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
@@ -986,7 +974,6 @@ class ProcessPoolImplTest {
             null,
             mockMediator,
             mockCallback,
-            inPipelineMap,
             mockPoolMetrics,
             mockWarningService
         );
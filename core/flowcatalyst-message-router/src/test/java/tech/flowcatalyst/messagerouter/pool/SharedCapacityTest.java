@@ -0,0 +1,170 @@
+package tech.flowcatalyst.messagerouter.pool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for SharedCapacity.
+ * Covers lending idle capacity, guaranteed minimums, weighted sharing, priority levels and interruption.
+ */
+class SharedCapacityTest {
+
+    private final List<Thread> waiters = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        waiters.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Start a thread that waits for a permit and keeps it, and wait until it is queued.
+     */
+    private Thread queue(SharedCapacity capacity, SharedCapacity.Share share, boolean highPriority) {
+        int waiting = capacity.getWaitingCount();
+        Thread thread = Thread.startVirtualThread(() -> {
+            try {
+                share.acquire(highPriority);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiters.add(thread);
+        await().until(() -> capacity.getWaitingCount() == waiting + 1);
+        return thread;
+    }
+
+    private void fill(SharedCapacity.Share share, int permits) throws InterruptedException {
+        for (int i = 0; i < permits; i++) {
+            share.acquire(false);
+        }
+    }
+
+    @Test
+    @DisplayName("a busy pool should borrow capacity left idle by other pools")
+    void shouldLendIdleCapacity() throws Exception {
+        SharedCapacity capacity = new SharedCapacity(10);
+        SharedCapacity.Share busy = capacity.register("BUSY", 2, 1, 0);
+        capacity.register("IDLE", 8, 1, 0);
+
+        fill(busy, 10);
+
+        assertEquals(10, busy.getInUse());
+        assertEquals(10, capacity.getInUse());
+    }
+
+    @Test
+    @DisplayName("a pool below its guarantee should get the next released permit before borrowers")
+    void shouldServeGuaranteeBeforeBorrowers() throws Exception {
+        SharedCapacity capacity = new SharedCapacity(4);
+        SharedCapacity.Share borrower = capacity.register("BORROWER", 1, 10, 5);
+        SharedCapacity.Share guaranteed = capacity.register("GUARANTEED", 2, 1, 0);
+        fill(borrower, 4);
+
+        queue(capacity, borrower, true);
+        queue(capacity, guaranteed, false);
+        queue(capacity, guaranteed, false);
+
+        borrower.release();
+        assertEquals(1, guaranteed.getInUse());
+        borrower.release();
+        assertEquals(2, guaranteed.getInUse());
+        // Guarantee met: the borrower is next
+        borrower.release();
+        assertEquals(2, borrower.getInUse());
+        assertEquals(0, capacity.getWaitingCount());
+    }
+
+    @Test
+    @DisplayName("saturated pools should split spare capacity in proportion to their weights")
+    void shouldShareSpareCapacityByWeight() throws Exception {
+        SharedCapacity capacity = new SharedCapacity(1);
+        SharedCapacity.Share heavy = capacity.register("HEAVY", 0, 3, 0);
+        SharedCapacity.Share light = capacity.register("LIGHT", 0, 1, 0);
+        SharedCapacity.Share holder = capacity.register("HOLDER", 0, 1, 0);
+        fill(holder, 1);
+
+        for (int i = 0; i < 8; i++) {
+            queue(capacity, heavy, false);
+            queue(capacity, light, false);
+        }
+
+        // Release one permit at a time and see who gets it
+        SharedCapacity.Share current = holder;
+        int heavyGrants = 0;
+        for (int i = 0; i < 8; i++) {
+            current.release();
+            if (heavy.getInUse() == 1) {
+                heavyGrants++;
+                current = heavy;
+            } else {
+                assertEquals(1, light.getInUse());
+                current = light;
+            }
+        }
+
+        assertEquals(6, heavyGrants);
+    }
+
+    @Test
+    @DisplayName("borrowers should be served by priority level across and within pools")
+    void shouldServeHigherPriorityLevelsFirst() throws Exception {
+        SharedCapacity capacity = new SharedCapacity(1);
+        SharedCapacity.Share low = capacity.register("LOW", 0, 100, 0);
+        SharedCapacity.Share high = capacity.register("HIGH", 0, 1, 1);
+        fill(low, 1);
+
+        queue(capacity, low, true);      // level 1
+        queue(capacity, high, false);    // level 2
+        queue(capacity, low, false);     // level 0
+        queue(capacity, high, true);     // level 3
+
+        low.release();
+        assertEquals(1, high.getInUse());
+        high.release();
+        assertEquals(1, high.getInUse());
+        high.release();
+        assertEquals(1, low.getInUse());
+        assertEquals(1, capacity.getWaitingCount());
+    }
+
+    @Test
+    @DisplayName("an interrupted waiter should leave the queue without holding a permit")
+    void shouldRemoveInterruptedWaiter() throws Exception {
+        SharedCapacity capacity = new SharedCapacity(1);
+        SharedCapacity.Share share = capacity.register("POOL", 1, 1, 0);
+        fill(share, 1);
+
+        Thread waiter = queue(capacity, share, false);
+        waiter.interrupt();
+        waiter.join();
+
+        assertEquals(0, capacity.getWaitingCount());
+        share.release();
+        assertEquals(0, capacity.getInUse());
+    }
+
+    @Test
+    @DisplayName("lowering a guarantee should let borrowers through once permits free up")
+    void shouldApplyUpdatedGuarantee() throws Exception {
+        SharedCapacity capacity = new SharedCapacity(2);
+        SharedCapacity.Share first = capacity.register("FIRST", 1, 1, 0);
+        SharedCapacity.Share second = capacity.register("SECOND", 1, 1, 0);
+        fill(first, 2);
+
+        queue(capacity, first, true);
+        queue(capacity, second, false);
+        second.update(0, 1, 0);
+        first.release();
+
+        // Without a guarantee the second pool competes on priority and loses to a high priority message
+        assertEquals(2, first.getInUse());
+        assertEquals(0, second.getInUse());
+    }
+}
@@ -0,0 +1,173 @@
+package tech.flowcatalyst.messagerouter.warning;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.messagerouter.model.Warning;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WarningAggregator.
+ */
+class WarningAggregatorTest {
+
+    private static final String TEMPLATE = "Pool [%s] queue full, nacking %d messages from batch";
+
+    private MutableClock clock;
+    private WarningAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T10:00:00Z"));
+        aggregator = new WarningAggregator(3, clock);
+    }
+
+    private boolean record(String source, String template, Object... params) {
+        return aggregator.record("QUEUE_FULL", "WARN", source, template, params, 1);
+    }
+
+    @Test
+    void record_aggregatesOccurrencesByCategorySourceAndTemplate() {
+        assertTrue(record("QueueManager", TEMPLATE, "POOL-A", 10));
+        clock.advanceMillis(5_000);
+        assertFalse(record("QueueManager", TEMPLATE, "POOL-B", 7));
+
+        List<Warning> warnings = aggregator.snapshot();
+        assertEquals(1, warnings.size());
+
+        Warning warning = warnings.get(0);
+        assertEquals(2, warning.count());
+        assertEquals("Pool [POOL-B] queue full, nacking 7 messages from batch", warning.message());
+        assertEquals(Instant.parse("2026-01-01T10:00:00Z"), warning.firstSeen());
+        assertEquals(Instant.parse("2026-01-01T10:00:05Z"), warning.timestamp());
+    }
+
+    @Test
+    void record_keepsOneWarningForAMillionOccurrences() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 250_000; i++) {
+                    record("QueueManager", TEMPLATE, "POOL-A", i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        List<Warning> warnings = aggregator.snapshot();
+        assertEquals(1, warnings.size());
+        assertEquals(1_000_000, warnings.get(0).count());
+    }
+
+    @Test
+    void record_separatesDifferentSourcesAndTemplates() {
+        record("QueueManager", TEMPLATE, "POOL-A", 1);
+        record("ProcessPool:POOL-A", TEMPLATE, "POOL-A", 1);
+        record("QueueManager", "No pool found for code [%s], using default pool", "POOL-X");
+
+        assertEquals(3, aggregator.size());
+    }
+
+    @Test
+    void record_evictsLeastRecentlySeenWhenFull() {
+        record("source-1", "first");
+        clock.advanceMillis(1);
+        record("source-2", "second");
+        clock.advanceMillis(1);
+        record("source-3", "third");
+        clock.advanceMillis(1);
+        // Seeing the first warning again makes the second the least recently seen
+        record("source-1", "first");
+        clock.advanceMillis(1);
+
+        record("source-4", "fourth");
+
+        List<String> messages = aggregator.snapshot().stream().map(Warning::message).toList();
+        assertEquals(List.of("fourth", "first", "third"), messages);
+        assertEquals(1, aggregator.evictedCount());
+    }
+
+    @Test
+    void drainUnnotified_returnsOccurrencesSinceLastDrain() {
+        record("QueueManager", TEMPLATE, "POOL-A", 1);
+        record("QueueManager", TEMPLATE, "POOL-A", 2);
+
+        List<Warning> first = aggregator.drainUnnotified();
+        assertEquals(1, first.size());
+        assertEquals(2, first.get(0).count());
+
+        assertTrue(aggregator.drainUnnotified().isEmpty(), "Nothing new since the last drain");
+
+        record("QueueManager", TEMPLATE, "POOL-A", 3);
+        List<Warning> second = aggregator.drainUnnotified();
+        assertEquals(1, second.get(0).count());
+        assertEquals(3, aggregator.snapshot().get(0).count(), "Snapshot keeps the total");
+    }
+
+    @Test
+    void acknowledge_isReopenedByNewOccurrence() {
+        record("QueueManager", TEMPLATE, "POOL-A", 1);
+        String id = aggregator.snapshot().get(0).id();
+
+        assertTrue(aggregator.acknowledge(id));
+        assertTrue(aggregator.snapshot().get(0).acknowledged());
+
+        record("QueueManager", TEMPLATE, "POOL-A", 2);
+        assertFalse(aggregator.snapshot().get(0).acknowledged());
+        assertEquals(id, aggregator.snapshot().get(0).id(), "Id is stable across occurrences");
+        assertFalse(aggregator.acknowledge("unknown"));
+    }
+
+    @Test
+    void removeLastSeenBefore_removesOnlyStaleWarnings() {
+        record("source-1", "old");
+        clock.advanceMillis(60_000);
+        record("source-2", "recent");
+
+        assertEquals(1, aggregator.removeLastSeenBefore(Instant.parse("2026-01-01T10:00:30Z")));
+        assertEquals(List.of("recent"), aggregator.snapshot().stream().map(Warning::message).toList());
+    }
+
+    @Test
+    void record_fallsBackToTemplateWhenParametersDoNotMatch() {
+        record("QueueManager", "Pool [%d]", "not-a-number");
+
+        assertEquals("Pool [%d]", aggregator.snapshot().get(0).message());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+plugins {
+    java
+}
+
+repositories {
+    mavenCentral()
+    mavenLocal()
+}
+
+val quarkusPlatformGroupId: String by project
+val quarkusPlatformArtifactId: String by project
+val quarkusPlatformVersion: String by project
+val jmhVersion: String by project
+
+dependencies {
+    implementation(enforcedPlatform("${quarkusPlatformGroupId}:${quarkusPlatformArtifactId}:${quarkusPlatformVersion}"))
+    implementation(enforcedPlatform("${quarkusPlatformGroupId}:quarkus-amazon-services-bom:${quarkusPlatformVersion}"))
+
+    // Modules under benchmark
+    implementation(project(":core:flowcatalyst-message-router"))
+    implementation(project(":core:flowcatalyst-platform"))
+    implementation(project(":core:flowcatalyst-stream-processor"))
+
+    // Types used directly by the benchmark fixtures
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("io.micrometer:micrometer-core")
+    implementation("software.amazon.awssdk:sqs")
+    implementation("org.mongodb:bson")
+
+    // JMH
+    implementation("org.openjdk.jmh:jmh-core:${jmhVersion}")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:${jmhVersion}")
+}
+
+group = "tech.flowcatalyst"
+version = "1.0.0-SNAPSHOT"
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_21
+    targetCompatibility = JavaVersion.VERSION_21
+}
+
+tasks.withType<JavaCompile> {
+    options.encoding = "UTF-8"
+    options.compilerArgs.add("-parameters")
+}
+
+// Run all benchmarks (or a subset with -Pjmh.includes=<regex>).
+// The GC profiler reports allocation per operation (gc.alloc.rate.norm).
+// Results are written as JSON to build/results/jmh/results.json for comparison between commits.
+tasks.register<JavaExec>("jmh") {
+    description = "Runs JMH microbenchmarks"
+    group = "verification"
+
+    val resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+    outputs.file(resultsFile)
+    outputs.upToDateWhen { false }
+
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    doFirst {
+        resultsFile.get().asFile.parentFile.mkdirs()
+    }
+    args = listOf(
+        (project.findProperty("jmh.includes") as String?) ?: ".*",
+        "-prof", "gc",
+        "-rf", "json",
+        "-rff", resultsFile.get().asFile.absolutePath
+    )
+}
@@ -0,0 +1,63 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.flowcatalyst.streamprocessor.dispatch.AggregateTracker;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AggregateTracker} as used by the stream processor for each change-stream batch: an in-flight check
+ * per document, then register and complete the batch, while {@code inFlightBatches} other batches are running.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AggregateTrackerBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Param({"1", "16"})
+    int inFlightBatches;
+
+    private AggregateTracker tracker;
+    private String[] batchAggregateIds;
+    private Set<String> batchAggregateIdSet;
+    private long nextBatchSeq;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tracker = new AggregateTracker("bench");
+        for (int batch = 0; batch < inFlightBatches; batch++) {
+            Set<String> ids = new HashSet<>();
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                ids.add("running-" + batch + "-" + i);
+            }
+            tracker.registerBatch(batch, ids);
+        }
+        nextBatchSeq = inFlightBatches;
+
+        batchAggregateIds = new String[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batchAggregateIds[i] = "order-" + i;
+        }
+        batchAggregateIdSet = Set.of(batchAggregateIds);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<AggregateTracker.PendingDocument> checkRegisterComplete(Blackhole blackhole) {
+        for (String aggregateId : batchAggregateIds) {
+            blackhole.consume(tracker.isInFlight(aggregateId));
+        }
+        long batchSeq = nextBatchSeq++;
+        tracker.registerBatch(batchSeq, batchAggregateIdSet);
+        return tracker.completeBatch(batchSeq);
+    }
+}
@@ -0,0 +1,104 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.platform.jdbc.JdbcAdmissionController;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sustained requests per second of a {@code /api/dispatch/process}-shaped request at a fixed
+ * connection pool size, on the worker pool versus on virtual threads behind {@link JdbcAdmissionController}.
+ *
+ * <p>The database is simulated: {@code poolSize} connections, {@value #STATEMENT_MICROS}µs per statement.
+ * Each request runs {@value #STATEMENTS_PER_REQUEST} statements around a {@value #WEBHOOK_MILLIS}ms webhook
+ * call during which it holds no connection. The database can serve {@code poolSize} statements at a time,
+ * so its capacity is {@code poolSize * 1000 / STATEMENTS_PER_REQUEST} requests per second; the worker pool
+ * ({@value #WORKER_THREADS} threads, the Quarkus default) caps throughput at
+ * {@code WORKER_THREADS * 1000 / WEBHOOK_MILLIS} regardless of pool size, while virtual threads reach the
+ * database capacity.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DatabaseAccessBenchmark {
+
+    private static final int REQUESTS = 2_000;
+    private static final int WORKER_THREADS = 200;
+    private static final int STATEMENTS_PER_REQUEST = 2;
+    private static final long STATEMENT_MICROS = 500;
+    private static final long WEBHOOK_MILLIS = 50;
+
+    @Param({"10", "20"})
+    int poolSize;
+
+    @Param({"workerPool", "virtualThreads"})
+    String mode;
+
+    private ExecutorService executor;
+    private Semaphore connections;
+    private JdbcAdmissionController admission;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        connections = new Semaphore(poolSize);
+        if (mode.equals("workerPool")) {
+            executor = Executors.newFixedThreadPool(WORKER_THREADS);
+        } else {
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            admission = new JdbcAdmissionController(poolSize, REQUESTS, Duration.ofSeconds(30), new SimpleMeterRegistry());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void requests() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    statement();
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(WEBHOOK_MILLIS));
+                    for (int s = 1; s < STATEMENTS_PER_REQUEST; s++) {
+                        statement();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void statement() {
+        if (admission != null) {
+            admission.enter();
+        }
+        try {
+            connections.acquireUninterruptibly();
+            try {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(STATEMENT_MICROS));
+            } finally {
+                connections.release();
+            }
+        } finally {
+            if (admission != null) {
+                admission.exit();
+            }
+        }
+    }
+}
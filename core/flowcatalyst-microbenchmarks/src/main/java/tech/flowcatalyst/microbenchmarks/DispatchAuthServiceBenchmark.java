@@ -0,0 +1,108 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.dispatchjob.security.DispatchAuthService;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch auth token validation as done by the processing endpoint for every job, on one thread,
+ * so the score is validations per millisecond per core.
+ *
+ * <p>{@code freshMac} is the previous implementation: a {@link Mac} looked up and keyed for every
+ * token. The other benchmarks go through {@link DispatchAuthService} with pooled keys.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchAuthServiceBenchmark {
+
+    private static final String APP_KEY = "benchmark-app-key";
+    private static final int BATCH = 50;
+
+    private DispatchAuthService service;
+    private DispatchAuthService rotated;
+    private String jobId;
+    private String token;
+    private String unversionedToken;
+    private List<String> batchIds;
+    private List<String> batchTokens;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        DispatchAuthService unversioned = service(APP_KEY, null, null);
+        service = service(APP_KEY, "k1", null);
+        // After a rotation: new key current, old tokens still in the queues
+        rotated = service("rotated-key", "k2", List.of("k1:" + APP_KEY));
+
+        jobId = "0HZXEQ5Y8JY5Z";
+        token = service.generateAuthToken(jobId);
+        unversionedToken = unversioned.generateAuthToken(jobId);
+
+        batchIds = new ArrayList<>(BATCH);
+        batchTokens = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            String id = "0HZXEQ5Y8JY" + (100 + i);
+            batchIds.add(id);
+            batchTokens.add(service.generateAuthToken(id));
+        }
+    }
+
+    private static DispatchAuthService service(String appKey, String keyId, List<String> previousKeys) {
+        DispatchAuthService service = new DispatchAuthService();
+        Injection.set(service, "appKey", Optional.of(appKey));
+        Injection.set(service, "signingKey", Optional.empty());
+        Injection.set(service, "keyId", Optional.ofNullable(keyId));
+        Injection.set(service, "previousKeys", Optional.ofNullable(previousKeys));
+        Injection.invoke(service, "init");
+        return service;
+    }
+
+    /**
+     * Previous validation path: new Mac per call, hex encode, then compare.
+     */
+    @Benchmark
+    public boolean freshMac() throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(APP_KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String expected = HexFormat.of().formatHex(mac.doFinal(jobId.getBytes(StandardCharsets.UTF_8)));
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+            unversionedToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return service.validateAuthToken(jobId, token);
+    }
+
+    /**
+     * Unversioned token after a rotation: tried against the current and the previous key.
+     */
+    @Benchmark
+    public boolean validateUnversionedAfterRotation() {
+        return rotated.validateAuthToken(jobId, unversionedToken);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public BitSet validateBatch() {
+        return service.validateAuthTokens(batchIds, batchTokens);
+    }
+
+    @Benchmark
+    public String generate() {
+        return service.generateAuthToken(jobId);
+    }
+}
@@ -0,0 +1,110 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
+import tech.flowcatalyst.dispatchjob.security.DispatchAuthService;
+import tech.flowcatalyst.event.ContextData;
+import tech.flowcatalyst.event.Event;
+import tech.flowcatalyst.event.EventDispatchService;
+import tech.flowcatalyst.subscription.EventTypeBinding;
+import tech.flowcatalyst.subscription.Subscription;
+import tech.flowcatalyst.subscription.SubscriptionCache;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link EventDispatchService#createDispatchJobsForEvents} fan-out for a batch of {@value #EVENTS} events over
+ * {@value #EVENT_TYPES} event types, each matched by {@code subscriptionsPerEventType} subscriptions.
+ *
+ * <p>Repositories and SQS are in memory and the subscription cache is warm, so the score is the cost of
+ * building dispatch jobs, payloads, auth tokens and message pointers per dispatch job.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EventDispatchServiceBenchmark {
+
+    private static final int EVENTS = 100;
+    private static final int EVENT_TYPES = 10;
+
+    @Param({"1", "5"})
+    int subscriptionsPerEventType;
+
+    @Param({"true", "false"})
+    boolean dataOnly;
+
+    private EventDispatchService service;
+    private InMemoryDispatchJobRepository dispatchJobRepository;
+    private List<Event> events;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        InMemorySubscriptionRepository subscriptionRepository = new InMemorySubscriptionRepository();
+        for (int type = 0; type < EVENT_TYPES; type++) {
+            String clientId = (type % 2 == 0) ? null : "client-1";
+            for (int s = 0; s < subscriptionsPerEventType; s++) {
+                subscriptionRepository.persist(Subscription.create("sub-" + type + "-" + s, "Subscription", "https://hooks.example.com/" + s)
+                    .clientId(clientId)
+                    .dispatchPoolId("pool-" + s)
+                    .serviceAccountId("sa-1")
+                    .dataOnly(dataOnly)
+                    .eventTypes(List.of(new EventTypeBinding("et-" + type, eventTypeCode(type), "1.0")))
+                    .build());
+            }
+        }
+
+        SubscriptionCache subscriptionCache = new SubscriptionCache();
+        Injection.set(subscriptionCache, "subscriptionRepository", subscriptionRepository);
+        Injection.set(subscriptionCache, "ttlMinutes", 60);
+        Injection.set(subscriptionCache, "maxSize", 10_000);
+        Injection.invoke(subscriptionCache, "init");
+
+        DispatchAuthService dispatchAuthService = new DispatchAuthService();
+        Injection.set(dispatchAuthService, "appKey", Optional.of("benchmark-app-key"));
+        Injection.set(dispatchAuthService, "signingKey", Optional.empty());
+        Injection.set(dispatchAuthService, "keyId", Optional.empty());
+        Injection.set(dispatchAuthService, "previousKeys", Optional.empty());
+        Injection.invoke(dispatchAuthService, "init");
+
+        dispatchJobRepository = new InMemoryDispatchJobRepository();
+        service = new EventDispatchService();
+        Injection.set(service, "subscriptionCache", subscriptionCache);
+        Injection.set(service, "dispatchJobRepository", dispatchJobRepository);
+        Injection.set(service, "dispatchAuthService", dispatchAuthService);
+        Injection.set(service, "sqsClient", new InMemorySqsClient());
+        Injection.set(service, "objectMapper", new ObjectMapper());
+        Injection.set(service, "messagingEnabled", true);
+        Injection.set(service, "queueUrl", "https://sqs.local/000000000000/dispatch.fifo");
+        Injection.set(service, "processingEndpoint", "http://localhost:8080/api/dispatch/process");
+
+        events = new ArrayList<>(EVENTS);
+        Instant now = Instant.now();
+        for (int i = 0; i < EVENTS; i++) {
+            int type = i % EVENT_TYPES;
+            List<ContextData> contextData = (type % 2 == 0) ? List.of() : List.of(new ContextData("clientId", "client-1"));
+            events.add(new Event("evt-" + i, "1.0", eventTypeCode(type), "orders-service", "orders.order." + i,
+                now, "{\"orderId\":" + i + ",\"status\":\"CREATED\",\"total\":42.5}", "corr-" + i, null, null,
+                "order-" + i, contextData));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public List<DispatchJob> createDispatchJobs() {
+        List<DispatchJob> jobs = service.createDispatchJobsForEvents(events);
+        dispatchJobRepository.clear();
+        return jobs;
+    }
+
+    private static String eventTypeCode(int type) {
+        return "app:orders:order:event-" + type;
+    }
+}
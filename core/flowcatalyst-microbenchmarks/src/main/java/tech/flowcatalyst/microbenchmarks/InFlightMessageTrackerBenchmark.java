@@ -0,0 +1,104 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.messagerouter.callback.MessageCallback;
+import tech.flowcatalyst.messagerouter.manager.InFlightMessageTracker;
+import tech.flowcatalyst.messagerouter.model.MediationType;
+import tech.flowcatalyst.messagerouter.model.MessagePointer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link InFlightMessageTracker} under concurrent consumers: track/remove cycles and the duplicate checks
+ * {@code routeMessageBatch} runs for every received message, against a tracker already holding
+ * {@value #RESIDENT} in-flight messages.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class InFlightMessageTrackerBenchmark {
+
+    private static final int RESIDENT = 10_000;
+    private static final int MESSAGES_PER_THREAD = 1_024;
+    private static final MessageCallback NO_OP_CALLBACK = new MessageCallback() {
+        @Override
+        public void ack(MessagePointer message) {
+        }
+
+        @Override
+        public void nack(MessagePointer message) {
+        }
+    };
+
+    @State(Scope.Benchmark)
+    public static class SharedTracker {
+
+        final InFlightMessageTracker tracker = new InFlightMessageTracker();
+        final AtomicInteger threadIds = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setup() {
+            for (int i = 0; i < RESIDENT; i++) {
+                tracker.track(message("resident-" + i), NO_OP_CALLBACK, "bench-queue");
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadMessages {
+
+        MessagePointer[] messages;
+        String[] residentIds;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setup(SharedTracker shared) {
+            int threadId = shared.threadIds.getAndIncrement();
+            messages = new MessagePointer[MESSAGES_PER_THREAD];
+            residentIds = new String[MESSAGES_PER_THREAD];
+            for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+                messages[i] = message("t" + threadId + "-" + i);
+                residentIds[i] = "resident-" + ((threadId * MESSAGES_PER_THREAD + i) % RESIDENT);
+            }
+        }
+
+        int nextIndex() {
+            int index = next;
+            next = (index + 1) & (MESSAGES_PER_THREAD - 1);
+            return index;
+        }
+    }
+
+    @Benchmark
+    public Object trackAndRemove(SharedTracker shared, ThreadMessages thread) {
+        MessagePointer message = thread.messages[thread.nextIndex()];
+        shared.tracker.track(message, NO_OP_CALLBACK, "bench-queue");
+        return shared.tracker.remove(message);
+    }
+
+    /**
+     * Phase 1 of {@code routeMessageBatch} for a new message: broker ID and app ID both miss.
+     */
+    @Benchmark
+    public boolean duplicateCheckMiss(SharedTracker shared, ThreadMessages thread) {
+        MessagePointer message = thread.messages[thread.nextIndex()];
+        return shared.tracker.containsKey(message.sqsMessageId()) || shared.tracker.isInFlight(message.id());
+    }
+
+    /**
+     * Phase 1 of {@code routeMessageBatch} for a requeued message: app ID hit resolved to its pipeline key.
+     */
+    @Benchmark
+    public Object duplicateCheckHit(SharedTracker shared, ThreadMessages thread) {
+        return shared.tracker.getByMessageId(thread.residentIds[thread.nextIndex()]);
+    }
+
+    private static MessagePointer message(String id) {
+        return new MessagePointer(id, "BENCH", null, MediationType.HTTP,
+            "http://localhost/process", "group-1", false, null, "sqs-" + id);
+    }
+}
@@ -0,0 +1,192 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import tech.flowcatalyst.dispatchjob.dto.CreateDispatchJobRequest;
+import tech.flowcatalyst.dispatchjob.dto.DispatchJobFilter;
+import tech.flowcatalyst.dispatchjob.entity.DispatchAttempt;
+import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
+import tech.flowcatalyst.dispatchjob.model.DispatchStatus;
+import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * {@link DispatchJobRepository} backed by a map, so platform benchmarks measure the code above
+ * the repository rather than the database. Query methods the benchmarks do not exercise are unsupported.
+ */
+final class InMemoryDispatchJobRepository implements DispatchJobRepository {
+
+    private final Map<String, DispatchJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, List<DispatchAttempt>> attempts = new ConcurrentHashMap<>();
+
+    void clear() {
+        jobs.clear();
+        attempts.clear();
+    }
+
+    @Override
+    public DispatchJob findById(String id) {
+        return jobs.get(id);
+    }
+
+    @Override
+    public Optional<DispatchJob> findByIdOptional(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @Override
+    public List<DispatchJob> findWithFilter(DispatchJobFilter filter) {
+        throw new UnsupportedOperationException("Not used by benchmarks");
+    }
+
+    @Override
+    public List<DispatchJob> findByMetadata(String key, String value) {
+        return find(job -> job.metadata.stream().anyMatch(m -> key.equals(m.key) && value.equals(m.value)));
+    }
+
+    @Override
+    public List<DispatchJob> findByMetadataFilters(Map<String, String> metadataFilters) {
+        return find(job -> metadataFilters.entrySet().stream().allMatch(filter -> job.metadata.stream()
+            .anyMatch(m -> filter.getKey().equals(m.key) && filter.getValue().equals(m.value))));
+    }
+
+    @Override
+    public List<DispatchJob> findRecentPaged(int page, int size) {
+        return jobs.values().stream()
+            .sorted(Comparator.comparing((DispatchJob job) -> job.createdAt).reversed())
+            .skip((long) page * size)
+            .limit(size)
+            .toList();
+    }
+
+    @Override
+    public List<DispatchJob> listAll() {
+        return List.copyOf(jobs.values());
+    }
+
+    @Override
+    public long count() {
+        return jobs.size();
+    }
+
+    @Override
+    public long countWithFilter(DispatchJobFilter filter) {
+        throw new UnsupportedOperationException("Not used by benchmarks");
+    }
+
+    @Override
+    public List<DispatchJob> findPendingJobs(int limit) {
+        return find(job -> job.status == DispatchStatus.PENDING).stream().limit(limit).toList();
+    }
+
+    @Override
+    public long countByMessageGroupAndStatus(String messageGroup, DispatchStatus status) {
+        return jobs.values().stream()
+            .filter(job -> messageGroup.equals(job.messageGroup) && job.status == status)
+            .count();
+    }
+
+    @Override
+    public Set<String> findGroupsWithErrors(Set<String> messageGroups) {
+        return jobs.values().stream()
+            .filter(job -> messageGroups.contains(job.messageGroup) && job.status == DispatchStatus.ERROR)
+            .map(job -> job.messageGroup)
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public List<DispatchJob> findStaleQueued(Instant threshold) {
+        return find(job -> job.status == DispatchStatus.QUEUED && job.createdAt.isBefore(threshold));
+    }
+
+    @Override
+    public List<DispatchJob> findStaleQueued(Instant threshold, int limit) {
+        return findStaleQueued(threshold).stream().limit(limit).toList();
+    }
+
+    @Override
+    public DispatchJob create(CreateDispatchJobRequest request) {
+        throw new UnsupportedOperationException("Not used by benchmarks");
+    }
+
+    @Override
+    public List<DispatchAttempt> findAttempts(String jobId) {
+        return List.copyOf(attempts.getOrDefault(jobId, List.of()));
+    }
+
+    @Override
+    public void addAttempt(String jobId, DispatchAttempt attempt) {
+        attempts.computeIfAbsent(jobId, id -> new ArrayList<>()).add(attempt);
+        DispatchJob job = jobs.get(jobId);
+        if (job != null) {
+            job.attemptCount++;
+            job.lastAttemptAt = attempt.attemptedAt;
+        }
+    }
+
+    @Override
+    public void updateStatus(String jobId, DispatchStatus status, Instant completedAt, Long durationMillis, String lastError) {
+        DispatchJob job = jobs.get(jobId);
+        if (job != null) {
+            job.status = status;
+            job.completedAt = completedAt;
+            job.durationMillis = durationMillis;
+            job.lastError = lastError;
+            job.updatedAt = Instant.now();
+        }
+    }
+
+    @Override
+    public void updateStatusBatch(List<String> ids, DispatchStatus status) {
+        Instant now = Instant.now();
+        for (String id : ids) {
+            DispatchJob job = jobs.get(id);
+            if (job != null) {
+                job.status = status;
+                job.updatedAt = now;
+            }
+        }
+    }
+
+    @Override
+    public void persist(DispatchJob job) {
+        jobs.put(job.id, job);
+    }
+
+    @Override
+    public void persistAll(List<DispatchJob> jobsToPersist) {
+        for (DispatchJob job : jobsToPersist) {
+            jobs.put(job.id, job);
+        }
+    }
+
+    @Override
+    public void update(DispatchJob job) {
+        jobs.put(job.id, job);
+    }
+
+    @Override
+    public void delete(DispatchJob job) {
+        jobs.remove(job.id);
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        return jobs.remove(id) != null;
+    }
+
+    private List<DispatchJob> find(Predicate<DispatchJob> filter) {
+        return jobs.values().stream()
+            .filter(filter)
+            .sorted(Comparator.comparing((DispatchJob job) -> job.createdAt))
+            .toList();
+    }
+}
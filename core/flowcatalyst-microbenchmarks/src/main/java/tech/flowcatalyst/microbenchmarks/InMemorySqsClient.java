@@ -0,0 +1,42 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link SqsClient} that accepts every batch without a network round-trip.
+ */
+final class InMemorySqsClient implements SqsClient {
+
+    private final LongAdder messagesSent = new LongAdder();
+
+    long messagesSent() {
+        return messagesSent.sum();
+    }
+
+    @Override
+    public SendMessageBatchResponse sendMessageBatch(SendMessageBatchRequest request) {
+        messagesSent.add(request.entries().size());
+        return SendMessageBatchResponse.builder()
+            .successful(request.entries().stream()
+                .map(entry -> SendMessageBatchResultEntry.builder()
+                    .id(entry.id())
+                    .messageId(entry.id())
+                    .build())
+                .toList())
+            .build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+}
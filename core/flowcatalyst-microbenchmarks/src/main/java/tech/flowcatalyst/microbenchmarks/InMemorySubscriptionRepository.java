@@ -0,0 +1,138 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import tech.flowcatalyst.subscription.Subscription;
+import tech.flowcatalyst.subscription.SubscriptionRepository;
+import tech.flowcatalyst.subscription.SubscriptionSource;
+import tech.flowcatalyst.subscription.SubscriptionStatus;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * {@link SubscriptionRepository} backed by a map, so platform benchmarks measure the code above
+ * the repository rather than the database.
+ */
+final class InMemorySubscriptionRepository implements SubscriptionRepository {
+
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    @Override
+    public Subscription findById(String id) {
+        return subscriptions.get(id);
+    }
+
+    @Override
+    public Optional<Subscription> findByIdOptional(String id) {
+        return Optional.ofNullable(subscriptions.get(id));
+    }
+
+    @Override
+    public Optional<Subscription> findByCodeAndClient(String code, String clientId) {
+        return find(s -> s.code().equals(code) && Objects.equals(s.clientId(), clientId)).stream().findFirst();
+    }
+
+    @Override
+    public List<Subscription> findByClientId(String clientId) {
+        return find(s -> Objects.equals(s.clientId(), clientId));
+    }
+
+    @Override
+    public List<Subscription> findAnchorLevel() {
+        return find(s -> s.clientId() == null);
+    }
+
+    @Override
+    public List<Subscription> findByDispatchPoolId(String dispatchPoolId) {
+        return find(s -> Objects.equals(s.dispatchPoolId(), dispatchPoolId));
+    }
+
+    @Override
+    public List<Subscription> findByEventTypeId(String eventTypeId) {
+        return find(s -> s.eventTypes().stream().anyMatch(b -> eventTypeId.equals(b.eventTypeId())));
+    }
+
+    @Override
+    public List<Subscription> findByStatus(SubscriptionStatus status) {
+        return find(s -> s.status() == status);
+    }
+
+    @Override
+    public List<Subscription> findActive() {
+        return findByStatus(SubscriptionStatus.ACTIVE);
+    }
+
+    @Override
+    public List<Subscription> findWithFilters(String clientId, SubscriptionStatus status,
+                                              SubscriptionSource source, String dispatchPoolId) {
+        return find(s -> (clientId == null || clientId.equals(s.clientId()))
+            && (status == null || status == s.status())
+            && (source == null || source == s.source())
+            && (dispatchPoolId == null || dispatchPoolId.equals(s.dispatchPoolId())));
+    }
+
+    @Override
+    public List<Subscription> findActiveByEventTypeAndClient(String eventTypeId, String clientId) {
+        return find(s -> s.status() == SubscriptionStatus.ACTIVE
+            && Objects.equals(s.clientId(), clientId)
+            && s.eventTypes().stream().anyMatch(b -> eventTypeId.equals(b.eventTypeId())));
+    }
+
+    @Override
+    public List<Subscription> findActiveByEventTypeCodeAndClient(String eventTypeCode, String clientId) {
+        return find(s -> s.status() == SubscriptionStatus.ACTIVE
+            && Objects.equals(s.clientId(), clientId)
+            && s.eventTypes().stream().anyMatch(b -> eventTypeCode.equals(b.eventTypeCode())));
+    }
+
+    @Override
+    public List<Subscription> listAll() {
+        return List.copyOf(subscriptions.values());
+    }
+
+    @Override
+    public long count() {
+        return subscriptions.size();
+    }
+
+    @Override
+    public boolean existsByCodeAndClient(String code, String clientId) {
+        return findByCodeAndClient(code, clientId).isPresent();
+    }
+
+    @Override
+    public boolean existsByDispatchPoolId(String dispatchPoolId) {
+        return !findByDispatchPoolId(dispatchPoolId).isEmpty();
+    }
+
+    @Override
+    public void persist(Subscription subscription) {
+        subscriptions.put(subscription.id(), subscription);
+    }
+
+    @Override
+    public void update(Subscription subscription) {
+        subscriptions.put(subscription.id(), subscription);
+    }
+
+    @Override
+    public void delete(Subscription subscription) {
+        subscriptions.remove(subscription.id());
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        return subscriptions.remove(id) != null;
+    }
+
+    private List<Subscription> find(Predicate<Subscription> filter) {
+        return subscriptions.values().stream()
+            .filter(filter)
+            .sorted(Comparator.comparingInt(Subscription::sequence).thenComparing(Subscription::code))
+            .toList();
+    }
+}
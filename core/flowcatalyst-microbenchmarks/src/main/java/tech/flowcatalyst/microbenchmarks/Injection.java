@@ -0,0 +1,57 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Wires CDI beans by hand for benchmarks: sets {@code @Inject}/{@code @ConfigProperty} fields
+ * and calls {@code @PostConstruct} methods, which are package-private in the modules under test.
+ */
+final class Injection {
+
+    private Injection() {
+    }
+
+    static <T> T set(T target, String fieldName, Object value) {
+        try {
+            Field field = findField(target.getClass(), fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+            return target;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + fieldName + " on " + target.getClass().getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T get(Object target, String fieldName) {
+        try {
+            Field field = findField(target.getClass(), fieldName);
+            field.setAccessible(true);
+            return (T) field.get(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read " + fieldName + " on " + target.getClass().getName(), e);
+        }
+    }
+
+    static void invoke(Object target, String methodName) {
+        try {
+            Method method = target.getClass().getDeclaredMethod(methodName);
+            method.setAccessible(true);
+            method.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot invoke " + methodName + " on " + target.getClass().getName(), e);
+        }
+    }
+
+    private static Field findField(Class<?> type, String fieldName) throws NoSuchFieldException {
+        for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException ignored) {
+                // Try the superclass
+            }
+        }
+        throw new NoSuchFieldException(fieldName);
+    }
+}
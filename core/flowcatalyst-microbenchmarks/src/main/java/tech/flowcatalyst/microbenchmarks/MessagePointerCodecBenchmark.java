@@ -0,0 +1,71 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.messagerouter.model.MessagePointer;
+import tech.flowcatalyst.messagerouter.model.MessagePointerCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Queue message body decoding: the previous databind path against {@link MessagePointerCodec}.
+ *
+ * <p>Run with {@code ./gradlew :core:flowcatalyst-microbenchmarks:jmh -Pjmh.includes=MessagePointerCodec};
+ * {@code gc.alloc.rate.norm} in the output is bytes allocated per decoded message.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MessagePointerCodecBenchmark {
+
+    private static final String BODY = """
+        {"id":"0HZXEQ5Y8JY5Z","poolCode":"order-service","authToken":"eyJhbGciOiJIUzI1NiJ9.e30.signature",\
+        "mediationType":"HTTP","mediationTarget":"https://orders.internal.example.com/api/events/process",\
+        "messageGroupId":"order-12345","highPriority":false}""";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MessagePointerCodec codec = MessagePointerCodec.getInstance();
+
+    private String bodyString;
+    private byte[] bodyBytes;
+
+    @Setup
+    public void setup() {
+        bodyString = BODY;
+        bodyBytes = BODY.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Previous SQS path: databind from String, then the record rebuilt with the broker ID.
+     */
+    @Benchmark
+    public MessagePointer objectMapperFromString() throws Exception {
+        MessagePointer parsed = objectMapper.readValue(bodyString, MessagePointer.class);
+        return new MessagePointer(parsed.id(), parsed.poolCode(), parsed.authToken(), parsed.mediationType(),
+            parsed.mediationTarget(), parsed.messageGroupId(), parsed.highPriority(), null, "sqs-id");
+    }
+
+    /**
+     * Previous NATS path: bytes decoded to a String first, then databind.
+     */
+    @Benchmark
+    public MessagePointer objectMapperFromBytesViaString() throws Exception {
+        MessagePointer parsed = objectMapper.readValue(new String(bodyBytes, StandardCharsets.UTF_8), MessagePointer.class);
+        return new MessagePointer(parsed.id(), parsed.poolCode(), parsed.authToken(), parsed.mediationType(),
+            parsed.mediationTarget(), parsed.messageGroupId(), parsed.highPriority(), null, "sqs-id");
+    }
+
+    @Benchmark
+    public MessagePointer codecFromString() throws Exception {
+        return codec.decode(bodyString, "sqs-id");
+    }
+
+    @Benchmark
+    public MessagePointer codecFromBytes() throws Exception {
+        return codec.decode(bodyBytes, "sqs-id");
+    }
+}
@@ -0,0 +1,60 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.messagerouter.metrics.MicrometerPoolMetricsService;
+import tech.flowcatalyst.messagerouter.warning.InMemoryWarningService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-message recording cost of {@link MicrometerPoolMetricsService}, as called by every pool worker.
+ * Runs with several threads recording for the same pool, which is the contended case in production.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MicrometerPoolMetricsBenchmark {
+
+    private static final String POOL_CODE = "BENCH";
+
+    private MicrometerPoolMetricsService metrics;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        metrics = new MicrometerPoolMetricsService();
+        Injection.set(metrics, "meterRegistry", new SimpleMeterRegistry());
+        Injection.set(metrics, "warningService", new InMemoryWarningService());
+        metrics.initializePoolCapacity(POOL_CODE, 64, 1_000);
+    }
+
+    @Benchmark
+    public void recordSubmitted() {
+        metrics.recordMessageSubmitted(POOL_CODE);
+    }
+
+    @Benchmark
+    public void recordSuccess() {
+        metrics.recordProcessingSuccess(POOL_CODE, 12);
+    }
+
+    @Benchmark
+    public void recordFailure() {
+        metrics.recordProcessingFailure(POOL_CODE, 12, "ERROR_PROCESS");
+    }
+
+    /**
+     * Full per-message sequence for a successful mediation.
+     */
+    @Benchmark
+    public void recordMessageLifecycle() {
+        metrics.recordMessageSubmitted(POOL_CODE);
+        metrics.recordProcessingStarted(POOL_CODE);
+        metrics.recordProcessingSuccess(POOL_CODE, 12);
+        metrics.recordProcessingFinished(POOL_CODE);
+    }
+}
@@ -0,0 +1,100 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.messagerouter.callback.MessageCallback;
+import tech.flowcatalyst.messagerouter.mediator.Mediator;
+import tech.flowcatalyst.messagerouter.metrics.MicrometerPoolMetricsService;
+import tech.flowcatalyst.messagerouter.model.MediationOutcome;
+import tech.flowcatalyst.messagerouter.model.MediationType;
+import tech.flowcatalyst.messagerouter.model.MessagePointer;
+import tech.flowcatalyst.messagerouter.pool.ProcessPoolImpl;
+import tech.flowcatalyst.messagerouter.warning.InMemoryWarningService;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ProcessPoolImpl#submit} through to mediation and ack, with a mediator that returns immediately.
+ *
+ * <p>Each invocation submits {@value #MESSAGES} messages spread over {@code groups} message groups and
+ * waits until all have been acked, so the score is end-to-end pool overhead per message: group queues,
+ * per-group virtual threads, the concurrency semaphore and metrics recording.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessPoolBenchmark {
+
+    private static final int MESSAGES = 1_000;
+
+    @Param({"1", "64"})
+    int groups;
+
+    private final AtomicInteger completed = new AtomicInteger();
+    private ProcessPoolImpl pool;
+    private MessagePointer[] messages;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        InMemoryWarningService warningService = new InMemoryWarningService();
+        MicrometerPoolMetricsService poolMetrics = new MicrometerPoolMetricsService();
+        Injection.set(poolMetrics, "meterRegistry", new SimpleMeterRegistry());
+        Injection.set(poolMetrics, "warningService", warningService);
+
+        Mediator mediator = new Mediator() {
+            @Override
+            public MediationOutcome process(MessagePointer message) {
+                return MediationOutcome.success();
+            }
+
+            @Override
+            public MediationType getMediationType() {
+                return MediationType.HTTP;
+            }
+        };
+        MessageCallback callback = new MessageCallback() {
+            @Override
+            public void ack(MessagePointer message) {
+                completed.incrementAndGet();
+            }
+
+            @Override
+            public void nack(MessagePointer message) {
+                completed.incrementAndGet();
+            }
+        };
+
+        pool = new ProcessPoolImpl("BENCH", 64, MESSAGES * 2, null, mediator, callback, poolMetrics, warningService);
+        pool.start();
+
+        messages = new MessagePointer[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            messages[i] = new MessagePointer("msg-" + i, "BENCH", null, MediationType.HTTP,
+                "http://localhost/process", "group-" + (i % groups), false, null, "sqs-" + i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.drain();
+        pool.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void submitAndMediate() {
+        completed.set(0);
+        for (MessagePointer message : messages) {
+            while (!pool.submit(message)) {
+                Thread.onSpinWait();
+            }
+        }
+        while (completed.get() < MESSAGES) {
+            Thread.onSpinWait();
+        }
+    }
+}
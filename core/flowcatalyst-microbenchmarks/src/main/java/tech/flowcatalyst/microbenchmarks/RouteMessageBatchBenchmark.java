@@ -0,0 +1,204 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.messagerouter.callback.MessageCallback;
+import tech.flowcatalyst.messagerouter.client.MessageRouterConfigClient;
+import tech.flowcatalyst.messagerouter.factory.MediatorFactory;
+import tech.flowcatalyst.messagerouter.factory.QueueConsumerFactory;
+import tech.flowcatalyst.messagerouter.health.QueueValidationService;
+import tech.flowcatalyst.messagerouter.manager.QueueManager;
+import tech.flowcatalyst.messagerouter.mediator.Mediator;
+import tech.flowcatalyst.messagerouter.metrics.MicrometerPoolMetricsService;
+import tech.flowcatalyst.messagerouter.metrics.MicrometerQueueMetricsService;
+import tech.flowcatalyst.messagerouter.metrics.PoolMetricsService;
+import tech.flowcatalyst.messagerouter.metrics.QueueMetricsService;
+import tech.flowcatalyst.messagerouter.model.MediationOutcome;
+import tech.flowcatalyst.messagerouter.model.MediationType;
+import tech.flowcatalyst.messagerouter.model.MessagePointer;
+import tech.flowcatalyst.messagerouter.pool.ProcessPool;
+import tech.flowcatalyst.messagerouter.warning.InMemoryWarningService;
+import tech.flowcatalyst.messagerouter.warning.WarningService;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link QueueManager#routeMessageBatch} for one consumer batch spread over {@code groups} message groups.
+ *
+ * <p>The pool accepts every message without processing it; after routing, every message is acked
+ * through the {@link QueueManager} so the in-flight tracker is empty again for the next invocation.
+ * The score covers duplicate detection, pool capacity checks, per-group ordering, in-flight tracking and ack.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RouteMessageBatchBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final MessageCallback NO_OP_CALLBACK = new MessageCallback() {
+        @Override
+        public void ack(MessagePointer message) {
+        }
+
+        @Override
+        public void nack(MessagePointer message) {
+        }
+    };
+
+    @Param({"1", "10", "100"})
+    int groups;
+
+    private QueueManager queueManager;
+    private AcceptingPool pool;
+    private Map<String, ProcessPool> processPools;
+    private List<QueueManager.BatchMessage> batch;
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // Includes the default fallback pool, which routeMessageBatch creates eagerly
+        processPools.values().forEach(ProcessPool::shutdown);
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        WarningService warningService = new InMemoryWarningService();
+        MicrometerPoolMetricsService poolMetrics = new MicrometerPoolMetricsService();
+        Injection.set(poolMetrics, "meterRegistry", registry);
+        Injection.set(poolMetrics, "warningService", warningService);
+        MicrometerQueueMetricsService queueMetrics = new MicrometerQueueMetricsService();
+        Injection.set(queueMetrics, "meterRegistry", registry);
+
+        // Same package-private constructor the QueueManager unit tests use
+        Constructor<QueueManager> constructor = QueueManager.class.getDeclaredConstructor(
+            MessageRouterConfigClient.class, QueueConsumerFactory.class, MediatorFactory.class,
+            QueueValidationService.class, PoolMetricsService.class, QueueMetricsService.class,
+            WarningService.class, MeterRegistry.class, boolean.class, int.class, int.class);
+        constructor.setAccessible(true);
+        // Only used for the default fallback pool, which is never routed to here
+        MediatorFactory mediatorFactory = mediationType -> new Mediator() {
+            @Override
+            public MediationOutcome process(MessagePointer message) {
+                return MediationOutcome.success();
+            }
+
+            @Override
+            public MediationType getMediationType() {
+                return mediationType;
+            }
+        };
+        queueManager = constructor.newInstance(null, null, mediatorFactory, null, poolMetrics, queueMetrics,
+            warningService, registry, true, 100, 80);
+
+        pool = new AcceptingPool(BATCH_SIZE);
+        processPools = Injection.get(queueManager, "processPools");
+        processPools.put(pool.getPoolCode(), pool);
+
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            MessagePointer message = new MessagePointer("msg-" + i, pool.getPoolCode(), null, MediationType.HTTP,
+                "http://localhost/process", "group-" + (i % groups), false, null, "sqs-" + i);
+            batch.add(new QueueManager.BatchMessage(message, NO_OP_CALLBACK, "bench-queue", message.sqsMessageId()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int routeAndAck() {
+        queueManager.routeMessageBatch(batch);
+        int routed = pool.accepted.size();
+        for (MessagePointer message : pool.accepted) {
+            queueManager.ack(message);
+        }
+        pool.accepted.clear();
+        return routed;
+    }
+
+    /**
+     * Pool that records submitted messages instead of processing them.
+     */
+    private static final class AcceptingPool implements ProcessPool {
+
+        final List<MessagePointer> accepted;
+        private final int capacity;
+
+        AcceptingPool(int capacity) {
+            this.capacity = capacity;
+            this.accepted = new ArrayList<>(capacity);
+        }
+
+        @Override
+        public boolean submit(MessagePointer message) {
+            return accepted.add(message);
+        }
+
+        @Override
+        public String getPoolCode() {
+            return "BENCH";
+        }
+
+        @Override
+        public int getQueueSize() {
+            return accepted.size();
+        }
+
+        @Override
+        public int getQueueCapacity() {
+            return capacity;
+        }
+
+        @Override
+        public int getConcurrency() {
+            return 1;
+        }
+
+        @Override
+        public Integer getRateLimitPerMinute() {
+            return null;
+        }
+
+        @Override
+        public int getActiveWorkers() {
+            return 0;
+        }
+
+        @Override
+        public boolean isRateLimited() {
+            return false;
+        }
+
+        @Override
+        public boolean isFullyDrained() {
+            return accepted.isEmpty();
+        }
+
+        @Override
+        public void start() {
+        }
+
+        @Override
+        public void drain() {
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public boolean updateConcurrency(int newLimit, int timeoutSeconds) {
+            return false;
+        }
+
+        @Override
+        public void updateRateLimit(Integer newRateLimitPerMinute) {
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package tech.flowcatalyst.microbenchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tech.flowcatalyst.subscription.EventTypeBinding;
+import tech.flowcatalyst.subscription.Subscription;
+import tech.flowcatalyst.subscription.SubscriptionCache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SubscriptionCache#getByEventTypeCode} lookups, as done once per (event type, client) group of
+ * every event batch. {@code cacheHit} is the steady state; {@code cacheMissAndLoad} invalidates first,
+ * so it includes the load and conversion from an in-memory repository.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubscriptionCacheBenchmark {
+
+    @Param({"10", "1000"})
+    int eventTypes;
+
+    private SubscriptionCache cache;
+    private String[] eventTypeCodes;
+    private String[] clientIds;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        int next(int bound) {
+            int index = next;
+            next = index + 1 == bound ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        InMemorySubscriptionRepository repository = new InMemorySubscriptionRepository();
+        eventTypeCodes = new String[eventTypes];
+        clientIds = new String[eventTypes];
+        for (int i = 0; i < eventTypes; i++) {
+            eventTypeCodes[i] = "app:orders:order:event-" + i;
+            clientIds[i] = (i % 2 == 0) ? null : "client-" + (i % 10);
+            // Two subscriptions per event type, like a typical app with a webhook and an audit sink
+            for (int s = 0; s < 2; s++) {
+                repository.persist(Subscription.create("sub-" + i + "-" + s, "Subscription " + i, "https://hooks.example.com/" + i)
+                    .clientId(clientIds[i])
+                    .dispatchPoolId("pool-" + (i % 4))
+                    .eventTypes(List.of(new EventTypeBinding("et-" + i, eventTypeCodes[i], "1.0")))
+                    .build());
+            }
+        }
+
+        cache = new SubscriptionCache();
+        Injection.set(cache, "subscriptionRepository", repository);
+        Injection.set(cache, "ttlMinutes", 5);
+        Injection.set(cache, "maxSize", 10_000);
+        Injection.invoke(cache, "init");
+        for (int i = 0; i < eventTypes; i++) {
+            cache.getByEventTypeCode(eventTypeCodes[i], clientIds[i]);
+        }
+    }
+
+    @Benchmark
+    public Object cacheHit(Cursor cursor) {
+        int i = cursor.next(eventTypes);
+        return cache.getByEventTypeCode(eventTypeCodes[i], clientIds[i]);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object cacheMissAndLoad(Cursor cursor) {
+        int i = cursor.next(eventTypes);
+        cache.invalidate(eventTypeCodes[i], clientIds[i]);
+        return cache.getByEventTypeCode(eventTypeCodes[i], clientIds[i]);
+    }
+}
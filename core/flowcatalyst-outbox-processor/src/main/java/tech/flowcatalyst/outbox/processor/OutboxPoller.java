@@ -10,6 +10,7 @@ import tech.flowcatalyst.outbox.config.OutboxProcessorConfig;
 import tech.flowcatalyst.outbox.model.OutboxItem;
 import tech.flowcatalyst.outbox.model.OutboxItemType;
 import tech.flowcatalyst.outbox.repository.OutboxRepository;
+import tech.flowcatalyst.standby.ShardOwnershipService;
 import tech.flowcatalyst.standby.StandbyService;
 
 import java.util.List;
@@ -28,7 +29,8 @@ import java.util.concurrent.atomic.AtomicInteger;
  *   <li>Add items to global buffer</li>
  * </ol>
  *
- * <p>Only runs on the primary instance when hot standby is enabled.
+ * <p>Only runs on the primary instance when hot standby is enabled. With sharded ownership
+ * enabled, every instance polls, but only for the message groups in the shards it owns.
  */
 @ApplicationScoped
 public class OutboxPoller {
@@ -38,6 +40,9 @@ public class OutboxPoller {
     @Inject
     StandbyService standbyService;
 
+    @Inject
+    ShardOwnershipService shardOwnership;
+
     @Inject
     OutboxProcessorConfig config;
 
@@ -58,6 +63,13 @@ public class OutboxPoller {
             return;
         }
 
+        // With sharded ownership, other instances may have items in progress right now;
+        // periodic recovery resets stuck items of our own shards after the processing timeout
+        if (shardOwnership.isActive()) {
+            LOG.info("Sharded ownership active, skipping startup crash recovery");
+            return;
+        }
+
         LOG.info("Running crash recovery on startup...");
         doCrashRecovery();
     }
@@ -90,8 +102,7 @@ public class OutboxPoller {
             return;
         }
 
-        if (!standbyService.isPrimary()) {
-            LOG.trace("Not primary instance, skipping poll");
+        if (!isPolling("poll")) {
             return;
         }
 
@@ -130,7 +141,10 @@ public class OutboxPoller {
     private void pollItemType(OutboxItemType type) {
         try {
             // 1. Fetch pending items (simple SELECT, no locking)
-            List<OutboxItem> items = repository.fetchPending(type, config.pollBatchSize());
+            List<OutboxItem> items = shardOwnership.isActive()
+                ? repository.fetchPending(type, config.pollBatchSize(),
+                    shardOwnership.getShardCount(), shardOwnership.ownedShards())
+                : repository.fetchPending(type, config.pollBatchSize());
 
             if (items.isEmpty()) {
                 return;
@@ -156,6 +170,25 @@ public class OutboxPoller {
         }
     }
 
+    /**
+     * Whether this instance should poll: it owns at least one shard (sharded ownership)
+     * or it is the primary.
+     */
+    private boolean isPolling(String task) {
+        if (shardOwnership.isActive()) {
+            if (shardOwnership.ownedShards().isEmpty()) {
+                LOG.tracef("No shards owned, skipping %s", task);
+                return false;
+            }
+            return true;
+        }
+        if (!standbyService.isPrimary()) {
+            LOG.tracef("Not primary instance, skipping %s", task);
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Release in-flight permits when processing completes.
      * Called by the message group processor after API calls complete.
@@ -192,18 +225,24 @@ public class OutboxPoller {
             return;
         }
 
-        if (!standbyService.isPrimary()) {
-            LOG.trace("Not primary instance, skipping periodic recovery");
+        if (!isPolling("periodic recovery")) {
             return;
         }
 
         for (OutboxItemType type : OutboxItemType.values()) {
             try {
-                List<OutboxItem> recoverableItems = repository.fetchRecoverableItems(
-                    type,
-                    config.processingTimeoutSeconds(),
-                    config.pollBatchSize()
-                );
+                List<OutboxItem> recoverableItems = shardOwnership.isActive()
+                    ? repository.fetchRecoverableItems(
+                        type,
+                        config.processingTimeoutSeconds(),
+                        config.pollBatchSize(),
+                        shardOwnership.getShardCount(),
+                        shardOwnership.ownedShards())
+                    : repository.fetchRecoverableItems(
+                        type,
+                        config.processingTimeoutSeconds(),
+                        config.pollBatchSize()
+                    );
 
                 if (!recoverableItems.isEmpty()) {
                     List<String> ids = recoverableItems.stream().map(OutboxItem::id).toList();
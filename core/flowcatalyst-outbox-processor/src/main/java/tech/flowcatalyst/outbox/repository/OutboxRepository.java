@@ -5,14 +5,16 @@ import tech.flowcatalyst.outbox.model.OutboxItemType;
 import tech.flowcatalyst.outbox.model.OutboxStatus;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Repository interface for outbox operations.
  * Uses a single-poller, status-based pattern with NO row locking.
  * This works identically across PostgreSQL, MySQL, and MongoDB.
  *
- * <p>The architecture assumes only one poller runs at a time (enforced by leader election),
- * so there's no need for FOR UPDATE SKIP LOCKED or atomic findAndModify operations.
+ * <p>The architecture assumes only one poller runs at a time per message group (enforced by
+ * leader election, or by shard leases in partitioned ownership mode), so there's no need for
+ * FOR UPDATE SKIP LOCKED or atomic findAndModify operations.
  */
 public interface OutboxRepository {
 
@@ -27,6 +29,18 @@ public interface OutboxRepository {
      */
     List<OutboxItem> fetchPending(OutboxItemType type, int limit);
 
+    /**
+     * Fetch pending items whose message group hashes into one of the given shards
+     * (partitioned ownership, see {@code ShardOwnershipService}). Ordering as {@link #fetchPending(OutboxItemType, int)}.
+     *
+     * @param type       The type of items to fetch (EVENT or DISPATCH_JOB)
+     * @param limit      Maximum number of items to fetch
+     * @param shardCount Total number of shards
+     * @param shards     Shards owned by this instance
+     * @return List of pending items in the owned shards
+     */
+    List<OutboxItem> fetchPending(OutboxItemType type, int limit, int shardCount, Set<Integer> shards);
+
     /**
      * Mark items as in-progress (status=9).
      * Must be called immediately after fetchPending, before distributing to queues.
@@ -97,6 +111,19 @@ public interface OutboxRepository {
      */
     List<OutboxItem> fetchRecoverableItems(OutboxItemType type, int timeoutSeconds, int limit);
 
+    /**
+     * Fetch items eligible for periodic recovery whose message group hashes into one of the given shards.
+     *
+     * @param type           The type of items to check
+     * @param timeoutSeconds Items with updatedAt older than this many seconds ago
+     * @param limit          Maximum number of items to fetch
+     * @param shardCount     Total number of shards
+     * @param shards         Shards owned by this instance
+     * @return List of recoverable items in the owned shards
+     */
+    List<OutboxItem> fetchRecoverableItems(OutboxItemType type, int timeoutSeconds, int limit,
+                                           int shardCount, Set<Integer> shards);
+
     /**
      * Reset recoverable items back to PENDING status for retry.
      * Does NOT reset retry count - items will be retried with existing count.
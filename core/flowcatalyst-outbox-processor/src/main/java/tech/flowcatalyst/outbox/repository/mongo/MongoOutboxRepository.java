@@ -15,11 +15,13 @@ import tech.flowcatalyst.outbox.model.OutboxItem;
 import tech.flowcatalyst.outbox.model.OutboxItemType;
 import tech.flowcatalyst.outbox.model.OutboxStatus;
 import tech.flowcatalyst.outbox.repository.OutboxRepository;
+import tech.flowcatalyst.standby.MessageGroupSharding;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 /**
  * MongoDB implementation of OutboxRepository.
@@ -40,22 +42,18 @@ public class MongoOutboxRepository implements OutboxRepository {
 
     @Override
     public List<OutboxItem> fetchPending(OutboxItemType type, int limit) {
-        MongoCollection<Document> collection = getCollection(type);
-        List<OutboxItem> items = new ArrayList<>();
-
         Bson filter = Filters.eq("status", OutboxStatus.PENDING.getCode());
         Bson sort = Sorts.ascending("messageGroup", "createdAt");
 
-        try (MongoCursor<Document> cursor = collection.find(filter)
-                .sort(sort)
-                .limit(limit)
-                .iterator()) {
-            while (cursor.hasNext()) {
-                items.add(mapDocument(cursor.next(), type));
-            }
-        }
+        return find(type, filter, sort, limit);
+    }
 
-        return items;
+    @Override
+    public List<OutboxItem> fetchPending(OutboxItemType type, int limit, int shardCount, Set<Integer> shards) {
+        Bson filter = Filters.eq("status", OutboxStatus.PENDING.getCode());
+        Bson sort = Sorts.ascending("messageGroup", "createdAt");
+
+        return findInShards(type, filter, sort, limit, shardCount, shards);
     }
 
     @Override
@@ -159,14 +157,22 @@ public class MongoOutboxRepository implements OutboxRepository {
 
     @Override
     public List<OutboxItem> fetchRecoverableItems(OutboxItemType type, int timeoutSeconds, int limit) {
-        MongoCollection<Document> collection = getCollection(type);
-        List<OutboxItem> items = new ArrayList<>();
+        return find(type, recoverableFilter(timeoutSeconds), Sorts.ascending("createdAt"), limit);
+    }
 
+    @Override
+    public List<OutboxItem> fetchRecoverableItems(OutboxItemType type, int timeoutSeconds, int limit,
+                                                  int shardCount, Set<Integer> shards) {
+        return findInShards(type, recoverableFilter(timeoutSeconds), Sorts.ascending("createdAt"),
+            limit, shardCount, shards);
+    }
+
+    private Bson recoverableFilter(int timeoutSeconds) {
         // Calculate cutoff time
         Date cutoff = new Date(System.currentTimeMillis() - (timeoutSeconds * 1000L));
 
         // Filter for error statuses older than timeout
-        Bson filter = Filters.and(
+        return Filters.and(
             Filters.in("status",
                 OutboxStatus.IN_PROGRESS.getCode(),
                 OutboxStatus.BAD_REQUEST.getCode(),
@@ -177,9 +183,12 @@ public class MongoOutboxRepository implements OutboxRepository {
             ),
             Filters.lt("updatedAt", cutoff)
         );
-        Bson sort = Sorts.ascending("createdAt");
+    }
 
-        try (MongoCursor<Document> cursor = collection.find(filter)
+    private List<OutboxItem> find(OutboxItemType type, Bson filter, Bson sort, int limit) {
+        List<OutboxItem> items = new ArrayList<>();
+
+        try (MongoCursor<Document> cursor = getCollection(type).find(filter)
                 .sort(sort)
                 .limit(limit)
                 .iterator()) {
@@ -191,6 +200,32 @@ public class MongoOutboxRepository implements OutboxRepository {
         return items;
     }
 
+    /**
+     * MongoDB cannot compute the shard hash server-side, so the sorted cursor is read in batches
+     * and filtered here ({@link MessageGroupSharding}) until {@code limit} matching items are found.
+     */
+    private List<OutboxItem> findInShards(OutboxItemType type, Bson filter, Bson sort, int limit,
+                                          int shardCount, Set<Integer> shards) {
+        List<OutboxItem> items = new ArrayList<>();
+        if (shards.isEmpty()) {
+            return items;
+        }
+
+        try (MongoCursor<Document> cursor = getCollection(type).find(filter)
+                .sort(sort)
+                .batchSize(limit)
+                .iterator()) {
+            while (items.size() < limit && cursor.hasNext()) {
+                OutboxItem item = mapDocument(cursor.next(), type);
+                if (shards.contains(MessageGroupSharding.shardOf(item.messageGroup(), shardCount))) {
+                    items.add(item);
+                }
+            }
+        }
+
+        return items;
+    }
+
     @Override
     public void resetRecoverableItems(OutboxItemType type, List<String> ids) {
         if (ids.isEmpty()) return;
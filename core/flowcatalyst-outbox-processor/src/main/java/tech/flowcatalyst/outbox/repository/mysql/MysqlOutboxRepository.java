@@ -11,11 +11,13 @@ import tech.flowcatalyst.outbox.model.OutboxItem;
 import tech.flowcatalyst.outbox.model.OutboxItemType;
 import tech.flowcatalyst.outbox.model.OutboxStatus;
 import tech.flowcatalyst.outbox.repository.OutboxRepository;
+import tech.flowcatalyst.standby.MessageGroupSharding;
 
 import java.sql.*;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -38,15 +40,25 @@ public class MysqlOutboxRepository implements OutboxRepository {
 
     @Override
     public List<OutboxItem> fetchPending(OutboxItemType type, int limit) {
+        return fetchPending(type, limit, "");
+    }
+
+    @Override
+    public List<OutboxItem> fetchPending(OutboxItemType type, int limit, int shardCount, Set<Integer> shards) {
+        if (shards.isEmpty()) return List.of();
+        return fetchPending(type, limit, shardClause(shardCount, shards));
+    }
+
+    private List<OutboxItem> fetchPending(OutboxItemType type, int limit, String shardClause) {
         String table = getTableName(type);
 
         String sql = """
             SELECT id, type, message_group, payload, status, retry_count, created_at, updated_at, error_message
             FROM %s
-            WHERE status = %d
+            WHERE status = %d%s
             ORDER BY message_group, created_at
             LIMIT ?
-            """.formatted(table, OutboxStatus.PENDING.getCode());
+            """.formatted(table, OutboxStatus.PENDING.getCode(), shardClause);
 
         List<OutboxItem> items = new ArrayList<>();
 
@@ -194,6 +206,17 @@ public class MysqlOutboxRepository implements OutboxRepository {
 
     @Override
     public List<OutboxItem> fetchRecoverableItems(OutboxItemType type, int timeoutSeconds, int limit) {
+        return fetchRecoverableItems(type, timeoutSeconds, limit, "");
+    }
+
+    @Override
+    public List<OutboxItem> fetchRecoverableItems(OutboxItemType type, int timeoutSeconds, int limit,
+                                                  int shardCount, Set<Integer> shards) {
+        if (shards.isEmpty()) return List.of();
+        return fetchRecoverableItems(type, timeoutSeconds, limit, shardClause(shardCount, shards));
+    }
+
+    private List<OutboxItem> fetchRecoverableItems(OutboxItemType type, int timeoutSeconds, int limit, String shardClause) {
         String table = getTableName(type);
 
         // Fetch items with error statuses that are older than timeout
@@ -201,7 +224,7 @@ public class MysqlOutboxRepository implements OutboxRepository {
             SELECT id, type, message_group, payload, status, retry_count, created_at, updated_at, error_message
             FROM %s
             WHERE status IN (%d, %d, %d, %d, %d, %d)
-              AND updated_at < DATE_SUB(NOW(), INTERVAL %d SECOND)
+              AND updated_at < DATE_SUB(NOW(), INTERVAL %d SECOND)%s
             ORDER BY created_at
             LIMIT ?
             """.formatted(
@@ -212,7 +235,8 @@ public class MysqlOutboxRepository implements OutboxRepository {
                 OutboxStatus.UNAUTHORIZED.getCode(),
                 OutboxStatus.FORBIDDEN.getCode(),
                 OutboxStatus.GATEWAY_ERROR.getCode(),
-                timeoutSeconds
+                timeoutSeconds,
+                shardClause
             );
 
         List<OutboxItem> items = new ArrayList<>();
@@ -380,4 +404,13 @@ public class MysqlOutboxRepository implements OutboxRepository {
     private Instant toInstant(Timestamp timestamp) {
         return timestamp != null ? timestamp.toInstant() : null;
     }
+
+    /**
+     * SQL condition selecting rows whose message group falls in one of the shards.
+     * Must match {@link MessageGroupSharding#shardOf(String, int)}.
+     */
+    private static String shardClause(int shardCount, Set<Integer> shards) {
+        String shardList = shards.stream().map(String::valueOf).collect(Collectors.joining(","));
+        return " AND CONV(SUBSTRING(MD5(COALESCE(NULLIF(message_group, ''), 'default')), 1, 8), 16, 10) %% %d IN (%s)".formatted(shardCount, shardList);
+    }
 }
@@ -26,6 +26,9 @@ dependencies {
     implementation(enforcedPlatform("${quarkusPlatformGroupId}:${quarkusPlatformArtifactId}:${quarkusPlatformVersion}"))
     implementation(enforcedPlatform("${quarkusPlatformGroupId}:quarkus-amazon-services-bom:${quarkusPlatformVersion}"))
 
+    // Shared modules
+    implementation(project(":core:flowcatalyst-concurrency"))
+
     // ==========================================================================
     // Core Quarkus
     // ==========================================================================
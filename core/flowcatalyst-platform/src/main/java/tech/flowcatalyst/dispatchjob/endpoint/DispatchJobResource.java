@@ -234,7 +234,7 @@ public class DispatchJobResource {
 
         return dispatchJobService.findById(id)
             .map(job -> {
-                List<DispatchAttemptResponse> responses = job.attempts.stream()
+                List<DispatchAttemptResponse> responses = dispatchJobService.findAttempts(job.id).stream()
                     .map(DispatchAttemptResponse::from)
                     .toList();
                 return Response.ok(responses).build();
@@ -1,6 +1,7 @@
 package tech.flowcatalyst.dispatchjob.endpoint;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
@@ -14,13 +15,30 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 import org.jboss.logging.Logger;
 import tech.flowcatalyst.dispatchjob.security.DispatchAuthService;
 import tech.flowcatalyst.dispatchjob.service.DispatchJobService;
+import tech.flowcatalyst.platform.jdbc.DatabaseBusyException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs on virtual threads: a request parks rather than holding a worker thread while it
+ * waits for a database connection or for the webhook response, so concurrency is bounded
+ * by the database admission control and not by the worker pool.
+ */
 @Path("/api/dispatch/process")
+@RunOnVirtualThread
 @Tag(name = "Dispatch Processing", description = "Internal endpoint for processing dispatch jobs via message router")
 public class DispatchProcessingResource {
 
     private static final Logger LOG = Logger.getLogger(DispatchProcessingResource.class);
 
+    /** Retry delay returned when the database rejects the request under load */
+    private static final int DATABASE_BUSY_DELAY_SECONDS = 1;
+
     @Inject
     DispatchJobService dispatchJobService;
 
@@ -89,6 +107,13 @@ public class DispatchProcessingResource {
                 .entity(ProcessResponse.ack("Cannot find record."))
                 .build();
 
+        } catch (DatabaseBusyException e) {
+            // Connection pool saturated - nothing ran, retry shortly instead of waiting for the visibility timeout
+            LOG.warnf("Database busy, deferring dispatch job [%s]: %s", request.messageId(), e.getMessage());
+            return Response.status(200)
+                .entity(ProcessResponse.nackWithDelay("Database busy", DATABASE_BUSY_DELAY_SECONDS))
+                .build();
+
         } catch (Exception e) {
             // Infrastructure error - return 500, message router will retry via visibility timeout
             LOG.errorf(e, "Error processing dispatch job: %s", request.messageId());
@@ -98,6 +123,84 @@ public class DispatchProcessingResource {
         }
     }
 
+    @POST
+    @Path("/batch")
+    @Consumes(MediaType.APPLICATION_JSON)
+    @Produces(MediaType.APPLICATION_JSON)
+    @Operation(summary = "Process a batch of dispatch jobs (internal endpoint called by message router)",
+        description = "Batch form of the process endpoint used when the message router coalesces messages " +
+            "for this target. Each item carries its own HMAC-SHA256 auth token and gets its own result.")
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Jobs processed (check the ack field of each result)",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = BatchProcessResponse.class))
+        ),
+        @APIResponse(
+            responseCode = "500",
+            description = "Internal error during processing",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON, schema = @Schema(implementation = BatchProcessResponse.class))
+        )
+    })
+    public Response processDispatchJobs(BatchProcessRequest request) {
+        List<BatchItem> items = request.messages() != null ? request.messages() : List.of();
+        LOG.infof("Received dispatch job batch processing request with %d messages", items.size());
+
+        // 1. Validate each item's token; a missing ID or bad token rejects only that item
+        BitSet valid = dispatchAuthService.validateAuthTokens(
+            items.stream().map(BatchItem::messageId).toList(),
+            items.stream().map(BatchItem::authToken).toList());
+        BatchItemResult[] results = new BatchItemResult[items.size()];
+        List<String> dispatchJobIds = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            BatchItem item = items.get(i);
+            if (item.messageId() == null) {
+                LOG.warn("Dispatch process batch item without messageId");
+                results[i] = new BatchItemResult(null, false, "Missing messageId", null);
+            } else if (!valid.get(i)) {
+                LOG.warnf("Dispatch process auth failed for message [%s]", item.messageId());
+                results[i] = new BatchItemResult(item.messageId(), false, "Invalid auth token", null);
+            } else {
+                dispatchJobIds.add(item.messageId());
+            }
+        }
+
+        // 2. Process the valid jobs together
+        Map<String, DispatchJobService.DispatchJobProcessResult> processed;
+        try {
+            processed = dispatchJobIds.isEmpty() ? Map.of() : dispatchJobService.processDispatchJobs(dispatchJobIds);
+
+        } catch (DatabaseBusyException e) {
+            // Connection pool saturated - nothing ran, retry every job shortly
+            LOG.warnf("Database busy, deferring batch of %d dispatch jobs: %s", dispatchJobIds.size(), e.getMessage());
+            processed = new HashMap<>();
+            for (String id : dispatchJobIds) {
+                processed.put(id, DispatchJobService.DispatchJobProcessResult.transientError(
+                    "Database busy", DATABASE_BUSY_DELAY_SECONDS));
+            }
+
+        } catch (Exception e) {
+            // Infrastructure error - return 500, message router will retry via visibility timeout
+            LOG.errorf(e, "Error processing batch of %d dispatch jobs", dispatchJobIds.size());
+            return Response.status(500)
+                .entity(new BatchProcessResponse(List.of()))
+                .build();
+        }
+
+        // 3. One result per item, in request order
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                String id = items.get(i).messageId();
+                DispatchJobService.DispatchJobProcessResult jobResult = processed.get(id);
+                results[i] = new BatchItemResult(id, jobResult.ack(), jobResult.message(), jobResult.delaySeconds());
+            }
+        }
+
+        return Response.status(200)
+            .entity(new BatchProcessResponse(Arrays.asList(results)))
+            .build();
+    }
+
     /**
      * Extract Bearer token from Authorization header.
      */
@@ -152,4 +255,35 @@ public class DispatchProcessingResource {
             return new ProcessResponse(false, message, delaySeconds);
         }
     }
+
+    /**
+     * Batch of messages from message router, each with the auth token it would send as Bearer token.
+     */
+    public record BatchProcessRequest(
+        @JsonProperty("messages") List<BatchItem> messages
+    ) {
+    }
+
+    public record BatchItem(
+        @JsonProperty("messageId") String messageId,
+        @JsonProperty("authToken") String authToken
+    ) {
+    }
+
+    /**
+     * Results of a batch, one per message in request order. Each result has the meaning of a
+     * {@link ProcessResponse}.
+     */
+    public record BatchProcessResponse(
+        @JsonProperty("results") List<BatchItemResult> results
+    ) {
+    }
+
+    public record BatchItemResult(
+        @JsonProperty("messageId") String messageId,
+        @JsonProperty("ack") boolean ack,
+        @JsonProperty("message") String message,
+        @JsonProperty("delaySeconds") Integer delaySeconds
+    ) {
+    }
 }
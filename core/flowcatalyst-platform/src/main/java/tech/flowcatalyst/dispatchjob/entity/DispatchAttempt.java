@@ -6,8 +6,8 @@ import tech.flowcatalyst.dispatchjob.model.ErrorType;
 import java.time.Instant;
 
 /**
- * Delivery attempt record embedded in DispatchJob documents.
- * Not a separate collection - embedded for single-document atomicity.
+ * Delivery attempt of a DispatchJob.
+ * Stored append-only, one row per attempt, in dispatch_job_attempts.
  */
 public class DispatchAttempt {
 
@@ -13,7 +13,8 @@ import java.util.*;
  * <h2>Document Structure</h2>
  * <ul>
  *   <li>metadata: embedded array for flexible key-value pairs</li>
- *   <li>attempts: embedded array for delivery history</li>
+ *   <li>attempts: delivery history, stored one row per attempt and loaded separately
+ *       ({@code DispatchJobService.findAttempts})</li>
  *   <li>serviceAccountId: reference to ServiceAccount for webhook credentials</li>
  * </ul>
  *
@@ -272,9 +273,6 @@ public class DispatchJob {
     // Idempotency
     public String idempotencyKey;
 
-    // Attempts stored as embedded array
-    public List<DispatchAttempt> attempts = new ArrayList<>();
-
     // Timestamps
     public Instant createdAt = Instant.now();
 
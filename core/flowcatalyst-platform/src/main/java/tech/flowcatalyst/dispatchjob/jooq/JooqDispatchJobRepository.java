@@ -4,9 +4,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.jooq.CommonTableExpression;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Query;
 import org.jooq.Record;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
 import tech.flowcatalyst.dispatch.DispatchMode;
 import tech.flowcatalyst.dispatchjob.dto.CreateDispatchJobRequest;
@@ -14,14 +18,18 @@ import tech.flowcatalyst.dispatchjob.dto.DispatchJobFilter;
 import tech.flowcatalyst.dispatchjob.entity.DispatchAttempt;
 import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
 import tech.flowcatalyst.dispatchjob.entity.DispatchJobMetadata;
+import tech.flowcatalyst.dispatchjob.model.DispatchAttemptStatus;
 import tech.flowcatalyst.dispatchjob.model.DispatchKind;
 import tech.flowcatalyst.dispatchjob.model.DispatchProtocol;
 import tech.flowcatalyst.dispatchjob.model.DispatchStatus;
+import tech.flowcatalyst.dispatchjob.model.ErrorType;
 import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
 import tech.flowcatalyst.platform.common.Page;
 import tech.flowcatalyst.platform.jooq.generated.tables.records.DispatchJobsRecord;
+import tech.flowcatalyst.platform.shared.EntityType;
 import tech.flowcatalyst.platform.shared.TsidGenerator;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
@@ -38,6 +46,29 @@ public class JooqDispatchJobRepository implements DispatchJobRepository {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * Slack between an ID's embedded timestamp and created_at when bounding IDs by time.
+     */
+    private static final Duration ID_TIME_MARGIN = Duration.ofDays(1);
+
+    /**
+     * Attempt history (V11, append-only and partitioned by job since V15), not part of the generated schema classes.
+     */
+    private static final Table<Record> ATTEMPTS = DSL.table(DSL.name("dispatch_job_attempts"));
+    private static final Field<String> ATTEMPT_ID = DSL.field(DSL.name("id"), String.class);
+    private static final Field<String> ATTEMPT_JOB_ID = DSL.field(DSL.name("dispatch_job_id"), String.class);
+    private static final Field<Integer> ATTEMPT_NUMBER = DSL.field(DSL.name("attempt_number"), Integer.class);
+    private static final Field<String> ATTEMPT_STATUS = DSL.field(DSL.name("status"), String.class);
+    private static final Field<Integer> ATTEMPT_STATUS_CODE = DSL.field(DSL.name("status_code"), Integer.class);
+    private static final Field<String> ATTEMPT_RESPONSE_BODY = DSL.field(DSL.name("response_body"), String.class);
+    private static final Field<String> ATTEMPT_ERROR_MESSAGE = DSL.field(DSL.name("error_message"), String.class);
+    private static final Field<String> ATTEMPT_ERROR_STACK_TRACE = DSL.field(DSL.name("error_stack_trace"), String.class);
+    private static final Field<String> ATTEMPT_ERROR_TYPE = DSL.field(DSL.name("error_type"), String.class);
+    private static final Field<Long> ATTEMPT_DURATION_MILLIS = DSL.field(DSL.name("duration_millis"), Long.class);
+    private static final Field<OffsetDateTime> ATTEMPT_ATTEMPTED_AT = DSL.field(DSL.name("attempted_at"), OffsetDateTime.class);
+    private static final Field<OffsetDateTime> ATTEMPT_COMPLETED_AT = DSL.field(DSL.name("completed_at"), OffsetDateTime.class);
+    private static final Field<OffsetDateTime> ATTEMPT_CREATED_AT = DSL.field(DSL.name("created_at"), OffsetDateTime.class);
+
     @Inject
     DSLContext dsl;
 
@@ -53,6 +84,16 @@ public class JooqDispatchJobRepository implements DispatchJobRepository {
         return Optional.ofNullable(findById(id));
     }
 
+    @Override
+    public List<DispatchJob> findByIds(Collection<String> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return dsl.selectFrom(DISPATCH_JOBS)
+            .where(DISPATCH_JOBS.ID.in(ids))
+            .fetch(this::toDomain);
+    }
+
     @Override
     public List<DispatchJob> findWithFilter(DispatchJobFilter filter) {
         Condition condition = buildFilterCondition(filter);
@@ -147,9 +188,29 @@ public class JooqDispatchJobRepository implements DispatchJobRepository {
 
     @Override
     public List<DispatchJob> findPendingJobs(int limit) {
+        return findPendingJobs(limit, DSL.noCondition());
+    }
+
+    @Override
+    public List<DispatchJob> findPendingJobs(int limit, int shardCount, Set<Integer> shards) {
+        return findPendingJobs(limit, inShards(shardCount, shards));
+    }
+
+    @Override
+    public List<DispatchJob> findUnscheduledPendingJobs(int limit) {
+        return findPendingJobs(limit, DISPATCH_JOBS.SCHEDULED_FOR.isNull());
+    }
+
+    @Override
+    public List<DispatchJob> findUnscheduledPendingJobs(int limit, int shardCount, Set<Integer> shards) {
+        return findPendingJobs(limit, DISPATCH_JOBS.SCHEDULED_FOR.isNull().and(inShards(shardCount, shards)));
+    }
+
+    private List<DispatchJob> findPendingJobs(int limit, Condition condition) {
         OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
         return dsl.selectFrom(DISPATCH_JOBS)
             .where(DISPATCH_JOBS.STATUS.eq(DispatchStatus.PENDING.name()))
+            .and(condition)
             .and(DISPATCH_JOBS.SCHEDULED_FOR.isNull().or(DISPATCH_JOBS.SCHEDULED_FOR.le(now)))
             .and(DISPATCH_JOBS.EXPIRES_AT.isNull().or(DISPATCH_JOBS.EXPIRES_AT.gt(now)))
             .orderBy(DISPATCH_JOBS.SEQUENCE, DISPATCH_JOBS.CREATED_AT)
@@ -157,6 +218,29 @@ public class JooqDispatchJobRepository implements DispatchJobRepository {
             .fetch(this::toDomain);
     }
 
+    @Override
+    public List<DispatchJob> findScheduledJobs(Instant until, int limit) {
+        return findScheduledJobs(until, limit, DSL.noCondition());
+    }
+
+    @Override
+    public List<DispatchJob> findScheduledJobs(Instant until, int limit, int shardCount, Set<Integer> shards) {
+        return findScheduledJobs(until, limit, inShards(shardCount, shards));
+    }
+
+    private List<DispatchJob> findScheduledJobs(Instant until, int limit, Condition shardCondition) {
+        // Served by the partial index on scheduled_for
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        return dsl.selectFrom(DISPATCH_JOBS)
+            .where(DISPATCH_JOBS.SCHEDULED_FOR.le(toOffsetDateTime(until)))
+            .and(DISPATCH_JOBS.STATUS.eq(DispatchStatus.PENDING.name()))
+            .and(shardCondition)
+            .and(DISPATCH_JOBS.EXPIRES_AT.isNull().or(DISPATCH_JOBS.EXPIRES_AT.gt(now)))
+            .orderBy(DISPATCH_JOBS.SCHEDULED_FOR)
+            .limit(limit)
+            .fetch(this::toDomain);
+    }
+
     @Override
     public long countByMessageGroupAndStatus(String messageGroup, DispatchStatus status) {
         return dsl.selectCount()
@@ -195,14 +279,39 @@ public class JooqDispatchJobRepository implements DispatchJobRepository {
 
     @Override
     public List<DispatchJob> findStaleQueued(Instant threshold, int limit) {
+        return findStaleQueued(threshold, limit, DSL.noCondition());
+    }
+
+    @Override
+    public List<DispatchJob> findStaleQueued(Instant threshold, int limit, int shardCount, Set<Integer> shards) {
+        return findStaleQueued(threshold, limit, inShards(shardCount, shards));
+    }
+
+    private List<DispatchJob> findStaleQueued(Instant threshold, int limit, Condition shardCondition) {
         return dsl.selectFrom(DISPATCH_JOBS)
             .where(DISPATCH_JOBS.STATUS.eq(DispatchStatus.QUEUED.name()))
             .and(DISPATCH_JOBS.UPDATED_AT.lt(toOffsetDateTime(threshold)))
+            .and(shardCondition)
             .orderBy(DISPATCH_JOBS.CREATED_AT)
             .limit(limit)
             .fetch(this::toDomain);
     }
 
+    /**
+     * Message group falls in one of the shards: first 32 bits of md5 of the effective group
+     * (null/empty is "default"), modulo the shard count. Must match MessageGroupSharding.
+     */
+    private static Condition inShards(int shardCount, Set<Integer> shards) {
+        if (shards.isEmpty()) {
+            return DSL.falseCondition();
+        }
+        return DSL.field(
+                "('x' || lpad(substr(md5(coalesce(nullif({0}, ''), 'default')), 1, 8), 16, '0'))::bit(64)::bigint",
+                Long.class, DISPATCH_JOBS.MESSAGE_GROUP)
+            .mod(shardCount)
+            .in(shards);
+    }
+
     // ========================================================================
     // Write Operations
     // ========================================================================
@@ -210,7 +319,7 @@ public class JooqDispatchJobRepository implements DispatchJobRepository {
     @Override
     public DispatchJob create(CreateDispatchJobRequest request) {
         DispatchJob job = new DispatchJob();
-        job.id = TsidGenerator.generate();
+        job.id = TsidGenerator.generate(EntityType.DISPATCH_JOB);
         job.externalId = request.externalId();
         job.source = request.source();
         job.kind = request.kind() != null ? request.kind() : DispatchKind.EVENT;
@@ -254,27 +363,131 @@ public class JooqDispatchJobRepository implements DispatchJobRepository {
         return job;
     }
 
+    @Override
+    public List<DispatchAttempt> findAttempts(String jobId) {
+        return dsl.select()
+            .from(ATTEMPTS)
+            .where(ATTEMPT_JOB_ID.eq(jobId))
+            .orderBy(ATTEMPT_NUMBER)
+            .fetch(this::toAttempt);
+    }
+
     @Override
     public void addAttempt(String jobId, DispatchAttempt attempt) {
-        // Read current attempts, add new one, and update
-        DispatchJob job = findById(jobId);
-        if (job != null) {
-            if (job.attempts == null) {
-                job.attempts = new ArrayList<>();
-            }
-            job.attempts.add(attempt);
-            job.attemptCount = job.attempts.size();
-            job.lastAttemptAt = attempt.attemptedAt;
-            job.updatedAt = Instant.now();
-
-            dsl.update(DISPATCH_JOBS)
-                .set(DISPATCH_JOBS.ATTEMPTS, toJson(job.attempts))
-                .set(DISPATCH_JOBS.ATTEMPT_COUNT, job.attemptCount)
-                .set(DISPATCH_JOBS.LAST_ATTEMPT_AT, toOffsetDateTime(job.lastAttemptAt))
-                .set(DISPATCH_JOBS.UPDATED_AT, toOffsetDateTime(job.updatedAt))
-                .where(DISPATCH_JOBS.ID.eq(jobId))
-                .execute();
+        Instant now = Instant.now();
+        if (attempt.id == null) {
+            attempt.id = TsidGenerator.generate(EntityType.DISPATCH_ATTEMPT);
+        }
+        if (attempt.createdAt == null) {
+            attempt.createdAt = now;
+        }
+
+        // One statement: the attempt is inserted in a CTE and the job is only updated if the insert
+        // kept the row, so the counter matches the attempt history, which is never rewritten.
+        // A duplicate attempt number (the same job processed twice concurrently) keeps the first row
+        // and leaves the job alone.
+        CommonTableExpression<Record> inserted = DSL.name("inserted").as(
+            dsl.insertInto(ATTEMPTS)
+                .set(ATTEMPT_ID, attempt.id)
+                .set(ATTEMPT_JOB_ID, jobId)
+                .set(ATTEMPT_NUMBER, attempt.attemptNumber)
+                .set(ATTEMPT_STATUS, attempt.status != null ? attempt.status.name() : DispatchAttemptStatus.FAILURE.name())
+                .set(ATTEMPT_STATUS_CODE, attempt.responseCode)
+                .set(ATTEMPT_RESPONSE_BODY, attempt.responseBody)
+                .set(ATTEMPT_ERROR_MESSAGE, attempt.errorMessage)
+                .set(ATTEMPT_ERROR_STACK_TRACE, attempt.errorStackTrace)
+                .set(ATTEMPT_ERROR_TYPE, attempt.errorType != null ? attempt.errorType.name() : null)
+                .set(ATTEMPT_DURATION_MILLIS, attempt.durationMillis)
+                .set(ATTEMPT_ATTEMPTED_AT, toOffsetDateTime(attempt.attemptedAt != null ? attempt.attemptedAt : now))
+                .set(ATTEMPT_COMPLETED_AT, toOffsetDateTime(attempt.completedAt))
+                .set(ATTEMPT_CREATED_AT, toOffsetDateTime(attempt.createdAt))
+                .onConflictDoNothing()
+                .returning(ATTEMPT_JOB_ID));
+
+        dsl.with(inserted)
+            .update(DISPATCH_JOBS)
+            .set(DISPATCH_JOBS.ATTEMPT_COUNT, DISPATCH_JOBS.ATTEMPT_COUNT.plus(1))
+            .set(DISPATCH_JOBS.LAST_ATTEMPT_AT, toOffsetDateTime(attempt.attemptedAt))
+            .set(DISPATCH_JOBS.UPDATED_AT, toOffsetDateTime(now))
+            .where(DISPATCH_JOBS.ID.eq(jobId))
+            .andExists(DSL.selectOne().from(inserted))
+            .execute();
+    }
+
+    @Override
+    public void recordOutcomes(List<JobOutcome> outcomes) {
+        if (outcomes == null || outcomes.isEmpty()) {
+            return;
         }
+        Instant now = Instant.now();
+        OffsetDateTime updatedAt = toOffsetDateTime(now);
+
+        // One multi-row insert for the attempts and one JDBC batch of job updates.
+        // A duplicate attempt number (the same job processed twice concurrently) keeps the first row,
+        // and only attempts the insert returned are counted on their job.
+        dsl.transaction(config -> {
+            DSLContext tx = DSL.using(config);
+            var attempts = tx.insertInto(ATTEMPTS, ATTEMPT_ID, ATTEMPT_JOB_ID, ATTEMPT_NUMBER, ATTEMPT_STATUS,
+                ATTEMPT_STATUS_CODE, ATTEMPT_RESPONSE_BODY, ATTEMPT_ERROR_MESSAGE, ATTEMPT_ERROR_STACK_TRACE,
+                ATTEMPT_ERROR_TYPE, ATTEMPT_DURATION_MILLIS, ATTEMPT_ATTEMPTED_AT, ATTEMPT_COMPLETED_AT, ATTEMPT_CREATED_AT);
+            boolean hasAttempts = false;
+
+            for (JobOutcome outcome : outcomes) {
+                DispatchAttempt attempt = outcome.attempt();
+                if (attempt == null) {
+                    continue;
+                }
+                if (attempt.id == null) {
+                    attempt.id = TsidGenerator.generate(EntityType.DISPATCH_ATTEMPT);
+                }
+                if (attempt.createdAt == null) {
+                    attempt.createdAt = now;
+                }
+                attempts = attempts.values(
+                    attempt.id,
+                    outcome.jobId(),
+                    attempt.attemptNumber,
+                    attempt.status != null ? attempt.status.name() : DispatchAttemptStatus.FAILURE.name(),
+                    attempt.responseCode,
+                    attempt.responseBody,
+                    attempt.errorMessage,
+                    attempt.errorStackTrace,
+                    attempt.errorType != null ? attempt.errorType.name() : null,
+                    attempt.durationMillis,
+                    toOffsetDateTime(attempt.attemptedAt != null ? attempt.attemptedAt : now),
+                    toOffsetDateTime(attempt.completedAt),
+                    toOffsetDateTime(attempt.createdAt));
+                hasAttempts = true;
+            }
+
+            Set<String> inserted = hasAttempts
+                ? new HashSet<>(attempts.onConflictDoNothing()
+                    .returning(ATTEMPT_JOB_ID, ATTEMPT_NUMBER)
+                    .fetch(r -> attemptKey(r.get(ATTEMPT_JOB_ID), r.get(ATTEMPT_NUMBER))))
+                : Set.of();
+
+            List<Query> updates = new ArrayList<>(outcomes.size());
+            for (JobOutcome outcome : outcomes) {
+                DispatchAttempt attempt = outcome.attempt();
+                var update = tx.update(DISPATCH_JOBS)
+                    .set(DISPATCH_JOBS.STATUS, outcome.status().name())
+                    .set(DISPATCH_JOBS.COMPLETED_AT, toOffsetDateTime(outcome.completedAt()))
+                    .set(DISPATCH_JOBS.DURATION_MILLIS, outcome.durationMillis())
+                    .set(DISPATCH_JOBS.LAST_ERROR, outcome.lastError())
+                    .set(DISPATCH_JOBS.UPDATED_AT, updatedAt);
+                if (attempt != null && inserted.contains(attemptKey(outcome.jobId(), attempt.attemptNumber))) {
+                    update = update
+                        .set(DISPATCH_JOBS.ATTEMPT_COUNT, DISPATCH_JOBS.ATTEMPT_COUNT.plus(1))
+                        .set(DISPATCH_JOBS.LAST_ATTEMPT_AT, toOffsetDateTime(attempt.attemptedAt));
+                }
+                updates.add(update.where(DISPATCH_JOBS.ID.eq(outcome.jobId())));
+            }
+            tx.batch(updates).execute();
+        });
+    }
+
+    private static String attemptKey(String jobId, Integer attemptNumber) {
+        return jobId + "#" + attemptNumber;
     }
 
     @Override
@@ -379,11 +592,20 @@ public class JooqDispatchJobRepository implements DispatchJobRepository {
         if (filter.messageGroup() != null && !filter.messageGroup().isBlank()) {
             condition = condition.and(DISPATCH_JOBS.MESSAGE_GROUP.eq(filter.messageGroup()));
         }
+        // IDs start with their creation time, so time bounds also bound the ID and let
+        // PostgreSQL skip partitions; the margin covers the gap between ID and created_at.
+        // Unprefixed IDs from before jobs had typed IDs sort below every bound and all live in
+        // the legacy partition, so they are let through and left to the created_at check
         if (filter.createdAfter() != null) {
-            condition = condition.and(DISPATCH_JOBS.CREATED_AT.gt(toOffsetDateTime(filter.createdAfter())));
+            condition = condition.and(DISPATCH_JOBS.CREATED_AT.gt(toOffsetDateTime(filter.createdAfter())))
+                .and(DISPATCH_JOBS.ID.ge(TsidGenerator.lowerBound(EntityType.DISPATCH_JOB,
+                        filter.createdAfter().minus(ID_TIME_MARGIN)))
+                    .or(DISPATCH_JOBS.ID.lt(TsidGenerator.typedFloor(EntityType.DISPATCH_JOB))));
         }
         if (filter.createdBefore() != null) {
-            condition = condition.and(DISPATCH_JOBS.CREATED_AT.lt(toOffsetDateTime(filter.createdBefore())));
+            condition = condition.and(DISPATCH_JOBS.CREATED_AT.lt(toOffsetDateTime(filter.createdBefore())))
+                .and(DISPATCH_JOBS.ID.lt(TsidGenerator.lowerBound(EntityType.DISPATCH_JOB,
+                    filter.createdBefore().plus(ID_TIME_MARGIN))));
         }
 
         return condition;
@@ -450,17 +672,26 @@ public class JooqDispatchJobRepository implements DispatchJobRepository {
             }
         }
 
-        String attemptsJson = record.get(DISPATCH_JOBS.ATTEMPTS);
-        if (attemptsJson != null && !attemptsJson.isBlank()) {
-            job.attempts = parseJson(attemptsJson, new TypeReference<List<DispatchAttempt>>() {});
-            if (job.attempts == null) {
-                job.attempts = new ArrayList<>();
-            }
-        }
-
         return job;
     }
 
+    private DispatchAttempt toAttempt(Record record) {
+        DispatchAttempt attempt = new DispatchAttempt();
+        attempt.id = record.get(ATTEMPT_ID);
+        attempt.attemptNumber = record.get(ATTEMPT_NUMBER);
+        attempt.status = parseEnum(record.get(ATTEMPT_STATUS), DispatchAttemptStatus.class);
+        attempt.responseCode = record.get(ATTEMPT_STATUS_CODE);
+        attempt.responseBody = record.get(ATTEMPT_RESPONSE_BODY);
+        attempt.errorMessage = record.get(ATTEMPT_ERROR_MESSAGE);
+        attempt.errorStackTrace = record.get(ATTEMPT_ERROR_STACK_TRACE);
+        attempt.errorType = parseEnum(record.get(ATTEMPT_ERROR_TYPE), ErrorType.class);
+        attempt.durationMillis = record.get(ATTEMPT_DURATION_MILLIS);
+        attempt.attemptedAt = toInstant(record.get(ATTEMPT_ATTEMPTED_AT));
+        attempt.completedAt = toInstant(record.get(ATTEMPT_COMPLETED_AT));
+        attempt.createdAt = toInstant(record.get(ATTEMPT_CREATED_AT));
+        return attempt;
+    }
+
     private DispatchJobsRecord toRecord(DispatchJob job) {
         DispatchJobsRecord rec = new DispatchJobsRecord();
         rec.setId(job.id);
@@ -500,7 +731,6 @@ public class JooqDispatchJobRepository implements DispatchJobRepository {
         // JSONB fields
         rec.setMetadata(toJson(job.metadata != null ? job.metadata : new ArrayList<>()));
         rec.setHeaders(toJson(job.headers != null ? job.headers : new HashMap<>()));
-        rec.setAttempts(toJson(job.attempts != null ? job.attempts : new ArrayList<>()));
 
         return rec;
     }
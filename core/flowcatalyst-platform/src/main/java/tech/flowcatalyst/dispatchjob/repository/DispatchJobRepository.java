@@ -8,8 +8,10 @@ import tech.flowcatalyst.dispatchjob.model.DispatchStatus;
 import tech.flowcatalyst.platform.common.Page;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -17,13 +19,21 @@ import java.util.Set;
  * Repository interface for DispatchJob entities.
  * Exposes only approved data access methods - Panache internals are hidden.
  *
- * Uses embedded documents for metadata and attempts arrays.
+ * Metadata is embedded in the job; attempts are stored append-only, one row per attempt.
  */
 public interface DispatchJobRepository {
 
     // Read operations
     DispatchJob findById(String id);
     Optional<DispatchJob> findByIdOptional(String id);
+
+    /**
+     * Find the jobs with the given IDs in one query. IDs without a job are skipped.
+     */
+    default List<DispatchJob> findByIds(Collection<String> ids) {
+        return ids.stream().map(this::findById).filter(Objects::nonNull).toList();
+    }
+
     List<DispatchJob> findWithFilter(DispatchJobFilter filter);
     List<DispatchJob> findByMetadata(String key, String value);
     List<DispatchJob> findByMetadataFilters(Map<String, String> metadataFilters);
@@ -62,6 +72,43 @@ public interface DispatchJobRepository {
 
     // Scheduler query methods
     List<DispatchJob> findPendingJobs(int limit);
+
+    /**
+     * Find PENDING jobs whose message group hashes into one of the given shards
+     * (partitioned ownership; hash as in {@code MessageGroupSharding} in flowcatalyst-standby).
+     */
+    default List<DispatchJob> findPendingJobs(int limit, int shardCount, Set<Integer> shards) {
+        throw new UnsupportedOperationException("Sharded polling not implemented");
+    }
+
+    /**
+     * Find PENDING jobs without a scheduled time, for when scheduled jobs are dispatched by the timing wheel.
+     */
+    default List<DispatchJob> findUnscheduledPendingJobs(int limit) {
+        throw new UnsupportedOperationException("Scheduled dispatch not implemented");
+    }
+
+    /**
+     * Find PENDING jobs without a scheduled time whose message group hashes into one of the given shards.
+     */
+    default List<DispatchJob> findUnscheduledPendingJobs(int limit, int shardCount, Set<Integer> shards) {
+        throw new UnsupportedOperationException("Sharded polling not implemented");
+    }
+
+    /**
+     * Find PENDING jobs scheduled at or before {@code until}, earliest first. Overdue jobs are included.
+     */
+    default List<DispatchJob> findScheduledJobs(Instant until, int limit) {
+        throw new UnsupportedOperationException("Scheduled dispatch not implemented");
+    }
+
+    /**
+     * Find PENDING jobs scheduled at or before {@code until} whose message group hashes into one of the given shards.
+     */
+    default List<DispatchJob> findScheduledJobs(Instant until, int limit, int shardCount, Set<Integer> shards) {
+        throw new UnsupportedOperationException("Sharded polling not implemented");
+    }
+
     long countByMessageGroupAndStatus(String messageGroup, DispatchStatus status);
     Set<String> findGroupsWithErrors(Set<String> messageGroups);
 
@@ -69,14 +116,59 @@ public interface DispatchJobRepository {
     List<DispatchJob> findStaleQueued(Instant threshold);
     List<DispatchJob> findStaleQueued(Instant threshold, int limit);
 
+    /**
+     * Find stale QUEUED jobs whose message group hashes into one of the given shards.
+     */
+    default List<DispatchJob> findStaleQueued(Instant threshold, int limit, int shardCount, Set<Integer> shards) {
+        throw new UnsupportedOperationException("Sharded polling not implemented");
+    }
+
+    /**
+     * Delivery attempts of a job, oldest first. Jobs are loaded without their attempts.
+     */
+    List<DispatchAttempt> findAttempts(String jobId);
+
     // Write operations
     DispatchJob create(CreateDispatchJobRequest request);
+
+    /**
+     * Record a delivery attempt: appends the attempt and increments the job's attempt count.
+     */
     void addAttempt(String jobId, DispatchAttempt attempt);
     void updateStatus(String jobId, DispatchStatus status, Instant completedAt, Long durationMillis, String lastError);
     void updateStatusBatch(List<String> ids, DispatchStatus status);
+
+    /**
+     * Record the outcome of several jobs at once: appends each attempt, increments the attempt
+     * counts and sets the new statuses, in one transaction.
+     */
+    default void recordOutcomes(List<JobOutcome> outcomes) {
+        for (JobOutcome outcome : outcomes) {
+            if (outcome.attempt() != null) {
+                addAttempt(outcome.jobId(), outcome.attempt());
+            }
+            updateStatus(outcome.jobId(), outcome.status(), outcome.completedAt(), outcome.durationMillis(), outcome.lastError());
+        }
+    }
+
     void persist(DispatchJob job);
     void persistAll(List<DispatchJob> jobs);
     void update(DispatchJob job);
     void delete(DispatchJob job);
     boolean deleteById(String id);
+
+    /**
+     * New state of a job after processing.
+     *
+     * @param attempt the delivery attempt to append, or null if the job was not sent
+     */
+    record JobOutcome(
+        String jobId,
+        DispatchAttempt attempt,
+        DispatchStatus status,
+        Instant completedAt,
+        Long durationMillis,
+        String lastError
+    ) {
+    }
 }
@@ -1,14 +1,15 @@
 package tech.flowcatalyst.dispatchjob.security;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.util.HexFormat;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,35 +17,87 @@ import java.util.Optional;
  *
  * <p>This implements the authentication flow between the platform and message router:</p>
  * <ol>
- *   <li>Platform creates a dispatch job and generates an HMAC token using the app key</li>
+ *   <li>Platform creates a dispatch job and generates an HMAC token using the signing key</li>
  *   <li>Platform sends the job to SQS with the token in the MessagePointer</li>
  *   <li>Message router receives the message and calls back to platform with the same token</li>
  *   <li>Platform validates the token by re-computing the HMAC and comparing</li>
  * </ol>
  *
- * <p>The token is computed as: HMAC-SHA256(dispatchJobId, appKey)</p>
+ * <p>The token is computed as: HMAC-SHA256(dispatchJobId, signingKey), where the signing key is
+ * {@code flowcatalyst.dispatch-auth.key}, or the app key if that is not set.</p>
+ *
+ * <p><b>Key rotation:</b> with {@code flowcatalyst.dispatch-auth.key-id} set, tokens are
+ * {@code <keyId>.<hex>} and are validated with the key of that ID. Keys listed in
+ * {@code flowcatalyst.dispatch-auth.previous-keys} as {@code <keyId>:<key>} still validate the
+ * tokens of messages queued before a rotation. Tokens without a key ID are validated against every
+ * configured key, so unversioned tokens stay valid while versioning is introduced.</p>
  */
 @ApplicationScoped
 public class DispatchAuthService {
 
     private static final Logger LOG = Logger.getLogger(DispatchAuthService.class);
-    private static final String ALGORITHM = "HmacSHA256";
 
     @ConfigProperty(name = "flowcatalyst.app-key")
     Optional<String> appKey;
 
+    @ConfigProperty(name = "flowcatalyst.dispatch-auth.key")
+    Optional<String> signingKey;
+
+    @ConfigProperty(name = "flowcatalyst.dispatch-auth.key-id")
+    Optional<String> keyId;
+
+    @ConfigProperty(name = "flowcatalyst.dispatch-auth.previous-keys")
+    Optional<List<String>> previousKeys;
+
+    /** Key new tokens are signed with, or null if no key is configured. */
+    private HmacKey currentKey;
+    /** Every configured key by ID, including the current one if it has an ID. */
+    private final Map<String, HmacKey> keysById = new HashMap<>();
+    /** Every configured key, current first. */
+    private final List<HmacKey> keys = new ArrayList<>();
+
+    @PostConstruct
+    void init() {
+        Optional<String> secret = signingKey.filter(key -> !key.isBlank()).or(() -> appKey.filter(key -> !key.isBlank()));
+        if (secret.isPresent()) {
+            currentKey = new HmacKey(keyId.filter(id -> !id.isBlank()).orElse(null), secret.get());
+            addKey(currentKey);
+        }
+        for (String entry : previousKeys.orElse(List.of())) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0 || separator == entry.length() - 1) {
+                throw new IllegalStateException(
+                    "flowcatalyst.dispatch-auth.previous-keys entries must be <keyId>:<key>");
+            }
+            addKey(new HmacKey(entry.substring(0, separator).trim(), entry.substring(separator + 1).trim()));
+        }
+    }
+
+    private void addKey(HmacKey key) {
+        if (key.getId() != null) {
+            if (key.getId().indexOf('.') >= 0) {
+                throw new IllegalStateException("Dispatch auth key ID must not contain '.': " + key.getId());
+            }
+            if (keysById.putIfAbsent(key.getId(), key) != null) {
+                throw new IllegalStateException("Duplicate dispatch auth key ID: " + key.getId());
+            }
+        }
+        keys.add(key);
+    }
+
     /**
      * Generate an HMAC-SHA256 auth token for a dispatch job ID.
      *
      * @param dispatchJobId The dispatch job ID to generate a token for
-     * @return The hex-encoded HMAC-SHA256 token
+     * @return The hex-encoded HMAC-SHA256 token, prefixed with the key ID if one is configured
      * @throws IllegalStateException if the app key is not configured
      */
     public String generateAuthToken(String dispatchJobId) {
-        String key = appKey.orElseThrow(() ->
-            new IllegalStateException("flowcatalyst.app-key is not configured. Cannot generate auth token."));
-
-        return hmacSha256Hex(dispatchJobId, key);
+        if (currentKey == null) {
+            throw new IllegalStateException("flowcatalyst.app-key is not configured. Cannot generate auth token.");
+        }
+        String hex = currentKey.signHex(dispatchJobId);
+        return currentKey.getId() != null ? currentKey.getId() + "." + hex : hex;
     }
 
     /**
@@ -55,51 +108,63 @@ public class DispatchAuthService {
      * @return true if the token is valid, false otherwise
      */
     public boolean validateAuthToken(String dispatchJobId, String token) {
-        if (token == null || token.isBlank() || dispatchJobId == null || dispatchJobId.isBlank()) {
-            return false;
-        }
-
-        if (appKey.isEmpty()) {
+        if (keys.isEmpty()) {
             LOG.error("flowcatalyst.app-key is not configured. Cannot validate auth token.");
             return false;
         }
+        return isValid(dispatchJobId, token);
+    }
 
-        try {
-            String expected = generateAuthToken(dispatchJobId);
-            // Use constant-time comparison to prevent timing attacks
-            return MessageDigest.isEqual(
-                expected.getBytes(StandardCharsets.UTF_8),
-                token.getBytes(StandardCharsets.UTF_8)
-            );
-        } catch (Exception e) {
-            LOG.errorf(e, "Error validating auth token for dispatch job [%s]", dispatchJobId);
-            return false;
+    /**
+     * Validate the auth tokens of a batch processing request.
+     *
+     * @param dispatchJobIds Dispatch job IDs from the request
+     * @param tokens The token sent with each job, in the same order
+     * @return Indexes of the valid tokens
+     */
+    public BitSet validateAuthTokens(List<String> dispatchJobIds, List<String> tokens) {
+        BitSet valid = new BitSet(dispatchJobIds.size());
+        if (keys.isEmpty()) {
+            LOG.error("flowcatalyst.app-key is not configured. Cannot validate auth tokens.");
+            return valid;
         }
+        for (int i = 0; i < dispatchJobIds.size(); i++) {
+            if (isValid(dispatchJobIds.get(i), tokens.get(i))) {
+                valid.set(i);
+            }
+        }
+        return valid;
     }
 
     /**
      * Check if the app key is configured.
      */
     public boolean isConfigured() {
-        return appKey.isPresent() && !appKey.get().isBlank();
+        return currentKey != null;
     }
 
-    private String hmacSha256Hex(String data, String secret) {
-        try {
-            Mac mac = Mac.getInstance(ALGORITHM);
-            SecretKeySpec secretKeySpec = new SecretKeySpec(
-                secret.getBytes(StandardCharsets.UTF_8),
-                ALGORITHM
-            );
-            mac.init(secretKeySpec);
-
-            byte[] hash = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-
-            // Return as hex string (lowercase)
-            return HexFormat.of().formatHex(hash);
+    private boolean isValid(String dispatchJobId, String token) {
+        if (token == null || token.isBlank() || dispatchJobId == null || dispatchJobId.isBlank()) {
+            return false;
+        }
 
+        try {
+            // Hex has no '.', so a '.' separates the key ID
+            int separator = token.lastIndexOf('.');
+            if (separator >= 0) {
+                HmacKey key = keysById.get(token.substring(0, separator));
+                return key != null && key.verifyHex(dispatchJobId, token, separator + 1);
+            }
+            // Unversioned token: signed before key IDs were configured
+            for (HmacKey key : keys) {
+                if (key.verifyHex(dispatchJobId, token, 0)) {
+                    return true;
+                }
+            }
+            return false;
         } catch (Exception e) {
-            throw new RuntimeException("Failed to generate HMAC-SHA256", e);
+            LOG.errorf(e, "Error validating auth token for dispatch job [%s]", dispatchJobId);
+            return false;
         }
     }
 }
@@ -0,0 +1,94 @@
+package tech.flowcatalyst.dispatchjob.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * HMAC-SHA256 key that signs and verifies short strings as lowercase hex, safe to share between
+ * threads.
+ *
+ * <p>Looking up a {@link Mac} and initialising it with a key costs more than signing a job ID.
+ * Each key keeps initialised instances in a small pool: a caller borrows one, signs, and gives it
+ * back, so the key is set up once per pooled instance rather than once per token. A pool rather
+ * than a thread local, because the callers run on virtual threads that each sign only a few
+ * tokens. When the pool is empty a new instance is cloned from an initialised prototype.</p>
+ */
+public final class HmacKey {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int POOL_SIZE = 64;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String id;
+    private final Mac prototype;
+    private final ArrayBlockingQueue<Mac> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /**
+     * @param id     key ID carried in tokens signed with this key, or null for unversioned tokens
+     * @param secret HMAC secret
+     */
+    public HmacKey(String id, String secret) {
+        this.id = id;
+        try {
+            prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialise HMAC-SHA256", e);
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * HMAC of {@code data} as lowercase hex.
+     */
+    public String signHex(String data) {
+        return HexFormat.of().formatHex(sign(data));
+    }
+
+    /**
+     * Whether {@code token} holds the lowercase hex HMAC of {@code data} from {@code offset} to its
+     * end. Compares in constant time for a token of the right length.
+     */
+    public boolean verifyHex(String data, String token, int offset) {
+        if (token.length() - offset != prototype.getMacLength() * 2) {
+            return false;
+        }
+        byte[] expected = sign(data);
+        int diff = 0;
+        for (int i = 0; i < expected.length; i++) {
+            int b = expected[i];
+            diff |= token.charAt(offset + 2 * i) ^ HEX[(b >> 4) & 0xF];
+            diff |= token.charAt(offset + 2 * i + 1) ^ HEX[b & 0xF];
+        }
+        return diff == 0;
+    }
+
+    private byte[] sign(String data) {
+        Mac mac = borrow();
+        try {
+            // doFinal resets the Mac for the next caller
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            pool.offer(mac);
+        }
+    }
+
+    private Mac borrow() {
+        Mac mac = pool.poll();
+        if (mac != null) {
+            return mac;
+        }
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HMAC-SHA256 provider does not support cloning", e);
+        }
+    }
+}
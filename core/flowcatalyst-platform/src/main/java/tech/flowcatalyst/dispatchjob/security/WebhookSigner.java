@@ -31,44 +31,80 @@ public class WebhookSigner {
      * @return A signed webhook request with signature, timestamp, and bearer token
      */
     public SignedWebhookRequest sign(String payload, String authToken, String signingSecret) {
-        // Generate ISO8601 timestamp with millisecond precision
-        String timestamp = Instant.now()
-            .truncatedTo(ChronoUnit.MILLIS)
-            .toString();
-
-        // Create signature payload: timestamp + body
-        String signaturePayload = timestamp + payload;
-
-        // Generate HMAC SHA-256 signature
-        String signature = generateHmacSha256(signaturePayload, signingSecret);
+        Signature signature = begin(signingSecret);
+        byte[] body = payload.getBytes(StandardCharsets.UTF_8);
+        signature.update(body, 0, body.length);
 
         return new SignedWebhookRequest(
             payload,
-            signature,
-            timestamp,
+            signature.finish(),
+            signature.timestamp(),
             authToken
         );
     }
 
-    private String generateHmacSha256(String data, String secret) {
+    /**
+     * Start a signature whose body is supplied incrementally, as it is written.
+     *
+     * <p>The timestamp is fixed and fed into the HMAC here, so the result is the same as
+     * {@link #sign} over the concatenated body.</p>
+     *
+     * @param signingSecret The secret key for HMAC-SHA256 signing
+     * @return A signature ready for {@link Signature#update}
+     */
+    public Signature begin(String signingSecret) {
+        // Generate ISO8601 timestamp with millisecond precision
+        String timestamp = Instant.now()
+            .truncatedTo(ChronoUnit.MILLIS)
+            .toString();
+
         try {
             Mac mac = Mac.getInstance(ALGORITHM);
             SecretKeySpec secretKeySpec = new SecretKeySpec(
-                secret.getBytes(StandardCharsets.UTF_8),
+                signingSecret.getBytes(StandardCharsets.UTF_8),
                 ALGORITHM
             );
             mac.init(secretKeySpec);
 
-            byte[] hash = mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
-
-            // Return as hex string (lowercase)
-            return HexFormat.of().formatHex(hash);
+            // Signature payload: timestamp + body
+            mac.update(timestamp.getBytes(StandardCharsets.UTF_8));
+            return new Signature(mac, timestamp);
 
         } catch (Exception e) {
             throw new RuntimeException("Failed to generate webhook signature", e);
         }
     }
 
+    /**
+     * An HMAC-SHA256 webhook signature in progress. Not thread-safe.
+     */
+    public static final class Signature {
+        private final Mac mac;
+        private final String timestamp;
+
+        private Signature(Mac mac, String timestamp) {
+            this.mac = mac;
+            this.timestamp = timestamp;
+        }
+
+        public void update(byte[] body, int offset, int length) {
+            mac.update(body, offset, length);
+        }
+
+        public String timestamp() {
+            return timestamp;
+        }
+
+        /**
+         * Finish the signature.
+         *
+         * @return The signature as a lowercase hex string
+         */
+        public String finish() {
+            return HexFormat.of().formatHex(mac.doFinal());
+        }
+    }
+
     public record SignedWebhookRequest(
         String payload,
         String signature,
@@ -17,12 +17,24 @@ import tech.flowcatalyst.dispatchjob.model.ErrorType;
 import tech.flowcatalyst.dispatchjob.model.MediationType;
 import tech.flowcatalyst.dispatchjob.model.MessagePointer;
 import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
+import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository.JobOutcome;
 import tech.flowcatalyst.dispatchjob.security.DispatchAuthService;
+import tech.flowcatalyst.platform.jdbc.DatabaseBusyException;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Service for managing and processing dispatch jobs.
@@ -35,6 +47,9 @@ public class DispatchJobService {
     private static final MediationType MEDIATION_TYPE = MediationType.HTTP;
     private static final String PROCESSING_ENDPOINT = "http://localhost:8080/api/dispatch/process";
 
+    /** Retry delay of a job in a batch that the database rejected under load */
+    private static final int DATABASE_BUSY_DELAY_SECONDS = 1;
+
     @Inject
     DispatchJobRepository dispatchJobRepository;
 
@@ -127,15 +142,110 @@ public class DispatchJobService {
         // Update status to IN_PROGRESS
         dispatchJobRepository.updateStatus(job.id, DispatchStatus.IN_PROGRESS, null, null, null);
 
+        Delivery delivery = deliver(job);
+
+        // Add attempt atomically (single MongoDB operation)
+        JobOutcome outcome = delivery.outcome();
+        if (outcome.attempt() != null) {
+            dispatchJobRepository.addAttempt(job.id, outcome.attempt());
+        }
+        dispatchJobRepository.updateStatus(
+            job.id, outcome.status(), outcome.completedAt(), outcome.durationMillis(), outcome.lastError());
+        return delivery.result();
+    }
+
+    /**
+     * Process the dispatch jobs of one batch mediation request.
+     *
+     * <p>Jobs are loaded with one query and marked IN_PROGRESS with one update, their webhooks are
+     * sent concurrently, and all attempts and new statuses are written in one transaction.
+     * A job that fails on its own (not found, no credentials, unexpected error) gets its own
+     * result and does not affect the others.</p>
+     *
+     * @param dispatchJobIds IDs from the request; duplicates are processed once
+     * @return result per job ID, in request order
+     */
+    public Map<String, DispatchJobProcessResult> processDispatchJobs(List<String> dispatchJobIds) {
+        Set<String> ids = new LinkedHashSet<>(dispatchJobIds);
+        Map<String, DispatchJob> jobs = new HashMap<>();
+        for (DispatchJob job : dispatchJobRepository.findByIds(ids)) {
+            jobs.put(job.id, job);
+        }
+
+        LOG.infof("Processing batch of %d dispatch jobs (%d found)", ids.size(), jobs.size());
+
+        dispatchJobRepository.updateStatusBatch(new ArrayList<>(jobs.keySet()), DispatchStatus.IN_PROGRESS);
+
+        // Webhooks go to unrelated endpoints - send them side by side rather than one after another
+        Map<String, Future<Delivery>> deliveries = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (DispatchJob job : jobs.values()) {
+                deliveries.put(job.id, executor.submit(() -> deliver(job)));
+            }
+        }
+
+        Map<String, DispatchJobProcessResult> results = new LinkedHashMap<>();
+        List<JobOutcome> outcomes = new ArrayList<>(jobs.size());
+        for (String id : ids) {
+            Future<Delivery> delivery = deliveries.get(id);
+            if (delivery == null) {
+                LOG.warnf("Dispatch job not found: %s", id);
+                results.put(id, DispatchJobProcessResult.permanentError("Cannot find record."));
+                continue;
+            }
+            try {
+                Delivery done = delivery.get();
+                outcomes.add(done.outcome());
+                results.put(id, done.result());
+            } catch (ExecutionException e) {
+                results.put(id, failedResult(id, e.getCause()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.put(id, new DispatchJobProcessResult(false, "Interrupted", null));
+            }
+        }
+
+        dispatchJobRepository.recordOutcomes(outcomes);
+        return results;
+    }
+
+    /**
+     * Result of a job in a batch that failed before it had an outcome, matching what
+     * {@code DispatchProcessingResource} returns for the same failure of a single job.
+     */
+    private DispatchJobProcessResult failedResult(String id, Throwable e) {
+        if (e instanceof IllegalArgumentException) {
+            LOG.warnf("Dispatch job [%s] cannot be processed: %s", id, e.getMessage());
+            return DispatchJobProcessResult.permanentError("Cannot find record.");
+        }
+        if (e instanceof DatabaseBusyException) {
+            LOG.warnf("Database busy, deferring dispatch job [%s]: %s", id, e.getMessage());
+            return DispatchJobProcessResult.transientError("Database busy", DATABASE_BUSY_DELAY_SECONDS);
+        }
+        LOG.errorf(e, "Error processing dispatch job: %s", id);
+        return new DispatchJobProcessResult(false, e.getMessage(), null);
+    }
+
+    /**
+     * Send a job's webhook and decide its new state. Writes nothing.
+     */
+    private Delivery deliver(DispatchJob job) {
         // Resolve credentials from ServiceAccount
         ResolvedCredentials credentials = credentialsService.resolveCredentials(job)
             .orElseThrow(() -> new IllegalArgumentException("Credentials not found for job: " + job.id));
 
         // Dispatch webhook
-        DispatchAttempt attempt = webhookDispatcher.sendWebhook(job, credentials);
-
-        // Add attempt atomically (single MongoDB operation)
-        dispatchJobRepository.addAttempt(job.id, attempt);
+        DispatchAttempt attempt;
+        try {
+            attempt = webhookDispatcher.sendWebhook(job, credentials);
+        } catch (WebhookDispatcher.EndpointOverloadedException e) {
+            // Not sent - requeue without counting an attempt, keeping the previous error
+            LOG.infof("Dispatch job [%s] deferred: %s, will retry in %ds",
+                job.id, e.getMessage(), e.getRetryAfterSeconds());
+            return new Delivery(
+                new JobOutcome(job.id, null, DispatchStatus.QUEUED, null, null, job.lastError),
+                DispatchJobProcessResult.transientError(e.getMessage(), e.getRetryAfterSeconds()));
+        }
 
         // Update job based on attempt result
         int newAttemptCount = job.attemptCount + 1;
@@ -145,11 +255,10 @@ public class DispatchJobService {
             Instant completedAt = Instant.now();
             Long duration = Duration.between(job.createdAt, completedAt).toMillis();
 
-            dispatchJobRepository.updateStatus(
-                job.id, DispatchStatus.COMPLETED, completedAt, duration, null);
-
             LOG.infof("Dispatch job [%s] completed successfully", job.id);
-            return DispatchJobProcessResult.success("");
+            return new Delivery(
+                new JobOutcome(job.id, attempt, DispatchStatus.COMPLETED, completedAt, duration, null),
+                DispatchJobProcessResult.success(""));
 
         } else {
             // Failure - check if we should retry based on error type and retry count
@@ -161,37 +270,45 @@ public class DispatchJobService {
                 // ACK to remove from queue
                 Instant completedAt = Instant.now();
                 Long duration = Duration.between(job.createdAt, completedAt).toMillis();
-
-                dispatchJobRepository.updateStatus(
-                    job.id, DispatchStatus.ERROR, completedAt, duration, attempt.errorMessage);
+                JobOutcome outcome = new JobOutcome(
+                    job.id, attempt, DispatchStatus.ERROR, completedAt, duration, attempt.errorMessage);
 
                 if (isNotTransient) {
                     LOG.warnf("Dispatch job [%s] failed with non-transient error, marking as ERROR", job.id);
-                    return DispatchJobProcessResult.permanentError("Non-transient error");
+                    return new Delivery(outcome, DispatchJobProcessResult.permanentError("Non-transient error"));
                 } else {
                     LOG.warnf("Dispatch job [%s] failed after %d attempts, marking as ERROR", job.id, newAttemptCount);
-                    return DispatchJobProcessResult.permanentError("Max attempts exhausted");
+                    return new Delivery(outcome, DispatchJobProcessResult.permanentError("Max attempts exhausted"));
                 }
 
             } else {
                 // More attempts available and error is transient - NACK for retry with backoff
-                dispatchJobRepository.updateStatus(
-                    job.id, DispatchStatus.QUEUED, null, null, attempt.errorMessage);
-
                 // Calculate exponential backoff delay based on attempt count
                 int backoffDelay = DispatchJobProcessResult.calculateBackoffDelay(newAttemptCount);
 
                 LOG.warnf("Dispatch job [%s] failed, attempt %d/%d, will retry in %ds",
                     job.id, newAttemptCount, job.maxRetries, backoffDelay);
-                return DispatchJobProcessResult.transientError("Error but retries not exhausted.", backoffDelay);
+                return new Delivery(
+                    new JobOutcome(job.id, attempt, DispatchStatus.QUEUED, null, null, attempt.errorMessage),
+                    DispatchJobProcessResult.transientError("Error but retries not exhausted.", backoffDelay));
             }
         }
     }
 
+    /**
+     * New state of a processed job and the response for the message router.
+     */
+    private record Delivery(JobOutcome outcome, DispatchJobProcessResult result) {
+    }
+
     public Optional<DispatchJob> findById(String id) {
         return dispatchJobRepository.findByIdOptional(id);
     }
 
+    public List<DispatchAttempt> findAttempts(String dispatchJobId) {
+        return dispatchJobRepository.findAttempts(dispatchJobId);
+    }
+
     public List<DispatchJob> findWithFilter(DispatchJobFilter filter) {
         return dispatchJobRepository.findWithFilter(filter);
     }
@@ -0,0 +1,96 @@
+package tech.flowcatalyst.dispatchjob.service;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Response body subscriber that keeps only the first {@code limit} bytes and discards the rest.
+ *
+ * <p>The remainder is still read, so the connection can be reused, but it is never buffered.
+ * A body longer than the limit ends with {@code "... (truncated)"}.</p>
+ */
+final class TruncatingBodySubscriber implements HttpResponse.BodySubscriber<String> {
+
+    static final String TRUNCATED_SUFFIX = "... (truncated)";
+
+    private final int limit;
+    private final Charset charset;
+    private final CompletableFuture<String> body = new CompletableFuture<>();
+
+    private byte[] head;
+    private int length;
+    private boolean truncated;
+
+    TruncatingBodySubscriber(int limit, Charset charset) {
+        this.limit = limit;
+        this.charset = charset;
+    }
+
+    /**
+     * Body handler keeping at most {@code limit} bytes of each response, decoded with the
+     * charset of its Content-Type (UTF-8 if absent).
+     */
+    static HttpResponse.BodyHandler<String> handler(int limit) {
+        return responseInfo -> new TruncatingBodySubscriber(limit, charsetOf(responseInfo.headers()));
+    }
+
+    static Charset charsetOf(HttpHeaders headers) {
+        String contentType = headers.firstValue("Content-Type").orElse("");
+        for (String parameter : contentType.split(";")) {
+            String[] pair = parameter.trim().split("=", 2);
+            if (pair.length == 2 && pair[0].trim().equalsIgnoreCase("charset")) {
+                try {
+                    return Charset.forName(pair[1].trim().replace("\"", ""));
+                } catch (IllegalArgumentException e) {
+                    return StandardCharsets.UTF_8;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+        for (ByteBuffer item : items) {
+            int take = Math.min(item.remaining(), limit - length);
+            if (take > 0) {
+                if (head == null) {
+                    head = new byte[limit];
+                }
+                item.get(head, length, take);
+                length += take;
+            }
+            if (item.hasRemaining()) {
+                truncated = true;
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        body.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        String text = length == 0 ? "" : new String(head, 0, length, charset);
+        body.complete(truncated ? text + TRUNCATED_SUFFIX : text);
+    }
+
+    @Override
+    public CompletionStage<String> getBody() {
+        return body;
+    }
+}
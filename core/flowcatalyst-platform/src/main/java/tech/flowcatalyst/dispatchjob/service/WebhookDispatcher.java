@@ -1,10 +1,15 @@
 package tech.flowcatalyst.dispatchjob.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
+import tech.flowcatalyst.concurrency.AdaptiveConcurrencyLimiter;
 import tech.flowcatalyst.dispatchjob.entity.DispatchAttempt;
 import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
 import tech.flowcatalyst.dispatchjob.model.DispatchAttemptStatus;
@@ -12,6 +17,7 @@ import tech.flowcatalyst.dispatchjob.model.ErrorType;
 import tech.flowcatalyst.dispatchjob.security.WebhookSigner;
 import tech.flowcatalyst.dispatchjob.service.CredentialsService.ResolvedCredentials;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.net.URI;
@@ -21,6 +27,7 @@ import java.net.http.HttpResponse;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.concurrent.Executors;
 
 /**
@@ -52,6 +59,15 @@ import java.util.concurrent.Executors;
  *   "data": { ... original payload ... }
  * }
  * }</pre>
+ *
+ * <p>The payload is rendered straight into a pooled byte buffer and signed as it is written, then
+ * sent from that buffer. Only the first {@value #MAX_RESPONSE_BODY_LENGTH} bytes of the response
+ * are kept; the rest is read and discarded.</p>
+ *
+ * <h2>Concurrency Limits</h2>
+ * <p>Each target endpoint (scheme, host and port) has an {@link AdaptiveConcurrencyLimiter adaptive
+ * concurrency limit}. A webhook to an endpoint at its limit is not sent; {@link EndpointOverloadedException}
+ * is thrown instead so the job can be requeued without using up an attempt.</p>
  */
 @ApplicationScoped
 public class WebhookDispatcher {
@@ -75,6 +91,29 @@ public class WebhookDispatcher {
     @Inject
     ObjectMapper objectMapper;
 
+    @ConfigProperty(name = "flowcatalyst.dispatch.adaptive-concurrency.enabled", defaultValue = "true")
+    boolean adaptiveConcurrencyEnabled;
+
+    @ConfigProperty(name = "flowcatalyst.dispatch.adaptive-concurrency.initial-limit", defaultValue = "20")
+    int initialLimit;
+
+    @ConfigProperty(name = "flowcatalyst.dispatch.adaptive-concurrency.min-limit", defaultValue = "1")
+    int minLimit;
+
+    @ConfigProperty(name = "flowcatalyst.dispatch.adaptive-concurrency.max-limit", defaultValue = "500")
+    int maxLimit;
+
+    @ConfigProperty(name = "flowcatalyst.dispatch.adaptive-concurrency.backoff-ratio", defaultValue = "0.75")
+    double backoffRatio;
+
+    @ConfigProperty(name = "flowcatalyst.dispatch.adaptive-concurrency.latency-tolerance", defaultValue = "2.0")
+    double latencyTolerance;
+
+    @ConfigProperty(name = "flowcatalyst.dispatch.adaptive-concurrency.shed-delay-seconds", defaultValue = "5")
+    int shedDelaySeconds;
+
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
     public WebhookDispatcher() {
         this.httpClient = HttpClient.newBuilder()
             .version(HttpClient.Version.HTTP_2)
@@ -83,6 +122,21 @@ public class WebhookDispatcher {
             .build();
     }
 
+    @PostConstruct
+    void init() {
+        if (adaptiveConcurrencyEnabled) {
+            concurrencyLimiter = new AdaptiveConcurrencyLimiter(new AdaptiveConcurrencyLimiter.Settings(
+                initialLimit, minLimit, maxLimit, backoffRatio, latencyTolerance));
+        }
+    }
+
+    /**
+     * Adaptive concurrency limits of the webhook endpoints dispatched to so far.
+     */
+    public List<AdaptiveConcurrencyLimiter.EndpointStats> getEndpointLimits() {
+        return concurrencyLimiter != null ? concurrencyLimiter.getStats() : List.of();
+    }
+
     /**
      * Send a webhook using resolved credentials.
      *
@@ -101,27 +155,31 @@ public class WebhookDispatcher {
      * @param authToken     The bearer token for Authorization header
      * @param signingSecret The secret for HMAC signing
      * @return The dispatch attempt result
+     * @throws EndpointOverloadedException if the target endpoint is at its concurrency limit (nothing was sent)
      */
     public DispatchAttempt sendWebhook(DispatchJob job, String authToken, String signingSecret) {
+        AdaptiveConcurrencyLimiter.Permit permit = acquirePermit(job);
         Instant attemptStart = Instant.now();
+        HttpResponse<String> response = null;
+        Exception error = null;
+
+        WebhookPayload payload = null;
+        boolean sent = false;
 
         try {
             LOG.debugf("Sending webhook for dispatch job [%s] to [%s]", (Object) job.id, job.targetUrl);
 
-            // Prepare payload (raw or envelope)
-            String requestBody = preparePayload(job, attemptStart);
-
-            // Sign the webhook
-            WebhookSigner.SignedWebhookRequest signed = webhookSigner.sign(requestBody, authToken, signingSecret);
+            // Render the payload (raw or envelope), signing it as it is written
+            payload = renderPayload(job, attemptStart, signingSecret);
 
             // Build HTTP request
             HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
                 .uri(URI.create(job.targetUrl))
-                .header("Authorization", "Bearer " + signed.bearerToken())
-                .header(WebhookSigner.SIGNATURE_HEADER, signed.signature())
-                .header(WebhookSigner.TIMESTAMP_HEADER, signed.timestamp())
+                .header("Authorization", "Bearer " + authToken)
+                .header(WebhookSigner.SIGNATURE_HEADER, payload.signature())
+                .header(WebhookSigner.TIMESTAMP_HEADER, payload.timestamp())
                 .header("Content-Type", job.payloadContentType)
-                .POST(HttpRequest.BodyPublishers.ofString(signed.payload()))
+                .POST(payload.publisher())
                 .timeout(Duration.ofSeconds(job.timeoutSeconds));
 
             // Add FlowCatalyst headers
@@ -134,56 +192,118 @@ public class WebhookDispatcher {
 
             HttpRequest request = requestBuilder.build();
 
-            // Send request
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            // Send request, keeping at most MAX_RESPONSE_BODY_LENGTH bytes of the response
+            response = httpClient.send(request, TruncatingBodySubscriber.handler(MAX_RESPONSE_BODY_LENGTH));
+            sent = true;
 
             // Build attempt record
             return buildAttempt(job, attemptStart, response, null);
 
         } catch (Exception e) {
+            error = e;
             LOG.errorf(e, "Error sending webhook for dispatch job [%s]", (Object) job.id);
             return buildAttempt(job, attemptStart, null, e);
+        } finally {
+            if (payload != null) {
+                payload.release(sent);
+            }
+            releasePermit(permit, response, error);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter.Permit acquirePermit(DispatchJob job) {
+        if (concurrencyLimiter == null || job.targetUrl == null) {
+            return null;
         }
+        String endpoint = AdaptiveConcurrencyLimiter.endpointOf(job.targetUrl);
+        AdaptiveConcurrencyLimiter.Permit permit = concurrencyLimiter.tryAcquire(endpoint);
+        if (permit == null) {
+            throw new EndpointOverloadedException(endpoint, concurrencyLimiter.getLimit(endpoint), shedDelaySeconds);
+        }
+        return permit;
     }
 
     /**
-     * Prepare the request payload based on dataOnly flag.
+     * Feed the outcome back into the endpoint's limit: timeouts, connection errors, 5xx and 429
+     * shrink it; any other response is a latency sample; failures before sending are ignored.
+     */
+    private void releasePermit(AdaptiveConcurrencyLimiter.Permit permit, HttpResponse<String> response, Exception error) {
+        if (permit == null) {
+            return;
+        }
+        if (response != null) {
+            int statusCode = response.statusCode();
+            if (statusCode >= 500 || statusCode == 429) {
+                permit.dropped();
+            } else {
+                permit.success();
+            }
+        } else if (error instanceof IOException) {
+            permit.dropped();
+        } else {
+            permit.ignore();
+        }
+    }
+
+    /**
+     * Render the request payload based on the dataOnly flag into a pooled buffer, signing it as it is written.
      *
-     * <p>When {@code dataOnly = true}, returns the raw payload.</p>
-     * <p>When {@code dataOnly = false}, wraps the payload in a JSON envelope.</p>
+     * <p>When {@code dataOnly = true}, writes the raw payload.</p>
+     * <p>When {@code dataOnly = false}, writes the payload wrapped in a JSON envelope. A payload
+     * that is not valid JSON is embedded as a string.</p>
      */
-    private String preparePayload(DispatchJob job, Instant timestamp) {
+    private WebhookPayload renderPayload(DispatchJob job, Instant timestamp, String signingSecret) {
+        WebhookPayload payload = WebhookPayload.acquire(webhookSigner.begin(signingSecret));
         if (job.dataOnly) {
             // Raw payload
-            return job.payload;
+            payload.writeUtf8(job.payload);
+            return payload;
         }
 
         try {
-            // Build JSON envelope
-            ObjectNode envelope = objectMapper.createObjectNode();
-            envelope.put("id", job.id);
-            envelope.put("kind", job.kind != null ? job.kind.name() : null);
-            envelope.put("code", job.code);
-            envelope.put("subject", job.subject);
-            envelope.put("eventId", job.eventId);
-            envelope.put("correlationId", job.correlationId);
-            envelope.put("timestamp", DateTimeFormatter.ISO_INSTANT.format(timestamp));
-
-            // Parse payload as JSON and add as "data" field
+            try {
+                writeEnvelope(payload, job, timestamp, true);
+            } catch (JsonParseException e) {
+                // Payload is not valid JSON: start again with it as a raw string
+                payload.restart(webhookSigner.begin(signingSecret));
+                writeEnvelope(payload, job, timestamp, false);
+            }
+        } catch (Exception e) {
+            LOG.warnf(e, "Failed to create envelope for dispatch job [%s], using raw payload", job.id);
+            payload.restart(webhookSigner.begin(signingSecret));
+            payload.writeUtf8(job.payload);
+        }
+        return payload;
+    }
+
+    /**
+     * Write the JSON envelope, copying the payload's JSON tokens into "data" without building a tree.
+     */
+    private void writeEnvelope(WebhookPayload payload, DispatchJob job, Instant timestamp, boolean jsonData)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.createGenerator(payload)) {
+            generator.writeStartObject();
+            generator.writeStringField("id", job.id);
+            generator.writeStringField("kind", job.kind != null ? job.kind.name() : null);
+            generator.writeStringField("code", job.code);
+            generator.writeStringField("subject", job.subject);
+            generator.writeStringField("eventId", job.eventId);
+            generator.writeStringField("correlationId", job.correlationId);
+            generator.writeStringField("timestamp", DateTimeFormatter.ISO_INSTANT.format(timestamp));
+
             if (job.payload != null && !job.payload.isBlank()) {
-                try {
-                    envelope.set("data", objectMapper.readTree(job.payload));
-                } catch (Exception e) {
-                    // If payload is not valid JSON, add as raw string
-                    envelope.put("data", job.payload);
+                generator.writeFieldName("data");
+                if (jsonData) {
+                    try (JsonParser parser = objectMapper.createParser(job.payload)) {
+                        parser.nextToken();
+                        generator.copyCurrentStructure(parser);
+                    }
+                } else {
+                    generator.writeString(job.payload);
                 }
             }
 
-            return objectMapper.writeValueAsString(envelope);
-
-        } catch (Exception e) {
-            LOG.warnf(e, "Failed to create envelope for dispatch job [%s], using raw payload", job.id);
-            return job.payload;
+            generator.writeEndObject();
         }
     }
 
@@ -243,7 +363,7 @@ public class WebhookDispatcher {
             attempt.errorType = classifyException(error);
         } else {
             attempt.responseCode = response.statusCode();
-            attempt.responseBody = truncate(response.body(), MAX_RESPONSE_BODY_LENGTH);
+            attempt.responseBody = response.body();
 
             if (response.statusCode() >= 200 && response.statusCode() < 300) {
                 attempt.status = DispatchAttemptStatus.SUCCESS;
@@ -298,6 +418,34 @@ public class WebhookDispatcher {
         return str.substring(0, maxLength) + "... (truncated)";
     }
 
+    /**
+     * Thrown when a webhook is not sent because its endpoint is at its adaptive concurrency limit.
+     */
+    public static class EndpointOverloadedException extends RuntimeException {
+        private final String endpoint;
+        private final int limit;
+        private final int retryAfterSeconds;
+
+        public EndpointOverloadedException(String endpoint, int limit, int retryAfterSeconds) {
+            super("Endpoint " + endpoint + " at concurrency limit " + limit);
+            this.endpoint = endpoint;
+            this.limit = limit;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public int getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
     private String getStackTrace(Throwable t) {
         if (t == null) {
             return null;
@@ -0,0 +1,213 @@
+package tech.flowcatalyst.dispatchjob.service;
+
+import tech.flowcatalyst.dispatchjob.security.WebhookSigner;
+
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request body of one webhook attempt, written into a pooled byte array and signed as it is written.
+ *
+ * <p>The body is published as slices of the same array, so rendering, signing and sending cost no
+ * extra copies of the payload. The array goes back to the pool on {@link #release} only if the
+ * request was sent and the HTTP client consumed every byte. Otherwise it may still be read by a
+ * cancelled exchange, so it is left to the garbage collector.</p>
+ *
+ * <p>Not thread-safe: one attempt writes the payload, then only the HTTP client reads it.</p>
+ */
+final class WebhookPayload extends OutputStream {
+
+    private static final int INITIAL_CAPACITY = 16 * 1024;
+    private static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+    private static final int POOL_SIZE = 64;
+    private static final int SLICE_SIZE = 16 * 1024;
+
+    private static final ArrayBlockingQueue<byte[]> POOL = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private byte[] buffer;
+    private int count;
+    private WebhookSigner.Signature signature;
+    private String signatureHex;
+
+    private final AtomicInteger openSubscriptions = new AtomicInteger();
+
+    private WebhookPayload(byte[] buffer, WebhookSigner.Signature signature) {
+        this.buffer = buffer;
+        this.signature = signature;
+    }
+
+    /**
+     * Take a buffer from the pool and start writing a payload signed by {@code signature}.
+     */
+    static WebhookPayload acquire(WebhookSigner.Signature signature) {
+        byte[] buffer = POOL.poll();
+        return new WebhookPayload(buffer != null ? buffer : new byte[INITIAL_CAPACITY], signature);
+    }
+
+    /**
+     * Discard everything written so far and start again under a new signature.
+     */
+    void restart(WebhookSigner.Signature signature) {
+        this.count = 0;
+        this.signature = signature;
+        this.signatureHex = null;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(count + 1);
+        buffer[count] = (byte) b;
+        signature.update(buffer, count, 1);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ensureCapacity(count + length);
+        System.arraycopy(bytes, offset, buffer, count, length);
+        signature.update(buffer, count, length);
+        count += length;
+    }
+
+    /**
+     * Encode {@code text} as UTF-8 straight into the buffer. A null text writes nothing.
+     */
+    void writeUtf8(String text) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer in = CharBuffer.wrap(text);
+        ensureCapacity(count + text.length());
+        boolean flushing = false;
+        while (true) {
+            ByteBuffer out = ByteBuffer.wrap(buffer, count, buffer.length - count);
+            CoderResult result = flushing ? encoder.flush(out) : encoder.encode(in, out, true);
+            signature.update(buffer, count, out.position() - count);
+            count = out.position();
+            if (result.isOverflow()) {
+                ensureCapacity(buffer.length + 1);
+            } else if (flushing) {
+                return;
+            } else {
+                flushing = true;
+            }
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+        }
+    }
+
+    int length() {
+        return count;
+    }
+
+    String timestamp() {
+        return signature.timestamp();
+    }
+
+    /**
+     * The hex HMAC of the timestamp and everything written. Writing stops once it is called.
+     */
+    String signature() {
+        if (signatureHex == null) {
+            signatureHex = signature.finish();
+        }
+        return signatureHex;
+    }
+
+    /**
+     * Publish the written bytes as slices of the buffer, without copying them.
+     */
+    HttpRequest.BodyPublisher publisher() {
+        if (count == 0) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        return HttpRequest.BodyPublishers.fromPublisher(subscriber -> {
+            openSubscriptions.incrementAndGet();
+            subscriber.onSubscribe(new SliceSubscription(subscriber));
+        }, count);
+    }
+
+    /**
+     * Return the buffer to the pool if {@code sent} and every subscription read the whole body.
+     */
+    void release(boolean sent) {
+        byte[] released = buffer;
+        buffer = null;
+        if (sent && openSubscriptions.get() == 0 && released.length <= MAX_POOLED_CAPACITY) {
+            POOL.offer(released);
+        }
+    }
+
+    /**
+     * Emits the body in slices as demand arrives. A subscriber may request more from inside
+     * {@code onNext}; the work-in-progress counter turns that into a loop instead of recursion.
+     */
+    private final class SliceSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final byte[] body = buffer;
+        private final int length = count;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private int position;
+        private boolean completed;
+
+        SliceSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancelled = true;
+                subscriber.onError(new IllegalArgumentException("non-positive request: " + n));
+                return;
+            }
+            demand.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (!cancelled && position < length && demand.get() > 0) {
+                    int sliceLength = Math.min(SLICE_SIZE, length - position);
+                    ByteBuffer slice = ByteBuffer.wrap(body, position, sliceLength).slice();
+                    position += sliceLength;
+                    demand.decrementAndGet();
+                    subscriber.onNext(slice);
+                }
+                if (!cancelled && !completed && position >= length) {
+                    completed = true;
+                    subscriber.onComplete();
+                    openSubscriptions.decrementAndGet();
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+    }
+}
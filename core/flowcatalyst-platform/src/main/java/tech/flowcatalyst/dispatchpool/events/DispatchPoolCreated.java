@@ -9,6 +9,7 @@ import lombok.Builder;
 import tech.flowcatalyst.dispatchpool.DispatchPoolStatus;
 import tech.flowcatalyst.platform.common.DomainEvent;
 import tech.flowcatalyst.platform.common.ExecutionContext;
+import tech.flowcatalyst.platform.shared.EntityType;
 import tech.flowcatalyst.platform.shared.TsidGenerator;
 
 import java.time.Instant;
@@ -115,7 +116,7 @@ public record DispatchPoolCreated(
      */
     public static DispatchPoolCreatedBuilder fromContext(ExecutionContext ctx) {
         return DispatchPoolCreated.builder()
-            .eventId(TsidGenerator.generate())
+            .eventId(TsidGenerator.generate(EntityType.EVENT))
             .time(Instant.now())
             .executionId(ctx.executionId())
             .correlationId(ctx.correlationId())
@@ -0,0 +1,69 @@
+package tech.flowcatalyst.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+
+/**
+ * Bounded in-memory cache of recently ingested events, keyed by deduplication ID.
+ *
+ * <p>Clients retrying a request resend the same deduplication IDs within seconds or minutes.
+ * Answering those replays from this cache means they skip both the insert and the follow-up
+ * fetch of the conflicting row. A miss is never authoritative: the unique index on
+ * {@code events.deduplication_id} still decides, so the cache can be small and per-node.</p>
+ */
+@ApplicationScoped
+public class EventDeduplicationCache {
+
+    private static final Logger LOG = Logger.getLogger(EventDeduplicationCache.class);
+
+    @ConfigProperty(name = "flowcatalyst.event-dedup-cache.ttl-minutes", defaultValue = "60")
+    int ttlMinutes;
+
+    @ConfigProperty(name = "flowcatalyst.event-dedup-cache.max-size", defaultValue = "10000")
+    int maxSize;
+
+    private Cache<String, Event> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .maximumSize(maxSize)
+            .build();
+        LOG.infof("EventDeduplicationCache initialized: TTL=%d minutes, maxSize=%d", ttlMinutes, maxSize);
+    }
+
+    /**
+     * Get the event recently stored under a deduplication ID.
+     *
+     * @param deduplicationId The deduplication ID
+     * @return The event, or null if not seen recently on this node
+     */
+    public Event get(String deduplicationId) {
+        return cache.getIfPresent(deduplicationId);
+    }
+
+    /**
+     * Remember an event that holds its deduplication ID in the database.
+     *
+     * @param event The inserted or fetched event (ignored if it has no deduplication ID)
+     */
+    public void put(Event event) {
+        if (event.deduplicationId() != null) {
+            cache.put(event.deduplicationId(), event);
+        }
+    }
+
+    /**
+     * Invalidate all cached entries.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -18,6 +18,7 @@ import tech.flowcatalyst.dispatchjob.model.MediationType;
 import tech.flowcatalyst.dispatchjob.model.MessagePointer;
 import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
 import tech.flowcatalyst.dispatchjob.security.DispatchAuthService;
+import tech.flowcatalyst.platform.shared.EntityType;
 import tech.flowcatalyst.platform.shared.TsidGenerator;
 import tech.flowcatalyst.subscription.SubscriptionCache;
 import tech.flowcatalyst.subscription.SubscriptionCache.CachedSubscription;
@@ -112,12 +113,11 @@ public class EventDispatchService {
         List<DispatchJob> allJobs = new ArrayList<>();
 
         // Group events by (eventTypeCode, clientId) to minimize cache lookups
-        Map<String, List<Event>> eventsByTypeAndClient = groupEventsByTypeAndClient(events);
+        Map<TypeAndClient, List<Event>> eventsByTypeAndClient = groupEventsByTypeAndClient(events);
 
         for (var entry : eventsByTypeAndClient.entrySet()) {
-            String[] parts = entry.getKey().split(":", 2);
-            String eventTypeCode = parts[0];
-            String clientId = parts.length > 1 && !parts[1].equals("anchor") ? parts[1] : null;
+            String eventTypeCode = entry.getKey().eventTypeCode();
+            String clientId = entry.getKey().clientId();
             List<Event> eventsInGroup = entry.getValue();
 
             // Single cache lookup per (eventTypeCode, clientId)
@@ -161,17 +161,21 @@ public class EventDispatchService {
     /**
      * Group events by their type code and client ID for efficient cache lookups.
      */
-    private Map<String, List<Event>> groupEventsByTypeAndClient(List<Event> events) {
-        Map<String, List<Event>> grouped = new HashMap<>();
+    private Map<TypeAndClient, List<Event>> groupEventsByTypeAndClient(List<Event> events) {
+        Map<TypeAndClient, List<Event>> grouped = new HashMap<>();
         for (Event event : events) {
             // Extract clientId from event context data or use null for anchor-level
             String clientId = extractClientIdFromEvent(event);
-            String key = event.type() + ":" + (clientId != null ? clientId : "anchor");
-            grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(event);
+            grouped.computeIfAbsent(new TypeAndClient(event.type(), clientId), k -> new ArrayList<>()).add(event);
         }
         return grouped;
     }
 
+    /**
+     * Grouping key for events. Event type codes contain colons, so they are not joined into a string key.
+     */
+    private record TypeAndClient(String eventTypeCode, String clientId) {}
+
     /**
      * Extract client ID from event context data if present.
      */
@@ -193,7 +197,7 @@ public class EventDispatchService {
         Instant now = Instant.now();
 
         DispatchJob job = new DispatchJob();
-        job.id = TsidGenerator.generate();
+        job.id = TsidGenerator.generate(EntityType.DISPATCH_JOB);
         job.kind = DispatchKind.EVENT;
         job.code = event.type();
         job.source = event.source();
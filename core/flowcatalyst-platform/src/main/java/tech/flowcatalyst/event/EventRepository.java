@@ -2,8 +2,10 @@ package tech.flowcatalyst.event;
 
 import tech.flowcatalyst.platform.common.Page;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for Event entities.
@@ -17,6 +19,11 @@ public interface EventRepository {
     Event findById(String id);
     Optional<Event> findByIdOptional(String id);
     Optional<Event> findByDeduplicationId(String deduplicationId);
+
+    /**
+     * Find the events holding any of the given deduplication IDs, in one query.
+     */
+    List<Event> findByDeduplicationIds(Collection<String> deduplicationIds);
     List<Event> listAll();
     List<Event> findRecentPaged(int page, int size);
 
@@ -48,6 +55,16 @@ public interface EventRepository {
     void insert(Event event);
     void persist(Event event);
     void persistAll(List<Event> events);
+
+    /**
+     * Insert events in one transaction, skipping any whose deduplication ID already exists.
+     * Deduplication IDs are claimed with {@code INSERT ... ON CONFLICT (deduplication_id) DO NOTHING}
+     * before the events are written. Within the list, only the first event with a given
+     * deduplication ID can be inserted.
+     *
+     * @return IDs of the events that were inserted
+     */
+    Set<String> insertAllSkippingDuplicates(List<Event> events);
     void update(Event event);
     void delete(Event event);
     boolean deleteById(String id);
@@ -1,9 +1,11 @@
 package tech.flowcatalyst.event;
 
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.media.Schema;
@@ -15,7 +17,12 @@ import tech.flowcatalyst.event.operations.CreateEvent;
 import java.time.Instant;
 import java.util.List;
 
+/**
+ * Runs on virtual threads, so request concurrency is bounded by the database admission
+ * control rather than the worker pool. A saturated database answers 503 with Retry-After.
+ */
 @Path("/api/events")
+@RunOnVirtualThread
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Events", description = "Event store operations")
@@ -24,6 +31,9 @@ public class EventResource {
     @Inject
     EventService eventService;
 
+    @ConfigProperty(name = "flowcatalyst.events.batch-max-size", defaultValue = "1000")
+    int batchMaxSize;
+
     @POST
     @Operation(summary = "Create a new event", description = "Creates a new event in the event store. If a deduplicationId is provided and an event with that ID already exists, the existing event is returned (idempotent operation). Dispatch jobs are automatically created for matching subscriptions.")
     @APIResponses({
@@ -70,7 +80,7 @@ public class EventResource {
 
     @POST
     @Path("/batch")
-    @Operation(summary = "Create multiple events in batch", description = "Creates multiple events in a single operation. Maximum batch size is 100 events. Dispatch jobs are automatically created for matching subscriptions.")
+    @Operation(summary = "Create multiple events in batch", description = "Creates multiple events in a single operation. Maximum batch size is 1000 events by default (flowcatalyst.events.batch-max-size). Dispatch jobs are automatically created for matching subscriptions.")
     @APIResponses({
         @APIResponse(
             responseCode = "201",
@@ -86,9 +96,9 @@ public class EventResource {
                 .entity(new ErrorResponse("Request body must contain at least one event"))
                 .build();
         }
-        if (requests.size() > 100) {
+        if (requests.size() > batchMaxSize) {
             return Response.status(400)
-                .entity(new ErrorResponse("Batch size cannot exceed 100 events"))
+                .entity(new ErrorResponse("Batch size cannot exceed " + batchMaxSize + " events"))
                 .build();
         }
 
@@ -1,18 +1,21 @@
 package tech.flowcatalyst.event;
 
-import com.mongodb.MongoWriteException;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.BadRequestException;
 import org.jboss.logging.Logger;
 import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
 import tech.flowcatalyst.event.operations.CreateEvent;
+import tech.flowcatalyst.platform.shared.EntityType;
 import tech.flowcatalyst.platform.shared.TsidGenerator;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service for Event operations.
@@ -35,53 +38,23 @@ public class EventService {
     @Inject
     EventDispatchService eventDispatchService;
 
+    @Inject
+    EventDeduplicationCache deduplicationCache;
+
     /**
      * Create a new event and dispatch jobs for matching subscriptions.
      *
      * @param operation The create event operation
      * @return The result containing the event and created dispatch jobs
-     * @throws BadRequestException if validation fails or duplicate deduplication ID
+     * @throws BadRequestException if validation fails
      */
     public EventCreateResult create(CreateEvent operation) {
-        // Validate required fields
-        validateCreateEvent(operation);
-
-        // Check for duplicate deduplication ID
-        if (operation.deduplicationId() != null) {
-            Optional<Event> existing = eventRepository.findByDeduplicationId(operation.deduplicationId());
-            if (existing.isPresent()) {
-                // Return the existing event for idempotency (no new dispatch jobs)
-                return new EventCreateResult(existing.get(), List.of(), true);
-            }
-        }
+        IngestResult ingested = ingest(List.of(operation));
+        Event event = ingested.events().get(0);
 
-        // Create the event
-        Event event = new Event(
-            TsidGenerator.generate(),
-            operation.specVersion(),
-            operation.type(),
-            operation.source(),
-            operation.subject(),
-            operation.time() != null ? operation.time() : Instant.now(),
-            operation.data(),
-            operation.correlationId(),
-            operation.causationId(),
-            operation.deduplicationId(),
-            operation.messageGroup(),
-            operation.contextData()
-        );
-
-        try {
-            eventRepository.insert(event);
-        } catch (MongoWriteException e) {
-            // Handle duplicate key error for deduplicationId
-            if (e.getCode() == 11000 && operation.deduplicationId() != null) {
-                // Race condition - another request created the event
-                Event existingEvent = eventRepository.findByDeduplicationId(operation.deduplicationId())
-                    .orElseThrow(() -> new RuntimeException("Unexpected state: duplicate key but event not found"));
-                return new EventCreateResult(existingEvent, List.of(), true);
-            }
-            throw e;
+        if (ingested.newEvents().isEmpty()) {
+            // Return the existing event for idempotency (no new dispatch jobs)
+            return new EventCreateResult(event, List.of(), true);
         }
 
         // Create dispatch jobs for matching subscriptions
@@ -97,8 +70,9 @@ public class EventService {
      *
      * <p>This method is optimized for batch operations:</p>
      * <ul>
-     *   <li>Handles deduplication for each event</li>
-     *   <li>Bulk inserts new events</li>
+     *   <li>Inserts all events in one statement, letting the unique index on deduplication ID
+     *       reject duplicates instead of checking each event first</li>
+     *   <li>Fetches the existing events for rejected duplicates in one query</li>
      *   <li>Batch creates dispatch jobs via EventDispatchService</li>
      * </ul>
      *
@@ -110,25 +84,61 @@ public class EventService {
             return new BatchEventCreateResult(List.of(), List.of(), 0);
         }
 
-        List<Event> allEvents = new ArrayList<>();
-        List<Event> newEvents = new ArrayList<>();
-        int duplicateCount = 0;
+        IngestResult ingested = ingest(operations);
+
+        // Create dispatch jobs for new events only (duplicates already have theirs)
+        List<DispatchJob> dispatchJobs = eventDispatchService.createDispatchJobsForEvents(ingested.newEvents());
 
+        LOG.infof("Batch created %d events (%d new, %d duplicates) with %d dispatch jobs",
+            ingested.events().size(), ingested.newEvents().size(), ingested.duplicateCount(), dispatchJobs.size());
+
+        return new BatchEventCreateResult(ingested.events(), dispatchJobs, ingested.duplicateCount());
+    }
+
+    /**
+     * Validate and store events, resolving deduplication IDs in at most two round trips.
+     *
+     * <ol>
+     *   <li>Deduplication IDs seen recently on this node, or repeated within the batch, are resolved in memory</li>
+     *   <li>All remaining events are inserted, claiming their deduplication IDs with {@code ON CONFLICT (deduplication_id) DO NOTHING}</li>
+     *   <li>Events the insert skipped are fetched in one query by deduplication ID</li>
+     * </ol>
+     *
+     * <p>Because the database decides conflicts, concurrent requests with the same deduplication ID
+     * cannot both create an event.</p>
+     */
+    private IngestResult ingest(List<CreateEvent> operations) {
         for (CreateEvent op : operations) {
             validateCreateEvent(op);
+        }
+
+        int size = operations.size();
+        Event[] events = new Event[size];
+        Map<String, Event> byDeduplicationId = new HashMap<>();
+        List<Event> toInsert = new ArrayList<>(size);
+        int duplicateCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            CreateEvent op = operations.get(i);
+            String deduplicationId = op.deduplicationId();
 
-            // Check deduplication
-            if (op.deduplicationId() != null) {
-                Optional<Event> existing = eventRepository.findByDeduplicationId(op.deduplicationId());
-                if (existing.isPresent()) {
-                    allEvents.add(existing.get());
+            if (deduplicationId != null) {
+                Event known = byDeduplicationId.get(deduplicationId);
+                if (known == null) {
+                    known = deduplicationCache.get(deduplicationId);
+                    if (known != null) {
+                        byDeduplicationId.put(deduplicationId, known);
+                    }
+                }
+                if (known != null) {
+                    // Replay of a recent event, or repeated within this batch - resolved after the insert
                     duplicateCount++;
                     continue;
                 }
             }
 
             Event event = new Event(
-                TsidGenerator.generate(),
+                TsidGenerator.generate(EntityType.EVENT),
                 op.specVersion(),
                 op.type(),
                 op.source(),
@@ -137,28 +147,60 @@ public class EventService {
                 op.data(),
                 op.correlationId(),
                 op.causationId(),
-                op.deduplicationId(),
+                deduplicationId,
                 op.messageGroup(),
                 op.contextData()
             );
+            events[i] = event;
+            toInsert.add(event);
+            if (deduplicationId != null) {
+                byDeduplicationId.put(deduplicationId, event);
+            }
+        }
 
-            newEvents.add(event);
-            allEvents.add(event);
+        List<Event> newEvents = new ArrayList<>(toInsert.size());
+        List<String> conflictingIds = new ArrayList<>();
+        if (!toInsert.isEmpty()) {
+            Set<String> insertedIds = eventRepository.insertAllSkippingDuplicates(toInsert);
+            for (Event event : toInsert) {
+                if (insertedIds.contains(event.id())) {
+                    newEvents.add(event);
+                    deduplicationCache.put(event);
+                } else {
+                    conflictingIds.add(event.deduplicationId());
+                }
+            }
         }
 
-        // Bulk insert new events
-        if (!newEvents.isEmpty()) {
-            eventRepository.persistAll(newEvents);
-            LOG.infof("Bulk inserted %d events", newEvents.size());
+        // One fetch for every event the database already had
+        if (!conflictingIds.isEmpty()) {
+            Map<String, Event> existingById = new HashMap<>();
+            for (Event existing : eventRepository.findByDeduplicationIds(conflictingIds)) {
+                existingById.putIfAbsent(existing.deduplicationId(), existing);
+            }
+            for (String deduplicationId : conflictingIds) {
+                Event existing = existingById.get(deduplicationId);
+                if (existing == null) {
+                    throw new IllegalStateException("Unexpected state: duplicate key but event not found");
+                }
+                byDeduplicationId.put(deduplicationId, existing);
+                deduplicationCache.put(existing);
+            }
+            duplicateCount += conflictingIds.size();
         }
 
-        // Create dispatch jobs for all events (including duplicates for idempotency)
-        List<DispatchJob> dispatchJobs = eventDispatchService.createDispatchJobsForEvents(newEvents);
+        // Point every event with a deduplication ID at the event that holds it in the database
+        List<Event> allEvents = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String deduplicationId = operations.get(i).deduplicationId();
+            allEvents.add(deduplicationId != null ? byDeduplicationId.get(deduplicationId) : events[i]);
+        }
 
-        LOG.infof("Batch created %d events (%d new, %d duplicates) with %d dispatch jobs",
-            allEvents.size(), newEvents.size(), duplicateCount, dispatchJobs.size());
+        if (!newEvents.isEmpty()) {
+            LOG.debugf("Inserted %d events, %d duplicates", newEvents.size(), duplicateCount);
+        }
 
-        return new BatchEventCreateResult(allEvents, dispatchJobs, duplicateCount);
+        return new IngestResult(allEvents, newEvents, duplicateCount);
     }
 
     /**
@@ -219,6 +261,15 @@ public class EventService {
         boolean isDuplicate
     ) {}
 
+    /**
+     * Events in request order (existing events in place of duplicates), and the subset newly inserted.
+     */
+    private record IngestResult(
+        List<Event> events,
+        List<Event> newEvents,
+        int duplicateCount
+    ) {}
+
     /**
      * Result of creating multiple events in batch.
      *
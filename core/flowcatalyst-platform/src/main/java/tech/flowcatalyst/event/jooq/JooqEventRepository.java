@@ -5,7 +5,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertSetMoreStep;
 import org.jooq.Record;
+import org.jooq.Table;
 import org.jooq.impl.DSL;
 import tech.flowcatalyst.event.ContextData;
 import tech.flowcatalyst.event.Event;
@@ -17,8 +20,11 @@ import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static tech.flowcatalyst.platform.jooq.generated.tables.Events.EVENTS;
 
@@ -30,6 +36,19 @@ public class JooqEventRepository implements EventRepository {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
+    /**
+     * Rows per multi-row INSERT, keeping each statement well under PostgreSQL's 65535 bind parameter limit.
+     */
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
+    /**
+     * Deduplication IDs claimed on ingest (V14), not part of the generated schema classes.
+     */
+    private static final Table<Record> DEDUPLICATION_KEYS = DSL.table(DSL.name("event_deduplication_keys"));
+    private static final Field<String> KEY_DEDUPLICATION_ID = DSL.field(DSL.name("deduplication_id"), String.class);
+    private static final Field<String> KEY_EVENT_ID = DSL.field(DSL.name("event_id"), String.class);
+    private static final Field<OffsetDateTime> KEY_CREATED_AT = DSL.field(DSL.name("created_at"), OffsetDateTime.class);
+
     @Inject
     DSLContext dsl;
 
@@ -47,11 +66,24 @@ public class JooqEventRepository implements EventRepository {
 
     @Override
     public Optional<Event> findByDeduplicationId(String deduplicationId) {
-        return Optional.ofNullable(
-            dsl.selectFrom(EVENTS)
-                .where(EVENTS.DEDUPLICATION_ID.eq(deduplicationId))
-                .fetchOne(this::toDomain)
-        );
+        return findByDeduplicationIds(List.of(deduplicationId)).stream().findFirst();
+    }
+
+    /**
+     * Resolved through {@code event_deduplication_keys}, not {@code events.deduplication_id}:
+     * an older event can outlive its purged key until its partition is dropped, and a reused ID
+     * then has more than one event. Only the event holding the key is returned.
+     */
+    @Override
+    public List<Event> findByDeduplicationIds(Collection<String> deduplicationIds) {
+        if (deduplicationIds == null || deduplicationIds.isEmpty()) {
+            return List.of();
+        }
+        return dsl.select(EVENTS.fields())
+            .from(EVENTS)
+            .join(DEDUPLICATION_KEYS).on(EVENTS.ID.eq(KEY_EVENT_ID))
+            .where(KEY_DEDUPLICATION_ID.in(deduplicationIds))
+            .fetch(this::toDomain);
     }
 
     @Override
@@ -125,6 +157,67 @@ public class JooqEventRepository implements EventRepository {
         dsl.batchInsert(records).execute();
     }
 
+    @Override
+    public Set<String> insertAllSkippingDuplicates(List<Event> events) {
+        if (events == null || events.isEmpty()) {
+            return Set.of();
+        }
+        OffsetDateTime now = toOffsetDateTime(Instant.now());
+        return dsl.transactionResult(config -> {
+            DSLContext tx = DSL.using(config);
+            Set<String> insertedIds = new HashSet<>();
+            for (int start = 0; start < events.size(); start += INSERT_CHUNK_SIZE) {
+                List<Event> chunk = events.subList(start, Math.min(start + INSERT_CHUNK_SIZE, events.size()));
+                Set<String> claimed = claimDeduplicationKeys(tx, chunk, now);
+
+                InsertSetMoreStep<EventsRecord> insert = null;
+                for (Event event : chunk) {
+                    if (event.deduplicationId != null && !claimed.contains(event.id)) {
+                        continue;
+                    }
+                    EventsRecord rec = toRecord(event);
+                    rec.setCreatedAt(now);
+                    insert = insert == null
+                        ? tx.insertInto(EVENTS).set(rec)
+                        : insert.newRecord().set(rec);
+                    insertedIds.add(event.id);
+                }
+                if (insert != null) {
+                    insert.execute();
+                }
+            }
+            return insertedIds;
+        });
+    }
+
+    /**
+     * Claim the deduplication IDs of a chunk of events.
+     *
+     * <p>{@code events} is partitioned by id, so deduplication IDs cannot be unique there;
+     * they are claimed in {@code event_deduplication_keys} instead, in the same transaction
+     * as the events themselves.</p>
+     *
+     * @return IDs of the events whose deduplication ID was claimed
+     */
+    private Set<String> claimDeduplicationKeys(DSLContext tx, List<Event> chunk, OffsetDateTime now) {
+        var insert = tx.insertInto(DEDUPLICATION_KEYS, KEY_DEDUPLICATION_ID, KEY_EVENT_ID, KEY_CREATED_AT);
+        boolean any = false;
+        for (Event event : chunk) {
+            if (event.deduplicationId != null) {
+                insert = insert.values(event.deduplicationId, event.id, now);
+                any = true;
+            }
+        }
+        if (!any) {
+            return Set.of();
+        }
+        return new HashSet<>(insert
+            .onConflict(KEY_DEDUPLICATION_ID)
+            .doNothing()
+            .returningResult(KEY_EVENT_ID)
+            .fetch(KEY_EVENT_ID));
+    }
+
     @Override
     public void update(Event event) {
         EventsRecord record = toRecord(event);
@@ -0,0 +1,45 @@
+package tech.flowcatalyst.platform.audit;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+
+/**
+ * Configuration for audit log writes by the unit of work.
+ */
+@ConfigMapping(prefix = "flowcatalyst.audit")
+public interface AuditConfig {
+
+    /**
+     * Write audit rows in the same transaction as the change they record.
+     * When false, they are appended to a local spool after commit and flushed in batches.
+     */
+    @WithDefault("true")
+    boolean strict();
+
+    /**
+     * Write-behind spool (only used when strict=false).
+     */
+    Spool spool();
+
+    interface Spool {
+        /**
+         * Directory holding spool segments. Must be local to this instance.
+         */
+        @WithDefault("audit-spool")
+        String directory();
+
+        /**
+         * How often spooled rows are flushed to the database.
+         */
+        @WithDefault("5s")
+        Duration flushInterval();
+
+        /**
+         * Rows per multi-row insert when flushing.
+         */
+        @WithDefault("500")
+        int batchSize();
+    }
+}
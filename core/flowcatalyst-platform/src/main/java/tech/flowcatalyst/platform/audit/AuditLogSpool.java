@@ -0,0 +1,202 @@
+package tech.flowcatalyst.platform.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.jooq.DSLContext;
+import org.jooq.InsertSetMoreStep;
+import tech.flowcatalyst.platform.jooq.generated.tables.records.AuditLogsRecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static tech.flowcatalyst.platform.jooq.generated.tables.AuditLogs.AUDIT_LOGS;
+
+/**
+ * Durable write-behind buffer for audit log rows, used when {@code flowcatalyst.audit.strict=false}.
+ *
+ * <p>The unit of work appends a transaction's audit rows after it commits. Rows are written as JSON
+ * lines to {@code current.jsonl} and forced to disk before {@link #append} returns, so a crash
+ * after that point loses nothing. Every {@code flush-interval} the current file is rotated into
+ * a sealed segment and each segment is inserted with multi-row inserts, then deleted. Inserts
+ * ignore ids that already exist, so a segment that was partly flushed before a crash is simply
+ * replayed.</p>
+ *
+ * <p>Audit rows are not visible until their segment is flushed, and rows of a transaction that
+ * committed just before a crash but before {@link #append} completed are lost; use strict mode
+ * where that matters.</p>
+ */
+@ApplicationScoped
+public class AuditLogSpool {
+
+    private static final Logger LOG = Logger.getLogger(AuditLogSpool.class);
+
+    private static final String CURRENT = "current.jsonl";
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private final Path directory;
+    private final int batchSize;
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final Instance<DSLContext> dsl;
+
+    private FileChannel current;
+    private long segmentSequence;
+
+    @Inject
+    public AuditLogSpool(AuditConfig config, ObjectMapper objectMapper, Instance<DSLContext> dsl) {
+        this.directory = Path.of(config.spool().directory());
+        this.batchSize = config.spool().batchSize();
+        this.enabled = !config.strict();
+        this.objectMapper = objectMapper;
+        this.dsl = dsl;
+    }
+
+    /**
+     * Append rows and force them to disk.
+     *
+     * @throws UncheckedIOException if the rows could not be written
+     */
+    public synchronized void append(List<AuditLog> logs) {
+        if (logs.isEmpty()) {
+            return;
+        }
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (AuditLog log : logs) {
+                lines.append(objectMapper.writeValueAsString(log)).append('\n');
+            }
+            FileChannel channel = currentChannel();
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spool audit logs", e);
+        }
+    }
+
+    private FileChannel currentChannel() throws IOException {
+        if (current == null) {
+            Files.createDirectories(directory);
+            current = FileChannel.open(directory.resolve(CURRENT),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return current;
+    }
+
+    @Scheduled(every = "${flowcatalyst.audit.spool.flush-interval:5s}",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledFlush() {
+        if (enabled && dsl.isResolvable()) {
+            flush(batch -> insert(dsl.get(), batch));
+        }
+    }
+
+    void onStop(@Observes ShutdownEvent ev) {
+        scheduledFlush();
+    }
+
+    /**
+     * Seal the current file and hand every sealed segment to {@code writer} in batches,
+     * deleting each segment once all its batches are written. Stops at the first failure;
+     * the failed segment is retried on the next flush.
+     *
+     * @return number of rows written
+     */
+    int flush(Consumer<List<AuditLog>> writer) {
+        int written = 0;
+        try {
+            rotate();
+            for (Path segment : sealedSegments()) {
+                List<AuditLog> logs = read(segment);
+                for (int from = 0; from < logs.size(); from += batchSize) {
+                    writer.accept(logs.subList(from, Math.min(logs.size(), from + batchSize)));
+                }
+                Files.delete(segment);
+                written += logs.size();
+            }
+        } catch (Exception e) {
+            LOG.warnf("Failed to flush audit log spool, retrying later: %s", e.getMessage());
+        }
+        if (written > 0) {
+            LOG.debugf("Flushed %d spooled audit logs", written);
+        }
+        return written;
+    }
+
+    private synchronized void rotate() throws IOException {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+        Path file = directory.resolve(CURRENT);
+        if (Files.exists(file) && Files.size(file) > 0) {
+            String name = String.format("%s%019d-%06d.jsonl", SEGMENT_PREFIX, System.currentTimeMillis(), segmentSequence++);
+            Files.move(file, directory.resolve(name), StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    private List<Path> sealedSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*.jsonl")) {
+            stream.forEach(segments::add);
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    private List<AuditLog> read(Path segment) throws IOException {
+        List<AuditLog> logs = new ArrayList<>();
+        for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                logs.add(objectMapper.readValue(line, AuditLog.class));
+            } catch (IOException e) {
+                // A torn final line from a crash mid-append; the rows before it are intact
+                LOG.warnf("Skipping unreadable audit log line in %s", segment.getFileName());
+            }
+        }
+        return logs;
+    }
+
+    private static void insert(DSLContext ctx, List<AuditLog> logs) {
+        InsertSetMoreStep<AuditLogsRecord> insert = null;
+        for (AuditLog log : logs) {
+            insert = (insert == null ? ctx.insertInto(AUDIT_LOGS) : insert.newRecord())
+                .set(AUDIT_LOGS.ID, log.id)
+                .set(AUDIT_LOGS.ENTITY_TYPE, log.entityType)
+                .set(AUDIT_LOGS.ENTITY_ID, log.entityId)
+                .set(AUDIT_LOGS.OPERATION, log.operation)
+                .set(AUDIT_LOGS.OPERATION_JSON, log.operationJson)
+                .set(AUDIT_LOGS.PRINCIPAL_ID, log.principalId)
+                .set(AUDIT_LOGS.PERFORMED_AT, log.performedAt != null ? log.performedAt.atOffset(ZoneOffset.UTC) : null);
+        }
+        if (insert != null) {
+            insert.onConflictDoNothing().execute();
+        }
+    }
+}
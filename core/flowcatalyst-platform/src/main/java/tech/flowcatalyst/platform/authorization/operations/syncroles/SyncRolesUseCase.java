@@ -47,15 +47,24 @@ public class SyncRolesUseCase {
         }
 
         Set<String> syncedRoleNames = new HashSet<>();
+        List<Object> changedAggregates = new ArrayList<>();
+        changedAggregates.add(app);
         int rolesCreated = 0;
         int rolesUpdated = 0;
         int rolesDeleted = 0;
 
+        // Role names are prefixed with the application code, so one query finds every existing role
+        List<AuthRole> existingRoles = roleRepo.findByApplicationCode(app.code);
+        Map<String, AuthRole> existingByName = new HashMap<>();
+        for (AuthRole existing : existingRoles) {
+            existingByName.put(existing.name, existing);
+        }
+
         for (SyncRolesCommand.SyncRoleItem item : command.roles()) {
             String fullRoleName = app.code + ":" + item.name();
             syncedRoleNames.add(fullRoleName);
 
-            Optional<AuthRole> existingOpt = roleRepo.findByName(fullRoleName);
+            Optional<AuthRole> existingOpt = Optional.ofNullable(existingByName.get(fullRoleName));
 
             if (existingOpt.isPresent()) {
                 AuthRole existing = existingOpt.get();
@@ -68,7 +77,7 @@ public class SyncRolesUseCase {
                         item.permissions() : new HashSet<>();
                     existing.clientManaged = item.clientManaged();
 
-                    roleRepo.update(existing);
+                    changedAggregates.add(existing);
                     permissionRegistry.registerRoleDynamic(fullRoleName, existing.permissions, existing.description);
                     rolesUpdated++;
                 }
@@ -86,7 +95,7 @@ public class SyncRolesUseCase {
                 role.source = AuthRole.RoleSource.SDK;
                 role.clientManaged = item.clientManaged();
 
-                roleRepo.persist(role);
+                changedAggregates.add(role);
                 permissionRegistry.registerRoleDynamic(fullRoleName, role.permissions, role.description);
                 rolesCreated++;
             }
@@ -94,7 +103,6 @@ public class SyncRolesUseCase {
 
         if (command.removeUnlisted()) {
             // Remove SDK roles that weren't in the sync list
-            List<AuthRole> existingRoles = roleRepo.findByApplicationCode(app.code);
             for (AuthRole existing : existingRoles) {
                 if (existing.source == AuthRole.RoleSource.SDK && !syncedRoleNames.contains(existing.name)) {
                     permissionRegistry.unregisterRole(existing.name);
@@ -114,8 +122,8 @@ public class SyncRolesUseCase {
             .syncedRoleNames(new ArrayList<>(syncedRoleNames))
             .build();
 
-        // Commit atomically with a placeholder entity (use app as the entity for the event)
-        return unitOfWork.commit(app, event, command);
+        // Commit the created and updated roles atomically in one batch, with the app as the event's entity
+        return unitOfWork.commitAll(changedAggregates, event, command);
     }
 
     private String formatDisplayName(String roleName) {
@@ -170,7 +170,7 @@ public class RawDispatchJobBffResource {
                 job.completedAt != null ? job.completedAt.toString() : null,
                 job.payloadContentType,
                 job.payload != null ? job.payload.length() : 0,
-                job.attempts != null ? job.attempts.size() : 0
+                job.attemptCount != null ? job.attemptCount : 0
             );
         }
     }
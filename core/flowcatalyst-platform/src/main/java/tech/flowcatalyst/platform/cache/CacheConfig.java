@@ -34,6 +34,11 @@ public interface CacheConfig {
      */
     Redis redis();
 
+    /**
+     * In-process near cache (L1) in front of the cache store.
+     */
+    Near near();
+
     interface Redis {
         /**
          * Redis key prefix for cache entries.
@@ -41,4 +46,30 @@ public interface CacheConfig {
         @WithDefault("fc:cache:")
         String keyPrefix();
     }
+
+    interface Near {
+        /**
+         * Keep deserialised entries in process, so hot lookups need no network hop.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Maximum number of entries per cache.
+         */
+        @WithDefault("10000")
+        long maxSize();
+
+        /**
+         * Time-to-live of an entry. Bounds staleness if an invalidation is ever missed.
+         */
+        @WithDefault("60s")
+        Duration ttl();
+
+        /**
+         * Listen for invalidations from other instances (PostgreSQL LISTEN/NOTIFY).
+         */
+        @WithDefault("true")
+        boolean listen();
+    }
 }
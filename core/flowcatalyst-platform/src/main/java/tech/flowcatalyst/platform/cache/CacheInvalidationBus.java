@@ -0,0 +1,165 @@
+package tech.flowcatalyst.platform.cache;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Carries cache invalidations between platform instances over PostgreSQL LISTEN/NOTIFY.
+ *
+ * <p>Notifications on {@link #CHANNEL} have the payload {@code {cacheName}:{key}}, where the key
+ * {@link #ALL} means the whole cache. They come from two places:</p>
+ * <ul>
+ *   <li>Triggers on the source tables ({@code V16__cache_invalidation_notify}, {@code V17} for
+ *       service accounts), so every committed write invalidates the cache whichever code path
+ *       made it. Triggers always name the changed key</li>
+ *   <li>{@link #publish} for explicit invalidations</li>
+ * </ul>
+ *
+ * <p>Each instance holds one pool connection that LISTENs on the channel and hands each
+ * notification to the handler registered for its cache. Notifications sent while that
+ * connection is down are lost, so on every (re)connect each handler is told to drop
+ * everything. Only the local tier of a near cache can miss notifications, so handlers treat
+ * {@link #ALL} as dropping their local copies and leave the shared store alone.</p>
+ */
+@ApplicationScoped
+public class CacheInvalidationBus {
+
+    private static final Logger LOG = Logger.getLogger(CacheInvalidationBus.class);
+
+    /** Notification channel, also used by the V16 triggers */
+    public static final String CHANNEL = "flowcatalyst_cache_invalidation";
+
+    /** Key that invalidates a whole cache */
+    public static final String ALL = "*";
+
+    private static final int POLL_TIMEOUT_MS = 1_000;
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    @Inject
+    CacheConfig config;
+
+    @Inject
+    Instance<AgroalDataSource> dataSource;
+
+    @Inject
+    Instance<DSLContext> dsl;
+
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private Thread listener;
+
+    void onStart(@Observes StartupEvent ev) {
+        if (!config.near().enabled() || !config.near().listen()) {
+            return;
+        }
+        if (!dataSource.isResolvable()) {
+            LOG.debug("No PostgreSQL datasource - cache invalidations stay local");
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform()
+            .name("cache-invalidation-listener")
+            .daemon()
+            .start(this::listen);
+    }
+
+    void onStop(@Observes ShutdownEvent ev) {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    /**
+     * Register the handler for a cache. It receives the invalidated key, or {@link #ALL}.
+     */
+    public void register(String cacheName, Consumer<String> handler) {
+        handlers.put(cacheName, handler);
+    }
+
+    /**
+     * Tell every instance, this one included, to invalidate a key.
+     * Callers should still invalidate locally, since delivery is asynchronous.
+     */
+    public void publish(String cacheName, String key) {
+        if (!dsl.isResolvable()) {
+            return;
+        }
+        try {
+            dsl.get().select(DSL.field("pg_notify({0}, {1})", Object.class,
+                    DSL.val(CHANNEL), DSL.val(cacheName + ":" + key)))
+                .execute();
+        } catch (Exception e) {
+            LOG.warnf("Failed to publish invalidation of %s:%s: %s", cacheName, key, e.getMessage());
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = dataSource.get().getConnection();
+                 Statement statement = connection.createStatement()) {
+                connection.setAutoCommit(true);
+                statement.execute("LISTEN " + CHANNEL);
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                LOG.infof("Listening for cache invalidations on %s", CHANNEL);
+
+                // Anything that changed while we were not listening is unknown
+                handlers.values().forEach(handler -> handler.accept(ALL));
+
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                LOG.warnf("Cache invalidation listener failed, reconnecting in %dms: %s",
+                    RECONNECT_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    void dispatch(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator <= 0) {
+            LOG.debugf("Ignoring malformed cache invalidation: %s", payload);
+            return;
+        }
+        Consumer<String> handler = handlers.get(payload.substring(0, separator));
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.accept(payload.substring(separator + 1));
+        } catch (Exception e) {
+            LOG.warnf("Failed to apply cache invalidation %s: %s", payload, e.getMessage());
+        }
+    }
+}
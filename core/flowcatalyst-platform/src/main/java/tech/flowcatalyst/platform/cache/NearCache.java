@@ -0,0 +1,209 @@
+package tech.flowcatalyst.platform.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Two-tier cache: a bounded in-process map of deserialised objects (L1) in front of a
+ * {@link CacheStore} holding JSON (L2).
+ *
+ * <p>A lookup checks L1, then L2, then calls the loader and fills both tiers. An L1 hit costs
+ * no network hop and no deserialisation, so L1 values are shared between callers and must be
+ * treated as read-only.</p>
+ *
+ * <p>L1 is only as fresh as its invalidations: callers invalidate it locally and
+ * {@link CacheInvalidationBus} carries invalidations to the other instances. The L1 TTL bounds
+ * staleness if an invalidation is missed. A value loaded while an invalidation ran is returned
+ * but not cached, so a load racing with an update never caches the old row.</p>
+ *
+ * <p>Registers {@code flowcatalyst.cache.gets} counters and {@code flowcatalyst.cache.hit.ratio}
+ * gauges per tier, tagged with the cache name.</p>
+ *
+ * @param <T> cached value type
+ */
+public final class NearCache<T> {
+
+    private static final Logger LOG = Logger.getLogger(NearCache.class);
+
+    /**
+     * Lookup counts and hit ratios.
+     *
+     * @param l1Hits     lookups answered in process
+     * @param l2Hits     lookups answered by the cache store
+     * @param misses     lookups that called the loader
+     * @param l1HitRatio share of all lookups answered by L1
+     * @param l2HitRatio share of L1 misses answered by L2
+     */
+    public record Stats(long l1Hits, long l2Hits, long misses, double l1HitRatio, double l2HitRatio) {
+    }
+
+    private final String cacheName;
+    private final Class<T> type;
+    private final CacheStore store;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, T> local;
+
+    // Bumped by every invalidation; a load only fills the cache if no invalidation ran meanwhile
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param cacheName    cache name in the store and in metrics
+     * @param type         value type, for deserialising L2 entries
+     * @param store        L2 store
+     * @param objectMapper JSON mapper for L2 entries
+     * @param near         L1 settings; with {@code enabled=false} every lookup goes to L2
+     * @param registry     registry for the hit metrics
+     */
+    public NearCache(String cacheName, Class<T> type, CacheStore store, ObjectMapper objectMapper,
+                     CacheConfig.Near near, MeterRegistry registry) {
+        this.cacheName = cacheName;
+        this.type = type;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.local = near.enabled() ? buildLocal(near.maxSize(), near.ttl()) : null;
+
+        registerCounter(registry, "l1", "hit", l1Hits);
+        registerCounter(registry, "l1", "miss", l2Hits, misses);
+        registerCounter(registry, "l2", "hit", l2Hits);
+        registerCounter(registry, "l2", "miss", misses);
+        Gauge.builder("flowcatalyst.cache.hit.ratio", this, cache -> cache.stats().l1HitRatio())
+            .description("Share of lookups answered by the tier")
+            .tags("cache", cacheName, "tier", "l1")
+            .register(registry);
+        Gauge.builder("flowcatalyst.cache.hit.ratio", this, cache -> cache.stats().l2HitRatio())
+            .description("Share of lookups answered by the tier")
+            .tags("cache", cacheName, "tier", "l2")
+            .register(registry);
+    }
+
+    private static <T> Cache<String, T> buildLocal(long maxSize, Duration ttl) {
+        return Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    private void registerCounter(MeterRegistry registry, String tier, String result, LongAdder... adders) {
+        FunctionCounter.builder("flowcatalyst.cache.gets", adders, counted -> {
+                long sum = 0;
+                for (LongAdder adder : counted) {
+                    sum += adder.sum();
+                }
+                return sum;
+            })
+            .description("Cache lookups by tier and result")
+            .tags("cache", cacheName, "tier", tier, "result", result)
+            .register(registry);
+    }
+
+    /**
+     * Look up a value, loading and caching it on a miss. Empty results are not cached.
+     *
+     * @param key    cache key
+     * @param loader loads the value from the source of truth
+     * @return the value, or empty if the loader found nothing
+     */
+    public Optional<T> get(String key, Function<String, Optional<T>> loader) {
+        if (local != null) {
+            T value = local.getIfPresent(key);
+            if (value != null) {
+                l1Hits.increment();
+                return Optional.of(value);
+            }
+        }
+
+        long version = invalidations.get();
+
+        Optional<String> cached = store.get(cacheName, key);
+        if (cached.isPresent()) {
+            try {
+                T value = objectMapper.readValue(cached.get(), type);
+                l2Hits.increment();
+                putLocal(key, value, version);
+                return Optional.of(value);
+            } catch (Exception e) {
+                LOG.warnf("Failed to deserialize cached %s entry %s, reloading", cacheName, key);
+                store.invalidate(cacheName, key);
+            }
+        }
+
+        misses.increment();
+        Optional<T> loaded = loader.apply(key);
+        if (loaded.isPresent() && invalidations.get() == version) {
+            try {
+                store.put(cacheName, key, objectMapper.writeValueAsString(loaded.get()));
+            } catch (Exception e) {
+                LOG.warnf("Failed to cache %s entry %s: %s", cacheName, key, e.getMessage());
+            }
+            putLocal(key, loaded.get(), version);
+        }
+        return loaded;
+    }
+
+    private void putLocal(String key, T value, long version) {
+        if (local != null && invalidations.get() == version) {
+            local.put(key, value);
+        }
+    }
+
+    /**
+     * Drop an entry from both tiers.
+     */
+    public void invalidate(String key) {
+        invalidations.incrementAndGet();
+        if (local != null) {
+            local.invalidate(key);
+        }
+        store.invalidate(cacheName, key);
+    }
+
+    /**
+     * Drop every entry from both tiers.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        if (local != null) {
+            local.invalidateAll();
+        }
+        store.invalidateAll(cacheName);
+    }
+
+    /**
+     * Drop every L1 entry, keeping L2. Used when invalidations may have been missed.
+     */
+    public void invalidateAllLocal() {
+        invalidations.incrementAndGet();
+        if (local != null) {
+            local.invalidateAll();
+        }
+    }
+
+    /**
+     * Lookup counts and hit ratios since startup.
+     */
+    public Stats stats() {
+        long l1 = l1Hits.sum();
+        long l2 = l2Hits.sum();
+        long miss = misses.sum();
+        return new Stats(l1, l2, miss, ratio(l1, l1 + l2 + miss), ratio(l2, l2 + miss));
+    }
+
+    private static double ratio(long hits, long total) {
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
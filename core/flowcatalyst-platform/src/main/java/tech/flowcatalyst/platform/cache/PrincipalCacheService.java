@@ -1,6 +1,8 @@
 package tech.flowcatalyst.platform.cache;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
@@ -12,8 +14,12 @@ import java.util.Optional;
 /**
  * Caching layer for Principal data.
  *
- * <p>Caches principal lookups to avoid repeated database queries during request processing.
- * Cache is automatically invalidated when principals are updated.
+ * <p>Principals are cached in two tiers (see {@link NearCache}): deserialised in process,
+ * then as JSON in the configured {@link CacheStore}. A hot principal is served without a
+ * network hop. Returned principals are shared and must not be modified.
+ *
+ * <p>Updates and deletes of principals, their role assignments and service accounts notify
+ * every instance through {@link CacheInvalidationBus}, which drops the affected entries.
  *
  * <p>Usage:
  * <pre>
@@ -29,12 +35,38 @@ public class PrincipalCacheService {
     @Inject
     CacheStore cacheStore;
 
+    @Inject
+    CacheConfig config;
+
+    @Inject
+    CacheInvalidationBus invalidationBus;
+
     @Inject
     PrincipalRepository principalRepo;
 
     @Inject
     ObjectMapper objectMapper;
 
+    @Inject
+    MeterRegistry registry;
+
+    private NearCache<Principal> cache;
+
+    @PostConstruct
+    void init() {
+        cache = new NearCache<>(CACHE_NAME, Principal.class, cacheStore, objectMapper, config.near(), registry);
+        invalidationBus.register(CACHE_NAME, key -> {
+            if (CacheInvalidationBus.ALL.equals(key)) {
+                // Sent on (re)connect and after invalidateAll, which has already cleared the
+                // shared store: only this instance's L1 can be stale. Triggers never send it;
+                // they name the changed principal, so its entry is cleared from both tiers
+                cache.invalidateAllLocal();
+            } else {
+                cache.invalidate(key);
+            }
+        });
+    }
+
     /**
      * Get principal by ID, using cache.
      *
@@ -45,54 +77,37 @@ public class PrincipalCacheService {
         if (principalId == null) {
             return Optional.empty();
         }
-
-        // Try cache first
-        Optional<String> cached = cacheStore.get(CACHE_NAME, principalId);
-        if (cached.isPresent()) {
-            try {
-                Principal principal = objectMapper.readValue(cached.get(), Principal.class);
-                LOG.debugf("Cache hit for principal: %s", principalId);
-                return Optional.of(principal);
-            } catch (Exception e) {
-                LOG.warnf("Failed to deserialize cached principal %s, fetching from database", principalId);
-                cacheStore.invalidate(CACHE_NAME, principalId);
-            }
-        }
-
-        // Fetch from database
-        Optional<Principal> principal = principalRepo.findByIdOptional(principalId);
-        if (principal.isPresent()) {
-            try {
-                String json = objectMapper.writeValueAsString(principal.get());
-                cacheStore.put(CACHE_NAME, principalId, json);
-                LOG.debugf("Cached principal: %s", principalId);
-            } catch (Exception e) {
-                LOG.warnf("Failed to cache principal %s: %s", principalId, e.getMessage());
-            }
-        }
-
-        return principal;
+        return cache.get(principalId, principalRepo::findByIdOptional);
     }
 
     /**
-     * Invalidate cache for a specific principal.
-     * Call this when a principal is updated or deleted.
+     * Invalidate cache for a specific principal on every instance.
+     * Committed database changes already do this; call it for changes made elsewhere.
      *
      * @param principalId The principal ID to invalidate
      */
     public void invalidate(String principalId) {
         if (principalId != null) {
-            cacheStore.invalidate(CACHE_NAME, principalId);
+            cache.invalidate(principalId);
+            invalidationBus.publish(CACHE_NAME, principalId);
             LOG.debugf("Invalidated cache for principal: %s", principalId);
         }
     }
 
     /**
-     * Invalidate all cached principals.
+     * Invalidate all cached principals on every instance.
      * Use sparingly, e.g., after bulk role changes.
      */
     public void invalidateAll() {
-        cacheStore.invalidateAll(CACHE_NAME);
+        cache.invalidateAll();
+        invalidationBus.publish(CACHE_NAME, CacheInvalidationBus.ALL);
         LOG.info("Invalidated all cached principals");
     }
+
+    /**
+     * Lookup counts and per-tier hit ratios.
+     */
+    public NearCache.Stats stats() {
+        return cache.stats();
+    }
 }
@@ -9,6 +9,7 @@ import lombok.Builder;
 import tech.flowcatalyst.platform.client.AuthConfigType;
 import tech.flowcatalyst.platform.common.DomainEvent;
 import tech.flowcatalyst.platform.common.ExecutionContext;
+import tech.flowcatalyst.platform.shared.EntityType;
 import tech.flowcatalyst.platform.shared.TsidGenerator;
 
 import java.time.Instant;
@@ -100,7 +101,7 @@ public record AuthConfigTypeUpdated(
      */
     public static AuthConfigTypeUpdatedBuilder fromContext(ExecutionContext ctx) {
         return AuthConfigTypeUpdated.builder()
-            .eventId(TsidGenerator.generate())
+            .eventId(TsidGenerator.generate(EntityType.EVENT))
             .time(Instant.now())
             .executionId(ctx.executionId())
             .correlationId(ctx.correlationId())
@@ -172,6 +172,36 @@ public class MongoTransactionalUnitOfWork implements UnitOfWork {
         }
     }
 
+    @Override
+    public <T extends DomainEvent> Result<List<T>> commitAll(List<Change<T>> changes) {
+        try (ClientSession session = mongoClient.startSession()) {
+            session.startTransaction();
+
+            try {
+                MongoDatabase db = mongoClient.getDatabase(databaseName);
+                List<T> events = new ArrayList<>(changes.size());
+
+                for (Change<T> change : changes) {
+                    persistAggregate(session, db, change.aggregate());
+                    createEvent(session, db, change.event());
+                    createAuditLog(session, db, change.event(), change.command());
+                    events.add(change.event());
+                }
+
+                session.commitTransaction();
+                return Result.success(events);
+
+            } catch (Exception e) {
+                session.abortTransaction();
+                return Result.failure(new UseCaseError.BusinessRuleViolation(
+                    "COMMIT_FAILED",
+                    "Failed to commit transaction: " + e.getMessage(),
+                    Map.of("exception", e.getClass().getSimpleName())
+                ));
+            }
+        }
+    }
+
     // ========================================================================
     // Aggregate Operations
     // ========================================================================
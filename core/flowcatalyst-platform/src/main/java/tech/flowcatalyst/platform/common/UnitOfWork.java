@@ -116,4 +116,33 @@ public interface UnitOfWork {
         T event,
         Object command
     );
+
+    /**
+     * One aggregate change with its domain event and command, for {@link #commitAll(java.util.List)}.
+     *
+     * @param aggregate The entity to persist
+     * @param event     The domain event representing what happened to it
+     * @param command   The command that was executed (for audit log)
+     * @param <T>       The domain event type
+     */
+    record Change<T extends DomainEvent>(Object aggregate, T event, Object command) {
+    }
+
+    /**
+     * Commit many independent aggregate changes, each with its own domain event
+     * and audit log entry, atomically.
+     *
+     * <p>Use this for bulk operations (imports, syncs) over many aggregates. Implementations
+     * may write the aggregates, events and audit entries with one batched statement per table
+     * instead of one transaction per aggregate.
+     *
+     * <p>If any step fails, the entire transaction is rolled back.
+     *
+     * @param changes The changes to commit
+     * @param <T>     The domain event type
+     * @return Success with the events in order, or Failure if transaction fails
+     */
+    <T extends DomainEvent> Result<java.util.List<T>> commitAll(
+        java.util.List<Change<T>> changes
+    );
 }
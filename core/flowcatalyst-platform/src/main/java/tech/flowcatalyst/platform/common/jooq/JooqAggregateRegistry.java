@@ -4,7 +4,11 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.jooq.DSLContext;
-import org.jooq.Record;
+import org.jooq.Field;
+import org.jooq.InsertSetMoreStep;
+import org.jooq.TableField;
+import org.jooq.TableRecord;
+import org.jooq.impl.DSL;
 import tech.flowcatalyst.dispatchpool.DispatchPool;
 import tech.flowcatalyst.dispatchpool.DispatchPoolStatus;
 import tech.flowcatalyst.dispatch.DispatchMode;
@@ -20,6 +24,7 @@ import tech.flowcatalyst.platform.authorization.AuthPermission;
 import tech.flowcatalyst.platform.authorization.AuthRole;
 import tech.flowcatalyst.platform.client.Client;
 import tech.flowcatalyst.platform.client.ClientStatus;
+import tech.flowcatalyst.platform.jooq.generated.tables.records.*;
 import tech.flowcatalyst.platform.principal.*;
 import tech.flowcatalyst.schema.Schema;
 import tech.flowcatalyst.serviceaccount.entity.ServiceAccount;
@@ -27,11 +32,12 @@ import tech.flowcatalyst.serviceaccount.entity.WebhookAuthType;
 import tech.flowcatalyst.serviceaccount.entity.WebhookCredentials;
 import tech.flowcatalyst.subscription.*;
 
-import java.lang.reflect.Field;
 import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static tech.flowcatalyst.platform.jooq.generated.tables.Applications.APPLICATIONS;
 import static tech.flowcatalyst.platform.jooq.generated.tables.ApplicationClientConfigs.APPLICATION_CLIENT_CONFIGS;
@@ -51,12 +57,126 @@ import static tech.flowcatalyst.platform.jooq.generated.tables.Subscriptions.SUB
  *
  * <p>This replaces the JDBI-based AggregateRegistry with JOOQ DSL operations.
  * All operations use the provided DSLContext to participate in the caller's transaction.
+ *
+ * <p>Each aggregate type is registered once with its id column, direct accessors for its id
+ * and timestamps, and a mapper to its generated table record. The mapper is found through a
+ * {@link ClassValue}, so a lookup costs the same however many types are registered, and no
+ * reflection happens per call. Writes are {@code INSERT ... ON CONFLICT (id) DO UPDATE}
+ * upserts, so persisting an aggregate is one statement and a batch of one type is one
+ * multi-row statement.
  */
 @ApplicationScoped
 public class JooqAggregateRegistry {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
+    /** Rows per multi-row upsert in {@link #persistAll} */
+    private static final int UPSERT_CHUNK_SIZE = 500;
+
+    /** Records are immutable and carry their own timestamps */
+    private static final Consumer<Object> RECORD_TIMESTAMPS = aggregate -> { };
+
+    /**
+     * How one aggregate type is stored.
+     *
+     * @param idField  primary key column
+     * @param id       id accessor
+     * @param touch    sets the aggregate's timestamps before a write
+     * @param toRecord maps the aggregate to a table record with every stored column set
+     */
+    private record AggregateMapper<A, R extends TableRecord<R>>(
+        TableField<R, String> idField,
+        Function<A, String> id,
+        Consumer<A> touch,
+        Function<A, R> toRecord
+    ) {
+        /**
+         * On conflict, every stored column except the id and created_at takes the new value.
+         */
+        Map<Field<?>, Field<?>> upsertSet(R row) {
+            Map<Field<?>, Field<?>> set = new LinkedHashMap<>();
+            for (Field<?> field : row.fields()) {
+                if (row.changed(field) && !field.equals(idField) && !field.getName().equals("created_at")) {
+                    set.put(field, DSL.excluded(field));
+                }
+            }
+            return set;
+        }
+    }
+
+    private final Map<Class<?>, AggregateMapper<?, ?>> registrations = new HashMap<>();
+
+    private final ClassValue<AggregateMapper<?, ?>> mappers = new ClassValue<>() {
+        @Override
+        protected AggregateMapper<?, ?> computeValue(Class<?> type) {
+            return registrations.get(type);
+        }
+    };
+
+    public JooqAggregateRegistry() {
+        register(Application.class, APPLICATIONS.ID, app -> app.id,
+            app -> touch(app.createdAt, now -> app.createdAt = now, now -> app.updatedAt = now),
+            this::applicationRecord);
+        register(ApplicationClientConfig.class, APPLICATION_CLIENT_CONFIGS.ID, config -> config.id,
+            config -> touch(config.createdAt, now -> config.createdAt = now, now -> config.updatedAt = now),
+            this::applicationClientConfigRecord);
+        register(EventType.class, EVENT_TYPES.ID, EventType::id, RECORD_TIMESTAMPS, this::eventTypeRecord);
+        register(Subscription.class, SUBSCRIPTIONS.ID, Subscription::id, RECORD_TIMESTAMPS, this::subscriptionRecord);
+        register(Schema.class, SCHEMAS.ID, Schema::id, RECORD_TIMESTAMPS, this::schemaRecord);
+        register(Client.class, CLIENTS.ID, client -> client.id,
+            client -> touch(client.createdAt, now -> client.createdAt = now, now -> client.updatedAt = now),
+            this::clientRecord);
+        register(Principal.class, PRINCIPALS.ID, principal -> principal.id,
+            principal -> touch(principal.createdAt, now -> principal.createdAt = now, now -> principal.updatedAt = now),
+            this::principalRecord);
+        register(OAuthClient.class, OAUTH_CLIENTS.ID, client -> client.id,
+            client -> touch(client.createdAt, now -> client.createdAt = now, now -> client.updatedAt = now),
+            this::oAuthClientRecord);
+        register(ServiceAccount.class, SERVICE_ACCOUNTS.ID, sa -> sa.id,
+            sa -> touch(sa.createdAt, now -> sa.createdAt = now, now -> sa.updatedAt = now),
+            this::serviceAccountRecord);
+        register(AuthRole.class, AUTH_ROLES.ID, role -> role.id,
+            role -> touch(role.createdAt, now -> role.createdAt = now, now -> role.updatedAt = now),
+            this::authRoleRecord);
+        register(AuthPermission.class, AUTH_PERMISSIONS.ID, perm -> perm.id,
+            perm -> touch(perm.createdAt, now -> perm.createdAt = now, now -> { }),
+            this::authPermissionRecord);
+        register(DispatchPool.class, DISPATCH_POOLS.ID, DispatchPool::id, RECORD_TIMESTAMPS, this::dispatchPoolRecord);
+    }
+
+    private <A, R extends TableRecord<R>> void register(
+            Class<A> type,
+            TableField<R, String> idField,
+            Function<A, String> id,
+            Consumer<? super A> touch,
+            Function<A, R> toRecord) {
+        registrations.put(type, new AggregateMapper<A, R>(idField, id, touch::accept, toRecord));
+    }
+
+    /**
+     * Stamp a mutable aggregate: updatedAt is always now, createdAt only if unset.
+     */
+    private static void touch(Instant createdAt, Consumer<Instant> setCreatedAt, Consumer<Instant> setUpdatedAt) {
+        Instant now = Instant.now();
+        setUpdatedAt.accept(now);
+        if (createdAt == null) {
+            setCreatedAt.accept(now);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <A> AggregateMapper<A, ?> mapperFor(Object aggregate) {
+        if (aggregate == null) {
+            throw new IllegalArgumentException("Aggregate cannot be null");
+        }
+        AggregateMapper<A, ?> mapper = (AggregateMapper<A, ?>) mappers.get(aggregate.getClass());
+        if (mapper == null) {
+            throw new IllegalArgumentException("Unknown aggregate type: " + aggregate.getClass().getName() +
+                ". Register it in JooqAggregateRegistry.");
+        }
+        return mapper;
+    }
+
     /**
      * Persist an aggregate (insert or update) within the given DSLContext's transaction.
      *
@@ -64,42 +184,45 @@ public class JooqAggregateRegistry {
      * @param aggregate The entity to persist
      */
     public void persist(DSLContext dsl, Object aggregate) {
-        if (aggregate == null) {
-            throw new IllegalArgumentException("Aggregate cannot be null");
+        upsert(dsl, mapperFor(aggregate), List.of(aggregate));
+    }
+
+    /**
+     * Persist many aggregates (insert or update) within the given DSLContext's transaction.
+     *
+     * <p>Aggregates are grouped by type and each group is written with multi-row upserts of up to
+     * {@value #UPSERT_CHUNK_SIZE} rows. If the same id appears more than once, the last one wins.
+     *
+     * @param dsl The JOOQ DSLContext (within a transaction)
+     * @param aggregates The entities to persist
+     */
+    public void persistAll(DSLContext dsl, List<?> aggregates) {
+        Map<AggregateMapper<Object, ?>, Map<String, Object>> byType = new LinkedHashMap<>();
+        for (Object aggregate : aggregates) {
+            AggregateMapper<Object, ?> mapper = mapperFor(aggregate);
+            // One row per id: a multi-row upsert cannot touch the same row twice
+            byType.computeIfAbsent(mapper, m -> new LinkedHashMap<>()).put(mapper.id().apply(aggregate), aggregate);
         }
+        for (Map.Entry<AggregateMapper<Object, ?>, Map<String, Object>> group : byType.entrySet()) {
+            List<Object> rows = new ArrayList<>(group.getValue().values());
+            for (int from = 0; from < rows.size(); from += UPSERT_CHUNK_SIZE) {
+                upsert(dsl, group.getKey(), rows.subList(from, Math.min(rows.size(), from + UPSERT_CHUNK_SIZE)));
+            }
+        }
+    }
 
-        // Set timestamps for mutable classes
-        setTimestamps(aggregate);
-
-        Class<?> clazz = aggregate.getClass();
-
-        if (clazz == Application.class) {
-            persistApplication(dsl, (Application) aggregate);
-        } else if (clazz == ApplicationClientConfig.class) {
-            persistApplicationClientConfig(dsl, (ApplicationClientConfig) aggregate);
-        } else if (clazz == EventType.class) {
-            persistEventType(dsl, (EventType) aggregate);
-        } else if (clazz == Subscription.class) {
-            persistSubscription(dsl, (Subscription) aggregate);
-        } else if (clazz == Schema.class) {
-            persistSchema(dsl, (Schema) aggregate);
-        } else if (clazz == Client.class) {
-            persistClient(dsl, (Client) aggregate);
-        } else if (clazz == Principal.class) {
-            persistPrincipal(dsl, (Principal) aggregate);
-        } else if (clazz == OAuthClient.class) {
-            persistOAuthClient(dsl, (OAuthClient) aggregate);
-        } else if (clazz == ServiceAccount.class) {
-            persistServiceAccount(dsl, (ServiceAccount) aggregate);
-        } else if (clazz == AuthRole.class) {
-            persistAuthRole(dsl, (AuthRole) aggregate);
-        } else if (clazz == AuthPermission.class) {
-            persistAuthPermission(dsl, (AuthPermission) aggregate);
-        } else if (clazz == DispatchPool.class) {
-            persistDispatchPool(dsl, (DispatchPool) aggregate);
-        } else {
-            throw new IllegalArgumentException("Unknown aggregate type: " + clazz.getName() +
-                ". Register it in JooqAggregateRegistry.");
+    private <A, R extends TableRecord<R>> void upsert(DSLContext dsl, AggregateMapper<A, R> mapper, List<?> aggregates) {
+        InsertSetMoreStep<R> insert = null;
+        R row = null;
+        for (Object aggregate : aggregates) {
+            @SuppressWarnings("unchecked")
+            A typed = (A) aggregate;
+            mapper.touch().accept(typed);
+            row = mapper.toRecord().apply(typed);
+            insert = (insert == null ? dsl.insertInto(mapper.idField().getTable()) : insert.newRecord()).set(row);
+        }
+        if (insert != null) {
+            insert.onConflict(mapper.idField()).doUpdate().set(mapper.upsertSet(row)).execute();
         }
     }
 
@@ -110,538 +233,254 @@ public class JooqAggregateRegistry {
      * @param aggregate The entity to delete
      */
     public void delete(DSLContext dsl, Object aggregate) {
-        if (aggregate == null) {
-            throw new IllegalArgumentException("Aggregate cannot be null");
-        }
+        delete(dsl, mapperFor(aggregate), aggregate);
+    }
 
-        Class<?> clazz = aggregate.getClass();
-        String id = extractId(aggregate);
-
-        if (clazz == Application.class) {
-            dsl.deleteFrom(APPLICATIONS).where(APPLICATIONS.ID.eq(id)).execute();
-        } else if (clazz == ApplicationClientConfig.class) {
-            dsl.deleteFrom(APPLICATION_CLIENT_CONFIGS).where(APPLICATION_CLIENT_CONFIGS.ID.eq(id)).execute();
-        } else if (clazz == EventType.class) {
-            dsl.deleteFrom(EVENT_TYPES).where(EVENT_TYPES.ID.eq(id)).execute();
-        } else if (clazz == Subscription.class) {
-            dsl.deleteFrom(SUBSCRIPTIONS).where(SUBSCRIPTIONS.ID.eq(id)).execute();
-        } else if (clazz == Schema.class) {
-            dsl.deleteFrom(SCHEMAS).where(SCHEMAS.ID.eq(id)).execute();
-        } else if (clazz == Client.class) {
-            dsl.deleteFrom(CLIENTS).where(CLIENTS.ID.eq(id)).execute();
-        } else if (clazz == Principal.class) {
-            dsl.deleteFrom(PRINCIPALS).where(PRINCIPALS.ID.eq(id)).execute();
-        } else if (clazz == OAuthClient.class) {
-            dsl.deleteFrom(OAUTH_CLIENTS).where(OAUTH_CLIENTS.ID.eq(id)).execute();
-        } else if (clazz == ServiceAccount.class) {
-            dsl.deleteFrom(SERVICE_ACCOUNTS).where(SERVICE_ACCOUNTS.ID.eq(id)).execute();
-        } else if (clazz == AuthRole.class) {
-            dsl.deleteFrom(AUTH_ROLES).where(AUTH_ROLES.ID.eq(id)).execute();
-        } else if (clazz == AuthPermission.class) {
-            dsl.deleteFrom(AUTH_PERMISSIONS).where(AUTH_PERMISSIONS.ID.eq(id)).execute();
-        } else if (clazz == DispatchPool.class) {
-            dsl.deleteFrom(DISPATCH_POOLS).where(DISPATCH_POOLS.ID.eq(id)).execute();
-        } else {
-            throw new IllegalArgumentException("Unknown aggregate type for delete: " + clazz.getName());
-        }
+    private <A, R extends TableRecord<R>> void delete(DSLContext dsl, AggregateMapper<A, R> mapper, Object aggregate) {
+        @SuppressWarnings("unchecked")
+        A typed = (A) aggregate;
+        TableField<R, String> idField = mapper.idField();
+        dsl.deleteFrom(idField.getTable()).where(idField.eq(mapper.id().apply(typed))).execute();
     }
 
     // ========================================================================
-    // Entity-Specific Persist Methods
+    // Entity Record Mappers
     // ========================================================================
 
-    private void persistApplication(DSLContext dsl, Application app) {
-        boolean exists = dsl.fetchExists(dsl.selectFrom(APPLICATIONS).where(APPLICATIONS.ID.eq(app.id)));
-        if (exists) {
-            dsl.update(APPLICATIONS)
-                .set(APPLICATIONS.CODE, app.code)
-                .set(APPLICATIONS.NAME, app.name)
-                .set(APPLICATIONS.DESCRIPTION, app.description)
-                .set(APPLICATIONS.TYPE, app.type != null ? app.type.name() : Application.ApplicationType.APPLICATION.name())
-                .set(APPLICATIONS.DEFAULT_BASE_URL, app.defaultBaseUrl)
-                .set(APPLICATIONS.SERVICE_ACCOUNT_ID, app.serviceAccountId)
-                .set(APPLICATIONS.ACTIVE, app.active)
-                .set(APPLICATIONS.ICON_URL, app.iconUrl)
-                .set(APPLICATIONS.WEBSITE, app.website)
-                .set(APPLICATIONS.LOGO, app.logo)
-                .set(APPLICATIONS.LOGO_MIME_TYPE, app.logoMimeType)
-                .set(APPLICATIONS.UPDATED_AT, toOffsetDateTime(app.updatedAt))
-                .where(APPLICATIONS.ID.eq(app.id))
-                .execute();
-        } else {
-            dsl.insertInto(APPLICATIONS)
-                .set(APPLICATIONS.ID, app.id)
-                .set(APPLICATIONS.CODE, app.code)
-                .set(APPLICATIONS.NAME, app.name)
-                .set(APPLICATIONS.DESCRIPTION, app.description)
-                .set(APPLICATIONS.TYPE, app.type != null ? app.type.name() : Application.ApplicationType.APPLICATION.name())
-                .set(APPLICATIONS.DEFAULT_BASE_URL, app.defaultBaseUrl)
-                .set(APPLICATIONS.SERVICE_ACCOUNT_ID, app.serviceAccountId)
-                .set(APPLICATIONS.ACTIVE, app.active)
-                .set(APPLICATIONS.ICON_URL, app.iconUrl)
-                .set(APPLICATIONS.WEBSITE, app.website)
-                .set(APPLICATIONS.LOGO, app.logo)
-                .set(APPLICATIONS.LOGO_MIME_TYPE, app.logoMimeType)
-                .set(APPLICATIONS.CREATED_AT, toOffsetDateTime(app.createdAt))
-                .set(APPLICATIONS.UPDATED_AT, toOffsetDateTime(app.updatedAt))
-                .execute();
-        }
+    private ApplicationsRecord applicationRecord(Application app) {
+        ApplicationsRecord row = new ApplicationsRecord();
+        row.set(APPLICATIONS.ID, app.id);
+        row.set(APPLICATIONS.CODE, app.code);
+        row.set(APPLICATIONS.NAME, app.name);
+        row.set(APPLICATIONS.DESCRIPTION, app.description);
+        row.set(APPLICATIONS.TYPE, app.type != null ? app.type.name() : Application.ApplicationType.APPLICATION.name());
+        row.set(APPLICATIONS.DEFAULT_BASE_URL, app.defaultBaseUrl);
+        row.set(APPLICATIONS.SERVICE_ACCOUNT_ID, app.serviceAccountId);
+        row.set(APPLICATIONS.ACTIVE, app.active);
+        row.set(APPLICATIONS.ICON_URL, app.iconUrl);
+        row.set(APPLICATIONS.WEBSITE, app.website);
+        row.set(APPLICATIONS.LOGO, app.logo);
+        row.set(APPLICATIONS.LOGO_MIME_TYPE, app.logoMimeType);
+        row.set(APPLICATIONS.CREATED_AT, toOffsetDateTime(app.createdAt));
+        row.set(APPLICATIONS.UPDATED_AT, toOffsetDateTime(app.updatedAt));
+        return row;
     }
 
-    private void persistApplicationClientConfig(DSLContext dsl, ApplicationClientConfig config) {
+    private ApplicationClientConfigsRecord applicationClientConfigRecord(ApplicationClientConfig config) {
         String configJson = toJson(config.configJson);
-        boolean exists = dsl.fetchExists(dsl.selectFrom(APPLICATION_CLIENT_CONFIGS).where(APPLICATION_CLIENT_CONFIGS.ID.eq(config.id)));
-        if (exists) {
-            dsl.update(APPLICATION_CLIENT_CONFIGS)
-                .set(APPLICATION_CLIENT_CONFIGS.APPLICATION_ID, config.applicationId)
-                .set(APPLICATION_CLIENT_CONFIGS.CLIENT_ID, config.clientId)
-                .set(APPLICATION_CLIENT_CONFIGS.ENABLED, config.enabled)
-                .set(APPLICATION_CLIENT_CONFIGS.BASE_URL_OVERRIDE, config.baseUrlOverride)
-                .set(APPLICATION_CLIENT_CONFIGS.WEBSITE_OVERRIDE, config.websiteOverride)
-                .set(APPLICATION_CLIENT_CONFIGS.CONFIG_JSON, configJson)
-                .set(APPLICATION_CLIENT_CONFIGS.UPDATED_AT, toOffsetDateTime(config.updatedAt))
-                .where(APPLICATION_CLIENT_CONFIGS.ID.eq(config.id))
-                .execute();
-        } else {
-            dsl.insertInto(APPLICATION_CLIENT_CONFIGS)
-                .set(APPLICATION_CLIENT_CONFIGS.ID, config.id)
-                .set(APPLICATION_CLIENT_CONFIGS.APPLICATION_ID, config.applicationId)
-                .set(APPLICATION_CLIENT_CONFIGS.CLIENT_ID, config.clientId)
-                .set(APPLICATION_CLIENT_CONFIGS.ENABLED, config.enabled)
-                .set(APPLICATION_CLIENT_CONFIGS.BASE_URL_OVERRIDE, config.baseUrlOverride)
-                .set(APPLICATION_CLIENT_CONFIGS.WEBSITE_OVERRIDE, config.websiteOverride)
-                .set(APPLICATION_CLIENT_CONFIGS.CONFIG_JSON, configJson)
-                .set(APPLICATION_CLIENT_CONFIGS.CREATED_AT, toOffsetDateTime(config.createdAt))
-                .set(APPLICATION_CLIENT_CONFIGS.UPDATED_AT, toOffsetDateTime(config.updatedAt))
-                .execute();
-        }
+        ApplicationClientConfigsRecord row = new ApplicationClientConfigsRecord();
+        row.set(APPLICATION_CLIENT_CONFIGS.ID, config.id);
+        row.set(APPLICATION_CLIENT_CONFIGS.APPLICATION_ID, config.applicationId);
+        row.set(APPLICATION_CLIENT_CONFIGS.CLIENT_ID, config.clientId);
+        row.set(APPLICATION_CLIENT_CONFIGS.ENABLED, config.enabled);
+        row.set(APPLICATION_CLIENT_CONFIGS.BASE_URL_OVERRIDE, config.baseUrlOverride);
+        row.set(APPLICATION_CLIENT_CONFIGS.WEBSITE_OVERRIDE, config.websiteOverride);
+        row.set(APPLICATION_CLIENT_CONFIGS.CONFIG_JSON, configJson);
+        row.set(APPLICATION_CLIENT_CONFIGS.CREATED_AT, toOffsetDateTime(config.createdAt));
+        row.set(APPLICATION_CLIENT_CONFIGS.UPDATED_AT, toOffsetDateTime(config.updatedAt));
+        return row;
     }
 
-    private void persistEventType(DSLContext dsl, EventType eventType) {
+    private EventTypesRecord eventTypeRecord(EventType eventType) {
         String specVersionsJson = toJson(eventType.specVersions());
-        boolean exists = dsl.fetchExists(dsl.selectFrom(EVENT_TYPES).where(EVENT_TYPES.ID.eq(eventType.id())));
-        if (exists) {
-            dsl.update(EVENT_TYPES)
-                .set(EVENT_TYPES.CODE, eventType.code())
-                .set(EVENT_TYPES.NAME, eventType.name())
-                .set(EVENT_TYPES.DESCRIPTION, eventType.description())
-                .set(EVENT_TYPES.SPEC_VERSIONS, specVersionsJson)
-                .set(EVENT_TYPES.STATUS, eventType.status() != null ? eventType.status().name() : EventTypeStatus.CURRENT.name())
-                .set(EVENT_TYPES.UPDATED_AT, toOffsetDateTime(eventType.updatedAt()))
-                .where(EVENT_TYPES.ID.eq(eventType.id()))
-                .execute();
-        } else {
-            dsl.insertInto(EVENT_TYPES)
-                .set(EVENT_TYPES.ID, eventType.id())
-                .set(EVENT_TYPES.CODE, eventType.code())
-                .set(EVENT_TYPES.NAME, eventType.name())
-                .set(EVENT_TYPES.DESCRIPTION, eventType.description())
-                .set(EVENT_TYPES.SPEC_VERSIONS, specVersionsJson)
-                .set(EVENT_TYPES.STATUS, eventType.status() != null ? eventType.status().name() : EventTypeStatus.CURRENT.name())
-                .set(EVENT_TYPES.CREATED_AT, toOffsetDateTime(eventType.createdAt()))
-                .set(EVENT_TYPES.UPDATED_AT, toOffsetDateTime(eventType.updatedAt()))
-                .execute();
-        }
+        EventTypesRecord row = new EventTypesRecord();
+        row.set(EVENT_TYPES.ID, eventType.id());
+        row.set(EVENT_TYPES.CODE, eventType.code());
+        row.set(EVENT_TYPES.NAME, eventType.name());
+        row.set(EVENT_TYPES.DESCRIPTION, eventType.description());
+        row.set(EVENT_TYPES.SPEC_VERSIONS, specVersionsJson);
+        row.set(EVENT_TYPES.STATUS, eventType.status() != null ? eventType.status().name() : EventTypeStatus.CURRENT.name());
+        row.set(EVENT_TYPES.CREATED_AT, toOffsetDateTime(eventType.createdAt()));
+        row.set(EVENT_TYPES.UPDATED_AT, toOffsetDateTime(eventType.updatedAt()));
+        return row;
     }
 
-    private void persistSubscription(DSLContext dsl, Subscription sub) {
+    private SubscriptionsRecord subscriptionRecord(Subscription sub) {
         String eventTypesJson = toJson(sub.eventTypes());
         String customConfigJson = toJson(sub.customConfig());
-        boolean exists = dsl.fetchExists(dsl.selectFrom(SUBSCRIPTIONS).where(SUBSCRIPTIONS.ID.eq(sub.id())));
-        if (exists) {
-            dsl.update(SUBSCRIPTIONS)
-                .set(SUBSCRIPTIONS.CODE, sub.code())
-                .set(SUBSCRIPTIONS.NAME, sub.name())
-                .set(SUBSCRIPTIONS.DESCRIPTION, sub.description())
-                .set(SUBSCRIPTIONS.CLIENT_ID, sub.clientId())
-                .set(SUBSCRIPTIONS.CLIENT_IDENTIFIER, sub.clientIdentifier())
-                .set(SUBSCRIPTIONS.EVENT_TYPES, eventTypesJson)
-                .set(SUBSCRIPTIONS.TARGET, sub.target())
-                .set(SUBSCRIPTIONS.QUEUE, sub.queue())
-                .set(SUBSCRIPTIONS.CUSTOM_CONFIG, customConfigJson)
-                .set(SUBSCRIPTIONS.SOURCE, sub.source() != null ? sub.source().name() : SubscriptionSource.API.name())
-                .set(SUBSCRIPTIONS.STATUS, sub.status() != null ? sub.status().name() : SubscriptionStatus.ACTIVE.name())
-                .set(SUBSCRIPTIONS.MAX_AGE_SECONDS, sub.maxAgeSeconds())
-                .set(SUBSCRIPTIONS.DISPATCH_POOL_ID, sub.dispatchPoolId())
-                .set(SUBSCRIPTIONS.DISPATCH_POOL_CODE, sub.dispatchPoolCode())
-                .set(SUBSCRIPTIONS.DELAY_SECONDS, sub.delaySeconds())
-                .set(SUBSCRIPTIONS.SEQUENCE, sub.sequence())
-                .set(SUBSCRIPTIONS.MODE, sub.mode() != null ? sub.mode().name() : DispatchMode.IMMEDIATE.name())
-                .set(SUBSCRIPTIONS.TIMEOUT_SECONDS, sub.timeoutSeconds())
-                .set(SUBSCRIPTIONS.MAX_RETRIES, sub.maxRetries())
-                .set(SUBSCRIPTIONS.SERVICE_ACCOUNT_ID, sub.serviceAccountId())
-                .set(SUBSCRIPTIONS.DATA_ONLY, sub.dataOnly())
-                .set(SUBSCRIPTIONS.UPDATED_AT, toOffsetDateTime(sub.updatedAt()))
-                .where(SUBSCRIPTIONS.ID.eq(sub.id()))
-                .execute();
-        } else {
-            dsl.insertInto(SUBSCRIPTIONS)
-                .set(SUBSCRIPTIONS.ID, sub.id())
-                .set(SUBSCRIPTIONS.CODE, sub.code())
-                .set(SUBSCRIPTIONS.NAME, sub.name())
-                .set(SUBSCRIPTIONS.DESCRIPTION, sub.description())
-                .set(SUBSCRIPTIONS.CLIENT_ID, sub.clientId())
-                .set(SUBSCRIPTIONS.CLIENT_IDENTIFIER, sub.clientIdentifier())
-                .set(SUBSCRIPTIONS.EVENT_TYPES, eventTypesJson)
-                .set(SUBSCRIPTIONS.TARGET, sub.target())
-                .set(SUBSCRIPTIONS.QUEUE, sub.queue())
-                .set(SUBSCRIPTIONS.CUSTOM_CONFIG, customConfigJson)
-                .set(SUBSCRIPTIONS.SOURCE, sub.source() != null ? sub.source().name() : SubscriptionSource.API.name())
-                .set(SUBSCRIPTIONS.STATUS, sub.status() != null ? sub.status().name() : SubscriptionStatus.ACTIVE.name())
-                .set(SUBSCRIPTIONS.MAX_AGE_SECONDS, sub.maxAgeSeconds())
-                .set(SUBSCRIPTIONS.DISPATCH_POOL_ID, sub.dispatchPoolId())
-                .set(SUBSCRIPTIONS.DISPATCH_POOL_CODE, sub.dispatchPoolCode())
-                .set(SUBSCRIPTIONS.DELAY_SECONDS, sub.delaySeconds())
-                .set(SUBSCRIPTIONS.SEQUENCE, sub.sequence())
-                .set(SUBSCRIPTIONS.MODE, sub.mode() != null ? sub.mode().name() : DispatchMode.IMMEDIATE.name())
-                .set(SUBSCRIPTIONS.TIMEOUT_SECONDS, sub.timeoutSeconds())
-                .set(SUBSCRIPTIONS.MAX_RETRIES, sub.maxRetries())
-                .set(SUBSCRIPTIONS.SERVICE_ACCOUNT_ID, sub.serviceAccountId())
-                .set(SUBSCRIPTIONS.DATA_ONLY, sub.dataOnly())
-                .set(SUBSCRIPTIONS.CREATED_AT, toOffsetDateTime(sub.createdAt()))
-                .set(SUBSCRIPTIONS.UPDATED_AT, toOffsetDateTime(sub.updatedAt()))
-                .execute();
-        }
+        SubscriptionsRecord row = new SubscriptionsRecord();
+        row.set(SUBSCRIPTIONS.ID, sub.id());
+        row.set(SUBSCRIPTIONS.CODE, sub.code());
+        row.set(SUBSCRIPTIONS.NAME, sub.name());
+        row.set(SUBSCRIPTIONS.DESCRIPTION, sub.description());
+        row.set(SUBSCRIPTIONS.CLIENT_ID, sub.clientId());
+        row.set(SUBSCRIPTIONS.CLIENT_IDENTIFIER, sub.clientIdentifier());
+        row.set(SUBSCRIPTIONS.EVENT_TYPES, eventTypesJson);
+        row.set(SUBSCRIPTIONS.TARGET, sub.target());
+        row.set(SUBSCRIPTIONS.QUEUE, sub.queue());
+        row.set(SUBSCRIPTIONS.CUSTOM_CONFIG, customConfigJson);
+        row.set(SUBSCRIPTIONS.SOURCE, sub.source() != null ? sub.source().name() : SubscriptionSource.API.name());
+        row.set(SUBSCRIPTIONS.STATUS, sub.status() != null ? sub.status().name() : SubscriptionStatus.ACTIVE.name());
+        row.set(SUBSCRIPTIONS.MAX_AGE_SECONDS, sub.maxAgeSeconds());
+        row.set(SUBSCRIPTIONS.DISPATCH_POOL_ID, sub.dispatchPoolId());
+        row.set(SUBSCRIPTIONS.DISPATCH_POOL_CODE, sub.dispatchPoolCode());
+        row.set(SUBSCRIPTIONS.DELAY_SECONDS, sub.delaySeconds());
+        row.set(SUBSCRIPTIONS.SEQUENCE, sub.sequence());
+        row.set(SUBSCRIPTIONS.MODE, sub.mode() != null ? sub.mode().name() : DispatchMode.IMMEDIATE.name());
+        row.set(SUBSCRIPTIONS.TIMEOUT_SECONDS, sub.timeoutSeconds());
+        row.set(SUBSCRIPTIONS.MAX_RETRIES, sub.maxRetries());
+        row.set(SUBSCRIPTIONS.SERVICE_ACCOUNT_ID, sub.serviceAccountId());
+        row.set(SUBSCRIPTIONS.DATA_ONLY, sub.dataOnly());
+        row.set(SUBSCRIPTIONS.CREATED_AT, toOffsetDateTime(sub.createdAt()));
+        row.set(SUBSCRIPTIONS.UPDATED_AT, toOffsetDateTime(sub.updatedAt()));
+        return row;
     }
 
-    private void persistSchema(DSLContext dsl, Schema schema) {
-        boolean exists = dsl.fetchExists(dsl.selectFrom(SCHEMAS).where(SCHEMAS.ID.eq(schema.id())));
-        if (exists) {
-            dsl.update(SCHEMAS)
-                .set(SCHEMAS.NAME, schema.name())
-                .set(SCHEMAS.DESCRIPTION, schema.description())
-                .set(SCHEMAS.MIME_TYPE, schema.mimeType())
-                .set(SCHEMAS.SCHEMA_TYPE, schema.schemaType() != null ? schema.schemaType().name() : null)
-                .set(SCHEMAS.CONTENT, schema.content())
-                .set(SCHEMAS.EVENT_TYPE_ID, schema.eventTypeId())
-                .set(SCHEMAS.VERSION, schema.version())
-                .set(SCHEMAS.UPDATED_AT, toOffsetDateTime(schema.updatedAt()))
-                .where(SCHEMAS.ID.eq(schema.id()))
-                .execute();
-        } else {
-            dsl.insertInto(SCHEMAS)
-                .set(SCHEMAS.ID, schema.id())
-                .set(SCHEMAS.NAME, schema.name())
-                .set(SCHEMAS.DESCRIPTION, schema.description())
-                .set(SCHEMAS.MIME_TYPE, schema.mimeType())
-                .set(SCHEMAS.SCHEMA_TYPE, schema.schemaType() != null ? schema.schemaType().name() : null)
-                .set(SCHEMAS.CONTENT, schema.content())
-                .set(SCHEMAS.EVENT_TYPE_ID, schema.eventTypeId())
-                .set(SCHEMAS.VERSION, schema.version())
-                .set(SCHEMAS.CREATED_AT, toOffsetDateTime(schema.createdAt()))
-                .set(SCHEMAS.UPDATED_AT, toOffsetDateTime(schema.updatedAt()))
-                .execute();
-        }
+    private SchemasRecord schemaRecord(Schema schema) {
+        SchemasRecord row = new SchemasRecord();
+        row.set(SCHEMAS.ID, schema.id());
+        row.set(SCHEMAS.NAME, schema.name());
+        row.set(SCHEMAS.DESCRIPTION, schema.description());
+        row.set(SCHEMAS.MIME_TYPE, schema.mimeType());
+        row.set(SCHEMAS.SCHEMA_TYPE, schema.schemaType() != null ? schema.schemaType().name() : null);
+        row.set(SCHEMAS.CONTENT, schema.content());
+        row.set(SCHEMAS.EVENT_TYPE_ID, schema.eventTypeId());
+        row.set(SCHEMAS.VERSION, schema.version());
+        row.set(SCHEMAS.CREATED_AT, toOffsetDateTime(schema.createdAt()));
+        row.set(SCHEMAS.UPDATED_AT, toOffsetDateTime(schema.updatedAt()));
+        return row;
     }
 
-    private void persistClient(DSLContext dsl, Client client) {
+    private ClientsRecord clientRecord(Client client) {
         String notesJson = toJson(client.notes);
-        boolean exists = dsl.fetchExists(dsl.selectFrom(CLIENTS).where(CLIENTS.ID.eq(client.id)));
-        if (exists) {
-            dsl.update(CLIENTS)
-                .set(CLIENTS.NAME, client.name)
-                .set(CLIENTS.IDENTIFIER, client.identifier)
-                .set(CLIENTS.STATUS, client.status != null ? client.status.name() : ClientStatus.ACTIVE.name())
-                .set(CLIENTS.STATUS_REASON, client.statusReason)
-                .set(CLIENTS.STATUS_CHANGED_AT, toOffsetDateTime(client.statusChangedAt))
-                .set(CLIENTS.NOTES, notesJson)
-                .set(CLIENTS.UPDATED_AT, toOffsetDateTime(client.updatedAt))
-                .where(CLIENTS.ID.eq(client.id))
-                .execute();
-        } else {
-            dsl.insertInto(CLIENTS)
-                .set(CLIENTS.ID, client.id)
-                .set(CLIENTS.NAME, client.name)
-                .set(CLIENTS.IDENTIFIER, client.identifier)
-                .set(CLIENTS.STATUS, client.status != null ? client.status.name() : ClientStatus.ACTIVE.name())
-                .set(CLIENTS.STATUS_REASON, client.statusReason)
-                .set(CLIENTS.STATUS_CHANGED_AT, toOffsetDateTime(client.statusChangedAt))
-                .set(CLIENTS.NOTES, notesJson)
-                .set(CLIENTS.CREATED_AT, toOffsetDateTime(client.createdAt))
-                .set(CLIENTS.UPDATED_AT, toOffsetDateTime(client.updatedAt))
-                .execute();
-        }
+        ClientsRecord row = new ClientsRecord();
+        row.set(CLIENTS.ID, client.id);
+        row.set(CLIENTS.NAME, client.name);
+        row.set(CLIENTS.IDENTIFIER, client.identifier);
+        row.set(CLIENTS.STATUS, client.status != null ? client.status.name() : ClientStatus.ACTIVE.name());
+        row.set(CLIENTS.STATUS_REASON, client.statusReason);
+        row.set(CLIENTS.STATUS_CHANGED_AT, toOffsetDateTime(client.statusChangedAt));
+        row.set(CLIENTS.NOTES, notesJson);
+        row.set(CLIENTS.CREATED_AT, toOffsetDateTime(client.createdAt));
+        row.set(CLIENTS.UPDATED_AT, toOffsetDateTime(client.updatedAt));
+        return row;
     }
 
-    private void persistPrincipal(DSLContext dsl, Principal principal) {
+    private PrincipalsRecord principalRecord(Principal principal) {
         String serviceAccountJson = toJson(principal.serviceAccount);
         String rolesJson = toJson(principal.roles != null ? principal.roles : new ArrayList<>());
 
         var ui = principal.userIdentity;
-
-        boolean exists = dsl.fetchExists(dsl.selectFrom(PRINCIPALS).where(PRINCIPALS.ID.eq(principal.id)));
-        if (exists) {
-            dsl.update(PRINCIPALS)
-                .set(PRINCIPALS.TYPE, principal.type != null ? principal.type.name() : PrincipalType.USER.name())
-                .set(PRINCIPALS.SCOPE, principal.scope != null ? principal.scope.name() : null)
-                .set(PRINCIPALS.CLIENT_ID, principal.clientId)
-                .set(PRINCIPALS.APPLICATION_ID, principal.applicationId)
-                .set(PRINCIPALS.NAME, principal.name)
-                .set(PRINCIPALS.ACTIVE, principal.active)
-                .set(PRINCIPALS.EMAIL, ui != null ? ui.email : null)
-                .set(PRINCIPALS.EMAIL_DOMAIN, ui != null ? ui.emailDomain : null)
-                .set(PRINCIPALS.IDP_TYPE, ui != null && ui.idpType != null ? ui.idpType.name() : null)
-                .set(PRINCIPALS.EXTERNAL_IDP_ID, ui != null ? ui.externalIdpId : null)
-                .set(PRINCIPALS.PASSWORD_HASH, ui != null ? ui.passwordHash : null)
-                .set(PRINCIPALS.LAST_LOGIN_AT, ui != null ? toOffsetDateTime(ui.lastLoginAt) : null)
-                .set(PRINCIPALS.SERVICE_ACCOUNT, serviceAccountJson)
-                .set(PRINCIPALS.ROLES, rolesJson)
-                .set(PRINCIPALS.UPDATED_AT, toOffsetDateTime(principal.updatedAt))
-                .where(PRINCIPALS.ID.eq(principal.id))
-                .execute();
-        } else {
-            dsl.insertInto(PRINCIPALS)
-                .set(PRINCIPALS.ID, principal.id)
-                .set(PRINCIPALS.TYPE, principal.type != null ? principal.type.name() : PrincipalType.USER.name())
-                .set(PRINCIPALS.SCOPE, principal.scope != null ? principal.scope.name() : null)
-                .set(PRINCIPALS.CLIENT_ID, principal.clientId)
-                .set(PRINCIPALS.APPLICATION_ID, principal.applicationId)
-                .set(PRINCIPALS.NAME, principal.name)
-                .set(PRINCIPALS.ACTIVE, principal.active)
-                .set(PRINCIPALS.EMAIL, ui != null ? ui.email : null)
-                .set(PRINCIPALS.EMAIL_DOMAIN, ui != null ? ui.emailDomain : null)
-                .set(PRINCIPALS.IDP_TYPE, ui != null && ui.idpType != null ? ui.idpType.name() : null)
-                .set(PRINCIPALS.EXTERNAL_IDP_ID, ui != null ? ui.externalIdpId : null)
-                .set(PRINCIPALS.PASSWORD_HASH, ui != null ? ui.passwordHash : null)
-                .set(PRINCIPALS.LAST_LOGIN_AT, ui != null ? toOffsetDateTime(ui.lastLoginAt) : null)
-                .set(PRINCIPALS.SERVICE_ACCOUNT, serviceAccountJson)
-                .set(PRINCIPALS.ROLES, rolesJson)
-                .set(PRINCIPALS.CREATED_AT, toOffsetDateTime(principal.createdAt))
-                .set(PRINCIPALS.UPDATED_AT, toOffsetDateTime(principal.updatedAt))
-                .execute();
-        }
+        PrincipalsRecord row = new PrincipalsRecord();
+        row.set(PRINCIPALS.ID, principal.id);
+        row.set(PRINCIPALS.TYPE, principal.type != null ? principal.type.name() : PrincipalType.USER.name());
+        row.set(PRINCIPALS.SCOPE, principal.scope != null ? principal.scope.name() : null);
+        row.set(PRINCIPALS.CLIENT_ID, principal.clientId);
+        row.set(PRINCIPALS.APPLICATION_ID, principal.applicationId);
+        row.set(PRINCIPALS.NAME, principal.name);
+        row.set(PRINCIPALS.ACTIVE, principal.active);
+        row.set(PRINCIPALS.EMAIL, ui != null ? ui.email : null);
+        row.set(PRINCIPALS.EMAIL_DOMAIN, ui != null ? ui.emailDomain : null);
+        row.set(PRINCIPALS.IDP_TYPE, ui != null && ui.idpType != null ? ui.idpType.name() : null);
+        row.set(PRINCIPALS.EXTERNAL_IDP_ID, ui != null ? ui.externalIdpId : null);
+        row.set(PRINCIPALS.PASSWORD_HASH, ui != null ? ui.passwordHash : null);
+        row.set(PRINCIPALS.LAST_LOGIN_AT, ui != null ? toOffsetDateTime(ui.lastLoginAt) : null);
+        row.set(PRINCIPALS.SERVICE_ACCOUNT, serviceAccountJson);
+        row.set(PRINCIPALS.ROLES, rolesJson);
+        row.set(PRINCIPALS.CREATED_AT, toOffsetDateTime(principal.createdAt));
+        row.set(PRINCIPALS.UPDATED_AT, toOffsetDateTime(principal.updatedAt));
+        return row;
     }
 
-    private void persistOAuthClient(DSLContext dsl, OAuthClient client) {
+    private OauthClientsRecord oAuthClientRecord(OAuthClient client) {
         String[] redirectUris = client.redirectUris != null ? client.redirectUris.toArray(new String[0]) : new String[0];
         String[] allowedOrigins = client.allowedOrigins != null ? client.allowedOrigins.toArray(new String[0]) : new String[0];
         String[] grantTypes = client.grantTypes != null ? client.grantTypes.toArray(new String[0]) : new String[0];
         String[] applicationIds = client.applicationIds != null ? client.applicationIds.toArray(new String[0]) : new String[0];
-
-        boolean exists = dsl.fetchExists(dsl.selectFrom(OAUTH_CLIENTS).where(OAUTH_CLIENTS.ID.eq(client.id)));
-        if (exists) {
-            dsl.update(OAUTH_CLIENTS)
-                .set(OAUTH_CLIENTS.CLIENT_ID, client.clientId)
-                .set(OAUTH_CLIENTS.CLIENT_NAME, client.clientName)
-                .set(OAUTH_CLIENTS.CLIENT_TYPE, client.clientType != null ? client.clientType.name() : OAuthClient.ClientType.PUBLIC.name())
-                .set(OAUTH_CLIENTS.CLIENT_SECRET_REF, client.clientSecretRef)
-                .set(OAUTH_CLIENTS.REDIRECT_URIS, redirectUris)
-                .set(OAUTH_CLIENTS.ALLOWED_ORIGINS, allowedOrigins)
-                .set(OAUTH_CLIENTS.GRANT_TYPES, grantTypes)
-                .set(OAUTH_CLIENTS.DEFAULT_SCOPES, client.defaultScopes)
-                .set(OAUTH_CLIENTS.PKCE_REQUIRED, client.pkceRequired)
-                .set(OAUTH_CLIENTS.APPLICATION_IDS, applicationIds)
-                .set(OAUTH_CLIENTS.SERVICE_ACCOUNT_PRINCIPAL_ID, client.serviceAccountPrincipalId)
-                .set(OAUTH_CLIENTS.ACTIVE, client.active)
-                .set(OAUTH_CLIENTS.UPDATED_AT, toOffsetDateTime(client.updatedAt))
-                .where(OAUTH_CLIENTS.ID.eq(client.id))
-                .execute();
-        } else {
-            dsl.insertInto(OAUTH_CLIENTS)
-                .set(OAUTH_CLIENTS.ID, client.id)
-                .set(OAUTH_CLIENTS.CLIENT_ID, client.clientId)
-                .set(OAUTH_CLIENTS.CLIENT_NAME, client.clientName)
-                .set(OAUTH_CLIENTS.CLIENT_TYPE, client.clientType != null ? client.clientType.name() : OAuthClient.ClientType.PUBLIC.name())
-                .set(OAUTH_CLIENTS.CLIENT_SECRET_REF, client.clientSecretRef)
-                .set(OAUTH_CLIENTS.REDIRECT_URIS, redirectUris)
-                .set(OAUTH_CLIENTS.ALLOWED_ORIGINS, allowedOrigins)
-                .set(OAUTH_CLIENTS.GRANT_TYPES, grantTypes)
-                .set(OAUTH_CLIENTS.DEFAULT_SCOPES, client.defaultScopes)
-                .set(OAUTH_CLIENTS.PKCE_REQUIRED, client.pkceRequired)
-                .set(OAUTH_CLIENTS.APPLICATION_IDS, applicationIds)
-                .set(OAUTH_CLIENTS.SERVICE_ACCOUNT_PRINCIPAL_ID, client.serviceAccountPrincipalId)
-                .set(OAUTH_CLIENTS.ACTIVE, client.active)
-                .set(OAUTH_CLIENTS.CREATED_AT, toOffsetDateTime(client.createdAt))
-                .set(OAUTH_CLIENTS.UPDATED_AT, toOffsetDateTime(client.updatedAt))
-                .execute();
-        }
+        OauthClientsRecord row = new OauthClientsRecord();
+        row.set(OAUTH_CLIENTS.ID, client.id);
+        row.set(OAUTH_CLIENTS.CLIENT_ID, client.clientId);
+        row.set(OAUTH_CLIENTS.CLIENT_NAME, client.clientName);
+        row.set(OAUTH_CLIENTS.CLIENT_TYPE, client.clientType != null ? client.clientType.name() : OAuthClient.ClientType.PUBLIC.name());
+        row.set(OAUTH_CLIENTS.CLIENT_SECRET_REF, client.clientSecretRef);
+        row.set(OAUTH_CLIENTS.REDIRECT_URIS, redirectUris);
+        row.set(OAUTH_CLIENTS.ALLOWED_ORIGINS, allowedOrigins);
+        row.set(OAUTH_CLIENTS.GRANT_TYPES, grantTypes);
+        row.set(OAUTH_CLIENTS.DEFAULT_SCOPES, client.defaultScopes);
+        row.set(OAUTH_CLIENTS.PKCE_REQUIRED, client.pkceRequired);
+        row.set(OAUTH_CLIENTS.APPLICATION_IDS, applicationIds);
+        row.set(OAUTH_CLIENTS.SERVICE_ACCOUNT_PRINCIPAL_ID, client.serviceAccountPrincipalId);
+        row.set(OAUTH_CLIENTS.ACTIVE, client.active);
+        row.set(OAUTH_CLIENTS.CREATED_AT, toOffsetDateTime(client.createdAt));
+        row.set(OAUTH_CLIENTS.UPDATED_AT, toOffsetDateTime(client.updatedAt));
+        return row;
     }
 
-    private void persistServiceAccount(DSLContext dsl, ServiceAccount sa) {
+    private ServiceAccountsRecord serviceAccountRecord(ServiceAccount sa) {
         String[] clientIdsArray = sa.clientIds != null ? sa.clientIds.toArray(new String[0]) : new String[0];
         String rolesJson = toJson(sa.roles != null ? sa.roles : new ArrayList<>());
 
         var wc = sa.webhookCredentials;
-
-        boolean exists = dsl.fetchExists(dsl.selectFrom(SERVICE_ACCOUNTS).where(SERVICE_ACCOUNTS.ID.eq(sa.id)));
-        if (exists) {
-            dsl.update(SERVICE_ACCOUNTS)
-                .set(SERVICE_ACCOUNTS.CODE, sa.code)
-                .set(SERVICE_ACCOUNTS.NAME, sa.name)
-                .set(SERVICE_ACCOUNTS.DESCRIPTION, sa.description)
-                .set(SERVICE_ACCOUNTS.CLIENT_IDS, clientIdsArray)
-                .set(SERVICE_ACCOUNTS.APPLICATION_ID, sa.applicationId)
-                .set(SERVICE_ACCOUNTS.ACTIVE, sa.active)
-                .set(SERVICE_ACCOUNTS.WH_AUTH_TYPE, wc != null && wc.authType != null ? wc.authType.name() : null)
-                .set(SERVICE_ACCOUNTS.WH_AUTH_TOKEN_REF, wc != null ? wc.authTokenRef : null)
-                .set(SERVICE_ACCOUNTS.WH_SIGNING_SECRET_REF, wc != null ? wc.signingSecretRef : null)
-                .set(SERVICE_ACCOUNTS.WH_SIGNING_ALGORITHM, wc != null && wc.signingAlgorithm != null ? wc.signingAlgorithm.name() : null)
-                .set(SERVICE_ACCOUNTS.WH_CREDENTIALS_CREATED_AT, wc != null ? toOffsetDateTime(wc.createdAt) : null)
-                .set(SERVICE_ACCOUNTS.WH_CREDENTIALS_REGENERATED_AT, wc != null ? toOffsetDateTime(wc.regeneratedAt) : null)
-                .set(SERVICE_ACCOUNTS.ROLES, rolesJson)
-                .set(SERVICE_ACCOUNTS.LAST_USED_AT, toOffsetDateTime(sa.lastUsedAt))
-                .set(SERVICE_ACCOUNTS.UPDATED_AT, toOffsetDateTime(sa.updatedAt))
-                .where(SERVICE_ACCOUNTS.ID.eq(sa.id))
-                .execute();
-        } else {
-            dsl.insertInto(SERVICE_ACCOUNTS)
-                .set(SERVICE_ACCOUNTS.ID, sa.id)
-                .set(SERVICE_ACCOUNTS.CODE, sa.code)
-                .set(SERVICE_ACCOUNTS.NAME, sa.name)
-                .set(SERVICE_ACCOUNTS.DESCRIPTION, sa.description)
-                .set(SERVICE_ACCOUNTS.CLIENT_IDS, clientIdsArray)
-                .set(SERVICE_ACCOUNTS.APPLICATION_ID, sa.applicationId)
-                .set(SERVICE_ACCOUNTS.ACTIVE, sa.active)
-                .set(SERVICE_ACCOUNTS.WH_AUTH_TYPE, wc != null && wc.authType != null ? wc.authType.name() : null)
-                .set(SERVICE_ACCOUNTS.WH_AUTH_TOKEN_REF, wc != null ? wc.authTokenRef : null)
-                .set(SERVICE_ACCOUNTS.WH_SIGNING_SECRET_REF, wc != null ? wc.signingSecretRef : null)
-                .set(SERVICE_ACCOUNTS.WH_SIGNING_ALGORITHM, wc != null && wc.signingAlgorithm != null ? wc.signingAlgorithm.name() : null)
-                .set(SERVICE_ACCOUNTS.WH_CREDENTIALS_CREATED_AT, wc != null ? toOffsetDateTime(wc.createdAt) : null)
-                .set(SERVICE_ACCOUNTS.WH_CREDENTIALS_REGENERATED_AT, wc != null ? toOffsetDateTime(wc.regeneratedAt) : null)
-                .set(SERVICE_ACCOUNTS.ROLES, rolesJson)
-                .set(SERVICE_ACCOUNTS.LAST_USED_AT, toOffsetDateTime(sa.lastUsedAt))
-                .set(SERVICE_ACCOUNTS.CREATED_AT, toOffsetDateTime(sa.createdAt))
-                .set(SERVICE_ACCOUNTS.UPDATED_AT, toOffsetDateTime(sa.updatedAt))
-                .execute();
-        }
+        ServiceAccountsRecord row = new ServiceAccountsRecord();
+        row.set(SERVICE_ACCOUNTS.ID, sa.id);
+        row.set(SERVICE_ACCOUNTS.CODE, sa.code);
+        row.set(SERVICE_ACCOUNTS.NAME, sa.name);
+        row.set(SERVICE_ACCOUNTS.DESCRIPTION, sa.description);
+        row.set(SERVICE_ACCOUNTS.CLIENT_IDS, clientIdsArray);
+        row.set(SERVICE_ACCOUNTS.APPLICATION_ID, sa.applicationId);
+        row.set(SERVICE_ACCOUNTS.ACTIVE, sa.active);
+        row.set(SERVICE_ACCOUNTS.WH_AUTH_TYPE, wc != null && wc.authType != null ? wc.authType.name() : null);
+        row.set(SERVICE_ACCOUNTS.WH_AUTH_TOKEN_REF, wc != null ? wc.authTokenRef : null);
+        row.set(SERVICE_ACCOUNTS.WH_SIGNING_SECRET_REF, wc != null ? wc.signingSecretRef : null);
+        row.set(SERVICE_ACCOUNTS.WH_SIGNING_ALGORITHM, wc != null && wc.signingAlgorithm != null ? wc.signingAlgorithm.name() : null);
+        row.set(SERVICE_ACCOUNTS.WH_CREDENTIALS_CREATED_AT, wc != null ? toOffsetDateTime(wc.createdAt) : null);
+        row.set(SERVICE_ACCOUNTS.WH_CREDENTIALS_REGENERATED_AT, wc != null ? toOffsetDateTime(wc.regeneratedAt) : null);
+        row.set(SERVICE_ACCOUNTS.ROLES, rolesJson);
+        row.set(SERVICE_ACCOUNTS.LAST_USED_AT, toOffsetDateTime(sa.lastUsedAt));
+        row.set(SERVICE_ACCOUNTS.CREATED_AT, toOffsetDateTime(sa.createdAt));
+        row.set(SERVICE_ACCOUNTS.UPDATED_AT, toOffsetDateTime(sa.updatedAt));
+        return row;
     }
 
-    private void persistAuthRole(DSLContext dsl, AuthRole role) {
+    private AuthRolesRecord authRoleRecord(AuthRole role) {
         String[] permissionsArray = role.permissions != null ? role.permissions.toArray(new String[0]) : new String[0];
-
-        boolean exists = dsl.fetchExists(dsl.selectFrom(AUTH_ROLES).where(AUTH_ROLES.ID.eq(role.id)));
-        if (exists) {
-            dsl.update(AUTH_ROLES)
-                .set(AUTH_ROLES.APPLICATION_ID, role.applicationId)
-                .set(AUTH_ROLES.APPLICATION_CODE, role.applicationCode)
-                .set(AUTH_ROLES.NAME, role.name)
-                .set(AUTH_ROLES.DISPLAY_NAME, role.displayName)
-                .set(AUTH_ROLES.DESCRIPTION, role.description)
-                .set(AUTH_ROLES.PERMISSIONS, permissionsArray)
-                .set(AUTH_ROLES.SOURCE, role.source != null ? role.source.name() : AuthRole.RoleSource.DATABASE.name())
-                .set(AUTH_ROLES.CLIENT_MANAGED, role.clientManaged)
-                .set(AUTH_ROLES.UPDATED_AT, toOffsetDateTime(role.updatedAt))
-                .where(AUTH_ROLES.ID.eq(role.id))
-                .execute();
-        } else {
-            dsl.insertInto(AUTH_ROLES)
-                .set(AUTH_ROLES.ID, role.id)
-                .set(AUTH_ROLES.APPLICATION_ID, role.applicationId)
-                .set(AUTH_ROLES.APPLICATION_CODE, role.applicationCode)
-                .set(AUTH_ROLES.NAME, role.name)
-                .set(AUTH_ROLES.DISPLAY_NAME, role.displayName)
-                .set(AUTH_ROLES.DESCRIPTION, role.description)
-                .set(AUTH_ROLES.PERMISSIONS, permissionsArray)
-                .set(AUTH_ROLES.SOURCE, role.source != null ? role.source.name() : AuthRole.RoleSource.DATABASE.name())
-                .set(AUTH_ROLES.CLIENT_MANAGED, role.clientManaged)
-                .set(AUTH_ROLES.CREATED_AT, toOffsetDateTime(role.createdAt))
-                .set(AUTH_ROLES.UPDATED_AT, toOffsetDateTime(role.updatedAt))
-                .execute();
-        }
+        AuthRolesRecord row = new AuthRolesRecord();
+        row.set(AUTH_ROLES.ID, role.id);
+        row.set(AUTH_ROLES.APPLICATION_ID, role.applicationId);
+        row.set(AUTH_ROLES.APPLICATION_CODE, role.applicationCode);
+        row.set(AUTH_ROLES.NAME, role.name);
+        row.set(AUTH_ROLES.DISPLAY_NAME, role.displayName);
+        row.set(AUTH_ROLES.DESCRIPTION, role.description);
+        row.set(AUTH_ROLES.PERMISSIONS, permissionsArray);
+        row.set(AUTH_ROLES.SOURCE, role.source != null ? role.source.name() : AuthRole.RoleSource.DATABASE.name());
+        row.set(AUTH_ROLES.CLIENT_MANAGED, role.clientManaged);
+        row.set(AUTH_ROLES.CREATED_AT, toOffsetDateTime(role.createdAt));
+        row.set(AUTH_ROLES.UPDATED_AT, toOffsetDateTime(role.updatedAt));
+        return row;
     }
 
-    private void persistAuthPermission(DSLContext dsl, AuthPermission perm) {
-        boolean exists = dsl.fetchExists(dsl.selectFrom(AUTH_PERMISSIONS).where(AUTH_PERMISSIONS.ID.eq(perm.id)));
-        if (exists) {
-            dsl.update(AUTH_PERMISSIONS)
-                .set(AUTH_PERMISSIONS.APPLICATION_ID, perm.applicationId)
-                .set(AUTH_PERMISSIONS.NAME, perm.name)
-                .set(AUTH_PERMISSIONS.DISPLAY_NAME, perm.displayName)
-                .set(AUTH_PERMISSIONS.DESCRIPTION, perm.description)
-                .set(AUTH_PERMISSIONS.SOURCE, perm.source != null ? perm.source.name() : AuthPermission.PermissionSource.SDK.name())
-                .where(AUTH_PERMISSIONS.ID.eq(perm.id))
-                .execute();
-        } else {
-            dsl.insertInto(AUTH_PERMISSIONS)
-                .set(AUTH_PERMISSIONS.ID, perm.id)
-                .set(AUTH_PERMISSIONS.APPLICATION_ID, perm.applicationId)
-                .set(AUTH_PERMISSIONS.NAME, perm.name)
-                .set(AUTH_PERMISSIONS.DISPLAY_NAME, perm.displayName)
-                .set(AUTH_PERMISSIONS.DESCRIPTION, perm.description)
-                .set(AUTH_PERMISSIONS.SOURCE, perm.source != null ? perm.source.name() : AuthPermission.PermissionSource.SDK.name())
-                .set(AUTH_PERMISSIONS.CREATED_AT, toOffsetDateTime(perm.createdAt))
-                .execute();
-        }
+    private AuthPermissionsRecord authPermissionRecord(AuthPermission perm) {
+        AuthPermissionsRecord row = new AuthPermissionsRecord();
+        row.set(AUTH_PERMISSIONS.ID, perm.id);
+        row.set(AUTH_PERMISSIONS.APPLICATION_ID, perm.applicationId);
+        row.set(AUTH_PERMISSIONS.NAME, perm.name);
+        row.set(AUTH_PERMISSIONS.DISPLAY_NAME, perm.displayName);
+        row.set(AUTH_PERMISSIONS.DESCRIPTION, perm.description);
+        row.set(AUTH_PERMISSIONS.SOURCE, perm.source != null ? perm.source.name() : AuthPermission.PermissionSource.SDK.name());
+        row.set(AUTH_PERMISSIONS.CREATED_AT, toOffsetDateTime(perm.createdAt));
+        return row;
     }
 
-    private void persistDispatchPool(DSLContext dsl, DispatchPool pool) {
-        boolean exists = dsl.fetchExists(dsl.selectFrom(DISPATCH_POOLS).where(DISPATCH_POOLS.ID.eq(pool.id())));
-        if (exists) {
-            dsl.update(DISPATCH_POOLS)
-                .set(DISPATCH_POOLS.CODE, pool.code())
-                .set(DISPATCH_POOLS.NAME, pool.name())
-                .set(DISPATCH_POOLS.DESCRIPTION, pool.description())
-                .set(DISPATCH_POOLS.RATE_LIMIT, pool.rateLimit())
-                .set(DISPATCH_POOLS.CONCURRENCY, pool.concurrency())
-                .set(DISPATCH_POOLS.CLIENT_ID, pool.clientId())
-                .set(DISPATCH_POOLS.CLIENT_IDENTIFIER, pool.clientIdentifier())
-                .set(DISPATCH_POOLS.STATUS, pool.status() != null ? pool.status().name() : DispatchPoolStatus.ACTIVE.name())
-                .set(DISPATCH_POOLS.UPDATED_AT, toOffsetDateTime(pool.updatedAt()))
-                .where(DISPATCH_POOLS.ID.eq(pool.id()))
-                .execute();
-        } else {
-            dsl.insertInto(DISPATCH_POOLS)
-                .set(DISPATCH_POOLS.ID, pool.id())
-                .set(DISPATCH_POOLS.CODE, pool.code())
-                .set(DISPATCH_POOLS.NAME, pool.name())
-                .set(DISPATCH_POOLS.DESCRIPTION, pool.description())
-                .set(DISPATCH_POOLS.RATE_LIMIT, pool.rateLimit())
-                .set(DISPATCH_POOLS.CONCURRENCY, pool.concurrency())
-                .set(DISPATCH_POOLS.CLIENT_ID, pool.clientId())
-                .set(DISPATCH_POOLS.CLIENT_IDENTIFIER, pool.clientIdentifier())
-                .set(DISPATCH_POOLS.STATUS, pool.status() != null ? pool.status().name() : DispatchPoolStatus.ACTIVE.name())
-                .set(DISPATCH_POOLS.CREATED_AT, toOffsetDateTime(pool.createdAt()))
-                .set(DISPATCH_POOLS.UPDATED_AT, toOffsetDateTime(pool.updatedAt()))
-                .execute();
-        }
+    private DispatchPoolsRecord dispatchPoolRecord(DispatchPool pool) {
+        DispatchPoolsRecord row = new DispatchPoolsRecord();
+        row.set(DISPATCH_POOLS.ID, pool.id());
+        row.set(DISPATCH_POOLS.CODE, pool.code());
+        row.set(DISPATCH_POOLS.NAME, pool.name());
+        row.set(DISPATCH_POOLS.DESCRIPTION, pool.description());
+        row.set(DISPATCH_POOLS.RATE_LIMIT, pool.rateLimit());
+        row.set(DISPATCH_POOLS.CONCURRENCY, pool.concurrency());
+        row.set(DISPATCH_POOLS.CLIENT_ID, pool.clientId());
+        row.set(DISPATCH_POOLS.CLIENT_IDENTIFIER, pool.clientIdentifier());
+        row.set(DISPATCH_POOLS.STATUS, pool.status() != null ? pool.status().name() : DispatchPoolStatus.ACTIVE.name());
+        row.set(DISPATCH_POOLS.CREATED_AT, toOffsetDateTime(pool.createdAt()));
+        row.set(DISPATCH_POOLS.UPDATED_AT, toOffsetDateTime(pool.updatedAt()));
+        return row;
     }
 
     // ========================================================================
     // Helper Methods
     // ========================================================================
 
-    private void setTimestamps(Object aggregate) {
-        if (aggregate.getClass().isRecord()) {
-            return;
-        }
-
-        try {
-            Field updatedAtField = aggregate.getClass().getField("updatedAt");
-            if (updatedAtField.getType() == Instant.class) {
-                updatedAtField.set(aggregate, Instant.now());
-            }
-        } catch (NoSuchFieldException | IllegalAccessException ignored) {}
-
-        try {
-            Field createdAtField = aggregate.getClass().getField("createdAt");
-            if (createdAtField.getType() == Instant.class && createdAtField.get(aggregate) == null) {
-                createdAtField.set(aggregate, Instant.now());
-            }
-        } catch (NoSuchFieldException | IllegalAccessException ignored) {}
-    }
-
-    private String extractId(Object aggregate) {
-        Class<?> clazz = aggregate.getClass();
-
-        if (clazz.isRecord()) {
-            try {
-                var method = clazz.getMethod("id");
-                return (String) method.invoke(aggregate);
-            } catch (Exception e) {
-                throw new IllegalArgumentException(
-                    "Record must have an id() accessor returning String: " + clazz.getName(), e);
-            }
-        }
-
-        try {
-            Field field = clazz.getField("id");
-            return (String) field.get(aggregate);
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new IllegalArgumentException(
-                "Aggregate must have a public String id field: " + clazz.getName(), e);
-        }
-    }
-
     private OffsetDateTime toOffsetDateTime(Instant instant) {
         return instant != null ? instant.atOffset(ZoneOffset.UTC) : null;
     }
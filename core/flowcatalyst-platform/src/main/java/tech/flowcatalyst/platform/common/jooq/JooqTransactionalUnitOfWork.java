@@ -4,15 +4,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
 import org.jooq.DSLContext;
+import org.jooq.InsertSetMoreStep;
 import org.jooq.impl.DSL;
 import tech.flowcatalyst.event.ContextData;
-import tech.flowcatalyst.event.Event;
+import tech.flowcatalyst.platform.audit.AuditConfig;
 import tech.flowcatalyst.platform.audit.AuditLog;
+import tech.flowcatalyst.platform.audit.AuditLogSpool;
 import tech.flowcatalyst.platform.common.DomainEvent;
 import tech.flowcatalyst.platform.common.Result;
 import tech.flowcatalyst.platform.common.UnitOfWork;
 import tech.flowcatalyst.platform.common.errors.UseCaseError;
+import tech.flowcatalyst.platform.jooq.generated.tables.records.AuditLogsRecord;
+import tech.flowcatalyst.platform.jooq.generated.tables.records.EventsRecord;
 import tech.flowcatalyst.platform.shared.TsidGenerator;
 
 import java.time.Instant;
@@ -21,6 +26,7 @@ import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static tech.flowcatalyst.platform.jooq.generated.tables.AuditLogs.AUDIT_LOGS;
 import static tech.flowcatalyst.platform.jooq.generated.tables.Events.EVENTS;
@@ -37,11 +43,20 @@ import static tech.flowcatalyst.platform.jooq.generated.tables.Events.EVENTS;
  *
  * <p>All three operations occur within a single JDBC transaction managed by JOOQ,
  * ensuring consistency. If any operation fails, the entire transaction is rolled back.
+ *
+ * <p>Batch commits write aggregates as JDBC batches and events and audit entries as
+ * multi-row inserts. With {@code flowcatalyst.audit.strict=false}, audit entries are not
+ * part of the transaction: they are appended to the {@link AuditLogSpool} after commit.
  */
 @ApplicationScoped
 @jakarta.annotation.Priority(2) // Higher priority than PostgresTransactionalUnitOfWork
 public class JooqTransactionalUnitOfWork implements UnitOfWork {
 
+    private static final Logger LOG = Logger.getLogger(JooqTransactionalUnitOfWork.class);
+
+    /** Rows per multi-row insert */
+    private static final int INSERT_CHUNK_SIZE = 1_000;
+
     @Inject
     DSLContext dsl;
 
@@ -51,38 +66,23 @@ public class JooqTransactionalUnitOfWork implements UnitOfWork {
     @Inject
     JooqAggregateRegistry aggregateRegistry;
 
+    @Inject
+    AuditConfig auditConfig;
+
+    @Inject
+    AuditLogSpool auditSpool;
+
     @Override
     public <T extends DomainEvent> Result<T> commit(
             Object aggregate,
             T event,
             Object command
     ) {
-        try {
-            return dsl.transactionResult(config -> {
-                DSLContext ctx = DSL.using(config);
-                try {
-                    // 1. Persist/update aggregate
-                    aggregateRegistry.persist(ctx, aggregate);
-
-                    // 2. Create domain event
-                    createEvent(ctx, event);
-
-                    // 3. Create audit log
-                    createAuditLog(ctx, event, command);
-
-                    return Result.success(event);
-
-                } catch (Exception e) {
-                    throw new RuntimeException("Transaction failed: " + e.getMessage(), e);
-                }
-            });
-        } catch (Exception e) {
-            return Result.failure(new UseCaseError.BusinessRuleViolation(
-                "COMMIT_FAILED",
-                "Failed to commit transaction: " + e.getMessage(),
-                Map.of("exception", e.getClass().getSimpleName())
-            ));
-        }
+        return commitTransaction(
+            ctx -> aggregateRegistry.persist(ctx, aggregate),
+            List.of(new Change<>(aggregate, event, command)),
+            event
+        );
     }
 
     @Override
@@ -91,32 +91,11 @@ public class JooqTransactionalUnitOfWork implements UnitOfWork {
             T event,
             Object command
     ) {
-        try {
-            return dsl.transactionResult(config -> {
-                DSLContext ctx = DSL.using(config);
-                try {
-                    // 1. Delete aggregate
-                    aggregateRegistry.delete(ctx, aggregate);
-
-                    // 2. Create domain event
-                    createEvent(ctx, event);
-
-                    // 3. Create audit log
-                    createAuditLog(ctx, event, command);
-
-                    return Result.success(event);
-
-                } catch (Exception e) {
-                    throw new RuntimeException("Transaction failed: " + e.getMessage(), e);
-                }
-            });
-        } catch (Exception e) {
-            return Result.failure(new UseCaseError.BusinessRuleViolation(
-                "COMMIT_FAILED",
-                "Failed to commit transaction: " + e.getMessage(),
-                Map.of("exception", e.getClass().getSimpleName())
-            ));
-        }
+        return commitTransaction(
+            ctx -> aggregateRegistry.delete(ctx, aggregate),
+            List.of(new Change<>(aggregate, event, command)),
+            event
+        );
     }
 
     @Override
@@ -124,28 +103,68 @@ public class JooqTransactionalUnitOfWork implements UnitOfWork {
             List<Object> aggregates,
             T event,
             Object command
+    ) {
+        return commitTransaction(
+            ctx -> aggregateRegistry.persistAll(ctx, aggregates),
+            List.of(new Change<>(null, event, command)),
+            event
+        );
+    }
+
+    @Override
+    public <T extends DomainEvent> Result<List<T>> commitAll(List<Change<T>> changes) {
+        List<Object> aggregates = new ArrayList<>(changes.size());
+        List<T> events = new ArrayList<>(changes.size());
+        for (Change<T> change : changes) {
+            aggregates.add(change.aggregate());
+            events.add(change.event());
+        }
+        return commitTransaction(
+            ctx -> aggregateRegistry.persistAll(ctx, aggregates),
+            changes,
+            events
+        );
+    }
+
+    /**
+     * Write the aggregates, then the events and (in strict mode) audit entries of the changes,
+     * in one transaction. Outside strict mode, audit entries are spooled after commit.
+     */
+    private <R> Result<R> commitTransaction(
+            Consumer<DSLContext> writeAggregates,
+            List<? extends Change<?>> changes,
+            R value
     ) {
         try {
-            return dsl.transactionResult(config -> {
+            List<AuditLog> auditLogs = new ArrayList<>(changes.size());
+            for (Change<?> change : changes) {
+                auditLogs.add(toAuditLog(change.event(), change.command()));
+            }
+            boolean strict = auditConfig.strict();
+
+            dsl.transaction(config -> {
                 DSLContext ctx = DSL.using(config);
                 try {
-                    // 1. Persist/update all aggregates
-                    for (Object aggregate : aggregates) {
-                        aggregateRegistry.persist(ctx, aggregate);
-                    }
-
-                    // 2. Create domain event
-                    createEvent(ctx, event);
-
-                    // 3. Create audit log
-                    createAuditLog(ctx, event, command);
+                    // 1. Persist/update/delete aggregates
+                    writeAggregates.accept(ctx);
 
-                    return Result.success(event);
+                    // 2. Create domain events
+                    createEvents(ctx, changes.stream().<DomainEvent>map(Change::event).toList());
 
+                    // 3. Create audit logs
+                    if (strict) {
+                        createAuditLogs(ctx, auditLogs);
+                    }
                 } catch (Exception e) {
                     throw new RuntimeException("Transaction failed: " + e.getMessage(), e);
                 }
             });
+
+            if (!strict) {
+                spoolAuditLogs(auditLogs);
+            }
+            return Result.success(value);
+
         } catch (Exception e) {
             return Result.failure(new UseCaseError.BusinessRuleViolation(
                 "COMMIT_FAILED",
@@ -159,48 +178,88 @@ public class JooqTransactionalUnitOfWork implements UnitOfWork {
     // Event Operations
     // ========================================================================
 
-    private void createEvent(DSLContext ctx, DomainEvent event) throws JsonProcessingException {
-        // Build context data for searchability
-        List<ContextData> contextData = new ArrayList<>();
-        contextData.add(new ContextData("principalId", String.valueOf(event.principalId())));
-        contextData.add(new ContextData("aggregateType", extractAggregateType(event.subject())));
-
-        String contextDataJson = objectMapper.writeValueAsString(contextData);
-
-        ctx.insertInto(EVENTS)
-            .set(EVENTS.ID, event.eventId())
-            .set(EVENTS.SPEC_VERSION, event.specVersion())
-            .set(EVENTS.TYPE, event.eventType())
-            .set(EVENTS.SOURCE, event.source())
-            .set(EVENTS.SUBJECT, event.subject())
-            .set(EVENTS.TIME, toOffsetDateTime(event.time()))
-            .set(EVENTS.DATA, event.toDataJson())
-            .set(EVENTS.CORRELATION_ID, event.correlationId())
-            .set(EVENTS.CAUSATION_ID, event.causationId())
-            .set(EVENTS.DEDUPLICATION_ID, event.eventType() + "-" + event.eventId())
-            .set(EVENTS.MESSAGE_GROUP, event.messageGroup())
-            .set(EVENTS.CONTEXT_DATA, contextDataJson)
-            .set(EVENTS.CREATED_AT, OffsetDateTime.now(ZoneOffset.UTC))
-            .execute();
+    private void createEvents(DSLContext ctx, List<DomainEvent> events) throws JsonProcessingException {
+        for (int from = 0; from < events.size(); from += INSERT_CHUNK_SIZE) {
+            InsertSetMoreStep<EventsRecord> insert = null;
+            for (DomainEvent event : events.subList(from, Math.min(events.size(), from + INSERT_CHUNK_SIZE))) {
+                // Build context data for searchability
+                List<ContextData> contextData = new ArrayList<>();
+                contextData.add(new ContextData("principalId", String.valueOf(event.principalId())));
+                contextData.add(new ContextData("aggregateType", extractAggregateType(event.subject())));
+
+                String contextDataJson = objectMapper.writeValueAsString(contextData);
+
+                insert = (insert == null ? ctx.insertInto(EVENTS) : insert.newRecord())
+                    .set(EVENTS.ID, event.eventId())
+                    .set(EVENTS.SPEC_VERSION, event.specVersion())
+                    .set(EVENTS.TYPE, event.eventType())
+                    .set(EVENTS.SOURCE, event.source())
+                    .set(EVENTS.SUBJECT, event.subject())
+                    .set(EVENTS.TIME, toOffsetDateTime(event.time()))
+                    .set(EVENTS.DATA, event.toDataJson())
+                    .set(EVENTS.CORRELATION_ID, event.correlationId())
+                    .set(EVENTS.CAUSATION_ID, event.causationId())
+                    .set(EVENTS.DEDUPLICATION_ID, event.eventType() + "-" + event.eventId())
+                    .set(EVENTS.MESSAGE_GROUP, event.messageGroup())
+                    .set(EVENTS.CONTEXT_DATA, contextDataJson)
+                    .set(EVENTS.CREATED_AT, OffsetDateTime.now(ZoneOffset.UTC));
+            }
+            if (insert != null) {
+                insert.execute();
+            }
+        }
     }
 
     // ========================================================================
     // Audit Log Operations
     // ========================================================================
 
-    private void createAuditLog(DSLContext ctx, DomainEvent event, Object command)
-            throws JsonProcessingException {
-        String operationJson = objectMapper.writeValueAsString(command);
-
-        ctx.insertInto(AUDIT_LOGS)
-            .set(AUDIT_LOGS.ID, TsidGenerator.generate())
-            .set(AUDIT_LOGS.ENTITY_TYPE, extractAggregateType(event.subject()))
-            .set(AUDIT_LOGS.ENTITY_ID, extractEntityIdFromSubject(event.subject()))
-            .set(AUDIT_LOGS.OPERATION, command.getClass().getSimpleName())
-            .set(AUDIT_LOGS.OPERATION_JSON, operationJson)
-            .set(AUDIT_LOGS.PRINCIPAL_ID, event.principalId())
-            .set(AUDIT_LOGS.PERFORMED_AT, toOffsetDateTime(event.time()))
-            .execute();
+    private AuditLog toAuditLog(DomainEvent event, Object command) throws JsonProcessingException {
+        AuditLog log = new AuditLog();
+        log.id = TsidGenerator.generate();
+        log.entityType = extractAggregateType(event.subject());
+        log.entityId = extractEntityIdFromSubject(event.subject());
+        log.operation = command.getClass().getSimpleName();
+        log.operationJson = objectMapper.writeValueAsString(command);
+        log.principalId = event.principalId();
+        log.performedAt = event.time();
+        return log;
+    }
+
+    private void createAuditLogs(DSLContext ctx, List<AuditLog> auditLogs) {
+        for (int from = 0; from < auditLogs.size(); from += INSERT_CHUNK_SIZE) {
+            InsertSetMoreStep<AuditLogsRecord> insert = null;
+            for (AuditLog log : auditLogs.subList(from, Math.min(auditLogs.size(), from + INSERT_CHUNK_SIZE))) {
+                insert = (insert == null ? ctx.insertInto(AUDIT_LOGS) : insert.newRecord())
+                    .set(AUDIT_LOGS.ID, log.id)
+                    .set(AUDIT_LOGS.ENTITY_TYPE, log.entityType)
+                    .set(AUDIT_LOGS.ENTITY_ID, log.entityId)
+                    .set(AUDIT_LOGS.OPERATION, log.operation)
+                    .set(AUDIT_LOGS.OPERATION_JSON, log.operationJson)
+                    .set(AUDIT_LOGS.PRINCIPAL_ID, log.principalId)
+                    .set(AUDIT_LOGS.PERFORMED_AT, toOffsetDateTime(log.performedAt));
+            }
+            if (insert != null) {
+                insert.execute();
+            }
+        }
+    }
+
+    /**
+     * Hand committed audit entries to the spool, falling back to a direct insert
+     * if the spool cannot be written.
+     */
+    private void spoolAuditLogs(List<AuditLog> auditLogs) {
+        try {
+            auditSpool.append(auditLogs);
+        } catch (Exception e) {
+            LOG.warnf("Failed to spool %d audit logs, writing them directly: %s", auditLogs.size(), e.getMessage());
+            try {
+                createAuditLogs(dsl, auditLogs);
+            } catch (Exception insertFailure) {
+                LOG.errorf(insertFailure, "Lost %d audit logs of a committed transaction", auditLogs.size());
+            }
+        }
     }
 
     // ========================================================================
@@ -129,6 +129,29 @@ public class PanacheTransactionalUnitOfWork implements UnitOfWork {
         }
     }
 
+    @Override
+    @Transactional
+    public <T extends DomainEvent> Result<List<T>> commitAll(List<Change<T>> changes) {
+        try {
+            List<T> events = new ArrayList<>(changes.size());
+            for (Change<T> change : changes) {
+                aggregateRegistry.persist(change.aggregate());
+                createEvent(change.event());
+                createAuditLog(change.event(), change.command());
+                events.add(change.event());
+            }
+
+            return Result.success(events);
+
+        } catch (Exception e) {
+            return Result.failure(new UseCaseError.BusinessRuleViolation(
+                "COMMIT_FAILED",
+                "Failed to commit transaction: " + e.getMessage(),
+                Map.of("exception", e.getClass().getSimpleName())
+            ));
+        }
+    }
+
     // ========================================================================
     // Event Operations
     // ========================================================================
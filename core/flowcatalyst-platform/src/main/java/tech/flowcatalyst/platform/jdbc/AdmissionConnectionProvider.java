@@ -0,0 +1,74 @@
+package tech.flowcatalyst.platform.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jooq.ConnectionProvider;
+import org.jooq.exception.DataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jOOQ connection provider that admits callers through {@link JdbcAdmissionController}
+ * before borrowing from the pool, and records how long the pool took to hand out a connection.
+ *
+ * <p>jOOQ acquires a connection per statement, or once per transaction, and releases it on
+ * the same thread, so the admission slot is held exactly as long as the connection.</p>
+ */
+final class AdmissionConnectionProvider implements ConnectionProvider {
+
+    private final DataSource dataSource;
+    private final JdbcAdmissionController admission;
+    private final Timer connectionWait;
+
+    /**
+     * @param admission the admission controller, or null to wait in the pool directly
+     */
+    AdmissionConnectionProvider(DataSource dataSource, JdbcAdmissionController admission, MeterRegistry registry) {
+        this.dataSource = dataSource;
+        this.admission = admission;
+        this.connectionWait = Timer.builder("flowcatalyst.jdbc.pool.wait")
+            .description("Time spent waiting for a database connection")
+            .tag("stage", "connection")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    @Override
+    public Connection acquire() {
+        if (admission != null) {
+            admission.enter();
+        }
+        long start = System.nanoTime();
+        try {
+            Connection connection = dataSource.getConnection();
+            connectionWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return connection;
+        } catch (SQLException e) {
+            exit();
+            throw new DataAccessException("Failed to acquire a database connection", e);
+        } catch (RuntimeException e) {
+            exit();
+            throw e;
+        }
+    }
+
+    @Override
+    public void release(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new DataAccessException("Failed to release a database connection", e);
+        } finally {
+            exit();
+        }
+    }
+
+    private void exit() {
+        if (admission != null) {
+            admission.exit();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package tech.flowcatalyst.platform.jdbc;
+
+/**
+ * Thrown when a caller is not admitted to the database because the connection
+ * pool is saturated. The operation did not run and can be retried.
+ */
+public class DatabaseBusyException extends RuntimeException {
+
+    public DatabaseBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,34 @@
+package tech.flowcatalyst.platform.jdbc;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.ExceptionMapper;
+import jakarta.ws.rs.ext.Provider;
+
+import java.util.Map;
+
+/**
+ * JAX-RS exception mapper for DatabaseBusyException.
+ *
+ * Returns 503 Service Unavailable with a Retry-After header, so clients back off
+ * instead of piling more requests onto a saturated connection pool.
+ */
+@Provider
+public class DatabaseBusyExceptionMapper implements ExceptionMapper<DatabaseBusyException> {
+
+    private static final int RETRY_AFTER_SECONDS = 1;
+
+    @Override
+    public Response toResponse(DatabaseBusyException exception) {
+        var body = Map.of(
+            "error", exception.getMessage(),
+            "code", "DATABASE_BUSY"
+        );
+
+        return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+            .header("Retry-After", RETRY_AFTER_SECONDS)
+            .type(MediaType.APPLICATION_JSON)
+            .entity(body)
+            .build();
+    }
+}
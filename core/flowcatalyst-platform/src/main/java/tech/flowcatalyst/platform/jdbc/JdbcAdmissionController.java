@@ -0,0 +1,143 @@
+package tech.flowcatalyst.platform.jdbc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Admission control in front of the JDBC connection pool.
+ *
+ * <p>At most {@code maxConcurrent} callers hold a connection at once; it is sized to the
+ * connection pool, so an admitted caller gets a connection without waiting in the pool.
+ * Other callers queue here in FIFO order, up to {@code maxQueued} of them for at most
+ * {@code queueTimeout}; beyond that they are rejected with {@link DatabaseBusyException}
+ * instead of holding a thread while the pool is starved. Waiting parks the caller, which
+ * costs nothing but memory when the caller is a virtual thread.</p>
+ *
+ * <p>Admission is per thread and re-entrant: a thread that is already admitted (for example
+ * while it holds a transaction's connection) passes straight through, so nested access can
+ * never deadlock on the controller.</p>
+ */
+public final class JdbcAdmissionController {
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long queueTimeoutNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    private final Timer admissionWait;
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+
+    public JdbcAdmissionController(int maxConcurrent, int maxQueued, Duration queueTimeout, MeterRegistry registry) {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("maxConcurrent must be positive");
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.queueTimeoutNanos = queueTimeout.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        this.admissionWait = Timer.builder("flowcatalyst.jdbc.pool.wait")
+            .description("Time spent waiting for a database connection")
+            .tag("stage", "admission")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.rejectedQueueFull = Counter.builder("flowcatalyst.jdbc.admission.rejected")
+            .tag("reason", "queue_full")
+            .register(registry);
+        this.rejectedTimeout = Counter.builder("flowcatalyst.jdbc.admission.rejected")
+            .tag("reason", "timeout")
+            .register(registry);
+        Gauge.builder("flowcatalyst.jdbc.admission.active", this, JdbcAdmissionController::active)
+            .description("Callers holding a database connection")
+            .register(registry);
+        Gauge.builder("flowcatalyst.jdbc.admission.queued", this, JdbcAdmissionController::queued)
+            .description("Callers waiting for a database connection")
+            .register(registry);
+    }
+
+    /**
+     * Admit the current thread, waiting for a free connection if necessary.
+     * Every successful call must be paired with {@link #exit()} on the same thread.
+     *
+     * @throws DatabaseBusyException if the queue is full or the wait times out
+     */
+    public void enter() {
+        int[] held = depth.get();
+        if (held[0] > 0) {
+            held[0]++;
+            return;
+        }
+        acquire();
+        held[0] = 1;
+    }
+
+    /**
+     * Leave after {@link #enter()}, releasing the connection slot on the outermost exit.
+     */
+    public void exit() {
+        int[] held = depth.get();
+        if (held[0] == 0) {
+            throw new IllegalStateException("exit() without a matching enter()");
+        }
+        if (--held[0] == 0) {
+            permits.release();
+        }
+    }
+
+    private void acquire() {
+        long start = System.nanoTime();
+        try {
+            // Zero-timeout tryAcquire honours fairness, unlike tryAcquire()
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                admissionWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return;
+            }
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                rejectedQueueFull.increment();
+                throw new DatabaseBusyException("Database busy: " + maxQueued + " callers already waiting for a connection");
+            }
+            try {
+                if (!permits.tryAcquire(queueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    rejectedTimeout.increment();
+                    throw new DatabaseBusyException("Database busy: no connection available within "
+                        + Duration.ofNanos(queueTimeoutNanos).toMillis() + "ms");
+                }
+            } finally {
+                queued.decrementAndGet();
+            }
+            admissionWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException("Interrupted while waiting for a database connection");
+        }
+    }
+
+    public int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Callers currently admitted.
+     */
+    public int active() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * Callers currently waiting.
+     */
+    public int queued() {
+        return queued.get();
+    }
+}
@@ -0,0 +1,46 @@
+package tech.flowcatalyst.platform.jdbc;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Configuration for JDBC access from the jOOQ repositories.
+ */
+@ConfigMapping(prefix = "flowcatalyst.jdbc")
+public interface JdbcConfig {
+
+    /**
+     * Admission control in front of the connection pool.
+     */
+    Admission admission();
+
+    interface Admission {
+
+        /**
+         * Whether callers queue for a connection in the admission controller.
+         * When disabled, callers wait in the connection pool itself.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * Callers holding a connection at once. Defaults to {@code quarkus.datasource.jdbc.max-size}.
+         */
+        Optional<Integer> maxConcurrent();
+
+        /**
+         * Callers allowed to wait for a connection. Further callers are rejected immediately.
+         */
+        @WithDefault("1000")
+        int maxQueued();
+
+        /**
+         * How long a caller waits for a connection before it is rejected.
+         */
+        @WithDefault("5s")
+        Duration queueTimeout();
+    }
+}
@@ -0,0 +1,59 @@
+package tech.flowcatalyst.platform.jdbc;
+
+import io.agroal.api.AgroalDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+
+/**
+ * CDI producer for the {@link DSLContext} used by the jOOQ repositories.
+ *
+ * <p>Connections come from the Agroal pool through {@link AdmissionConnectionProvider},
+ * so callers queue in {@link JdbcAdmissionController} rather than in the pool, and every
+ * statement is timed by {@link StatementMetricsListener}.</p>
+ */
+@ApplicationScoped
+public class JooqProducer {
+
+    private static final Logger LOG = Logger.getLogger(JooqProducer.class);
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Inject
+    JdbcConfig config;
+
+    @Inject
+    MeterRegistry registry;
+
+    @ConfigProperty(name = "quarkus.datasource.jdbc.max-size", defaultValue = "20")
+    int poolMaxSize;
+
+    @Produces
+    @Singleton
+    public DSLContext dslContext() {
+        JdbcAdmissionController admission = null;
+        JdbcConfig.Admission admissionConfig = config.admission();
+        if (admissionConfig.enabled()) {
+            int maxConcurrent = admissionConfig.maxConcurrent().orElse(poolMaxSize);
+            admission = new JdbcAdmissionController(maxConcurrent, admissionConfig.maxQueued(),
+                admissionConfig.queueTimeout(), registry);
+            LOG.infof("JDBC admission control enabled: maxConcurrent=%d, maxQueued=%d, queueTimeout=%s",
+                maxConcurrent, admissionConfig.maxQueued(), admissionConfig.queueTimeout());
+        }
+
+        DefaultConfiguration configuration = new DefaultConfiguration();
+        configuration.set(SQLDialect.POSTGRES);
+        configuration.set(new AdmissionConnectionProvider(dataSource, admission, registry));
+        configuration.set(new StatementMetricsListener(registry));
+        return DSL.using(configuration);
+    }
+}
@@ -0,0 +1,46 @@
+package tech.flowcatalyst.platform.jdbc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteType;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jOOQ listener that records statement execution time, from sending the statement to
+ * the database until its result is available. Together with the {@code stage} timers of
+ * {@code flowcatalyst.jdbc.pool.wait} this separates time spent queueing for a
+ * connection from time the database spent working.
+ */
+final class StatementMetricsListener implements ExecuteListener {
+
+    private static final String START_NANOS = StatementMetricsListener.class.getName() + ".start";
+
+    private final Map<ExecuteType, Timer> timers = new EnumMap<>(ExecuteType.class);
+
+    StatementMetricsListener(MeterRegistry registry) {
+        for (ExecuteType type : ExecuteType.values()) {
+            timers.put(type, Timer.builder("flowcatalyst.jdbc.statement.execution")
+                .description("Time the database spent executing a statement")
+                .tag("type", type.name().toLowerCase())
+                .publishPercentileHistogram()
+                .register(registry));
+        }
+    }
+
+    @Override
+    public void executeStart(ExecuteContext ctx) {
+        ctx.data(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void executeEnd(ExecuteContext ctx) {
+        if (ctx.data(START_NANOS) instanceof Long start) {
+            timers.get(ctx.type()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
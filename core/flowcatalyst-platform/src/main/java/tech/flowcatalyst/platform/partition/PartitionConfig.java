@@ -0,0 +1,89 @@
+package tech.flowcatalyst.platform.partition;
+
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+/**
+ * Configuration for time partitioning of events and dispatch jobs.
+ */
+@ConfigMapping(prefix = "flowcatalyst.partitioning")
+public interface PartitionConfig {
+
+    /**
+     * Whether the partition manager runs on this instance.
+     */
+    @WithDefault("true")
+    boolean enabled();
+
+    /**
+     * Time range covered by each new partition.
+     */
+    @WithDefault("MONTH")
+    Interval interval();
+
+    /**
+     * Number of future partitions kept ahead of the current one.
+     */
+    @WithDefault("3")
+    int premakePeriods();
+
+    /**
+     * How often partitions are checked.
+     */
+    @WithDefault("1h")
+    Duration checkInterval();
+
+    /**
+     * How long events (and their read projection) are kept. Unset keeps them forever.
+     */
+    Optional<Duration> eventsRetention();
+
+    /**
+     * How long dispatch jobs (and their read projection) are kept. Unset keeps them forever.
+     */
+    Optional<Duration> dispatchJobsRetention();
+
+    /**
+     * What happens to partitions past retention.
+     */
+    @WithDefault("DROP")
+    RetentionAction retentionAction();
+
+    enum Interval {
+        DAY,
+        MONTH;
+
+        /**
+         * Start of the period containing an instant (UTC).
+         */
+        public Instant floor(Instant instant) {
+            Instant day = instant.truncatedTo(ChronoUnit.DAYS);
+            return this == DAY
+                ? day
+                : day.atOffset(ZoneOffset.UTC).withDayOfMonth(1).toInstant();
+        }
+
+        /**
+         * Start of the period after the one containing an instant (UTC).
+         */
+        public Instant next(Instant instant) {
+            Instant start = floor(instant);
+            return this == DAY
+                ? start.plus(1, ChronoUnit.DAYS)
+                : start.atOffset(ZoneOffset.UTC).plusMonths(1).toInstant();
+        }
+    }
+
+    enum RetentionAction {
+        /** Drop expired partitions */
+        DROP,
+        /** Detach expired partitions and leave them as standalone tables for archiving */
+        DETACH
+    }
+}
@@ -0,0 +1,312 @@
+package tech.flowcatalyst.platform.partition;
+
+import com.github.f4b6a3.tsid.Tsid;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import tech.flowcatalyst.platform.shared.EntityType;
+import tech.flowcatalyst.platform.shared.TsidGenerator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the ID-range partitions of events, dispatch jobs (and their attempts) and their read projections.
+ *
+ * <p>The tables are range-partitioned by TSID (see {@code V14__partition_events_and_dispatch_jobs}),
+ * so each partition covers a time range. On startup and every {@code check-interval} the manager:</p>
+ * <ul>
+ *   <li>Creates partitions {@code {table}_pYYYYMMDD} up to {@code premake-periods} ahead of the current period,
+ *       moving in any rows that landed in the DEFAULT partition while maintenance was behind</li>
+ *   <li>Drops or detaches partitions whose whole range is older than the configured retention</li>
+ *   <li>Purges event deduplication keys older than the event retention</li>
+ * </ul>
+ *
+ * <p>Each table is maintained in its own transaction under a PostgreSQL advisory lock, so
+ * any number of instances can run the manager without racing on DDL.</p>
+ */
+@ApplicationScoped
+public class PartitionManager {
+
+    private static final Logger LOG = Logger.getLogger(PartitionManager.class);
+
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+    private static final Pattern LOWER_BOUND = Pattern.compile("FROM \\('([^']+)'\\)");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd").withZone(ZoneOffset.UTC);
+
+    /** Deduplication keys deleted per statement */
+    private static final int PURGE_BATCH_SIZE = 10_000;
+
+    /**
+     * A partitioned table and the retention that applies to it.
+     *
+     * @param partitionKey the column the table is range partitioned by
+     */
+    record ManagedTable(String name, String partitionKey, EntityType idType,
+                        Function<PartitionConfig, Optional<Duration>> retention) {
+    }
+
+    static final List<ManagedTable> TABLES = List.of(
+        new ManagedTable("events", "id", EntityType.EVENT, PartitionConfig::eventsRetention),
+        new ManagedTable("events_read", "id", EntityType.EVENT, PartitionConfig::eventsRetention),
+        new ManagedTable("dispatch_jobs", "id", EntityType.DISPATCH_JOB, PartitionConfig::dispatchJobsRetention),
+        new ManagedTable("dispatch_jobs_read", "id", EntityType.DISPATCH_JOB, PartitionConfig::dispatchJobsRetention),
+        // Partitioned by dispatch_job_id (V15), so its partitions share the dispatch_jobs ranges
+        new ManagedTable("dispatch_job_attempts", "dispatch_job_id", EntityType.DISPATCH_JOB,
+            PartitionConfig::dispatchJobsRetention)
+    );
+
+    /**
+     * An existing range partition.
+     *
+     * @param name  partition table name
+     * @param from  start of the range, or null for MINVALUE
+     * @param to    end of the range (exclusive)
+     */
+    record Partition(String name, Instant from, Instant to) {
+    }
+
+    /**
+     * A partition to create.
+     *
+     * @param from start of the range
+     * @param to   end of the range (exclusive)
+     */
+    record PlannedPartition(Instant from, Instant to) {
+    }
+
+    @Inject
+    PartitionConfig config;
+
+    @Inject
+    Instance<DSLContext> dsl;
+
+    void onStart(@Observes StartupEvent ev) {
+        if (config.enabled()) {
+            maintain();
+        }
+    }
+
+    @Scheduled(every = "${flowcatalyst.partitioning.check-interval:1h}", delayed = "1m",
+        concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void scheduledMaintenance() {
+        if (config.enabled()) {
+            maintain();
+        }
+    }
+
+    /**
+     * Run one maintenance pass over all partitioned tables.
+     * Failures are logged per table and retried on the next pass.
+     */
+    public void maintain() {
+        if (!dsl.isResolvable()) {
+            LOG.debug("No PostgreSQL datasource - skipping partition maintenance");
+            return;
+        }
+        Instant now = Instant.now();
+        for (ManagedTable table : TABLES) {
+            try {
+                maintain(dsl.get(), table, now);
+            } catch (Exception e) {
+                LOG.errorf(e, "Partition maintenance failed for %s", table.name());
+            }
+        }
+        config.eventsRetention().ifPresent(retention -> {
+            try {
+                purgeDeduplicationKeys(dsl.get(), now.minus(retention));
+            } catch (Exception e) {
+                LOG.errorf(e, "Failed to purge event deduplication keys");
+            }
+        });
+    }
+
+    private void maintain(DSLContext ctx, ManagedTable table, Instant now) {
+        ctx.transaction(trx -> {
+            DSLContext tx = DSL.using(trx);
+            Boolean locked = tx.select(DSL.field("pg_try_advisory_xact_lock(hashtext({0}))", Boolean.class,
+                    DSL.val("flowcatalyst-partitions:" + table.name())))
+                .fetchOne(0, Boolean.class);
+            if (!Boolean.TRUE.equals(locked)) {
+                LOG.debugf("Partitions of %s are being maintained by another instance", table.name());
+                return;
+            }
+
+            List<Partition> partitions = listPartitions(tx, table.name());
+            if (partitions.isEmpty()) {
+                LOG.debugf("%s is not range partitioned - skipping", table.name());
+                return;
+            }
+
+            String defaultPartition = findDefaultPartition(tx, table.name());
+            for (PlannedPartition planned : plan(partitions, now, config.interval(), config.premakePeriods())) {
+                String name = table.name() + "_p" + SUFFIX.format(planned.from());
+                String lower = TsidGenerator.lowerBound(table.idType(), planned.from());
+                String upper = TsidGenerator.lowerBound(table.idType(), planned.to());
+                if (defaultPartition != null && hasRowsInRange(tx, defaultPartition, table.partitionKey(), lower, upper)) {
+                    int moved = createFromDefault(tx, table, name, defaultPartition, lower, upper);
+                    LOG.warnf("Created partition %s [%s, %s) and moved %d rows into it from %s",
+                        name, planned.from(), planned.to(), moved, defaultPartition);
+                    continue;
+                }
+                tx.execute("CREATE TABLE {0} PARTITION OF {1} FOR VALUES FROM ({2}) TO ({3})",
+                    DSL.name(name), DSL.name(table.name()), DSL.inline(lower), DSL.inline(upper));
+                LOG.infof("Created partition %s [%s, %s)", name, planned.from(), planned.to());
+            }
+
+            Optional<Duration> retention = table.retention().apply(config);
+            if (retention.isEmpty()) {
+                return;
+            }
+            for (Partition expired : expired(partitions, now.minus(retention.get()))) {
+                if (config.retentionAction() == PartitionConfig.RetentionAction.DETACH) {
+                    tx.execute("ALTER TABLE {0} DETACH PARTITION {1}",
+                        DSL.name(table.name()), DSL.name(expired.name()));
+                    LOG.infof("Detached expired partition %s (ends %s)", expired.name(), expired.to());
+                } else {
+                    tx.execute("DROP TABLE {0}", DSL.name(expired.name()));
+                    LOG.infof("Dropped expired partition %s (ends %s)", expired.name(), expired.to());
+                }
+            }
+        });
+    }
+
+    private List<Partition> listPartitions(DSLContext tx, String table) {
+        List<Partition> partitions = new ArrayList<>();
+        tx.resultQuery("""
+                SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)""", table)
+            .fetch()
+            .forEach(r -> {
+                Partition partition = parse(r.get(0, String.class), r.get(1, String.class));
+                if (partition != null) {
+                    partitions.add(partition);
+                }
+            });
+        return partitions;
+    }
+
+    private String findDefaultPartition(DSLContext tx, String table) {
+        return tx.resultQuery("""
+                SELECT c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?) AND pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT'""", table)
+            .fetchOne(0, String.class);
+    }
+
+    private boolean hasRowsInRange(DSLContext tx, String partition, String key, String lower, String upper) {
+        var column = DSL.field(DSL.name(key), String.class);
+        return tx.fetchExists(DSL.selectOne()
+            .from(DSL.table(DSL.name(partition)))
+            .where(column.ge(lower).and(column.lt(upper))));
+    }
+
+    /**
+     * Create a partition for a range that already has rows in the DEFAULT partition.
+     *
+     * <p>PostgreSQL refuses a new partition whose range has rows in DEFAULT, so the partition is
+     * built as a plain table, the rows are moved into it, and it is attached afterwards. The rows
+     * never pass through the parent table, so its insert triggers do not fire a second time.</p>
+     *
+     * @return number of rows moved
+     */
+    private int createFromDefault(DSLContext tx, ManagedTable table, String name, String defaultPartition,
+                                  String lower, String upper) {
+        tx.execute("CREATE TABLE {0} (LIKE {1} INCLUDING DEFAULTS INCLUDING CONSTRAINTS)",
+            DSL.name(name), DSL.name(table.name()));
+        int moved = tx.execute("""
+                WITH moved AS (DELETE FROM {0} WHERE {1} >= {2} AND {1} < {3} RETURNING *)
+                INSERT INTO {4} SELECT * FROM moved""",
+            DSL.name(defaultPartition), DSL.name(table.partitionKey()), DSL.val(lower), DSL.val(upper), DSL.name(name));
+        tx.execute("ALTER TABLE {0} ATTACH PARTITION {1} FOR VALUES FROM ({2}) TO ({3})",
+            DSL.name(table.name()), DSL.name(name), DSL.inline(lower), DSL.inline(upper));
+        return moved;
+    }
+
+    private void purgeDeduplicationKeys(DSLContext ctx, Instant before) {
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = ctx.execute("""
+                    DELETE FROM event_deduplication_keys WHERE deduplication_id IN (
+                        SELECT deduplication_id FROM event_deduplication_keys WHERE created_at < ? LIMIT ?)""",
+                before.atOffset(ZoneOffset.UTC), PURGE_BATCH_SIZE);
+            purged += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        if (purged > 0) {
+            LOG.infof("Purged %d event deduplication keys older than %s", purged, before);
+        }
+    }
+
+    // ========================================================================
+    // Planning
+    // ========================================================================
+
+    /**
+     * Parse a partition bound expression as returned by {@code pg_get_expr(relpartbound, oid)}.
+     *
+     * @return the partition, or null for the DEFAULT partition
+     */
+    static Partition parse(String name, String bound) {
+        Matcher to = UPPER_BOUND.matcher(bound);
+        if (!to.find()) {
+            return null;
+        }
+        Matcher from = LOWER_BOUND.matcher(bound);
+        return new Partition(name, from.find() ? instantOf(from.group(1)) : null, instantOf(to.group(1)));
+    }
+
+    /**
+     * Time encoded in a typed ID bound.
+     */
+    static Instant instantOf(String typedId) {
+        return Tsid.from(TsidGenerator.extractRawId(typedId)).getInstant();
+    }
+
+    /**
+     * Partitions needed to cover the current period and the next {@code premakePeriods},
+     * continuing from the highest existing bound.
+     */
+    static List<PlannedPartition> plan(List<Partition> existing, Instant now,
+                                       PartitionConfig.Interval interval, int premakePeriods) {
+        Instant from = existing.stream().map(Partition::to).max(Instant::compareTo).orElseThrow();
+        Instant horizon = interval.floor(now);
+        for (int i = 0; i <= premakePeriods; i++) {
+            horizon = interval.next(horizon);
+        }
+
+        List<PlannedPartition> planned = new ArrayList<>();
+        while (from.isBefore(horizon)) {
+            Instant to = interval.next(from);
+            planned.add(new PlannedPartition(from, to));
+            from = to;
+        }
+        return planned;
+    }
+
+    /**
+     * Partitions whose whole range ends at or before the cutoff.
+     */
+    static List<Partition> expired(List<Partition> existing, Instant cutoff) {
+        return existing.stream()
+            .filter(p -> !p.to().isAfter(cutoff))
+            .toList();
+    }
+}
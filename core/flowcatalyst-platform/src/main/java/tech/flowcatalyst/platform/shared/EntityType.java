@@ -55,6 +55,7 @@ public enum EntityType {
     SUBSCRIPTION("sub"),
     DISPATCH_POOL("dpl"),
     DISPATCH_JOB("djb"),
+    DISPATCH_ATTEMPT("dja"),
     DISPATCH_JOB_READ("djr"),
     SCHEMA("sch"),
 
@@ -1,5 +1,6 @@
 package tech.flowcatalyst.platform.shared;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Priority;
@@ -7,8 +8,19 @@ import jakarta.inject.Inject;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
 /**
  * CDI Interceptor that instruments repository methods with metrics.
  *
@@ -16,7 +28,14 @@ import org.jboss.logging.Logger;
  * - Operation duration (histogram with percentiles)
  * - Operation count (success/error)
  * - Error count by type
- * - Slow query warnings (>100ms)
+ * - Slow query warnings (over flowcatalyst.db.metrics.slow-threshold)
+ *
+ * The collection name and meters of each intercepted method are resolved on its first call
+ * and reused, so later calls cost two clock reads and a counter increment. CDI creates one
+ * interceptor instance per intercepted bean, so the target class is fixed per instance.
+ *
+ * With flowcatalyst.db.metrics.histogram-sample-rate=N above 1, only one call in N (chosen at
+ * random) is recorded in the duration timer; counts come from flowcatalyst.db.operations.
  */
 @Instrumented
 @Interceptor
@@ -24,52 +43,103 @@ import org.jboss.logging.Logger;
 public class InstrumentedInterceptor {
 
     private static final Logger LOG = Logger.getLogger(InstrumentedInterceptor.class);
-    private static final long SLOW_QUERY_THRESHOLD_MS = 100;
+    private static final List<String> ERROR_TYPES =
+        List.of("not_found", "duplicate_key", "timeout", "connection", "internal");
+
+    /**
+     * Pre-registered meters of one intercepted method.
+     */
+    private record MethodMeters(
+        String collection,
+        String operation,
+        Timer successTimer,
+        Timer errorTimer,
+        Counter successCount,
+        Counter errorCount,
+        Map<String, Counter> errorsByType
+    ) {
+    }
+
+    private final MeterRegistry registry;
+    private final long slowThresholdNanos;
+    private final int histogramSampleRate;
+    private final ConcurrentMap<Method, MethodMeters> meters = new ConcurrentHashMap<>();
 
     @Inject
-    MeterRegistry registry;
+    public InstrumentedInterceptor(
+            MeterRegistry registry,
+            @ConfigProperty(name = "flowcatalyst.db.metrics.slow-threshold", defaultValue = "100ms")
+            Duration slowThreshold,
+            @ConfigProperty(name = "flowcatalyst.db.metrics.histogram-sample-rate", defaultValue = "1")
+            int histogramSampleRate) {
+        this.registry = registry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.histogramSampleRate = Math.max(1, histogramSampleRate);
+    }
 
     @AroundInvoke
     public Object instrument(InvocationContext ctx) throws Exception {
-        String collection = resolveCollection(ctx);
-        String operation = ctx.getMethod().getName();
-
-        Timer.Sample sample = Timer.start(registry);
-        String result = "success";
+        MethodMeters m = meters.get(ctx.getMethod());
+        if (m == null) {
+            m = meters.computeIfAbsent(ctx.getMethod(), method -> register(ctx, method));
+        }
 
+        long start = System.nanoTime();
+        boolean success = false;
         try {
-            return ctx.proceed();
+            Object result = ctx.proceed();
+            success = true;
+            return result;
         } catch (Exception e) {
-            result = "error";
-            registry.counter("flowcatalyst.db.operation.errors",
-                "collection", collection,
-                "operation", operation,
-                "error_type", classifyError(e)
-            ).increment();
+            m.errorsByType().get(classifyError(e)).increment();
             throw e;
         } finally {
-            long durationNanos = sample.stop(Timer.builder("flowcatalyst.db.operation.duration")
-                .tag("collection", collection)
-                .tag("operation", operation)
-                .tag("result", result)
-                .publishPercentileHistogram()
-                .register(registry));
-
-            long durationMs = durationNanos / 1_000_000;
+            long durationNanos = System.nanoTime() - start;
 
-            registry.counter("flowcatalyst.db.operations",
-                "collection", collection,
-                "operation", operation,
-                "result", result
-            ).increment();
+            if (histogramSampleRate == 1 || ThreadLocalRandom.current().nextInt(histogramSampleRate) == 0) {
+                (success ? m.successTimer() : m.errorTimer()).record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+            (success ? m.successCount() : m.errorCount()).increment();
 
-            if (durationMs > SLOW_QUERY_THRESHOLD_MS) {
+            if (durationNanos > slowThresholdNanos) {
                 LOG.warnf("Slow database operation: %s.%s took %dms",
-                    collection, operation, durationMs);
+                    m.collection(), m.operation(), TimeUnit.NANOSECONDS.toMillis(durationNanos));
             }
         }
     }
 
+    private MethodMeters register(InvocationContext ctx, Method method) {
+        String collection = resolveCollection(ctx);
+        String operation = method.getName();
+        Map<String, Counter> errorsByType = new HashMap<>();
+        for (String errorType : ERROR_TYPES) {
+            errorsByType.put(errorType, registry.counter("flowcatalyst.db.operation.errors",
+                "collection", collection,
+                "operation", operation,
+                "error_type", errorType));
+        }
+        return new MethodMeters(
+            collection,
+            operation,
+            timer(collection, operation, "success"),
+            timer(collection, operation, "error"),
+            registry.counter("flowcatalyst.db.operations",
+                "collection", collection, "operation", operation, "result", "success"),
+            registry.counter("flowcatalyst.db.operations",
+                "collection", collection, "operation", operation, "result", "error"),
+            Map.copyOf(errorsByType)
+        );
+    }
+
+    private Timer timer(String collection, String operation, String result) {
+        return Timer.builder("flowcatalyst.db.operation.duration")
+            .tag("collection", collection)
+            .tag("operation", operation)
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
     private String resolveCollection(InvocationContext ctx) {
         // Check method annotation first
         Instrumented methodAnnotation = ctx.getMethod().getAnnotation(Instrumented.class);
@@ -3,6 +3,7 @@ package tech.flowcatalyst.platform.shared;
 import com.github.f4b6a3.tsid.Tsid;
 import com.github.f4b6a3.tsid.TsidCreator;
 
+import java.time.Instant;
 import java.util.Objects;
 
 /**
@@ -131,6 +132,34 @@ public class TsidGenerator {
         return type.prefix() + SEPARATOR + Tsid.from(tsidLong).toString();
     }
 
+    /**
+     * Smallest typed ID that can be generated at a given time.
+     * Since TSIDs start with their timestamp, every ID generated at or after
+     * {@code time} sorts at or above this bound. Used for time-range predicates
+     * on tables partitioned by ID.
+     *
+     * @param type the entity type
+     * @param time the instant (at or after the TSID epoch, 2020-01-01)
+     * @return the typed ID bound (e.g., "evn_0HZXEQ5Y80000")
+     */
+    public static String lowerBound(EntityType type, Instant time) {
+        Objects.requireNonNull(type, "EntityType must not be null");
+        long millis = Math.max(time.toEpochMilli() - Tsid.TSID_EPOCH, 0);
+        return type.prefix() + SEPARATOR + Tsid.from(millis << 22).toString();
+    }
+
+    /**
+     * Smallest typed ID of a type. Raw TSIDs stored before the type's IDs were prefixed sort
+     * below it, so {@code id < typedFloor(type)} selects exactly those.
+     *
+     * @param type the entity type
+     * @return the prefix and separator (e.g., "evn_")
+     */
+    public static String typedFloor(EntityType type) {
+        Objects.requireNonNull(type, "EntityType must not be null");
+        return type.prefix() + SEPARATOR;
+    }
+
     private TsidGenerator() {
         // Utility class
     }
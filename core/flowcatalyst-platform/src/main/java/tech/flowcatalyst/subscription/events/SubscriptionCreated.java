@@ -9,6 +9,7 @@ import lombok.Builder;
 import tech.flowcatalyst.dispatch.DispatchMode;
 import tech.flowcatalyst.platform.common.DomainEvent;
 import tech.flowcatalyst.platform.common.ExecutionContext;
+import tech.flowcatalyst.platform.shared.EntityType;
 import tech.flowcatalyst.platform.shared.TsidGenerator;
 import tech.flowcatalyst.subscription.*;
 
@@ -141,7 +142,7 @@ public record SubscriptionCreated(
      */
     public static SubscriptionCreatedBuilder fromContext(ExecutionContext ctx) {
         return SubscriptionCreated.builder()
-            .eventId(TsidGenerator.generate())
+            .eventId(TsidGenerator.generate(EntityType.EVENT))
             .time(Instant.now())
             .executionId(ctx.executionId())
             .correlationId(ctx.correlationId())
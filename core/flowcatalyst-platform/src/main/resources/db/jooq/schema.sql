@@ -146,6 +146,13 @@ CREATE TABLE events (
     created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Event Deduplication Keys (claimed on ingest; events is partitioned by id)
+CREATE TABLE event_deduplication_keys (
+    deduplication_id VARCHAR(100) PRIMARY KEY,
+    event_id VARCHAR(17) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
 -- Events Read (read-optimized projection)
 CREATE TABLE events_read (
     id VARCHAR(17) PRIMARY KEY,
@@ -509,15 +516,20 @@ CREATE TABLE subscription_event_types (
     PRIMARY KEY (subscription_id, event_type_code)
 );
 
--- Dispatch Job Attempts (normalized from dispatch_jobs.attempts JSONB)
+-- Dispatch Job Attempts (append-only, one row per attempt; partitioned by dispatch_job_id)
 CREATE TABLE dispatch_job_attempts (
-    id VARCHAR(17) PRIMARY KEY,
+    id VARCHAR(17) NOT NULL,
     dispatch_job_id VARCHAR(17) NOT NULL,
     attempt_number INT NOT NULL,
     status VARCHAR(20) NOT NULL,
     status_code INT,
+    response_body TEXT,
     error_message TEXT,
+    error_stack_trace TEXT,
+    error_type VARCHAR(20),
     duration_millis BIGINT,
     attempted_at TIMESTAMP WITH TIME ZONE NOT NULL,
-    UNIQUE(dispatch_job_id, attempt_number)
+    completed_at TIMESTAMP WITH TIME ZONE,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (dispatch_job_id, attempt_number)
 );
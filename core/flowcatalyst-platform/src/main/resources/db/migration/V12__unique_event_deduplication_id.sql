@@ -0,0 +1,28 @@
+-- V12: Enforce unique event deduplication IDs
+--
+-- Event ingest inserts batches with INSERT ... ON CONFLICT (deduplication_id) DO NOTHING,
+-- which needs a unique index as the conflict target. NULL deduplication IDs stay allowed
+-- (PostgreSQL treats NULLs as distinct in unique indexes).
+
+-- =============================================================================
+-- Clear duplicate deduplication IDs left by the previous check-then-insert path
+-- =============================================================================
+
+-- Keep the deduplication ID on the earliest event of each group; later copies
+-- remain as events but no longer claim the ID
+UPDATE events e
+SET deduplication_id = NULL
+WHERE e.deduplication_id IS NOT NULL
+  AND EXISTS (
+      SELECT 1 FROM events earlier
+      WHERE earlier.deduplication_id = e.deduplication_id
+        AND earlier.id < e.id
+  );
+
+-- =============================================================================
+-- Replace the plain index with a unique one
+-- =============================================================================
+
+DROP INDEX IF EXISTS idx_events_deduplication_id;
+
+CREATE UNIQUE INDEX uq_events_deduplication_id ON events(deduplication_id);
@@ -0,0 +1,60 @@
+-- V13: Trigger-maintained change log for read model projections
+--
+-- The stream processor builds events_read and dispatch_jobs_read from this table
+-- instead of request handlers dual-writing the read models. Every insert or update
+-- of a source row appends one entry in the same transaction as the write.
+--
+-- Entries are consumed in (txid, id) order, and only once their transaction id is
+-- below the xmin of the current snapshot. At that point every transaction that could
+-- still add an entry at or below the position has finished, so a cursor over
+-- (txid, id) never skips a late-committing writer the way a cursor over the sequence
+-- alone would. Entries only carry the row id: the consumer reads the current row
+-- state, so out-of-order updates to the same row still converge.
+
+-- =============================================================================
+-- Change log
+-- =============================================================================
+
+CREATE TABLE projection_change_log (
+    id BIGSERIAL PRIMARY KEY,
+    txid BIGINT NOT NULL DEFAULT txid_current(),
+    source_table VARCHAR(63) NOT NULL,
+    row_id VARCHAR(17) NOT NULL,
+    operation VARCHAR(10) NOT NULL,
+    changed_at TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX idx_projection_change_log_position
+    ON projection_change_log(source_table, txid, id);
+
+-- =============================================================================
+-- Capture triggers
+-- =============================================================================
+
+CREATE OR REPLACE FUNCTION projection_change_log_capture() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO projection_change_log (source_table, row_id, operation)
+    VALUES (TG_TABLE_NAME, NEW.id, lower(TG_OP));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_events_change_log
+    AFTER INSERT ON events
+    FOR EACH ROW EXECUTE FUNCTION projection_change_log_capture();
+
+CREATE TRIGGER trg_dispatch_jobs_change_log
+    AFTER INSERT OR UPDATE ON dispatch_jobs
+    FOR EACH ROW EXECUTE FUNCTION projection_change_log_capture();
+
+-- =============================================================================
+-- Backfill
+-- =============================================================================
+
+-- Nothing populated the read tables on PostgreSQL before, so queue every existing
+-- row once; the projection upserts are idempotent
+INSERT INTO projection_change_log (source_table, row_id, operation)
+SELECT 'events', id, 'insert' FROM events ORDER BY created_at, id;
+
+INSERT INTO projection_change_log (source_table, row_id, operation)
+SELECT 'dispatch_jobs', id, 'insert' FROM dispatch_jobs ORDER BY created_at, id;
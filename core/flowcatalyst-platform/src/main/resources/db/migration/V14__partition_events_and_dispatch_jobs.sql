@@ -0,0 +1,198 @@
+-- V14: Range-partition events, events_read, dispatch_jobs and dispatch_jobs_read by TSID
+--
+-- IDs are "{prefix}_{tsid}" and a TSID starts with its creation time, so the IDs sort
+-- by time and a range of IDs is a range of time. Partitioning on id keeps id as the
+-- primary key, and lookups by id only touch one partition. The PartitionManager
+-- pre-creates partitions named {table}_pYYYYMMDD ahead of time and drops or detaches
+-- them once they pass the configured retention.
+--
+-- The existing heap tables of events and dispatch_jobs are attached as
+-- {table}_legacy partitions covering everything before the start of next month, so
+-- no rows are copied. The read tables are rebuilt from the change log.
+--
+-- Each table also gets an empty DEFAULT partition, so writes never fail if the
+-- partition manager falls behind.
+--
+-- Cost on large installations, both proportional to the existing rows:
+--   * ATTACH PARTITION reads the whole legacy table to check it against the partition
+--     bound, while the renames below hold ACCESS EXCLUSIVE locks on events and
+--     dispatch_jobs. Writes to both tables wait until the migration commits.
+--   * Every existing event and dispatch job is queued in projection_change_log, and the
+--     read tables stay incomplete until the stream processor has worked through them.
+-- Trim rows beyond the intended retention before upgrading to shorten both.
+
+-- =============================================================================
+-- TSID helper
+-- =============================================================================
+
+-- Smallest TSID (13 Crockford base32 chars) that can be generated at the given time.
+-- Matches TsidGenerator.lowerBound: milliseconds since 2020-01-01 in the top 42 bits.
+CREATE OR REPLACE FUNCTION tsid_floor(ts TIMESTAMPTZ) RETURNS TEXT AS $$
+DECLARE
+    alphabet CONSTANT TEXT := '0123456789ABCDEFGHJKMNPQRSTVWXYZ';
+    tsid BIGINT := (floor(extract(epoch FROM ts) * 1000)::BIGINT - 1577836800000) << 22;
+    result TEXT := '';
+BEGIN
+    FOR i IN 0..12 LOOP
+        result := result || substr(alphabet, ((tsid >> (60 - 5 * i)) & 31)::INT + 1, 1);
+    END LOOP;
+    RETURN result;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- =============================================================================
+-- Change log capture: triggers on partitioned tables fire per partition, so the
+-- logical table name is passed as a trigger argument
+-- =============================================================================
+
+CREATE OR REPLACE FUNCTION projection_change_log_capture() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO projection_change_log (source_table, row_id, operation)
+    VALUES (COALESCE(TG_ARGV[0], TG_TABLE_NAME), NEW.id, lower(TG_OP));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_events_change_log ON events;
+DROP TRIGGER IF EXISTS trg_dispatch_jobs_change_log ON dispatch_jobs;
+
+-- =============================================================================
+-- Event deduplication keys
+-- =============================================================================
+
+-- A unique index on a partitioned table must include the partition key, so
+-- deduplication IDs are claimed in their own table. Keys are purged together with
+-- the events partitions they belong to.
+CREATE TABLE event_deduplication_keys (
+    deduplication_id VARCHAR(100) PRIMARY KEY,
+    event_id VARCHAR(17) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_event_deduplication_keys_created_at ON event_deduplication_keys(created_at);
+
+INSERT INTO event_deduplication_keys (deduplication_id, event_id, created_at)
+SELECT deduplication_id, id, created_at FROM events WHERE deduplication_id IS NOT NULL;
+
+DROP INDEX IF EXISTS uq_events_deduplication_id;
+
+-- =============================================================================
+-- events
+-- =============================================================================
+
+ALTER TABLE events RENAME TO events_legacy;
+ALTER TABLE events_legacy RENAME CONSTRAINT events_pkey TO events_legacy_pkey;
+ALTER INDEX idx_events_type RENAME TO idx_events_legacy_type;
+ALTER INDEX idx_events_client_id RENAME TO idx_events_legacy_client_id;
+ALTER INDEX idx_events_time RENAME TO idx_events_legacy_time;
+ALTER INDEX idx_events_correlation_id RENAME TO idx_events_legacy_correlation_id;
+
+CREATE TABLE events (LIKE events_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (id);
+ALTER TABLE events ADD PRIMARY KEY (id);
+
+DO $$
+BEGIN
+    EXECUTE format('ALTER TABLE events ATTACH PARTITION events_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+        'evn_' || tsid_floor(date_trunc('month', now(), 'UTC') + INTERVAL '1 month'));
+END;
+$$;
+
+CREATE TABLE events_default PARTITION OF events DEFAULT;
+
+-- Matching indexes on the legacy partition are attached, not rebuilt
+CREATE INDEX idx_events_type ON events(type);
+CREATE INDEX idx_events_client_id ON events(client_id);
+CREATE INDEX idx_events_time ON events(time DESC);
+CREATE INDEX idx_events_correlation_id ON events(correlation_id);
+CREATE INDEX idx_events_deduplication_id ON events(deduplication_id);
+
+CREATE TRIGGER trg_events_change_log
+    AFTER INSERT ON events
+    FOR EACH ROW EXECUTE FUNCTION projection_change_log_capture('events');
+
+-- =============================================================================
+-- dispatch_jobs
+-- =============================================================================
+
+ALTER TABLE dispatch_jobs RENAME TO dispatch_jobs_legacy;
+ALTER TABLE dispatch_jobs_legacy RENAME CONSTRAINT dispatch_jobs_pkey TO dispatch_jobs_legacy_pkey;
+ALTER INDEX idx_dispatch_jobs_status RENAME TO idx_dispatch_jobs_legacy_status;
+ALTER INDEX idx_dispatch_jobs_client_id RENAME TO idx_dispatch_jobs_legacy_client_id;
+ALTER INDEX idx_dispatch_jobs_message_group RENAME TO idx_dispatch_jobs_legacy_message_group;
+ALTER INDEX idx_dispatch_jobs_subscription_id RENAME TO idx_dispatch_jobs_legacy_subscription_id;
+ALTER INDEX idx_dispatch_jobs_created_at RENAME TO idx_dispatch_jobs_legacy_created_at;
+ALTER INDEX idx_dispatch_jobs_scheduled_for RENAME TO idx_dispatch_jobs_legacy_scheduled_for;
+
+CREATE TABLE dispatch_jobs (LIKE dispatch_jobs_legacy INCLUDING DEFAULTS) PARTITION BY RANGE (id);
+ALTER TABLE dispatch_jobs ADD PRIMARY KEY (id);
+
+DO $$
+BEGIN
+    EXECUTE format('ALTER TABLE dispatch_jobs ATTACH PARTITION dispatch_jobs_legacy FOR VALUES FROM (MINVALUE) TO (%L)',
+        'djb_' || tsid_floor(date_trunc('month', now(), 'UTC') + INTERVAL '1 month'));
+END;
+$$;
+
+CREATE TABLE dispatch_jobs_default PARTITION OF dispatch_jobs DEFAULT;
+
+CREATE INDEX idx_dispatch_jobs_status ON dispatch_jobs(status);
+CREATE INDEX idx_dispatch_jobs_client_id ON dispatch_jobs(client_id);
+CREATE INDEX idx_dispatch_jobs_message_group ON dispatch_jobs(message_group);
+CREATE INDEX idx_dispatch_jobs_subscription_id ON dispatch_jobs(subscription_id);
+CREATE INDEX idx_dispatch_jobs_created_at ON dispatch_jobs(created_at DESC);
+CREATE INDEX idx_dispatch_jobs_scheduled_for ON dispatch_jobs(scheduled_for) WHERE scheduled_for IS NOT NULL;
+
+CREATE TRIGGER trg_dispatch_jobs_change_log
+    AFTER INSERT OR UPDATE ON dispatch_jobs
+    FOR EACH ROW EXECUTE FUNCTION projection_change_log_capture('dispatch_jobs');
+
+-- =============================================================================
+-- Read tables: recreated partitioned and repopulated by the stream processor
+-- =============================================================================
+
+ALTER TABLE events_read RENAME TO events_read_old;
+CREATE TABLE events_read (LIKE events_read_old INCLUDING DEFAULTS) PARTITION BY RANGE (id);
+DROP TABLE events_read_old;
+ALTER TABLE events_read ADD PRIMARY KEY (id);
+
+DO $$
+BEGIN
+    EXECUTE format('CREATE TABLE events_read_legacy PARTITION OF events_read FOR VALUES FROM (MINVALUE) TO (%L)',
+        'evn_' || tsid_floor(date_trunc('month', now(), 'UTC') + INTERVAL '1 month'));
+END;
+$$;
+
+CREATE TABLE events_read_default PARTITION OF events_read DEFAULT;
+
+CREATE INDEX idx_events_read_type ON events_read(type);
+CREATE INDEX idx_events_read_client_id ON events_read(client_id);
+CREATE INDEX idx_events_read_time ON events_read(time DESC);
+CREATE INDEX idx_events_read_application ON events_read(application);
+CREATE INDEX idx_events_read_subdomain ON events_read(subdomain);
+CREATE INDEX idx_events_read_aggregate ON events_read(aggregate);
+CREATE INDEX idx_events_read_correlation_id ON events_read(correlation_id);
+
+ALTER TABLE dispatch_jobs_read RENAME TO dispatch_jobs_read_old;
+CREATE TABLE dispatch_jobs_read (LIKE dispatch_jobs_read_old INCLUDING DEFAULTS) PARTITION BY RANGE (id);
+DROP TABLE dispatch_jobs_read_old;
+ALTER TABLE dispatch_jobs_read ADD PRIMARY KEY (id);
+
+DO $$
+BEGIN
+    EXECUTE format('CREATE TABLE dispatch_jobs_read_legacy PARTITION OF dispatch_jobs_read FOR VALUES FROM (MINVALUE) TO (%L)',
+        'djb_' || tsid_floor(date_trunc('month', now(), 'UTC') + INTERVAL '1 month'));
+END;
+$$;
+
+CREATE TABLE dispatch_jobs_read_default PARTITION OF dispatch_jobs_read DEFAULT;
+
+CREATE INDEX idx_dispatch_jobs_read_status ON dispatch_jobs_read(status);
+CREATE INDEX idx_dispatch_jobs_read_client_id ON dispatch_jobs_read(client_id);
+CREATE INDEX idx_dispatch_jobs_read_application ON dispatch_jobs_read(application);
+
+-- Read rows are keyed by their source id; queue every source row for re-projection
+INSERT INTO projection_change_log (source_table, row_id, operation)
+SELECT 'events', id, 'insert' FROM events ORDER BY id;
+
+INSERT INTO projection_change_log (source_table, row_id, operation)
+SELECT 'dispatch_jobs', id, 'insert' FROM dispatch_jobs ORDER BY id;
@@ -0,0 +1,84 @@
+-- V15: Append-only dispatch attempt storage
+--
+-- Attempts were kept in the dispatch_jobs.attempts JSONB array, which was read and rewritten
+-- in full on every retry. From now on each attempt is one row in dispatch_job_attempts
+-- (created by V11 but never written to), inserted together with an attempt_count increment.
+--
+-- The table is rebuilt with the columns the application records, and range-partitioned by
+-- dispatch_job_id so that its partitions line up with those of dispatch_jobs (V14) and are
+-- dropped or detached together with them. The primary key is (dispatch_job_id, attempt_number).
+--
+-- dispatch_jobs.attempts is no longer written. It is left in place and will be dropped once
+-- the backfill below has been verified.
+
+ALTER TABLE dispatch_job_attempts RENAME TO dispatch_job_attempts_old;
+DROP INDEX idx_dispatch_job_attempts_job_id;
+DROP INDEX idx_dispatch_job_attempts_status;
+DROP INDEX idx_dispatch_job_attempts_attempted_at;
+
+CREATE TABLE dispatch_job_attempts (
+    id VARCHAR(17) NOT NULL,
+    dispatch_job_id VARCHAR(17) NOT NULL,
+    attempt_number INT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    status_code INT,
+    response_body TEXT,
+    error_message TEXT,
+    error_stack_trace TEXT,
+    error_type VARCHAR(20),
+    duration_millis BIGINT,
+    attempted_at TIMESTAMPTZ NOT NULL,
+    completed_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (dispatch_job_id, attempt_number)
+) PARTITION BY RANGE (dispatch_job_id);
+
+-- Same boundary as dispatch_jobs_legacy, so later partitions are created by the PartitionManager
+DO $$
+BEGIN
+    EXECUTE format('CREATE TABLE dispatch_job_attempts_legacy PARTITION OF dispatch_job_attempts FOR VALUES FROM (MINVALUE) TO (%L)',
+        'djb_' || tsid_floor(date_trunc('month', now(), 'UTC') + INTERVAL '1 month'));
+END;
+$$;
+
+CREATE TABLE dispatch_job_attempts_default PARTITION OF dispatch_job_attempts DEFAULT;
+
+-- =============================================================================
+-- Backfill from the JSONB arrays (complete records, including attempts made since V11)
+-- =============================================================================
+
+INSERT INTO dispatch_job_attempts (id, dispatch_job_id, attempt_number, status, status_code, response_body,
+                                   error_message, error_stack_trace, error_type, duration_millis,
+                                   attempted_at, completed_at, created_at)
+SELECT
+    COALESCE(attempt_elem->>'id', 'dja_' || upper(substring(md5(random()::text || dj.id) for 13))),
+    dj.id,
+    (attempt_elem->>'attemptNumber')::int,
+    COALESCE(attempt_elem->>'status', 'UNKNOWN'),
+    (attempt_elem->>'responseCode')::int,
+    attempt_elem->>'responseBody',
+    attempt_elem->>'errorMessage',
+    attempt_elem->>'errorStackTrace',
+    attempt_elem->>'errorType',
+    (attempt_elem->>'durationMillis')::bigint,
+    COALESCE((attempt_elem->>'attemptedAt')::timestamptz, dj.created_at),
+    (attempt_elem->>'completedAt')::timestamptz,
+    COALESCE((attempt_elem->>'createdAt')::timestamptz, dj.created_at)
+FROM dispatch_jobs dj,
+     jsonb_array_elements(COALESCE(dj.attempts::jsonb, '[]'::jsonb)) AS attempt_elem
+WHERE dj.attempts IS NOT NULL
+  AND attempt_elem->>'attemptNumber' IS NOT NULL
+ON CONFLICT (dispatch_job_id, attempt_number) DO NOTHING;
+
+-- Rows V11 copied whose JSONB source has since been lost
+INSERT INTO dispatch_job_attempts (id, dispatch_job_id, attempt_number, status, status_code,
+                                   error_message, duration_millis, attempted_at)
+SELECT left(id, 17), dispatch_job_id, attempt_number, status, status_code,
+       error_message, duration_millis, attempted_at
+FROM dispatch_job_attempts_old
+ON CONFLICT (dispatch_job_id, attempt_number) DO NOTHING;
+
+DROP TABLE dispatch_job_attempts_old;
+
+CREATE INDEX idx_dispatch_job_attempts_status ON dispatch_job_attempts(status);
+CREATE INDEX idx_dispatch_job_attempts_attempted_at ON dispatch_job_attempts(attempted_at);
@@ -0,0 +1,40 @@
+-- V16: Cache invalidation notifications
+--
+-- Instances keep hot principals in an in-process near cache. These triggers NOTIFY
+-- every instance when a principal, its role assignments or a service account change,
+-- whichever code path made the write. NOTIFY is transactional: listeners only hear
+-- about committed changes, and identical notifications in one transaction are sent once.
+--
+-- Payload: '{cache}:{key}', where key '*' invalidates the whole cache. The channel name
+-- must match CacheInvalidationBus.CHANNEL.
+
+CREATE OR REPLACE FUNCTION cache_invalidation_notify() RETURNS TRIGGER AS $$
+DECLARE
+    changed JSONB;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        changed := to_jsonb(OLD);
+    ELSE
+        changed := to_jsonb(NEW);
+    END IF;
+    -- TG_ARGV[0]: cache name, TG_ARGV[1]: key column (none means the whole cache)
+    PERFORM pg_notify('flowcatalyst_cache_invalidation',
+        TG_ARGV[0] || ':' || COALESCE(changed ->> TG_ARGV[1], '*'));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- New principals cannot be cached yet, so inserts need no notification
+CREATE TRIGGER trg_principals_cache_invalidation
+    AFTER UPDATE OR DELETE ON principals
+    FOR EACH ROW EXECUTE FUNCTION cache_invalidation_notify('principals', 'id');
+
+CREATE TRIGGER trg_principal_roles_cache_invalidation
+    AFTER INSERT OR UPDATE OR DELETE ON principal_roles
+    FOR EACH ROW EXECUTE FUNCTION cache_invalidation_notify('principals', 'principal_id');
+
+-- Service accounts are embedded in their principal by code, not by id; they change
+-- rarely, so drop all cached principals instead of resolving the owner
+CREATE TRIGGER trg_service_accounts_cache_invalidation
+    AFTER INSERT OR UPDATE OR DELETE ON service_accounts
+    FOR EACH ROW EXECUTE FUNCTION cache_invalidation_notify('principals');
@@ -0,0 +1,36 @@
+-- V17: Invalidate the owning principal when a service account changes
+--
+-- V16 notified 'principals:*' for every service account change. Instances treat '*' as
+-- "drop local copies" (it is also sent on reconnect), so the shared cache store kept the
+-- stale principal until its TTL. Notify the id of each principal embedding the service
+-- account instead: a per-key invalidation clears both cache tiers.
+
+CREATE INDEX IF NOT EXISTS idx_principals_service_account_code
+    ON principals ((service_account ->> 'code'))
+    WHERE service_account IS NOT NULL;
+
+CREATE OR REPLACE FUNCTION service_account_cache_invalidation_notify() RETURNS TRIGGER AS $$
+DECLARE
+    codes TEXT[];
+    owner TEXT;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        codes := ARRAY[NEW.code];
+    ELSIF TG_OP = 'DELETE' THEN
+        codes := ARRAY[OLD.code];
+    ELSE
+        -- A renamed code may still be embedded under the old one
+        codes := ARRAY[OLD.code, NEW.code];
+    END IF;
+    FOR owner IN SELECT id FROM principals WHERE service_account ->> 'code' = ANY(codes) LOOP
+        PERFORM pg_notify('flowcatalyst_cache_invalidation', 'principals:' || owner);
+    END LOOP;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_service_accounts_cache_invalidation ON service_accounts;
+
+CREATE TRIGGER trg_service_accounts_cache_invalidation
+    AFTER INSERT OR UPDATE OR DELETE ON service_accounts
+    FOR EACH ROW EXECUTE FUNCTION service_account_cache_invalidation_notify();
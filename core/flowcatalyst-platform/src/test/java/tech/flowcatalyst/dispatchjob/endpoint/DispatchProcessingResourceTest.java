@@ -0,0 +1,133 @@
+package tech.flowcatalyst.dispatchjob.endpoint;
+
+import jakarta.ws.rs.core.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.dispatchjob.endpoint.DispatchProcessingResource.BatchItem;
+import tech.flowcatalyst.dispatchjob.endpoint.DispatchProcessingResource.BatchItemResult;
+import tech.flowcatalyst.dispatchjob.endpoint.DispatchProcessingResource.BatchProcessRequest;
+import tech.flowcatalyst.dispatchjob.endpoint.DispatchProcessingResource.BatchProcessResponse;
+import tech.flowcatalyst.dispatchjob.security.DispatchAuthService;
+import tech.flowcatalyst.dispatchjob.service.DispatchJobService;
+import tech.flowcatalyst.dispatchjob.service.DispatchJobService.DispatchJobProcessResult;
+import tech.flowcatalyst.platform.jdbc.DatabaseBusyException;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the batch form of DispatchProcessingResource.
+ * Covers per-item token checks, items without an ID, result order and batch-wide failures.
+ */
+class DispatchProcessingResourceTest {
+
+    private DispatchProcessingResource resource;
+    private DispatchJobService dispatchJobService;
+    private DispatchAuthService dispatchAuthService;
+
+    @BeforeEach
+    void setUp() {
+        // A token is valid when it names its job, so tests can forge tokens without keys
+        dispatchAuthService = mock(DispatchAuthService.class);
+        when(dispatchAuthService.validateAuthTokens(anyList(), anyList())).thenAnswer(invocation -> {
+            List<String> ids = invocation.getArgument(0);
+            List<String> tokens = invocation.getArgument(1);
+            BitSet valid = new BitSet(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                valid.set(i, ids.get(i) != null && ("token-" + ids.get(i)).equals(tokens.get(i)));
+            }
+            return valid;
+        });
+
+        dispatchJobService = mock(DispatchJobService.class);
+        resource = new DispatchProcessingResource();
+        resource.dispatchJobService = dispatchJobService;
+        resource.dispatchAuthService = dispatchAuthService;
+    }
+
+    private BatchItem signed(String id) {
+        return new BatchItem(id, "token-" + id);
+    }
+
+    private List<BatchItemResult> process(BatchItem... items) {
+        Response response = resource.processDispatchJobs(new BatchProcessRequest(Arrays.asList(items)));
+        assertThat(response.getStatus()).isEqualTo(200);
+        return ((BatchProcessResponse) response.getEntity()).results();
+    }
+
+    @Test
+    @DisplayName("processDispatchJobs should process only valid items and answer every item in request order")
+    void processDispatchJobs_shouldRejectInvalidItemsOnly() {
+        when(dispatchJobService.processDispatchJobs(List.of("djb_1", "djb_3", "djb_missing"))).thenReturn(Map.of(
+            "djb_1", DispatchJobProcessResult.success(""),
+            "djb_3", DispatchJobProcessResult.transientError("Error but retries not exhausted.", 30),
+            "djb_missing", DispatchJobProcessResult.permanentError("Cannot find record.")));
+
+        List<BatchItemResult> results = process(
+            signed("djb_1"),
+            new BatchItem("djb_2", "forged"),
+            new BatchItem(null, "token-djb_1"),
+            signed("djb_3"),
+            signed("djb_missing"));
+
+        assertThat(results).containsExactly(
+            new BatchItemResult("djb_1", true, "", null),
+            new BatchItemResult("djb_2", false, "Invalid auth token", null),
+            new BatchItemResult(null, false, "Missing messageId", null),
+            new BatchItemResult("djb_3", false, "Error but retries not exhausted.", 30),
+            new BatchItemResult("djb_missing", true, "Cannot find record.", null));
+    }
+
+    @Test
+    @DisplayName("processDispatchJobs should answer each position of a repeated ID by its own token")
+    void processDispatchJobs_shouldAnswerDuplicateIdsPerPosition() {
+        when(dispatchJobService.processDispatchJobs(List.of("djb_1", "djb_1")))
+            .thenReturn(Map.of("djb_1", DispatchJobProcessResult.success("")));
+
+        List<BatchItemResult> results = process(signed("djb_1"), new BatchItem("djb_1", "forged"), signed("djb_1"));
+
+        assertThat(results).containsExactly(
+            new BatchItemResult("djb_1", true, "", null),
+            new BatchItemResult("djb_1", false, "Invalid auth token", null),
+            new BatchItemResult("djb_1", true, "", null));
+    }
+
+    @Test
+    @DisplayName("processDispatchJobs should not call the service when no item is valid")
+    void processDispatchJobs_shouldSkipServiceWithoutValidItems() {
+        List<BatchItemResult> results = process(new BatchItem("djb_1", null), new BatchItem(null, null));
+
+        assertThat(results).extracting(BatchItemResult::message)
+            .containsExactly("Invalid auth token", "Missing messageId");
+        verifyNoInteractions(dispatchJobService);
+    }
+
+    @Test
+    @DisplayName("processDispatchJobs should defer valid items briefly when the database is busy")
+    void processDispatchJobs_shouldDeferWhenDatabaseBusy() {
+        when(dispatchJobService.processDispatchJobs(anyList())).thenThrow(new DatabaseBusyException("pool exhausted"));
+
+        List<BatchItemResult> results = process(signed("djb_1"), new BatchItem("djb_2", "forged"));
+
+        assertThat(results).containsExactly(
+            new BatchItemResult("djb_1", false, "Database busy", 1),
+            new BatchItemResult("djb_2", false, "Invalid auth token", null));
+    }
+
+    @Test
+    @DisplayName("processDispatchJobs should return 500 on an unexpected failure")
+    void processDispatchJobs_shouldFailBatchOnUnexpectedError() {
+        when(dispatchJobService.processDispatchJobs(anyList())).thenThrow(new IllegalStateException("boom"));
+
+        Response response = resource.processDispatchJobs(new BatchProcessRequest(List.of(signed("djb_1"))));
+
+        assertThat(response.getStatus()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,155 @@
+package tech.flowcatalyst.dispatchjob.jooq;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.dispatchjob.dto.CreateDispatchJobRequest;
+import tech.flowcatalyst.dispatchjob.entity.DispatchAttempt;
+import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
+import tech.flowcatalyst.dispatchjob.model.DispatchAttemptStatus;
+import tech.flowcatalyst.dispatchjob.model.DispatchKind;
+import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for dispatch attempt storage.
+ * Covers appending attempts, counting each attempt number once, reading the history back and the
+ * V15 backfill from the old JSONB column.
+ */
+@Tag("integration")
+@QuarkusTest
+class DispatchJobAttemptsIntegrationTest {
+
+    private static final String SCRATCH_SCHEMA = "v15_backfill_test";
+
+    @Inject
+    DispatchJobRepository dispatchJobRepository;
+
+    @Inject
+    DSLContext dsl;
+
+    @Inject
+    DataSource dataSource;
+
+    private DispatchJob createJob() {
+        return dispatchJobRepository.create(new CreateDispatchJobRequest(
+            "test", DispatchKind.TASK, "test:attempts", "subject", null, null, Map.of(),
+            "http://localhost/webhook", null, Map.of(), "{}", null, null, null, "client-1", null, null,
+            null, "attempts", null, null, null, null, null, null, null, null, null, null));
+    }
+
+    private static DispatchAttempt attempt(int number, DispatchAttemptStatus status) {
+        DispatchAttempt attempt = new DispatchAttempt();
+        attempt.attemptNumber = number;
+        attempt.status = status;
+        attempt.attemptedAt = Instant.now();
+        return attempt;
+    }
+
+    /**
+     * Run against the scratch schema on one connection, so triggers resolve their tables there too.
+     */
+    private void inScratchSchema(Consumer<DSLContext> work) {
+        dsl.connection(connection -> {
+            DSLContext scratch = DSL.using(connection, SQLDialect.POSTGRES);
+            scratch.execute("SET search_path TO " + SCRATCH_SCHEMA);
+            try {
+                work.accept(scratch);
+            } finally {
+                scratch.execute("SET search_path TO DEFAULT");
+            }
+        });
+    }
+
+    private int attemptCount(String jobId) {
+        return dispatchJobRepository.findById(jobId).attemptCount;
+    }
+
+    @Test
+    @DisplayName("addAttempt should append attempts that findAttempts returns in order")
+    void addAttempt_shouldAppendAttempts() {
+        DispatchJob job = createJob();
+
+        dispatchJobRepository.addAttempt(job.id, attempt(2, DispatchAttemptStatus.SUCCESS));
+        dispatchJobRepository.addAttempt(job.id, attempt(1, DispatchAttemptStatus.FAILURE));
+
+        List<DispatchAttempt> attempts = dispatchJobRepository.findAttempts(job.id);
+        assertThat(attempts).extracting(a -> a.attemptNumber).containsExactly(1, 2);
+        assertThat(attempts).extracting(a -> a.status)
+            .containsExactly(DispatchAttemptStatus.FAILURE, DispatchAttemptStatus.SUCCESS);
+        assertThat(attemptCount(job.id)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("addAttempt should keep the first row and count once when an attempt number repeats")
+    void addAttempt_shouldCountRepeatedAttemptNumberOnce() {
+        DispatchJob job = createJob();
+
+        dispatchJobRepository.addAttempt(job.id, attempt(1, DispatchAttemptStatus.FAILURE));
+        dispatchJobRepository.addAttempt(job.id, attempt(1, DispatchAttemptStatus.SUCCESS));
+
+        assertThat(dispatchJobRepository.findAttempts(job.id)).singleElement()
+            .satisfies(a -> assertThat(a.status).isEqualTo(DispatchAttemptStatus.FAILURE));
+        assertThat(attemptCount(job.id)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("V15 should backfill attempts from the JSONB column and keep rows only V11 had")
+    void v15_shouldBackfillAttempts() {
+        FluentConfiguration flyway = Flyway.configure()
+            .dataSource(dataSource)
+            .schemas(SCRATCH_SCHEMA)
+            .locations("classpath:db/migration")
+            .cleanDisabled(false);
+        try {
+            flyway.target("14").load().migrate();
+            inScratchSchema(scratch -> {
+                scratch.execute("""
+                    INSERT INTO dispatch_jobs (id, code, target_url, attempts) VALUES
+                        ('djb_0000000000001', 'a', 'http://t', '[
+                            {"id":"dja_0000000000001","attemptNumber":1,"status":"FAILURE","responseCode":503,
+                             "errorType":"TRANSIENT","attemptedAt":"2026-05-01T10:00:00Z"},
+                            {"attemptNumber":2,"status":"SUCCESS","responseCode":200,"attemptedAt":"2026-05-01T10:01:00Z"}]'),
+                        ('djb_0000000000002', 'b', 'http://t', NULL)""");
+                // Copies V11 made: one superseded by the JSONB source, one whose source is gone
+                scratch.execute("""
+                    INSERT INTO dispatch_job_attempts (id, dispatch_job_id, attempt_number, status, attempted_at) VALUES
+                        ('dja_stale_copy_1', 'djb_0000000000001', 1, 'STALE', '2026-05-01T10:00:00Z'),
+                        ('dja_only_in_v11', 'djb_0000000000002', 1, 'FAILURE', '2026-05-01T11:00:00Z')""");
+            });
+
+            flyway.target("15").load().migrate();
+
+            inScratchSchema(scratch -> {
+                List<String> rows = scratch.resultQuery("""
+                        SELECT dispatch_job_id || ':' || attempt_number || ':' || status || ':' || coalesce(status_code::text, '-')
+                        FROM dispatch_job_attempts ORDER BY dispatch_job_id, attempt_number""")
+                    .fetch(0, String.class);
+                assertThat(rows).containsExactly(
+                    "djb_0000000000001:1:FAILURE:503",
+                    "djb_0000000000001:2:SUCCESS:200",
+                    "djb_0000000000002:1:FAILURE:-");
+                assertThat(scratch.resultQuery(
+                        "SELECT id FROM dispatch_job_attempts WHERE dispatch_job_id = ? AND attempt_number = 1",
+                        "djb_0000000000001")
+                    .fetchOne(0, String.class)).isEqualTo("dja_0000000000001");
+            });
+        } finally {
+            flyway.load().clean();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package tech.flowcatalyst.dispatchjob.jooq;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.dispatchjob.entity.DispatchAttempt;
+import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository.JobOutcome;
+import tech.flowcatalyst.dispatchjob.model.DispatchAttemptStatus;
+import tech.flowcatalyst.dispatchjob.model.DispatchStatus;
+import tech.flowcatalyst.dispatchjob.model.ErrorType;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for the attempt history of JooqDispatchJobRepository.
+ * Runs against a mock JDBC connection and checks the statements sent and the rows mapped back,
+ * including the batch outcome writes of recordOutcomes.
+ */
+class JooqDispatchJobRepositoryTest {
+
+    private static final Instant ATTEMPTED_AT = Instant.parse("2026-05-04T10:15:30Z");
+
+    private final List<String> statements = new ArrayList<>();
+    private final List<Object[]> bindings = new ArrayList<>();
+
+    private JooqDispatchJobRepository repository(Function<String, MockResult> results) {
+        DSLContext dsl = DSL.using(new MockConnection(ctx -> {
+            if (ctx.batch()) {
+                statements.addAll(List.of(ctx.batchSQL()));
+                MockResult[] updated = new MockResult[ctx.batchSQL().length];
+                Arrays.fill(updated, new MockResult(1));
+                return updated;
+            }
+            statements.add(ctx.sql());
+            bindings.add(ctx.bindings());
+            return new MockResult[] { results.apply(ctx.sql()) };
+        }), SQLDialect.POSTGRES);
+        JooqDispatchJobRepository repository = new JooqDispatchJobRepository();
+        repository.dsl = dsl;
+        return repository;
+    }
+
+    private static DispatchAttempt attempt(int number) {
+        DispatchAttempt attempt = new DispatchAttempt();
+        attempt.attemptNumber = number;
+        attempt.status = DispatchAttemptStatus.FAILURE;
+        attempt.errorType = ErrorType.TRANSIENT;
+        attempt.responseCode = 503;
+        attempt.attemptedAt = ATTEMPTED_AT;
+        return attempt;
+    }
+
+    private static Record row(DSLContext create, Field<?>[] columns, Object... values) {
+        Record record = create.newRecord(columns);
+        record.fromArray(values);
+        return record;
+    }
+
+    @Test
+    @DisplayName("addAttempt should insert and count the attempt in one statement")
+    void addAttempt_shouldCountOnlyInsertedAttempt() {
+        JooqDispatchJobRepository repository = repository(sql -> new MockResult(1));
+
+        repository.addAttempt("djb_1", attempt(2));
+
+        assertThat(statements).singleElement().satisfies(sql -> {
+            assertThat(sql).startsWith("with \"inserted\" as (insert into \"dispatch_job_attempts\"");
+            assertThat(sql).contains("on conflict do nothing returning \"dispatch_job_id\")");
+            assertThat(sql).contains("update \"dispatch_jobs\" set \"attempt_count\" = (\"dispatch_jobs\".\"attempt_count\" + ?)");
+            assertThat(sql).endsWith("exists (select 1 as \"one\" from \"inserted\"))");
+        });
+        assertThat(bindings.get(0)).contains("djb_1", 2, "FAILURE", "TRANSIENT", 503);
+    }
+
+    @Test
+    @DisplayName("addAttempt should assign an attempt ID and creation time when missing")
+    void addAttempt_shouldFillMissingIdAndCreatedAt() {
+        JooqDispatchJobRepository repository = repository(sql -> new MockResult(1));
+        DispatchAttempt attempt = attempt(1);
+
+        repository.addAttempt("djb_1", attempt);
+
+        assertThat(attempt.id).startsWith("dja_");
+        assertThat(attempt.createdAt).isNotNull();
+        assertThat(bindings.get(0)).contains(attempt.id);
+    }
+
+    @Test
+    @DisplayName("findAttempts should read the job's attempts in attempt order")
+    void findAttempts_shouldMapRowsInAttemptOrder() {
+        Field<?>[] columns = {
+            DSL.field(DSL.name("id"), String.class),
+            DSL.field(DSL.name("attempt_number"), Integer.class),
+            DSL.field(DSL.name("status"), String.class),
+            DSL.field(DSL.name("status_code"), Integer.class),
+            DSL.field(DSL.name("response_body"), String.class),
+            DSL.field(DSL.name("error_message"), String.class),
+            DSL.field(DSL.name("error_stack_trace"), String.class),
+            DSL.field(DSL.name("error_type"), String.class),
+            DSL.field(DSL.name("duration_millis"), Long.class),
+            DSL.field(DSL.name("attempted_at"), OffsetDateTime.class),
+            DSL.field(DSL.name("completed_at"), OffsetDateTime.class),
+            DSL.field(DSL.name("created_at"), OffsetDateTime.class)
+        };
+        DSLContext create = DSL.using(SQLDialect.POSTGRES);
+        OffsetDateTime at = ATTEMPTED_AT.atOffset(ZoneOffset.UTC);
+        Result<Record> rows = create.newResult(columns);
+        rows.add(row(create, columns, "dja_1", 1, "FAILURE", 503, "busy", null, null, "TRANSIENT", 40L, at, at, at));
+        rows.add(row(create, columns, "dja_2", 2, "SUCCESS", 200, "ok", null, null, null, 25L,
+            at.plusSeconds(30), at.plusSeconds(30), at.plusSeconds(30)));
+        JooqDispatchJobRepository repository = repository(sql -> new MockResult(rows.size(), rows));
+
+        List<DispatchAttempt> attempts = repository.findAttempts("djb_1");
+
+        assertThat(statements).singleElement().satisfies(sql -> {
+            assertThat(sql).contains("from \"dispatch_job_attempts\" where \"dispatch_job_id\" = ?");
+            assertThat(sql).endsWith("order by \"attempt_number\"");
+        });
+        assertThat(attempts).extracting(a -> a.id).containsExactly("dja_1", "dja_2");
+        assertThat(attempts.get(0).status).isEqualTo(DispatchAttemptStatus.FAILURE);
+        assertThat(attempts.get(0).errorType).isEqualTo(ErrorType.TRANSIENT);
+        assertThat(attempts.get(0).responseCode).isEqualTo(503);
+        assertThat(attempts.get(0).responseBody).isEqualTo("busy");
+        assertThat(attempts.get(0).durationMillis).isEqualTo(40L);
+        assertThat(attempts.get(0).attemptedAt).isEqualTo(ATTEMPTED_AT);
+        assertThat(attempts.get(1).errorType).isNull();
+    }
+
+    @Test
+    @DisplayName("recordOutcomes should count only the attempts the insert kept")
+    void recordOutcomes_shouldCountOnlyInsertedAttempts() {
+        Field<String> jobId = DSL.field(DSL.name("dispatch_job_id"), String.class);
+        Field<Integer> number = DSL.field(DSL.name("attempt_number"), Integer.class);
+        DSLContext create = DSL.using(SQLDialect.POSTGRES);
+        // djb_2's attempt 1 already exists, so the insert returns only djb_1's
+        Field<?>[] columns = { jobId, number };
+        Result<Record> returned = create.newResult(columns);
+        returned.add(row(create, columns, "djb_1", 1));
+        JooqDispatchJobRepository repository = repository(sql -> new MockResult(returned.size(), returned));
+
+        repository.recordOutcomes(List.of(
+            new JobOutcome("djb_1", attempt(1), DispatchStatus.QUEUED, null, null, "busy"),
+            new JobOutcome("djb_2", attempt(1), DispatchStatus.QUEUED, null, null, "busy"),
+            new JobOutcome("djb_3", null, DispatchStatus.QUEUED, null, null, null)));
+
+        assertThat(statements).hasSize(4);
+        assertThat(statements.get(0))
+            .startsWith("insert into \"dispatch_job_attempts\"")
+            .endsWith("on conflict do nothing returning \"dispatch_job_id\", \"attempt_number\"");
+        assertThat(bindings.get(0)).contains("djb_1", "djb_2").doesNotContain("djb_3");
+        assertThat(statements.get(1)).contains("'djb_1'").contains("\"attempt_count\" = (\"dispatch_jobs\".\"attempt_count\" + 1)");
+        assertThat(statements.get(2)).contains("'djb_2'").doesNotContain("attempt_count");
+        assertThat(statements.get(3)).contains("'djb_3'").doesNotContain("attempt_count");
+    }
+
+    @Test
+    @DisplayName("recordOutcomes should skip the insert when no outcome has an attempt")
+    void recordOutcomes_shouldSkipInsertWithoutAttempts() {
+        JooqDispatchJobRepository repository = repository(sql -> new MockResult(1));
+
+        repository.recordOutcomes(List.of(new JobOutcome("djb_1", null, DispatchStatus.QUEUED, null, null, null)));
+        repository.recordOutcomes(List.of());
+
+        assertThat(statements).singleElement().satisfies(sql -> {
+            assertThat(sql).startsWith("update \"dispatch_jobs\"");
+            assertThat(sql).doesNotContain("attempt_count");
+        });
+    }
+}
@@ -0,0 +1,143 @@
+package tech.flowcatalyst.dispatchjob.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for DispatchAuthService.
+ * Covers the unversioned token format, key-versioned tokens, key rotation and batch validation.
+ */
+class DispatchAuthServiceTest {
+
+    private static final String OLD_KEY = "old-app-key";
+    private static final String NEW_KEY = "new-signing-key";
+
+    private static DispatchAuthService service(String appKey, String keyId, List<String> previousKeys) {
+        DispatchAuthService service = new DispatchAuthService();
+        service.appKey = Optional.ofNullable(appKey);
+        service.signingKey = Optional.empty();
+        service.keyId = Optional.ofNullable(keyId);
+        service.previousKeys = Optional.ofNullable(previousKeys);
+        service.init();
+        return service;
+    }
+
+    private static String hmacHex(String key, String data) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(data.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("without a key ID tokens should be the plain hex HMAC of the job ID")
+    void generateAuthToken_shouldKeepUnversionedFormat() throws Exception {
+        DispatchAuthService service = service(OLD_KEY, null, null);
+
+        String token = service.generateAuthToken("job-1");
+
+        assertThat(token).isEqualTo(hmacHex(OLD_KEY, "job-1"));
+        assertThat(service.validateAuthToken("job-1", token)).isTrue();
+        assertThat(service.validateAuthToken("job-2", token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("with a key ID tokens should carry it and validate against that key")
+    void generateAuthToken_shouldPrefixKeyId() throws Exception {
+        DispatchAuthService service = service(OLD_KEY, "k1", null);
+
+        String token = service.generateAuthToken("job-1");
+
+        assertThat(token).isEqualTo("k1." + hmacHex(OLD_KEY, "job-1"));
+        assertThat(service.validateAuthToken("job-1", token)).isTrue();
+        assertThat(service.validateAuthToken("job-1", "k9." + hmacHex(OLD_KEY, "job-1"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("tokens signed before a rotation should stay valid while their key is listed as previous")
+    void validateAuthToken_shouldAcceptPreviousKeys() {
+        String unversioned = service(OLD_KEY, null, null).generateAuthToken("job-1");
+        String versioned = service(OLD_KEY, "k1", null).generateAuthToken("job-1");
+
+        DispatchAuthService rotated = service(NEW_KEY, "k2", List.of("k1:" + OLD_KEY));
+        assertThat(rotated.validateAuthToken("job-1", versioned)).isTrue();
+        assertThat(rotated.validateAuthToken("job-1", unversioned)).isTrue();
+        assertThat(rotated.generateAuthToken("job-1")).startsWith("k2.");
+
+        DispatchAuthService retired = service(NEW_KEY, "k2", null);
+        assertThat(retired.validateAuthToken("job-1", versioned)).isFalse();
+        assertThat(retired.validateAuthToken("job-1", unversioned)).isFalse();
+    }
+
+    @Test
+    @DisplayName("validateAuthToken should reject malformed and tampered tokens")
+    void validateAuthToken_shouldRejectMalformedTokens() {
+        DispatchAuthService service = service(OLD_KEY, "k1", null);
+        String token = service.generateAuthToken("job-1");
+
+        assertThat(service.validateAuthToken("job-1", null)).isFalse();
+        assertThat(service.validateAuthToken("job-1", "")).isFalse();
+        assertThat(service.validateAuthToken(null, token)).isFalse();
+        assertThat(service.validateAuthToken("job-1", token.toUpperCase())).isFalse();
+        assertThat(service.validateAuthToken("job-1", token.substring(0, token.length() - 1))).isFalse();
+        assertThat(service.validateAuthToken("job-1", token + "0")).isFalse();
+        char last = token.charAt(token.length() - 1);
+        assertThat(service.validateAuthToken("job-1",
+            token.substring(0, token.length() - 1) + (last == '0' ? '1' : '0'))).isFalse();
+    }
+
+    @Test
+    @DisplayName("validateAuthTokens should mark only the valid tokens of a batch")
+    void validateAuthTokens_shouldValidateEachItem() {
+        DispatchAuthService service = service(OLD_KEY, "k1", null);
+
+        BitSet valid = service.validateAuthTokens(
+            List.of("job-1", "job-2", "job-3", "job-4"),
+            Arrays.asList(service.generateAuthToken("job-1"), service.generateAuthToken("job-1"),
+                null, service.generateAuthToken("job-4")));
+
+        assertThat(valid.stream().boxed().toList()).containsExactly(0, 3);
+    }
+
+    @Test
+    @DisplayName("without any key generation should fail and validation should reject")
+    void shouldHandleMissingKey() {
+        DispatchAuthService service = service(null, null, null);
+
+        assertThat(service.isConfigured()).isFalse();
+        assertThatThrownBy(() -> service.generateAuthToken("job-1")).isInstanceOf(IllegalStateException.class);
+        assertThat(service.validateAuthToken("job-1", "abc")).isFalse();
+    }
+
+    @Test
+    @DisplayName("concurrent callers should share pooled keys without corrupting each other's tokens")
+    void shouldSignAndValidateConcurrently() throws Exception {
+        DispatchAuthService service = service(OLD_KEY, "k1", null);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                String jobId = "job-" + i;
+                results.add(executor.submit(() -> service.generateAuthToken(jobId).equals("k1." + hmacHex(OLD_KEY, jobId))
+                    && service.validateAuthToken(jobId, service.generateAuthToken(jobId))));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+    }
+}
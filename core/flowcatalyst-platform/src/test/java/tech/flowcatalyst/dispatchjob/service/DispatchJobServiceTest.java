@@ -0,0 +1,168 @@
+package tech.flowcatalyst.dispatchjob.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tech.flowcatalyst.dispatchjob.entity.DispatchAttempt;
+import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
+import tech.flowcatalyst.dispatchjob.model.DispatchAttemptStatus;
+import tech.flowcatalyst.dispatchjob.model.DispatchStatus;
+import tech.flowcatalyst.dispatchjob.model.ErrorType;
+import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
+import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository.JobOutcome;
+import tech.flowcatalyst.dispatchjob.service.CredentialsService.ResolvedCredentials;
+import tech.flowcatalyst.dispatchjob.service.DispatchJobService.DispatchJobProcessResult;
+import tech.flowcatalyst.platform.jdbc.DatabaseBusyException;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for batch processing in DispatchJobService.
+ * The repository, credentials and webhook dispatcher are mocked; covers per-job results, jobs that
+ * fail before sending, duplicate IDs and the outcomes written back.
+ */
+@ExtendWith(MockitoExtension.class)
+class DispatchJobServiceTest {
+
+    private static final ResolvedCredentials CREDENTIALS = new ResolvedCredentials("token", "secret");
+
+    @Mock
+    private DispatchJobRepository dispatchJobRepository;
+
+    @Mock
+    private CredentialsService credentialsService;
+
+    @Mock
+    private WebhookDispatcher webhookDispatcher;
+
+    @InjectMocks
+    private DispatchJobService service;
+
+    private static DispatchJob job(String id) {
+        DispatchJob job = new DispatchJob();
+        job.id = id;
+        job.attemptCount = 0;
+        job.maxRetries = 3;
+        job.createdAt = Instant.now().minusSeconds(5);
+        return job;
+    }
+
+    private static DispatchAttempt attempt(DispatchAttemptStatus status, ErrorType errorType) {
+        DispatchAttempt attempt = new DispatchAttempt();
+        attempt.attemptNumber = 1;
+        attempt.status = status;
+        attempt.errorType = errorType;
+        attempt.attemptedAt = Instant.now();
+        return attempt;
+    }
+
+    private void jobsExist(DispatchJob... jobs) {
+        when(dispatchJobRepository.findByIds(anyCollection())).thenReturn(List.of(jobs));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<JobOutcome> recordedOutcomes() {
+        ArgumentCaptor<List<JobOutcome>> captor = ArgumentCaptor.forClass(List.class);
+        verify(dispatchJobRepository).recordOutcomes(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("processDispatchJobs should return a result per job and record only delivered outcomes")
+    void processDispatchJobs_shouldResolveEachJob() {
+        DispatchJob delivered = job("djb_ok");
+        DispatchJob failing = job("djb_retry");
+        DispatchJob noCredentials = job("djb_no_credentials");
+        DispatchJob busy = job("djb_busy");
+        jobsExist(delivered, failing, noCredentials, busy);
+        when(credentialsService.resolveCredentials(delivered)).thenReturn(Optional.of(CREDENTIALS));
+        when(credentialsService.resolveCredentials(failing)).thenReturn(Optional.of(CREDENTIALS));
+        when(credentialsService.resolveCredentials(noCredentials)).thenReturn(Optional.empty());
+        when(credentialsService.resolveCredentials(busy)).thenThrow(new DatabaseBusyException("pool exhausted"));
+        when(webhookDispatcher.sendWebhook(delivered, CREDENTIALS))
+            .thenReturn(attempt(DispatchAttemptStatus.SUCCESS, null));
+        when(webhookDispatcher.sendWebhook(failing, CREDENTIALS))
+            .thenReturn(attempt(DispatchAttemptStatus.FAILURE, ErrorType.TRANSIENT));
+
+        Map<String, DispatchJobProcessResult> results = service.processDispatchJobs(
+            List.of("djb_ok", "djb_missing", "djb_retry", "djb_no_credentials", "djb_busy"));
+
+        assertThat(results.keySet()).containsExactly("djb_ok", "djb_missing", "djb_retry", "djb_no_credentials", "djb_busy");
+        assertThat(results.get("djb_ok").ack()).isTrue();
+        assertThat(results.get("djb_missing")).isEqualTo(DispatchJobProcessResult.permanentError("Cannot find record."));
+        assertThat(results.get("djb_retry").ack()).isFalse();
+        assertThat(results.get("djb_retry").delaySeconds()).isPositive();
+        assertThat(results.get("djb_no_credentials")).isEqualTo(DispatchJobProcessResult.permanentError("Cannot find record."));
+        assertThat(results.get("djb_busy")).isEqualTo(DispatchJobProcessResult.transientError("Database busy", 1));
+
+        verify(dispatchJobRepository).updateStatusBatch(argThat(ids -> ids.size() == 4 && !ids.contains("djb_missing")),
+            eq(DispatchStatus.IN_PROGRESS));
+        assertThat(recordedOutcomes())
+            .extracting(JobOutcome::jobId, JobOutcome::status)
+            .containsExactlyInAnyOrder(
+                tuple("djb_ok", DispatchStatus.COMPLETED),
+                tuple("djb_retry", DispatchStatus.QUEUED));
+    }
+
+    @Test
+    @DisplayName("processDispatchJobs should process a repeated job ID once")
+    void processDispatchJobs_shouldCollapseDuplicateIds() {
+        DispatchJob delivered = job("djb_ok");
+        jobsExist(delivered);
+        when(credentialsService.resolveCredentials(delivered)).thenReturn(Optional.of(CREDENTIALS));
+        when(webhookDispatcher.sendWebhook(delivered, CREDENTIALS))
+            .thenReturn(attempt(DispatchAttemptStatus.SUCCESS, null));
+
+        Map<String, DispatchJobProcessResult> results = service.processDispatchJobs(List.of("djb_ok", "djb_ok"));
+
+        assertThat(results).containsOnlyKeys("djb_ok");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(dispatchJobRepository).findByIds(ids.capture());
+        assertThat(ids.getValue()).containsExactly("djb_ok");
+        verify(webhookDispatcher, times(1)).sendWebhook(delivered, CREDENTIALS);
+        assertThat(recordedOutcomes()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("processDispatchJobs should requeue without an attempt when the endpoint is overloaded")
+    void processDispatchJobs_shouldDeferOverloadedEndpoint() {
+        DispatchJob deferred = job("djb_deferred");
+        jobsExist(deferred);
+        when(credentialsService.resolveCredentials(deferred)).thenReturn(Optional.of(CREDENTIALS));
+        when(webhookDispatcher.sendWebhook(deferred, CREDENTIALS))
+            .thenThrow(new WebhookDispatcher.EndpointOverloadedException("http://target", 4, 3));
+
+        Map<String, DispatchJobProcessResult> results = service.processDispatchJobs(List.of("djb_deferred"));
+
+        assertThat(results.get("djb_deferred").ack()).isFalse();
+        assertThat(results.get("djb_deferred").delaySeconds()).isEqualTo(3);
+        assertThat(recordedOutcomes()).singleElement().satisfies(outcome -> {
+            assertThat(outcome.attempt()).isNull();
+            assertThat(outcome.status()).isEqualTo(DispatchStatus.QUEUED);
+        });
+    }
+
+    @Test
+    @DisplayName("processDispatchJobs should let a database rejection of the whole batch propagate")
+    void processDispatchJobs_shouldPropagateBusyLookup() {
+        when(dispatchJobRepository.findByIds(anyCollection())).thenThrow(new DatabaseBusyException("pool exhausted"));
+
+        assertThatThrownBy(() -> service.processDispatchJobs(List.of("djb_1", "djb_2")))
+            .isInstanceOf(DatabaseBusyException.class);
+        verify(dispatchJobRepository, never()).recordOutcomes(any());
+        verifyNoInteractions(webhookDispatcher);
+    }
+}
@@ -0,0 +1,66 @@
+package tech.flowcatalyst.dispatchjob.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpHeaders;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for TruncatingBodySubscriber.
+ * Covers short bodies, truncation at the byte limit and charset detection.
+ */
+class TruncatingBodySubscriberTest {
+
+    private static final Flow.Subscription NO_OP = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private static String receive(int limit, String... chunks) {
+        TruncatingBodySubscriber subscriber = new TruncatingBodySubscriber(limit, StandardCharsets.UTF_8);
+        subscriber.onSubscribe(NO_OP);
+        for (String chunk : chunks) {
+            subscriber.onNext(List.of(ByteBuffer.wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        }
+        subscriber.onComplete();
+        return subscriber.getBody().toCompletableFuture().join();
+    }
+
+    @Test
+    @DisplayName("should return a body within the limit unchanged")
+    void shouldReturnShortBodyUnchanged() {
+        assertThat(receive(10, "ok", "")).isEqualTo("ok");
+        assertThat(receive(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should keep the first limit bytes across chunks and mark truncation")
+    void shouldTruncateAcrossChunks() {
+        assertThat(receive(5, "abc", "defgh", "ijk"))
+            .isEqualTo("abcde" + TruncatingBodySubscriber.TRUNCATED_SUFFIX);
+        assertThat(receive(5, "abcde")).isEqualTo("abcde");
+    }
+
+    @Test
+    @DisplayName("should read the charset from the Content-Type header")
+    void shouldReadCharsetFromContentType() {
+        HttpHeaders latin1 = HttpHeaders.of(
+            Map.of("Content-Type", List.of("text/plain; charset=\"ISO-8859-1\"")), (name, value) -> true);
+        HttpHeaders none = HttpHeaders.of(Map.of(), (name, value) -> true);
+
+        assertThat(TruncatingBodySubscriber.charsetOf(latin1)).isEqualTo(StandardCharsets.ISO_8859_1);
+        assertThat(TruncatingBodySubscriber.charsetOf(none)).isEqualTo(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,133 @@
+package tech.flowcatalyst.dispatchjob.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.dispatchjob.entity.DispatchAttempt;
+import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
+import tech.flowcatalyst.dispatchjob.model.DispatchAttemptStatus;
+import tech.flowcatalyst.dispatchjob.security.WebhookSigner;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for WebhookDispatcher against a local HTTP server.
+ * Covers the signed raw and envelope payloads and the response body limit.
+ */
+class WebhookDispatcherTest {
+
+    private static final String SECRET = "test-signing-secret";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<byte[]> receivedBody = new AtomicReference<>();
+    private final AtomicReference<String> receivedSignature = new AtomicReference<>();
+    private final AtomicReference<String> receivedTimestamp = new AtomicReference<>();
+    private volatile String responseBody = "ok";
+
+    private HttpServer server;
+    private WebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hook", exchange -> {
+            receivedBody.set(exchange.getRequestBody().readAllBytes());
+            receivedSignature.set(exchange.getRequestHeaders().getFirst(WebhookSigner.SIGNATURE_HEADER));
+            receivedTimestamp.set(exchange.getRequestHeaders().getFirst(WebhookSigner.TIMESTAMP_HEADER));
+            byte[] response = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+
+        dispatcher = new WebhookDispatcher();
+        dispatcher.webhookSigner = new WebhookSigner();
+        dispatcher.objectMapper = objectMapper;
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private DispatchJob job(boolean dataOnly, String payload) {
+        DispatchJob job = new DispatchJob();
+        job.id = "0HZXEQ5Y8JY5Z";
+        job.code = "order.created";
+        job.targetUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+        job.payload = payload;
+        job.payloadContentType = "application/json";
+        job.dataOnly = dataOnly;
+        job.timeoutSeconds = 10;
+        return job;
+    }
+
+    private String expectedSignature() throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        mac.update(receivedTimestamp.get().getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(mac.doFinal(receivedBody.get()));
+    }
+
+    @Test
+    @DisplayName("sendWebhook should send a large raw payload with a matching signature")
+    void sendWebhook_shouldSendLargeRawPayload() throws Exception {
+        String payload = "{\"items\":\"" + "é".repeat(200_000) + "\"}";
+
+        DispatchAttempt attempt = dispatcher.sendWebhook(job(true, payload), "token", SECRET);
+
+        assertThat(attempt.status).isEqualTo(DispatchAttemptStatus.SUCCESS);
+        assertThat(new String(receivedBody.get(), StandardCharsets.UTF_8)).isEqualTo(payload);
+        assertThat(receivedSignature.get()).isEqualTo(expectedSignature());
+    }
+
+    @Test
+    @DisplayName("sendWebhook should wrap the payload in an envelope with JSON data")
+    void sendWebhook_shouldWrapPayloadInEnvelope() throws Exception {
+        dispatcher.sendWebhook(job(false, "{\"orderId\":12345,\"lines\":[1,2.5,null]}"), "token", SECRET);
+
+        JsonNode envelope = objectMapper.readTree(receivedBody.get());
+        assertThat(envelope.get("id").asText()).isEqualTo("0HZXEQ5Y8JY5Z");
+        assertThat(envelope.get("code").asText()).isEqualTo("order.created");
+        assertThat(envelope.get("kind").asText()).isEqualTo("EVENT");
+        assertThat(envelope.get("subject").isNull()).isTrue();
+        assertThat(envelope.get("data").get("orderId").asInt()).isEqualTo(12345);
+        assertThat(envelope.get("data").get("lines").size()).isEqualTo(3);
+        assertThat(receivedSignature.get()).isEqualTo(expectedSignature());
+    }
+
+    @Test
+    @DisplayName("sendWebhook should embed a payload that is not JSON as a string")
+    void sendWebhook_shouldEmbedInvalidJsonAsString() throws Exception {
+        dispatcher.sendWebhook(job(false, "{\"orderId\": 12345, oops"), "token", SECRET);
+
+        JsonNode envelope = objectMapper.readTree(receivedBody.get());
+        assertThat(envelope.get("data").asText()).isEqualTo("{\"orderId\": 12345, oops");
+        assertThat(receivedSignature.get()).isEqualTo(expectedSignature());
+    }
+
+    @Test
+    @DisplayName("sendWebhook should keep at most 5000 bytes of the response body")
+    void sendWebhook_shouldTruncateResponseBody() {
+        responseBody = "r".repeat(100_000);
+
+        DispatchAttempt attempt = dispatcher.sendWebhook(job(true, "{}"), "token", SECRET);
+
+        assertThat(attempt.responseBody)
+            .isEqualTo("r".repeat(5000) + TruncatingBodySubscriber.TRUNCATED_SUFFIX);
+    }
+}
@@ -0,0 +1,145 @@
+package tech.flowcatalyst.dispatchjob.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.dispatchjob.security.WebhookSigner;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for WebhookPayload.
+ * Covers incremental signing, UTF-8 encoding, restarts and publishing the buffer.
+ */
+class WebhookPayloadTest {
+
+    private static final String SECRET = "test-signing-secret";
+
+    private final WebhookSigner signer = new WebhookSigner();
+
+    private static String hmac(String timestamp, byte[] body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        mac.update(timestamp.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(mac.doFinal(body));
+    }
+
+    /**
+     * Subscribe to the publisher, requesting one slice at a time, and collect the bytes.
+     */
+    private static byte[] drain(HttpRequest.BodyPublisher publisher) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] chunk = new byte[item.remaining()];
+                item.get(chunk);
+                bytes.writeBytes(chunk);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        done.join();
+        return bytes.toByteArray();
+    }
+
+    @Test
+    @DisplayName("signature should match an HMAC over the timestamp and the written bytes")
+    void signature_shouldMatchHmacOverTimestampAndBody() throws Exception {
+        WebhookPayload payload = WebhookPayload.acquire(signer.begin(SECRET));
+        payload.writeUtf8("{\"order\":");
+        payload.write('1');
+        payload.write("}".getBytes(StandardCharsets.UTF_8), 0, 1);
+
+        byte[] body = "{\"order\":1}".getBytes(StandardCharsets.UTF_8);
+        assertThat(payload.signature()).isEqualTo(hmac(payload.timestamp(), body));
+        assertThat(drain(payload.publisher())).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("signature should equal WebhookSigner.sign for the same body and timestamp")
+    void signature_shouldEqualSignerForSameBody() throws Exception {
+        String body = "café 🚀";
+        WebhookSigner.SignedWebhookRequest signed = signer.sign(body, "token", SECRET);
+
+        assertThat(signed.signature())
+            .isEqualTo(hmac(signed.timestamp(), body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("writeUtf8 should encode large multi-byte text across buffer growth")
+    void writeUtf8_shouldEncodeLargeMultiByteText() throws Exception {
+        String text = "é🚀x".repeat(100_000);
+        WebhookPayload payload = WebhookPayload.acquire(signer.begin(SECRET));
+
+        payload.writeUtf8(text);
+
+        byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+        assertThat(payload.length()).isEqualTo(expected.length);
+        assertThat(drain(payload.publisher())).isEqualTo(expected);
+        assertThat(payload.signature()).isEqualTo(hmac(payload.timestamp(), expected));
+    }
+
+    @Test
+    @DisplayName("restart should discard written bytes and sign only what follows")
+    void restart_shouldDiscardWrittenBytes() throws Exception {
+        WebhookPayload payload = WebhookPayload.acquire(signer.begin(SECRET));
+        payload.writeUtf8("discarded");
+
+        payload.restart(signer.begin(SECRET));
+        payload.writeUtf8("kept");
+
+        byte[] expected = "kept".getBytes(StandardCharsets.UTF_8);
+        assertThat(drain(payload.publisher())).isEqualTo(expected);
+        assertThat(payload.signature()).isEqualTo(hmac(payload.timestamp(), expected));
+    }
+
+    @Test
+    @DisplayName("publisher should report the content length and allow resubscription")
+    void publisher_shouldReportLengthAndResubscribe() {
+        WebhookPayload payload = WebhookPayload.acquire(signer.begin(SECRET));
+        payload.writeUtf8("x".repeat(40_000));
+
+        HttpRequest.BodyPublisher publisher = payload.publisher();
+
+        assertThat(publisher.contentLength()).isEqualTo(40_000);
+        assertThat(drain(publisher)).hasSize(40_000);
+        assertThat(drain(publisher)).hasSize(40_000);
+    }
+
+    @Test
+    @DisplayName("publisher should send no body for an empty payload")
+    void publisher_shouldSendNoBodyForEmptyPayload() {
+        WebhookPayload payload = WebhookPayload.acquire(signer.begin(SECRET));
+        payload.writeUtf8(null);
+
+        assertThat(payload.publisher().contentLength()).isZero();
+    }
+}
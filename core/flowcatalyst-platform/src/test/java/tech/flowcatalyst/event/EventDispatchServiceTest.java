@@ -0,0 +1,114 @@
+package tech.flowcatalyst.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import tech.flowcatalyst.dispatch.DispatchMode;
+import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
+import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
+import tech.flowcatalyst.dispatchjob.security.DispatchAuthService;
+import tech.flowcatalyst.subscription.SubscriptionCache;
+import tech.flowcatalyst.subscription.SubscriptionCache.CachedSubscription;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EventDispatchService subscription matching.
+ * The subscription cache, repository and queue are mocked; covers grouping events by type code and
+ * client before the cache lookups.
+ */
+@ExtendWith(MockitoExtension.class)
+class EventDispatchServiceTest {
+
+    // Type codes are application:subdomain:aggregate:event, so they contain colons
+    private static final String EVENT_TYPE = "app:orders:order:created";
+
+    @Mock
+    private SubscriptionCache subscriptionCache;
+
+    @Mock
+    private DispatchJobRepository dispatchJobRepository;
+
+    @Mock
+    private DispatchAuthService dispatchAuthService;
+
+    @Mock
+    private SqsClient sqsClient;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private EventDispatchService service;
+
+    @BeforeEach
+    void setUp() {
+        service.messagingEnabled = true;
+        service.queueUrl = "https://sqs.test/dispatch.fifo";
+    }
+
+    private static Event event(String id, String clientId) {
+        Event event = new Event();
+        event.id = id;
+        event.type = EVENT_TYPE;
+        event.source = "orders-service";
+        event.time = Instant.now();
+        event.data = "{}";
+        event.contextData = clientId != null ? List.of(new ContextData("clientId", clientId)) : null;
+        return event;
+    }
+
+    private static CachedSubscription subscription(String id, String clientId) {
+        return new CachedSubscription(id, "order-sync", clientId, "https://client.test/webhook", null, "pool-1",
+            "default", null, DispatchMode.IMMEDIATE, 0, 0, 30, 3, 0, true, List.of());
+    }
+
+    @Test
+    @DisplayName("createDispatchJobsForEvents should look up subscriptions by the full type code and client")
+    void createDispatchJobsForEvents_shouldLookUpFullTypeCode() {
+        when(subscriptionCache.getByEventTypeCode(EVENT_TYPE, "client-1"))
+            .thenReturn(List.of(subscription("sub-1", "client-1")));
+        when(subscriptionCache.getByEventTypeCode(EVENT_TYPE, null))
+            .thenReturn(List.of(subscription("sub-anchor", null)));
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+            .thenReturn(SendMessageBatchResponse.builder().build());
+
+        List<DispatchJob> jobs = service.createDispatchJobsForEvents(List.of(
+            event("evt-1", "client-1"), event("evt-2", "client-1"), event("evt-3", null)));
+
+        // One lookup per (type, client); a "type:client" string split on its first colon looked up "app"
+        verify(subscriptionCache, times(1)).getByEventTypeCode(EVENT_TYPE, "client-1");
+        verify(subscriptionCache, times(1)).getByEventTypeCode(EVENT_TYPE, null);
+        verifyNoMoreInteractions(subscriptionCache);
+        assertThat(jobs).extracting(job -> job.eventId + "/" + job.subscriptionId)
+            .containsExactlyInAnyOrder("evt-1/sub-1", "evt-2/sub-1", "evt-3/sub-anchor");
+        assertThat(jobs).allSatisfy(job -> assertThat(job.code).isEqualTo(EVENT_TYPE));
+        verify(dispatchJobRepository).persistAll(jobs);
+    }
+
+    @Test
+    @DisplayName("createDispatchJobsForEvents should keep a client ID that itself contains a colon")
+    void createDispatchJobsForEvents_shouldKeepClientIdWithColon() {
+        when(subscriptionCache.getByEventTypeCode(EVENT_TYPE, "tenant:client-1")).thenReturn(List.of());
+
+        List<DispatchJob> jobs = service.createDispatchJobsForEvents(List.of(event("evt-1", "tenant:client-1")));
+
+        assertThat(jobs).isEmpty();
+        verify(subscriptionCache).getByEventTypeCode(EVENT_TYPE, "tenant:client-1");
+        verifyNoInteractions(dispatchJobRepository, sqsClient);
+    }
+}
@@ -0,0 +1,177 @@
+package tech.flowcatalyst.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tech.flowcatalyst.event.operations.CreateEvent;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EventService deduplication.
+ * The repository is mocked; conflicts are simulated by which IDs the set-based insert returns.
+ */
+@ExtendWith(MockitoExtension.class)
+class EventServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventDispatchService eventDispatchService;
+
+    @InjectMocks
+    private EventService service;
+
+    @BeforeEach
+    void setUp() {
+        EventDeduplicationCache cache = new EventDeduplicationCache();
+        cache.ttlMinutes = 60;
+        cache.maxSize = 100;
+        cache.init();
+        service.deduplicationCache = cache;
+    }
+
+    @Test
+    @DisplayName("createBatch should insert all events in one statement without per-event lookups")
+    void createBatch_shouldInsertOnce_whenNoDuplicates() {
+        insertSucceedsForAll();
+
+        var result = service.createBatch(List.of(op("dedup-1"), op("dedup-2"), op(null)));
+
+        assertThat(result.events()).hasSize(3);
+        assertThat(result.duplicateCount()).isZero();
+        verify(eventRepository, times(1)).insertAllSkippingDuplicates(anyList());
+        verify(eventRepository, never()).findByDeduplicationId(any());
+        verify(eventRepository, never()).findByDeduplicationIds(any());
+        verify(eventDispatchService).createDispatchJobsForEvents(result.events());
+    }
+
+    @Test
+    @DisplayName("createBatch should fetch conflicting events in one query and return them in place")
+    void createBatch_shouldFetchConflictsOnce_whenDatabaseHasDuplicates() {
+        Event existing = existingEvent("existing-1", "dedup-2");
+        when(eventRepository.insertAllSkippingDuplicates(anyList())).thenAnswer(inv -> {
+            List<Event> events = inv.getArgument(0);
+            return events.stream()
+                .filter(e -> !"dedup-2".equals(e.deduplicationId()))
+                .map(Event::id)
+                .collect(Collectors.toSet());
+        });
+        when(eventRepository.findByDeduplicationIds(List.of("dedup-2"))).thenReturn(List.of(existing));
+
+        var result = service.createBatch(List.of(op("dedup-1"), op("dedup-2"), op("dedup-3")));
+
+        assertThat(result.duplicateCount()).isEqualTo(1);
+        assertThat(result.events()).extracting(Event::deduplicationId).containsExactly("dedup-1", "dedup-2", "dedup-3");
+        assertThat(result.events().get(1)).isSameAs(existing);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Event>> dispatched = ArgumentCaptor.forClass(List.class);
+        verify(eventDispatchService).createDispatchJobsForEvents(dispatched.capture());
+        assertThat(dispatched.getValue()).extracting(Event::deduplicationId).containsExactly("dedup-1", "dedup-3");
+    }
+
+    @Test
+    @DisplayName("createBatch should insert a deduplication ID repeated within the batch only once")
+    void createBatch_shouldCollapseDuplicatesWithinBatch() {
+        insertSucceedsForAll();
+
+        var result = service.createBatch(List.of(op("dedup-1"), op("dedup-1"), op(null)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Event>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(eventRepository).insertAllSkippingDuplicates(inserted.capture());
+        assertThat(inserted.getValue()).hasSize(2);
+        assertThat(result.duplicateCount()).isEqualTo(1);
+        assertThat(result.events().get(1)).isSameAs(result.events().get(0));
+    }
+
+    @Test
+    @DisplayName("replayed deduplication IDs should be answered from the recent-id cache without a round trip")
+    void createBatch_shouldSkipDatabase_whenReplayingRecentBatch() {
+        insertSucceedsForAll();
+        var first = service.createBatch(List.of(op("dedup-1"), op("dedup-2")));
+        clearInvocations(eventRepository);
+
+        var replay = service.createBatch(List.of(op("dedup-1"), op("dedup-2")));
+
+        assertThat(replay.duplicateCount()).isEqualTo(2);
+        assertThat(replay.events()).containsExactlyElementsOf(first.events());
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("create should return the existing event as a duplicate when the insert conflicts")
+    void create_shouldReturnExisting_whenInsertConflicts() {
+        Event existing = existingEvent("existing-1", "dedup-1");
+        when(eventRepository.insertAllSkippingDuplicates(anyList())).thenReturn(Set.of());
+        when(eventRepository.findByDeduplicationIds(List.of("dedup-1"))).thenReturn(List.of(existing));
+
+        var result = service.create(op("dedup-1"));
+
+        assertThat(result.isDuplicate()).isTrue();
+        assertThat(result.event()).isSameAs(existing);
+        assertThat(result.dispatchJobs()).isEmpty();
+        verifyNoInteractions(eventDispatchService);
+    }
+
+    @Test
+    @DisplayName("create should resolve a conflict when the lookup returns more than one event for the ID")
+    void create_shouldTolerateSeveralEventsPerDeduplicationId() {
+        Event holder = existingEvent("existing-2", "dedup-1");
+        Event outlived = existingEvent("existing-1", "dedup-1");
+        when(eventRepository.insertAllSkippingDuplicates(anyList())).thenReturn(Set.of());
+        when(eventRepository.findByDeduplicationIds(List.of("dedup-1"))).thenReturn(List.of(holder, outlived));
+
+        var result = service.create(op("dedup-1"));
+
+        assertThat(result.isDuplicate()).isTrue();
+        assertThat(result.event()).isSameAs(holder);
+    }
+
+    @Test
+    @DisplayName("create should fail when the insert conflicts but the existing event cannot be found")
+    void create_shouldFail_whenConflictingEventMissing() {
+        when(eventRepository.insertAllSkippingDuplicates(anyList())).thenReturn(Set.of());
+        when(eventRepository.findByDeduplicationIds(anyCollection())).thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.create(op("dedup-1")))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    // ========================================
+    // HELPERS
+    // ========================================
+
+    private void insertSucceedsForAll() {
+        when(eventRepository.insertAllSkippingDuplicates(anyList())).thenAnswer(inv -> {
+            List<Event> events = inv.getArgument(0);
+            return events.stream().map(Event::id).collect(Collectors.toSet());
+        });
+    }
+
+    private static CreateEvent op(String deduplicationId) {
+        return new CreateEvent("1.0", "app:orders:order:created", "orders-service", "orders.order.1",
+            null, "{}", null, null, deduplicationId, "order-1", List.of());
+    }
+
+    private static Event existingEvent(String id, String deduplicationId) {
+        Event event = new Event();
+        event.id = id;
+        event.type = "app:orders:order:created";
+        event.deduplicationId = deduplicationId;
+        return event;
+    }
+}
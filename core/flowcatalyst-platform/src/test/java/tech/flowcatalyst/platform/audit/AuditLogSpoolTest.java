@@ -0,0 +1,139 @@
+package tech.flowcatalyst.platform.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for AuditLogSpool.
+ * Covers durable appends, batched flushing, retry after a failed flush and torn lines.
+ */
+class AuditLogSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private AuditLogSpool spool(int batchSize) {
+        Path dir = directory;
+        AuditConfig config = new AuditConfig() {
+            @Override
+            public boolean strict() {
+                return false;
+            }
+
+            @Override
+            public Spool spool() {
+                return new Spool() {
+                    @Override
+                    public String directory() {
+                        return dir.toString();
+                    }
+
+                    @Override
+                    public Duration flushInterval() {
+                        return Duration.ofSeconds(5);
+                    }
+
+                    @Override
+                    public int batchSize() {
+                        return batchSize;
+                    }
+                };
+            }
+        };
+        return new AuditLogSpool(config, objectMapper, null);
+    }
+
+    private static AuditLog log(String id) {
+        AuditLog log = new AuditLog();
+        log.id = id;
+        log.entityType = "AuthRole";
+        log.entityId = "rol_" + id;
+        log.operation = "SyncRolesCommand";
+        log.operationJson = "{\"applicationId\":\"app_1\"}";
+        log.principalId = "prn_1";
+        log.performedAt = Instant.parse("2026-01-01T00:00:00Z");
+        return log;
+    }
+
+    private static List<AuditLog> logs(int count) {
+        return IntStream.range(0, count).mapToObj(i -> log("id" + i)).toList();
+    }
+
+    @Test
+    @DisplayName("flush should write appended rows in batches and empty the spool")
+    void flush_shouldWriteAppendedRowsInBatches() throws Exception {
+        AuditLogSpool spool = spool(4);
+        spool.append(logs(6));
+        spool.append(List.of(log("id6"), log("id7"), log("id8"), log("id9")));
+
+        List<List<String>> batches = new ArrayList<>();
+        int written = spool.flush(batch -> batches.add(batch.stream().map(l -> l.id).toList()));
+
+        assertThat(written).isEqualTo(10);
+        assertThat(batches).hasSize(3);
+        assertThat(batches.stream().flatMap(List::stream))
+            .containsExactly("id0", "id1", "id2", "id3", "id4", "id5", "id6", "id7", "id8", "id9");
+        assertThat(spool.flush(batch -> fail("spool should be empty"))).isZero();
+    }
+
+    @Test
+    @DisplayName("flush should round-trip every audit field")
+    void flush_shouldRoundTripFields() {
+        AuditLogSpool spool = spool(10);
+        spool.append(List.of(log("a")));
+
+        List<AuditLog> flushed = new ArrayList<>();
+        spool.flush(flushed::addAll);
+
+        assertThat(flushed).singleElement().usingRecursiveComparison().isEqualTo(log("a"));
+    }
+
+    @Test
+    @DisplayName("flush should keep a segment whose write failed and replay it next time")
+    void flush_shouldReplayFailedSegment() {
+        AuditLogSpool spool = spool(10);
+        spool.append(logs(3));
+
+        int written = spool.flush(batch -> {
+            throw new IllegalStateException("database unavailable");
+        });
+        spool.append(List.of(log("late")));
+        List<String> replayed = new ArrayList<>();
+        spool.flush(batch -> batch.forEach(l -> replayed.add(l.id)));
+
+        assertThat(written).isZero();
+        assertThat(replayed).containsExactly("id0", "id1", "id2", "late");
+    }
+
+    @Test
+    @DisplayName("flush should skip a torn line left by a crash mid-append")
+    void flush_shouldSkipTornLine() throws Exception {
+        AuditLogSpool spool = spool(10);
+        spool.append(logs(2));
+        Files.writeString(directory.resolve("current.jsonl"), "{\"id\":\"tor", StandardOpenOption.APPEND);
+
+        List<String> flushed = new ArrayList<>();
+        spool.flush(batch -> batch.forEach(l -> flushed.add(l.id)));
+
+        assertThat(flushed).containsExactly("id0", "id1");
+    }
+}
@@ -0,0 +1,178 @@
+package tech.flowcatalyst.platform.authorization.operations.syncroles;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tech.flowcatalyst.platform.application.Application;
+import tech.flowcatalyst.platform.application.ApplicationRepository;
+import tech.flowcatalyst.platform.authorization.AuthRole;
+import tech.flowcatalyst.platform.authorization.AuthRoleRepository;
+import tech.flowcatalyst.platform.authorization.PermissionRegistry;
+import tech.flowcatalyst.platform.authorization.events.RolesSynced;
+import tech.flowcatalyst.platform.authorization.operations.syncroles.SyncRolesCommand.SyncRoleItem;
+import tech.flowcatalyst.platform.common.ExecutionContext;
+import tech.flowcatalyst.platform.common.Result;
+import tech.flowcatalyst.platform.common.UnitOfWork;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SyncRolesUseCase.
+ * The repositories, permission registry and unit of work are mocked; covers the diff between the
+ * synced roles and the application's existing roles, committed as one batch.
+ */
+@ExtendWith(MockitoExtension.class)
+class SyncRolesUseCaseTest {
+
+    @Mock
+    private AuthRoleRepository roleRepo;
+
+    @Mock
+    private ApplicationRepository appRepo;
+
+    @Mock
+    private PermissionRegistry permissionRegistry;
+
+    @Mock
+    private UnitOfWork unitOfWork;
+
+    @InjectMocks
+    private SyncRolesUseCase useCase;
+
+    private final ExecutionContext context = ExecutionContext.create("prn_1");
+    private Application app;
+
+    @BeforeEach
+    void setUp() {
+        app = new Application();
+        app.id = "app_1";
+        app.code = "orders";
+        lenient().when(appRepo.findByIdOptional("app_1")).thenReturn(Optional.of(app));
+        lenient().when(unitOfWork.commitAll(anyList(), any(RolesSynced.class), any()))
+            .thenAnswer(invocation -> Result.success(invocation.getArgument(1)));
+    }
+
+    private static AuthRole existing(String id, String shortName, AuthRole.RoleSource source) {
+        AuthRole role = new AuthRole();
+        role.id = id;
+        role.applicationId = "app_1";
+        role.applicationCode = "orders";
+        role.name = "orders:" + shortName;
+        role.displayName = shortName;
+        role.permissions = Set.of("orders:order:read");
+        role.source = source;
+        return role;
+    }
+
+    private static SyncRoleItem item(String name, String... permissions) {
+        return new SyncRoleItem(name, null, "Synced " + name, Set.of(permissions), false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> committedAggregates(SyncRolesCommand command) {
+        ArgumentCaptor<List<Object>> aggregates = ArgumentCaptor.forClass(List.class);
+        verify(unitOfWork).commitAll(aggregates.capture(), any(RolesSynced.class), eq(command));
+        return aggregates.getValue();
+    }
+
+    private static RolesSynced value(Result<RolesSynced> result) {
+        assertThat(result).isInstanceOf(Result.Success.class);
+        return ((Result.Success<RolesSynced>) result).value();
+    }
+
+    @Test
+    @DisplayName("execute should create, update and remove SDK roles from one lookup and one commit")
+    void execute_shouldApplyRoleDiff() {
+        AuthRole kept = existing("rol_kept", "order-viewer", AuthRole.RoleSource.SDK);
+        AuthRole stale = existing("rol_stale", "legacy", AuthRole.RoleSource.SDK);
+        when(roleRepo.findByApplicationCode("orders")).thenReturn(new ArrayList<>(List.of(kept, stale)));
+        SyncRolesCommand command = new SyncRolesCommand("app_1", List.of(
+            item("order-viewer", "orders:order:read", "orders:order:list"),
+            item("order-admin", "orders:order:write")), true);
+
+        RolesSynced event = value(useCase.execute(command, context));
+
+        assertThat(event.rolesCreated()).isEqualTo(1);
+        assertThat(event.rolesUpdated()).isEqualTo(1);
+        assertThat(event.rolesDeleted()).isEqualTo(1);
+        assertThat(event.syncedRoleNames()).containsExactlyInAnyOrder("orders:order-viewer", "orders:order-admin");
+
+        List<Object> aggregates = committedAggregates(command);
+        assertThat(aggregates).hasSize(3);
+        assertThat(aggregates.get(0)).isSameAs(app);
+        assertThat(aggregates).contains(kept);
+        assertThat(kept.permissions).containsExactlyInAnyOrder("orders:order:read", "orders:order:list");
+        assertThat(kept.description).isEqualTo("Synced order-viewer");
+        AuthRole created = aggregates.stream()
+            .filter(aggregate -> aggregate instanceof AuthRole role && role.name.equals("orders:order-admin"))
+            .map(AuthRole.class::cast)
+            .findFirst().orElseThrow();
+        assertThat(created.id).isNotBlank();
+        assertThat(created.applicationId).isEqualTo("app_1");
+        assertThat(created.source).isEqualTo(AuthRole.RoleSource.SDK);
+        assertThat(created.displayName).isEqualTo("Order Admin");
+
+        verify(roleRepo).delete(stale);
+        verify(permissionRegistry).unregisterRole("orders:legacy");
+        verify(permissionRegistry).registerRoleDynamic(eq("orders:order-admin"), anySet(), anyString());
+        verify(roleRepo, never()).findByName(anyString());
+    }
+
+    @Test
+    @DisplayName("execute should leave CODE and DATABASE roles alone")
+    void execute_shouldNotTouchNonSdkRoles() {
+        AuthRole codeRole = existing("rol_code", "order-viewer", AuthRole.RoleSource.CODE);
+        AuthRole databaseRole = existing("rol_db", "custom", AuthRole.RoleSource.DATABASE);
+        when(roleRepo.findByApplicationCode("orders")).thenReturn(List.of(codeRole, databaseRole));
+        SyncRolesCommand command = new SyncRolesCommand("app_1", List.of(item("order-viewer", "orders:order:write")), true);
+
+        RolesSynced event = value(useCase.execute(command, context));
+
+        assertThat(event.rolesCreated()).isZero();
+        assertThat(event.rolesUpdated()).isZero();
+        assertThat(event.rolesDeleted()).isZero();
+        assertThat(committedAggregates(command)).containsExactly(app);
+        assertThat(codeRole.permissions).containsExactly("orders:order:read");
+        verify(roleRepo, never()).delete(any());
+        verifyNoInteractions(permissionRegistry);
+    }
+
+    @Test
+    @DisplayName("execute should keep unlisted SDK roles unless removeUnlisted is set")
+    void execute_shouldKeepUnlistedRolesByDefault() {
+        AuthRole unlisted = existing("rol_unlisted", "legacy", AuthRole.RoleSource.SDK);
+        when(roleRepo.findByApplicationCode("orders")).thenReturn(List.of(unlisted));
+        SyncRolesCommand command = new SyncRolesCommand("app_1", List.of(item("order-viewer")), false);
+
+        RolesSynced event = value(useCase.execute(command, context));
+
+        assertThat(event.rolesCreated()).isEqualTo(1);
+        assertThat(event.rolesDeleted()).isZero();
+        verify(roleRepo, never()).delete(any());
+        verify(permissionRegistry, never()).unregisterRole(anyString());
+    }
+
+    @Test
+    @DisplayName("execute should fail without committing when the application does not exist")
+    void execute_shouldFailForUnknownApplication() {
+        when(appRepo.findByIdOptional("app_missing")).thenReturn(Optional.empty());
+
+        Result<RolesSynced> result = useCase.execute(
+            new SyncRolesCommand("app_missing", List.of(item("order-viewer")), true), context);
+
+        assertThat(result).isInstanceOf(Result.Failure.class);
+        verifyNoInteractions(roleRepo, unitOfWork);
+    }
+}
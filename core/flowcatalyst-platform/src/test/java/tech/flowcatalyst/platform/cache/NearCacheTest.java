@@ -0,0 +1,243 @@
+package tech.flowcatalyst.platform.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for NearCache.
+ * Covers tier order, invalidation, the load/invalidate race and hit statistics.
+ */
+class NearCacheTest {
+
+    record Item(String id, String name) {
+    }
+
+    /**
+     * Map-backed L2 that counts lookups.
+     */
+    static class MapCacheStore implements CacheStore {
+        final Map<String, String> entries = new HashMap<>();
+        final AtomicInteger gets = new AtomicInteger();
+
+        @Override
+        public Optional<String> get(String cacheName, String key) {
+            gets.incrementAndGet();
+            return Optional.ofNullable(entries.get(cacheName + ":" + key));
+        }
+
+        @Override
+        public void put(String cacheName, String key, String value) {
+            entries.put(cacheName + ":" + key, value);
+        }
+
+        @Override
+        public void put(String cacheName, String key, String value, Duration ttl) {
+            put(cacheName, key, value);
+        }
+
+        @Override
+        public void invalidate(String cacheName, String key) {
+            entries.remove(cacheName + ":" + key);
+        }
+
+        @Override
+        public void invalidateAll(String cacheName) {
+            entries.keySet().removeIf(key -> key.startsWith(cacheName + ":"));
+        }
+    }
+
+    private final MapCacheStore store = new MapCacheStore();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private static CacheConfig.Near near(boolean enabled) {
+        return new CacheConfig.Near() {
+            @Override
+            public boolean enabled() {
+                return enabled;
+            }
+
+            @Override
+            public long maxSize() {
+                return 100;
+            }
+
+            @Override
+            public Duration ttl() {
+                return Duration.ofMinutes(1);
+            }
+
+            @Override
+            public boolean listen() {
+                return false;
+            }
+        };
+    }
+
+    private NearCache<Item> cache(boolean nearEnabled) {
+        return new NearCache<>("items", Item.class, store, objectMapper, near(nearEnabled), registry);
+    }
+
+    private Optional<Item> load(String id) {
+        loads.incrementAndGet();
+        return Optional.of(new Item(id, "item " + id));
+    }
+
+    // ========================================================================
+    // Lookups
+    // ========================================================================
+
+    @Test
+    @DisplayName("get should load on a miss and fill both tiers")
+    void get_shouldLoadOnMissAndFillBothTiers() {
+        NearCache<Item> cache = cache(true);
+
+        Optional<Item> item = cache.get("a", this::load);
+
+        assertThat(item).contains(new Item("a", "item a"));
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(store.entries).containsKey("items:a");
+    }
+
+    @Test
+    @DisplayName("get should answer a hot key in process without touching L2")
+    void get_shouldAnswerHotKeyFromL1() {
+        NearCache<Item> cache = cache(true);
+        Item first = cache.get("a", this::load).orElseThrow();
+        int storeGets = store.gets.get();
+
+        Item second = cache.get("a", this::load).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(store.gets.get()).isEqualTo(storeGets);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get should deserialise L2 entries written by another instance")
+    void get_shouldReadL2Entries() throws Exception {
+        store.put("items", "b", objectMapper.writeValueAsString(new Item("b", "shared")));
+        NearCache<Item> cache = cache(true);
+
+        assertThat(cache.get("b", this::load)).contains(new Item("b", "shared"));
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("get should reload when the L2 entry cannot be deserialised")
+    void get_shouldReloadCorruptL2Entry() {
+        store.put("items", "c", "not json");
+        NearCache<Item> cache = cache(true);
+
+        assertThat(cache.get("c", this::load)).contains(new Item("c", "item c"));
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get should not cache empty results")
+    void get_shouldNotCacheEmptyResults() {
+        NearCache<Item> cache = cache(true);
+
+        cache.get("missing", key -> Optional.empty());
+
+        assertThat(store.entries).isEmpty();
+    }
+
+    @Test
+    @DisplayName("get should always go to L2 when the near cache is disabled")
+    void get_shouldSkipL1WhenDisabled() {
+        NearCache<Item> cache = cache(false);
+        cache.get("a", this::load);
+        int storeGets = store.gets.get();
+
+        cache.get("a", this::load);
+
+        assertThat(store.gets.get()).isEqualTo(storeGets + 1);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    // ========================================================================
+    // Invalidation
+    // ========================================================================
+
+    @Test
+    @DisplayName("invalidate should drop the key from both tiers")
+    void invalidate_shouldDropKeyFromBothTiers() {
+        NearCache<Item> cache = cache(true);
+        cache.get("a", this::load);
+
+        cache.invalidate("a");
+        cache.get("a", this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("invalidateAllLocal should keep L2 entries")
+    void invalidateAllLocal_shouldKeepL2() {
+        NearCache<Item> cache = cache(true);
+        cache.get("a", this::load);
+
+        cache.invalidateAllLocal();
+        int storeGets = store.gets.get();
+        cache.get("a", this::load);
+
+        assertThat(store.gets.get()).isEqualTo(storeGets + 1);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("get should not cache a value loaded while the key was invalidated")
+    void get_shouldNotCacheValueRacingWithInvalidation() {
+        NearCache<Item> cache = cache(true);
+
+        Optional<Item> stale = cache.get("a", key -> {
+            // An update commits and its invalidation arrives while the old row is being read
+            cache.invalidate("a");
+            return load(key);
+        });
+        cache.get("a", this::load);
+
+        assertThat(stale).isPresent();
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(store.entries).containsKey("items:a");
+    }
+
+    // ========================================================================
+    // Statistics
+    // ========================================================================
+
+    @Test
+    @DisplayName("stats should report per-tier hit ratios")
+    void stats_shouldReportPerTierHitRatios() throws Exception {
+        NearCache<Item> cache = cache(true);
+        cache.get("a", this::load);                 // miss
+        cache.get("a", this::load);                 // L1 hit
+        cache.get("a", this::load);                 // L1 hit
+        store.put("items", "b", objectMapper.writeValueAsString(new Item("b", "shared")));
+        cache.get("b", this::load);                 // L2 hit
+
+        NearCache.Stats stats = cache.stats();
+
+        assertThat(stats.l1Hits()).isEqualTo(2);
+        assertThat(stats.l2Hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.l1HitRatio()).isEqualTo(0.5);
+        assertThat(stats.l2HitRatio()).isEqualTo(0.5);
+        assertThat(registry.get("flowcatalyst.cache.hit.ratio").tag("tier", "l1").gauge().value())
+            .isEqualTo(0.5);
+        assertThat(registry.get("flowcatalyst.cache.gets").tag("tier", "l1").tag("result", "miss")
+            .functionCounter().count()).isEqualTo(2);
+    }
+}
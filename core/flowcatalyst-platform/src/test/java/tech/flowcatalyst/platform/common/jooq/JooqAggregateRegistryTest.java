@@ -0,0 +1,139 @@
+package tech.flowcatalyst.platform.common.jooq;
+
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.platform.authorization.AuthRole;
+import tech.flowcatalyst.platform.principal.Principal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for JooqAggregateRegistry.
+ * Runs against a mock JDBC connection and checks the statements the registry sends.
+ */
+class JooqAggregateRegistryTest {
+
+    private final JooqAggregateRegistry registry = new JooqAggregateRegistry();
+    private final List<String> statements = new ArrayList<>();
+    private final List<Object[]> bindings = new ArrayList<>();
+    private final DSLContext dsl = DSL.using(new MockConnection(ctx -> {
+        statements.add(ctx.sql());
+        bindings.add(ctx.bindings());
+        return new MockResult[] { new MockResult(1) };
+    }), SQLDialect.POSTGRES);
+
+    private static AuthRole role(String id) {
+        AuthRole role = new AuthRole();
+        role.id = id;
+        role.applicationId = "app_1";
+        role.applicationCode = "app";
+        role.name = "app:" + id;
+        role.displayName = id;
+        role.permissions = Set.of("app:thing:read");
+        role.source = AuthRole.RoleSource.SDK;
+        return role;
+    }
+
+    private static Principal principal(String id) {
+        Principal principal = new Principal();
+        principal.id = id;
+        principal.name = "Principal " + id;
+        return principal;
+    }
+
+    @Test
+    @DisplayName("persist should write one upsert that keeps created_at")
+    void persist_shouldWriteOneUpsert() {
+        registry.persist(dsl, role("rol_1"));
+
+        assertThat(statements).singleElement().satisfies(sql -> {
+            assertThat(sql).startsWith("insert into \"auth_roles\"");
+            assertThat(sql).contains("on conflict (\"id\") do update set");
+            assertThat(sql).doesNotContain("\"created_at\" = excluded.\"created_at\"");
+            assertThat(sql).contains("\"updated_at\" = excluded.\"updated_at\"");
+        });
+    }
+
+    @Test
+    @DisplayName("persist should stamp updatedAt and keep an existing createdAt")
+    void persist_shouldStampTimestamps() {
+        AuthRole role = role("rol_1");
+        Instant created = Instant.parse("2020-01-01T00:00:00Z");
+        role.createdAt = created;
+        role.updatedAt = created;
+
+        registry.persist(dsl, role);
+
+        assertThat(role.createdAt).isEqualTo(created);
+        assertThat(role.updatedAt).isAfter(created);
+    }
+
+    @Test
+    @DisplayName("persistAll should write one multi-row upsert per aggregate type")
+    void persistAll_shouldWriteOneStatementPerType() {
+        registry.persistAll(dsl, List.of(role("rol_1"), principal("prn_1"), role("rol_2"), role("rol_3")));
+
+        assertThat(statements).hasSize(2);
+        assertThat(statements.get(0)).startsWith("insert into \"auth_roles\"");
+        assertThat(bindings.get(0)).contains("rol_1", "rol_2", "rol_3");
+        assertThat(statements.get(1)).startsWith("insert into \"principals\"");
+    }
+
+    @Test
+    @DisplayName("persistAll should keep only the last aggregate of a repeated id")
+    void persistAll_shouldDeduplicateIds() {
+        AuthRole first = role("rol_1");
+        AuthRole second = role("rol_1");
+        second.displayName = "Renamed";
+
+        registry.persistAll(dsl, List.of(first, second));
+
+        assertThat(statements).hasSize(1);
+        assertThat(bindings.get(0)).contains("Renamed");
+        assertThat(Arrays.stream(bindings.get(0)).filter("rol_1"::equals).count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("persistAll should split large batches into chunks")
+    void persistAll_shouldChunkLargeBatches() {
+        List<Object> roles = new ArrayList<>();
+        for (int i = 0; i < 1_200; i++) {
+            roles.add(role("rol_" + i));
+        }
+
+        registry.persistAll(dsl, roles);
+
+        assertThat(statements).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("delete should delete by id")
+    void delete_shouldDeleteById() {
+        registry.delete(dsl, principal("prn_1"));
+
+        assertThat(statements).singleElement()
+            .isEqualTo("delete from \"principals\" where \"principals\".\"id\" = ?");
+        assertThat(bindings.get(0)).containsExactly("prn_1");
+    }
+
+    @Test
+    @DisplayName("persist should reject unregistered types")
+    void persist_shouldRejectUnknownTypes() {
+        assertThatThrownBy(() -> registry.persist(dsl, "not an aggregate"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Unknown aggregate type");
+        assertThatThrownBy(() -> registry.persist(dsl, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,199 @@
+package tech.flowcatalyst.platform.common.jooq;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.platform.audit.AuditConfig;
+import tech.flowcatalyst.platform.audit.AuditLog;
+import tech.flowcatalyst.platform.audit.AuditLogSpool;
+import tech.flowcatalyst.platform.authorization.AuthRole;
+import tech.flowcatalyst.platform.authorization.events.RolesSynced;
+import tech.flowcatalyst.platform.authorization.operations.syncroles.SyncRolesCommand;
+import tech.flowcatalyst.platform.common.ExecutionContext;
+import tech.flowcatalyst.platform.common.Result;
+import tech.flowcatalyst.platform.common.UnitOfWork.Change;
+import tech.flowcatalyst.platform.common.errors.UseCaseError;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the batch commits of JooqTransactionalUnitOfWork.
+ * Runs against a mock JDBC connection that records statements, commits and rollbacks; covers
+ * writing aggregates, events and audit rows in one transaction and rolling all of them back.
+ */
+class JooqTransactionalUnitOfWorkTest {
+
+    private static final SyncRolesCommand COMMAND = new SyncRolesCommand("app_1", List.of(), false);
+
+    private final List<String> statements = new ArrayList<>();
+    private final List<Object[]> bindings = new ArrayList<>();
+    private final AuditConfig auditConfig = mock(AuditConfig.class);
+    private final AuditLogSpool auditSpool = mock(AuditLogSpool.class);
+    private int commits;
+    private int rollbacks;
+    private String failingTable;
+    private JooqTransactionalUnitOfWork unitOfWork;
+
+    @BeforeEach
+    void setUp() {
+        MockConnection connection = new MockConnection(ctx -> {
+            statements.add(ctx.sql());
+            bindings.add(ctx.bindings());
+            if (failingTable != null && ctx.sql().startsWith("insert into \"" + failingTable + "\"")) {
+                throw new SQLException("insert into " + failingTable + " failed");
+            }
+            return new MockResult[] { new MockResult(1) };
+        }) {
+            @Override
+            public void commit() {
+                commits++;
+            }
+
+            @Override
+            public void rollback() {
+                rollbacks++;
+            }
+        };
+
+        unitOfWork = new JooqTransactionalUnitOfWork();
+        unitOfWork.dsl = DSL.using(connection, SQLDialect.POSTGRES);
+        unitOfWork.objectMapper = new ObjectMapper();
+        unitOfWork.aggregateRegistry = new JooqAggregateRegistry();
+        unitOfWork.auditConfig = auditConfig;
+        unitOfWork.auditSpool = auditSpool;
+        when(auditConfig.strict()).thenReturn(true);
+    }
+
+    private static AuthRole role(String id) {
+        AuthRole role = new AuthRole();
+        role.id = id;
+        role.applicationId = "app_1";
+        role.applicationCode = "app";
+        role.name = "app:" + id;
+        role.displayName = id;
+        role.permissions = Set.of("app:thing:read");
+        role.source = AuthRole.RoleSource.SDK;
+        return role;
+    }
+
+    private static RolesSynced event(String applicationId) {
+        return RolesSynced.fromContext(ExecutionContext.create("prn_1"))
+            .applicationId(applicationId)
+            .applicationCode("app")
+            .syncedRoleNames(List.of())
+            .build();
+    }
+
+    @Test
+    @DisplayName("commitAll should write the aggregates, event and audit row in one transaction")
+    void commitAll_shouldWriteEverythingInOneTransaction() {
+        RolesSynced event = event("app_1");
+
+        Result<RolesSynced> result = unitOfWork.commitAll(List.of(role("rol_1"), role("rol_2")), event, COMMAND);
+
+        assertThat(result).isInstanceOf(Result.Success.class);
+        assertThat(statements).hasSize(3);
+        assertThat(statements.get(0)).startsWith("insert into \"auth_roles\"");
+        assertThat(bindings.get(0)).contains("rol_1", "rol_2");
+        assertThat(statements.get(1)).startsWith("insert into \"events\"");
+        assertThat(bindings.get(1)).contains(event.eventId());
+        assertThat(statements.get(2)).startsWith("insert into \"audit_logs\"");
+        assertThat(bindings.get(2)).contains("SyncRolesCommand");
+        assertThat(commits).isEqualTo(1);
+        assertThat(rollbacks).isZero();
+        verifyNoInteractions(auditSpool);
+    }
+
+    @Test
+    @DisplayName("commitAll should roll back the aggregates when a later write fails")
+    void commitAll_shouldRollBackOnFailure() {
+        failingTable = "audit_logs";
+
+        Result<RolesSynced> result = unitOfWork.commitAll(List.of(role("rol_1")), event("app_1"), COMMAND);
+
+        assertThat(result).isInstanceOfSatisfying(Result.Failure.class, failure ->
+            assertThat(failure.error()).isInstanceOfSatisfying(UseCaseError.BusinessRuleViolation.class,
+                error -> assertThat(error.code()).isEqualTo("COMMIT_FAILED")));
+        assertThat(statements).hasSize(3);
+        assertThat(commits).isZero();
+        assertThat(rollbacks).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("commitAll of changes should write one multi-row insert each for events and audit rows")
+    void commitAllChanges_shouldBatchEventsAndAuditRows() {
+        RolesSynced first = event("app_1");
+        RolesSynced second = event("app_2");
+
+        Result<List<RolesSynced>> result = unitOfWork.commitAll(List.of(
+            new Change<>(role("rol_1"), first, COMMAND),
+            new Change<>(role("rol_2"), second, COMMAND)));
+
+        assertThat(result).isInstanceOfSatisfying(Result.Success.class,
+            success -> assertThat(success.value()).isEqualTo(List.of(first, second)));
+        assertThat(statements).hasSize(3);
+        assertThat(statements.get(0)).startsWith("insert into \"auth_roles\"");
+        assertThat(statements.get(1)).startsWith("insert into \"events\"");
+        assertThat(bindings.get(1)).contains(first.eventId(), second.eventId());
+        assertThat(statements.get(2)).startsWith("insert into \"audit_logs\"");
+        assertThat(bindings.get(2)).contains("app_1", "app_2");
+        assertThat(commits).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("commitAll of changes should write nothing when the aggregates fail")
+    void commitAllChanges_shouldRollBackOnAggregateFailure() {
+        failingTable = "auth_roles";
+
+        Result<List<RolesSynced>> result = unitOfWork.commitAll(List.of(
+            new Change<>(role("rol_1"), event("app_1"), COMMAND),
+            new Change<>(role("rol_2"), event("app_2"), COMMAND)));
+
+        assertThat(result).isInstanceOf(Result.Failure.class);
+        assertThat(statements).singleElement().satisfies(sql -> assertThat(sql).startsWith("insert into \"auth_roles\""));
+        assertThat(commits).isZero();
+        assertThat(rollbacks).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("commitAll outside strict mode should spool audit rows only after commit")
+    void commitAll_shouldSpoolAuditRowsAfterCommit() {
+        when(auditConfig.strict()).thenReturn(false);
+        doAnswer(invocation -> {
+            assertThat(commits).as("spooled after commit").isEqualTo(1);
+            return null;
+        }).when(auditSpool).append(anyList());
+
+        unitOfWork.commitAll(List.of(
+            new Change<>(role("rol_1"), event("app_1"), COMMAND),
+            new Change<>(role("rol_2"), event("app_2"), COMMAND)));
+
+        assertThat(statements).noneMatch(sql -> sql.contains("audit_logs"));
+        verify(auditSpool).append(argThat((List<AuditLog> logs) -> logs.size() == 2));
+    }
+
+    @Test
+    @DisplayName("commitAll outside strict mode should not spool audit rows of a rolled back transaction")
+    void commitAll_shouldNotSpoolRolledBackChanges() {
+        when(auditConfig.strict()).thenReturn(false);
+        failingTable = "events";
+
+        Result<RolesSynced> result = unitOfWork.commitAll(List.of(role("rol_1")), event("app_1"), COMMAND);
+
+        assertThat(result).isInstanceOf(Result.Failure.class);
+        assertThat(rollbacks).isEqualTo(1);
+        verify(auditSpool, never()).append(anyList());
+    }
+}
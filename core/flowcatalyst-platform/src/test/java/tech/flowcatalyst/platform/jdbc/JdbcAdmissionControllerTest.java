@@ -0,0 +1,147 @@
+package tech.flowcatalyst.platform.jdbc;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Unit tests for JdbcAdmissionController.
+ * Covers the concurrency bound, bounded queueing, timeouts and re-entrant admission.
+ */
+class JdbcAdmissionControllerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private JdbcAdmissionController controller(int maxConcurrent, int maxQueued, Duration queueTimeout) {
+        return new JdbcAdmissionController(maxConcurrent, maxQueued, queueTimeout, registry);
+    }
+
+    @Test
+    @DisplayName("enter should never admit more callers than maxConcurrent")
+    void enter_shouldBoundConcurrentCallers() throws Exception {
+        JdbcAdmissionController controller = controller(4, 10_000, Duration.ofSeconds(10));
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                futures.add(executor.submit(() -> {
+                    controller.enter();
+                    try {
+                        maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+                        Thread.sleep(1);
+                        inside.decrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        controller.exit();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(maxInside.get()).isEqualTo(4);
+        assertThat(controller.active()).isZero();
+        assertThat(controller.queued()).isZero();
+    }
+
+    @Test
+    @DisplayName("enter should reject immediately when the queue is full")
+    void enter_shouldRejectWhenQueueIsFull() throws Exception {
+        JdbcAdmissionController controller = controller(1, 1, Duration.ofSeconds(10));
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> holder = executor.submit(() -> hold(controller, release));
+            await().until(() -> controller.active() == 1);
+            Future<?> waiter = executor.submit(() -> hold(controller, release));
+            await().until(() -> controller.queued() == 1);
+
+            assertThatThrownBy(controller::enter)
+                .isInstanceOf(DatabaseBusyException.class)
+                .hasMessageContaining("already waiting");
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+            waiter.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(registry.counter("flowcatalyst.jdbc.admission.rejected", "reason", "queue_full").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("enter should reject a caller that waits longer than queueTimeout")
+    void enter_shouldRejectAfterQueueTimeout() throws Exception {
+        JdbcAdmissionController controller = controller(1, 10, Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> holder = executor.submit(() -> hold(controller, release));
+            await().until(() -> controller.active() == 1);
+
+            assertThatThrownBy(controller::enter)
+                .isInstanceOf(DatabaseBusyException.class)
+                .hasMessageContaining("50ms");
+            assertThat(controller.queued()).isZero();
+
+            release.countDown();
+            holder.get(10, TimeUnit.SECONDS);
+        }
+
+        assertThat(registry.counter("flowcatalyst.jdbc.admission.rejected", "reason", "timeout").count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("enter should pass through for a thread that is already admitted")
+    void enter_shouldBeReentrant() {
+        JdbcAdmissionController controller = controller(1, 0, Duration.ofMillis(10));
+
+        controller.enter();
+        controller.enter();
+        assertThat(controller.active()).isEqualTo(1);
+
+        controller.exit();
+        assertThat(controller.active()).isEqualTo(1);
+        controller.exit();
+        assertThat(controller.active()).isZero();
+    }
+
+    @Test
+    @DisplayName("exit should fail without a matching enter")
+    void exit_shouldFailWithoutEnter() {
+        JdbcAdmissionController controller = controller(1, 0, Duration.ofMillis(10));
+
+        assertThatThrownBy(controller::exit).isInstanceOf(IllegalStateException.class);
+        assertThat(controller.active()).isZero();
+    }
+
+    private static void hold(JdbcAdmissionController controller, CountDownLatch release) {
+        controller.enter();
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            controller.exit();
+        }
+    }
+}
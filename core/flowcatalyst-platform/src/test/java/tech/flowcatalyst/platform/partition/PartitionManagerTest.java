@@ -0,0 +1,139 @@
+package tech.flowcatalyst.platform.partition;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.platform.partition.PartitionManager.Partition;
+import tech.flowcatalyst.platform.partition.PartitionManager.PlannedPartition;
+import tech.flowcatalyst.platform.shared.EntityType;
+import tech.flowcatalyst.platform.shared.TsidGenerator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for PartitionManager planning.
+ * Covers bound parsing, partition pre-creation and retention without a database.
+ */
+class PartitionManagerTest {
+
+    private static final Instant MAY_1 = Instant.parse("2026-05-01T00:00:00Z");
+    private static final Instant JUN_1 = Instant.parse("2026-06-01T00:00:00Z");
+    private static final Instant JUL_1 = Instant.parse("2026-07-01T00:00:00Z");
+
+    private static String bound(Instant time) {
+        return TsidGenerator.lowerBound(EntityType.EVENT, time);
+    }
+
+    // ========================================
+    // TSID BOUNDS
+    // ========================================
+
+    @Test
+    @DisplayName("lowerBound should sort at or below every ID generated from that time")
+    void lowerBound_shouldSortBelowIdsGeneratedLater() {
+        Instant before = Instant.now().minusMillis(1);
+
+        String id = TsidGenerator.generate(EntityType.EVENT);
+
+        assertThat(bound(before)).isLessThan(id);
+        assertThat(bound(before)).hasSize(id.length()).startsWith("evn_");
+        assertThat(bound(Instant.now().plusSeconds(1))).isGreaterThan(id);
+    }
+
+    @Test
+    @DisplayName("lowerBound should encode its time to the millisecond")
+    void lowerBound_shouldRoundTripItsTime() {
+        Instant time = Instant.parse("2026-03-14T15:09:26.535Z");
+
+        assertThat(PartitionManager.instantOf(bound(time))).isEqualTo(time);
+    }
+
+    @Test
+    @DisplayName("typedFloor should sort above unprefixed IDs and at or below every typed ID")
+    void typedFloor_shouldSeparateRawFromTypedIds() {
+        String floor = TsidGenerator.typedFloor(EntityType.DISPATCH_JOB);
+
+        assertThat(TsidGenerator.generateRaw()).isLessThan(floor);
+        assertThat(TsidGenerator.lowerBound(EntityType.DISPATCH_JOB, Instant.EPOCH)).isGreaterThanOrEqualTo(floor);
+        assertThat(TsidGenerator.generate(EntityType.DISPATCH_JOB)).isGreaterThan(floor);
+    }
+
+    // ========================================
+    // BOUND PARSING
+    // ========================================
+
+    @Test
+    @DisplayName("parse should read range bounds and ignore the default partition")
+    void parse_shouldReadRangeBounds() {
+        Partition legacy = PartitionManager.parse("events_legacy",
+            "FOR VALUES FROM (MINVALUE) TO ('" + bound(MAY_1) + "')");
+        Partition may = PartitionManager.parse("events_p20260501",
+            "FOR VALUES FROM ('" + bound(MAY_1) + "') TO ('" + bound(JUN_1) + "')");
+
+        assertThat(legacy).isEqualTo(new Partition("events_legacy", null, MAY_1));
+        assertThat(may).isEqualTo(new Partition("events_p20260501", MAY_1, JUN_1));
+        assertThat(PartitionManager.parse("events_default", "DEFAULT")).isNull();
+    }
+
+    // ========================================
+    // PLANNING
+    // ========================================
+
+    @Test
+    @DisplayName("plan should create monthly partitions from the highest bound through the premake window")
+    void plan_shouldCreateMonthlyPartitionsThroughPremakeWindow() {
+        List<Partition> existing = List.of(new Partition("events_legacy", null, JUN_1));
+
+        List<PlannedPartition> planned = PartitionManager.plan(existing,
+            Instant.parse("2026-05-20T10:00:00Z"), PartitionConfig.Interval.MONTH, 2);
+
+        assertThat(planned).containsExactly(
+            new PlannedPartition(JUN_1, JUL_1),
+            new PlannedPartition(JUL_1, Instant.parse("2026-08-01T00:00:00Z")));
+    }
+
+    @Test
+    @DisplayName("plan should create nothing when the premake window is already covered")
+    void plan_shouldCreateNothing_whenWindowCovered() {
+        List<Partition> existing = List.of(
+            new Partition("events_legacy", null, MAY_1),
+            new Partition("events_p20260501", MAY_1, JUN_1),
+            new Partition("events_p20260601", JUN_1, JUL_1));
+
+        assertThat(PartitionManager.plan(existing, Instant.parse("2026-05-20T10:00:00Z"),
+            PartitionConfig.Interval.MONTH, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("plan should realign to day boundaries when switching from monthly to daily partitions")
+    void plan_shouldSwitchToDailyPartitions() {
+        List<Partition> existing = List.of(new Partition("events_legacy", null, JUN_1));
+
+        List<PlannedPartition> planned = PartitionManager.plan(existing,
+            Instant.parse("2026-05-31T22:00:00Z"), PartitionConfig.Interval.DAY, 2);
+
+        assertThat(planned).containsExactly(
+            new PlannedPartition(JUN_1, Instant.parse("2026-06-02T00:00:00Z")),
+            new PlannedPartition(Instant.parse("2026-06-02T00:00:00Z"), Instant.parse("2026-06-03T00:00:00Z")));
+    }
+
+    // ========================================
+    // RETENTION
+    // ========================================
+
+    @Test
+    @DisplayName("expired should only return partitions whose whole range is past the cutoff")
+    void expired_shouldOnlyReturnFullyExpiredPartitions() {
+        Partition legacy = new Partition("events_legacy", null, MAY_1);
+        Partition may = new Partition("events_p20260501", MAY_1, JUN_1);
+        Partition june = new Partition("events_p20260601", JUN_1, JUL_1);
+
+        Instant cutoff = Instant.parse("2026-06-15T00:00:00Z").minus(Duration.ofDays(14));
+
+        assertThat(PartitionManager.expired(List.of(legacy, may, june), cutoff))
+            .containsExactly(legacy, may);
+    }
+}
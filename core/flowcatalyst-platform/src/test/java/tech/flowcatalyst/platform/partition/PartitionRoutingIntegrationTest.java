@@ -0,0 +1,127 @@
+package tech.flowcatalyst.platform.partition;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.jooq.DSLContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.dispatchjob.dto.CreateDispatchJobRequest;
+import tech.flowcatalyst.dispatchjob.entity.DispatchAttempt;
+import tech.flowcatalyst.dispatchjob.entity.DispatchJob;
+import tech.flowcatalyst.dispatchjob.model.DispatchKind;
+import tech.flowcatalyst.dispatchjob.repository.DispatchJobRepository;
+import tech.flowcatalyst.event.Event;
+import tech.flowcatalyst.event.EventService;
+import tech.flowcatalyst.event.operations.CreateEvent;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Integration tests for partition routing.
+ * Writes events and dispatch jobs through the services that create them in production and checks
+ * that each row lands in the partition for its creation period, not in the legacy or default one.
+ */
+@Tag("integration")
+@QuarkusTest
+class PartitionRoutingIntegrationTest {
+
+    @Inject
+    PartitionManager partitionManager;
+
+    @Inject
+    EventService eventService;
+
+    @Inject
+    DispatchJobRepository dispatchJobRepository;
+
+    @Inject
+    DSLContext dsl;
+
+    @BeforeEach
+    void ensurePartitions() {
+        partitionManager.maintain();
+    }
+
+    private String partitionOf(String table, String id) {
+        return dsl.resultQuery("SELECT tableoid::regclass::text FROM " + table + " WHERE id = ?", id)
+            .fetchOne(0, String.class);
+    }
+
+    /**
+     * Name of the partition created for the current period, whatever the configured interval.
+     */
+    private String currentPartition(String table) {
+        return dsl.resultQuery("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?) AND c.relname LIKE ? AND c.relname <= ?
+                ORDER BY c.relname DESC LIMIT 1""",
+                table, table + "\\_p%", table + "_p" + DateTimeFormatter.BASIC_ISO_DATE.format(
+                    Instant.now().atOffset(ZoneOffset.UTC).toLocalDate()))
+            .fetchOne(0, String.class);
+    }
+
+    @Test
+    @DisplayName("events created by EventService should land in the current period's partition")
+    void eventService_shouldWriteToCurrentPartition() {
+        Event event = eventService.create(new CreateEvent("1.0", "test:partition:routing:created", "test",
+            "test.routing." + UUID.randomUUID(), null, "{}", null, null, null, "routing", List.of())).event();
+
+        assertThat(event.id()).startsWith("evn_");
+        assertThat(partitionOf("events", event.id()))
+            .isEqualTo(currentPartition("events"))
+            .isNotIn("events_legacy", "events_default");
+    }
+
+    @Test
+    @DisplayName("dispatch jobs and their attempts should land in the current period's partition")
+    void dispatchJobRepository_shouldWriteToCurrentPartition() {
+        DispatchJob job = dispatchJobRepository.create(new CreateDispatchJobRequest(
+            "test", DispatchKind.TASK, "test:partition:routing", "subject", null, null, Map.of(),
+            "http://localhost/webhook", null, Map.of(), "{}", null, null, null, "client-1", null, null,
+            null, "routing", null, null, null, null, null, null, null, null, null, null));
+
+        DispatchAttempt attempt = new DispatchAttempt();
+        attempt.attemptNumber = 1;
+        attempt.attemptedAt = Instant.now();
+        dispatchJobRepository.addAttempt(job.id, attempt);
+
+        assertThat(job.id).startsWith("djb_");
+        assertThat(partitionOf("dispatch_jobs", job.id))
+            .isEqualTo(currentPartition("dispatch_jobs"))
+            .isNotIn("dispatch_jobs_legacy", "dispatch_jobs_default");
+        assertThat(dsl.resultQuery("SELECT tableoid::regclass::text FROM dispatch_job_attempts WHERE dispatch_job_id = ?",
+                job.id).fetchOne(0, String.class))
+            .isEqualTo(currentPartition("dispatch_job_attempts"));
+    }
+
+    @Test
+    @DisplayName("maintenance should move rows that landed in the default partition into the partition it creates")
+    void maintain_shouldMoveRowsOutOfDefaultPartition() {
+        // Drop the newest (premade, empty) partition so its range falls back to the default partition
+        var newest = dsl.resultQuery("""
+                SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass('events') AND c.relname LIKE 'events\\_p%'
+                ORDER BY c.relname DESC LIMIT 1""")
+            .fetchOne();
+        String partition = newest.get(0, String.class);
+        String lowerBound = newest.get(1, String.class).replaceAll(".*FROM \\('([^']+)'\\).*", "$1");
+        dsl.execute("DROP TABLE " + partition);
+        dsl.execute("INSERT INTO events (id, type, source, time) VALUES (?, 'test:partition:default:created', 'test', now())",
+            lowerBound);
+        assertThat(partitionOf("events", lowerBound)).isEqualTo("events_default");
+
+        partitionManager.maintain();
+
+        assertThat(partitionOf("events", lowerBound)).isEqualTo(partition);
+    }
+}
@@ -0,0 +1,154 @@
+package tech.flowcatalyst.platform.shared;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.interceptor.InvocationContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Unit tests for InstrumentedInterceptor.
+ * Covers collection resolution, meter reuse, error classification and histogram sampling.
+ */
+class InstrumentedInterceptorTest {
+
+    @Instrumented(collection = "widgets")
+    static class WidgetRepository {
+        String findById(String id) {
+            return id;
+        }
+
+        void persist(String id) {
+        }
+    }
+
+    static class JooqGadgetRepository {
+        String findById(String id) {
+            return id;
+        }
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private InstrumentedInterceptor interceptor(int sampleRate) {
+        return new InstrumentedInterceptor(registry, Duration.ofMillis(100), sampleRate);
+    }
+
+    private static InvocationContext context(Object target, String methodName, Callable<Object> body)
+            throws Exception {
+        Method method = target.getClass().getDeclaredMethod(methodName, String.class);
+        return new InvocationContext() {
+            @Override
+            public Object getTarget() {
+                return target;
+            }
+
+            @Override
+            public Object getTimer() {
+                return null;
+            }
+
+            @Override
+            public Method getMethod() {
+                return method;
+            }
+
+            @Override
+            public Constructor<?> getConstructor() {
+                return null;
+            }
+
+            @Override
+            public Object[] getParameters() {
+                return new Object[0];
+            }
+
+            @Override
+            public void setParameters(Object[] params) {
+            }
+
+            @Override
+            public Map<String, Object> getContextData() {
+                return new HashMap<>();
+            }
+
+            @Override
+            public Object proceed() throws Exception {
+                return body.call();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("instrument should count calls under the annotated collection")
+    void instrument_shouldCountCallsUnderAnnotatedCollection() throws Exception {
+        InstrumentedInterceptor interceptor = interceptor(1);
+        InvocationContext ctx = context(new WidgetRepository(), "findById", () -> "w1");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(interceptor.instrument(ctx)).isEqualTo("w1");
+        }
+
+        assertThat(registry.get("flowcatalyst.db.operations")
+            .tags("collection", "widgets", "operation", "findById", "result", "success")
+            .counter().count()).isEqualTo(3);
+        assertThat(registry.get("flowcatalyst.db.operation.duration")
+            .tags("collection", "widgets", "operation", "findById", "result", "success")
+            .timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("instrument should derive the collection from an unannotated class name")
+    void instrument_shouldDeriveCollectionFromClassName() throws Exception {
+        InstrumentedInterceptor interceptor = interceptor(1);
+
+        interceptor.instrument(context(new JooqGadgetRepository(), "findById", () -> "g1"));
+
+        assertThat(registry.find("flowcatalyst.db.operations").tag("collection", "jooqgadgets").counter())
+            .isNotNull();
+    }
+
+    @Test
+    @DisplayName("instrument should classify and rethrow errors")
+    void instrument_shouldClassifyAndRethrowErrors() throws Exception {
+        InstrumentedInterceptor interceptor = interceptor(1);
+        InvocationContext ctx = context(new WidgetRepository(), "persist", () -> {
+            throw new IllegalStateException("Duplicate key");
+        });
+
+        assertThatThrownBy(() -> interceptor.instrument(ctx)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get("flowcatalyst.db.operations")
+            .tags("collection", "widgets", "operation", "persist", "result", "error")
+            .counter().count()).isEqualTo(1);
+        assertThat(registry.get("flowcatalyst.db.operation.errors")
+            .tags("operation", "persist", "error_type", "internal")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("instrument should record only sampled calls in the duration timer")
+    void instrument_shouldSampleDurationTimer() throws Exception {
+        InstrumentedInterceptor interceptor = interceptor(10);
+        InvocationContext ctx = context(new WidgetRepository(), "findById", () -> "w1");
+
+        for (int i = 0; i < 10_000; i++) {
+            interceptor.instrument(ctx);
+        }
+
+        assertThat(registry.get("flowcatalyst.db.operations")
+            .tags("operation", "findById", "result", "success")
+            .counter().count()).isEqualTo(10_000);
+        assertThat(registry.get("flowcatalyst.db.operation.duration")
+            .tags("operation", "findById", "result", "success")
+            .timer().count()).isBetween(700L, 1_300L);
+    }
+}
@@ -0,0 +1,51 @@
+package tech.flowcatalyst.standby;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Maps a message group to its shard for partitioned ownership.
+ *
+ * <p>The hash has to be computable inside the database so pollers can fetch only the rows of
+ * the shards they own. It is the first 32 bits of the MD5 of the effective group, as an unsigned
+ * integer, modulo the shard count. Equivalent SQL:
+ * <ul>
+ *   <li>PostgreSQL: {@code ('x' || lpad(substr(md5(g), 1, 8), 16, '0'))::bit(64)::bigint % n}</li>
+ *   <li>MySQL: {@code CONV(SUBSTRING(MD5(g), 1, 8), 16, 10) % n}</li>
+ * </ul>
+ * where {@code g} is {@code COALESCE(NULLIF(message_group, ''), 'default')}.
+ */
+public final class MessageGroupSharding {
+
+    /** Group used for jobs/items without a message group */
+    public static final String DEFAULT_MESSAGE_GROUP = "default";
+
+    private MessageGroupSharding() {
+    }
+
+    /**
+     * Shard of a message group.
+     *
+     * @param messageGroup the message group (null or empty means {@value #DEFAULT_MESSAGE_GROUP})
+     * @param shardCount   total number of shards
+     * @return shard in {@code [0, shardCount)}
+     */
+    public static int shardOf(String messageGroup, int shardCount) {
+        String group = (messageGroup == null || messageGroup.isEmpty()) ? DEFAULT_MESSAGE_GROUP : messageGroup;
+        byte[] digest = md5().digest(group.getBytes(StandardCharsets.UTF_8));
+        long hash = ((digest[0] & 0xFFL) << 24)
+            | ((digest[1] & 0xFFL) << 16)
+            | ((digest[2] & 0xFFL) << 8)
+            | (digest[3] & 0xFFL);
+        return (int) (hash % shardCount);
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package tech.flowcatalyst.standby;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.vertx.mutiny.redis.client.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis shard leases using the same pattern as {@link LockManager}: SET NX EX to acquire,
+ * Lua scripts to renew and release only if we own the lease.
+ *
+ * <p>Keys:
+ * <ul>
+ *   <li>{@code <prefix>:<shard>} - lease, value is the owning instance ID</li>
+ *   <li>{@code <prefix>:members} - sorted set of instance IDs scored by heartbeat expiry (epoch millis)</li>
+ * </ul>
+ */
+public class RedisShardLeaseStore implements ShardLeaseStore {
+
+    /**
+     * Lua script: Atomically refresh lease TTL only if we own it.
+     * Returns 1 if refreshed, 0 if we don't own the lease.
+     *
+     * KEYS[1] = lease key
+     * ARGV[1] = our instance ID
+     * ARGV[2] = TTL in seconds
+     */
+    private static final String RENEW_SCRIPT = """
+        if redis.call("get", KEYS[1]) == ARGV[1] then
+            return redis.call("expire", KEYS[1], ARGV[2])
+        else
+            return 0
+        end
+        """;
+
+    /**
+     * Lua script: Atomically release lease only if we own it.
+     * Returns 1 if deleted, 0 if we don't own the lease.
+     *
+     * KEYS[1] = lease key
+     * ARGV[1] = our instance ID
+     */
+    private static final String RELEASE_SCRIPT = """
+        if redis.call("get", KEYS[1]) == ARGV[1] then
+            return redis.call("del", KEYS[1])
+        else
+            return 0
+        end
+        """;
+
+    /**
+     * Lua script: Drop expired members, record our heartbeat and return the live members.
+     *
+     * KEYS[1] = members key
+     * ARGV[1] = now (epoch millis)
+     * ARGV[2] = our heartbeat expiry (epoch millis)
+     * ARGV[3] = our instance ID
+     */
+    private static final String HEARTBEAT_SCRIPT = """
+        redis.call("zremrangebyscore", KEYS[1], "-inf", ARGV[1])
+        redis.call("zadd", KEYS[1], ARGV[2], ARGV[3])
+        return redis.call("zrange", KEYS[1], 0, -1)
+        """;
+
+    private final RedisDataSource redis;
+    private final String keyPrefix;
+
+    public RedisShardLeaseStore(RedisDataSource redis, String keyPrefix) {
+        this.redis = redis;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public boolean tryAcquire(int shard, String owner, int ttlSeconds) {
+        String key = leaseKey(shard);
+        Response result = redis.execute("SET", key, owner, "NX", "EX", String.valueOf(ttlSeconds));
+        if (result != null) {
+            return true;
+        }
+        // Lease exists - we may already own it (renewal missed, or restart with same instance ID)
+        return renew(shard, owner, ttlSeconds);
+    }
+
+    @Override
+    public boolean renew(int shard, String owner, int ttlSeconds) {
+        Response result = redis.execute("EVAL", RENEW_SCRIPT, "1", leaseKey(shard), owner, String.valueOf(ttlSeconds));
+        return result != null && result.toInteger() == 1;
+    }
+
+    @Override
+    public void release(int shard, String owner) {
+        redis.execute("EVAL", RELEASE_SCRIPT, "1", leaseKey(shard), owner);
+    }
+
+    @Override
+    public List<String> heartbeat(String member, int ttlSeconds) {
+        long now = System.currentTimeMillis();
+        Response result = redis.execute("EVAL", HEARTBEAT_SCRIPT, "1", membersKey(),
+            String.valueOf(now), String.valueOf(now + ttlSeconds * 1000L), member);
+
+        List<String> members = new ArrayList<>();
+        if (result != null) {
+            for (Response entry : result) {
+                members.add(entry.toString());
+            }
+        }
+        members.sort(null);
+        return members;
+    }
+
+    @Override
+    public void leave(String member) {
+        redis.execute("ZREM", membersKey(), member);
+    }
+
+    private String leaseKey(int shard) {
+        return keyPrefix + ":" + shard;
+    }
+
+    private String membersKey() {
+        return keyPrefix + ":members";
+    }
+}
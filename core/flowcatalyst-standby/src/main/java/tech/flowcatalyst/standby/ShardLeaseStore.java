@@ -0,0 +1,44 @@
+package tech.flowcatalyst.standby;
+
+import java.util.List;
+
+/**
+ * Storage for shard leases and instance membership used by {@link ShardOwnershipService}.
+ *
+ * <p>A lease is held by one owner until it expires or is released; only the owner can renew
+ * or release it. Membership is a set of instance IDs that expire unless heartbeated.
+ */
+public interface ShardLeaseStore {
+
+    /**
+     * Acquire a shard lease if it is free, or confirm it if we already hold it
+     * (e.g., after a restart with the same instance ID).
+     *
+     * @return true if the lease is now held by {@code owner}
+     */
+    boolean tryAcquire(int shard, String owner, int ttlSeconds);
+
+    /**
+     * Extend a lease we hold.
+     *
+     * @return true if renewed, false if the lease expired or is held by another owner
+     */
+    boolean renew(int shard, String owner, int ttlSeconds);
+
+    /**
+     * Release a lease if we hold it.
+     */
+    void release(int shard, String owner);
+
+    /**
+     * Record that {@code member} is alive for the next {@code ttlSeconds}, dropping expired members.
+     *
+     * @return the live members, sorted
+     */
+    List<String> heartbeat(String member, int ttlSeconds);
+
+    /**
+     * Remove {@code member} from the membership set (graceful leave).
+     */
+    void leave(String member);
+}
@@ -0,0 +1,209 @@
+package tech.flowcatalyst.standby;
+
+import io.quarkus.redis.datasource.RedisDataSource;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Partitioned ownership (sharded leadership) for pollers.
+ *
+ * <p>Message groups are hashed into a fixed number of shards ({@link MessageGroupSharding}).
+ * Every instance heartbeats into a shared membership set and leases a share of the shards, so
+ * polling scales out across instances instead of running on a single primary. A poller fetches
+ * only rows whose message group falls in {@link #ownedShards()}, which keeps per-group ordering
+ * on a single instance.
+ *
+ * <h2>Rebalancing</h2>
+ * The live members are sorted and instance {@code i} of {@code m} wants the shards
+ * {@code s} with {@code s % m == i}. Every rebalance renews the wanted shards it holds, releases
+ * the ones it no longer wants, and tries to acquire the wanted ones that are free. When an
+ * instance joins, the others release the shards it now wants on their next rebalance; when one
+ * leaves (gracefully or by heartbeat expiry), its shards are taken over once their leases are
+ * released or expire.
+ *
+ * <p>Only active when both standby mode and {@code standby.sharding.enabled} are on; otherwise
+ * callers should fall back to {@link StandbyService#isPrimary()}.
+ */
+@ApplicationScoped
+public class ShardOwnershipService {
+
+    private static final Logger LOG = Logger.getLogger(ShardOwnershipService.class.getName());
+
+    @Inject
+    StandbyConfig standbyConfig;
+
+    @Inject
+    Instance<RedisDataSource> redisDataSourceInstance;
+
+    private ShardLeaseStore leaseStore;
+    private String instanceId;
+    private int shardCount;
+    private int leaseTtlSeconds;
+
+    /** Shards this instance currently holds a valid lease on */
+    private volatile Set<Integer> ownedShards = Set.of();
+
+    ShardOwnershipService() {
+    }
+
+    ShardOwnershipService(ShardLeaseStore leaseStore, String instanceId, int shardCount, int leaseTtlSeconds) {
+        this.leaseStore = leaseStore;
+        this.instanceId = instanceId;
+        this.shardCount = shardCount;
+        this.leaseTtlSeconds = leaseTtlSeconds;
+    }
+
+    @PostConstruct
+    void init() {
+        StandbyConfig.Sharding sharding = standbyConfig.sharding();
+        if (!standbyConfig.enabled() || !sharding.enabled()) {
+            return;
+        }
+        if (!redisDataSourceInstance.isResolvable()) {
+            LOG.warning("Sharded ownership enabled but Redis client not available");
+            return;
+        }
+
+        this.leaseStore = new RedisShardLeaseStore(redisDataSourceInstance.get(), sharding.keyPrefix());
+        this.instanceId = standbyConfig.instanceId();
+        this.shardCount = sharding.shardCount();
+        this.leaseTtlSeconds = standbyConfig.lockTtlSeconds();
+        LOG.info("Sharded ownership enabled: " + shardCount + " shards, key prefix " + sharding.keyPrefix());
+    }
+
+    void onStartup(@Observes StartupEvent event) {
+        rebalance();
+    }
+
+    /**
+     * Scheduled task to heartbeat, renew leases and rebalance shards.
+     * Runs every 10 seconds, like the primary lock refresh.
+     */
+    @Scheduled(every = "10s")
+    void rebalanceTask() {
+        rebalance();
+    }
+
+    /**
+     * Release all leases and leave the membership set on shutdown,
+     * so the remaining instances take over immediately.
+     */
+    void onShutdown(@Observes ShutdownEvent event) {
+        leave();
+    }
+
+    /**
+     * Whether partitioned ownership is active. If not, pollers gate on the primary lock.
+     */
+    public boolean isActive() {
+        return leaseStore != null;
+    }
+
+    /**
+     * Total number of shards.
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Shards this instance currently owns (empty when not active or when Redis is unavailable).
+     */
+    public Set<Integer> ownedShards() {
+        return ownedShards;
+    }
+
+    /**
+     * Check whether this instance owns the shard of a message group.
+     */
+    public boolean ownsGroup(String messageGroup) {
+        return ownedShards.contains(MessageGroupSharding.shardOf(messageGroup, shardCount));
+    }
+
+    /**
+     * Heartbeat, then converge the owned shards on this instance's share.
+     */
+    synchronized void rebalance() {
+        if (!isActive()) {
+            return;
+        }
+
+        try {
+            List<String> members = leaseStore.heartbeat(instanceId, leaseTtlSeconds);
+            Set<Integer> wanted = wantedShards(members);
+            Set<Integer> previous = ownedShards;
+            Set<Integer> owned = new TreeSet<>();
+
+            for (int shard : previous) {
+                if (!wanted.contains(shard)) {
+                    leaseStore.release(shard, instanceId);
+                } else if (leaseStore.renew(shard, instanceId, leaseTtlSeconds)) {
+                    owned.add(shard);
+                } else {
+                    LOG.warning("Lost lease on shard " + shard);
+                }
+            }
+
+            for (int shard : wanted) {
+                if (!owned.contains(shard) && leaseStore.tryAcquire(shard, instanceId, leaseTtlSeconds)) {
+                    owned.add(shard);
+                }
+            }
+
+            this.ownedShards = Set.copyOf(owned);
+
+            if (!owned.equals(previous)) {
+                LOG.info("Shard ownership changed (" + members.size() + " members): " + owned);
+            }
+        } catch (Exception e) {
+            // Cannot prove we still hold our leases - stop polling until Redis is back
+            LOG.log(Level.SEVERE, "Shard rebalance failed, releasing local ownership: " + e.getMessage(), e);
+            this.ownedShards = Set.of();
+        }
+    }
+
+    /**
+     * Release all leases and leave the membership set.
+     */
+    synchronized void leave() {
+        if (!isActive()) {
+            return;
+        }
+
+        Set<Integer> previous = ownedShards;
+        this.ownedShards = Set.of();
+        try {
+            for (int shard : previous) {
+                leaseStore.release(shard, instanceId);
+            }
+            leaseStore.leave(instanceId);
+            LOG.info("Released " + previous.size() + " shard leases");
+        } catch (Exception e) {
+            LOG.warning("Error releasing shard leases (will expire automatically): " + e.getMessage());
+        }
+    }
+
+    private Set<Integer> wantedShards(List<String> members) {
+        int index = members.indexOf(instanceId);
+        Set<Integer> wanted = new TreeSet<>();
+        if (index < 0) {
+            return wanted;
+        }
+        for (int shard = index; shard < shardCount; shard += members.size()) {
+            wanted.add(shard);
+        }
+        return wanted;
+    }
+}
@@ -43,4 +43,38 @@ public interface StandbyConfig {
      */
     @WithDefault("30")
     int lockTtlSeconds();
+
+    /**
+     * Partitioned ownership (sharded leadership) settings.
+     */
+    Sharding sharding();
+
+    /**
+     * Partitioned ownership: instead of a single primary doing all polling, message groups are
+     * hashed into a fixed number of shards and each live instance leases a share of them.
+     * Only active when standby mode is enabled.
+     */
+    interface Sharding {
+
+        /**
+         * Enable partitioned ownership mode.
+         * If false, pollers use the single primary lock.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Number of shards message groups are hashed into.
+         * Must be the same on every instance of a service; upper bound on useful instances.
+         */
+        @WithDefault("16")
+        int shardCount();
+
+        /**
+         * Redis key prefix for shard leases and the membership set.
+         * Each service should use a unique prefix (e.g., "dispatch-scheduler-shards").
+         */
+        @WithDefault("standby-shards")
+        String keyPrefix();
+    }
 }
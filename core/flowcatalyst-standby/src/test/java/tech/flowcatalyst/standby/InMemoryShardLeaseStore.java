@@ -0,0 +1,81 @@
+package tech.flowcatalyst.standby;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory {@link ShardLeaseStore} with a manual clock, for tests.
+ */
+class InMemoryShardLeaseStore implements ShardLeaseStore {
+
+    private record Lease(String owner, long expiresAt) {
+    }
+
+    private final Map<Integer, Lease> leases = new HashMap<>();
+    private final Map<String, Long> members = new HashMap<>();
+    private long now = 0;
+    private boolean failing = false;
+
+    synchronized void advanceSeconds(int seconds) {
+        now += seconds * 1000L;
+    }
+
+    synchronized void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    synchronized String ownerOf(int shard) {
+        Lease lease = leases.get(shard);
+        return lease != null && lease.expiresAt() > now ? lease.owner() : null;
+    }
+
+    @Override
+    public synchronized boolean tryAcquire(int shard, String owner, int ttlSeconds) {
+        checkAvailable();
+        String current = ownerOf(shard);
+        if (current != null && !current.equals(owner)) {
+            return false;
+        }
+        leases.put(shard, new Lease(owner, now + ttlSeconds * 1000L));
+        return true;
+    }
+
+    @Override
+    public synchronized boolean renew(int shard, String owner, int ttlSeconds) {
+        checkAvailable();
+        if (!owner.equals(ownerOf(shard))) {
+            return false;
+        }
+        leases.put(shard, new Lease(owner, now + ttlSeconds * 1000L));
+        return true;
+    }
+
+    @Override
+    public synchronized void release(int shard, String owner) {
+        checkAvailable();
+        if (owner.equals(ownerOf(shard))) {
+            leases.remove(shard);
+        }
+    }
+
+    @Override
+    public synchronized List<String> heartbeat(String member, int ttlSeconds) {
+        checkAvailable();
+        members.values().removeIf(expiresAt -> expiresAt <= now);
+        members.put(member, now + ttlSeconds * 1000L);
+        return members.keySet().stream().sorted().toList();
+    }
+
+    @Override
+    public synchronized void leave(String member) {
+        checkAvailable();
+        members.remove(member);
+    }
+
+    private void checkAvailable() {
+        if (failing) {
+            throw new IllegalStateException("Redis unavailable");
+        }
+    }
+}
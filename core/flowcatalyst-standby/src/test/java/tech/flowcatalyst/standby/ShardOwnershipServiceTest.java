@@ -0,0 +1,161 @@
+package tech.flowcatalyst.standby;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardOwnershipServiceTest {
+
+    private static final int SHARDS = 16;
+    private static final int TTL_SECONDS = 30;
+
+    private final InMemoryShardLeaseStore store = new InMemoryShardLeaseStore();
+
+    private ShardOwnershipService instance(String id) {
+        return new ShardOwnershipService(store, id, SHARDS, TTL_SECONDS);
+    }
+
+    private static Set<Integer> allShards() {
+        return IntStream.range(0, SHARDS).boxed().collect(Collectors.toSet());
+    }
+
+    private static void rebalance(List<ShardOwnershipService> instances, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            instances.forEach(ShardOwnershipService::rebalance);
+        }
+    }
+
+    private void assertPartitioned(List<ShardOwnershipService> instances) {
+        Set<Integer> union = new HashSet<>();
+        for (ShardOwnershipService instance : instances) {
+            for (int shard : instance.ownedShards()) {
+                assertTrue(union.add(shard), "Shard " + shard + " owned twice");
+            }
+        }
+        assertEquals(allShards(), union);
+    }
+
+    @Test
+    void singleInstanceShouldOwnAllShards() {
+        ShardOwnershipService a = instance("a");
+
+        a.rebalance();
+
+        assertTrue(a.isActive());
+        assertEquals(allShards(), a.ownedShards());
+        assertTrue(a.ownsGroup("order-123"));
+    }
+
+    @Test
+    void joiningInstanceShouldTakeOverItsShareWithoutDoubleOwnership() {
+        ShardOwnershipService a = instance("a");
+        ShardOwnershipService b = instance("b");
+        a.rebalance();
+
+        // b joins: it cannot take shards a still holds, and a never loses shards it has not released
+        b.rebalance();
+        assertTrue(b.ownedShards().isEmpty());
+        assertEquals(allShards(), a.ownedShards());
+
+        a.rebalance();
+        b.rebalance();
+
+        assertPartitioned(List.of(a, b));
+        assertEquals(SHARDS / 2, a.ownedShards().size());
+        assertEquals(SHARDS / 2, b.ownedShards().size());
+        for (int shard = 0; shard < SHARDS; shard++) {
+            String owner = store.ownerOf(shard);
+            assertTrue(owner.equals("a") ? a.ownedShards().contains(shard) : b.ownedShards().contains(shard));
+        }
+    }
+
+    @Test
+    void shouldSpreadShardsEvenlyAcrossInstances() {
+        List<ShardOwnershipService> instances = List.of(instance("a"), instance("b"), instance("c"));
+
+        rebalance(instances, 3);
+
+        assertPartitioned(instances);
+        for (ShardOwnershipService instance : instances) {
+            int owned = instance.ownedShards().size();
+            assertTrue(owned == 5 || owned == 6, "Uneven share: " + owned);
+        }
+    }
+
+    @Test
+    void gracefulLeaveShouldHandShardsToRemainingInstances() {
+        ShardOwnershipService a = instance("a");
+        ShardOwnershipService b = instance("b");
+        rebalance(List.of(a, b), 2);
+
+        b.leave();
+        a.rebalance();
+
+        assertTrue(b.ownedShards().isEmpty());
+        assertEquals(allShards(), a.ownedShards());
+    }
+
+    @Test
+    void crashedInstanceShardsShouldBeTakenOverAfterLeaseExpiry() {
+        ShardOwnershipService a = instance("a");
+        ShardOwnershipService b = instance("b");
+        rebalance(List.of(a, b), 2);
+        Set<Integer> bShards = b.ownedShards();
+
+        // b stops heartbeating; its leases are still valid, so a must not take them yet
+        store.advanceSeconds(10);
+        a.rebalance();
+        assertEquals(SHARDS / 2, a.ownedShards().size());
+
+        store.advanceSeconds(TTL_SECONDS);
+        a.rebalance();
+
+        assertEquals(allShards(), a.ownedShards());
+        assertTrue(a.ownedShards().containsAll(bShards));
+    }
+
+    @Test
+    void storeFailureShouldDropLocalOwnership() {
+        ShardOwnershipService a = instance("a");
+        a.rebalance();
+
+        store.setFailing(true);
+        a.rebalance();
+        assertTrue(a.ownedShards().isEmpty());
+
+        store.setFailing(false);
+        a.rebalance();
+        assertEquals(allShards(), a.ownedShards());
+    }
+
+    @Test
+    void shardOfShouldMatchSqlHashAndTreatMissingGroupAsDefault() {
+        // First 32 bits of md5 as unsigned int: md5("default") = c21f969b..., md5("order-123") = f32aa93a...
+        assertEquals(3256850075L % 16, MessageGroupSharding.shardOf("default", 16));
+        assertEquals(4079675450L % 16, MessageGroupSharding.shardOf("order-123", 16));
+        assertEquals(4079675450L % 7, MessageGroupSharding.shardOf("order-123", 7));
+        assertEquals(MessageGroupSharding.shardOf("default", 16), MessageGroupSharding.shardOf(null, 16));
+        assertEquals(MessageGroupSharding.shardOf("default", 16), MessageGroupSharding.shardOf("", 16));
+
+        for (int i = 0; i < 1000; i++) {
+            int shard = MessageGroupSharding.shardOf("group-" + i, SHARDS);
+            assertTrue(shard >= 0 && shard < SHARDS);
+        }
+    }
+
+    @Test
+    void inactiveServiceShouldOwnNothing() {
+        ShardOwnershipService inactive = new ShardOwnershipService(null, "a", SHARDS, TTL_SECONDS);
+
+        inactive.rebalance();
+
+        assertFalse(inactive.isActive());
+        assertTrue(inactive.ownedShards().isEmpty());
+    }
+}
@@ -29,6 +29,11 @@ dependencies {
     // Redis for checkpoints - native image compatible
     implementation("io.quarkus:quarkus-redis-client")
 
+    // PostgreSQL change log source and projection writes
+    implementation("io.quarkus:quarkus-agroal")
+    implementation("io.quarkus:quarkus-jdbc-postgresql")
+    implementation("org.jooq:jooq:3.19.17")
+
     // Observability
     implementation("io.quarkus:quarkus-micrometer-registry-prometheus")
     implementation("io.micrometer:micrometer-core")
@@ -41,6 +46,7 @@ dependencies {
     testImplementation("io.quarkus:quarkus-junit5-mockito")
     testImplementation("org.testcontainers:testcontainers:1.19.7")
     testImplementation("org.testcontainers:mongodb:1.19.7")
+    testImplementation("org.testcontainers:postgresql:1.19.7")
 }
 
 group = "tech.flowcatalyst"
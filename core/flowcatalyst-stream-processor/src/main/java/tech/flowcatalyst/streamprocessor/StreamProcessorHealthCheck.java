@@ -87,12 +87,14 @@ public class StreamProcessorHealthCheck implements HealthCheck {
         // Aggregate metrics across all streams
         long totalBatches = 0;
         long totalCheckpointed = 0;
+        long totalCheckpointLag = 0;
         int totalInFlight = 0;
         int totalAvailableSlots = 0;
 
         for (StreamContext context : streams.values()) {
             totalBatches += context.getCurrentBatchSequence();
             totalCheckpointed += context.getLastCheckpointedSequence();
+            totalCheckpointLag += context.getCheckpointLagBatches();
             totalInFlight += context.getInFlightBatchCount();
             totalAvailableSlots += context.getAvailableConcurrencySlots();
         }
@@ -106,6 +108,7 @@ public class StreamProcessorHealthCheck implements HealthCheck {
                 .withData("runningStreams", runningCount)
                 .withData("totalBatchesProcessed", totalBatches)
                 .withData("totalCheckpointedBatches", totalCheckpointed)
+                .withData("totalCheckpointLagBatches", totalCheckpointLag)
                 .withData("totalInFlightBatches", totalInFlight)
                 .withData("totalAvailableConcurrencySlots", totalAvailableSlots)
                 .build();
@@ -1,11 +1,18 @@
 package tech.flowcatalyst.streamprocessor;
 
 import com.mongodb.client.MongoClient;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Any;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
 import tech.flowcatalyst.streamprocessor.checkpoint.CheckpointStore;
 import tech.flowcatalyst.streamprocessor.config.StreamConfig;
 import tech.flowcatalyst.streamprocessor.config.StreamProcessorConfig;
@@ -14,12 +21,21 @@ import tech.flowcatalyst.streamprocessor.dispatch.BatchDispatcher;
 import tech.flowcatalyst.streamprocessor.dispatch.CheckpointTracker;
 import tech.flowcatalyst.streamprocessor.mapper.ProjectionMapper;
 import tech.flowcatalyst.streamprocessor.projection.IndexInitializer;
+import tech.flowcatalyst.streamprocessor.projection.JooqProjectionWriter;
+import tech.flowcatalyst.streamprocessor.projection.ProjectionSink;
 import tech.flowcatalyst.streamprocessor.projection.ProjectionWriter;
+import tech.flowcatalyst.streamprocessor.stream.ChangeSource;
+import tech.flowcatalyst.streamprocessor.stream.PostgresChangeLog;
+import tech.flowcatalyst.streamprocessor.stream.PostgresChangeLogWatcher;
 import tech.flowcatalyst.streamprocessor.stream.StreamContext;
 import tech.flowcatalyst.streamprocessor.stream.StreamWatcher;
 
+import javax.sql.DataSource;
+
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
@@ -30,6 +46,9 @@ import java.util.logging.Logger;
  * <p>Manages multiple streams, each with its own change stream watcher,
  * projection writer, and checkpoint tracker.</p>
  *
+ * <p>With {@code stream-processor.source=postgres}, streams poll the PostgreSQL change log
+ * and write projection tables through the default datasource instead.</p>
+ *
  * <p>Usage:</p>
  * <pre>{@code
  * @Inject
@@ -62,7 +81,15 @@ public class StreamProcessorStarter {
     @Any
     Instance<ProjectionMapper> mapperInstances;
 
+    @Inject
+    Instance<MeterRegistry> meterRegistryInstance;
+
+    @Inject
+    Instance<DataSource> dataSourceInstance;
+
+    private DSLContext dsl;
     private final Map<String, StreamContext> streams = new ConcurrentHashMap<>();
+    private final List<Meter> checkpointMeters = new ArrayList<>();
     private volatile boolean started = false;
 
     /**
@@ -85,15 +112,25 @@ public class StreamProcessorStarter {
         }
 
         LOG.info("Starting stream processor...");
-        LOG.info("Database: " + config.database());
 
         // Find all mappers
         Map<String, ProjectionMapper> mappers = findMappers();
         LOG.info("Found " + mappers.size() + " projection mappers: " + mappers.keySet());
 
-        // Initialize indexes for all streams
-        IndexInitializer indexInitializer = new IndexInitializer(mongoClient, config);
-        indexInitializer.initializeAll(mappers);
+        if (isPostgresSource()) {
+            if (!dataSourceInstance.isResolvable()) {
+                LOG.severe("Stream processor source is postgres but no datasource is configured");
+                return;
+            }
+            dsl = DSL.using(dataSourceInstance.get(), SQLDialect.POSTGRES);
+            LOG.info("Source: PostgreSQL change log " + config.changeLogTable());
+        } else {
+            LOG.info("Database: " + config.database());
+
+            // Initialize indexes for all streams
+            IndexInitializer indexInitializer = new IndexInitializer(mongoClient, config);
+            indexInitializer.initializeAll(mappers);
+        }
 
         // Start each enabled stream
         config.streams().forEach((streamName, streamConfig) -> {
@@ -143,6 +180,11 @@ public class StreamProcessorStarter {
         });
 
         streams.clear();
+        if (meterRegistryInstance.isResolvable()) {
+            MeterRegistry registry = meterRegistryInstance.get();
+            checkpointMeters.forEach(registry::remove);
+        }
+        checkpointMeters.clear();
         started = false;
 
         LOG.info("Stream processor stopped");
@@ -176,6 +218,13 @@ public class StreamProcessorStarter {
         return streams.get(name);
     }
 
+    /**
+     * Check if streams read the PostgreSQL change log instead of MongoDB change streams.
+     */
+    private boolean isPostgresSource() {
+        return "postgres".equalsIgnoreCase(config.source());
+    }
+
     /**
      * Find all projection mappers by their @Named qualifier.
      */
@@ -226,6 +275,42 @@ public class StreamProcessorStarter {
         return null;
     }
 
+    /**
+     * Register checkpoint lag gauges and write counters for a stream.
+     */
+    private void registerCheckpointMetrics(String streamName, CheckpointTracker tracker) {
+        if (!meterRegistryInstance.isResolvable()) {
+            return;
+        }
+        MeterRegistry registry = meterRegistryInstance.get();
+
+        checkpointMeters.add(Gauge.builder("flowcatalyst.stream.checkpoint.lag.batches", tracker,
+                        CheckpointTracker::getCheckpointLagBatches)
+                .tag("stream", streamName)
+                .description("Completed batches not yet persisted to the checkpoint store")
+                .register(registry));
+        checkpointMeters.add(Gauge.builder("flowcatalyst.stream.checkpoint.lag.ms", tracker,
+                        CheckpointTracker::getCheckpointLagMs)
+                .tag("stream", streamName)
+                .description("Age of the oldest completed batch not yet persisted")
+                .register(registry));
+        checkpointMeters.add(FunctionCounter.builder("flowcatalyst.stream.checkpoint.writes", tracker,
+                        CheckpointTracker::getCheckpointWrites)
+                .tag("stream", streamName)
+                .tag("result", "saved")
+                .register(registry));
+        checkpointMeters.add(FunctionCounter.builder("flowcatalyst.stream.checkpoint.writes", tracker,
+                        CheckpointTracker::getStaleCheckpointWrites)
+                .tag("stream", streamName)
+                .tag("result", "stale")
+                .register(registry));
+        checkpointMeters.add(FunctionCounter.builder("flowcatalyst.stream.checkpoint.writes", tracker,
+                        CheckpointTracker::getFailedCheckpointWrites)
+                .tag("stream", streamName)
+                .tag("result", "failed")
+                .register(registry));
+    }
+
     /**
      * Create a stream context with all required components.
      */
@@ -233,18 +318,32 @@ public class StreamProcessorStarter {
         String checkpointKey = streamConfig.checkpointKey().orElse(streamName + "-checkpoint");
 
         // Create components
-        CheckpointTracker checkpointTracker = new CheckpointTracker(checkpointStore, streamName, checkpointKey);
+        CheckpointTracker checkpointTracker = new CheckpointTracker(checkpointStore, streamName, checkpointKey,
+                streamConfig.checkpointFlushIntervalMs(), streamConfig.checkpointFlushBatches());
+        registerCheckpointMetrics(streamName, checkpointTracker);
         AggregateTracker aggregateTracker = new AggregateTracker(streamName);
 
-        ProjectionWriter writer = new ProjectionWriter(
-                streamName, mongoClient, config, streamConfig, mapper);
-
-        BatchDispatcher dispatcher = new BatchDispatcher(
-                streamName, streamConfig, writer, checkpointTracker, aggregateTracker);
-
-        StreamWatcher watcher = new StreamWatcher(
-                streamName, mongoClient, config, streamConfig,
-                checkpointStore, dispatcher, checkpointTracker, aggregateTracker, checkpointKey);
+        ProjectionSink writer;
+        BatchDispatcher dispatcher;
+        ChangeSource watcher;
+        if (isPostgresSource()) {
+            writer = new JooqProjectionWriter(streamName, dsl, streamConfig.projectionCollection(), mapper);
+            dispatcher = new BatchDispatcher(
+                    streamName, streamConfig, writer, checkpointTracker, aggregateTracker);
+            PostgresChangeLog changeLog = new PostgresChangeLog(
+                    dsl, config.changeLogTable(), streamConfig.sourceCollection(), streamConfig.watchOperations());
+            watcher = new PostgresChangeLogWatcher(
+                    streamName, changeLog, streamConfig,
+                    checkpointStore, dispatcher, checkpointTracker, aggregateTracker, checkpointKey);
+        } else {
+            writer = new ProjectionWriter(
+                    streamName, mongoClient, config, streamConfig, mapper);
+            dispatcher = new BatchDispatcher(
+                    streamName, streamConfig, writer, checkpointTracker, aggregateTracker);
+            watcher = new StreamWatcher(
+                    streamName, mongoClient, config, streamConfig,
+                    checkpointStore, dispatcher, checkpointTracker, aggregateTracker, checkpointKey);
+        }
 
         return new StreamContext(
                 streamName, streamConfig, mapper,
@@ -1,6 +1,7 @@
 package tech.flowcatalyst.streamprocessor.checkpoint;
 
 import org.bson.BsonDocument;
+import org.bson.BsonValue;
 
 import java.util.Optional;
 
@@ -32,6 +33,25 @@ public interface CheckpointStore {
      */
     void saveCheckpoint(String checkpointKey, BsonDocument resumeToken);
 
+    /**
+     * Save a checkpoint only if it is not older than the stored one, so a delayed or
+     * concurrent writer (e.g., a final flush racing a new primary) never moves the
+     * checkpoint backwards.
+     *
+     * <p>Ordering uses {@link #positionOf(BsonDocument)}; tokens without a position are
+     * written unconditionally. The default implementation is an unconditional
+     * {@link #saveCheckpoint(String, BsonDocument)} - durable stores should override.</p>
+     *
+     * @param checkpointKey unique key identifying the stream's checkpoint
+     * @param resumeToken   the MongoDB change stream resume token
+     * @return true if saved, false if the stored checkpoint is newer
+     * @throws RuntimeException if the store cannot be reached (the caller keeps the checkpoint pending)
+     */
+    default boolean saveCheckpointIfNewer(String checkpointKey, BsonDocument resumeToken) {
+        saveCheckpoint(checkpointKey, resumeToken);
+        return true;
+    }
+
     /**
      * Clear a checkpoint (for recovery from stale resume token).
      * The default implementation does nothing - durable stores should override.
@@ -42,6 +62,24 @@ public interface CheckpointStore {
         // Default no-op for in-memory stores
     }
 
+    /**
+     * Ordering position of a resume token: its {@code _data} hex string.
+     *
+     * <p>Resume token data is a KeyString encoding that starts with the event's cluster time
+     * and sorts bytewise, so the hex strings of two tokens from the same deployment compare
+     * lexicographically in stream order.</p>
+     *
+     * @param resumeToken the resume token
+     * @return the position, or null if the token has no string {@code _data}
+     */
+    static String positionOf(BsonDocument resumeToken) {
+        if (resumeToken == null) {
+            return null;
+        }
+        BsonValue data = resumeToken.get("_data");
+        return data != null && data.isString() ? data.asString().getValue() : null;
+    }
+
     /**
      * Exception thrown when the checkpoint store cannot be reached.
      * This is distinct from "no checkpoint exists" - it means we cannot
@@ -45,6 +45,27 @@ public class InMemoryCheckpointStore implements CheckpointStore {
         LOG.fine("[" + checkpointKey + "] Checkpoint saved to memory");
     }
 
+    @Override
+    public boolean saveCheckpointIfNewer(String checkpointKey, BsonDocument resumeToken) {
+        String position = CheckpointStore.positionOf(resumeToken);
+        boolean[] saved = {false};
+        checkpoints.compute(checkpointKey, (key, current) -> {
+            String currentPosition = CheckpointStore.positionOf(current);
+            if (position != null && currentPosition != null && currentPosition.compareTo(position) > 0) {
+                return current;
+            }
+            saved[0] = true;
+            return resumeToken;
+        });
+        LOG.fine("[" + checkpointKey + "] Checkpoint " + (saved[0] ? "saved to memory" : "not saved - stored checkpoint is newer"));
+        return saved[0];
+    }
+
+    @Override
+    public void clearCheckpoint(String checkpointKey) {
+        checkpoints.remove(checkpointKey);
+    }
+
     /**
      * Clear all checkpoints (for testing).
      */
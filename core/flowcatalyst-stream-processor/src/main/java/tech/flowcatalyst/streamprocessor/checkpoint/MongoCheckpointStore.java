@@ -1,5 +1,7 @@
 package tech.flowcatalyst.streamprocessor.checkpoint;
 
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
@@ -10,6 +12,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.time.Instant;
@@ -81,13 +84,9 @@ public class MongoCheckpointStore implements CheckpointStore {
     @Override
     public void saveCheckpoint(String checkpointKey, BsonDocument resumeToken) {
         try {
-            Document doc = new Document("_id", checkpointKey)
-                    .append("token", resumeToken.toJson())
-                    .append("updatedAt", Instant.now().toString());
-
             getCollection().replaceOne(
                     Filters.eq("_id", checkpointKey),
-                    doc,
+                    toDocument(checkpointKey, resumeToken),
                     new ReplaceOptions().upsert(true)
             );
             LOG.fine("[" + checkpointKey + "] Checkpoint saved to MongoDB");
@@ -96,6 +95,44 @@ public class MongoCheckpointStore implements CheckpointStore {
         }
     }
 
+    /**
+     * Conditional upsert: only replaces a checkpoint whose position is not newer.
+     * If the stored checkpoint is newer the filter does not match, the upsert attempts an
+     * insert with the same _id and fails with a duplicate key error - that means "not saved".
+     */
+    @Override
+    public boolean saveCheckpointIfNewer(String checkpointKey, BsonDocument resumeToken) {
+        String position = CheckpointStore.positionOf(resumeToken);
+        Bson filter = position == null
+                ? Filters.eq("_id", checkpointKey)
+                : Filters.and(
+                        Filters.eq("_id", checkpointKey),
+                        Filters.or(Filters.exists("position", false), Filters.lte("position", position)));
+
+        try {
+            getCollection().replaceOne(filter, toDocument(checkpointKey, resumeToken), new ReplaceOptions().upsert(true));
+            LOG.fine("[" + checkpointKey + "] Checkpoint saved to MongoDB");
+            return true;
+        } catch (MongoWriteException e) {
+            if (e.getError().getCategory() == ErrorCategory.DUPLICATE_KEY) {
+                LOG.fine("[" + checkpointKey + "] Checkpoint not saved - stored checkpoint is newer");
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private Document toDocument(String checkpointKey, BsonDocument resumeToken) {
+        Document doc = new Document("_id", checkpointKey)
+                .append("token", resumeToken.toJson())
+                .append("updatedAt", Instant.now().toString());
+        String position = CheckpointStore.positionOf(resumeToken);
+        if (position != null) {
+            doc.append("position", position);
+        }
+        return doc;
+    }
+
     /**
      * Clear a checkpoint (for recovery from stale resume token).
      *
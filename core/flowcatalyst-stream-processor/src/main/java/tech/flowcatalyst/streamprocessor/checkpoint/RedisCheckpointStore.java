@@ -4,12 +4,14 @@ import io.quarkus.arc.properties.IfBuildProperty;
 import io.quarkus.redis.datasource.RedisDataSource;
 import io.quarkus.redis.datasource.keys.KeyCommands;
 import io.quarkus.redis.datasource.value.ValueCommands;
+import io.vertx.mutiny.redis.client.Response;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.bson.BsonDocument;
 
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -32,10 +34,32 @@ public class RedisCheckpointStore implements CheckpointStore {
 
     private static final Logger LOG = Logger.getLogger(RedisCheckpointStore.class.getName());
     private static final String CHECKPOINT_PREFIX = "flowcatalyst:stream-processor:checkpoint:";
+    private static final String POSITION_SUFFIX = ":position";
+
+    /**
+     * Lua script: Atomically save the checkpoint only if the stored position is not newer.
+     * Positions are fixed-format hex strings, so Lua string comparison orders them.
+     * Returns 1 if saved, 0 if the stored checkpoint is newer.
+     *
+     * KEYS[1] = checkpoint key
+     * KEYS[2] = position key
+     * ARGV[1] = resume token JSON
+     * ARGV[2] = position
+     */
+    private static final String SAVE_IF_NEWER_SCRIPT = """
+        local current = redis.call("get", KEYS[2])
+        if current and current > ARGV[2] then
+            return 0
+        end
+        redis.call("set", KEYS[1], ARGV[1])
+        redis.call("set", KEYS[2], ARGV[2])
+        return 1
+        """;
 
     @Inject
     Instance<RedisDataSource> redisDataSourceInstance;
 
+    private RedisDataSource redis;
     private ValueCommands<String, String> valueCommands;
     private KeyCommands<String> keyCommands;
     private boolean initialized = false;
@@ -43,7 +67,7 @@ public class RedisCheckpointStore implements CheckpointStore {
     @PostConstruct
     void init() {
         if (redisDataSourceInstance.isResolvable()) {
-            RedisDataSource redis = redisDataSourceInstance.get();
+            this.redis = redisDataSourceInstance.get();
             this.valueCommands = redis.value(String.class, String.class);
             this.keyCommands = redis.key(String.class);
             this.initialized = true;
@@ -90,13 +114,42 @@ public class RedisCheckpointStore implements CheckpointStore {
         }
 
         try {
-            valueCommands.set(CHECKPOINT_PREFIX + checkpointKey, resumeToken.toJson());
+            String position = CheckpointStore.positionOf(resumeToken);
+            if (position != null) {
+                valueCommands.mset(Map.of(
+                        CHECKPOINT_PREFIX + checkpointKey, resumeToken.toJson(),
+                        CHECKPOINT_PREFIX + checkpointKey + POSITION_SUFFIX, position));
+            } else {
+                valueCommands.set(CHECKPOINT_PREFIX + checkpointKey, resumeToken.toJson());
+            }
             LOG.fine("[" + checkpointKey + "] Checkpoint saved to Redis");
         } catch (Exception e) {
             LOG.warning("[" + checkpointKey + "] Failed to save checkpoint to Redis: " + e.getMessage());
         }
     }
 
+    @Override
+    public boolean saveCheckpointIfNewer(String checkpointKey, BsonDocument resumeToken) {
+        if (!initialized) {
+            throw new IllegalStateException("Redis client not available");
+        }
+
+        String position = CheckpointStore.positionOf(resumeToken);
+        if (position == null) {
+            valueCommands.set(CHECKPOINT_PREFIX + checkpointKey, resumeToken.toJson());
+            return true;
+        }
+
+        Response result = redis.execute("EVAL", SAVE_IF_NEWER_SCRIPT, "2",
+                CHECKPOINT_PREFIX + checkpointKey,
+                CHECKPOINT_PREFIX + checkpointKey + POSITION_SUFFIX,
+                resumeToken.toJson(),
+                position);
+        boolean saved = result != null && result.toInteger() == 1;
+        LOG.fine("[" + checkpointKey + "] Checkpoint " + (saved ? "saved to Redis" : "not saved - stored checkpoint is newer"));
+        return saved;
+    }
+
     @Override
     public void clearCheckpoint(String checkpointKey) {
         if (!initialized) {
@@ -105,7 +158,7 @@ public class RedisCheckpointStore implements CheckpointStore {
         }
 
         try {
-            keyCommands.del(CHECKPOINT_PREFIX + checkpointKey);
+            keyCommands.del(CHECKPOINT_PREFIX + checkpointKey, CHECKPOINT_PREFIX + checkpointKey + POSITION_SUFFIX);
             LOG.info("[" + checkpointKey + "] Checkpoint cleared from Redis");
         } catch (Exception e) {
             LOG.warning("[" + checkpointKey + "] Failed to clear checkpoint from Redis: " + e.getMessage());
@@ -19,6 +19,7 @@ import java.util.Optional;
  * stream-processor.streams.events.mapper=events
  * stream-processor.streams.events.watch-operations=insert
  * stream-processor.streams.events.concurrency=10
+ * stream-processor.streams.events.checkpoint-flush-interval-ms=1000
  * </pre>
  */
 public interface StreamConfig {
@@ -93,4 +94,20 @@ public interface StreamConfig {
      */
     @WithDefault("_id")
     String aggregateIdField();
+
+    /**
+     * Maximum time between checkpoint writes (milliseconds).
+     * Completed batches only advance an in-memory high-water mark; a background
+     * flusher persists the latest resume token. 0 persists on every completed batch.
+     * Defaults to 1000ms.
+     */
+    @WithDefault("1000")
+    long checkpointFlushIntervalMs();
+
+    /**
+     * Flush the checkpoint early once this many batches have completed since the last write.
+     * Defaults to 100.
+     */
+    @WithDefault("100")
+    int checkpointFlushBatches();
 }
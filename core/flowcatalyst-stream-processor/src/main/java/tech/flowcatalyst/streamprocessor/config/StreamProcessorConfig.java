@@ -12,6 +12,9 @@ import java.util.Map;
  * to read-optimized collections. Multiple streams can be configured, each with
  * its own source/target collections and projection mapper.</p>
  *
+ * <p>With {@code stream-processor.source=postgres} the streams read the trigger-maintained
+ * PostgreSQL change log instead, and source/projection collections name tables.</p>
+ *
  * <p>Example configuration:</p>
  * <pre>
  * # Global settings
@@ -48,6 +51,21 @@ public interface StreamProcessorConfig {
     @WithDefault("flowcatalyst")
     String database();
 
+    /**
+     * Where source changes are read from: "mongodb" (change streams) or
+     * "postgres" (the change log table maintained by triggers on the source tables).
+     * Defaults to "mongodb".
+     */
+    @WithDefault("mongodb")
+    String source();
+
+    /**
+     * Change log table read by the postgres source.
+     * Defaults to "projection_change_log".
+     */
+    @WithDefault("projection_change_log")
+    String changeLogTable();
+
     /**
      * Named stream configurations.
      *
@@ -4,7 +4,7 @@ import io.quarkus.runtime.Quarkus;
 import org.bson.BsonDocument;
 import org.bson.Document;
 import tech.flowcatalyst.streamprocessor.config.StreamConfig;
-import tech.flowcatalyst.streamprocessor.projection.ProjectionWriter;
+import tech.flowcatalyst.streamprocessor.projection.ProjectionSink;
 
 import java.util.Collections;
 import java.util.List;
@@ -30,7 +30,7 @@ public class BatchDispatcher {
 
     private final String streamName;
     private final StreamConfig config;
-    private final ProjectionWriter writer;
+    private final ProjectionSink writer;
     private final CheckpointTracker checkpointTracker;
     private final AggregateTracker aggregateTracker;
     private final Semaphore concurrencyLimit;
@@ -41,12 +41,12 @@ public class BatchDispatcher {
      *
      * @param streamName        name of the stream (for logging)
      * @param config            stream configuration
-     * @param writer            projection writer for this stream
+     * @param writer            projection sink for this stream
      * @param checkpointTracker checkpoint tracker for this stream
      * @param aggregateTracker  aggregate tracker for ordering guarantees
      */
     public BatchDispatcher(String streamName, StreamConfig config,
-                           ProjectionWriter writer, CheckpointTracker checkpointTracker,
+                           ProjectionSink writer, CheckpointTracker checkpointTracker,
                            AggregateTracker aggregateTracker) {
         this.streamName = streamName;
         this.config = config;
@@ -4,6 +4,11 @@ import org.bson.BsonDocument;
 import tech.flowcatalyst.streamprocessor.checkpoint.CheckpointStore;
 
 import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
@@ -22,6 +27,14 @@ import java.util.logging.Logger;
  *   <li>Batch 2 completes → checkpoint advances to 2, then 3</li>
  * </ul>
  *
+ * <h2>Coalesced persistence</h2>
+ * Completing a batch only advances an in-memory high-water mark. The latest resume token
+ * is persisted by a background flusher at most every {@code flushIntervalMs}, or sooner
+ * once {@code flushEveryBatches} batches have completed since the last flush, using
+ * {@link CheckpointStore#saveCheckpointIfNewer} so a late write never moves the stored
+ * checkpoint backwards. {@link #close()} performs a final flush. A crash loses at most the
+ * unflushed batches, which are replayed from the previous checkpoint (projections are upserts).
+ *
  * <p>Note: This class is NOT a CDI bean. Each stream gets its own instance
  * created by the StreamProcessorStarter.</p>
  */
@@ -32,26 +45,108 @@ public class CheckpointTracker {
     private final CheckpointStore checkpointStore;
     private final String streamName;
     private final String checkpointKey;
+    private final long flushIntervalMs;
+    private final int flushEveryBatches;
 
     private final TreeMap<Long, BatchResult> batches = new TreeMap<>();
-    private long lastCheckpointedSeq = 0;
     // Use ReentrantLock instead of synchronized to avoid pinning virtual threads
     private final ReentrantLock lock = new ReentrantLock();
 
+    // High-water mark: highest contiguous completed batch and its resume token (guarded by lock)
+    private volatile long lastCompletedSeq = 0;
+    private BsonDocument lastCompletedToken = null;
+    private long firstUnflushedAtMs = 0;
+
+    // Persisted state (guarded by flushLock)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile long lastCheckpointedSeq = 0;
+    private volatile long lastFlushAtMs = 0;
+    private final AtomicLong checkpointWrites = new AtomicLong();
+    private final AtomicLong staleCheckpointWrites = new AtomicLong();
+    private final AtomicLong failedCheckpointWrites = new AtomicLong();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private ScheduledExecutorService flushExecutor;
+
     // Track if we've had a fatal error
     private volatile Exception fatalError = null;
 
     /**
-     * Create a new checkpoint tracker for a stream.
+     * Create a checkpoint tracker that persists every contiguous completed batch
+     * on the completing thread (no background flusher).
      *
      * @param checkpointStore the store for persisting checkpoints
      * @param streamName      name of the stream (for logging)
      * @param checkpointKey   Redis/storage key for this stream's checkpoint
      */
     public CheckpointTracker(CheckpointStore checkpointStore, String streamName, String checkpointKey) {
+        this(checkpointStore, streamName, checkpointKey, 0, 1);
+    }
+
+    /**
+     * Create a new checkpoint tracker for a stream.
+     *
+     * @param checkpointStore   the store for persisting checkpoints
+     * @param streamName        name of the stream (for logging)
+     * @param checkpointKey     Redis/storage key for this stream's checkpoint
+     * @param flushIntervalMs   maximum time between checkpoint writes (0 = no background flusher)
+     * @param flushEveryBatches flush as soon as this many batches completed since the last flush
+     */
+    public CheckpointTracker(CheckpointStore checkpointStore, String streamName, String checkpointKey,
+                             long flushIntervalMs, int flushEveryBatches) {
         this.checkpointStore = checkpointStore;
         this.streamName = streamName;
         this.checkpointKey = checkpointKey;
+        this.flushIntervalMs = flushIntervalMs;
+        this.flushEveryBatches = Math.max(1, flushEveryBatches);
+    }
+
+    /**
+     * Start the background flusher (no-op if the flush interval is 0 or already started).
+     */
+    public void start() {
+        lock.lock();
+        try {
+            if (flushIntervalMs <= 0 || flushExecutor != null) {
+                return;
+            }
+            flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                    r -> Thread.ofVirtual().name("checkpoint-flusher-" + streamName).unstarted(r));
+            flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+            LOG.info("[" + streamName + "] Checkpoint flusher started (every " + flushIntervalMs +
+                    "ms or " + flushEveryBatches + " batches)");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop the background flusher and persist the latest completed checkpoint.
+     */
+    public void close() {
+        ScheduledExecutorService executor;
+        lock.lock();
+        try {
+            executor = flushExecutor;
+            flushExecutor = null;
+        } finally {
+            lock.unlock();
+        }
+
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        flush();
+        LOG.info("[" + streamName + "] Final checkpoint flushed at batch " + lastCheckpointedSeq);
     }
 
     /**
@@ -61,13 +156,19 @@ public class CheckpointTracker {
      * @param resumeToken the change stream resume token for this batch
      */
     public void markComplete(long seq, BsonDocument resumeToken) {
+        boolean flushDue;
         lock.lock();
         try {
             batches.put(seq, new BatchResult(resumeToken, true, null));
-            advanceCheckpoint();
+            advanceHighWaterMark();
+            flushDue = lastCompletedSeq - lastCheckpointedSeq >= flushEveryBatches;
         } finally {
             lock.unlock();
         }
+
+        if (flushDue) {
+            requestFlush();
+        }
     }
 
     /**
@@ -102,21 +203,120 @@ public class CheckpointTracker {
     }
 
     /**
-     * Advance the checkpoint to the highest contiguous completed batch.
+     * Advance the high-water mark to the highest contiguous completed batch.
      */
-    private void advanceCheckpoint() {
-        while (batches.containsKey(lastCheckpointedSeq + 1)) {
-            BatchResult result = batches.get(lastCheckpointedSeq + 1);
+    private void advanceHighWaterMark() {
+        long previous = lastCompletedSeq;
+        while (batches.containsKey(lastCompletedSeq + 1)) {
+            BatchResult result = batches.get(lastCompletedSeq + 1);
             if (!result.success()) {
                 break; // Stop at failed batch
             }
 
-            lastCheckpointedSeq++;
-            BsonDocument token = batches.remove(lastCheckpointedSeq).resumeToken();
+            lastCompletedSeq++;
+            lastCompletedToken = batches.remove(lastCompletedSeq).resumeToken();
+        }
 
-            // Persist checkpoint
-            checkpointStore.saveCheckpoint(checkpointKey, token);
-            LOG.fine("[" + streamName + "] Checkpoint advanced to batch " + lastCheckpointedSeq);
+        if (lastCompletedSeq != previous) {
+            if (firstUnflushedAtMs == 0) {
+                firstUnflushedAtMs = System.currentTimeMillis();
+            }
+            LOG.fine("[" + streamName + "] High-water mark advanced to batch " + lastCompletedSeq);
+        }
+    }
+
+    /**
+     * Flush on the background flusher, or on the calling thread if there is none.
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return; // Flush already pending - it will pick up the latest token
+        }
+
+        ScheduledExecutorService executor = flushExecutor;
+        if (executor != null) {
+            try {
+                executor.execute(this::flush);
+                return;
+            } catch (Exception e) {
+                // Flusher shut down concurrently - close() performs the final flush
+                flushRequested.set(false);
+                return;
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Persist the latest completed resume token if it has not been persisted yet.
+     * Writes are serialized by flushLock; the tracker lock is only held to read the high-water mark.
+     */
+    void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+
+            long seq;
+            BsonDocument token;
+            lock.lock();
+            try {
+                seq = lastCompletedSeq;
+                token = lastCompletedToken;
+            } finally {
+                lock.unlock();
+            }
+
+            if (token == null || seq <= lastCheckpointedSeq) {
+                return;
+            }
+
+            try {
+                if (checkpointStore.saveCheckpointIfNewer(checkpointKey, token)) {
+                    checkpointWrites.incrementAndGet();
+                } else {
+                    staleCheckpointWrites.incrementAndGet();
+                    LOG.fine("[" + streamName + "] Stored checkpoint is newer than batch " + seq + ", not overwritten");
+                }
+            } catch (Exception e) {
+                // Keep the checkpoint pending - the next flush retries with the then-latest token
+                failedCheckpointWrites.incrementAndGet();
+                LOG.warning("[" + streamName + "] Failed to persist checkpoint for batch " + seq + ": " + e.getMessage());
+                return;
+            }
+
+            lastCheckpointedSeq = seq;
+            lastFlushAtMs = System.currentTimeMillis();
+            lock.lock();
+            try {
+                if (lastCompletedSeq == seq) {
+                    firstUnflushedAtMs = 0;
+                }
+            } finally {
+                lock.unlock();
+            }
+            LOG.fine("[" + streamName + "] Checkpoint persisted at batch " + seq);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Drop the pending (not yet persisted) checkpoint, e.g. when the stored checkpoint is being
+     * cleared because its resume token expired - the pending token is from the same lost history.
+     */
+    public void discardPendingCheckpoint() {
+        flushLock.lock();
+        try {
+            lock.lock();
+            try {
+                lastCompletedToken = null;
+                firstUnflushedAtMs = 0;
+                lastCheckpointedSeq = lastCompletedSeq;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            flushLock.unlock();
         }
     }
 
@@ -133,12 +333,57 @@ public class CheckpointTracker {
     }
 
     /**
-     * Get the last checkpointed sequence number.
+     * Get the last checkpointed (persisted) sequence number.
      */
     public long getLastCheckpointedSeq() {
         return lastCheckpointedSeq;
     }
 
+    /**
+     * Get the highest contiguous completed sequence number (in-memory high-water mark).
+     */
+    public long getLastCompletedSeq() {
+        return lastCompletedSeq;
+    }
+
+    /**
+     * Number of completed batches not yet persisted to the checkpoint store.
+     */
+    public long getCheckpointLagBatches() {
+        return Math.max(0, lastCompletedSeq - lastCheckpointedSeq);
+    }
+
+    /**
+     * Age of the oldest completed batch not yet persisted, in milliseconds (0 when caught up).
+     */
+    public long getCheckpointLagMs() {
+        lock.lock();
+        try {
+            return firstUnflushedAtMs == 0 ? 0 : System.currentTimeMillis() - firstUnflushedAtMs;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Time of the last successful checkpoint write (epoch millis, 0 if none).
+     */
+    public long getLastFlushAtMs() {
+        return lastFlushAtMs;
+    }
+
+    public long getCheckpointWrites() {
+        return checkpointWrites.get();
+    }
+
+    public long getStaleCheckpointWrites() {
+        return staleCheckpointWrites.get();
+    }
+
+    public long getFailedCheckpointWrites() {
+        return failedCheckpointWrites.get();
+    }
+
     /**
      * Get the stream name.
      */
@@ -150,13 +395,21 @@ public class CheckpointTracker {
      * Reset state (for testing).
      */
     public void reset() {
-        lock.lock();
+        flushLock.lock();
         try {
-            batches.clear();
-            lastCheckpointedSeq = 0;
-            fatalError = null;
+            lock.lock();
+            try {
+                batches.clear();
+                lastCompletedSeq = 0;
+                lastCompletedToken = null;
+                firstUnflushedAtMs = 0;
+                lastCheckpointedSeq = 0;
+                fatalError = null;
+            } finally {
+                lock.unlock();
+            }
         } finally {
-            lock.unlock();
+            flushLock.unlock();
         }
     }
 
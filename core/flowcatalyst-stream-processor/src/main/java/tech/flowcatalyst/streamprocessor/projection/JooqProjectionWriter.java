@@ -0,0 +1,232 @@
+package tech.flowcatalyst.streamprocessor.projection;
+
+import org.bson.Document;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStepN;
+import org.jooq.JSON;
+import org.jooq.JSONB;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.impl.DSL;
+import tech.flowcatalyst.streamprocessor.mapper.ProjectionMapper;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.table;
+
+/**
+ * Writes batches of documents to a PostgreSQL projection table.
+ *
+ * <p>Uses the same {@link ProjectionMapper} as the MongoDB writer. Projected fields are
+ * mapped to snake_case columns ({@code _id} to {@code id}); fields without a matching
+ * column in the table are dropped.</p>
+ *
+ * <p>Each batch is a single multi-row statement:</p>
+ * <ul>
+ *   <li><b>INSERT</b>: {@code INSERT ... ON CONFLICT (id) DO NOTHING} for idempotent replay</li>
+ *   <li><b>UPDATE</b>: {@code INSERT ... ON CONFLICT (id) DO UPDATE} with every column</li>
+ * </ul>
+ *
+ * <p>Note: This class is NOT a CDI bean. Each stream gets its own instance
+ * created by the StreamProcessorStarter.</p>
+ */
+public class JooqProjectionWriter implements ProjectionSink {
+
+    private static final Logger LOG = Logger.getLogger(JooqProjectionWriter.class.getName());
+
+    private static final Field<String> COLUMN_NAME = field(name("column_name"), String.class);
+    private static final Field<String> DATA_TYPE = field(name("data_type"), String.class);
+    private static final Field<String> TABLE_NAME = field(name("table_name"), String.class);
+    private static final Field<String> TABLE_SCHEMA = field(name("table_schema"), String.class);
+
+    private final String streamName;
+    private final DSLContext dsl;
+    private final String tableName;
+    private final ProjectionMapper mapper;
+
+    /** Column name to PostgreSQL data type, loaded on the first batch */
+    private volatile Map<String, String> columns;
+
+    /**
+     * Create a new projection writer for a stream.
+     *
+     * @param streamName name of the stream (for logging)
+     * @param dsl        jOOQ context on the PostgreSQL datasource
+     * @param tableName  projection table
+     * @param mapper     projection mapper for this stream
+     */
+    public JooqProjectionWriter(String streamName, DSLContext dsl, String tableName, ProjectionMapper mapper) {
+        this.streamName = streamName;
+        this.dsl = dsl;
+        this.tableName = tableName;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Write a batch of documents to the projection table.
+     *
+     * @param documents     the source rows
+     * @param operationType insert, or update/replace to overwrite existing projections
+     */
+    @Override
+    public void writeBatch(List<Document> documents, String operationType) {
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        List<Document> projectedDocs = documents.stream()
+                .map(mapper::toProjection)
+                .toList();
+
+        Query upsert = upsert(dsl, tableName, columns(), projectedDocs, !"insert".equals(operationType));
+        if (upsert == null) {
+            LOG.warning("[" + streamName + "] Skipping batch without projectable documents");
+            return;
+        }
+
+        int written = upsert.execute();
+        LOG.fine("[" + streamName + "] Batch of " + projectedDocs.size() + " documents written (" +
+                written + " rows affected)");
+    }
+
+    /**
+     * Build a multi-row upsert for projected documents.
+     *
+     * <p>Documents are keyed by {@code _id}; if a batch holds the same id twice the last
+     * one wins, since a single {@code ON CONFLICT DO UPDATE} cannot touch a row twice.</p>
+     *
+     * @param dsl       jOOQ context
+     * @param tableName projection table
+     * @param columns   column name to data type of the projection table
+     * @param projected projected documents
+     * @param update    overwrite existing rows instead of skipping them
+     * @return the statement, or null if no document has an id
+     */
+    static Query upsert(DSLContext dsl, String tableName, Map<String, String> columns,
+                        List<Document> projected, boolean update) {
+        Map<Object, Document> byId = new LinkedHashMap<>();
+        Map<String, String> keysByColumn = new LinkedHashMap<>();
+        for (Document doc : projected) {
+            Object id = doc.get("_id");
+            if (id == null) {
+                continue;
+            }
+            byId.put(id, doc);
+            for (String key : doc.keySet()) {
+                String column = columnName(key);
+                if (columns.containsKey(column)) {
+                    keysByColumn.putIfAbsent(column, key);
+                }
+            }
+        }
+        if (byId.isEmpty()) {
+            return null;
+        }
+
+        List<Field<Object>> fields = new ArrayList<>(keysByColumn.size());
+        keysByColumn.keySet().forEach(column -> fields.add(field(name(column))));
+        Field<Object> idField = field(name("id"));
+
+        InsertValuesStepN<Record> insert = dsl.insertInto(table(name(tableName))).columns(fields);
+        for (Document doc : byId.values()) {
+            List<Field<?>> values = new ArrayList<>(fields.size());
+            keysByColumn.forEach((column, key) -> values.add(bind(doc.get(key), columns.get(column))));
+            insert = insert.values(values);
+        }
+
+        if (!update) {
+            return insert.onConflict(idField).doNothing();
+        }
+
+        Map<Field<?>, Field<?>> set = new LinkedHashMap<>();
+        for (Field<Object> f : fields) {
+            if (!f.getName().equals("id")) {
+                set.put(f, DSL.excluded(f));
+            }
+        }
+        return insert.onConflict(idField).doUpdate().set(set);
+    }
+
+    /**
+     * Map a projected field name to its snake_case column name.
+     */
+    static String columnName(String key) {
+        if ("_id".equals(key)) {
+            return "id";
+        }
+        StringBuilder column = new StringBuilder(key.length() + 4);
+        for (char c : key.toCharArray()) {
+            if (Character.isUpperCase(c)) {
+                column.append('_').append(Character.toLowerCase(c));
+            } else {
+                column.append(c);
+            }
+        }
+        return column.toString();
+    }
+
+    /**
+     * Bind a projected value for a column of the given PostgreSQL data type.
+     */
+    private static Field<?> bind(Object value, String dataType) {
+        if (value == null) {
+            return DSL.inline((Object) null);
+        }
+        if ("jsonb".equals(dataType)) {
+            return DSL.val(JSONB.valueOf(toJson(value)));
+        }
+        if ("json".equals(dataType)) {
+            return DSL.val(JSON.valueOf(toJson(value)));
+        }
+        if (value instanceof Instant instant) {
+            return DSL.val(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC));
+        }
+        if (value instanceof Date date) {
+            return DSL.val(OffsetDateTime.ofInstant(date.toInstant(), ZoneOffset.UTC));
+        }
+        return DSL.val(value);
+    }
+
+    private static String toJson(Object value) {
+        return value instanceof Document doc ? doc.toJson() : value.toString();
+    }
+
+    /**
+     * Columns of the projection table, loaded once.
+     */
+    private Map<String, String> columns() {
+        Map<String, String> loaded = columns;
+        if (loaded == null) {
+            loaded = dsl.select(COLUMN_NAME, DATA_TYPE)
+                    .from(table(name("information_schema", "columns")))
+                    .where(TABLE_NAME.eq(tableName))
+                    .and(TABLE_SCHEMA.eq(DSL.field("current_schema()", String.class)))
+                    .fetchMap(COLUMN_NAME, DATA_TYPE);
+            if (!loaded.containsKey("id")) {
+                throw new IllegalStateException("[" + streamName + "] Projection table " + tableName +
+                        " not found or has no id column");
+            }
+            columns = loaded;
+        }
+        return loaded;
+    }
+
+    /**
+     * Get the stream name.
+     */
+    @Override
+    public String getStreamName() {
+        return streamName;
+    }
+}
@@ -0,0 +1,29 @@
+package tech.flowcatalyst.streamprocessor.projection;
+
+import org.bson.Document;
+
+import java.util.List;
+
+/**
+ * Destination for projected batches.
+ *
+ * <p>Implemented by {@link ProjectionWriter} (MongoDB collections) and
+ * {@link JooqProjectionWriter} (PostgreSQL tables). Writes must be idempotent:
+ * after a restart, batches since the last checkpoint are written again.</p>
+ */
+public interface ProjectionSink {
+
+    /**
+     * Project and write a batch of source documents.
+     *
+     * @param documents     the source documents
+     * @param operationType the operation that produced the batch (insert, update, replace)
+     * @throws Exception if the batch could not be written
+     */
+    void writeBatch(List<Document> documents, String operationType) throws Exception;
+
+    /**
+     * Get the stream name.
+     */
+    String getStreamName();
+}
@@ -32,7 +32,7 @@ import static com.mongodb.client.model.Filters.eq;
  * <p>Note: This class is NOT a CDI bean. Each stream gets its own instance
  * created by the StreamProcessorStarter.</p>
  */
-public class ProjectionWriter {
+public class ProjectionWriter implements ProjectionSink {
 
     private static final Logger LOG = Logger.getLogger(ProjectionWriter.class.getName());
     private static final int DUPLICATE_KEY_ERROR = 11000;
@@ -69,6 +69,7 @@ public class ProjectionWriter {
      * @param operationType the change stream operation type (insert, update, replace)
      * @throws BatchWriteException if the batch fails with non-duplicate errors
      */
+    @Override
     public void writeBatch(List<Document> documents, String operationType) throws BatchWriteException {
         if (documents.isEmpty()) {
             return;
@@ -160,6 +161,7 @@ public class ProjectionWriter {
     /**
      * Get the stream name.
      */
+    @Override
     public String getStreamName() {
         return streamName;
     }
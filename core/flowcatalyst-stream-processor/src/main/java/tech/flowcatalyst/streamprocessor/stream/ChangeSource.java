@@ -0,0 +1,32 @@
+package tech.flowcatalyst.streamprocessor.stream;
+
+/**
+ * Source of changes for a single stream.
+ *
+ * <p>A source reads changes in order from its checkpoint and hands batches to the
+ * stream's {@link tech.flowcatalyst.streamprocessor.dispatch.BatchDispatcher}.
+ * Implemented by {@link StreamWatcher} (MongoDB change streams) and
+ * {@link PostgresChangeLogWatcher} (PostgreSQL change log).</p>
+ */
+public interface ChangeSource {
+
+    /**
+     * Start reading changes.
+     */
+    void start();
+
+    /**
+     * Stop reading changes.
+     */
+    void stop();
+
+    /**
+     * Check if the source is currently running.
+     */
+    boolean isRunning();
+
+    /**
+     * Get the stream name.
+     */
+    String getStreamName();
+}
@@ -0,0 +1,239 @@
+package tech.flowcatalyst.streamprocessor.stream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import tech.flowcatalyst.streamprocessor.checkpoint.CheckpointStore;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.DSL.row;
+import static org.jooq.impl.DSL.table;
+
+/**
+ * Access to the trigger-maintained PostgreSQL change log for one source table.
+ *
+ * <p>Triggers on the source table append {@code (txid, id, row_id, operation)} entries in
+ * the writing transaction (see the {@code V13__projection_change_log} migration). Entries are
+ * read in {@code (txid, id)} order and only once {@code txid} is below the xmin of the
+ * current snapshot: every transaction that could still add an entry at or below that
+ * position has then committed or rolled back, so the cursor never skips a slow writer.</p>
+ *
+ * <p>Entries only identify the changed row. {@link #fetchRows(Collection)} reads the current
+ * row state (like a MongoDB {@code UPDATE_LOOKUP}), so projections converge on the latest
+ * committed state even when transactions commit out of txid order.</p>
+ *
+ * <p>Note: This class is NOT a CDI bean. Each stream gets its own instance
+ * created by the StreamProcessorStarter.</p>
+ */
+public class PostgresChangeLog {
+
+    private static final Field<Long> ID = field(name("id"), Long.class);
+    private static final Field<Long> TXID = field(name("txid"), Long.class);
+    private static final Field<String> SOURCE_TABLE = field(name("source_table"), String.class);
+    private static final Field<String> ROW_ID = field(name("row_id"), String.class);
+    private static final Field<String> OPERATION = field(name("operation"), String.class);
+    private static final Field<String> SOURCE_ID = field(name("id"), String.class);
+
+    /** Oldest transaction still running - entries below it are final */
+    private static final Field<Long> SNAPSHOT_XMIN =
+            DSL.field("txid_snapshot_xmin(txid_current_snapshot())", Long.class);
+
+    /**
+     * Position in the change log. Encoded into the {@code _data} field of a checkpoint
+     * token as fixed-width hex, so {@link CheckpointStore#positionOf(BsonDocument)} orders
+     * positions the same way the change log does.
+     *
+     * @param txid transaction id of the entry
+     * @param id   change log sequence
+     */
+    public record Position(long txid, long id) {
+
+        /** Before the first entry */
+        public static final Position START = new Position(0, 0);
+
+        /**
+         * Encode this position as a checkpoint token.
+         */
+        public BsonDocument toResumeToken() {
+            return new BsonDocument("_data", new BsonString(String.format("%016X%016X", txid, id)));
+        }
+
+        /**
+         * Decode a checkpoint token.
+         *
+         * @param resumeToken the stored checkpoint
+         * @return the position, or null if the token was not written by the change log source
+         */
+        public static Position fromResumeToken(BsonDocument resumeToken) {
+            String data = CheckpointStore.positionOf(resumeToken);
+            if (data == null || data.length() != 32) {
+                return null;
+            }
+            try {
+                return new Position(
+                        Long.parseUnsignedLong(data.substring(0, 16), 16),
+                        Long.parseUnsignedLong(data.substring(16), 16));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * A change log entry.
+     *
+     * @param position  position of the entry
+     * @param rowId     primary key of the changed source row
+     * @param operation insert or update
+     */
+    public record Change(Position position, String rowId, String operation) {
+    }
+
+    private final DSLContext dsl;
+    private final Table<?> changeLogTable;
+    private final Table<?> sourceTable;
+    private final String sourceTableName;
+    private final List<String> operations;
+
+    /**
+     * Create a change log reader for a source table.
+     *
+     * @param dsl             jOOQ context on the PostgreSQL datasource
+     * @param changeLogTable  name of the change log table
+     * @param sourceTableName name of the source table
+     * @param operations      operations to read (insert, update)
+     */
+    public PostgresChangeLog(DSLContext dsl, String changeLogTable, String sourceTableName,
+                             List<String> operations) {
+        this.dsl = dsl;
+        this.changeLogTable = table(name(changeLogTable));
+        this.sourceTable = table(name(sourceTableName));
+        this.sourceTableName = sourceTableName;
+        this.operations = List.copyOf(operations);
+    }
+
+    /**
+     * Read the next final entries after a position, in order.
+     *
+     * @param after position of the last entry already dispatched
+     * @param limit maximum entries to return
+     * @return the entries, empty if none are final yet
+     */
+    public List<Change> claimAfter(Position after, int limit) {
+        return dsl.select(TXID, ID, ROW_ID, OPERATION)
+                .from(changeLogTable)
+                .where(SOURCE_TABLE.eq(sourceTableName))
+                .and(OPERATION.in(operations))
+                .and(row(TXID, ID).gt(after.txid(), after.id()))
+                .and(TXID.lt(SNAPSHOT_XMIN))
+                .orderBy(TXID, ID)
+                .limit(limit)
+                .fetch(r -> new Change(new Position(r.get(TXID), r.get(ID)), r.get(ROW_ID), r.get(OPERATION)));
+    }
+
+    /**
+     * Read the current state of source rows.
+     *
+     * @param rowIds primary keys of the rows
+     * @return the rows as documents in the order of {@code rowIds}; rows deleted since are skipped
+     */
+    public List<Document> fetchRows(Collection<String> rowIds) {
+        Map<String, Document> byId = new HashMap<>();
+        for (Record record : dsl.select().from(sourceTable).where(SOURCE_ID.in(rowIds)).fetch()) {
+            Document doc = toDocument(record);
+            byId.put(String.valueOf(doc.get("_id")), doc);
+        }
+
+        List<Document> rows = new ArrayList<>(byId.size());
+        for (String rowId : rowIds) {
+            Document doc = byId.get(rowId);
+            if (doc != null) {
+                rows.add(doc);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Delete entries at or before a checkpointed position.
+     *
+     * @param upTo the persisted checkpoint position
+     * @return number of entries deleted
+     */
+    public int prune(Position upTo) {
+        return dsl.deleteFrom(changeLogTable)
+                .where(SOURCE_TABLE.eq(sourceTableName))
+                .and(row(TXID, ID).le(upTo.txid(), upTo.id()))
+                .execute();
+    }
+
+    /**
+     * Get the source table name.
+     */
+    public String getSourceTableName() {
+        return sourceTableName;
+    }
+
+    /**
+     * Convert a source row to the document shape the projection mappers read:
+     * camelCase field names, {@code id} as {@code _id}, timestamps as {@link Instant}
+     * and JSON columns as strings.
+     */
+    static Document toDocument(Record record) {
+        Document doc = new Document();
+        for (Field<?> field : record.fields()) {
+            doc.put(fieldName(field.getName()), toDocumentValue(record.get(field)));
+        }
+        return doc;
+    }
+
+    /**
+     * Map a snake_case column name to the source document field name.
+     */
+    static String fieldName(String column) {
+        if ("id".equals(column)) {
+            return "_id";
+        }
+        StringBuilder name = new StringBuilder(column.length());
+        boolean upper = false;
+        for (char c : column.toCharArray()) {
+            if (c == '_') {
+                upper = name.length() > 0;
+            } else {
+                name.append(upper ? Character.toUpperCase(c) : c);
+                upper = false;
+            }
+        }
+        return name.toString();
+    }
+
+    private static Object toDocumentValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Number
+                || value instanceof Boolean || value instanceof Instant) {
+            return value;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        // jsonb (PGobject / JSONB) and anything else the mappers read as strings
+        return value.toString();
+    }
+}
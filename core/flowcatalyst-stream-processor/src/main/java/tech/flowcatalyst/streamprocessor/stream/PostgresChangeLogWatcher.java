@@ -0,0 +1,325 @@
+package tech.flowcatalyst.streamprocessor.stream;
+
+import io.quarkus.runtime.Quarkus;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import tech.flowcatalyst.streamprocessor.checkpoint.CheckpointStore;
+import tech.flowcatalyst.streamprocessor.config.StreamConfig;
+import tech.flowcatalyst.streamprocessor.dispatch.AggregateTracker;
+import tech.flowcatalyst.streamprocessor.dispatch.BatchDispatcher;
+import tech.flowcatalyst.streamprocessor.dispatch.CheckpointTracker;
+import tech.flowcatalyst.streamprocessor.stream.PostgresChangeLog.Change;
+import tech.flowcatalyst.streamprocessor.stream.PostgresChangeLog.Position;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Polls the PostgreSQL change log for a single stream and dispatches
+ * batches for processing.
+ *
+ * <p>Key behaviors:</p>
+ * <ul>
+ *   <li>Claims up to batch-max-size final entries after the current position per poll</li>
+ *   <li>Resumes from checkpoint on restart (the position is stored as the resume token)</li>
+ *   <li>Collapses repeated changes to the same row within a batch into one lookup</li>
+ *   <li>Never dispatches a row while an earlier batch for it is in flight</li>
+ *   <li>Prunes change log entries up to the persisted checkpoint</li>
+ * </ul>
+ *
+ * <p>The change log is keyed by source row, so the row id is the aggregate id regardless
+ * of {@code aggregate-id-field}. Rows are read at dispatch time, so a batch always projects
+ * the latest committed state. When the log is drained the watcher sleeps for
+ * {@code batch-max-wait-ms} before polling again.</p>
+ *
+ * <p>Note: This class is NOT a CDI bean. Each stream gets its own instance
+ * created by the StreamProcessorStarter.</p>
+ */
+public class PostgresChangeLogWatcher implements ChangeSource {
+
+    private static final Logger LOG = Logger.getLogger(PostgresChangeLogWatcher.class.getName());
+
+    // Reconnection settings
+    private static final long INITIAL_BACKOFF_MS = 1000;      // 1 second
+    private static final long MAX_BACKOFF_MS = 60000;         // 60 seconds
+    private static final double BACKOFF_MULTIPLIER = 2.0;
+
+    // How often consumed entries are deleted from the change log
+    private static final long PRUNE_INTERVAL_MS = 60000;
+
+    private final String streamName;
+    private final PostgresChangeLog changeLog;
+    private final StreamConfig streamConfig;
+    private final CheckpointStore checkpointStore;
+    private final BatchDispatcher dispatcher;
+    private final CheckpointTracker checkpointTracker;
+    private final AggregateTracker aggregateTracker;
+    private final String checkpointKey;
+
+    private volatile boolean running = false;
+    private volatile Thread watchThread;
+
+    /**
+     * Create a new change log watcher.
+     *
+     * @param streamName        name of the stream (for logging)
+     * @param changeLog         change log reader for the source table
+     * @param streamConfig      this stream's configuration
+     * @param checkpointStore   checkpoint store for positions
+     * @param dispatcher        batch dispatcher for this stream
+     * @param checkpointTracker checkpoint tracker for this stream
+     * @param aggregateTracker  aggregate tracker for ordering guarantees
+     * @param checkpointKey     key for storing checkpoints
+     */
+    public PostgresChangeLogWatcher(String streamName, PostgresChangeLog changeLog, StreamConfig streamConfig,
+                                    CheckpointStore checkpointStore, BatchDispatcher dispatcher,
+                                    CheckpointTracker checkpointTracker, AggregateTracker aggregateTracker,
+                                    String checkpointKey) {
+        this.streamName = streamName;
+        this.changeLog = changeLog;
+        this.streamConfig = streamConfig;
+        this.checkpointStore = checkpointStore;
+        this.dispatcher = dispatcher;
+        this.checkpointTracker = checkpointTracker;
+        this.aggregateTracker = aggregateTracker;
+        this.checkpointKey = checkpointKey;
+    }
+
+    /**
+     * Start polling the change log.
+     */
+    @Override
+    public void start() {
+        if (running) {
+            LOG.warning("[" + streamName + "] PostgresChangeLogWatcher already running");
+            return;
+        }
+
+        running = true;
+        watchThread = Thread.startVirtualThread(this::pollLoop);
+        LOG.info("[" + streamName + "] PostgresChangeLogWatcher started");
+    }
+
+    /**
+     * Stop polling the change log.
+     */
+    @Override
+    public void stop() {
+        LOG.info("[" + streamName + "] Stopping PostgresChangeLogWatcher");
+        running = false;
+        if (watchThread != null) {
+            watchThread.interrupt();
+        }
+    }
+
+    /**
+     * Check if the watcher is currently running.
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Get the stream name.
+     */
+    @Override
+    public String getStreamName() {
+        return streamName;
+    }
+
+    /**
+     * Main poll loop with retry on database errors.
+     *
+     * <p>The position only lives in memory between polls; it is persisted through the
+     * checkpoint tracker as batches complete. After an error the loop retries from the
+     * in-memory position, re-dispatching at most the batches of the failed poll
+     * (projection writes are idempotent).</p>
+     */
+    private void pollLoop() {
+        Position position = loadPosition();
+        LOG.info("[" + streamName + "] Polling change log for " + changeLog.getSourceTableName() +
+                " from position " + position);
+
+        int consecutiveFailures = 0;
+        long backoffMs = INITIAL_BACKOFF_MS;
+        long lastPruneAt = System.currentTimeMillis();
+
+        while (running) {
+            // Check for fatal errors in batch processing
+            if (checkpointTracker.hasFatalError()) {
+                LOG.severe("[" + streamName + "] Fatal error detected in batch processing - stopping watcher");
+                handleFatalError(checkpointTracker.getFatalError());
+                break;
+            }
+
+            try {
+                List<Change> changes = changeLog.claimAfter(position, streamConfig.batchMaxSize());
+                if (!changes.isEmpty()) {
+                    Position dispatched = dispatchChanges(changes);
+                    if (dispatched != null) {
+                        position = dispatched;
+                    }
+                }
+
+                consecutiveFailures = 0;
+                backoffMs = INITIAL_BACKOFF_MS;
+
+                if (System.currentTimeMillis() - lastPruneAt >= PRUNE_INTERVAL_MS) {
+                    pruneConsumed();
+                    lastPruneAt = System.currentTimeMillis();
+                }
+
+                // Log drained - wait before polling again
+                if (changes.size() < streamConfig.batchMaxSize()) {
+                    sleep(streamConfig.batchMaxWaitMs());
+                }
+            } catch (Exception e) {
+                if (!running) break;
+
+                consecutiveFailures++;
+                LOG.log(Level.WARNING, "[" + streamName + "] Change log poll error (attempt " +
+                        consecutiveFailures + "), retrying in " + backoffMs + "ms: " + e.getMessage(), e);
+                sleep(backoffMs);
+                backoffMs = Math.min((long) (backoffMs * BACKOFF_MULTIPLIER), MAX_BACKOFF_MS);
+            }
+        }
+
+        running = false;
+        LOG.info("[" + streamName + "] PostgresChangeLogWatcher stopped");
+    }
+
+    /**
+     * Split claimed entries into batches and dispatch them.
+     *
+     * <p>A batch is flushed early when it reaches a row that is still in flight in an
+     * earlier batch; the watcher then waits for that batch before continuing, so the
+     * same row is never projected concurrently.</p>
+     *
+     * @param changes the claimed entries, in order
+     * @return position of the last dispatched entry, or null if stopped before the first
+     */
+    private Position dispatchChanges(List<Change> changes) {
+        Set<String> rowIds = new LinkedHashSet<>();
+        Position last = null;
+        boolean updates = false;
+
+        for (Change change : changes) {
+            if (!running) {
+                break;
+            }
+            if (aggregateTracker.isInFlight(change.rowId())) {
+                flush(rowIds, last, updates);
+                rowIds.clear();
+                updates = false;
+                awaitRelease(change.rowId());
+            }
+
+            rowIds.add(change.rowId());
+            updates |= !"insert".equals(change.operation());
+            last = change.position();
+        }
+
+        flush(rowIds, last, updates);
+        return last;
+    }
+
+    /**
+     * Read the current rows and dispatch them as one batch.
+     */
+    private void flush(Set<String> rowIds, Position last, boolean updates) {
+        if (rowIds.isEmpty()) {
+            return;
+        }
+
+        List<Document> rows = changeLog.fetchRows(rowIds);
+        BsonDocument resumeToken = last.toResumeToken();
+        dispatcher.dispatch(rows, new HashSet<>(rowIds), resumeToken, updates ? "update" : "insert");
+    }
+
+    /**
+     * Wait until an earlier batch holding a row completes.
+     */
+    private void awaitRelease(String rowId) {
+        while (running && aggregateTracker.isInFlight(rowId) && !checkpointTracker.hasFatalError()) {
+            sleep(5);
+        }
+    }
+
+    /**
+     * Load the starting position from the checkpoint store.
+     *
+     * <p>Without a usable checkpoint the watcher starts at the beginning of the change log:
+     * the log only holds entries not yet pruned, and replaying them is idempotent.</p>
+     */
+    private Position loadPosition() {
+        try {
+            BsonDocument checkpoint = checkpointStore.getCheckpoint(checkpointKey).orElse(null);
+            if (checkpoint == null) {
+                LOG.info("[" + streamName + "] No checkpoint, starting from the beginning of the change log");
+                return Position.START;
+            }
+
+            Position position = Position.fromResumeToken(checkpoint);
+            if (position == null) {
+                LOG.warning("[" + streamName + "] Checkpoint is not a change log position " +
+                        "(left by the MongoDB source?), starting from the beginning of the change log");
+                return Position.START;
+            }
+            LOG.info("[" + streamName + "] Resuming from checkpoint");
+            return position;
+        } catch (CheckpointStore.CheckpointUnavailableException e) {
+            LOG.warning("[" + streamName + "] Checkpoint store unavailable, starting from the beginning " +
+                    "of the change log: " + e.getMessage());
+            return Position.START;
+        }
+    }
+
+    /**
+     * Delete change log entries up to the persisted checkpoint.
+     */
+    private void pruneConsumed() {
+        try {
+            Position checkpointed = checkpointStore.getCheckpoint(checkpointKey)
+                    .map(Position::fromResumeToken)
+                    .orElse(null);
+            if (checkpointed != null) {
+                int pruned = changeLog.prune(checkpointed);
+                LOG.fine("[" + streamName + "] Pruned " + pruned + " change log entries");
+            }
+        } catch (Exception e) {
+            LOG.warning("[" + streamName + "] Failed to prune change log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sleep, handling interruption.
+     */
+    private void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Handle a fatal error by triggering shutdown.
+     * Only called for truly unrecoverable errors (e.g., batch processing failures).
+     */
+    private void handleFatalError(Exception e) {
+        LOG.severe("[" + streamName + "] FATAL: Change log watcher encountered unrecoverable error - triggering shutdown");
+        new Thread(() -> {
+            try {
+                Thread.sleep(1000); // Brief delay to flush logs
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            Quarkus.asyncExit(1);
+        }, "change-log-watcher-shutdown-thread").start();
+    }
+}
@@ -4,7 +4,7 @@ import tech.flowcatalyst.streamprocessor.config.StreamConfig;
 import tech.flowcatalyst.streamprocessor.dispatch.BatchDispatcher;
 import tech.flowcatalyst.streamprocessor.dispatch.CheckpointTracker;
 import tech.flowcatalyst.streamprocessor.mapper.ProjectionMapper;
-import tech.flowcatalyst.streamprocessor.projection.ProjectionWriter;
+import tech.flowcatalyst.streamprocessor.projection.ProjectionSink;
 
 /**
  * Runtime context for a single stream instance.
@@ -15,9 +15,9 @@ import tech.flowcatalyst.streamprocessor.projection.ProjectionWriter;
  * @param name              stream name (e.g., "events", "dispatch-jobs")
  * @param config            stream configuration
  * @param mapper            projection mapper for transforming documents
- * @param watcher           change stream watcher
+ * @param watcher           change source (MongoDB change stream or PostgreSQL change log)
  * @param dispatcher        batch dispatcher
- * @param writer            projection writer
+ * @param writer            projection sink
  * @param checkpointTracker checkpoint tracker
  * @param checkpointKey     key for storing checkpoints
  */
@@ -25,9 +25,9 @@ public record StreamContext(
         String name,
         StreamConfig config,
         ProjectionMapper mapper,
-        StreamWatcher watcher,
+        ChangeSource watcher,
         BatchDispatcher dispatcher,
-        ProjectionWriter writer,
+        ProjectionSink writer,
         CheckpointTracker checkpointTracker,
         String checkpointKey
 ) {
@@ -43,14 +43,16 @@ public record StreamContext(
      * Start this stream.
      */
     public void start() {
+        checkpointTracker.start();
         watcher.start();
     }
 
     /**
-     * Stop this stream.
+     * Stop this stream and flush the latest completed checkpoint.
      */
     public void stop() {
         watcher.stop();
+        checkpointTracker.close();
     }
 
     /**
@@ -81,6 +83,13 @@ public record StreamContext(
         return checkpointTracker.getLastCheckpointedSeq();
     }
 
+    /**
+     * Get the number of completed batches not yet persisted to the checkpoint store.
+     */
+    public long getCheckpointLagBatches() {
+        return checkpointTracker.getCheckpointLagBatches();
+    }
+
     /**
      * Get the number of batches currently in flight.
      */
@@ -42,7 +42,7 @@ import java.util.logging.Logger;
  * <p>Note: This class is NOT a CDI bean. Each stream gets its own instance
  * created by the StreamProcessorStarter.</p>
  */
-public class StreamWatcher {
+public class StreamWatcher implements ChangeSource {
 
     private static final Logger LOG = Logger.getLogger(StreamWatcher.class.getName());
 
@@ -93,6 +93,7 @@ public class StreamWatcher {
     /**
      * Start watching the change stream.
      */
+    @Override
     public void start() {
         if (running) {
             LOG.warning("[" + streamName + "] StreamWatcher already running");
@@ -107,6 +108,7 @@ public class StreamWatcher {
     /**
      * Stop watching the change stream.
      */
+    @Override
     public void stop() {
         LOG.info("[" + streamName + "] Stopping StreamWatcher");
         running = false;
@@ -118,6 +120,7 @@ public class StreamWatcher {
     /**
      * Check if the watcher is currently running.
      */
+    @Override
     public boolean isRunning() {
         return running;
     }
@@ -125,6 +128,7 @@ public class StreamWatcher {
     /**
      * Get the stream name.
      */
+    @Override
     public String getStreamName() {
         return streamName;
     }
@@ -206,6 +210,7 @@ public class StreamWatcher {
                     // Resume token is stale - clear checkpoint and start fresh
                     LOG.severe("[" + streamName + "] Resume token expired (change stream history lost). " +
                             "Clearing checkpoint and starting from current position. SOME EVENTS MAY HAVE BEEN MISSED.");
+                    checkpointTracker.discardPendingCheckpoint();
                     checkpointStore.clearCheckpoint(checkpointKey);
                     // Don't backoff - try immediately with fresh start
                     continue;
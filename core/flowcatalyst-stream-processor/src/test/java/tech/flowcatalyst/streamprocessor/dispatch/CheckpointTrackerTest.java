@@ -0,0 +1,200 @@
+package tech.flowcatalyst.streamprocessor.dispatch;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+import tech.flowcatalyst.streamprocessor.checkpoint.InMemoryCheckpointStore;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CheckpointTracker.
+ */
+class CheckpointTrackerTest {
+
+    private static final String KEY = "test-checkpoint";
+
+    private static BsonDocument token(long seq) {
+        return new BsonDocument("_data", new BsonString(String.format("82%016X", seq)));
+    }
+
+    /**
+     * In-memory store that counts writes and can be made to fail.
+     */
+    private static class CountingStore extends InMemoryCheckpointStore {
+        final AtomicInteger writes = new AtomicInteger();
+        final AtomicBoolean failing = new AtomicBoolean(false);
+
+        @Override
+        public boolean saveCheckpointIfNewer(String checkpointKey, BsonDocument resumeToken) {
+            if (failing.get()) {
+                throw new IllegalStateException("store unavailable");
+            }
+            writes.incrementAndGet();
+            return super.saveCheckpointIfNewer(checkpointKey, resumeToken);
+        }
+
+        BsonDocument stored() {
+            return getCheckpoint(KEY).orElse(null);
+        }
+    }
+
+    @Test
+    void testCompletionOnlyAdvancesHighWaterMarkUntilFlushIsDue() {
+        CountingStore store = new CountingStore();
+        CheckpointTracker tracker = new CheckpointTracker(store, "test-stream", KEY, 0, 3);
+
+        tracker.markComplete(2, token(2));
+        tracker.markComplete(1, token(1));
+
+        assertEquals(2, tracker.getLastCompletedSeq());
+        assertEquals(0, tracker.getLastCheckpointedSeq());
+        assertEquals(2, tracker.getCheckpointLagBatches());
+        assertNull(store.stored());
+
+        tracker.markComplete(3, token(3));
+
+        assertEquals(token(3), store.stored());
+        assertEquals(1, store.writes.get());
+        assertEquals(3, tracker.getLastCheckpointedSeq());
+        assertEquals(0, tracker.getCheckpointLagBatches());
+        assertEquals(0, tracker.getCheckpointLagMs());
+    }
+
+    @Test
+    void testHighWaterMarkWaitsForGaps() {
+        CountingStore store = new CountingStore();
+        CheckpointTracker tracker = new CheckpointTracker(store, "test-stream", KEY);
+
+        tracker.markComplete(2, token(2));
+        tracker.markComplete(3, token(3));
+        assertNull(store.stored());
+        assertEquals(2, tracker.getInFlightCount());
+
+        tracker.markComplete(1, token(1));
+
+        assertEquals(token(3), store.stored());
+        assertEquals(3, tracker.getLastCheckpointedSeq());
+        assertEquals(0, tracker.getInFlightCount());
+    }
+
+    @Test
+    void testCloseFlushesPendingCheckpoint() {
+        CountingStore store = new CountingStore();
+        CheckpointTracker tracker = new CheckpointTracker(store, "test-stream", KEY, 60_000, 100);
+        tracker.start();
+
+        tracker.markComplete(1, token(1));
+        tracker.markComplete(2, token(2));
+        assertNull(store.stored());
+
+        tracker.close();
+
+        assertEquals(token(2), store.stored());
+        assertEquals(1, store.writes.get());
+        assertEquals(2, tracker.getLastCheckpointedSeq());
+    }
+
+    @Test
+    void testBackgroundFlusherPersistsWithinInterval() throws Exception {
+        CountingStore store = new CountingStore();
+        CheckpointTracker tracker = new CheckpointTracker(store, "test-stream", KEY, 20, 1000);
+        tracker.start();
+        try {
+            tracker.markComplete(1, token(1));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (store.stored() == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+
+            assertEquals(token(1), store.stored());
+        } finally {
+            tracker.close();
+        }
+    }
+
+    @Test
+    void testStaleTokenDoesNotOverwriteNewerCheckpoint() {
+        CountingStore store = new CountingStore();
+        store.saveCheckpoint(KEY, token(50));
+        CheckpointTracker tracker = new CheckpointTracker(store, "test-stream", KEY);
+
+        tracker.markComplete(1, token(10));
+
+        assertEquals(token(50), store.stored());
+        assertEquals(1, tracker.getStaleCheckpointWrites());
+        assertEquals(0, tracker.getCheckpointLagBatches());
+    }
+
+    @Test
+    void testFailedWriteStaysPendingAndIsRetried() {
+        CountingStore store = new CountingStore();
+        CheckpointTracker tracker = new CheckpointTracker(store, "test-stream", KEY);
+
+        store.failing.set(true);
+        tracker.markComplete(1, token(1));
+
+        assertEquals(1, tracker.getFailedCheckpointWrites());
+        assertEquals(1, tracker.getCheckpointLagBatches());
+
+        store.failing.set(false);
+        tracker.markComplete(2, token(2));
+
+        assertEquals(token(2), store.stored());
+        assertEquals(0, tracker.getCheckpointLagBatches());
+    }
+
+    @Test
+    void testDiscardPendingCheckpointIsNotFlushed() {
+        CountingStore store = new CountingStore();
+        CheckpointTracker tracker = new CheckpointTracker(store, "test-stream", KEY, 60_000, 100);
+
+        tracker.markComplete(1, token(1));
+        tracker.discardPendingCheckpoint();
+        tracker.close();
+
+        assertNull(store.stored());
+        assertEquals(0, store.writes.get());
+    }
+
+    @Test
+    void testConcurrentCompletionsCoalesceWrites() throws Exception {
+        CountingStore store = new CountingStore();
+        CheckpointTracker tracker = new CheckpointTracker(store, "test-stream", KEY, 10, 50);
+        tracker.start();
+
+        int batchCount = 5000;
+        List<Long> sequences = new ArrayList<>(LongStream.rangeClosed(1, batchCount).boxed().toList());
+        Collections.shuffle(sequences);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (long seq : sequences) {
+            executor.submit(() -> {
+                start.await();
+                tracker.markComplete(seq, token(seq));
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        tracker.close();
+
+        assertEquals(token(batchCount), store.stored());
+        assertEquals(batchCount, tracker.getLastCheckpointedSeq());
+        assertTrue(store.writes.get() < batchCount, "Expected coalesced writes, got " + store.writes.get());
+    }
+}
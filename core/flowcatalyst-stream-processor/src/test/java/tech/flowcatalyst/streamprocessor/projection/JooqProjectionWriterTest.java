@@ -0,0 +1,94 @@
+package tech.flowcatalyst.streamprocessor.projection;
+
+import org.bson.Document;
+import org.jooq.DSLContext;
+import org.jooq.Query;
+import org.jooq.SQLDialect;
+import org.jooq.conf.ParamType;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JooqProjectionWriter statement building.
+ */
+class JooqProjectionWriterTest {
+
+    private static final DSLContext DSL_CONTEXT = DSL.using(SQLDialect.POSTGRES);
+
+    private static final Map<String, String> COLUMNS = Map.of(
+            "id", "character varying",
+            "event_id", "character varying",
+            "type", "character varying",
+            "time", "timestamp with time zone",
+            "context_data", "jsonb");
+
+    private static Document projected(String id, String type) {
+        return new Document("_id", id)
+                .append("eventId", id)
+                .append("type", type)
+                .append("time", Instant.parse("2026-01-01T00:00:00Z"))
+                .append("contextData", "[]")
+                .append("notAColumn", "dropped");
+    }
+
+    private static String sql(Query query) {
+        return query.getSQL(ParamType.INLINED);
+    }
+
+    @Test
+    void testInsertBatchIsOneMultiRowStatementThatSkipsExistingRows() {
+        Query query = JooqProjectionWriter.upsert(DSL_CONTEXT, "events_read", COLUMNS,
+                List.of(projected("evn_1", "a:b:c:d"), projected("evn_2", "a:b:c:e")), false);
+
+        String sql = sql(query);
+        assertTrue(sql.startsWith("insert into \"events_read\" (\"id\", \"event_id\", \"type\", \"time\", \"context_data\")"), sql);
+        assertTrue(sql.contains("'evn_1'") && sql.contains("'evn_2'"), sql);
+        assertTrue(sql.contains("), ("), "Expected a multi-row VALUES clause: " + sql);
+        assertTrue(sql.endsWith("on conflict (\"id\") do nothing"), sql);
+        assertFalse(sql.contains("not_a_column"), sql);
+    }
+
+    @Test
+    void testUpdateBatchOverwritesEveryColumnExceptId() {
+        Query query = JooqProjectionWriter.upsert(DSL_CONTEXT, "events_read", COLUMNS,
+                List.of(projected("evn_1", "a:b:c:d")), true);
+
+        String sql = sql(query);
+        assertTrue(sql.contains("on conflict (\"id\") do update set"), sql);
+        assertTrue(sql.contains("\"type\" = excluded.\"type\""), sql);
+        assertTrue(sql.contains("\"context_data\" = excluded.\"context_data\""), sql);
+        assertFalse(sql.contains("\"id\" = excluded.\"id\""), sql);
+    }
+
+    @Test
+    void testJsonbColumnsAreCastAndDuplicateIdsCollapseToLastVersion() {
+        Query query = JooqProjectionWriter.upsert(DSL_CONTEXT, "events_read", COLUMNS,
+                List.of(projected("evn_1", "first"), projected("evn_1", "second")), true);
+
+        String sql = sql(query);
+        assertTrue(sql.contains("cast('[]' as jsonb)"), sql);
+        assertFalse(sql.contains("'first'"), sql);
+        assertTrue(sql.contains("'second'"), sql);
+        assertFalse(sql.contains("), ("), sql);
+    }
+
+    @Test
+    void testBatchWithoutIdsBuildsNoStatement() {
+        assertNull(JooqProjectionWriter.upsert(DSL_CONTEXT, "events_read", COLUMNS,
+                List.of(new Document("type", "a:b:c:d")), false));
+    }
+
+    @Test
+    void testColumnNames() {
+        assertEquals("id", JooqProjectionWriter.columnName("_id"));
+        assertEquals("spec_version", JooqProjectionWriter.columnName("specVersion"));
+        assertEquals("dispatch_pool_id", JooqProjectionWriter.columnName("dispatchPoolId"));
+        assertEquals("status", JooqProjectionWriter.columnName("status"));
+    }
+}
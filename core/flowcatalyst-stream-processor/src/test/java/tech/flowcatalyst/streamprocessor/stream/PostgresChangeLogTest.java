@@ -0,0 +1,171 @@
+package tech.flowcatalyst.streamprocessor.stream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.jooq.DSLContext;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import tech.flowcatalyst.streamprocessor.checkpoint.CheckpointStore;
+import tech.flowcatalyst.streamprocessor.mapper.EventProjectionMapper;
+import tech.flowcatalyst.streamprocessor.projection.JooqProjectionWriter;
+import tech.flowcatalyst.streamprocessor.stream.PostgresChangeLog.Change;
+import tech.flowcatalyst.streamprocessor.stream.PostgresChangeLog.Position;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for PostgresChangeLog.
+ *
+ * <p>The database tests run the platform's change log migration against a throwaway
+ * PostgreSQL container and are skipped when Docker is not available.</p>
+ */
+class PostgresChangeLogTest {
+
+    private static final Path CHANGE_LOG_MIGRATION = Path.of(
+            "../flowcatalyst-platform/src/main/resources/db/migration/V13__projection_change_log.sql");
+
+    private static PostgreSQLContainer<?> postgres;
+    private static DSLContext dsl;
+
+    @BeforeAll
+    static void startPostgres() throws Exception {
+        if (!DockerClientFactory.instance().isDockerAvailable()) {
+            return;
+        }
+        postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+        postgres.start();
+        Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        dsl = DSL.using(connection, SQLDialect.POSTGRES);
+
+        // Minimal source and read tables - only the columns the mapper needs
+        dsl.execute("""
+                CREATE TABLE events (
+                    id VARCHAR(17) PRIMARY KEY,
+                    type VARCHAR(200) NOT NULL,
+                    source VARCHAR(500) NOT NULL,
+                    time TIMESTAMPTZ NOT NULL,
+                    context_data JSONB DEFAULT '[]',
+                    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW())""");
+        dsl.execute("""
+                CREATE TABLE events_read (
+                    id VARCHAR(17) PRIMARY KEY,
+                    event_id VARCHAR(17) NOT NULL,
+                    type VARCHAR(200) NOT NULL,
+                    application VARCHAR(100),
+                    source VARCHAR(500) NOT NULL,
+                    time TIMESTAMPTZ NOT NULL,
+                    context_data JSONB DEFAULT '[]',
+                    projected_at TIMESTAMPTZ NOT NULL DEFAULT NOW())""");
+        dsl.execute("CREATE TABLE dispatch_jobs (id VARCHAR(17) PRIMARY KEY, created_at TIMESTAMPTZ)");
+        dsl.execute(Files.readString(CHANGE_LOG_MIGRATION));
+    }
+
+    @AfterAll
+    static void stopPostgres() {
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    @BeforeEach
+    void clearTables() {
+        if (dsl != null) {
+            dsl.execute("TRUNCATE events, events_read, projection_change_log");
+        }
+    }
+
+    private static PostgresChangeLog changeLog() {
+        return new PostgresChangeLog(dsl, "projection_change_log", "events", List.of("insert"));
+    }
+
+    private static void insertEvent(DSLContext ctx, String id, String type) {
+        ctx.execute("INSERT INTO events (id, type, source, time, context_data) VALUES (?, ?, 'test', NOW(), '[]')",
+                id, type);
+    }
+
+    @Test
+    void testPositionTokenRoundTripsAndOrdersLikeTheChangeLog() {
+        Position position = new Position(4_000_000_123L, 42);
+
+        assertEquals(position, Position.fromResumeToken(position.toResumeToken()));
+
+        String lower = CheckpointStore.positionOf(new Position(9, 1_000).toResumeToken());
+        String higher = CheckpointStore.positionOf(new Position(10, 1).toResumeToken());
+        assertTrue(lower.compareTo(higher) < 0);
+    }
+
+    @Test
+    void testForeignTokensAreNotPositions() {
+        assertNull(Position.fromResumeToken(new BsonDocument("_data", new BsonString("8263F0A1B2000000012B"))));
+        assertNull(Position.fromResumeToken(new BsonDocument()));
+        assertNull(Position.fromResumeToken(null));
+    }
+
+    @Test
+    void testColumnNamesMapToSourceDocumentFields() {
+        assertEquals("_id", PostgresChangeLog.fieldName("id"));
+        assertEquals("contextData", PostgresChangeLog.fieldName("context_data"));
+        assertEquals("dispatchPoolId", PostgresChangeLog.fieldName("dispatch_pool_id"));
+        assertEquals("type", PostgresChangeLog.fieldName("type"));
+    }
+
+    @Test
+    void testTriggerCapturesInsertsAndWriterProjectsCurrentRows() {
+        assumeTrue(dsl != null, "Docker not available");
+        insertEvent(dsl, "evn_1", "orders:sales:order:created");
+        insertEvent(dsl, "evn_2", "orders:sales:order:shipped");
+
+        PostgresChangeLog changeLog = changeLog();
+        List<Change> changes = changeLog.claimAfter(Position.START, 100);
+
+        assertEquals(List.of("evn_1", "evn_2"), changes.stream().map(Change::rowId).toList());
+        assertTrue(changeLog.claimAfter(changes.get(1).position(), 100).isEmpty());
+
+        JooqProjectionWriter writer = new JooqProjectionWriter("events", dsl, "events_read",
+                new EventProjectionMapper());
+        writer.writeBatch(changeLog.fetchRows(List.of("evn_1", "evn_2")), "insert");
+        // Replay is idempotent
+        writer.writeBatch(changeLog.fetchRows(List.of("evn_1", "evn_2")), "insert");
+
+        assertEquals(2, dsl.fetchCount(DSL.table("events_read")));
+        assertEquals("orders", dsl.fetchValue("SELECT application FROM events_read WHERE id = 'evn_2'"));
+
+        assertEquals(2, changeLog.prune(changes.get(1).position()));
+        assertTrue(changeLog.claimAfter(Position.START, 100).isEmpty());
+    }
+
+    @Test
+    void testEntriesOfOpenTransactionsAreNotClaimedUntilTheyCommit() throws Exception {
+        assumeTrue(dsl != null, "Docker not available");
+        PostgresChangeLog changeLog = changeLog();
+
+        try (Connection slow = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())) {
+            slow.setAutoCommit(false);
+            insertEvent(DSL.using(slow, SQLDialect.POSTGRES), "evn_slow", "a:b:c:d");
+
+            // A later writer commits first - its entry must wait behind the open transaction
+            insertEvent(dsl, "evn_fast", "a:b:c:d");
+            assertTrue(changeLog.claimAfter(Position.START, 100).isEmpty());
+
+            slow.commit();
+        }
+
+        assertEquals(List.of("evn_slow", "evn_fast"),
+                changeLog.claimAfter(Position.START, 100).stream().map(Change::rowId).toList());
+    }
+}
@@ -22,6 +22,9 @@ include("core:flowcatalyst-standby")
 // Shared queue client abstraction (SQS, ActiveMQ, Embedded)
 include("core:flowcatalyst-queue-client")
 
+// Shared adaptive (AIMD) concurrency limits per target endpoint
+include("core:flowcatalyst-concurrency")
+
 // Dispatch job scheduler (polls PENDING jobs, respects DispatchMode, queues to message router)
 include("core:flowcatalyst-dispatch-scheduler")
 
@@ -46,6 +49,9 @@ include("core:flowcatalyst-outbox-processor")
 // Benchmarks
 include("core:flowcatalyst-benchmark")
 
+// JMH microbenchmarks for hot-path components
+include("core:flowcatalyst-microbenchmarks")
+
 // Developer build - single executable combining all services for local development
 include("core:flowcatalyst-dev-build")
 